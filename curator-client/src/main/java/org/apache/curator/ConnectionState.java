@@ -41,6 +41,7 @@ import java.util.concurrent.atomic.AtomicReference;
 class ConnectionState implements Watcher, Closeable
 {
     private static final int MAX_BACKGROUND_EXCEPTIONS = 10;
+    private static final int MIN_CONNECTION_WAIT_MS = 1000;
     private static final boolean LOG_EVENTS = Boolean.getBoolean(DebugUtils.PROPERTY_LOG_EVENTS);
     private static final Logger log = LoggerFactory.getLogger(ConnectionState.class);
     private final HandleHolder zooKeeper;
@@ -52,6 +53,8 @@ class ConnectionState implements Watcher, Closeable
     private final Queue<Exception> backgroundExceptions = new ConcurrentLinkedQueue<Exception>();
     private final Queue<Watcher> parentWatchers = new ConcurrentLinkedQueue<Watcher>();
     private final AtomicLong instanceIndex = new AtomicLong();
+    private final Object connectionStateMonitor = new Object();
+    private long connectionStateVersion = 0;   // guarded by connectionStateMonitor
     private volatile long connectionStartMs = 0;
 
     ConnectionState(ZookeeperFactory zookeeperFactory, EnsembleProvider ensembleProvider, int sessionTimeoutMs, int connectionTimeoutMs, Watcher parentWatcher, AtomicReference<TracerDriver> tracer, boolean canBeReadOnly)
@@ -96,6 +99,37 @@ class ConnectionState implements Watcher, Closeable
         return isConnected.get();
     }
 
+    /**
+     * Block until connected or the given time elapses. All waiters share one monitor that
+     * is notified once per connection state event. As with the polling this replaced, a
+     * waiter always waits for at least one state event or {@link #MIN_CONNECTION_WAIT_MS}
+     * even if the given time is shorter.
+     *
+     * @param maxWaitMs max time to wait
+     * @return true if connected
+     * @throws InterruptedException interrupted while waiting
+     */
+    boolean waitForConnection(long maxWaitMs) throws InterruptedException
+    {
+        long startMs = System.currentTimeMillis();
+        synchronized(connectionStateMonitor)
+        {
+            long startVersion = connectionStateVersion;
+            while ( !isConnected.get() )
+            {
+                long elapsedMs = System.currentTimeMillis() - startMs;
+                long thisMaxWaitMs = (connectionStateVersion == startVersion) ? Math.max(maxWaitMs, MIN_CONNECTION_WAIT_MS) : maxWaitMs;
+                long waitMs = thisMaxWaitMs - elapsedMs;
+                if ( waitMs <= 0 )
+                {
+                    return false;
+                }
+                connectionStateMonitor.wait(waitMs);
+            }
+        }
+        return true;
+    }
+
     void start() throws Exception
     {
         log.debug("Starting");
@@ -156,6 +190,12 @@ class ConnectionState implements Watcher, Closeable
                 isConnected.set(newIsConnected);
                 connectionStartMs = System.currentTimeMillis();
             }
+
+            synchronized(connectionStateMonitor)
+            {
+                ++connectionStateVersion;
+                connectionStateMonitor.notifyAll();
+            }
         }
 
         for ( Watcher parentWatcher : parentWatchers )
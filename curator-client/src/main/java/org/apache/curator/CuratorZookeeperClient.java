@@ -26,15 +26,12 @@ import org.apache.curator.utils.DefaultTracerDriver;
 import org.apache.curator.utils.DefaultZookeeperFactory;
 import org.apache.curator.utils.ThreadUtils;
 import org.apache.curator.utils.ZookeeperFactory;
-import org.apache.zookeeper.WatchedEvent;
 import org.apache.zookeeper.Watcher;
 import org.apache.zookeeper.ZooKeeper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import java.io.Closeable;
 import java.io.IOException;
-import java.util.concurrent.CountDownLatch;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -305,31 +302,6 @@ public class CuratorZookeeperClient implements Closeable
 
     void internalBlockUntilConnectedOrTimedOut() throws InterruptedException
     {
-        long            waitTimeMs = connectionTimeoutMs;
-        while ( !state.isConnected() && (waitTimeMs > 0) )
-        {
-            final CountDownLatch            latch = new CountDownLatch(1);
-            Watcher tempWatcher = new Watcher()
-            {
-                @Override
-                public void process(WatchedEvent event)
-                {
-                    latch.countDown();
-                }
-            };
-            
-            state.addParentWatcher(tempWatcher);
-            long        startTimeMs = System.currentTimeMillis();
-            try
-            {
-                latch.await(1, TimeUnit.SECONDS);
-            }
-            finally
-            {
-                state.removeParentWatcher(tempWatcher);
-            }
-            long        elapsed = Math.max(1, System.currentTimeMillis() - startTimeMs);
-            waitTimeMs -= elapsed;
-        }
+        state.waitForConnection(connectionTimeoutMs);
     }
 }
@@ -18,6 +18,7 @@
  */
 package org.apache.curator;
 
+import com.google.common.collect.Lists;
 import org.apache.curator.ensemble.fixed.FixedEnsembleProvider;
 import org.apache.curator.retry.RetryOneTime;
 import org.apache.curator.test.BaseClassForTests;
@@ -33,8 +34,13 @@ import org.apache.zookeeper.ZooKeeper;
 import org.mockito.Mockito;
 import org.testng.Assert;
 import org.testng.annotations.Test;
+import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 public class BasicTests extends BaseClassForTests
@@ -144,6 +150,56 @@ public class BasicTests extends BaseClassForTests
         }
     }
 
+    @Test
+    public void     testManyWaitersWakeOnReconnect() throws Exception
+    {
+        final Timing                  timing = new Timing();
+        final CuratorZookeeperClient  client = new CuratorZookeeperClient(server.getConnectString(), timing.session(), timing.multiple(10).connection(), null, new RetryOneTime(1));
+        client.start();
+        ExecutorService               service = Executors.newCachedThreadPool();
+        try
+        {
+            Assert.assertTrue(client.blockUntilConnectedOrTimedOut());
+            server.stop();
+            timing.sleepABit();
+            Assert.assertFalse(client.isConnected());
+
+            final int                 WAITER_QTY = 50;
+            final CountDownLatch      waitingLatch = new CountDownLatch(WAITER_QTY);
+            List<Future<Boolean>>     futures = Lists.newArrayList();
+            for ( int i = 0; i < WAITER_QTY; ++i )
+            {
+                futures.add
+                (
+                    service.submit
+                    (
+                        new Callable<Boolean>()
+                        {
+                            @Override
+                            public Boolean call() throws Exception
+                            {
+                                waitingLatch.countDown();
+                                return client.blockUntilConnectedOrTimedOut();
+                            }
+                        }
+                    )
+                );
+            }
+            Assert.assertTrue(timing.awaitLatch(waitingLatch));
+
+            server.restart();
+            for ( Future<Boolean> future : futures )
+            {
+                Assert.assertTrue(future.get(timing.forWaiting().milliseconds(), TimeUnit.MILLISECONDS));
+            }
+        }
+        finally
+        {
+            service.shutdownNow();
+            client.close();
+        }
+    }
+
     @Test
     public void     testSimple() throws Exception
     {
@@ -58,6 +58,7 @@ public class CuratorFrameworkFactory
     private static final DefaultACLProvider DEFAULT_ACL_PROVIDER = new DefaultACLProvider();
     private static final long DEFAULT_INACTIVE_THRESHOLD_MS = (int)TimeUnit.MINUTES.toMillis(3);
     private static final int DEFAULT_CLOSE_WAIT_MS = (int)TimeUnit.SECONDS.toMillis(1);
+    private static final int DEFAULT_KNOWN_PARENTS_CACHE_SIZE = 1000;
 
     /**
      * Return a new builder that builds a CuratorFramework
@@ -134,6 +135,8 @@ public class CuratorFrameworkFactory
         private ACLProvider aclProvider = DEFAULT_ACL_PROVIDER;
         private boolean canBeReadOnly = false;
         private boolean useContainerParentsIfAvailable = true;
+        private int knownParentsCacheSize = DEFAULT_KNOWN_PARENTS_CACHE_SIZE;
+        private boolean createParentsInTransaction = false;
 
         /**
          * Apply the current values and build a new CuratorFramework
@@ -361,6 +364,35 @@ public class CuratorFrameworkFactory
             return this;
         }
 
+        /**
+         * When creating parents (i.e. {@link CreateBuilder#creatingParentsIfNeeded()}) Curator remembers parent
+         * nodes that are known to exist so that it doesn't have to check each level of the path again. Use this
+         * method to change the maximum number of remembered parents. The default is {@value #DEFAULT_KNOWN_PARENTS_CACHE_SIZE}.
+         * 0 turns off the cache.
+         *
+         * @param knownParentsCacheSize max number of known parents to remember
+         * @return this
+         */
+        public Builder knownParentsCacheSize(int knownParentsCacheSize)
+        {
+            this.knownParentsCacheSize = knownParentsCacheSize;
+            return this;
+        }
+
+        /**
+         * By default, Curator creates missing parent nodes (i.e. {@link CreateBuilder#creatingParentsIfNeeded()})
+         * one at a time, checking each level first
+         *
+         * @param createParentsInTransaction if true, all of the missing parents are created with a single
+         *                                   transaction instead. This saves round trips when writing into new deep paths.
+         * @return this
+         */
+        public Builder createParentsInTransaction(boolean createParentsInTransaction)
+        {
+            this.createParentsInTransaction = createParentsInTransaction;
+            return this;
+        }
+
         public ACLProvider getAclProvider()
         {
             return aclProvider;
@@ -416,6 +448,16 @@ public class CuratorFrameworkFactory
             return useContainerParentsIfAvailable;
         }
 
+        public int getKnownParentsCacheSize()
+        {
+            return knownParentsCacheSize;
+        }
+
+        public boolean createParentsInTransaction()
+        {
+            return createParentsInTransaction;
+        }
+
         @Deprecated
         public String getAuthScheme()
         {
@@ -530,6 +530,10 @@ class CreateBuilderImpl implements CreateBuilder, BackgroundOperation<PathAndByt
                             }
                             else
                             {
+                                if ( (rc == KeeperException.Code.OK.intValue()) && createParentsIfNeeded )
+                                {
+                                    client.getKnownParents().nodeExists(path);
+                                }
                                 sendBackgroundResponse(rc, path, ctx, name, operationAndData);
                             }
                         }
@@ -557,7 +561,7 @@ class CreateBuilderImpl implements CreateBuilder, BackgroundOperation<PathAndByt
             {
                 try
                 {
-                    ZKPaths.mkdirs(client.getZooKeeper(), path, false, client.getAclProvider(), createParentsAsContainers);
+                    client.getKnownParents().mkdirs(client.getZooKeeper(), path, client.getAclProvider(), createParentsAsContainers);
                 }
                 catch ( KeeperException e )
                 {
@@ -738,7 +742,7 @@ class CreateBuilderImpl implements CreateBuilder, BackgroundOperation<PathAndByt
                             {
                                 if ( createParentsIfNeeded )
                                 {
-                                    ZKPaths.mkdirs(client.getZooKeeper(), path, false, client.getAclProvider(), createParentsAsContainers);
+                                    client.getKnownParents().mkdirs(client.getZooKeeper(), path, client.getAclProvider(), createParentsAsContainers);
                                     createdPath = client.getZooKeeper().create(path, data, acling.getAclList(path), createMode);
                                 }
                                 else
@@ -748,6 +752,11 @@ class CreateBuilderImpl implements CreateBuilder, BackgroundOperation<PathAndByt
                             }
                         }
 
+                        if ( createParentsIfNeeded )
+                        {
+                            client.getKnownParents().nodeExists(createdPath);
+                        }
+
                         if ( failNextCreateForTesting )
                         {
                             failNextCreateForTesting = false;
@@ -203,6 +203,7 @@ class DeleteBuilderImpl implements DeleteBuilder, BackgroundOperation<String>, E
     {
         final String unfixedPath = path;
         path = client.fixForNamespace(path);
+        client.getKnownParents().nodeDeleted(path, deletingChildrenIfNeeded);
 
         if ( backgrounding.inBackground() )
         {
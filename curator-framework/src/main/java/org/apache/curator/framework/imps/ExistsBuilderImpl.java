@@ -196,7 +196,7 @@ class ExistsBuilderImpl implements ExistsBuilder, BackgroundOperation<String>, E
                         {
                             try
                             {
-                                ZKPaths.mkdirs(client.getZooKeeper(), parent, true, client.getAclProvider(), true);
+                                client.getKnownParents().mkdirs(client.getZooKeeper(), path, client.getAclProvider(), true);
                             }
                             catch ( KeeperException e )
                             {
@@ -0,0 +1,213 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.curator.framework.imps;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.Lists;
+import org.apache.curator.utils.InternalACLProvider;
+import org.apache.curator.utils.PathUtils;
+import org.apache.curator.utils.ZKPaths;
+import org.apache.zookeeper.CreateMode;
+import org.apache.zookeeper.KeeperException;
+import org.apache.zookeeper.Op;
+import org.apache.zookeeper.ZooDefs;
+import org.apache.zookeeper.ZooKeeper;
+import org.apache.zookeeper.data.ACL;
+import java.util.List;
+
+/**
+ * Creates the parent nodes for creatingParentsIfNeeded()/creatingParentContainersIfNeeded(). A bounded cache of parents
+ * that are known to exist lets creation start below the deepest known parent instead of checking every level
+ * from the root. The cache can be stale, so entries are invalidated when a node is deleted via this client and creation
+ * starts again from the root if a remembered parent turns out to be missing.
+ * Optionally, the missing parents are created with a single multi() transaction.
+ */
+class KnownParents
+{
+    private final Cache<String, Boolean> knownPaths;
+    private final boolean inTransaction;
+
+    KnownParents(int maxSize, boolean inTransaction)
+    {
+        this.inTransaction = inTransaction;
+        knownPaths = (maxSize > 0) ? CacheBuilder.newBuilder().maximumSize(maxSize).<String, Boolean>build() : null;
+    }
+
+    /**
+     * Note that the given node was created (or exists) and therefore so do all of its parents
+     *
+     * @param path node path
+     */
+    void nodeExists(String path)
+    {
+        if ( knownPaths != null )
+        {
+            for ( String parent : getParents(path) )
+            {
+                knownPaths.put(parent, Boolean.TRUE);
+            }
+        }
+    }
+
+    /**
+     * Note that the given node (and, if deletingChildren, its children) is being deleted
+     *
+     * @param path node path
+     * @param deletingChildren true if the node's children are deleted as well
+     */
+    void nodeDeleted(String path, boolean deletingChildren)
+    {
+        if ( knownPaths != null )
+        {
+            knownPaths.invalidate(path);
+            if ( deletingChildren )
+            {
+                String childPrefix = path.endsWith(ZKPaths.PATH_SEPARATOR) ? path : (path + ZKPaths.PATH_SEPARATOR);
+                for ( String knownPath : knownPaths.asMap().keySet() )
+                {
+                    if ( knownPath.startsWith(childPrefix) )
+                    {
+                        knownPaths.invalidate(knownPath);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Make sure all the parents of the given path exist. The node itself is not created. This is called
+     * after a create of the node got NoNode (so the node's immediate parent is known to be missing) and
+     * by exists() with creatingParentContainersIfNeeded(). The immediate parent is always checked.
+     *
+     * @param zookeeper the client
+     * @param path node path
+     * @param aclProvider ACL provider to use for the parents
+     * @param asContainers if true, parents are created as containers
+     * @throws Exception errors
+     */
+    void mkdirs(ZooKeeper zookeeper, String path, InternalACLProvider aclProvider, boolean asContainers) throws Exception
+    {
+        PathUtils.validatePath(path);
+
+        List<String> parents = getParents(path);
+        int start = 0;
+        if ( knownPaths != null )
+        {
+            if ( parents.size() > 0 )
+            {
+                knownPaths.invalidate(parents.get(parents.size() - 1));
+            }
+            for ( int i = parents.size() - 1; i >= 0; --i )
+            {
+                if ( knownPaths.getIfPresent(parents.get(i)) != null )
+                {
+                    start = i + 1;
+                    break;
+                }
+            }
+        }
+
+        CreateMode mode = asContainers ? ZKPaths.getContainerCreateMode() : CreateMode.PERSISTENT;
+        try
+        {
+            internalMkdirs(zookeeper, parents.subList(start, parents.size()), aclProvider, mode);
+        }
+        catch ( KeeperException.NoNodeException e )
+        {
+            if ( start == 0 )
+            {
+                throw e;
+            }
+
+            // a remembered parent has been deleted - forget the path and start again from the root
+            for ( String parent : parents )
+            {
+                knownPaths.invalidate(parent);
+            }
+            internalMkdirs(zookeeper, parents, aclProvider, mode);
+        }
+
+        nodeExists(path);
+    }
+
+    private void internalMkdirs(ZooKeeper zookeeper, List<String> missingParents, InternalACLProvider aclProvider, CreateMode mode) throws Exception
+    {
+        if ( inTransaction && (missingParents.size() > 0) )
+        {
+            // optimistically assume that everything below the deepest known parent is missing
+            List<Op> operations = Lists.newArrayList();
+            for ( String parent : missingParents )
+            {
+                operations.add(Op.create(parent, new byte[0], getAcl(aclProvider, parent), mode));
+            }
+            try
+            {
+                zookeeper.multi(operations);
+                return;
+            }
+            catch ( KeeperException.NodeExistsException ignore )
+            {
+                // some of the parents exist - fall through to creating them one at a time
+            }
+        }
+
+        for ( String parent : missingParents )
+        {
+            if ( zookeeper.exists(parent, false) == null )
+            {
+                try
+                {
+                    zookeeper.create(parent, new byte[0], getAcl(aclProvider, parent), mode);
+                }
+                catch ( KeeperException.NodeExistsException ignore )
+                {
+                    // someone else has created it since we checked
+                }
+            }
+        }
+    }
+
+    private static List<ACL> getAcl(InternalACLProvider aclProvider, String path)
+    {
+        List<ACL> acl = null;
+        if ( aclProvider != null )
+        {
+            acl = aclProvider.getAclForPath(path);
+            if ( acl == null )
+            {
+                acl = aclProvider.getDefaultAcl();
+            }
+        }
+        return (acl != null) ? acl : ZooDefs.Ids.OPEN_ACL_UNSAFE;
+    }
+
+    // parents of the path from the top down, not including the root
+    private static List<String> getParents(String path)
+    {
+        List<String> parents = Lists.newArrayList();
+        int pos = path.indexOf(ZKPaths.PATH_SEPARATOR, 1);
+        while ( pos > 0 )
+        {
+            parents.add(path.substring(0, pos));
+            pos = path.indexOf(ZKPaths.PATH_SEPARATOR, pos + 1);
+        }
+        return parents;
+    }
+}
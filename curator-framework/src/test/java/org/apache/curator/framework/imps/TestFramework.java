@@ -34,11 +34,15 @@ import org.apache.curator.test.Timing;
 import org.apache.curator.utils.CloseableUtils;
 import org.apache.curator.utils.EnsurePath;
 import org.apache.curator.utils.ZKPaths;
+import org.apache.curator.utils.ZookeeperFactory;
 import org.apache.zookeeper.CreateMode;
 import org.apache.zookeeper.KeeperException;
+import org.apache.zookeeper.Op;
+import org.apache.zookeeper.OpResult;
 import org.apache.zookeeper.WatchedEvent;
 import org.apache.zookeeper.Watcher;
 import org.apache.zookeeper.ZooDefs;
+import org.apache.zookeeper.ZooKeeper;
 import org.apache.zookeeper.data.ACL;
 import org.apache.zookeeper.data.Stat;
 import org.testng.Assert;
@@ -51,6 +55,7 @@ import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @SuppressWarnings("deprecation")
 public class TestFramework extends BaseClassForTests
@@ -419,6 +424,127 @@ public class TestFramework extends BaseClassForTests
         }
     }
 
+    @Test
+    public void testCreateParentsInTransaction() throws Exception
+    {
+        Timing timing = new Timing();
+        CuratorFramework client = CuratorFrameworkFactory.builder()
+            .connectString(server.getConnectString())
+            .retryPolicy(new RetryOneTime(1))
+            .createParentsInTransaction(true)
+            .build();
+        client.start();
+        try
+        {
+            client.create().creatingParentsIfNeeded().forPath("/one/two/three/four", "foo".getBytes());
+            Assert.assertEquals(client.getData().forPath("/one/two/three/four"), "foo".getBytes());
+            Assert.assertNotNull(client.checkExists().forPath("/one/two/three"));
+
+            // some parents exist, some don't
+            client.create().creatingParentsIfNeeded().forPath("/one/two/a/b", "bar".getBytes());
+            Assert.assertEquals(client.getData().forPath("/one/two/a/b"), "bar".getBytes());
+
+            // remembered parents deleted by this client
+            client.delete().deletingChildrenIfNeeded().forPath("/one/two");
+            client.create().creatingParentsIfNeeded().forPath("/one/two/three/five");
+            Assert.assertNotNull(client.checkExists().forPath("/one/two/three/five"));
+
+            // remembered parents deleted by another client
+            CuratorFramework other = CuratorFrameworkFactory.newClient(server.getConnectString(), new RetryOneTime(1));
+            other.start();
+            try
+            {
+                other.delete().deletingChildrenIfNeeded().forPath("/one");
+            }
+            finally
+            {
+                CloseableUtils.closeQuietly(other);
+            }
+            client.create().creatingParentsIfNeeded().forPath("/one/two/three/five/six");
+            Assert.assertNotNull(client.checkExists().forPath("/one/two/three/five/six"));
+
+            final CountDownLatch latch = new CountDownLatch(1);
+            BackgroundCallback callback = new BackgroundCallback()
+            {
+                @Override
+                public void processResult(CuratorFramework client, CuratorEvent event) throws Exception
+                {
+                    if ( event.getResultCode() == KeeperException.Code.OK.intValue() )
+                    {
+                        latch.countDown();
+                    }
+                }
+            };
+            client.create().creatingParentsIfNeeded().inBackground(callback).forPath("/x/y/z");
+            Assert.assertTrue(timing.awaitLatch(latch));
+            Assert.assertNotNull(client.checkExists().forPath("/x/y/z"));
+        }
+        finally
+        {
+            CloseableUtils.closeQuietly(client);
+        }
+    }
+
+    @Test
+    public void testCreateParentsOperationCount() throws Exception
+    {
+        final AtomicInteger operationCount = new AtomicInteger();
+        ZookeeperFactory zookeeperFactory = new ZookeeperFactory()
+        {
+            @Override
+            public ZooKeeper newZooKeeper(String connectString, int sessionTimeout, Watcher watcher, boolean canBeReadOnly) throws Exception
+            {
+                return new ZooKeeper(connectString, sessionTimeout, watcher, canBeReadOnly)
+                {
+                    @Override
+                    public String create(String path, byte[] data, List<ACL> acl, CreateMode createMode) throws KeeperException, InterruptedException
+                    {
+                        operationCount.incrementAndGet();
+                        return super.create(path, data, acl, createMode);
+                    }
+
+                    @Override
+                    public Stat exists(String path, boolean watch) throws KeeperException, InterruptedException
+                    {
+                        operationCount.incrementAndGet();
+                        return super.exists(path, watch);
+                    }
+
+                    @Override
+                    public List<OpResult> multi(Iterable<Op> ops) throws InterruptedException, KeeperException
+                    {
+                        operationCount.incrementAndGet();
+                        return super.multi(ops);
+                    }
+                };
+            }
+        };
+        CuratorFramework client = CuratorFrameworkFactory.builder()
+            .connectString(server.getConnectString())
+            .retryPolicy(new RetryOneTime(1))
+            .createParentsInTransaction(true)
+            .zookeeperFactory(zookeeperFactory)
+            .build();
+        client.start();
+        try
+        {
+            client.create().creatingParentsIfNeeded().forPath("/a/b/c/d/one");
+
+            // all of /a/b/c/d is known to exist - only the missing suffix is created
+            operationCount.set(0);
+            client.create().creatingParentsIfNeeded().forPath("/a/b/x/y/two");
+            Assert.assertEquals(operationCount.get(), 3);   // failed create, multi(/a/b/x, /a/b/x/y), create
+
+            operationCount.set(0);
+            client.create().creatingParentsIfNeeded().forPath("/a/b/x/y/three");
+            Assert.assertEquals(operationCount.get(), 1);
+        }
+        finally
+        {
+            CloseableUtils.closeQuietly(client);
+        }
+    }
+
     @Test
     public void testOverrideCreateParentContainers() throws Exception
     {
@@ -40,6 +40,7 @@ class ChildrenCache implements Closeable
     private final String path;
     private final AtomicReference<Data> children = new AtomicReference<Data>(new Data(Lists.<String>newArrayList(), 0));
     private final AtomicBoolean isClosed = new AtomicBoolean(false);
+    private final AtomicBoolean isStale = new AtomicBoolean(false);
 
     private final CuratorWatcher watcher = new CuratorWatcher()
     {
@@ -62,6 +63,11 @@ class ChildrenCache implements Closeable
             {
                 setNewChildren(event.getChildren());
             }
+            else
+            {
+                // the watch wasn't set so the view won't change again until refresh() is called
+                isStale.set(true);
+            }
         }
     };
 
@@ -95,6 +101,25 @@ class ChildrenCache implements Closeable
         notifyFromCallback();
     }
 
+    /**
+     * Returns true if the most recent read of the children failed. The view is not watched
+     * in that case and only changes after a call to {@link #refresh()}
+     *
+     * @return true/false
+     */
+    boolean isStale()
+    {
+        return isStale.get();
+    }
+
+    void refresh() throws Exception
+    {
+        if ( !isClosed.get() )
+        {
+            sync(true);
+        }
+    }
+
     Data getData()
     {
         return children.get();
@@ -110,7 +135,7 @@ class ChildrenCache implements Closeable
         long            startMs = System.currentTimeMillis();
         boolean         hasMaxWait = (unit != null);
         long            maxWaitMs = hasMaxWait ? unit.toMillis(maxWait) : -1;
-        while ( startVersion == children.get().version )
+        while ( (startVersion == children.get().version) && !isClosed.get() )
         {
             if ( hasMaxWait )
             {
@@ -153,6 +178,7 @@ class ChildrenCache implements Closeable
         {
             Data currentData = children.get();
 
+            isStale.set(false);
             children.set(new Data(newChildren, currentData.version + 1));
             notifyFromCallback();
         }
@@ -56,7 +56,8 @@ public class DistributedDelayQueue<T> implements Closeable, QueueBase<T>
             String lockPath,
             int maxItems,
             boolean putInBackground,
-            int finalFlushMs
+            int finalFlushMs,
+            int maxInFlight
         )
     {
         Preconditions.checkArgument(minItemsBeforeRefresh >= 0, "minItemsBeforeRefresh cannot be negative");
@@ -74,7 +75,8 @@ public class DistributedDelayQueue<T> implements Closeable, QueueBase<T>
             lockPath,
             maxItems,
             putInBackground,
-            finalFlushMs
+            finalFlushMs,
+            maxInFlight
         )
         {
             @Override
@@ -232,6 +234,16 @@ public class DistributedDelayQueue<T> implements Closeable, QueueBase<T>
         return queue.getLastMessageCount();
     }
 
+    /**
+     * Return the consumer side stats for this instance of the queue
+     *
+     * @return stats
+     */
+    public QueueStats getStats()
+    {
+        return queue.getStats();
+    }
+
     @VisibleForTesting
     static String epochToString(long epoch)
     {
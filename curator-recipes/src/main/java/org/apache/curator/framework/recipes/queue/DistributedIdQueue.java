@@ -22,6 +22,7 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import org.apache.curator.framework.CuratorFramework;
 import org.apache.curator.framework.listen.ListenerContainer;
+import org.apache.curator.utils.CloseableUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import java.io.IOException;
@@ -33,13 +34,17 @@ import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 
 /**
- * A version of {@link DistributedQueue} that allows IDs to be associated with queue items. Items
- * can then be removed from the queue if needed
+ * <p>A version of {@link DistributedQueue} that allows IDs to be associated with queue items. Items
+ * can then be removed from the queue if needed</p>
+ *
+ * <p>If built with {@link QueueBuilder#deduplicate(String, int, int, TimeUnit)}, items whose id has
+ * recently been processed are removed without being passed to the consumer.</p>
  */
 public class DistributedIdQueue<T> implements QueueBase<T>
 {
     private final Logger                log = LoggerFactory.getLogger(getClass());
     private final DistributedQueue<T>   queue;
+    private final IdDeduplicator        deduplicator;
 
     private static final char           SEPARATOR = '|';
 
@@ -68,10 +73,14 @@ public class DistributedIdQueue<T> implements QueueBase<T>
         String lockPath,
         int maxItems,
         boolean putInBackground,
-        int finalFlushMs
+        int finalFlushMs,
+        int maxInFlight,
+        String dedupPath,
+        int dedupWindowSize,
+        int dedupCheckpointMs
     )
     {
-        queue = new DistributedQueue<T>(client, consumer, serializer, queuePath, threadFactory, executor, minItemsBeforeRefresh, refreshOnWatch, lockPath, maxItems, putInBackground, finalFlushMs)
+        queue = new DistributedQueue<T>(client, consumer, serializer, queuePath, threadFactory, executor, minItemsBeforeRefresh, refreshOnWatch, lockPath, maxItems, putInBackground, finalFlushMs, maxInFlight)
         {
             @Override
             protected void sortChildren(List<String> children)
@@ -84,7 +93,29 @@ public class DistributedIdQueue<T> implements QueueBase<T>
             {
                 return makeIdPath(parseId(itemPath).id);
             }
+
+            @Override
+            protected boolean isAlreadyProcessed(String itemNode)
+            {
+                return (deduplicator != null) && deduplicator.isDuplicate(parseId(itemNode).id);
+            }
+
+            @Override
+            protected void itemProcessed(String itemNode)
+            {
+                if ( deduplicator != null )
+                {
+                    deduplicator.markProcessed(parseId(itemNode).id);
+                }
+            }
+
+            @Override
+            protected boolean isMarkingProcessedItems()
+            {
+                return deduplicator != null;
+            }
         };
+        deduplicator = (dedupPath != null) ? new IdDeduplicator(client, dedupPath, dedupWindowSize, dedupCheckpointMs, threadFactory) : null;
 
         if ( queue.makeItemPath().contains(Character.toString(SEPARATOR)) )
         {
@@ -95,6 +126,10 @@ public class DistributedIdQueue<T> implements QueueBase<T>
     @Override
     public void start() throws Exception
     {
+        if ( deduplicator != null )
+        {
+            deduplicator.start();
+        }
         queue.start();
     }
 
@@ -102,6 +137,7 @@ public class DistributedIdQueue<T> implements QueueBase<T>
     public void close() throws IOException
     {
         queue.close();
+        CloseableUtils.closeQuietly(deduplicator);
     }
 
     @Override
@@ -128,6 +164,16 @@ public class DistributedIdQueue<T> implements QueueBase<T>
         return queue.getLastMessageCount();
     }
 
+    /**
+     * Return the consumer side stats for this instance of the queue
+     *
+     * @return stats
+     */
+    public QueueStats getStats()
+    {
+        return queue.getStats();
+    }
+
     /**
      * Put an item into the queue with the given Id<br><br>
      * NOTE: if an upper bound was set via {@link QueueBuilder#maxItems}, this method will
@@ -51,7 +51,8 @@ public class DistributedPriorityQueue<T> implements Closeable, QueueBase<T>
             String lockPath,
             int maxItems,
             boolean putInBackground,
-            int finalFlushMs
+            int finalFlushMs,
+            int maxInFlight
         )
     {
         Preconditions.checkArgument(minItemsBeforeRefresh >= 0, "minItemsBeforeRefresh cannot be negative");
@@ -69,7 +70,8 @@ public class DistributedPriorityQueue<T> implements Closeable, QueueBase<T>
             lockPath,
             maxItems,
             putInBackground,
-            finalFlushMs
+            finalFlushMs,
+            maxInFlight
         );
     }
 
@@ -193,6 +195,16 @@ public class DistributedPriorityQueue<T> implements Closeable, QueueBase<T>
         return queue.getLastMessageCount();
     }
 
+    /**
+     * Return the consumer side stats for this instance of the queue
+     *
+     * @return stats
+     */
+    public QueueStats getStats()
+    {
+        return queue.getStats();
+    }
+
     @VisibleForTesting
     ChildrenCache getCache()
     {
@@ -22,6 +22,8 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Function;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
 
 import org.apache.curator.utils.CloseableUtils;
 import org.apache.curator.framework.CuratorFramework;
@@ -41,10 +43,12 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
@@ -83,10 +87,14 @@ public class DistributedQueue<T> implements QueueBase<T>
     private final AtomicReference<ErrorMode> errorMode = new AtomicReference<ErrorMode>(ErrorMode.REQUEUE);
     private final ListenerContainer<QueuePutListener<T>> putListenerContainer = new ListenerContainer<QueuePutListener<T>>();
     private final AtomicInteger lastChildCount = new AtomicInteger(0);
+    private final QueueStats stats = new QueueStats();
     private final int maxItems;
     private final int finalFlushMs;
     private final boolean putInBackground;
     private final ChildrenCache childrenCache;
+    private final ExecutorService pipelineService;
+    private final Semaphore inFlightPermits;
+    private final Set<String> inFlightItems = Sets.newSetFromMap(Maps.<String, Boolean>newConcurrentMap());
 
     private final AtomicInteger     putCount = new AtomicInteger(0);
 
@@ -105,6 +113,7 @@ public class DistributedQueue<T> implements QueueBase<T>
     }
 
     private static final String     QUEUE_ITEM_NAME = "queue-";
+    private static final byte[]     PROCESSED_MARKER = new byte[0];
 
     DistributedQueue
         (
@@ -119,7 +128,8 @@ public class DistributedQueue<T> implements QueueBase<T>
             String lockPath,
             int maxItems,
             boolean putInBackground,
-            int finalFlushMs
+            int finalFlushMs,
+            int maxInFlight
         )
     {
         Preconditions.checkNotNull(client, "client cannot be null");
@@ -127,6 +137,7 @@ public class DistributedQueue<T> implements QueueBase<T>
         Preconditions.checkNotNull(threadFactory, "threadFactory cannot be null");
         Preconditions.checkNotNull(executor, "executor cannot be null");
         Preconditions.checkArgument(maxItems > 0, "maxItems must be a positive number");
+        Preconditions.checkArgument(maxInFlight > 0, "maxInFlight must be a positive number");
 
         isProducerOnly = (consumer == null);
         this.lockPath = (lockPath == null) ? null : PathUtils.validatePath(lockPath);
@@ -143,6 +154,10 @@ public class DistributedQueue<T> implements QueueBase<T>
         service = Executors.newFixedThreadPool(2, threadFactory);
         childrenCache = new ChildrenCache(client, queuePath);
 
+        boolean isPipelined = (maxInFlight != QueueBuilder.NOT_SET) && !isProducerOnly;
+        pipelineService = isPipelined ? Executors.newFixedThreadPool(maxInFlight, threadFactory) : null;
+        inFlightPermits = isPipelined ? new Semaphore(maxInFlight) : null;
+
         if ( (maxItems != QueueBuilder.NOT_SET) && putInBackground )
         {
             log.warn("Bounded queues should set putInBackground(false) in the builder. Putting in the background will result in spotty maxItem consistency.");
@@ -224,6 +239,10 @@ public class DistributedQueue<T> implements QueueBase<T>
             CloseableUtils.closeQuietly(childrenCache);
             putListenerContainer.clear();
             service.shutdownNow();
+            if ( pipelineService != null )
+            {
+                pipelineService.shutdownNow();
+            }
         }
     }
 
@@ -365,6 +384,16 @@ public class DistributedQueue<T> implements QueueBase<T>
         return lastChildCount.get();
     }
 
+    /**
+     * Return the consumer side stats for this instance of the queue
+     *
+     * @return stats
+     */
+    public QueueStats getStats()
+    {
+        return stats;
+    }
+
     boolean internalPut(final T item, MultiItem<T> multiItem, String path, int maxWait, TimeUnit unit) throws Exception
     {
         if ( !blockIfMaxed(maxWait, unit) )
@@ -513,6 +542,27 @@ public class DistributedQueue<T> implements QueueBase<T>
         return 0;
     }
 
+    protected boolean isAlreadyProcessed(String itemNode)
+    {
+        return false;
+    }
+
+    protected void itemProcessed(String itemNode)
+    {
+        // NOP
+    }
+
+    /**
+     * If true, a processed item is marked by updating it before it is deleted. A consumer that then
+     * finds the marked item (because the delete never happened) drops it instead of processing it again.
+     *
+     * @return true to mark items
+     */
+    protected boolean isMarkingProcessedItems()
+    {
+        return false;
+    }
+
     protected boolean tryRemove(String itemNode) throws Exception
     {
         boolean     isUsingLockSafety = (lockPath != null);
@@ -551,6 +601,7 @@ public class DistributedQueue<T> implements QueueBase<T>
                 {
                     ChildrenCache.Data      data = (maxWaitMs > 0) ? childrenCache.blockingNextGetData(currentVersion, maxWaitMs, TimeUnit.MILLISECONDS) : childrenCache.blockingNextGetData(currentVersion);
                     currentVersion = data.version;
+                    lastChildCount.set(data.children.size());
 
                     List<String>        children = Lists.newArrayList(data.children);
                     sortChildren(children); // makes sure items are processed in the correct order
@@ -568,7 +619,14 @@ public class DistributedQueue<T> implements QueueBase<T>
                         continue;
                     }
 
-                    processChildren(children, currentVersion);
+                    if ( pipelineService != null )
+                    {
+                        processChildrenPipelined(children, currentVersion);
+                    }
+                    else
+                    {
+                        processChildren(children, currentVersion);
+                    }
                 }
                 catch ( InterruptedException e )
                 {
@@ -654,6 +712,94 @@ public class DistributedQueue<T> implements QueueBase<T>
         processedLatch.acquire(children.size());
     }
 
+    private void processChildrenPipelined(List<String> children, long currentVersion) throws Exception
+    {
+        final boolean   isUsingLockSafety = (lockPath != null);
+        int             min = minItemsBeforeRefresh;
+        for ( final String itemNode : children )
+        {
+            if ( Thread.currentThread().isInterrupted() )
+            {
+                break;
+            }
+
+            if ( !itemNode.startsWith(QUEUE_ITEM_NAME) )
+            {
+                log.warn("Foreign node in queue path: " + itemNode);
+                continue;
+            }
+
+            if ( min-- <= 0 )
+            {
+                if ( refreshOnWatch && (currentVersion != childrenCache.getData().version) )
+                {
+                    break;
+                }
+            }
+
+            if ( getDelay(itemNode) > 0 )
+            {
+                continue;
+            }
+
+            if ( inFlightItems.contains(itemNode) )
+            {
+                // still being processed from a previous snapshot
+                continue;
+            }
+
+            // blocks while maxInFlight items are being processed - i.e. no new items are taken until a consumer is free
+            inFlightPermits.acquire();
+            if ( !inFlightItems.add(itemNode) )
+            {
+                inFlightPermits.release();
+                continue;
+            }
+
+            try
+            {
+                pipelineService.execute
+                (
+                    new Runnable()
+                    {
+                        @Override
+                        public void run()
+                        {
+                            try
+                            {
+                                if ( isUsingLockSafety )
+                                {
+                                    processWithLockSafety(itemNode, ProcessType.NORMAL);
+                                }
+                                else
+                                {
+                                    processNormally(itemNode, ProcessType.NORMAL);
+                                }
+                            }
+                            catch ( Exception e )
+                            {
+                                ThreadUtils.checkInterrupted(e);
+                                log.error("Error processing message at " + itemNode, e);
+                            }
+                            finally
+                            {
+                                inFlightItems.remove(itemNode);
+                                inFlightPermits.release();
+                            }
+                        }
+                    }
+                );
+            }
+            catch ( RejectedExecutionException e )
+            {
+                // the queue is being closed
+                inFlightItems.remove(itemNode);
+                inFlightPermits.release();
+                break;
+            }
+        }
+    }
+
     private enum ProcessMessageBytesCode
     {
         NORMAL,
@@ -663,6 +809,12 @@ public class DistributedQueue<T> implements QueueBase<T>
     private ProcessMessageBytesCode processMessageBytes(String itemNode, byte[] bytes) throws Exception
     {
         ProcessMessageBytesCode     resultCode = ProcessMessageBytesCode.NORMAL;
+        if ( isAlreadyProcessed(itemNode) )
+        {
+            stats.incrementDuplicatesDropped();
+            return resultCode;
+        }
+
         MultiItem<T>                items;
         try
         {
@@ -683,6 +835,8 @@ public class DistributedQueue<T> implements QueueBase<T>
                 break;
             }
 
+            stats.incrementItemsConsumed();
+            long    startMs = System.currentTimeMillis();
             try
             {
                 consumer.consumeMessage(item);
@@ -690,6 +844,7 @@ public class DistributedQueue<T> implements QueueBase<T>
             catch ( Throwable e )
             {
                 ThreadUtils.checkInterrupted(e);
+                stats.incrementConsumerErrors();
                 log.error("Exception processing queue item: " + itemNode, e);
                 if ( errorMode.get() == ErrorMode.REQUEUE )
                 {
@@ -697,6 +852,15 @@ public class DistributedQueue<T> implements QueueBase<T>
                     break;
                 }
             }
+            finally
+            {
+                stats.getProcessingTime().record(System.currentTimeMillis() - startMs);
+            }
+        }
+
+        if ( resultCode == ProcessMessageBytesCode.NORMAL )
+        {
+            itemProcessed(itemNode);
         }
         return resultCode;
     }
@@ -712,6 +876,7 @@ public class DistributedQueue<T> implements QueueBase<T>
             if ( type == ProcessType.NORMAL )
             {
                 bytes = client.getData().storingStatIn(stat).forPath(itemPath);
+                stats.getEnqueueToDequeueLatency().record(System.currentTimeMillis() - stat.getCtime());
             }
             if ( client.getState() == CuratorFrameworkState.STARTED )
             {
@@ -720,7 +885,14 @@ public class DistributedQueue<T> implements QueueBase<T>
 
             if ( type == ProcessType.NORMAL )
             {
-                processMessageBytes(itemNode, bytes);
+                if ( isMarkedProcessed(stat) )
+                {
+                    droppedMarkedItem(itemNode);
+                }
+                else
+                {
+                    processMessageBytes(itemNode, bytes);
+                }
             }
 
             return true;
@@ -746,6 +918,9 @@ public class DistributedQueue<T> implements QueueBase<T>
     {
         String      lockNodePath = ZKPaths.makePath(lockPath, itemNode);
         boolean     lockCreated = false;
+        boolean     processed = false;
+        long        startMs = System.currentTimeMillis();
+        long        processingMs = 0;
         try
         {
             client.create().withMode(CreateMode.EPHEMERAL).forPath(lockNodePath);
@@ -756,8 +931,25 @@ public class DistributedQueue<T> implements QueueBase<T>
             byte[]  bytes = null;
             if ( type == ProcessType.NORMAL )
             {
-                bytes = client.getData().forPath(itemPath);
-                requeue = (processMessageBytes(itemNode, bytes) == ProcessMessageBytesCode.REQUEUE);
+                Stat    stat = new Stat();
+                bytes = client.getData().storingStatIn(stat).forPath(itemPath);
+                if ( isMarkedProcessed(stat) )
+                {
+                    droppedMarkedItem(itemNode);    // a consumer processed it but died before deleting it
+                }
+                else
+                {
+                    stats.getEnqueueToDequeueLatency().record(System.currentTimeMillis() - stat.getCtime());
+
+                    long    processingStartMs = System.currentTimeMillis();
+                    requeue = (processMessageBytes(itemNode, bytes) == ProcessMessageBytesCode.REQUEUE);
+                    processingMs = System.currentTimeMillis() - processingStartMs;
+
+                    if ( !requeue && isMarkingProcessedItems() )
+                    {
+                        client.setData().withVersion(stat.getVersion()).forPath(itemPath, PROCESSED_MARKER);
+                    }
+                }
             }
 
             if ( requeue )
@@ -768,12 +960,14 @@ public class DistributedQueue<T> implements QueueBase<T>
                     .create().withMode(CreateMode.PERSISTENT_SEQUENTIAL).forPath(makeRequeueItemPath(itemPath), bytes)
                     .and()
                     .commit();
+                stats.incrementRequeues();
             }
             else
             {
                 client.delete().forPath(itemPath);
             }
 
+            processed = true;
             return true;
         }
         catch ( KeeperException.NodeExistsException ignore )
@@ -793,12 +987,28 @@ public class DistributedQueue<T> implements QueueBase<T>
             if ( lockCreated )
             {
                 client.delete().guaranteed().forPath(lockNodePath);
+                if ( processed && (type == ProcessType.NORMAL) )
+                {
+                    stats.getLockSafetyOverhead().record((System.currentTimeMillis() - startMs) - processingMs);
+                }
             }
         }
 
         return false;
     }
 
+    // items are never updated other than to mark them as processed
+    private boolean isMarkedProcessed(Stat stat)
+    {
+        return isMarkingProcessedItems() && (stat.getVersion() != 0);
+    }
+
+    private void droppedMarkedItem(String itemNode)
+    {
+        stats.incrementDuplicatesDropped();
+        itemProcessed(itemNode);
+    }
+
     protected String makeRequeueItemPath(String itemPath)
     {
         return makeItemPath();
@@ -0,0 +1,270 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.curator.framework.recipes.queue;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import org.apache.curator.framework.CuratorFramework;
+import org.apache.curator.utils.PathUtils;
+import org.apache.curator.utils.ThreadUtils;
+import org.apache.zookeeper.KeeperException;
+import org.apache.zookeeper.data.Stat;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps a window of recently processed item ids in memory and periodically merges it with a
+ * checkpoint node that is shared by all consumers of the queue
+ */
+class IdDeduplicator implements Closeable
+{
+    private final Logger log = LoggerFactory.getLogger(getClass());
+    private final CuratorFramework client;
+    private final String checkpointPath;
+    private final int checkpointMs;
+    private final ScheduledExecutorService service;
+    private final LinkedHashMap<String, Long> window;
+    private boolean isDirty = false;
+
+    private static final int FORMAT_VERSION = 0x00010001;
+
+    IdDeduplicator(CuratorFramework client, String checkpointPath, final int windowSize, int checkpointMs, ThreadFactory threadFactory)
+    {
+        this.client = client;
+        this.checkpointPath = PathUtils.validatePath(checkpointPath);
+        this.checkpointMs = checkpointMs;
+        service = Executors.newSingleThreadScheduledExecutor(threadFactory);
+        window = new LinkedHashMap<String, Long>()
+        {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest)
+            {
+                return size() > windowSize;
+            }
+        };
+    }
+
+    void start() throws Exception
+    {
+        checkpoint();
+        service.scheduleWithFixedDelay
+        (
+            new Runnable()
+            {
+                @Override
+                public void run()
+                {
+                    try
+                    {
+                        checkpoint();
+                    }
+                    catch ( Exception e )
+                    {
+                        ThreadUtils.checkInterrupted(e);
+                        log.error("Could not checkpoint processed ids to: " + checkpointPath, e);
+                    }
+                }
+            },
+            checkpointMs,
+            checkpointMs,
+            TimeUnit.MILLISECONDS
+        );
+    }
+
+    @Override
+    public void close()
+    {
+        service.shutdownNow();
+        try
+        {
+            checkpoint();
+        }
+        catch ( Exception e )
+        {
+            ThreadUtils.checkInterrupted(e);
+            log.error("Could not write final checkpoint of processed ids to: " + checkpointPath, e);
+        }
+    }
+
+    synchronized boolean isDuplicate(String id)
+    {
+        return window.containsKey(id);
+    }
+
+    synchronized void markProcessed(String id)
+    {
+        window.put(id, System.currentTimeMillis());
+        isDirty = true;
+    }
+
+    void checkpoint() throws Exception
+    {
+        Stat        stat = new Stat();
+        byte[]      bytes;
+        try
+        {
+            bytes = client.getData().storingStatIn(stat).forPath(checkpointPath);
+        }
+        catch ( KeeperException.NoNodeException dummy )
+        {
+            bytes = null;
+            stat = null;
+        }
+
+        byte[]      newBytes;
+        synchronized(this)
+        {
+            if ( bytes != null )
+            {
+                merge(deserialize(bytes));
+            }
+            if ( !isDirty )
+            {
+                return;
+            }
+            newBytes = serialize();
+            isDirty = false;
+        }
+
+        try
+        {
+            if ( stat == null )
+            {
+                client.create().creatingParentContainersIfNeeded().forPath(checkpointPath, newBytes);
+            }
+            else
+            {
+                client.setData().withVersion(stat.getVersion()).forPath(checkpointPath, newBytes);
+            }
+        }
+        catch ( KeeperException.NodeExistsException e )
+        {
+            markDirty();    // another consumer wrote first - try again next time
+        }
+        catch ( KeeperException.BadVersionException e )
+        {
+            markDirty();    // another consumer wrote first - try again next time
+        }
+    }
+
+    private synchronized void markDirty()
+    {
+        isDirty = true;
+    }
+
+    // must be called while synchronized
+    private void merge(Map<String, Long> remote)
+    {
+        boolean                         hasNew = false;
+        List<Map.Entry<String, Long>>   entries = Lists.newArrayList();
+        for ( Map.Entry<String, Long> entry : window.entrySet() )
+        {
+            entries.add(Maps.immutableEntry(entry.getKey(), entry.getValue()));
+        }
+        for ( Map.Entry<String, Long> entry : remote.entrySet() )
+        {
+            if ( !window.containsKey(entry.getKey()) )
+            {
+                entries.add(entry);
+                hasNew = true;
+            }
+        }
+        if ( !hasNew )
+        {
+            return;
+        }
+
+        // keep the window ordered by processing time so that the oldest ids get evicted first
+        Collections.sort
+        (
+            entries,
+            new Comparator<Map.Entry<String, Long>>()
+            {
+                @Override
+                public int compare(Map.Entry<String, Long> o1, Map.Entry<String, Long> o2)
+                {
+                    return o1.getValue().compareTo(o2.getValue());
+                }
+            }
+        );
+        Map<String, Long>   merged = Maps.newLinkedHashMap();
+        for ( Map.Entry<String, Long> entry : entries )
+        {
+            merged.put(entry.getKey(), entry.getValue());
+        }
+        window.clear();
+        window.putAll(merged);
+    }
+
+    // must be called while synchronized
+    private byte[] serialize() throws IOException
+    {
+        ByteArrayOutputStream   bytes = new ByteArrayOutputStream();
+        DataOutputStream        out = new DataOutputStream(bytes);
+        out.writeInt(FORMAT_VERSION);
+        out.writeInt(window.size());
+        for ( Map.Entry<String, Long> entry : window.entrySet() )
+        {
+            out.writeUTF(entry.getKey());
+            out.writeLong(entry.getValue());
+        }
+        out.close();
+        return bytes.toByteArray();
+    }
+
+    private Map<String, Long> deserialize(byte[] bytes) throws IOException
+    {
+        Map<String, Long>   ids = Maps.newLinkedHashMap();
+        if ( bytes.length == 0 )
+        {
+            return ids;
+        }
+
+        DataInputStream     in = new DataInputStream(new ByteArrayInputStream(bytes));
+        int                 version = in.readInt();
+        if ( version != FORMAT_VERSION )
+        {
+            log.error("Unknown checkpoint format version: " + version);
+            return ids;
+        }
+
+        int                 qty = in.readInt();
+        for ( int i = 0; i < qty; ++i )
+        {
+            String  id = in.readUTF();
+            ids.put(id, in.readLong());
+        }
+        return ids;
+    }
+}
@@ -44,6 +44,10 @@ public class QueueBuilder<T>
     private int maxItems = NOT_SET;
     private boolean putInBackground = true;
     private int finalFlushMs = 5000;
+    private int maxInFlight = NOT_SET;
+    private String dedupPath = null;
+    private int dedupWindowSize = 0;
+    private int dedupCheckpointMs = 0;
 
     static final ThreadFactory  defaultThreadFactory = ThreadUtils.newThreadFactory("QueueBuilder");
 
@@ -84,7 +88,8 @@ public class QueueBuilder<T>
             lockPath,
             maxItems,
             putInBackground,
-            finalFlushMs
+            finalFlushMs,
+            maxInFlight
         );
     }
 
@@ -108,7 +113,11 @@ public class QueueBuilder<T>
             lockPath,
             maxItems,
             putInBackground,
-            finalFlushMs
+            finalFlushMs,
+            maxInFlight,
+            dedupPath,
+            dedupWindowSize,
+            dedupCheckpointMs
         );
     }
 
@@ -145,7 +154,8 @@ public class QueueBuilder<T>
             lockPath,
             maxItems,
             putInBackground,
-            finalFlushMs
+            finalFlushMs,
+            maxInFlight
         );
     }
 
@@ -168,7 +178,8 @@ public class QueueBuilder<T>
             lockPath,
             maxItems,
             putInBackground,
-            finalFlushMs
+            finalFlushMs,
+            maxInFlight
         );
     }
 
@@ -261,6 +272,58 @@ public class QueueBuilder<T>
         return this;
     }
 
+    /**
+     * <p>By default, the queue hands each snapshot of items to the {@link #executor(Executor)} and waits until
+     * the entire snapshot has been processed before looking for new items. Thus, a single slow item holds up
+     * all subsequent items.</p>
+     *
+     * <p>This method changes the queue to process items in a continuous pipeline: items are consumed by a dedicated
+     * pool of <code>maxInFlight</code> threads (created via {@link #threadFactory(ThreadFactory)}) and new items
+     * are picked up while slow items are still being processed. When <code>maxInFlight</code> items are being
+     * processed, no new items are taken from the queue until a consumer thread is free. NOTE: the executor set via
+     * {@link #executor(Executor)} is not used in this mode and items may be consumed out of order.</p>
+     *
+     * @param maxInFlight maximum number of items to process concurrently
+     * @return this
+     */
+    public QueueBuilder<T>  pipelined(int maxInFlight)
+    {
+        Preconditions.checkArgument(maxInFlight > 0, "maxInFlight must be a positive number");
+
+        this.maxInFlight = maxInFlight;
+        return this;
+    }
+
+    /**
+     * <p>Applies only to {@link #buildIdQueue()}. Keeps a window of the most recently processed item ids
+     * in memory. When an item arrives whose id is in the window (e.g. an item that is redelivered after a
+     * consumer died before removing it when using {@link #lockPath(String)} or an id that was put twice),
+     * the item is removed without calling the consumer.</p>
+     *
+     * <p>The window is periodically merged with a checkpoint ZNode at <code>checkpointPath</code> that is
+     * shared by all consumers of the queue. Thus, ids processed by other consumers are also dropped and no
+     * additional ZooKeeper read is needed per item. When {@link #lockPath(String)} is used, each processed
+     * item is also marked (an empty write to the item node) before it is removed so that a consumer that dies
+     * in between does not cause the item to be processed again. The checkpoint holds <code>windowSize</code>
+     * ids and must fit within ZooKeeper's maximum node size (1MB by default).</p>
+     *
+     * @param checkpointPath path of the shared checkpoint node
+     * @param windowSize number of recently processed ids to remember
+     * @param checkpointPeriod how often to checkpoint
+     * @param unit checkpoint period unit
+     * @return this
+     */
+    public QueueBuilder<T>  deduplicate(String checkpointPath, int windowSize, int checkpointPeriod, TimeUnit unit)
+    {
+        Preconditions.checkArgument(windowSize > 0, "windowSize must be a positive number");
+        Preconditions.checkArgument(checkpointPeriod > 0, "checkpointPeriod must be a positive number");
+
+        dedupPath = PathUtils.validatePath(checkpointPath);
+        dedupWindowSize = windowSize;
+        dedupCheckpointMs = (int)unit.toMillis(checkpointPeriod);
+        return this;
+    }
+
     private QueueBuilder(CuratorFramework client, QueueConsumer<T> consumer, QueueSerializer<T> serializer, String queuePath)
     {
         this.client = client;
@@ -0,0 +1,139 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.curator.framework.recipes.queue;
+
+/**
+ * Point-in-time stats for a single shard managed by a {@link QueueSharder}. The values
+ * are sampled each time the sharder checks its thresholds. Put and take rates are derived from the
+ * change in the shard node's child count and cversion between two samples and are therefore
+ * estimates.
+ */
+public class QueueShardStats
+{
+    private final String path;
+    private final int depth;
+    private final double putsPerSecond;
+    private final double takesPerSecond;
+    private final boolean retired;
+    private final long sampleTimeMs;
+
+    QueueShardStats(String path, int depth, double putsPerSecond, double takesPerSecond, boolean retired, long sampleTimeMs)
+    {
+        this.path = path;
+        this.depth = depth;
+        this.putsPerSecond = putsPerSecond;
+        this.takesPerSecond = takesPerSecond;
+        this.retired = retired;
+        this.sampleTimeMs = sampleTimeMs;
+    }
+
+    /**
+     * Returns the path of the shard
+     *
+     * @return path
+     */
+    public String getPath()
+    {
+        return path;
+    }
+
+    /**
+     * Returns the number of items in the shard at the time of the sample
+     *
+     * @return qty
+     */
+    public int getDepth()
+    {
+        return depth;
+    }
+
+    /**
+     * Returns the estimated rate of items being added to the shard
+     *
+     * @return items per second
+     */
+    public double getPutsPerSecond()
+    {
+        return putsPerSecond;
+    }
+
+    /**
+     * Returns the estimated rate of items being consumed from the shard
+     *
+     * @return items per second
+     */
+    public double getTakesPerSecond()
+    {
+        return takesPerSecond;
+    }
+
+    /**
+     * Returns the estimated consumer lag for the shard. i.e. how long it would take the
+     * consumers to drain the shard at the current take rate. If the shard has items but
+     * no takes have been observed, {@link Long#MAX_VALUE} is returned.
+     *
+     * @return lag in ms
+     */
+    public long getEstimatedLagMs()
+    {
+        if ( depth == 0 )
+        {
+            return 0;
+        }
+        if ( takesPerSecond <= 0 )
+        {
+            return Long.MAX_VALUE;
+        }
+        return (long)((depth / takesPerSecond) * 1000);
+    }
+
+    /**
+     * Returns true if the shard has been retired. Retired shards no longer receive new items
+     * and are deleted once they have been drained.
+     *
+     * @return true/false
+     */
+    public boolean isRetired()
+    {
+        return retired;
+    }
+
+    /**
+     * Returns the time the sample was taken
+     *
+     * @return epoch time in ms
+     */
+    public long getSampleTimeMs()
+    {
+        return sampleTimeMs;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "QueueShardStats{" +
+            "path='" + path + '\'' +
+            ", depth=" + depth +
+            ", putsPerSecond=" + putsPerSecond +
+            ", takesPerSecond=" + takesPerSecond +
+            ", retired=" + retired +
+            ", sampleTimeMs=" + sampleTimeMs +
+            '}';
+    }
+}
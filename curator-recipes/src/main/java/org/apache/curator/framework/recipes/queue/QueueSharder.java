@@ -19,6 +19,7 @@
 package org.apache.curator.framework.recipes.queue;
 
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
@@ -28,13 +29,16 @@ import org.apache.curator.framework.CuratorFramework;
 import org.apache.curator.framework.recipes.leader.LeaderLatch;
 import org.apache.curator.utils.ThreadUtils;
 import org.apache.curator.utils.ZKPaths;
+import org.apache.zookeeper.KeeperException;
 import org.apache.zookeeper.data.Stat;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
 import java.util.Set;
 import java.util.UUID;
@@ -42,6 +46,7 @@ import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 /**
@@ -62,6 +67,13 @@ import java.util.concurrent.atomic.AtomicReference;
  *     queues. i.e. items might get consumed out of order if they are in different managed
  *     queues.
  * </p>
+ *
+ * <p>
+ *     If {@link QueueSharderPolicies.Builder#loadBalanced(boolean)} is set, puts are routed to the
+ *     less loaded of two randomly chosen queues and the leader retires queues when the load drops. Retired
+ *     queues are drained by their consumers and then deleted. Note: a queue returned by {@link #getQueue()}
+ *     should be used immediately and not held on to as it might be retired and closed.
+ * </p>
  */
 public class QueueSharder<U, T extends QueueBase<U>> implements Closeable
 {
@@ -71,6 +83,7 @@ public class QueueSharder<U, T extends QueueBase<U>> implements Closeable
     private final String                    queuePath;
     private final QueueSharderPolicies      policies;
     private final ConcurrentMap<String, T>  queues = Maps.newConcurrentMap();
+    private final ConcurrentMap<String, Shard>  shards = Maps.newConcurrentMap();
     private final Set<String>               preferredQueues = Sets.newSetFromMap(Maps.<String, Boolean>newConcurrentMap());
     private final AtomicReference<State>    state = new AtomicReference<State>(State.LATENT);
     private final LeaderLatch               leaderLatch;
@@ -78,6 +91,20 @@ public class QueueSharder<U, T extends QueueBase<U>> implements Closeable
     private final ExecutorService           service;
 
     private static final String         QUEUE_PREFIX = "queue-";
+    private static final byte[]         RETIRED_MARKER = "retired-queue".getBytes();
+
+    private static class Shard
+    {
+        final AtomicInteger                     estimatedDepth = new AtomicInteger(0);
+        volatile QueueShardStats                stats = null;
+        volatile int                            lastCversion = -1;
+        volatile long                           retiredSinceMs = 0;
+
+        boolean isRetired()
+        {
+            return retiredSinceMs != 0;
+        }
+    }
 
     private enum State
     {
@@ -176,6 +203,11 @@ public class QueueSharder<U, T extends QueueBase<U>> implements Closeable
     {
         Preconditions.checkState(state.get() == State.STARTED, "Not started");
 
+        if ( policies.isLoadBalanced() )
+        {
+            return getLeastLoadedQueue();
+        }
+
         List<String>    localPreferredQueues = Lists.newArrayList(preferredQueues);
         if ( localPreferredQueues.size() > 0 )
         {
@@ -208,6 +240,74 @@ public class QueueSharder<U, T extends QueueBase<U>> implements Closeable
         return ImmutableSet.copyOf(queues.keySet());
     }
 
+    /**
+     * Return the most recent stats for each shard keyed by shard path. The stats are updated
+     * each time the sharder checks the queue thresholds (see {@link QueueSharderPolicies.Builder#thresholdCheckMs(int)}).
+     *
+     * @return stats
+     */
+    public Map<String, QueueShardStats> getShardStats()
+    {
+        ImmutableMap.Builder<String, QueueShardStats>   builder = ImmutableMap.builder();
+        for ( Map.Entry<String, Shard> entry : shards.entrySet() )
+        {
+            QueueShardStats     stats = entry.getValue().stats;
+            if ( stats != null )
+            {
+                builder.put(entry.getKey(), stats);
+            }
+        }
+        return builder.build();
+    }
+
+    private T getLeastLoadedQueue()
+    {
+        List<String>    candidates = Lists.newArrayList(preferredQueues);
+        if ( candidates.size() == 0 )
+        {
+            for ( Map.Entry<String, Shard> entry : shards.entrySet() )
+            {
+                if ( !entry.getValue().isRetired() )
+                {
+                    candidates.add(entry.getKey());
+                }
+            }
+        }
+        if ( candidates.size() == 0 )
+        {
+            candidates = Lists.newArrayList(queues.keySet());
+        }
+
+        int             index = random.nextInt(candidates.size());
+        String          key = candidates.get(index);
+        if ( candidates.size() > 1 )
+        {
+            int         otherIndex = random.nextInt(candidates.size() - 1);
+            if ( otherIndex >= index )
+            {
+                ++otherIndex;
+            }
+            String      otherKey = candidates.get(otherIndex);
+            if ( getEstimatedDepth(otherKey) < getEstimatedDepth(key) )
+            {
+                key = otherKey;
+            }
+        }
+
+        Shard           shard = shards.get(key);
+        if ( shard != null )
+        {
+            shard.estimatedDepth.incrementAndGet();
+        }
+        return queues.get(key);
+    }
+
+    private int getEstimatedDepth(String key)
+    {
+        Shard   shard = shards.get(key);
+        return (shard != null) ? shard.estimatedDepth.get() : 0;
+    }
+
     private void getInitialQueues() throws Exception
     {
         List<String>        children = client.getChildren().forPath(queuePath);
@@ -235,12 +335,64 @@ public class QueueSharder<U, T extends QueueBase<U>> implements Closeable
             T                   queue = queueAllocator.allocateQueue(client, newQueuePath);
             if ( queues.putIfAbsent(newQueuePath, queue) == null )
             {
+                shards.putIfAbsent(newQueuePath, new Shard());
                 queue.start();
                 preferredQueues.add(newQueuePath);
             }
         }
     }
 
+    private void removeQueue(String path)
+    {
+        preferredQueues.remove(path);
+        shards.remove(path);
+        T       queue = queues.remove(path);
+        if ( queue != null )
+        {
+            log.info("Removing drained queue: " + path);
+            try
+            {
+                queue.close();
+            }
+            catch ( IOException e )
+            {
+                log.error("Closing a queue", e);
+            }
+        }
+    }
+
+    private void updateShard(String path, Stat stat, boolean retired)
+    {
+        Shard           shard = shards.get(path);
+        if ( shard == null )
+        {
+            return;
+        }
+
+        long            nowMs = System.currentTimeMillis();
+        QueueShardStats previous = shard.stats;
+        double          putsPerSecond = 0;
+        double          takesPerSecond = 0;
+        if ( (previous != null) && (shard.lastCversion >= 0) && (nowMs > previous.getSampleTimeMs()) )
+        {
+            // every put and every take changes the cversion by one whereas the child count
+            // goes up for puts and down for takes. Thus, both rates can be derived from the two deltas
+            double      elapsedSeconds = (nowMs - previous.getSampleTimeMs()) / 1000.0;
+            int         changes = Math.max(stat.getCversion() - shard.lastCversion, 0);
+            int         depthDelta = stat.getNumChildren() - previous.getDepth();
+            putsPerSecond = Math.max((changes + depthDelta) / 2.0, 0) / elapsedSeconds;
+            takesPerSecond = Math.max((changes - depthDelta) / 2.0, 0) / elapsedSeconds;
+        }
+
+        if ( retired && !shard.isRetired() )
+        {
+            shard.retiredSinceMs = nowMs;
+        }
+        shard.lastCversion = stat.getCversion();
+        shard.estimatedDepth.set(stat.getNumChildren());
+        shard.stats = new QueueShardStats(path, stat.getNumChildren(), putsPerSecond, takesPerSecond, shard.isRetired(), nowMs);
+    }
+
     private void checkThreshold()
     {
         try
@@ -248,13 +400,41 @@ public class QueueSharder<U, T extends QueueBase<U>> implements Closeable
             boolean             addAQueueIfLeader = false;
             int                 size = 0;
             List<String>        children = client.getChildren().forPath(queuePath);
+            Set<String>         childPaths = Sets.newHashSet();
             for ( String child : children )
             {
                 String  queuePath = ZKPaths.makePath(this.queuePath, child);
+                childPaths.add(queuePath);
                 addNewQueueIfNeeded(queuePath);
 
-                Stat    stat = client.checkExists().forPath(queuePath);
-                if ( stat.getNumChildren() >= policies.getNewQueueThreshold() )
+                Stat    stat;
+                boolean retired = false;
+                if ( policies.isLoadBalanced() )
+                {
+                    stat = new Stat();
+                    try
+                    {
+                        byte[]  data = client.getData().storingStatIn(stat).forPath(queuePath);
+                        retired = Arrays.equals(data, RETIRED_MARKER);
+                    }
+                    catch ( KeeperException.NoNodeException ignore )
+                    {
+                        // the queue was drained and deleted
+                        childPaths.remove(queuePath);
+                        continue;
+                    }
+                }
+                else
+                {
+                    stat = client.checkExists().forPath(queuePath);
+                }
+                updateShard(queuePath, stat, retired);
+
+                if ( retired )
+                {
+                    preferredQueues.remove(queuePath);
+                }
+                else if ( stat.getNumChildren() >= policies.getNewQueueThreshold() )
                 {
                     size = stat.getNumChildren();
                     addAQueueIfLeader = true;
@@ -266,6 +446,17 @@ public class QueueSharder<U, T extends QueueBase<U>> implements Closeable
                 }
             }
 
+            if ( policies.isLoadBalanced() )
+            {
+                for ( String path : queues.keySet() )
+                {
+                    if ( !childPaths.contains(path) )
+                    {
+                        removeQueue(path);
+                    }
+                }
+            }
+
             if ( addAQueueIfLeader && leaderLatch.hasLeadership() )
             {
                 if ( queues.size() < policies.getMaxQueues() )
@@ -279,6 +470,10 @@ public class QueueSharder<U, T extends QueueBase<U>> implements Closeable
                     log.warn(String.format("Max number of queues (%d) reached. Consider increasing the max.", policies.getMaxQueues()));
                 }
             }
+            else if ( policies.isLoadBalanced() && leaderLatch.hasLeadership() )
+            {
+                retireAndDeleteQueues();
+            }
         }
         catch ( Exception e )
         {
@@ -286,4 +481,65 @@ public class QueueSharder<U, T extends QueueBase<U>> implements Closeable
             log.error("Checking queue counts against threshold", e);
         }
     }
+
+    private void retireAndDeleteQueues() throws Exception
+    {
+        int                 activeQty = 0;
+        int                 totalActiveDepth = 0;
+        QueueShardStats     leastLoaded = null;
+        for ( Map.Entry<String, Shard> entry : shards.entrySet() )
+        {
+            Shard               shard = entry.getValue();
+            QueueShardStats     stats = shard.stats;
+            if ( stats == null )
+            {
+                continue;
+            }
+
+            if ( stats.isRetired() )
+            {
+                long        retiredMs = System.currentTimeMillis() - shard.retiredSinceMs;
+                if ( (stats.getDepth() == 0) && (retiredMs >= (2L * policies.getThresholdCheckMs())) )
+                {
+                    deleteRetiredQueue(stats.getPath());
+                }
+            }
+            else
+            {
+                ++activeQty;
+                totalActiveDepth += stats.getDepth();
+                if ( (leastLoaded == null) || (stats.getDepth() < leastLoaded.getDepth()) )
+                {
+                    leastLoaded = stats;
+                }
+            }
+        }
+
+        int         lowWaterMark = (activeQty - 1) * (policies.getNewQueueThreshold() / 2);
+        if ( (leastLoaded != null) && (activeQty > 1) && (totalActiveDepth <= lowWaterMark) )
+        {
+            log.info(String.format("Retiring queue due to low load. Queue: %s - Total items: %d - Active queues: %d", leastLoaded.getPath(), totalActiveDepth, activeQty));
+
+            preferredQueues.remove(leastLoaded.getPath());
+            client.setData().forPath(leastLoaded.getPath(), RETIRED_MARKER);
+        }
+    }
+
+    private void deleteRetiredQueue(String path) throws Exception
+    {
+        try
+        {
+            // fails if items were added by a sharder that had not yet seen the retirement
+            client.delete().forPath(path);
+            removeQueue(path);
+        }
+        catch ( KeeperException.NotEmptyException ignore )
+        {
+            // will be tried again after the next check
+        }
+        catch ( KeeperException.NoNodeException ignore )
+        {
+            removeQueue(path);
+        }
+    }
 }
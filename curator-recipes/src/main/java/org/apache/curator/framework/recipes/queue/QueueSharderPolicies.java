@@ -31,6 +31,7 @@ public class QueueSharderPolicies
     private int           thresholdCheckMs;
     private int           maxQueues;
     private ThreadFactory threadFactory;
+    private boolean       loadBalanced;
 
     private static final int       DEFAULT_QUEUE_THRESHOLD = 10000;
     private static final int       DEFAULT_THRESHOLD_CHECK_MS = 30000;
@@ -84,6 +85,29 @@ public class QueueSharderPolicies
             return this;
         }
 
+        /**
+         * <p>
+         *     If true, the sharder balances load amongst its queues. {@link QueueSharder#getQueue()}
+         *     picks two random candidate queues and returns the one with the smaller estimated depth (i.e.
+         *     "power of two choices") instead of a purely random queue. Additionally, when the total number of
+         *     items drops far enough that the remaining queues would stay below half of the
+         *     {@link #newQueueThreshold(int)}, the leader retires the least loaded queue. Retired queues
+         *     receive no new items and are deleted once they have been drained.
+         * </p>
+         *
+         * <p>
+         *     The default is false.
+         * </p>
+         *
+         * @param loadBalanced true/false
+         * @return this
+         */
+        public Builder loadBalanced(boolean loadBalanced)
+        {
+            policies.loadBalanced = loadBalanced;
+            return this;
+        }
+
         /**
          * Change the thread factory that's used to create the sharder's thread
          *
@@ -143,11 +167,17 @@ public class QueueSharderPolicies
         return threadFactory;
     }
 
+    boolean isLoadBalanced()
+    {
+        return loadBalanced;
+    }
+
     private QueueSharderPolicies()
     {
         this.newQueueThreshold = DEFAULT_QUEUE_THRESHOLD;
         this.thresholdCheckMs = DEFAULT_THRESHOLD_CHECK_MS;
         this.maxQueues = DEFAULT_MAX_QUEUES;
         this.threadFactory = QueueBuilder.defaultThreadFactory;
+        this.loadBalanced = false;
     }
 }
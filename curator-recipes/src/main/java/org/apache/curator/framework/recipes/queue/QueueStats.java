@@ -0,0 +1,255 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.curator.framework.recipes.queue;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Consumer side stats for a queue. The values are live and are updated as items are
+ * processed by this instance of the queue.
+ */
+public class QueueStats
+{
+    private final AtomicLong itemsConsumed = new AtomicLong(0);
+    private final AtomicLong consumerErrors = new AtomicLong(0);
+    private final AtomicLong requeues = new AtomicLong(0);
+    private final AtomicLong duplicatesDropped = new AtomicLong(0);
+    private final Histogram enqueueToDequeueMs = new Histogram();
+    private final Histogram processingMs = new Histogram();
+    private final Histogram lockSafetyOverheadMs = new Histogram();
+
+    /**
+     * A histogram of millisecond values. Values are recorded into power-of-two buckets so
+     * percentiles are approximate (the upper bound of the matching bucket is returned).
+     */
+    public static class Histogram
+    {
+        private static final int BUCKET_QTY = 48;
+
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_QTY);
+        private final AtomicLong count = new AtomicLong(0);
+        private final AtomicLong totalMs = new AtomicLong(0);
+        private final AtomicLong maxMs = new AtomicLong(0);
+
+        /**
+         * Returns the number of recorded values
+         *
+         * @return qty
+         */
+        public long getCount()
+        {
+            return count.get();
+        }
+
+        /**
+         * Returns the mean of the recorded values
+         *
+         * @return mean in ms
+         */
+        public double getMeanMs()
+        {
+            long localCount = count.get();
+            return (localCount > 0) ? ((double)totalMs.get() / localCount) : 0;
+        }
+
+        /**
+         * Returns the largest recorded value
+         *
+         * @return max in ms
+         */
+        public long getMaxMs()
+        {
+            return maxMs.get();
+        }
+
+        /**
+         * Returns the approximate value at the given percentile
+         *
+         * @param percentile percentile between 0.0 and 1.0 (e.g. 0.99)
+         * @return value in ms
+         */
+        public long getPercentileMs(double percentile)
+        {
+            long localCount = count.get();
+            if ( localCount == 0 )
+            {
+                return 0;
+            }
+
+            long threshold = (long)Math.ceil(Math.min(Math.max(percentile, 0.0), 1.0) * localCount);
+            long seen = 0;
+            for ( int i = 0; i < BUCKET_QTY; ++i )
+            {
+                seen += buckets.get(i);
+                if ( (seen >= threshold) && (seen > 0) )
+                {
+                    return Math.min(bucketUpperBound(i), maxMs.get());
+                }
+            }
+            return maxMs.get();
+        }
+
+        void record(long valueMs)
+        {
+            valueMs = Math.max(valueMs, 0);
+            buckets.incrementAndGet(bucketFor(valueMs));
+            count.incrementAndGet();
+            totalMs.addAndGet(valueMs);
+
+            long currentMax = maxMs.get();
+            while ( (valueMs > currentMax) && !maxMs.compareAndSet(currentMax, valueMs) )
+            {
+                currentMax = maxMs.get();
+            }
+        }
+
+        private static int bucketFor(long valueMs)
+        {
+            int bucket = 64 - Long.numberOfLeadingZeros(valueMs);    // 0 for 0, 1 for 1, 2 for 2-3, 3 for 4-7, etc.
+            return Math.min(bucket, BUCKET_QTY - 1);
+        }
+
+        private static long bucketUpperBound(int bucket)
+        {
+            return (bucket == 0) ? 0 : ((1L << bucket) - 1);
+        }
+
+        @Override
+        public String toString()
+        {
+            return "Histogram{" +
+                "count=" + getCount() +
+                ", meanMs=" + getMeanMs() +
+                ", p50Ms=" + getPercentileMs(.5) +
+                ", p99Ms=" + getPercentileMs(.99) +
+                ", maxMs=" + getMaxMs() +
+                '}';
+        }
+    }
+
+    /**
+     * Returns the number of items passed to the consumer
+     *
+     * @return qty
+     */
+    public long getItemsConsumed()
+    {
+        return itemsConsumed.get();
+    }
+
+    /**
+     * Returns the number of times the consumer threw an exception
+     *
+     * @return qty
+     */
+    public long getConsumerErrors()
+    {
+        return consumerErrors.get();
+    }
+
+    /**
+     * Returns the number of items that were re-added to the queue due to {@link ErrorMode#REQUEUE}
+     *
+     * @return qty
+     */
+    public long getRequeues()
+    {
+        return requeues.get();
+    }
+
+    /**
+     * Returns the number of items that were dropped without calling the consumer because their id had
+     * already been processed (see {@link QueueBuilder#deduplicate(String, int, int, TimeUnit)})
+     *
+     * @return qty
+     */
+    public long getDuplicatesDropped()
+    {
+        return duplicatesDropped.get();
+    }
+
+    /**
+     * Returns the time between an item being added to the queue and it being taken by this instance.
+     * The time an item was added is the creation time of its ZNode (as recorded by the ZooKeeper server)
+     * so clock differences between the server and this process affect the values.
+     *
+     * @return histogram
+     */
+    public Histogram getEnqueueToDequeueLatency()
+    {
+        return enqueueToDequeueMs;
+    }
+
+    /**
+     * Returns the time spent in {@link QueueConsumer#consumeMessage(Object)}
+     *
+     * @return histogram
+     */
+    public Histogram getProcessingTime()
+    {
+        return processingMs;
+    }
+
+    /**
+     * Returns the time spent acquiring and releasing item locks and removing/requeueing the items processed by this instance
+     * when the queue is using a {@link QueueBuilder#lockPath(String)}. Time spent in the consumer is not included.
+     *
+     * @return histogram
+     */
+    public Histogram getLockSafetyOverhead()
+    {
+        return lockSafetyOverheadMs;
+    }
+
+    void incrementItemsConsumed()
+    {
+        itemsConsumed.incrementAndGet();
+    }
+
+    void incrementConsumerErrors()
+    {
+        consumerErrors.incrementAndGet();
+    }
+
+    void incrementRequeues()
+    {
+        requeues.incrementAndGet();
+    }
+
+    void incrementDuplicatesDropped()
+    {
+        duplicatesDropped.incrementAndGet();
+    }
+
+    @Override
+    public String toString()
+    {
+        return "QueueStats{" +
+            "itemsConsumed=" + itemsConsumed +
+            ", consumerErrors=" + consumerErrors +
+            ", requeues=" + requeues +
+            ", duplicatesDropped=" + duplicatesDropped +
+            ", enqueueToDequeueMs=" + enqueueToDequeueMs +
+            ", processingMs=" + processingMs +
+            ", lockSafetyOverheadMs=" + lockSafetyOverheadMs +
+            '}';
+    }
+}
@@ -18,8 +18,11 @@
  */
 package org.apache.curator.framework.recipes.queue;
 
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
 import org.apache.curator.framework.CuratorFramework;
 import org.apache.curator.framework.EnsureContainers;
+import org.apache.curator.utils.CloseableUtils;
 import org.apache.curator.utils.PathUtils;
 import org.apache.curator.utils.ZKPaths;
 import org.apache.zookeeper.CreateMode;
@@ -28,11 +31,15 @@ import org.apache.zookeeper.WatchedEvent;
 import org.apache.zookeeper.Watcher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import java.io.Closeable;
 import java.util.Collections;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * <p>
@@ -44,25 +51,66 @@ import java.util.concurrent.TimeUnit;
  *     This class is data compatible with the ZK version. i.e. it uses the same naming scheme so
  *     it can read from an existing queue
  * </p>
+ *
+ * <p>
+ *     When created with <code>cooperativeConsumers</code>, all threads that take from the same
+ *     instance share a single watched view of the queue's children. Each local consumer is handed a
+ *     distinct head item and the children are only re-read when the watch fires. This avoids each
+ *     blocked consumer re-reading the entire queue for every item. {@link #close()} should be called
+ *     when the instance is no longer needed.
+ * </p>
  */
-public class SimpleDistributedQueue
+public class SimpleDistributedQueue implements Closeable
 {
     private final Logger log = LoggerFactory.getLogger(getClass());
     private final CuratorFramework client;
     private final String path;
     private final EnsureContainers ensureContainers;
+    private final ChildrenCache childrenCache;
+    private final AtomicBoolean childrenCacheStarted = new AtomicBoolean(false);
+    private final AtomicBoolean isClosed = new AtomicBoolean(false);
+    private final LinkedList<String> pendingNodes = Lists.newLinkedList();
+    private final Set<String> claimedNodes = Sets.newHashSet();
+    private long pendingVersion = -1;
 
     private final String PREFIX = "qn-";
 
+    private static final long COOPERATIVE_RECHECK_MS = 1000;
+
     /**
      * @param client the client
      * @param path path to store queue nodes
      */
     public SimpleDistributedQueue(CuratorFramework client, String path)
+    {
+        this(client, path, false);
+    }
+
+    /**
+     * @param client the client
+     * @param path path to store queue nodes
+     * @param cooperativeConsumers if true, consumers of this instance share a single watched view of the
+     *                             queue and are handed distinct items (see the class description)
+     */
+    public SimpleDistributedQueue(CuratorFramework client, String path, boolean cooperativeConsumers)
     {
         this.client = client;
         this.path = PathUtils.validatePath(path);
         ensureContainers = new EnsureContainers(client, path);
+        childrenCache = cooperativeConsumers ? new ChildrenCache(client, path) : null;
+    }
+
+    /**
+     * Stops the shared view of the queue (if created with <code>cooperativeConsumers</code>). Any subsequent
+     * or blocked takes revert to reading the queue directly.
+     */
+    @Override
+    public void close()
+    {
+        if ( isClosed.compareAndSet(false, true) )
+        {
+            CloseableUtils.closeQuietly(childrenCache);
+        }
     }
 
     /**
@@ -91,7 +139,7 @@ public class SimpleDistributedQueue
      */
     public byte[] remove() throws Exception
     {
-        byte[] bytes = internalElement(true, null);
+        byte[] bytes = isCooperative() ? internalCooperativePoll(0, TimeUnit.MILLISECONDS) : internalElement(true, null);
         if ( bytes == null )
         {
             throw new NoSuchElementException();
@@ -107,7 +155,7 @@ public class SimpleDistributedQueue
      */
     public byte[] take() throws Exception
     {
-        return internalPoll(0, null);
+        return isCooperative() ? internalCooperativePoll(0, null) : internalPoll(0, null);
     }
 
     /**
@@ -156,7 +204,7 @@ public class SimpleDistributedQueue
      */
     public byte[] poll(long timeout, TimeUnit unit) throws Exception
     {
-        return internalPoll(timeout, unit);
+        return isCooperative() ? internalCooperativePoll(timeout, unit) : internalPoll(timeout, unit);
     }
 
     /**
@@ -223,6 +271,116 @@ public class SimpleDistributedQueue
         }
     }
 
+    private boolean isCooperative()
+    {
+        return (childrenCache != null) && !isClosed.get();
+    }
+
+    private byte[] internalCooperativePoll(long timeout, TimeUnit unit) throws Exception
+    {
+        ensurePath();
+        if ( childrenCacheStarted.compareAndSet(false, true) )
+        {
+            childrenCache.start();
+        }
+
+        long            startMs = System.currentTimeMillis();
+        boolean         hasTimeout = (unit != null);
+        long            maxWaitMs = hasTimeout ? TimeUnit.MILLISECONDS.convert(timeout, unit) : Long.MAX_VALUE;
+        for(;;)
+        {
+            if ( isClosed.get() )
+            {
+                long        elapsedMs = System.currentTimeMillis() - startMs;
+                return hasTimeout ? internalPoll(Math.max(maxWaitMs - elapsedMs, 0), TimeUnit.MILLISECONDS) : internalPoll(0, null);
+            }
+
+            String      node;
+            long        version;
+            synchronized(pendingNodes)
+            {
+                node = claimNextNode();
+                version = pendingVersion;
+            }
+
+            if ( node != null )
+            {
+                try
+                {
+                    String  thisPath = ZKPaths.makePath(path, node);
+                    byte[]  bytes = client.getData().forPath(thisPath);
+                    client.delete().forPath(thisPath);
+                    return bytes;
+                }
+                catch ( KeeperException.NoNodeException ignore )
+                {
+                    // Another client removed the node first, try next
+                }
+                finally
+                {
+                    synchronized(pendingNodes)
+                    {
+                        claimedNodes.remove(node);
+                    }
+                }
+                continue;
+            }
+
+            long        thisWaitMs = COOPERATIVE_RECHECK_MS;
+            if ( hasTimeout )
+            {
+                long        elapsedMs = System.currentTimeMillis() - startMs;
+                long        remainingMs = maxWaitMs - elapsedMs;
+                if ( remainingMs <= 0 )
+                {
+                    // the view may lag behind the queue - do a final direct read before giving up
+                    return internalElement(true, null);
+                }
+                thisWaitMs = Math.min(remainingMs, COOPERATIVE_RECHECK_MS);
+            }
+            ChildrenCache.Data  data = childrenCache.blockingNextGetData(version, thisWaitMs, TimeUnit.MILLISECONDS);
+            if ( (data.version == version) && childrenCache.isStale() )
+            {
+                // a failed read (connection loss, the queue node being deleted, etc.) left the view
+                // without a watch - read the children again instead of waiting for a change that never comes
+                childrenCache.refresh();
+            }
+        }
+    }
+
+    // must be called while holding the pendingNodes monitor
+    private String claimNextNode()
+    {
+        ChildrenCache.Data  data = childrenCache.getData();
+        if ( data.version != pendingVersion )
+        {
+            List<String>    nodes = Lists.newArrayList(data.children);
+            Collections.sort(nodes);
+
+            pendingNodes.clear();
+            for ( String node : nodes )
+            {
+                if ( !node.startsWith(PREFIX) )
+                {
+                    log.warn("Foreign node in queue path: " + node);
+                    continue;
+                }
+                if ( !claimedNodes.contains(node) )
+                {
+                    pendingNodes.add(node);
+                }
+            }
+            pendingVersion = data.version;
+        }
+
+        String  node = pendingNodes.poll();
+        if ( node != null )
+        {
+            claimedNodes.add(node);
+        }
+        return node;
+    }
+
     private byte[] internalElement(boolean removeIt, Watcher watcher) throws Exception
     {
         ensurePath();
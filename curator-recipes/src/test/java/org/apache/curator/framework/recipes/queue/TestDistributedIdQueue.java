@@ -26,6 +26,7 @@ import org.apache.curator.framework.CuratorFrameworkFactory;
 import org.apache.curator.framework.state.ConnectionState;
 import org.apache.curator.framework.state.ConnectionStateListener;
 import org.apache.curator.retry.RetryOneTime;
+import org.apache.curator.test.Timing;
 import org.mockito.Mockito;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -82,6 +83,103 @@ public class TestDistributedIdQueue extends BaseClassForTests
         }
     }
 
+    @Test
+    public void testDeduplication() throws Exception
+    {
+        Timing                      timing = new Timing();
+        DistributedIdQueue<TestQueueItem>  queue = null;
+        CuratorFramework client = CuratorFrameworkFactory.newClient(server.getConnectString(), new RetryOneTime(1));
+        client.start();
+        try
+        {
+            BlockingQueueConsumer<TestQueueItem> consumer = new BlockingQueueConsumer<TestQueueItem>(Mockito.mock(ConnectionStateListener.class));
+
+            queue = QueueBuilder.builder(client, consumer, serializer, QUEUE_PATH).lockPath("/locks").deduplicate("/dedup", 100, 1, TimeUnit.HOURS).buildIdQueue();
+            queue.start();
+
+            queue.put(new TestQueueItem("1"), "a");
+            Assert.assertEquals(consumer.take(timing.forWaiting().seconds(), TimeUnit.SECONDS).str, "1");
+            long        startMs = System.currentTimeMillis();
+            while ( (client.getChildren().forPath(QUEUE_PATH).size() > 0) && ((System.currentTimeMillis() - startMs) < timing.forWaiting().milliseconds()) )
+            {
+                timing.sleepABit();
+            }
+            queue.close();  // writes the final checkpoint
+
+            // a different consumer should see the checkpointed id
+            queue = QueueBuilder.builder(client, consumer, serializer, QUEUE_PATH).lockPath("/locks").deduplicate("/dedup", 100, 1, TimeUnit.HOURS).buildIdQueue();
+            queue.start();
+
+            queue.put(new TestQueueItem("2"), "a");
+            queue.put(new TestQueueItem("3"), "b");
+            Assert.assertEquals(consumer.take(timing.forWaiting().seconds(), TimeUnit.SECONDS).str, "3");
+            Assert.assertNull(consumer.take(timing.multiple(.5).seconds(), TimeUnit.SECONDS));
+            Assert.assertEquals(queue.getStats().getDuplicatesDropped(), 1);
+            Assert.assertEquals(client.getChildren().forPath(QUEUE_PATH).size(), 0);
+        }
+        finally
+        {
+            CloseableUtils.closeQuietly(queue);
+            CloseableUtils.closeQuietly(client);
+        }
+    }
+
+    @Test
+    public void testDeduplicationAfterConsumerDies() throws Exception
+    {
+        Timing                      timing = new Timing();
+        DistributedIdQueue<TestQueueItem>  deadQueue = null;
+        DistributedIdQueue<TestQueueItem>  queue = null;
+        CuratorFramework deadClient = CuratorFrameworkFactory.newClient(server.getConnectString(), new RetryOneTime(1));
+        CuratorFramework client = CuratorFrameworkFactory.newClient(server.getConnectString(), new RetryOneTime(1));
+        deadClient.start();
+        client.start();
+        try
+        {
+            DistributedIdQueue<TestQueueItem>  producer = QueueBuilder.builder(client, null, serializer, QUEUE_PATH).buildIdQueue();
+            producer.start();
+            producer.put(new TestQueueItem("1"), "a");
+            producer.close();
+
+            // a child keeps the item from being deleted - i.e. the consumer dies after processing but before the delete
+            String      itemNode = client.getChildren().forPath(QUEUE_PATH).get(0);
+            client.create().forPath(QUEUE_PATH + "/" + itemNode + "/pin");
+
+            BlockingQueueConsumer<TestQueueItem> deadConsumer = new BlockingQueueConsumer<TestQueueItem>(Mockito.mock(ConnectionStateListener.class));
+            deadQueue = QueueBuilder.builder(deadClient, deadConsumer, serializer, QUEUE_PATH).lockPath("/locks").deduplicate("/dedup", 100, 1, TimeUnit.HOURS).buildIdQueue();
+            deadQueue.start();
+            Assert.assertEquals(deadConsumer.take(timing.forWaiting().seconds(), TimeUnit.SECONDS).str, "1");
+
+            // the item is marked as processed before the delete is attempted
+            String      itemPath = QUEUE_PATH + "/" + itemNode;
+            long        startMs = System.currentTimeMillis();
+            while ( (client.checkExists().forPath(itemPath).getVersion() == 0) && ((System.currentTimeMillis() - startMs) < timing.forWaiting().milliseconds()) )
+            {
+                timing.sleepABit();
+            }
+            Assert.assertTrue(client.checkExists().forPath(itemPath).getVersion() > 0);
+
+            // no final checkpoint - the consumer is gone
+            deadClient.close();
+            client.delete().forPath(itemPath + "/pin");
+
+            BlockingQueueConsumer<TestQueueItem> consumer = new BlockingQueueConsumer<TestQueueItem>(Mockito.mock(ConnectionStateListener.class));
+            queue = QueueBuilder.builder(client, consumer, serializer, QUEUE_PATH).lockPath("/locks").deduplicate("/dedup", 100, 1, TimeUnit.HOURS).buildIdQueue();
+            queue.start();
+
+            Assert.assertNull(consumer.take(timing.multiple(.5).seconds(), TimeUnit.SECONDS));
+            Assert.assertEquals(queue.getStats().getDuplicatesDropped(), 1);
+            Assert.assertEquals(client.getChildren().forPath(QUEUE_PATH).size(), 0);
+        }
+        finally
+        {
+            CloseableUtils.closeQuietly(queue);
+            CloseableUtils.closeQuietly(deadQueue);
+            CloseableUtils.closeQuietly(client);
+            CloseableUtils.closeQuietly(deadClient);
+        }
+    }
+
     @Test
     public void testOrdering() throws Exception
     {
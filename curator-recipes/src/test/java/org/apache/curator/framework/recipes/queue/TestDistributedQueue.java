@@ -175,7 +175,8 @@ public class TestDistributedQueue extends BaseClassForTests
                 "/lock",
                 QueueBuilder.NOT_SET,
                 true,
-                5000
+                5000,
+                QueueBuilder.NOT_SET
             )
             {
                 @SuppressWarnings("SimplifiableConditionalExpression")
@@ -329,6 +330,64 @@ public class TestDistributedQueue extends BaseClassForTests
         }
     }
 
+    @Test
+    public void     testStats() throws Exception
+    {
+        Timing                    timing = new Timing();
+        CuratorFramework          client = CuratorFrameworkFactory.newClient(server.getConnectString(), timing.session(), timing.connection(), new RetryOneTime(1));
+        client.start();
+        try
+        {
+            final CountDownLatch                    latch = new CountDownLatch(2);
+            final AtomicInteger                     count = new AtomicInteger(0);
+            QueueConsumer<TestQueueItem>            consumer = new QueueConsumer<TestQueueItem>()
+            {
+                @Override
+                public void consumeMessage(TestQueueItem message) throws Exception
+                {
+                    if ( count.incrementAndGet() < 2 )
+                    {
+                        throw new Exception();
+                    }
+                    latch.countDown();
+                }
+
+                @Override
+                public void stateChanged(CuratorFramework client, ConnectionState newState)
+                {
+                }
+            };
+            DistributedQueue<TestQueueItem> queue = QueueBuilder.builder(client, consumer, serializer, QUEUE_PATH).lockPath("/locks").buildQueue();
+            try
+            {
+                queue.start();
+
+                queue.put(new TestQueueItem("1"));
+                queue.put(new TestQueueItem("2"));
+
+                Assert.assertTrue(timing.awaitLatch(latch));
+                timing.sleepABit();
+
+                QueueStats      stats = queue.getStats();
+                Assert.assertEquals(stats.getItemsConsumed(), 3);
+                Assert.assertEquals(stats.getConsumerErrors(), 1);
+                Assert.assertEquals(stats.getRequeues(), 1);
+                Assert.assertEquals(stats.getProcessingTime().getCount(), 3);
+                Assert.assertEquals(stats.getEnqueueToDequeueLatency().getCount(), 3);
+                Assert.assertEquals(stats.getLockSafetyOverhead().getCount(), 3);
+                Assert.assertTrue(stats.getLockSafetyOverhead().getPercentileMs(.99) <= stats.getLockSafetyOverhead().getMaxMs());
+            }
+            finally
+            {
+                queue.close();
+            }
+        }
+        finally
+        {
+            client.close();
+        }
+    }
+
     @Test
     public void     testNoDuplicateProcessing() throws Exception
     {
@@ -705,7 +764,7 @@ public class TestDistributedQueue extends BaseClassForTests
         try
         {
             final AtomicBoolean     firstTime = new AtomicBoolean(true);
-            queue = new DistributedQueue<TestQueueItem>(client, null, serializer, "/test", new ThreadFactoryBuilder().build(), MoreExecutors.sameThreadExecutor(), 10, true, null, QueueBuilder.NOT_SET, true, 0)
+            queue = new DistributedQueue<TestQueueItem>(client, null, serializer, "/test", new ThreadFactoryBuilder().build(), MoreExecutors.sameThreadExecutor(), 10, true, null, QueueBuilder.NOT_SET, true, 0, QueueBuilder.NOT_SET)
             {
                 @Override
                 void internalCreateNode(final String path, final byte[] bytes, final BackgroundCallback callback) throws Exception
@@ -792,4 +851,64 @@ public class TestDistributedQueue extends BaseClassForTests
             CloseableUtils.closeQuietly(client);
         }
     }
+
+    @Test
+    public void     testPipelinedSlowItemDoesNotBlockOthers() throws Exception
+    {
+        final int                   itemQty = 10;
+
+        Timing                      timing = new Timing();
+        DistributedQueue<TestQueueItem>  queue = null;
+        CuratorFramework client = CuratorFrameworkFactory.newClient(server.getConnectString(), new RetryOneTime(1));
+        client.start();
+        try
+        {
+            final CountDownLatch        slowStartedLatch = new CountDownLatch(1);
+            final CountDownLatch        slowLatch = new CountDownLatch(1);
+            final CountDownLatch        fastLatch = new CountDownLatch(itemQty);
+            QueueConsumer<TestQueueItem> consumer = new QueueConsumer<TestQueueItem>()
+            {
+                @Override
+                public void consumeMessage(TestQueueItem message) throws Exception
+                {
+                    if ( message.str.equals("slow") )
+                    {
+                        slowStartedLatch.countDown();
+                        slowLatch.await();
+                    }
+                    else
+                    {
+                        fastLatch.countDown();
+                    }
+                }
+
+                @Override
+                public void stateChanged(CuratorFramework client, ConnectionState newState)
+                {
+                }
+            };
+
+            queue = QueueBuilder.builder(client, consumer, serializer, QUEUE_PATH).pipelined(2).buildQueue();
+            queue.start();
+
+            queue.put(new TestQueueItem("slow"));
+            Assert.assertTrue(timing.awaitLatch(slowStartedLatch));
+
+            for ( int i = 0; i < itemQty; ++i )
+            {
+                queue.put(new TestQueueItem(Integer.toString(i)));
+            }
+            Assert.assertTrue(timing.awaitLatch(fastLatch));
+            Assert.assertEquals(slowLatch.getCount(), 1);
+
+            slowLatch.countDown();
+            timing.sleepABit();
+            Assert.assertEquals(client.getChildren().forPath(QUEUE_PATH).size(), 0);
+        }
+        finally
+        {
+            CloseableUtils.closeQuietly(queue);
+            CloseableUtils.closeQuietly(client);
+        }
+    }
 }
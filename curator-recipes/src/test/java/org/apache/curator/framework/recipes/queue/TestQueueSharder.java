@@ -30,6 +30,7 @@ import org.apache.curator.test.Timing;
 import org.apache.curator.utils.CloseableUtils;
 import org.testng.Assert;
 import org.testng.annotations.Test;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
@@ -188,6 +189,67 @@ public class TestQueueSharder extends BaseClassForTests
         }
     }
 
+    @Test
+    public void     testLoadBalancedRetiresDrainedQueues() throws Exception
+    {
+        final int               threshold = 10;
+
+        Timing                  timing = new Timing();
+        CuratorFramework        client = CuratorFrameworkFactory.newClient(server.getConnectString(), timing.session(), timing.connection(), new RetryOneTime(1));
+
+        final CountDownLatch                    latch = new CountDownLatch(1);
+        final BlockingQueueConsumer<String>     consumer = makeConsumer(latch);
+        QueueAllocator<String, DistributedQueue<String>>    distributedQueueAllocator = makeAllocator(consumer);
+        QueueSharderPolicies        policies = QueueSharderPolicies.builder().newQueueThreshold(threshold).thresholdCheckMs(1).loadBalanced(true).build();
+        QueueSharder<String, DistributedQueue<String>>  sharder = new QueueSharder<String, DistributedQueue<String>>(client, distributedQueueAllocator, "/queues", "/leader", policies);
+        try
+        {
+            client.start();
+            sharder.start();
+
+            for ( int i = 0; i < (threshold * 4); ++i )
+            {
+                sharder.getQueue().put(Integer.toString(i));
+                Thread.sleep(5);
+            }
+            timing.sleepABit();
+
+            Assert.assertTrue(sharder.getShardQty() > 1);
+            Map<String, QueueShardStats>    stats = sharder.getShardStats();
+            Assert.assertEquals(stats.keySet(), Sets.newHashSet(sharder.getQueuePaths()));
+            for ( QueueShardStats shardStats : stats.values() )
+            {
+                Assert.assertTrue(shardStats.getDepth() <= threshold * 2, shardStats.toString());
+            }
+
+            latch.countDown();
+            Set<String>             consumed = Sets.newHashSet();
+            for ( int i = 0; i < (threshold * 4); ++i )
+            {
+                String s = consumer.take(timing.forWaiting().milliseconds(), TimeUnit.MILLISECONDS);
+                Assert.assertNotNull(s);
+                consumed.add(s);
+            }
+            Assert.assertEquals(consumed.size(), threshold * 4);
+
+            long        startMs = System.currentTimeMillis();
+            while ( (sharder.getShardQty() > 1) && ((System.currentTimeMillis() - startMs) < timing.forWaiting().milliseconds()) )
+            {
+                timing.sleepABit();
+            }
+            Assert.assertEquals(sharder.getShardQty(), 1);
+            Assert.assertEquals(client.getChildren().forPath("/queues").size(), 1);
+
+            sharder.getQueue().put("last");
+            Assert.assertEquals(consumer.take(timing.forWaiting().milliseconds(), TimeUnit.MILLISECONDS), "last");
+        }
+        finally
+        {
+            CloseableUtils.closeQuietly(sharder);
+            CloseableUtils.closeQuietly(client);
+        }
+    }
+
     private QueueAllocator<String, DistributedQueue<String>> makeAllocator(final QueueConsumer<String> consumer)
     {
         final QueueSerializer<String> serializer = new QueueSerializer<String>()
@@ -18,15 +18,26 @@
  */
 package org.apache.curator.framework.recipes.queue;
 
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
 import org.apache.curator.test.BaseClassForTests;
+import org.apache.curator.test.Timing;
 import org.apache.curator.utils.CloseableUtils;
 import org.apache.curator.framework.CuratorFramework;
 import org.apache.curator.framework.CuratorFrameworkFactory;
 import org.apache.curator.retry.RetryOneTime;
 import org.testng.Assert;
 import org.testng.annotations.Test;
+import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertTrue;
@@ -407,6 +418,101 @@ public class TestSimpleDistributedQueue extends BaseClassForTests
         }
     }
 
+    @Test
+    public void testCooperativeConsumers() throws Exception
+    {
+        final int itemQty = 100;
+        final int consumerQty = 10;
+        CuratorFramework client = CuratorFrameworkFactory.newClient(server.getConnectString(), new RetryOneTime(1));
+        final SimpleDistributedQueue queue = new SimpleDistributedQueue(client, "/testCooperative", true);
+        ExecutorService executorService = Executors.newFixedThreadPool(consumerQty);
+        try
+        {
+            client.start();
+
+            final Set<String> consumed = Sets.newSetFromMap(Maps.<String, Boolean>newConcurrentMap());
+            final AtomicInteger takeQty = new AtomicInteger(0);
+            List<Future<Void>> futures = Lists.newArrayList();
+            for ( int i = 0; i < consumerQty; ++i )
+            {
+                futures.add(executorService.submit(new Callable<Void>()
+                {
+                    @Override
+                    public Void call() throws Exception
+                    {
+                        while ( takeQty.getAndIncrement() < itemQty )
+                        {
+                            consumed.add(new String(queue.take()));
+                        }
+                        return null;
+                    }
+                }));
+            }
+
+            for ( int i = 0; i < itemQty; ++i )
+            {
+                queue.offer(Integer.toString(i).getBytes());
+            }
+            for ( Future<Void> future : futures )
+            {
+                future.get(new Timing().forWaiting().milliseconds(), TimeUnit.MILLISECONDS);
+            }
+
+            assertEquals(consumed.size(), itemQty);
+            Assert.assertNull(queue.poll());
+            Assert.assertNull(queue.poll(1, TimeUnit.SECONDS));
+
+            queue.offer("last".getBytes());
+            assertEquals(new String(queue.remove()), "last");
+        }
+        finally
+        {
+            executorService.shutdownNow();
+            CloseableUtils.closeQuietly(queue);
+            CloseableUtils.closeQuietly(client);
+        }
+    }
+
+    @Test
+    public void testCooperativeTakeAfterLostWatch() throws Exception
+    {
+        Timing timing = new Timing();
+        CuratorFramework client = CuratorFrameworkFactory.newClient(server.getConnectString(), new RetryOneTime(1));
+        final SimpleDistributedQueue queue = new SimpleDistributedQueue(client, "/testLostWatch", true);
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try
+        {
+            client.start();
+
+            Future<byte[]> take = executorService.submit(new Callable<byte[]>()
+            {
+                @Override
+                public byte[] call() throws Exception
+                {
+                    return queue.take();
+                }
+            });
+            while ( client.checkExists().forPath("/testLostWatch") == null )
+            {
+                timing.sleepABit();
+            }
+            timing.sleepABit();
+
+            // re-reading the children of the deleted node fails, which leaves the shared view without a watch
+            client.delete().forPath("/testLostWatch");
+            timing.sleepABit();
+            queue.offer("one".getBytes());
+
+            assertEquals(new String(take.get(timing.forWaiting().milliseconds(), TimeUnit.MILLISECONDS)), "one");
+        }
+        finally
+        {
+            executorService.shutdownNow();
+            CloseableUtils.closeQuietly(queue);
+            CloseableUtils.closeQuietly(client);
+        }
+    }
+
     private void closeAll(CuratorFramework[] clients)
     {
         if ( clients != null )
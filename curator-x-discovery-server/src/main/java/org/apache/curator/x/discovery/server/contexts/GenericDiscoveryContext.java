@@ -21,7 +21,9 @@ package org.apache.curator.x.discovery.server.contexts;
 import com.google.common.reflect.TypeToken;
 import org.apache.curator.x.discovery.ProviderStrategy;
 import org.apache.curator.x.discovery.ServiceDiscovery;
+import org.apache.curator.x.discovery.server.rest.CachedDiscoveryContext;
 import org.apache.curator.x.discovery.server.rest.DiscoveryContext;
+import org.apache.curator.x.discovery.server.rest.InstanceCacheManager;
 import org.codehaus.jackson.JsonNode;
 import org.codehaus.jackson.map.ObjectMapper;
 import org.codehaus.jackson.node.ObjectNode;
@@ -32,12 +34,13 @@ import javax.ws.rs.ext.Provider;
  * For convenience, a version of {@link DiscoveryContext} that uses any generic type as the payload
  */
 @Provider
-public class GenericDiscoveryContext<T> implements DiscoveryContext<T>, ContextResolver<DiscoveryContext<T>>
+public class GenericDiscoveryContext<T> implements CachedDiscoveryContext<T>, ContextResolver<DiscoveryContext<T>>
 {
     private final ServiceDiscovery<T> serviceDiscovery;
     private final ProviderStrategy<T> providerStrategy;
     private final int instanceRefreshMs;
     private final TypeToken<T> payloadType;
+    private volatile InstanceCacheManager<T> instanceCacheManager = null;
 
     public GenericDiscoveryContext(ServiceDiscovery<T> serviceDiscovery, ProviderStrategy<T> providerStrategy, int instanceRefreshMs, Class<T> payloadType)
     {
@@ -64,6 +67,23 @@ public class GenericDiscoveryContext<T> implements DiscoveryContext<T>, ContextR
         return instanceRefreshMs;
     }
 
+    @Override
+    public InstanceCacheManager<T> getInstanceCacheManager()
+    {
+        return instanceCacheManager;
+    }
+
+    /**
+     * Serve requests from the given cache manager instead of reading ZooKeeper for each request.
+     * The caller is responsible for starting and closing the manager.
+     *
+     * @param instanceCacheManager cache manager or null
+     */
+    public void setInstanceCacheManager(InstanceCacheManager<T> instanceCacheManager)
+    {
+        this.instanceCacheManager = instanceCacheManager;
+    }
+
     @Override
     public ServiceDiscovery<T> getServiceDiscovery()
     {
@@ -20,7 +20,9 @@ package org.apache.curator.x.discovery.server.contexts;
 
 import org.apache.curator.x.discovery.ProviderStrategy;
 import org.apache.curator.x.discovery.ServiceDiscovery;
+import org.apache.curator.x.discovery.server.rest.CachedDiscoveryContext;
 import org.apache.curator.x.discovery.server.rest.DiscoveryContext;
+import org.apache.curator.x.discovery.server.rest.InstanceCacheManager;
 import org.codehaus.jackson.JsonNode;
 import org.codehaus.jackson.node.ObjectNode;
 import javax.ws.rs.ext.ContextResolver;
@@ -31,11 +33,12 @@ import javax.ws.rs.ext.Provider;
  * payload
  */
 @Provider
-public class IntegerDiscoveryContext implements DiscoveryContext<Integer>, ContextResolver<DiscoveryContext<Integer>>
+public class IntegerDiscoveryContext implements CachedDiscoveryContext<Integer>, ContextResolver<DiscoveryContext<Integer>>
 {
     private final ServiceDiscovery<Integer> serviceDiscovery;
     private final ProviderStrategy<Integer> providerStrategy;
     private final int instanceRefreshMs;
+    private volatile InstanceCacheManager<Integer> instanceCacheManager = null;
 
     public IntegerDiscoveryContext(ServiceDiscovery<Integer> serviceDiscovery, ProviderStrategy<Integer> providerStrategy, int instanceRefreshMs)
     {
@@ -56,6 +59,23 @@ public class IntegerDiscoveryContext implements DiscoveryContext<Integer>, Conte
         return instanceRefreshMs;
     }
 
+    @Override
+    public InstanceCacheManager<Integer> getInstanceCacheManager()
+    {
+        return instanceCacheManager;
+    }
+
+    /**
+     * Serve requests from the given cache manager instead of reading ZooKeeper for each request.
+     * The caller is responsible for starting and closing the manager.
+     *
+     * @param instanceCacheManager cache manager or null
+     */
+    public void setInstanceCacheManager(InstanceCacheManager<Integer> instanceCacheManager)
+    {
+        this.instanceCacheManager = instanceCacheManager;
+    }
+
     @Override
     public ServiceDiscovery<Integer> getServiceDiscovery()
     {
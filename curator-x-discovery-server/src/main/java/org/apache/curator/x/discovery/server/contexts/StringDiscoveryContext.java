@@ -20,7 +20,9 @@ package org.apache.curator.x.discovery.server.contexts;
 
 import org.apache.curator.x.discovery.ProviderStrategy;
 import org.apache.curator.x.discovery.ServiceDiscovery;
+import org.apache.curator.x.discovery.server.rest.CachedDiscoveryContext;
 import org.apache.curator.x.discovery.server.rest.DiscoveryContext;
+import org.apache.curator.x.discovery.server.rest.InstanceCacheManager;
 import org.codehaus.jackson.JsonNode;
 import org.codehaus.jackson.node.ObjectNode;
 import javax.ws.rs.ext.ContextResolver;
@@ -31,11 +33,12 @@ import javax.ws.rs.ext.Provider;
  * payload
  */
 @Provider
-public class StringDiscoveryContext implements DiscoveryContext<String>, ContextResolver<DiscoveryContext<String>>
+public class StringDiscoveryContext implements CachedDiscoveryContext<String>, ContextResolver<DiscoveryContext<String>>
 {
     private final ServiceDiscovery<String> serviceDiscovery;
     private final ProviderStrategy<String> providerStrategy;
     private final int instanceRefreshMs;
+    private volatile InstanceCacheManager<String> instanceCacheManager = null;
 
     public StringDiscoveryContext(ServiceDiscovery<String> serviceDiscovery, ProviderStrategy<String> providerStrategy, int instanceRefreshMs)
     {
@@ -56,6 +59,23 @@ public class StringDiscoveryContext implements DiscoveryContext<String>, Context
         return instanceRefreshMs;
     }
 
+    @Override
+    public InstanceCacheManager<String> getInstanceCacheManager()
+    {
+        return instanceCacheManager;
+    }
+
+    /**
+     * Serve requests from the given cache manager instead of reading ZooKeeper for each request.
+     * The caller is responsible for starting and closing the manager.
+     *
+     * @param instanceCacheManager cache manager or null
+     */
+    public void setInstanceCacheManager(InstanceCacheManager<String> instanceCacheManager)
+    {
+        this.instanceCacheManager = instanceCacheManager;
+    }
+
     @Override
     public ServiceDiscovery<String> getServiceDiscovery()
     {
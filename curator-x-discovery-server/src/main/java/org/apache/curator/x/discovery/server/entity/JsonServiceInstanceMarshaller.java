@@ -80,7 +80,7 @@ public class JsonServiceInstanceMarshaller<T> implements MessageBodyReader<Servi
         return builder.build();
     }
 
-    static<T> ObjectNode writeInstance(ObjectMapper mapper, ServiceInstance<T> instance, DiscoveryContext<T> context)
+    public static<T> ObjectNode writeInstance(ObjectMapper mapper, ServiceInstance<T> instance, DiscoveryContext<T> context)
     {
         ObjectNode  node = mapper.createObjectNode();
         node.put("name", instance.getName());
@@ -0,0 +1,143 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.curator.x.discovery.server.rest;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.hash.Hashing;
+import org.apache.curator.x.discovery.ServiceInstance;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An immutable snapshot of the instances of a service along with their pre-serialized JSON
+ * representations and entity tags
+ */
+public class CachedInstances<T>
+{
+    private final long version;
+    private final List<ServiceInstance<T>> instances;
+    private final ImmutableMap<String, ServiceInstance<T>> instancesById;
+    private final byte[] json;
+    private final String entityTag;
+    private final ImmutableMap<String, byte[]> instanceJson;
+    private final ImmutableMap<String, String> instanceEntityTags;
+
+    CachedInstances(long version, List<ServiceInstance<T>> instances, byte[] json, ImmutableMap<String, byte[]> instanceJson)
+    {
+        this.version = version;
+        this.instances = ImmutableList.copyOf(instances);
+        this.json = json;
+        this.instanceJson = instanceJson;
+        entityTag = makeEntityTag(json);
+
+        ImmutableMap.Builder<String, ServiceInstance<T>> builder = ImmutableMap.builder();
+        for ( ServiceInstance<T> instance : this.instances )
+        {
+            builder.put(instance.getId(), instance);
+        }
+        instancesById = builder.build();
+
+        ImmutableMap.Builder<String, String> tagsBuilder = ImmutableMap.builder();
+        for ( Map.Entry<String, byte[]> entry : instanceJson.entrySet() )
+        {
+            tagsBuilder.put(entry.getKey(), makeEntityTag(entry.getValue()));
+        }
+        instanceEntityTags = tagsBuilder.build();
+    }
+
+    /**
+     * Returns a number that changes each time the set of instances changes. Versions are unique
+     * within the {@link InstanceCacheManager} that created the snapshot.
+     *
+     * @return version
+     */
+    public long getVersion()
+    {
+        return version;
+    }
+
+    /**
+     * Returns the instances
+     *
+     * @return immutable list
+     */
+    public List<ServiceInstance<T>> getInstances()
+    {
+        return instances;
+    }
+
+    /**
+     * Returns the given instance
+     *
+     * @param id instance id
+     * @return instance or null
+     */
+    public ServiceInstance<T> getInstance(String id)
+    {
+        return instancesById.get(id);
+    }
+
+    /**
+     * Returns the JSON for all of the instances. The returned array must not be modified.
+     *
+     * @return JSON bytes
+     */
+    public byte[] getJson()
+    {
+        return json;
+    }
+
+    /**
+     * Returns an entity tag for the JSON of all of the instances
+     *
+     * @return tag
+     */
+    public String getEntityTag()
+    {
+        return entityTag;
+    }
+
+    /**
+     * Returns the JSON for the given instance. The returned array must not be modified.
+     *
+     * @param id instance id
+     * @return JSON bytes or null
+     */
+    public byte[] getInstanceJson(String id)
+    {
+        return instanceJson.get(id);
+    }
+
+    /**
+     * Returns an entity tag for the JSON of the given instance
+     *
+     * @param id instance id
+     * @return tag or null
+     */
+    public String getInstanceEntityTag(String id)
+    {
+        return instanceEntityTags.get(id);
+    }
+
+    private static String makeEntityTag(byte[] bytes)
+    {
+        return Hashing.murmur3_128().hashBytes(bytes).toString();
+    }
+}
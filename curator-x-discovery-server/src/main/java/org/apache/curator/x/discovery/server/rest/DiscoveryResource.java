@@ -29,16 +29,22 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DELETE;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
+import javax.ws.rs.HeaderParam;
 import javax.ws.rs.PUT;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
+import javax.ws.rs.QueryParam;
 import javax.ws.rs.Produces;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 /**
  * <p>
@@ -66,11 +72,20 @@ import java.util.List;
  *     }
  * }
  * </pre>
+ *
+ * <p>
+ * If the context is a {@link CachedDiscoveryContext} with an {@link InstanceCacheManager}, the GET requests
+ * are served from {@link org.apache.curator.x.discovery.ServiceCache}s and responses carry an ETag. Requests that
+ * send a matching If-None-Match header get a 304 (Not Modified) response.
+ * </p>
  */
 public abstract class DiscoveryResource<T>
 {
     private static final Logger     log = LoggerFactory.getLogger(DiscoveryResource.class);
 
+    private static final long       MAX_WATCH_MS = TimeUnit.MINUTES.toMillis(5);
+    private static final int        NOT_IMPLEMENTED = 501;
+
     private final DiscoveryContext<T> context;
 
     public DiscoveryResource(DiscoveryContext<T> context)
@@ -138,15 +153,20 @@ public abstract class DiscoveryResource<T>
     @Produces(MediaType.APPLICATION_JSON)
     public Response     getDeprecated(@PathParam("name") String name, @PathParam("id") String id)
     {
-        return internalGet(name, id, true);
+        return internalGet(name, id, true, null);
     }
-    
+
+    public Response     get(String name, String id)
+    {
+        return get(name, id, null);
+    }
+
     @GET
     @Path("v1/service/{name}/{id}")
     @Produces(MediaType.APPLICATION_JSON)
-    public Response     get(@PathParam("name") String name, @PathParam("id") String id)
+    public Response     get(@PathParam("name") String name, @PathParam("id") String id, @HeaderParam(HttpHeaders.IF_NONE_MATCH) String ifNoneMatch)
     {
-        return internalGet(name, id, false);
+        return internalGet(name, id, false, ifNoneMatch);
     }
 
     @GET
@@ -167,13 +187,24 @@ public abstract class DiscoveryResource<T>
         }
     }
 
+    public Response     getAll(String name)
+    {
+        return getAll(name, null);
+    }
+
     @GET
     @Path("v1/service/{name}")
     @Produces(MediaType.APPLICATION_JSON)
-    public Response     getAll(@PathParam("name") String name)
+    public Response     getAll(@PathParam("name") String name, @HeaderParam(HttpHeaders.IF_NONE_MATCH) String ifNoneMatch)
     {
         try
         {
+            CachedInstances<T>              cached = getCachedInstances(name);
+            if ( cached != null )
+            {
+                return cachedResponse(cached.getJson(), cached.getEntityTag(), ifNoneMatch);
+            }
+
             Collection<ServiceInstance<T>>  instances = context.getServiceDiscovery().queryForInstances(name);
             return Response.ok(new ServiceInstances<T>(instances)).build();
         }
@@ -185,6 +216,46 @@ public abstract class DiscoveryResource<T>
         }
     }
 
+    /**
+     * Long-poll for changes to the instances of a service. Blocks until the instances no longer
+     * match the given version or until the timeout elapses. The version is the ETag of a previous
+     * response from this method or {@link #getAll(String, String)}. If the instances changed, the response
+     * is the same as {@link #getAll(String, String)}. If the timeout elapsed, the response is 304 (Not Modified).
+     * Requires an {@link InstanceCacheManager} (see {@link CachedDiscoveryContext}). NOTE: the request
+     * thread is blocked while waiting.
+     *
+     * @param name service name
+     * @param version ETag of the instances the caller has or null/empty to return immediately
+     * @param timeoutMs max time to wait (capped at 5 minutes)
+     * @return response
+     */
+    @GET
+    @Path("v1/watch/{name}")
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response     watch(@PathParam("name") String name, @QueryParam("version") String version, @QueryParam("timeoutMs") @DefaultValue("30000") long timeoutMs)
+    {
+        InstanceCacheManager<T>     cacheManager = getInstanceCacheManager();
+        if ( cacheManager == null )
+        {
+            log.error("Watching requires an InstanceCacheManager");
+            return Response.status(NOT_IMPLEMENTED).build();
+        }
+
+        try
+        {
+            String                  localVersion = (version != null) ? normalizeEntityTag(version) : "";
+            long                    maxWaitMs = localVersion.isEmpty() ? 0 : Math.max(0, Math.min(timeoutMs, MAX_WATCH_MS));
+            CachedInstances<T>      cached = cacheManager.waitForChange(name, localVersion, maxWaitMs, TimeUnit.MILLISECONDS);
+            return cachedResponse(cached.getJson(), cached.getEntityTag(), localVersion);
+        }
+        catch ( Exception e )
+        {
+            ThreadUtils.checkInterrupted(e);
+            log.error(String.format("Trying to watch instances of service (%s)", name), e);
+            return Response.serverError().build();
+        }
+    }
+
     @GET
     @Path("v1/anyservice/{name}")
     @Produces(MediaType.APPLICATION_JSON)
@@ -192,7 +263,8 @@ public abstract class DiscoveryResource<T>
     {
         try
         {
-            final List<ServiceInstance<T>>   instances = Lists.newArrayList(context.getServiceDiscovery().queryForInstances(name));
+            final CachedInstances<T>         cached = getCachedInstances(name);
+            final List<ServiceInstance<T>>   instances = (cached != null) ? cached.getInstances() : Lists.newArrayList(context.getServiceDiscovery().queryForInstances(name));
             ServiceInstance<?>               randomInstance = context.getProviderStrategy().getInstance
                 (
                     new InstanceProvider<T>()
@@ -208,6 +280,10 @@ public abstract class DiscoveryResource<T>
             {
                 return Response.status(Response.Status.NOT_FOUND).build();
             }
+            if ( cached != null )
+            {
+                return Response.ok(cached.getInstanceJson(randomInstance.getId()), MediaType.APPLICATION_JSON_TYPE).build();
+            }
             return Response.ok(randomInstance).build();
         }
         catch ( Exception e )
@@ -218,16 +294,27 @@ public abstract class DiscoveryResource<T>
         }
     }
 
-    private Response internalGet(String name, String id, boolean addDeprecationHeader)
+    private Response internalGet(String name, String id, boolean addDeprecationHeader, String ifNoneMatch)
     {
         try
         {
-            ServiceInstance<T> instance = context.getServiceDiscovery().queryForInstance(name, id);
-            if ( instance == null )
+            Response.ResponseBuilder builder;
+            CachedInstances<T> cached = getCachedInstances(name);
+            byte[] json = (cached != null) ? cached.getInstanceJson(id) : null;
+            if ( json != null )
             {
-                return Response.status(Response.Status.NOT_FOUND).build();
+                builder = cachedResponseBuilder(json, cached.getInstanceEntityTag(id), ifNoneMatch);
+            }
+            else
+            {
+                // not cached or not in the cache yet (e.g. just registered)
+                ServiceInstance<T> instance = context.getServiceDiscovery().queryForInstance(name, id);
+                if ( instance == null )
+                {
+                    return Response.status(Response.Status.NOT_FOUND).build();
+                }
+                builder = Response.ok(instance);
             }
-            Response.ResponseBuilder builder = Response.ok(instance);
             if ( addDeprecationHeader )
             {
                 builder = builder.header("Warning", "This API has been deprecated. Please see the updated spec for the replacement API.");
@@ -241,4 +328,62 @@ public abstract class DiscoveryResource<T>
             return Response.serverError().build();
         }
     }
+
+    private CachedInstances<T> getCachedInstances(String name) throws Exception
+    {
+        InstanceCacheManager<T> cacheManager = getInstanceCacheManager();
+        return (cacheManager != null) ? cacheManager.getInstances(name) : null;
+    }
+
+    private InstanceCacheManager<T> getInstanceCacheManager()
+    {
+        return (context instanceof CachedDiscoveryContext) ? ((CachedDiscoveryContext<T>)context).getInstanceCacheManager() : null;
+    }
+
+    private static Response cachedResponse(byte[] json, String entityTag, String ifNoneMatch)
+    {
+        return cachedResponseBuilder(json, entityTag, ifNoneMatch).build();
+    }
+
+    private static Response.ResponseBuilder cachedResponseBuilder(byte[] json, String entityTag, String ifNoneMatch)
+    {
+        EntityTag tag = new EntityTag(entityTag);
+        if ( matchesEntityTag(ifNoneMatch, entityTag) )
+        {
+            return Response.notModified(tag);
+        }
+        return Response.ok(json, MediaType.APPLICATION_JSON_TYPE).tag(tag);
+    }
+
+    private static boolean matchesEntityTag(String ifNoneMatch, String entityTag)
+    {
+        if ( ifNoneMatch == null )
+        {
+            return false;
+        }
+        for ( String value : ifNoneMatch.split(",") )
+        {
+            value = normalizeEntityTag(value);
+            if ( value.equals("*") || value.equals(entityTag) )
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // strips the weak prefix and quotes
+    private static String normalizeEntityTag(String value)
+    {
+        value = value.trim();
+        if ( value.startsWith("W/") )
+        {
+            value = value.substring(2);
+        }
+        if ( (value.length() >= 2) && value.startsWith("\"") && value.endsWith("\"") )
+        {
+            value = value.substring(1, value.length() - 1);
+        }
+        return value;
+    }
 }
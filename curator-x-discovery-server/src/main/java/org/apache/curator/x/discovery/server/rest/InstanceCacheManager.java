@@ -0,0 +1,372 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.curator.x.discovery.server.rest;
+
+import com.google.common.base.Charsets;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import org.apache.curator.framework.CuratorFramework;
+import org.apache.curator.framework.state.ConnectionState;
+import org.apache.curator.utils.CloseableUtils;
+import org.apache.curator.utils.ThreadUtils;
+import org.apache.curator.x.discovery.ServiceCache;
+import org.apache.curator.x.discovery.ServiceInstance;
+import org.apache.curator.x.discovery.details.ServiceCacheListener;
+import org.apache.curator.x.discovery.server.entity.JsonServiceInstanceMarshaller;
+import org.apache.zookeeper.KeeperException;
+import org.codehaus.jackson.map.ObjectMapper;
+import org.codehaus.jackson.node.ArrayNode;
+import org.codehaus.jackson.node.ObjectNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.io.Closeable;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * <p>
+ * Maintains a {@link ServiceCache} for each service name requested via {@link DiscoveryResource} so that
+ * requests are served from memory instead of reading ZooKeeper each time. Caches are created the first
+ * time a service is requested and are closed once they haven't been used for the idle timeout. Each time
+ * the instances of a service change, a {@link CachedInstances} snapshot is built that holds the
+ * JSON for the instances so that responses do not need to be serialized per request.
+ * </p>
+ *
+ * <p>
+ * To use, return the manager from {@link CachedDiscoveryContext#getInstanceCacheManager()} (the
+ * bundled contexts have a setter for it).
+ * </p>
+ */
+public class InstanceCacheManager<T> implements Closeable
+{
+    private final Logger log = LoggerFactory.getLogger(getClass());
+    private final DiscoveryContext<T> context;
+    private final long idleTimeoutMs;
+    private final ScheduledExecutorService service = ThreadUtils.newSingleThreadScheduledExecutor("InstanceCacheManager");
+    private final ConcurrentMap<String, Holder> holders = Maps.newConcurrentMap();
+    private final AtomicLong versionCounter = new AtomicLong(0);
+    private final AtomicReference<State> state = new AtomicReference<State>(State.LATENT);
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final CachedInstances<T> emptyInstances = new CachedInstances<T>(0, ImmutableList.<ServiceInstance<T>>of(), "[]".getBytes(Charsets.UTF_8), ImmutableMap.<String, byte[]>of());
+    private final Comparator<ServiceInstance<T>> idComparator = new Comparator<ServiceInstance<T>>()
+    {
+        @Override
+        public int compare(ServiceInstance<T> o1, ServiceInstance<T> o2)
+        {
+            return o1.getId().compareTo(o2.getId());
+        }
+    };
+
+    private static final long UNKNOWN_SERVICE_CHECK_MS = 1000;
+
+    private enum State
+    {
+        LATENT,
+        STARTED,
+        CLOSED
+    }
+
+    private class Holder implements ServiceCacheListener
+    {
+        private final ServiceCache<T> cache;
+        private volatile CachedInstances<T> instances = null;
+        private volatile long lastAccessMs = System.currentTimeMillis();
+        private boolean isStarted = false;  // guarded by this
+        private boolean isClosed = false;   // guarded by this
+
+        private Holder(String name)
+        {
+            cache = context.getServiceDiscovery().serviceCacheBuilder().name(name).build();
+        }
+
+        @Override
+        public void cacheChanged()
+        {
+            rebuild();
+        }
+
+        @Override
+        public void stateChanged(CuratorFramework client, ConnectionState newState)
+        {
+            // NOP
+        }
+
+        // returns false if the holder has been closed
+        synchronized boolean access() throws Exception
+        {
+            if ( isClosed )
+            {
+                return false;
+            }
+            lastAccessMs = System.currentTimeMillis();
+            if ( !isStarted )
+            {
+                cache.addListener(this);
+                cache.start();
+                isStarted = true;
+                instances = build(cache.getInstances());
+            }
+            return true;
+        }
+
+        synchronized void awaitChange(CachedInstances<T> current, long maxWaitMs) throws InterruptedException
+        {
+            long    startMs = System.currentTimeMillis();
+            while ( !isClosed && (instances == current) )
+            {
+                long    remainingMs = maxWaitMs - (System.currentTimeMillis() - startMs);
+                if ( remainingMs <= 0 )
+                {
+                    break;
+                }
+                wait(remainingMs);
+            }
+        }
+
+        synchronized void close()
+        {
+            if ( !isClosed )
+            {
+                isClosed = true;
+                if ( isStarted )
+                {
+                    CloseableUtils.closeQuietly(cache);
+                }
+                notifyAll();
+            }
+        }
+
+        synchronized boolean closeIfIdle(long nowMs)
+        {
+            if ( (nowMs - lastAccessMs) >= idleTimeoutMs )
+            {
+                close();
+                return true;
+            }
+            return false;
+        }
+
+        private synchronized void rebuild()
+        {
+            try
+            {
+                instances = build(cache.getInstances());
+                notifyAll();
+            }
+            catch ( Exception e )
+            {
+                ThreadUtils.checkInterrupted(e);
+                log.error("Could not build cached instances", e);
+            }
+        }
+    }
+
+    /**
+     * @param context the discovery context - used to get the discovery instance and to serialize payloads
+     * @param idleTimeout caches that are not used for this amount of time are closed
+     * @param unit time unit
+     */
+    public InstanceCacheManager(DiscoveryContext<T> context, long idleTimeout, TimeUnit unit)
+    {
+        this.context = Preconditions.checkNotNull(context, "context cannot be null");
+        idleTimeoutMs = unit.toMillis(idleTimeout);
+        Preconditions.checkArgument(idleTimeoutMs > 0, "idleTimeout must be greater than 0");
+    }
+
+    /**
+     * The manager must be started before use
+     */
+    public void start()
+    {
+        Preconditions.checkState(state.compareAndSet(State.LATENT, State.STARTED), "Cannot be started more than once");
+
+        long checkMs = Math.max(idleTimeoutMs / 2, 1);
+        service.scheduleWithFixedDelay
+        (
+            new Runnable()
+            {
+                @Override
+                public void run()
+                {
+                    closeIdleCaches();
+                }
+            },
+            checkMs,
+            checkMs,
+            TimeUnit.MILLISECONDS
+        );
+    }
+
+    @Override
+    public void close()
+    {
+        if ( state.compareAndSet(State.STARTED, State.CLOSED) )
+        {
+            service.shutdownNow();
+            for ( Holder holder : holders.values() )
+            {
+                holder.close();
+            }
+            holders.clear();
+        }
+    }
+
+    /**
+     * Return the cached instances for the given service, creating a cache for the service
+     * if needed. Caches are only created for services that exist so that requests for
+     * unknown services don't create nodes in ZooKeeper.
+     *
+     * @param name service name
+     * @return cached instances or null if the service doesn't exist
+     * @throws Exception errors
+     */
+    public CachedInstances<T> getInstances(String name) throws Exception
+    {
+        Holder holder = getHolder(name);
+        return (holder != null) ? holder.instances : null;
+    }
+
+    /**
+     * Block until the instances of the given service no longer match the given entity tag
+     * (see {@link CachedInstances#getEntityTag()}) or until the maximum wait elapses. A service
+     * that doesn't exist is treated as having no instances.
+     *
+     * @param name service name
+     * @param entityTag the entity tag of the instances the caller already has
+     * @param maxWait max time to wait
+     * @param unit time unit
+     * @return the current instances - the entity tag will be unchanged if the wait elapsed
+     * @throws Exception errors
+     */
+    public CachedInstances<T> waitForChange(String name, String entityTag, long maxWait, TimeUnit unit) throws Exception
+    {
+        long        startMs = System.currentTimeMillis();
+        long        maxWaitMs = unit.toMillis(maxWait);
+        for(;;)
+        {
+            Holder              holder = getHolder(name);
+            CachedInstances<T>  current = (holder != null) ? holder.instances : emptyInstances;
+            long                remainingMs = maxWaitMs - (System.currentTimeMillis() - startMs);
+            if ( !current.getEntityTag().equals(entityTag) || (remainingMs <= 0) )
+            {
+                return current;
+            }
+
+            if ( holder != null )
+            {
+                holder.awaitChange(current, remainingMs);
+            }
+            else
+            {
+                Thread.sleep(Math.min(remainingMs, UNKNOWN_SERVICE_CHECK_MS));
+            }
+        }
+    }
+
+    private Holder getHolder(String name) throws Exception
+    {
+        Preconditions.checkState(state.get() == State.STARTED, "Not started");
+
+        for(;;)
+        {
+            Holder holder = holders.get(name);
+            if ( holder == null )
+            {
+                if ( !serviceExists(name) )
+                {
+                    return null;
+                }
+
+                Holder newHolder = new Holder(name);
+                holder = holders.putIfAbsent(name, newHolder);
+                if ( holder == null )
+                {
+                    holder = newHolder;
+                }
+            }
+
+            try
+            {
+                if ( holder.access() )
+                {
+                    return holder;
+                }
+            }
+            catch ( Exception e )
+            {
+                holders.remove(name, holder);
+                holder.close();
+                throw e;
+            }
+            holders.remove(name, holder);   // it was closed - try again
+        }
+    }
+
+    private boolean serviceExists(String name) throws Exception
+    {
+        try
+        {
+            return context.getServiceDiscovery().queryForNames().contains(name);
+        }
+        catch ( KeeperException.NoNodeException dummy )
+        {
+            return false;   // nothing has been registered yet
+        }
+    }
+
+    private void closeIdleCaches()
+    {
+        long nowMs = System.currentTimeMillis();
+        for ( String name : holders.keySet() )
+        {
+            Holder holder = holders.get(name);
+            if ( (holder != null) && holder.closeIfIdle(nowMs) )
+            {
+                holders.remove(name, holder);
+                log.debug("Closed idle cache for service: " + name);
+            }
+        }
+    }
+
+    private CachedInstances<T> build(List<ServiceInstance<T>> unsortedInstances) throws Exception
+    {
+        // the cache's order isn't stable. Sort so that the same set of instances always has the same JSON and entity tag
+        List<ServiceInstance<T>>                instances = Lists.newArrayList(unsortedInstances);
+        Collections.sort(instances, idComparator);
+
+        ArrayNode                               arrayNode = mapper.createArrayNode();
+        ImmutableMap.Builder<String, byte[]>    instanceJson = ImmutableMap.builder();
+        for ( ServiceInstance<T> instance : instances )
+        {
+            ObjectNode  node = JsonServiceInstanceMarshaller.writeInstance(mapper, instance, context);
+            arrayNode.add(node);
+            instanceJson.put(instance.getId(), mapper.writeValueAsBytes(node));
+        }
+        return new CachedInstances<T>(versionCounter.incrementAndGet(), instances, mapper.writeValueAsBytes(arrayNode), instanceJson.build());
+    }
+}
@@ -0,0 +1,269 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.curator.x.discovery.server.jetty_jersey;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import com.sun.jersey.api.client.Client;
+import com.sun.jersey.api.client.ClientResponse;
+import com.sun.jersey.api.client.GenericType;
+import com.sun.jersey.api.client.WebResource;
+import com.sun.jersey.api.client.config.ClientConfig;
+import com.sun.jersey.api.client.config.DefaultClientConfig;
+import com.sun.jersey.api.core.DefaultResourceConfig;
+import com.sun.jersey.spi.container.servlet.ServletContainer;
+import org.apache.curator.framework.CuratorFramework;
+import org.apache.curator.framework.CuratorFrameworkFactory;
+import org.apache.curator.retry.RetryOneTime;
+import org.apache.curator.test.BaseClassForTests;
+import org.apache.curator.test.InstanceSpec;
+import org.apache.curator.test.Timing;
+import org.apache.curator.utils.CloseableUtils;
+import org.apache.curator.x.discovery.ServiceDiscovery;
+import org.apache.curator.x.discovery.ServiceDiscoveryBuilder;
+import org.apache.curator.x.discovery.ServiceInstance;
+import org.apache.curator.x.discovery.server.contexts.StringDiscoveryContext;
+import org.apache.curator.x.discovery.server.entity.JsonServiceInstanceMarshaller;
+import org.apache.curator.x.discovery.server.entity.JsonServiceInstancesMarshaller;
+import org.apache.curator.x.discovery.server.entity.JsonServiceNamesMarshaller;
+import org.apache.curator.x.discovery.server.entity.ServiceInstances;
+import org.apache.curator.x.discovery.server.rest.CachedInstances;
+import org.apache.curator.x.discovery.server.rest.InstanceCacheManager;
+import org.apache.curator.x.discovery.strategies.RandomStrategy;
+import org.mortbay.jetty.Server;
+import org.mortbay.jetty.servlet.Context;
+import org.mortbay.jetty.servlet.ServletHolder;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import javax.ws.rs.core.Application;
+import javax.ws.rs.core.HttpHeaders;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+public class TestCachedStringsWithJersey extends BaseClassForTests
+{
+    private final Timing timing = new Timing();
+    private Server jettyServer;
+    private CuratorFramework client;
+    private ServiceDiscovery<String> discovery;
+    private InstanceCacheManager<String> cacheManager;
+    private StringDiscoveryContext context;
+    private JsonServiceNamesMarshaller serviceNamesMarshaller;
+    private JsonServiceInstanceMarshaller<String> serviceInstanceMarshaller;
+    private JsonServiceInstancesMarshaller<String> serviceInstancesMarshaller;
+    private WebResource resource;
+
+    @BeforeMethod
+    @Override
+    public void         setup() throws Exception
+    {
+        super.setup();
+
+        client = CuratorFrameworkFactory.newClient(server.getConnectString(), new RetryOneTime(1));
+        client.start();
+        discovery = ServiceDiscoveryBuilder.builder(String.class).client(client).basePath("/discovery").build();
+        discovery.start();
+
+        context = new StringDiscoveryContext(discovery, new RandomStrategy<String>(), 1000);
+        cacheManager = new InstanceCacheManager<String>(context, 1, TimeUnit.MINUTES);
+        cacheManager.start();
+        context.setInstanceCacheManager(cacheManager);
+
+        serviceNamesMarshaller = new JsonServiceNamesMarshaller();
+        serviceInstanceMarshaller = new JsonServiceInstanceMarshaller<String>(context);
+        serviceInstancesMarshaller = new JsonServiceInstancesMarshaller<String>(context);
+
+        Application                                     application = new DefaultResourceConfig()
+        {
+            @Override
+            public Set<Class<?>> getClasses()
+            {
+                Set<Class<?>>       classes = Sets.newHashSet();
+                classes.add(StringDiscoveryResource.class);
+                return classes;
+            }
+
+            @Override
+            public Set<Object> getSingletons()
+            {
+                return makeSingletons();
+            }
+        };
+        ServletContainer        container = new ServletContainer(application);
+
+        int port = InstanceSpec.getRandomPort();
+        jettyServer = new Server(port);
+        Context root = new Context(jettyServer, "/", Context.SESSIONS);
+        root.addServlet(new ServletHolder(container), "/*");
+        jettyServer.start();
+
+        ClientConfig    config = new DefaultClientConfig()
+        {
+            @Override
+            public Set<Object> getSingletons()
+            {
+                return makeSingletons();
+            }
+        };
+        resource = Client.create(config).resource("http://localhost:" + port);
+    }
+
+    @AfterMethod
+    @Override
+    public void         teardown() throws Exception
+    {
+        jettyServer.stop();
+        jettyServer.join();
+        CloseableUtils.closeQuietly(cacheManager);
+        CloseableUtils.closeQuietly(discovery);
+        CloseableUtils.closeQuietly(client);
+
+        super.teardown();
+    }
+
+    @Test
+    public void     testETags() throws Exception
+    {
+        ServiceInstance<String> instance1 = ServiceInstance.<String>builder().name("test").payload("one").build();
+        discovery.registerService(instance1);
+
+        ClientResponse          response = resource.path("/v1/service/test").get(ClientResponse.class);
+        Assert.assertEquals(response.getStatus(), ClientResponse.Status.OK.getStatusCode());
+        String                  entityTag = response.getHeaders().getFirst(HttpHeaders.ETAG);
+        Assert.assertNotNull(entityTag);
+        ServiceInstances<String> instances = response.getEntity(new GenericType<ServiceInstances<String>>(){});
+        Assert.assertEquals(instances.getServices().size(), 1);
+        Assert.assertEquals(instances.getServices().get(0), instance1);
+
+        response = resource.path("/v1/service/test").header(HttpHeaders.IF_NONE_MATCH, entityTag).get(ClientResponse.class);
+        Assert.assertEquals(response.getStatus(), ClientResponse.Status.NOT_MODIFIED.getStatusCode());
+
+        ServiceInstance<String> instance2 = ServiceInstance.<String>builder().name("test").payload("two").build();
+        discovery.registerService(instance2);
+        timing.sleepABit();
+
+        response = resource.path("/v1/service/test").header(HttpHeaders.IF_NONE_MATCH, entityTag).get(ClientResponse.class);
+        Assert.assertEquals(response.getStatus(), ClientResponse.Status.OK.getStatusCode());
+        Assert.assertNotEquals(response.getHeaders().getFirst(HttpHeaders.ETAG), entityTag);
+        instances = response.getEntity(new GenericType<ServiceInstances<String>>(){});
+        Assert.assertEquals(instances.getServices().size(), 2);
+
+        ServiceInstance<String> instance = resource.path("/v1/service/test/" + instance2.getId()).get(new GenericType<ServiceInstance<String>>(){});
+        Assert.assertEquals(instance, instance2);
+
+        instance = resource.path("/v1/anyservice/test").get(new GenericType<ServiceInstance<String>>(){});
+        Assert.assertTrue(instance.equals(instance1) || instance.equals(instance2));
+    }
+
+    @Test
+    public void     testCanonicalETags() throws Exception
+    {
+        List<String>            ids = Lists.newArrayList();
+        for ( int i = 0; i < 10; ++i )
+        {
+            ServiceInstance<String> instance = ServiceInstance.<String>builder().name("test").payload(Integer.toString(i)).build();
+            discovery.registerService(instance);
+            ids.add(instance.getId());
+        }
+        Collections.sort(ids);
+
+        CachedInstances<String> instances = cacheManager.getInstances("test");
+        List<String>            cachedIds = Lists.newArrayList();
+        for ( ServiceInstance<String> instance : instances.getInstances() )
+        {
+            cachedIds.add(instance.getId());
+        }
+        Assert.assertEquals(cachedIds, ids);
+
+        // another server with the same instances must produce the same entity tag
+        InstanceCacheManager<String> otherCacheManager = new InstanceCacheManager<String>(context, 1, TimeUnit.MINUTES);
+        try
+        {
+            otherCacheManager.start();
+            Assert.assertEquals(otherCacheManager.getInstances("test").getEntityTag(), instances.getEntityTag());
+        }
+        finally
+        {
+            CloseableUtils.closeQuietly(otherCacheManager);
+        }
+    }
+
+    @Test
+    public void     testWatch() throws Exception
+    {
+        ServiceInstance<String> instance1 = ServiceInstance.<String>builder().name("test").payload("one").build();
+        discovery.registerService(instance1);
+
+        ClientResponse          response = resource.path("/v1/watch/test").get(ClientResponse.class);
+        Assert.assertEquals(response.getStatus(), ClientResponse.Status.OK.getStatusCode());
+        final String            version = response.getHeaders().getFirst(HttpHeaders.ETAG);
+        Assert.assertEquals(response.getEntity(new GenericType<ServiceInstances<String>>(){}).getServices().size(), 1);
+
+        // nothing changes - times out
+        response = resource.path("/v1/watch/test").queryParam("version", version).queryParam("timeoutMs", "100").get(ClientResponse.class);
+        Assert.assertEquals(response.getStatus(), ClientResponse.Status.NOT_MODIFIED.getStatusCode());
+
+        Future<ClientResponse>  future = Executors.newSingleThreadExecutor().submit
+        (
+            new Callable<ClientResponse>()
+            {
+                @Override
+                public ClientResponse call() throws Exception
+                {
+                    return resource.path("/v1/watch/test").queryParam("version", version).queryParam("timeoutMs", Long.toString(timing.forWaiting().milliseconds())).get(ClientResponse.class);
+                }
+            }
+        );
+        timing.sleepABit();
+        Assert.assertFalse(future.isDone());
+
+        ServiceInstance<String> instance2 = ServiceInstance.<String>builder().name("test").payload("two").build();
+        discovery.registerService(instance2);
+
+        response = future.get(timing.forWaiting().milliseconds(), TimeUnit.MILLISECONDS);
+        Assert.assertEquals(response.getStatus(), ClientResponse.Status.OK.getStatusCode());
+        Assert.assertNotEquals(response.getHeaders().getFirst(HttpHeaders.ETAG), version);
+        Assert.assertEquals(response.getEntity(new GenericType<ServiceInstances<String>>(){}).getServices().size(), 2);
+    }
+
+    @Test
+    public void     testUnknownService() throws Exception
+    {
+        ServiceInstances<String> instances = resource.path("/v1/service/unknown").get(new GenericType<ServiceInstances<String>>(){});
+        Assert.assertEquals(instances.getServices().size(), 0);
+        Assert.assertNull(client.checkExists().forPath("/discovery/unknown"));
+    }
+
+    private Set<Object> makeSingletons()
+    {
+        Set<Object>     singletons = Sets.newHashSet();
+        singletons.add(context);
+        singletons.add(serviceNamesMarshaller);
+        singletons.add(serviceInstanceMarshaller);
+        singletons.add(serviceInstancesMarshaller);
+        return singletons;
+    }
+}
@@ -0,0 +1,46 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.curator.x.discovery;
+
+import java.util.Collection;
+
+/**
+ * A {@link ServiceDiscovery} that can register and unregister many instances at once.
+ * The instances built by {@link ServiceDiscoveryBuilder} implement this interface.
+ */
+public interface BulkServiceDiscovery<T> extends ServiceDiscovery<T>
+{
+    /**
+     * Register/re-register several services. Where possible the instances are written
+     * with a single ZooKeeper transaction rather than one operation per instance.
+     *
+     * @param services services to add
+     * @throws Exception errors
+     */
+    public void     registerServices(Collection<ServiceInstance<T>> services) throws Exception;
+
+    /**
+     * Unregister/remove several service instances. Where possible the instances are deleted
+     * with a single ZooKeeper transaction rather than one operation per instance.
+     *
+     * @param services the services
+     * @throws Exception errors
+     */
+    public void     unregisterServices(Collection<ServiceInstance<T>> services) throws Exception;
+}
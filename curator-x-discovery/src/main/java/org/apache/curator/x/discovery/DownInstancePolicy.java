@@ -19,18 +19,26 @@
 
 package org.apache.curator.x.discovery;
 
+import com.google.common.base.Preconditions;
 import java.util.concurrent.TimeUnit;
 
 /**
- * Abstraction for values that determine when an instance is down
+ * Abstraction for values that determine when an instance is down. Each instance has a circuit breaker:
+ * when the errors within a rolling window of {@link #getTimeoutMs()} reach {@link #getErrorThreshold()}
+ * (and, optionally, the error rate reaches {@link #getErrorRateThreshold()}) the instance is ejected. It
+ * is ejected for {@link #getTimeoutMs()} the first time. After that it is tried again: a success reinstates
+ * it and an error ejects it again for twice as long as the previous time, up to {@link #getMaxEjectionMs()}.
  */
 public class DownInstancePolicy
 {
     private final long timeoutMs;
     private final int errorThreshold;
+    private final double errorRateThreshold;
+    private final long maxEjectionMs;
 
     private static final long DEFAULT_TIMEOUT_MS = 30000;
     private static final int DEFAULT_THRESHOLD = 2;
+    private static final int DEFAULT_MAX_EJECTION_MULTIPLE = 10;
 
     /**
      * Policy with default values
@@ -47,8 +55,25 @@ public class DownInstancePolicy
      */
     public DownInstancePolicy(long timeout, TimeUnit unit, int errorThreshold)
     {
+        this(timeout, unit, errorThreshold, 0, timeout * DEFAULT_MAX_EJECTION_MULTIPLE);
+    }
+
+    /**
+     * @param timeout window of time for down instances. Also, the time an instance is ejected for the first time.
+     * @param unit time unit for timeout and maxEjection
+     * @param errorThreshold number of errors within time window that denotes a down instance
+     * @param errorRateThreshold if greater than 0, the fraction (0.0 - 1.0) of requests within the time window that
+     *                           must be errors for the instance to be down. Successes are reported via
+     *                           {@link FeedbackServiceProvider#noteSuccess(ServiceInstance)}.
+     * @param maxEjection the longest time an instance that keeps failing is ejected for
+     */
+    public DownInstancePolicy(long timeout, TimeUnit unit, int errorThreshold, double errorRateThreshold, long maxEjection)
+    {
+        Preconditions.checkArgument((errorRateThreshold >= 0) && (errorRateThreshold <= 1), "errorRateThreshold must be between 0.0 and 1.0");
         this.timeoutMs = unit.toMillis(timeout);
         this.errorThreshold = errorThreshold;
+        this.errorRateThreshold = errorRateThreshold;
+        this.maxEjectionMs = Math.max(unit.toMillis(maxEjection), timeoutMs);
     }
 
     public long getTimeoutMs()
@@ -60,4 +85,14 @@ public class DownInstancePolicy
     {
         return errorThreshold;
     }
+
+    public double getErrorRateThreshold()
+    {
+        return errorRateThreshold;
+    }
+
+    public long getMaxEjectionMs()
+    {
+        return maxEjectionMs;
+    }
 }
@@ -0,0 +1,106 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.curator.x.discovery;
+
+import com.google.common.collect.ImmutableSet;
+import java.util.Set;
+
+/**
+ * Point-in-time stats for the down instance circuit breakers of a {@link ServiceProvider}.
+ * See {@link DownInstancePolicy} for how instances are ejected and reinstated.
+ */
+public class DownInstanceStats
+{
+    private final long ejections;
+    private final long reinstatements;
+    private final long probeFailures;
+    private final Set<String> ejectedIds;
+    private final Set<String> probingIds;
+
+    public DownInstanceStats(long ejections, long reinstatements, long probeFailures, Set<String> ejectedIds, Set<String> probingIds)
+    {
+        this.ejections = ejections;
+        this.reinstatements = reinstatements;
+        this.probeFailures = probeFailures;
+        this.ejectedIds = ImmutableSet.copyOf(ejectedIds);
+        this.probingIds = ImmutableSet.copyOf(probingIds);
+    }
+
+    /**
+     * Returns the number of times an instance has been ejected (including after failed probes)
+     *
+     * @return qty
+     */
+    public long getEjections()
+    {
+        return ejections;
+    }
+
+    /**
+     * Returns the number of times an ejected instance was reinstated after a successful probe
+     *
+     * @return qty
+     */
+    public long getReinstatements()
+    {
+        return reinstatements;
+    }
+
+    /**
+     * Returns the number of times an instance was ejected again because it failed while being probed
+     *
+     * @return qty
+     */
+    public long getProbeFailures()
+    {
+        return probeFailures;
+    }
+
+    /**
+     * Returns the ids of the instances that are currently ejected
+     *
+     * @return ids
+     */
+    public Set<String> getEjectedIds()
+    {
+        return ejectedIds;
+    }
+
+    /**
+     * Returns the ids of the instances whose ejection has ended and that are being tried again
+     *
+     * @return ids
+     */
+    public Set<String> getProbingIds()
+    {
+        return probingIds;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "DownInstanceStats{" +
+            "ejections=" + ejections +
+            ", reinstatements=" + reinstatements +
+            ", probeFailures=" + probeFailures +
+            ", ejectedIds=" + ejectedIds +
+            ", probingIds=" + probingIds +
+            '}';
+    }
+}
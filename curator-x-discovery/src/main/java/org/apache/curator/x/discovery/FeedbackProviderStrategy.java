@@ -0,0 +1,52 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.curator.x.discovery;
+
+/**
+ * A {@link ProviderStrategy} that uses the outcome of requests made to the instances it returns.
+ * {@link FeedbackServiceProvider} forwards {@link FeedbackServiceProvider#noteSuccess(ServiceInstance)},
+ * {@link FeedbackServiceProvider#noteLatency(ServiceInstance, long, java.util.concurrent.TimeUnit)} and
+ * {@link ServiceProvider#noteError(ServiceInstance)} to strategies that implement this interface.
+ * Each instance returned by the strategy should be followed by exactly one of these calls once the
+ * request made to the instance completes.
+ */
+public interface FeedbackProviderStrategy<T> extends ProviderStrategy<T>
+{
+    /**
+     * A request to the given instance completed successfully
+     *
+     * @param instance the instance
+     */
+    public void     noteSuccess(ServiceInstance<T> instance);
+
+    /**
+     * A request to the given instance completed successfully in the given time
+     *
+     * @param instance the instance
+     * @param latencyMs time the request took in milliseconds
+     */
+    public void     noteLatency(ServiceInstance<T> instance, long latencyMs);
+
+    /**
+     * A request to the given instance failed
+     *
+     * @param instance the instance
+     */
+    public void     noteError(ServiceInstance<T> instance);
+}
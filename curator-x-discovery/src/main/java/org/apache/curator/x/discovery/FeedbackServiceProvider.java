@@ -0,0 +1,56 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.curator.x.discovery;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link ServiceProvider} that can be told the outcome of the requests made to the instances
+ * it returns. The providers built by {@link ServiceProviderBuilder} implement this interface.
+ */
+public interface FeedbackServiceProvider<T> extends ServiceProvider<T>
+{
+    /**
+     * Take note of a successful request to the given instance. This reinstates an instance that
+     * is being tried again after having been marked as "down" and is passed on to the
+     * {@link ProviderStrategy} if it is a {@link FeedbackProviderStrategy}.
+     *
+     * @param instance instance that was used
+     */
+    public void noteSuccess(ServiceInstance<T> instance);
+
+    /**
+     * Take note of a successful request to the given instance along with the time the request took.
+     * This is treated the same as {@link #noteSuccess(ServiceInstance)} and the latency is passed on to the
+     * {@link ProviderStrategy} if it is a {@link FeedbackProviderStrategy}.
+     *
+     * @param instance instance that was used
+     * @param latency time the request took
+     * @param unit time unit
+     */
+    public void noteLatency(ServiceInstance<T> instance, long latency, TimeUnit unit);
+
+    /**
+     * Return the current state of the instances that have been marked as "down" because of
+     * the errors noted for them
+     *
+     * @return stats
+     */
+    public DownInstanceStats getDownInstanceStats();
+}
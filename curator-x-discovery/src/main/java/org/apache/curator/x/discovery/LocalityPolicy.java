@@ -0,0 +1,79 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.curator.x.discovery;
+
+import com.google.common.base.Function;
+import com.google.common.base.Preconditions;
+
+/**
+ * Abstraction for values that determine how a {@link ServiceProvider} prefers instances that are in
+ * its own locality (e.g. availability zone, rack or data center). While enough of the local instances
+ * are healthy, only local instances are given to the {@link ProviderStrategy}. Otherwise, the provider
+ * overflows to all healthy instances.
+ */
+public class LocalityPolicy<T>
+{
+    private final Function<ServiceInstance<T>, String> localityExtractor;
+    private final String localLocality;
+    private final double minHealthyFraction;
+
+    private static final double DEFAULT_MIN_HEALTHY_FRACTION = 0.5;
+
+    /**
+     * Policy that overflows when fewer than half of the local instances are healthy
+     *
+     * @param localityExtractor returns the locality of an instance (e.g. from its address or payload). Only
+     *                          called when the set of instances changes.
+     * @param localLocality the locality of this process
+     */
+    public LocalityPolicy(Function<ServiceInstance<T>, String> localityExtractor, String localLocality)
+    {
+        this(localityExtractor, localLocality, DEFAULT_MIN_HEALTHY_FRACTION);
+    }
+
+    /**
+     * @param localityExtractor returns the locality of an instance (e.g. from its address or payload). Only
+     *                          called when the set of instances changes.
+     * @param localLocality the locality of this process
+     * @param minHealthyFraction the fraction (0.0 - 1.0) of local instances that must be healthy for the
+     *                           provider to only use local instances
+     */
+    public LocalityPolicy(Function<ServiceInstance<T>, String> localityExtractor, String localLocality, double minHealthyFraction)
+    {
+        Preconditions.checkArgument((minHealthyFraction >= 0) && (minHealthyFraction <= 1), "minHealthyFraction must be between 0.0 and 1.0");
+        this.localityExtractor = Preconditions.checkNotNull(localityExtractor, "localityExtractor cannot be null");
+        this.localLocality = localLocality;
+        this.minHealthyFraction = minHealthyFraction;
+    }
+
+    public Function<ServiceInstance<T>, String> getLocalityExtractor()
+    {
+        return localityExtractor;
+    }
+
+    public String getLocalLocality()
+    {
+        return localLocality;
+    }
+
+    public double getMinHealthyFraction()
+    {
+        return minHealthyFraction;
+    }
+}
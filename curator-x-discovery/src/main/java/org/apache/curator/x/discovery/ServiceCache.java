@@ -29,7 +29,8 @@ public interface ServiceCache<T> extends Closeable, Listenable<ServiceCacheListe
     /**
      * Return the current list of instances. NOTE: there is no guarantee of freshness. This is
      * merely the last known list of instances. However, the list is updated via a ZooKeeper watcher
-     * so it should be fresh within a window of a second or two.
+     * so it should be fresh within a window of a second or two. The returned list is an immutable
+     * snapshot. The same list instance is returned until the set of instances changes.
      *
      * @return the list
      */
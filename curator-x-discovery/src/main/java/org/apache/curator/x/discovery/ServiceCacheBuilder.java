@@ -25,7 +25,10 @@ import java.util.concurrent.ThreadFactory;
 public interface ServiceCacheBuilder<T>
 {
     /**
-     * Return a new service cache with the current settings
+     * Return a new service cache with the current settings. If neither a thread factory nor an
+     * executor service has been set, the returned cache is a view of a single cache for the service
+     * name that is shared (and reference counted) by all caches and providers of the same
+     * {@link ServiceDiscovery}. Otherwise, the cache has its own ZooKeeper watches and copy of the instances.
      *
      * @return service cache
      */
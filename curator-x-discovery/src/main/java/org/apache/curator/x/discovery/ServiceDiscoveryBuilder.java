@@ -19,10 +19,13 @@
 
 package org.apache.curator.x.discovery;
 
+import com.google.common.base.Preconditions;
 import org.apache.curator.framework.CuratorFramework;
 import org.apache.curator.x.discovery.details.InstanceSerializer;
 import org.apache.curator.x.discovery.details.JsonInstanceSerializer;
 import org.apache.curator.x.discovery.details.ServiceDiscoveryImpl;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 
 public class ServiceDiscoveryBuilder<T>
 {
@@ -32,6 +35,8 @@ public class ServiceDiscoveryBuilder<T>
     private ServiceInstance<T> thisInstance;
     private Class<T> payloadClass;
     private boolean watchInstances = false;
+    private int reRegistrationJitterMs = 0;
+    private Executor queryExecutor = null;
 
     /**
      * Return a new builder.
@@ -57,7 +62,7 @@ public class ServiceDiscoveryBuilder<T>
         {
             serializer(new JsonInstanceSerializer<T>(payloadClass));
         }
-        return new ServiceDiscoveryImpl<T>(client, basePath, serializer, thisInstance, watchInstances);
+        return new ServiceDiscoveryImpl<T>(client, basePath, serializer, thisInstance, watchInstances, reRegistrationJitterMs, queryExecutor);
     }
 
     /**
@@ -122,6 +127,38 @@ public class ServiceDiscoveryBuilder<T>
         return this;
     }
 
+    /**
+     * Optional - when the connection to ZooKeeper is re-established, locally registered instances
+     * are re-registered after a random delay of up to the given amount. When many processes lose
+     * their connection at the same time (e.g. an ensemble restart) this spreads their re-registrations
+     * out instead of having them all hit the ensemble at once. The default is <code>0</code> (re-register immediately).
+     *
+     * @param maxJitter maximum delay
+     * @param unit unit for maxJitter
+     * @return this
+     */
+    public ServiceDiscoveryBuilder<T> reRegistrationJitter(long maxJitter, TimeUnit unit)
+    {
+        Preconditions.checkArgument(maxJitter >= 0, "maxJitter cannot be negative");
+        this.reRegistrationJitterMs = (int)Math.min(unit.toMillis(maxJitter), Integer.MAX_VALUE);
+        return this;
+    }
+
+    /**
+     * Optional - {@link ServiceDiscovery#queryForInstances(String)} reads instances in the background
+     * and deserializes them in parallel. By default the discovery uses an internal pool whose threads
+     * exit when idle. Use this to share an executor between discoveries instead. The executor is not
+     * shut down when the discovery is closed.
+     *
+     * @param queryExecutor executor for query results
+     * @return this
+     */
+    public ServiceDiscoveryBuilder<T> queryExecutor(Executor queryExecutor)
+    {
+        this.queryExecutor = queryExecutor;
+        return this;
+    }
+
     ServiceDiscoveryBuilder(Class<T> payloadClass)
     {
         this.payloadClass = payloadClass;
@@ -47,7 +47,9 @@ public interface ServiceProviderBuilder<T>
     public ServiceProviderBuilder<T> providerStrategy(ProviderStrategy<T> providerStrategy);
 
     /**
-     * optional - the thread factory to use for creating internal threads
+     * optional - the thread factory to use for creating internal threads. If set, the provider
+     * gets its own service cache. Otherwise, the provider uses the service cache that is shared by
+     * all providers and caches of the same name in the {@link ServiceDiscovery}
      *
      * @param threadFactory factory to use
      * @return this
@@ -65,7 +67,8 @@ public interface ServiceProviderBuilder<T>
     /**
      * Add an instance filter. NOTE: this does not remove previously added filters. i.e.
      * a l;ist is created of all added filters. Filters are called in the order they were
-     * added.
+     * added. NOTE: the filtered list of instances is cached. Filters are only re-applied when the
+     * set of instances or the down-instance state changes.
      *
      * @param filter filter to add
      * @return this
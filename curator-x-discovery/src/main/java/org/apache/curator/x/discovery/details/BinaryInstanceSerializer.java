@@ -0,0 +1,246 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.curator.x.discovery.details;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import org.apache.curator.x.discovery.ServiceInstance;
+import org.apache.curator.x.discovery.ServiceType;
+import org.apache.curator.x.discovery.UriSpec;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * <p>
+ * A compact binary serializer. Serialized instances start with a format marker followed by a
+ * format version so that they can be told apart from JSON. Strings that repeat across instances
+ * (names, addresses and URI spec parts) are interned when deserializing.
+ * </p>
+ *
+ * <p>
+ * To migrate from another serializer (e.g. {@link JsonInstanceSerializer}), pass it as the legacy
+ * serializer. Nodes that don't start with the format marker are read with the legacy serializer.
+ * First deploy with <code>writeLegacy</code> set to true so that every reader understands the binary format
+ * before it is written, then deploy with <code>writeLegacy</code> set to false.
+ * </p>
+ */
+public class BinaryInstanceSerializer<T> implements InstanceSerializer<T>
+{
+    private final PayloadSerializer<T>      payloadSerializer;
+    private final InstanceSerializer<T>     legacySerializer;
+    private final boolean                   writeLegacy;
+    private final Interner<String>          interner = Interners.newWeakInterner();
+
+    private static final byte FORMAT_MARKER = (byte)0xCB;
+    private static final byte FORMAT_VERSION = 1;
+
+    private static final byte NULL = 0;
+    private static final byte NOT_NULL = 1;
+
+    /**
+     * @param payloadSerializer serializer for payloads
+     */
+    public BinaryInstanceSerializer(PayloadSerializer<T> payloadSerializer)
+    {
+        this(payloadSerializer, null, false);
+    }
+
+    /**
+     * @param payloadSerializer serializer for payloads
+     * @param legacySerializer serializer for nodes that were not written in the binary format or null
+     * @param writeLegacy if true, instances are written with the legacy serializer
+     */
+    public BinaryInstanceSerializer(PayloadSerializer<T> payloadSerializer, InstanceSerializer<T> legacySerializer, boolean writeLegacy)
+    {
+        Preconditions.checkArgument(!writeLegacy || (legacySerializer != null), "legacySerializer cannot be null when writeLegacy is true");
+        this.payloadSerializer = Preconditions.checkNotNull(payloadSerializer, "payloadSerializer cannot be null");
+        this.legacySerializer = legacySerializer;
+        this.writeLegacy = writeLegacy;
+    }
+
+    @Override
+    public byte[] serialize(ServiceInstance<T> instance) throws Exception
+    {
+        if ( writeLegacy )
+        {
+            return legacySerializer.serialize(instance);
+        }
+
+        ByteArrayOutputStream   bytes = new ByteArrayOutputStream();
+        DataOutputStream        out = new DataOutputStream(bytes);
+        out.writeByte(FORMAT_MARKER);
+        out.writeByte(FORMAT_VERSION);
+        out.writeUTF(instance.getName());
+        out.writeUTF(instance.getId());
+        writeString(out, instance.getAddress());
+        writeInteger(out, instance.getPort());
+        writeInteger(out, instance.getSslPort());
+        out.writeLong(instance.getRegistrationTimeUTC());
+        out.writeByte(toCode(instance.getServiceType()));
+
+        UriSpec                 uriSpec = instance.getUriSpec();
+        if ( uriSpec == null )
+        {
+            out.writeInt(-1);
+        }
+        else
+        {
+            List<UriSpec.Part>  parts = uriSpec.getParts();
+            out.writeInt(parts.size());
+            for ( UriSpec.Part part : parts )
+            {
+                out.writeBoolean(part.isVariable());
+                out.writeUTF(part.getValue());
+            }
+        }
+
+        T                       payload = instance.getPayload();
+        if ( payload == null )
+        {
+            out.writeInt(-1);
+        }
+        else
+        {
+            byte[]              payloadBytes = payloadSerializer.serialize(payload);
+            out.writeInt(payloadBytes.length);
+            out.write(payloadBytes);
+        }
+
+        out.close();
+        return bytes.toByteArray();
+    }
+
+    @Override
+    public ServiceInstance<T> deserialize(byte[] bytes) throws Exception
+    {
+        if ( (bytes.length == 0) || (bytes[0] != FORMAT_MARKER) )
+        {
+            if ( legacySerializer == null )
+            {
+                throw new IOException("Not in the binary instance format");
+            }
+            return legacySerializer.deserialize(bytes);
+        }
+
+        DataInputStream         in = new DataInputStream(new ByteArrayInputStream(bytes));
+        in.readByte();  // marker
+        byte                    version = in.readByte();
+        if ( version != FORMAT_VERSION )
+        {
+            throw new IOException("Unknown binary instance format version: " + version);
+        }
+
+        String                  name = interner.intern(in.readUTF());
+        String                  id = in.readUTF();
+        String                  address = readString(in);
+        Integer                 port = readInteger(in);
+        Integer                 sslPort = readInteger(in);
+        long                    registrationTimeUTC = in.readLong();
+        ServiceType             serviceType = fromCode(in.readByte());
+
+        UriSpec                 uriSpec = null;
+        int                     partQty = in.readInt();
+        if ( partQty >= 0 )
+        {
+            uriSpec = new UriSpec();
+            for ( int i = 0; i < partQty; ++i )
+            {
+                boolean         isVariable = in.readBoolean();
+                uriSpec.add(new UriSpec.Part(interner.intern(in.readUTF()), isVariable));
+            }
+        }
+
+        T                       payload = null;
+        int                     payloadLength = in.readInt();
+        if ( payloadLength >= 0 )
+        {
+            byte[]              payloadBytes = new byte[payloadLength];
+            in.readFully(payloadBytes);
+            payload = payloadSerializer.deserialize(payloadBytes);
+        }
+
+        return new ServiceInstance<T>(name, id, address, port, sslPort, payload, registrationTimeUTC, serviceType, uriSpec);
+    }
+
+    private void writeString(DataOutputStream out, String value) throws IOException
+    {
+        out.writeByte((value != null) ? NOT_NULL : NULL);
+        if ( value != null )
+        {
+            out.writeUTF(value);
+        }
+    }
+
+    private String readString(DataInputStream in) throws IOException
+    {
+        return (in.readByte() == NOT_NULL) ? interner.intern(in.readUTF()) : null;
+    }
+
+    private static void writeInteger(DataOutputStream out, Integer value) throws IOException
+    {
+        out.writeByte((value != null) ? NOT_NULL : NULL);
+        if ( value != null )
+        {
+            out.writeInt(value);
+        }
+    }
+
+    private static Integer readInteger(DataInputStream in) throws IOException
+    {
+        return (in.readByte() == NOT_NULL) ? in.readInt() : null;
+    }
+
+    // explicit codes so that reordering the enum doesn't change the format
+    private static byte toCode(ServiceType serviceType) throws IOException
+    {
+        switch ( serviceType )
+        {
+            case DYNAMIC:
+                return 0;
+            case STATIC:
+                return 1;
+            case PERMANENT:
+                return 2;
+            case DYNAMIC_SEQUENTIAL:
+                return 3;
+        }
+        throw new IOException("Unknown service type: " + serviceType);
+    }
+
+    private static ServiceType fromCode(byte code) throws IOException
+    {
+        switch ( code )
+        {
+            case 0:
+                return ServiceType.DYNAMIC;
+            case 1:
+                return ServiceType.STATIC;
+            case 2:
+                return ServiceType.PERMANENT;
+            case 3:
+                return ServiceType.DYNAMIC_SEQUENTIAL;
+        }
+        throw new IOException("Unknown service type code: " + code);
+    }
+}
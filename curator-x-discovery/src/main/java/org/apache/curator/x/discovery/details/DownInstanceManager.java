@@ -19,75 +19,346 @@
 package org.apache.curator.x.discovery.details;
 
 import com.google.common.collect.Maps;
-
+import com.google.common.collect.Sets;
 import org.apache.curator.x.discovery.DownInstancePolicy;
+import org.apache.curator.x.discovery.DownInstanceStats;
 import org.apache.curator.x.discovery.InstanceFilter;
 import org.apache.curator.x.discovery.ServiceInstance;
-
 import java.util.Iterator;
-import java.util.Map.Entry;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
 
+/**
+ * A circuit breaker per instance id. Errors (and, when the policy has an error rate threshold, successes)
+ * are counted in a rolling window made of time buckets. An instance that trips its breaker is ejected.
+ * When the ejection ends the instance is "probing" (half open): it is used again and the next result either
+ * reinstates it or ejects it again for twice as long (up to the policy's maximum). Callers that only report
+ * errors never report a successful probe, so an instance that has no error for the policy's timeout while
+ * probing is reinstated as well.
+ * <p>
+ * {@link #apply(ServiceInstance)} and {@link #getGeneration()} only read state. Ejections ending and idle
+ * breakers being removed are done by a maintenance pass that runs at most once per window or when an
+ * ejection is due to end.
+ */
 class DownInstanceManager<T> implements InstanceFilter<T>
 {
-    private final ConcurrentMap<ServiceInstance<?>, Status> statuses = Maps.newConcurrentMap();
+    private final ConcurrentMap<String, Breaker> breakers = Maps.newConcurrentMap();
     private final DownInstancePolicy downInstancePolicy;
-    private final AtomicLong lastPurge = new AtomicLong(System.currentTimeMillis());
+    private final long bucketMs;
+    private final AtomicLong nextMaintenanceMs;
+    private final AtomicLong generation = new AtomicLong(0);
+    private final AtomicLong ejections = new AtomicLong(0);
+    private final AtomicLong reinstatements = new AtomicLong(0);
+    private final AtomicLong probeFailures = new AtomicLong(0);
+
+    private static final int BUCKET_QTY = 10;
 
-    private static class Status
+    private enum State
     {
-        private final long startMs = System.currentTimeMillis();
-        private final AtomicInteger errorCount = new AtomicInteger(0);
+        CLOSED,
+        EJECTED,
+        PROBING
+    }
+
+    private class Breaker
+    {
+        private final AtomicLongArray bucketEpochs = new AtomicLongArray(BUCKET_QTY);
+        private final AtomicIntegerArray errors = new AtomicIntegerArray(BUCKET_QTY);
+        private final AtomicIntegerArray successes = new AtomicIntegerArray(BUCKET_QTY);
+        private volatile State state = State.CLOSED;
+        private volatile long ejectedUntilMs = 0;
+        private volatile long lastActivityMs;
+        private int ejectionQty = 0;    // guarded by this
+        private long reinstatedMs = 0;  // guarded by this
+
+        private Breaker(long nowMs)
+        {
+            lastActivityMs = nowMs;
+        }
+
+        private void record(boolean isError, long nowMs)
+        {
+            long epoch = nowMs / bucketMs;
+            int index = (int)(epoch % BUCKET_QTY);
+            long bucketEpoch = bucketEpochs.get(index);
+            if ( (bucketEpoch != epoch) && bucketEpochs.compareAndSet(index, bucketEpoch, epoch) )
+            {
+                errors.set(index, 0);
+                successes.set(index, 0);
+            }
+            if ( isError )
+            {
+                errors.incrementAndGet(index);
+            }
+            else
+            {
+                successes.incrementAndGet(index);
+            }
+            lastActivityMs = nowMs;
+        }
+
+        private boolean shouldTrip(long nowMs)
+        {
+            long epoch = nowMs / bucketMs;
+            int errorQty = 0;
+            int successQty = 0;
+            for ( int i = 0; i < BUCKET_QTY; ++i )
+            {
+                if ( (epoch - bucketEpochs.get(i)) < BUCKET_QTY )
+                {
+                    errorQty += errors.get(i);
+                    successQty += successes.get(i);
+                }
+            }
+            if ( errorQty < downInstancePolicy.getErrorThreshold() )
+            {
+                return false;
+            }
+            double errorRate = (double)errorQty / (errorQty + successQty);
+            return errorRate >= downInstancePolicy.getErrorRateThreshold();
+        }
+
+        private void clearWindow()
+        {
+            for ( int i = 0; i < BUCKET_QTY; ++i )
+            {
+                bucketEpochs.set(i, 0);
+            }
+        }
+
+        // must be called while synchronized
+        private void eject(long nowMs)
+        {
+            if ( (state == State.CLOSED) && ((nowMs - reinstatedMs) >= downInstancePolicy.getMaxEjectionMs()) )
+            {
+                ejectionQty = 0;    // it's been healthy for long enough to forget previous ejections
+            }
+            long ejectionMs = Math.min(downInstancePolicy.getTimeoutMs() << Math.min(ejectionQty, 30), downInstancePolicy.getMaxEjectionMs());
+            ++ejectionQty;
+            clearWindow();
+            ejectedUntilMs = nowMs + ejectionMs;
+            state = State.EJECTED;
+            lastActivityMs = nowMs;
+
+            ejections.incrementAndGet();
+            generation.incrementAndGet();
+            lowerNextMaintenance(ejectedUntilMs);
+        }
+
+        // must be called while synchronized
+        private void reinstate(long nowMs)
+        {
+            state = State.CLOSED;
+            lastActivityMs = nowMs;
+            reinstatedMs = nowMs;
+            reinstatements.incrementAndGet();
+            generation.incrementAndGet();
+        }
+
+        private boolean isAvailable(long nowMs)
+        {
+            return (state != State.EJECTED) || (nowMs >= ejectedUntilMs);
+        }
     }
 
     DownInstanceManager(DownInstancePolicy downInstancePolicy)
     {
         this.downInstancePolicy = downInstancePolicy;
+        bucketMs = Math.max(1, downInstancePolicy.getTimeoutMs() / BUCKET_QTY);
+        nextMaintenanceMs = new AtomicLong(System.currentTimeMillis() + downInstancePolicy.getTimeoutMs());
+    }
+
+    /**
+     * Note an error for the given instance
+     *
+     * @param instance instance
+     */
+    void noteError(ServiceInstance<?> instance)
+    {
+        long nowMs = System.currentTimeMillis();
+        Breaker breaker = getOrCreate(instance.getId(), nowMs);
+        synchronized(breaker)
+        {
+            switch ( breaker.state )
+            {
+                case CLOSED:
+                {
+                    breaker.record(true, nowMs);
+                    if ( breaker.shouldTrip(nowMs) )
+                    {
+                        breaker.eject(nowMs);
+                    }
+                    break;
+                }
+
+                case EJECTED:
+                {
+                    if ( nowMs >= breaker.ejectedUntilMs )
+                    {
+                        // the ejection has ended but maintenance hasn't run yet - this was a probe
+                        probeFailures.incrementAndGet();
+                        breaker.eject(nowMs);
+                    }
+                    // otherwise, it's a late result from before the ejection - ignore
+                    break;
+                }
+
+                case PROBING:
+                {
+                    probeFailures.incrementAndGet();
+                    breaker.eject(nowMs);
+                    break;
+                }
+            }
+        }
+        maintainIfDue(nowMs);
     }
 
-    void add(ServiceInstance<?> instance)
+    /**
+     * Note a successful request to the given instance
+     *
+     * @param instance instance
+     */
+    void noteSuccess(ServiceInstance<?> instance)
     {
-        purge();
+        long nowMs = System.currentTimeMillis();
+        // successes only matter for breakers that exist already unless an error rate is being computed
+        Breaker breaker = (downInstancePolicy.getErrorRateThreshold() > 0) ? getOrCreate(instance.getId(), nowMs) : breakers.get(instance.getId());
+        if ( breaker != null )
+        {
+            synchronized(breaker)
+            {
+                if ( (breaker.state == State.PROBING) || ((breaker.state == State.EJECTED) && (nowMs >= breaker.ejectedUntilMs)) )
+                {
+                    breaker.reinstate(nowMs);
+                }
+                else if ( breaker.state == State.CLOSED )
+                {
+                    breaker.record(false, nowMs);
+                }
+            }
+        }
+        maintainIfDue(nowMs);
+    }
 
-        Status newStatus = new Status();
-        Status oldStatus = statuses.putIfAbsent(instance, newStatus);
-        Status useStatus = (oldStatus != null) ? oldStatus : newStatus;
-        useStatus.errorCount.incrementAndGet();
+    /**
+     * Returns a value that changes whenever an instance is marked down or comes back up. This
+     * allows callers to cache the result of filtering with this manager.
+     *
+     * @return generation
+     */
+    long getGeneration()
+    {
+        maintainIfDue(System.currentTimeMillis());
+        return generation.get();
+    }
+
+    DownInstanceStats getStats()
+    {
+        long nowMs = System.currentTimeMillis();
+        Set<String> ejectedIds = Sets.newHashSet();
+        Set<String> probingIds = Sets.newHashSet();
+        for ( Map.Entry<String, Breaker> entry : breakers.entrySet() )
+        {
+            Breaker breaker = entry.getValue();
+            if ( breaker.state == State.PROBING )
+            {
+                probingIds.add(entry.getKey());
+            }
+            else if ( breaker.state == State.EJECTED )
+            {
+                if ( breaker.isAvailable(nowMs) )
+                {
+                    probingIds.add(entry.getKey());
+                }
+                else
+                {
+                    ejectedIds.add(entry.getKey());
+                }
+            }
+        }
+        return new DownInstanceStats(ejections.get(), reinstatements.get(), probeFailures.get(), ejectedIds, probingIds);
     }
 
     @Override
     public boolean apply(ServiceInstance<T> instance)
     {
-        purge();
+        Breaker breaker = breakers.get(instance.getId());
+        return (breaker == null) || breaker.isAvailable(System.currentTimeMillis());
+    }
 
-        Status status = statuses.get(instance);
-        return (status == null) || (status.errorCount.get() < downInstancePolicy.getErrorThreshold());
+    private Breaker getOrCreate(String id, long nowMs)
+    {
+        Breaker breaker = breakers.get(id);
+        if ( breaker == null )
+        {
+            Breaker newBreaker = new Breaker(nowMs);
+            breaker = breakers.putIfAbsent(id, newBreaker);
+            if ( breaker == null )
+            {
+                breaker = newBreaker;
+            }
+        }
+        return breaker;
     }
 
-    private void purge()
+    private void lowerNextMaintenance(long ms)
     {
-        long localLastPurge = lastPurge.get();
-        long ticksSinceLastPurge = System.currentTimeMillis() - localLastPurge;
-        if ( ticksSinceLastPurge < (downInstancePolicy.getTimeoutMs() / 2) )
+        long current = nextMaintenanceMs.get();
+        while ( (ms < current) && !nextMaintenanceMs.compareAndSet(current, ms) )
         {
-            return;
+            current = nextMaintenanceMs.get();
         }
+    }
 
-        if ( !lastPurge.compareAndSet(localLastPurge, System.currentTimeMillis()) )
+    private void maintainIfDue(long nowMs)
+    {
+        long localNextMaintenanceMs = nextMaintenanceMs.get();
+        if ( nowMs < localNextMaintenanceMs )
         {
             return;
         }
+        if ( !nextMaintenanceMs.compareAndSet(localNextMaintenanceMs, nowMs + downInstancePolicy.getTimeoutMs()) )
+        {
+            return; // another thread is doing it or an ejection changed the schedule
+        }
 
-        Iterator<Entry<ServiceInstance<?>, Status>> it = statuses.entrySet().iterator();
-        while ( it.hasNext() )
+        long idleMs = Math.max(downInstancePolicy.getMaxEjectionMs(), downInstancePolicy.getTimeoutMs());
+        Iterator<Map.Entry<String, Breaker>> iterator = breakers.entrySet().iterator();
+        while ( iterator.hasNext() )
         {
-            Entry<ServiceInstance<?>, Status> entry = it.next();
-            long elapsedMs = System.currentTimeMillis() - entry.getValue().startMs;
-            if ( elapsedMs >= downInstancePolicy.getTimeoutMs() )
+            Breaker breaker = iterator.next().getValue();
+            synchronized(breaker)
             {
-                it.remove();
+                if ( breaker.state == State.EJECTED )
+                {
+                    if ( nowMs >= breaker.ejectedUntilMs )
+                    {
+                        breaker.state = State.PROBING;
+                        breaker.lastActivityMs = nowMs;
+                        generation.incrementAndGet();
+                    }
+                    else
+                    {
+                        lowerNextMaintenance(breaker.ejectedUntilMs);
+                    }
+                }
+                else if ( breaker.state == State.PROBING )
+                {
+                    if ( (nowMs - breaker.lastActivityMs) >= downInstancePolicy.getTimeoutMs() )
+                    {
+                        breaker.reinstate(nowMs);   // no error during the probe window
+                    }
+                }
+                else if ( (nowMs - breaker.lastActivityMs) >= idleMs )
+                {
+                    // nothing has happened for a long time - the instance is healthy (or gone)
+                    iterator.remove();
+                }
             }
         }
     }
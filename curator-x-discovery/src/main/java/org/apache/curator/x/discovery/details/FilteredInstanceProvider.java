@@ -22,25 +22,69 @@ import com.google.common.base.Predicate;
 import com.google.common.base.Predicates;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
 import org.apache.curator.x.discovery.InstanceFilter;
 import org.apache.curator.x.discovery.ServiceInstance;
 import java.util.List;
 
+/**
+ * Filters the instances of another provider. The filtered list is cached and is only rebuilt when
+ * the source provider returns a different list instance (e.g. {@link ServiceCacheImpl} publishes
+ * a new snapshot when membership changes) or when the down-instance state changes.
+ */
 class FilteredInstanceProvider<T> implements InstanceProvider<T>
 {
     private final InstanceProvider<T> instanceProvider;
     private final Predicate<ServiceInstance<T>> predicates;
+    private final DownInstanceManager<T> downInstanceManager;
+    private volatile Snapshot<T> snapshot = null;
+
+    private static class Snapshot<T>
+    {
+        private final List<ServiceInstance<T>> source;
+        private final long downGeneration;
+        private final List<ServiceInstance<T>> filtered;
+
+        private Snapshot(List<ServiceInstance<T>> source, long downGeneration, List<ServiceInstance<T>> filtered)
+        {
+            this.source = source;
+            this.downGeneration = downGeneration;
+            this.filtered = filtered;
+        }
+    }
 
     FilteredInstanceProvider(InstanceProvider<T> instanceProvider, List<InstanceFilter<T>> filters)
+    {
+        this(instanceProvider, filters, null);
+    }
+
+    FilteredInstanceProvider(InstanceProvider<T> instanceProvider, List<InstanceFilter<T>> filters, DownInstanceManager<T> downInstanceManager)
     {
         this.instanceProvider = instanceProvider;
-        predicates = Predicates.and(filters);
+        this.downInstanceManager = downInstanceManager;
+
+        List<InstanceFilter<T>> localFilters = Lists.newArrayList(filters);
+        if ( downInstanceManager != null )
+        {
+            localFilters.add(downInstanceManager);
+        }
+        predicates = Predicates.and(localFilters);
     }
 
     @Override
     public List<ServiceInstance<T>> getInstances() throws Exception
     {
-        Iterable<ServiceInstance<T>> filtered = Iterables.filter(instanceProvider.getInstances(), predicates);
-        return ImmutableList.copyOf(filtered);
+        long downGeneration = (downInstanceManager != null) ? downInstanceManager.getGeneration() : 0;
+        List<ServiceInstance<T>> source = instanceProvider.getInstances();
+
+        Snapshot<T> localSnapshot = snapshot;
+        if ( (localSnapshot != null) && (localSnapshot.source == source) && (localSnapshot.downGeneration == downGeneration) )
+        {
+            return localSnapshot.filtered;
+        }
+
+        List<ServiceInstance<T>> filtered = ImmutableList.copyOf(Iterables.filter(source, predicates));
+        snapshot = new Snapshot<T>(source, downGeneration, filtered);
+        return filtered;
     }
 }
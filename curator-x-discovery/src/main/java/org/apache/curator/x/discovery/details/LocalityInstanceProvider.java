@@ -0,0 +1,149 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.curator.x.discovery.details;
+
+import com.google.common.base.Objects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Maps;
+import org.apache.curator.x.discovery.LocalityPolicy;
+import org.apache.curator.x.discovery.ServiceInstance;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Returns the healthy instances that are in the local locality as long as enough of the local instances
+ * are healthy. Otherwise, all healthy instances are returned. Instances are partitioned by locality only
+ * when the underlying lists change (both providers are expected to return the same list instance while
+ * nothing has changed - see {@link FilteredInstanceProvider}).
+ */
+class LocalityInstanceProvider<T> implements InstanceProvider<T>
+{
+    private final InstanceProvider<T> allInstances;
+    private final InstanceProvider<T> healthyInstances;
+    private final LocalityPolicy<T> policy;
+    private volatile AllPartition<T> allPartition = null;
+    private volatile HealthyPartition<T> healthyPartition = null;
+
+    private static class AllPartition<T>
+    {
+        private final List<ServiceInstance<T>> source;
+        private final Map<ServiceInstance<T>, Boolean> isLocal;
+        private final int localQty;
+
+        private AllPartition(List<ServiceInstance<T>> source, Map<ServiceInstance<T>, Boolean> isLocal, int localQty)
+        {
+            this.source = source;
+            this.isLocal = isLocal;
+            this.localQty = localQty;
+        }
+    }
+
+    private static class HealthyPartition<T>
+    {
+        private final List<ServiceInstance<T>> source;
+        private final AllPartition<T> allPartition;
+        private final List<ServiceInstance<T>> local;
+
+        private HealthyPartition(List<ServiceInstance<T>> source, AllPartition<T> allPartition, List<ServiceInstance<T>> local)
+        {
+            this.source = source;
+            this.allPartition = allPartition;
+            this.local = local;
+        }
+    }
+
+    /**
+     * @param allInstances all candidate instances (healthy or not)
+     * @param healthyInstances the candidate instances that are currently healthy
+     * @param policy locality policy
+     */
+    LocalityInstanceProvider(InstanceProvider<T> allInstances, InstanceProvider<T> healthyInstances, LocalityPolicy<T> policy)
+    {
+        this.allInstances = allInstances;
+        this.healthyInstances = healthyInstances;
+        this.policy = policy;
+    }
+
+    @Override
+    public List<ServiceInstance<T>> getInstances() throws Exception
+    {
+        List<ServiceInstance<T>> healthy = healthyInstances.getInstances();
+        AllPartition<T> localAllPartition = getAllPartition(allInstances.getInstances());
+        HealthyPartition<T> localHealthyPartition = getHealthyPartition(healthy, localAllPartition);
+
+        int localHealthyQty = localHealthyPartition.local.size();
+        if ( (localHealthyQty > 0) && (localHealthyQty >= (policy.getMinHealthyFraction() * localAllPartition.localQty)) )
+        {
+            return localHealthyPartition.local;
+        }
+        return healthy;
+    }
+
+    private AllPartition<T> getAllPartition(List<ServiceInstance<T>> source)
+    {
+        AllPartition<T> localPartition = allPartition;
+        if ( (localPartition != null) && (localPartition.source == source) )
+        {
+            return localPartition;
+        }
+
+        Map<ServiceInstance<T>, Boolean> isLocal = Maps.newIdentityHashMap();
+        int localQty = 0;
+        for ( ServiceInstance<T> instance : source )
+        {
+            boolean thisIsLocal = isLocal(instance);
+            isLocal.put(instance, thisIsLocal);
+            if ( thisIsLocal )
+            {
+                ++localQty;
+            }
+        }
+        localPartition = new AllPartition<T>(source, isLocal, localQty);
+        allPartition = localPartition;
+        return localPartition;
+    }
+
+    private HealthyPartition<T> getHealthyPartition(List<ServiceInstance<T>> source, AllPartition<T> localAllPartition)
+    {
+        HealthyPartition<T> localPartition = healthyPartition;
+        if ( (localPartition != null) && (localPartition.source == source) && (localPartition.allPartition == localAllPartition) )
+        {
+            return localPartition;
+        }
+
+        ImmutableList.Builder<ServiceInstance<T>> local = ImmutableList.builder();
+        for ( ServiceInstance<T> instance : source )
+        {
+            // the healthy instances are normally a subset of all instances so the locality has already been extracted
+            Boolean isLocal = localAllPartition.isLocal.get(instance);
+            if ( (isLocal != null) ? isLocal : isLocal(instance) )
+            {
+                local.add(instance);
+            }
+        }
+        localPartition = new HealthyPartition<T>(source, localAllPartition, local.build());
+        healthyPartition = localPartition;
+        return localPartition;
+    }
+
+    private boolean isLocal(ServiceInstance<T> instance)
+    {
+        return Objects.equal(policy.getLocalityExtractor().apply(instance), policy.getLocalLocality());
+    }
+}
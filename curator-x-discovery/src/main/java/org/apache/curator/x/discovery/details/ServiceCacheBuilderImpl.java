@@ -40,7 +40,9 @@ class ServiceCacheBuilderImpl<T> implements ServiceCacheBuilder<T>
     }
 
     /**
-     * Return a new service cache with the current settings
+     * Return a new service cache with the current settings. If neither a thread factory nor
+     * an executor has been set, the cache shares a single cache for the service name with the
+     * other caches and providers of the discovery.
      *
      * @return service cache
      */
@@ -51,10 +53,14 @@ class ServiceCacheBuilderImpl<T> implements ServiceCacheBuilder<T>
         {
             return new ServiceCacheImpl<T>(discovery, name, executorService);
         }
-        else
+        else if (threadFactory != null)
         {
             return new ServiceCacheImpl<T>(discovery, name, threadFactory);
         }
+        else
+        {
+            return new SharedServiceCache<T>(discovery, name);
+        }
     }
 
     /**
@@ -20,7 +20,7 @@ package org.apache.curator.x.discovery.details;
 
 import com.google.common.base.Function;
 import com.google.common.base.Preconditions;
-import com.google.common.collect.Lists;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Maps;
 import org.apache.curator.utils.CloseableExecutorService;
 import org.apache.curator.utils.CloseableUtils;
@@ -48,6 +48,7 @@ public class ServiceCacheImpl<T> implements ServiceCache<T>, PathChildrenCacheLi
     private final AtomicReference<State>                            state = new AtomicReference<State>(State.LATENT);
     private final PathChildrenCache                                 cache;
     private final ConcurrentMap<String, ServiceInstance<T>>         instances = Maps.newConcurrentMap();
+    private volatile List<ServiceInstance<T>>                       snapshot = ImmutableList.of();
 
     private enum State
     {
@@ -82,7 +83,7 @@ public class ServiceCacheImpl<T> implements ServiceCache<T>, PathChildrenCacheLi
     @Override
     public List<ServiceInstance<T>> getInstances()
     {
-        return Lists.newArrayList(instances.values());
+        return snapshot;
     }
 
     @Override
@@ -95,6 +96,7 @@ public class ServiceCacheImpl<T> implements ServiceCache<T>, PathChildrenCacheLi
         {
             addInstance(childData, true);
         }
+        updateSnapshot();
         discovery.cacheOpened(this);
     }
 
@@ -167,6 +169,7 @@ public class ServiceCacheImpl<T> implements ServiceCache<T>, PathChildrenCacheLi
 
         if ( notifyListeners )
         {
+            updateSnapshot();
             listenerContainer.forEach
             (
                 new Function<ServiceCacheListener, Void>()
@@ -182,6 +185,11 @@ public class ServiceCacheImpl<T> implements ServiceCache<T>, PathChildrenCacheLi
         }
     }
 
+    private synchronized void updateSnapshot()
+    {
+        snapshot = ImmutableList.copyOf(instances.values());
+    }
+
     private String instanceIdFromData(ChildData childData)
     {
         return ZKPaths.getNodeFromPath(childData.getPath());
@@ -22,10 +22,16 @@ package org.apache.curator.x.discovery.details;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 import org.apache.curator.framework.CuratorFramework;
+import org.apache.curator.framework.api.BackgroundCallback;
+import org.apache.curator.framework.api.CuratorEvent;
+import org.apache.curator.framework.api.transaction.CuratorTransaction;
+import org.apache.curator.framework.api.transaction.CuratorTransactionFinal;
+import org.apache.curator.framework.imps.CuratorFrameworkState;
 import org.apache.curator.framework.recipes.cache.NodeCache;
 import org.apache.curator.framework.recipes.cache.NodeCacheListener;
 import org.apache.curator.framework.state.ConnectionState;
@@ -33,6 +39,7 @@ import org.apache.curator.framework.state.ConnectionStateListener;
 import org.apache.curator.utils.CloseableUtils;
 import org.apache.curator.utils.ThreadUtils;
 import org.apache.curator.utils.ZKPaths;
+import org.apache.curator.x.discovery.BulkServiceDiscovery;
 import org.apache.curator.x.discovery.ServiceCache;
 import org.apache.curator.x.discovery.ServiceCacheBuilder;
 import org.apache.curator.x.discovery.ServiceDiscovery;
@@ -49,13 +56,30 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * A mechanism to register and query service instances using ZooKeeper
  */
 @SuppressWarnings("SynchronizationOnLocalVariableOrMethodParameter")
-public class ServiceDiscoveryImpl<T> implements ServiceDiscovery<T>
+public class ServiceDiscoveryImpl<T> implements BulkServiceDiscovery<T>
 {
     private final Logger log = LoggerFactory.getLogger(getClass());
     private final CuratorFramework client;
@@ -64,7 +88,16 @@ public class ServiceDiscoveryImpl<T> implements ServiceDiscovery<T>
     private final ConcurrentMap<String, Entry<T>> services = Maps.newConcurrentMap();
     private final Collection<ServiceCache<T>> caches = Sets.newSetFromMap(Maps.<ServiceCache<T>, Boolean>newConcurrentMap());
     private final Collection<ServiceProvider<T>> providers = Sets.newSetFromMap(Maps.<ServiceProvider<T>, Boolean>newConcurrentMap());
+    private final Map<String, SharedCacheHolder<T>> sharedCaches = Maps.newHashMap();
+    private final ThreadFactory sharedCacheThreadFactory = ThreadUtils.newThreadFactory("SharedServiceCache");
     private final boolean watchInstances;
+    private final Executor queryExecutor;
+    private final ExecutorService ownedQueryExecutor;
+    private final AtomicBoolean isClosed = new AtomicBoolean(false);
+    private final int reRegistrationJitterMs;
+    private final Random random = new Random();
+    private final ScheduledExecutorService reRegistrationExecutor = ThreadUtils.newSingleThreadScheduledExecutor("ServiceDiscovery-reRegister");
+    private final AtomicReference<Future<?>> reRegistrationTask = new AtomicReference<Future<?>>(null);
     private final ConnectionStateListener connectionStateListener = new ConnectionStateListener()
     {
         @Override
@@ -72,20 +105,34 @@ public class ServiceDiscoveryImpl<T> implements ServiceDiscovery<T>
         {
             if ( (newState == ConnectionState.RECONNECTED) || (newState == ConnectionState.CONNECTED) )
             {
-                try
-                {
-                    log.debug("Re-registering due to reconnection");
-                    reRegisterServices();
-                }
-                catch ( Exception e )
-                {
-                    ThreadUtils.checkInterrupted(e);
-                    log.error("Could not re-register instances after reconnection", e);
-                }
+                log.debug("Re-registering due to reconnection");
+                scheduleReRegistration(0);
             }
         }
     };
 
+    private static final int QUERY_THREAD_QTY = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), 8));
+    private static final int QUERY_THREAD_IDLE_SECONDS = 60;
+    private static final String ZOOKEEPER_EVENT_THREAD_CLASS = "org.apache.zookeeper.ClientCnxn$EventThread";
+    private static final int MAX_OUTSTANDING_QUERIES = 100;
+    private static final int QUERY_CHECK_MS = 1000;
+    private static final int MAX_INSTANCES_PER_TRANSACTION = 100;
+    private static final int BASE_RE_REGISTRATION_BACKOFF_MS = 1000;
+    private static final int MAX_RE_REGISTRATION_BACKOFF_MS = 60000;
+
+    private static class SharedCacheHolder<T>
+    {
+        private final ServiceCacheImpl<T> cache;
+        private final CountDownLatch startedLatch = new CountDownLatch(1);
+        private volatile Exception startException = null;
+        private int referenceCount = 0;
+
+        private SharedCacheHolder(ServiceCacheImpl<T> cache)
+        {
+            this.cache = cache;
+        }
+    }
+
     private static class Entry<T>
     {
         private volatile ServiceInstance<T> service;
@@ -106,10 +153,53 @@ public class ServiceDiscoveryImpl<T> implements ServiceDiscovery<T>
      */
     public ServiceDiscoveryImpl(CuratorFramework client, String basePath, InstanceSerializer<T> serializer, ServiceInstance<T> thisInstance, boolean watchInstances)
     {
+        this(client, basePath, serializer, thisInstance, watchInstances, 0);
+    }
+
+    /**
+     * @param client the client
+     * @param basePath base path to store data
+     * @param serializer serializer for instances (e.g. {@link JsonInstanceSerializer})
+     * @param thisInstance instance that represents the service that is running. The instance will get auto-registered
+     * @param watchInstances if true, watches for changes to locally registered instances
+     * @param reRegistrationJitterMs after a reconnection, instances are re-registered after a random delay of up to this many ms
+     */
+    public ServiceDiscoveryImpl(CuratorFramework client, String basePath, InstanceSerializer<T> serializer, ServiceInstance<T> thisInstance, boolean watchInstances, int reRegistrationJitterMs)
+    {
+        this(client, basePath, serializer, thisInstance, watchInstances, reRegistrationJitterMs, null);
+    }
+
+    /**
+     * @param client the client
+     * @param basePath base path to store data
+     * @param serializer serializer for instances (e.g. {@link JsonInstanceSerializer})
+     * @param thisInstance instance that represents the service that is running. The instance will get auto-registered
+     * @param watchInstances if true, watches for changes to locally registered instances
+     * @param reRegistrationJitterMs after a reconnection, instances are re-registered after a random delay of up to this many ms
+     * @param queryExecutor if not null, instances read by {@link #queryForInstances(String)} are deserialized by this
+     *                      executor. The executor is not shut down by this discovery. If null, an internal pool is used
+     *                      whose threads exit when idle.
+     */
+    public ServiceDiscoveryImpl(CuratorFramework client, String basePath, InstanceSerializer<T> serializer, ServiceInstance<T> thisInstance, boolean watchInstances, int reRegistrationJitterMs, Executor queryExecutor)
+    {
+        Preconditions.checkArgument(reRegistrationJitterMs >= 0, "reRegistrationJitterMs cannot be negative");
+        this.reRegistrationJitterMs = reRegistrationJitterMs;
         this.watchInstances = watchInstances;
         this.client = Preconditions.checkNotNull(client, "client cannot be null");
         this.basePath = Preconditions.checkNotNull(basePath, "basePath cannot be null");
         this.serializer = Preconditions.checkNotNull(serializer, "serializer cannot be null");
+        if ( queryExecutor != null )
+        {
+            this.ownedQueryExecutor = null;
+            this.queryExecutor = queryExecutor;
+        }
+        else
+        {
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(QUERY_THREAD_QTY, QUERY_THREAD_QTY, QUERY_THREAD_IDLE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(), ThreadUtils.newThreadFactory("ServiceDiscovery-query"));
+            executor.allowCoreThreadTimeOut(true);
+            this.ownedQueryExecutor = executor;
+            this.queryExecutor = executor;
+        }
         if ( thisInstance != null )
         {
             Entry<T> entry = new Entry<T>(thisInstance);
@@ -140,33 +230,47 @@ public class ServiceDiscoveryImpl<T> implements ServiceDiscovery<T>
     @Override
     public void close() throws IOException
     {
+        isClosed.set(true);
+
+        // providers first as they close their own caches
+        for ( ServiceProvider<T> provider : Lists.newArrayList(providers) )
+        {
+            CloseableUtils.closeQuietly(provider);
+        }
         for ( ServiceCache<T> cache : Lists.newArrayList(caches) )
         {
             CloseableUtils.closeQuietly(cache);
         }
-        for ( ServiceProvider<T> provider : Lists.newArrayList(providers) )
+        List<ServiceCacheImpl<T>> remainingSharedCaches = Lists.newArrayList();
+        synchronized(sharedCaches)
         {
-            CloseableUtils.closeQuietly(provider);
+            for ( SharedCacheHolder<T> holder : sharedCaches.values() )
+            {
+                remainingSharedCaches.add(holder.cache);
+            }
+            sharedCaches.clear();
+        }
+        for ( ServiceCacheImpl<T> cache : remainingSharedCaches )
+        {
+            CloseableUtils.closeQuietly(cache);
         }
 
-        for ( Entry<T> entry : services.values() )
+        try
         {
-            try
-            {
-                internalUnregisterService(entry);
-            }
-            catch ( KeeperException.NoNodeException ignore )
-            {
-                // ignore
-            }
-            catch ( Exception e )
-            {
-                ThreadUtils.checkInterrupted(e);
-                log.error("Could not unregister instance: " + entry.service.getName(), e);
-            }
+            internalUnregisterServices(Lists.newArrayList(services.values()));
+        }
+        catch ( Exception e )
+        {
+            ThreadUtils.checkInterrupted(e);
+            log.error("Could not unregister instances", e);
         }
 
         client.getConnectionStateListenable().removeListener(connectionStateListener);
+        reRegistrationExecutor.shutdownNow();
+        if ( ownedQueryExecutor != null )
+        {
+            ownedQueryExecutor.shutdownNow();
+        }
     }
 
     /**
@@ -191,6 +295,30 @@ public class ServiceDiscoveryImpl<T> implements ServiceDiscovery<T>
         }
     }
 
+    /**
+     * Register/re-register several service instances. Where possible, the instances are written
+     * with a single transaction
+     *
+     * @param instances services to add
+     * @throws Exception errors
+     */
+    @Override
+    public void registerServices(Collection<ServiceInstance<T>> instances) throws Exception
+    {
+        for ( ServiceInstance<T> service : instances )
+        {
+            Entry<T> newEntry = new Entry<T>(service);
+            if ( services.putIfAbsent(service.getId(), newEntry) == null )
+            {
+                synchronized(newEntry)
+                {
+                    newEntry.cache = makeNodeCache(service);
+                }
+            }
+        }
+        internalRegisterServices(instances);
+    }
+
     @Override
     public void updateService(final ServiceInstance<T> service) throws Exception
     {
@@ -220,19 +348,7 @@ public class ServiceDiscoveryImpl<T> implements ServiceDiscovery<T>
         {
             try
             {
-				CreateMode mode;
-				switch (service.getServiceType()) {
-				case DYNAMIC:
-					mode = CreateMode.EPHEMERAL;
-					break;
-				case DYNAMIC_SEQUENTIAL:
-					mode = CreateMode.EPHEMERAL_SEQUENTIAL;
-					break;
-				default:
-					mode = CreateMode.PERSISTENT;
-					break;
-				}
-                client.create().creatingParentContainersIfNeeded().withMode(mode).forPath(path, bytes);
+                client.create().creatingParentContainersIfNeeded().withMode(createModeFor(service)).forPath(path, bytes);
                 isDone = true;
             }
             catch ( KeeperException.NodeExistsException e )
@@ -242,6 +358,135 @@ public class ServiceDiscoveryImpl<T> implements ServiceDiscovery<T>
         }
     }
 
+    /**
+     * Writes the given instances using as few transactions as possible. If some of the instances already
+     * exist they are deleted and re-created in the same transaction. If the instances keep changing
+     * underneath us, they are registered one at a time.
+     *
+     * @param instances instances to write
+     * @throws Exception errors
+     */
+    @VisibleForTesting
+    protected void internalRegisterServices(Collection<ServiceInstance<T>> instances) throws Exception
+    {
+        Map<String, ServiceInstance<T>> instancesByPath = Maps.newLinkedHashMap();
+        for ( ServiceInstance<T> instance : instances )
+        {
+            instancesByPath.put(pathForInstance(instance.getName(), instance.getId()), instance);
+        }
+
+        for ( List<Map.Entry<String, ServiceInstance<T>>> batch : Iterables.partition(instancesByPath.entrySet(), MAX_INSTANCES_PER_TRANSACTION) )
+        {
+            internalRegisterBatch(batch);
+        }
+    }
+
+    private void internalRegisterBatch(List<Map.Entry<String, ServiceInstance<T>>> batch) throws Exception
+    {
+        Set<String> existingPaths = Sets.newHashSet();
+        final int MAX_TRIES = 3;
+        for ( int i = 0; i < MAX_TRIES; ++i )
+        {
+            try
+            {
+                CuratorTransaction transaction = client.inTransaction();
+                CuratorTransactionFinal transactionFinal = null;
+                for ( Map.Entry<String, ServiceInstance<T>> entry : batch )
+                {
+                    if ( existingPaths.contains(entry.getKey()) )
+                    {
+                        // must delete then re-create so that watchers fire
+                        transaction = transactionFinal = transaction.delete().forPath(entry.getKey()).and();
+                    }
+                    byte[] bytes = serializer.serialize(entry.getValue());
+                    transaction = transactionFinal = transaction.create().withMode(createModeFor(entry.getValue())).forPath(entry.getKey(), bytes).and();
+                }
+                transactionFinal.commit();
+                return;
+            }
+            catch ( KeeperException.NoNodeException e )
+            {
+                ensureServicePaths(batch);
+                existingPaths = findExistingPaths(batch);
+            }
+            catch ( KeeperException.NodeExistsException e )
+            {
+                existingPaths = findExistingPaths(batch);
+            }
+        }
+
+        log.debug("Instances changed during bulk registration - registering them one at a time");
+        for ( Map.Entry<String, ServiceInstance<T>> entry : batch )
+        {
+            internalRegisterService(entry.getValue());
+        }
+    }
+
+    private void ensureServicePaths(List<Map.Entry<String, ServiceInstance<T>>> batch) throws Exception
+    {
+        Set<String> names = Sets.newHashSet();
+        for ( Map.Entry<String, ServiceInstance<T>> entry : batch )
+        {
+            if ( names.add(entry.getValue().getName()) )
+            {
+                try
+                {
+                    client.create().creatingParentContainersIfNeeded().forPath(pathForName(entry.getValue().getName()));
+                }
+                catch ( KeeperException.NodeExistsException ignore )
+                {
+                    // ignore
+                }
+            }
+        }
+    }
+
+    private Set<String> findExistingPaths(List<Map.Entry<String, ServiceInstance<T>>> batch) throws Exception
+    {
+        Set<String> names = Sets.newHashSet();
+        Set<String> existingPaths = Sets.newHashSet();
+        for ( Map.Entry<String, ServiceInstance<T>> entry : batch )
+        {
+            String name = entry.getValue().getName();
+            if ( names.add(name) )
+            {
+                try
+                {
+                    for ( String id : client.getChildren().forPath(pathForName(name)) )
+                    {
+                        existingPaths.add(pathForInstance(name, id));
+                    }
+                }
+                catch ( KeeperException.NoNodeException ignore )
+                {
+                    // ignore
+                }
+            }
+        }
+        return existingPaths;
+    }
+
+    private static CreateMode createModeFor(ServiceInstance<?> service)
+    {
+        switch ( service.getServiceType() )
+        {
+            case DYNAMIC:
+            {
+                return CreateMode.EPHEMERAL;
+            }
+
+            case DYNAMIC_SEQUENTIAL:
+            {
+                return CreateMode.EPHEMERAL_SEQUENTIAL;
+            }
+
+            default:
+            {
+                return CreateMode.PERSISTENT;
+            }
+        }
+    }
+
     /**
      * Unregister/remove a service instance
      *
@@ -255,6 +500,28 @@ public class ServiceDiscoveryImpl<T> implements ServiceDiscovery<T>
         internalUnregisterService(entry);
     }
 
+    /**
+     * Unregister/remove several service instances. Where possible, the instances are deleted
+     * with a single transaction
+     *
+     * @param instances the services
+     * @throws Exception errors
+     */
+    @Override
+    public void unregisterServices(Collection<ServiceInstance<T>> instances) throws Exception
+    {
+        List<Entry<T>> entries = Lists.newArrayList();
+        for ( ServiceInstance<T> service : instances )
+        {
+            Entry<T> entry = services.remove(service.getId());
+            if ( entry != null )
+            {
+                entries.add(entry);
+            }
+        }
+        internalUnregisterServices(entries);
+    }
+
     /**
      * Allocate a new builder. {@link ServiceProviderBuilder#providerStrategy} is set to {@link RoundRobinStrategy}
      *
@@ -264,20 +531,20 @@ public class ServiceDiscoveryImpl<T> implements ServiceDiscovery<T>
     public ServiceProviderBuilder<T> serviceProviderBuilder()
     {
         return new ServiceProviderBuilderImpl<T>(this)
-            .providerStrategy(new RoundRobinStrategy<T>())
-            .threadFactory(ThreadUtils.newThreadFactory("ServiceProvider"));
+            .providerStrategy(new RoundRobinStrategy<T>());
     }
 
     /**
-     * Allocate a new service cache builder. The refresh padding is defaulted to 1 second.
+     * Allocate a new service cache builder. Unless a thread factory or executor is set on the
+     * builder, the cache shares a single cache for the service name with all other caches and providers
+     * of this discovery.
      *
      * @return new cache builder
      */
     @Override
     public ServiceCacheBuilder<T> serviceCacheBuilder()
     {
-        return new ServiceCacheBuilderImpl<T>(this)
-            .threadFactory(ThreadUtils.newThreadFactory("ServiceCache"));
+        return new ServiceCacheBuilderImpl<T>(this);
     }
 
     /**
@@ -332,7 +599,10 @@ public class ServiceDiscoveryImpl<T> implements ServiceDiscovery<T>
 
     void cacheOpened(ServiceCache<T> cache)
     {
-        caches.add(cache);
+        if ( !isSharedCache(cache) )
+        {
+            caches.add(cache);
+        }
     }
 
     void cacheClosed(ServiceCache<T> cache)
@@ -350,6 +620,119 @@ public class ServiceDiscoveryImpl<T> implements ServiceDiscovery<T>
         providers.remove(cache);
     }
 
+    /**
+     * Return the shared cache for the given service name, starting it if needed. Callers that find
+     * the cache being started by another caller wait for it to finish starting. Each successful call
+     * must be balanced with a call to {@link #releaseSharedCache(String, ServiceCacheImpl)}
+     */
+    ServiceCacheImpl<T> acquireSharedCache(String name) throws Exception
+    {
+        SharedCacheHolder<T> holder;
+        boolean isNewHolder = false;
+        synchronized(sharedCaches)
+        {
+            holder = sharedCaches.get(name);
+            if ( holder == null )
+            {
+                holder = new SharedCacheHolder<T>(new ServiceCacheImpl<T>(this, name, sharedCacheThreadFactory));
+                sharedCaches.put(name, holder);
+                isNewHolder = true;
+            }
+            ++holder.referenceCount;
+        }
+
+        // start outside of the lock so that acquiring/releasing caches for other names isn't blocked
+        if ( isNewHolder )
+        {
+            try
+            {
+                holder.cache.start();
+            }
+            catch ( Exception e )
+            {
+                holder.startException = e;
+                removeSharedCache(name, holder);
+                CloseableUtils.closeQuietly(holder.cache);
+                throw e;
+            }
+            finally
+            {
+                holder.startedLatch.countDown();
+            }
+        }
+        else
+        {
+            try
+            {
+                holder.startedLatch.await();
+            }
+            catch ( InterruptedException e )
+            {
+                releaseSharedCache(name, holder.cache);
+                throw e;
+            }
+            if ( holder.startException != null )
+            {
+                throw new Exception("Could not start the shared cache for: " + name, holder.startException);
+            }
+        }
+        return holder.cache;
+    }
+
+    void releaseSharedCache(String name, ServiceCacheImpl<T> cache)
+    {
+        ServiceCacheImpl<T> cacheToClose = null;
+        synchronized(sharedCaches)
+        {
+            SharedCacheHolder<T> holder = sharedCaches.get(name);
+            if ( (holder != null) && (holder.cache == cache) && (--holder.referenceCount == 0) )
+            {
+                sharedCaches.remove(name);
+                cacheToClose = holder.cache;
+            }
+        }
+        if ( cacheToClose != null )
+        {
+            CloseableUtils.closeQuietly(cacheToClose);
+        }
+    }
+
+    private void removeSharedCache(String name, SharedCacheHolder<T> holder)
+    {
+        synchronized(sharedCaches)
+        {
+            if ( sharedCaches.get(name) == holder )
+            {
+                sharedCaches.remove(name);
+            }
+        }
+    }
+
+    private boolean isSharedCache(ServiceCache<T> cache)
+    {
+        synchronized(sharedCaches)
+        {
+            for ( SharedCacheHolder<T> holder : sharedCaches.values() )
+            {
+                if ( holder.cache == cache )
+                {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @VisibleForTesting
+    int debugSharedCacheReferenceCount(String name)
+    {
+        synchronized(sharedCaches)
+        {
+            SharedCacheHolder<T> holder = sharedCaches.get(name);
+            return (holder != null) ? holder.referenceCount : 0;
+        }
+    }
+
     CuratorFramework getClient()
     {
         return client;
@@ -387,15 +770,132 @@ public class ServiceDiscoveryImpl<T> implements ServiceDiscovery<T>
             }
         }
 
+        for ( ServiceInstance<T> instance : readInstances(name, instanceIds) )
+        {
+            builder.add(instance);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Reads the given instances in the background with at most {@link #MAX_OUTSTANDING_QUERIES}
+     * reads outstanding at a time. Instances are deserialized by the query executor. Instances
+     * that no longer exist are skipped.
+     */
+    private List<ServiceInstance<T>> readInstances(String name, List<String> instanceIds) throws Exception
+    {
+        if ( isZooKeeperEventThread() )
+        {
+            // background results are delivered by this thread - waiting for them here would never end
+            return readInstancesInForeground(name, instanceIds);
+        }
+
+        final AtomicReferenceArray<ServiceInstance<T>> instances = new AtomicReferenceArray<ServiceInstance<T>>(instanceIds.size());
+        final AtomicReference<Exception> error = new AtomicReference<Exception>(null);
+        final Semaphore window = new Semaphore(MAX_OUTSTANDING_QUERIES);
+        final CountDownLatch latch = new CountDownLatch(instanceIds.size());
+        for ( int i = 0; i < instanceIds.size(); ++i )
+        {
+            final int index = i;
+            BackgroundCallback callback = new BackgroundCallback()
+            {
+                @Override
+                public void processResult(CuratorFramework client, CuratorEvent event) throws Exception
+                {
+                    try
+                    {
+                        if ( event.getResultCode() == KeeperException.Code.OK.intValue() )
+                        {
+                            instances.set(index, serializer.deserialize(event.getData()));
+                        }
+                        else if ( event.getResultCode() != KeeperException.Code.NONODE.intValue() )
+                        {
+                            error.compareAndSet(null, KeeperException.create(KeeperException.Code.get(event.getResultCode()), event.getPath()));
+                        }
+                    }
+                    catch ( Exception e )
+                    {
+                        error.compareAndSet(null, e);
+                    }
+                    finally
+                    {
+                        window.release();
+                        latch.countDown();
+                    }
+                }
+            };
+
+            acquireQuerySlot(window);
+            if ( error.get() != null )
+            {
+                break;
+            }
+            client.getData().inBackground(callback, queryExecutor).forPath(pathForInstance(name, instanceIds.get(i)));
+        }
+
+        if ( error.get() == null )
+        {
+            awaitQueries(latch);
+        }
+        if ( error.get() != null )
+        {
+            throw error.get();
+        }
+
+        List<ServiceInstance<T>> result = Lists.newArrayListWithCapacity(instances.length());
+        for ( int i = 0; i < instances.length(); ++i )
+        {
+            ServiceInstance<T> instance = instances.get(i);
+            if ( instance != null )
+            {
+                result.add(instance);
+            }
+        }
+        return result;
+    }
+
+    private List<ServiceInstance<T>> readInstancesInForeground(String name, List<String> instanceIds) throws Exception
+    {
+        List<ServiceInstance<T>> result = Lists.newArrayListWithCapacity(instanceIds.size());
         for ( String id : instanceIds )
         {
             ServiceInstance<T> instance = queryForInstance(name, id);
             if ( instance != null )
             {
-                builder.add(instance);
+                result.add(instance);
             }
         }
-        return builder.build();
+        return result;
+    }
+
+    private static boolean isZooKeeperEventThread()
+    {
+        return Thread.currentThread().getClass().getName().equals(ZOOKEEPER_EVENT_THREAD_CLASS);
+    }
+
+    private void acquireQuerySlot(Semaphore window) throws Exception
+    {
+        while ( !window.tryAcquire(QUERY_CHECK_MS, TimeUnit.MILLISECONDS) )
+        {
+            checkCanQuery();
+        }
+    }
+
+    private void awaitQueries(CountDownLatch latch) throws Exception
+    {
+        while ( !latch.await(QUERY_CHECK_MS, TimeUnit.MILLISECONDS) )
+        {
+            checkCanQuery();
+        }
+    }
+
+    // callbacks are never made once the client or this discovery is closed - don't wait forever
+    private void checkCanQuery()
+    {
+        if ( (client.getState() != CuratorFrameworkState.STARTED) || isClosed.get() )
+        {
+            throw new IllegalStateException("Client or service discovery has been closed");
+        }
     }
 
     @VisibleForTesting
@@ -448,15 +948,92 @@ public class ServiceDiscoveryImpl<T> implements ServiceDiscovery<T>
 
     private void reRegisterServices() throws Exception
     {
-        for ( final Entry<T> entry : services.values() )
+        List<ServiceInstance<T>> instances = Lists.newArrayList();
+        for ( Entry<T> entry : services.values() )
         {
-            synchronized(entry)
+            instances.add(entry.service);
+        }
+        if ( instances.size() > 0 )
+        {
+            internalRegisterServices(instances);
+        }
+    }
+
+    private void scheduleReRegistration(final int attempt)
+    {
+        long delayMs = getReRegistrationDelayMs(attempt);
+        if ( delayMs == 0 )
+        {
+            cancelReRegistration(null);
+            reRegister(attempt);
+            return;
+        }
+
+        Runnable command = new Runnable()
+        {
+            @Override
+            public void run()
             {
-                internalRegisterService(entry.service);
+                reRegister(attempt);
             }
+        };
+        try
+        {
+            cancelReRegistration(reRegistrationExecutor.schedule(command, delayMs, TimeUnit.MILLISECONDS));
+        }
+        catch ( RejectedExecutionException ignore )
+        {
+            // we've been closed
         }
     }
 
+    private void cancelReRegistration(Future<?> newTask)
+    {
+        Future<?> oldTask = reRegistrationTask.getAndSet(newTask);
+        if ( oldTask != null )
+        {
+            oldTask.cancel(false);
+        }
+    }
+
+    private void reRegister(int attempt)
+    {
+        try
+        {
+            reRegisterServices();
+        }
+        catch ( Exception e )
+        {
+            ThreadUtils.checkInterrupted(e);
+            if ( client.getZookeeperClient().isConnected() && !reRegistrationExecutor.isShutdown() )
+            {
+                log.error("Could not re-register instances after reconnection - will try again", e);
+                scheduleReRegistration(attempt + 1);
+            }
+            else
+            {
+                // the next reconnection will re-register
+                log.error("Could not re-register instances after reconnection", e);
+            }
+        }
+    }
+
+    // random jitter spreads re-registration across processes that reconnected at the same time. Retries back off exponentially.
+    private long getReRegistrationDelayMs(int attempt)
+    {
+        long delayMs = 0;
+        if ( attempt > 0 )
+        {
+            long backoffMs = Math.min((long)BASE_RE_REGISTRATION_BACKOFF_MS << Math.min(attempt - 1, 16), MAX_RE_REGISTRATION_BACKOFF_MS);
+            delayMs = (backoffMs / 2) + (long)(random.nextDouble() * (backoffMs / 2));
+        }
+        if ( reRegistrationJitterMs > 0 )
+        {
+            delayMs += (long)(random.nextDouble() * reRegistrationJitterMs);
+        }
+        return delayMs;
+    }
+
     private NodeCache makeNodeCache(final ServiceInstance<T> instance)
     {
         if ( !watchInstances )
@@ -501,6 +1078,60 @@ public class ServiceDiscoveryImpl<T> implements ServiceDiscovery<T>
         return nodeCache;
     }
 
+    private void internalUnregisterServices(List<Entry<T>> entries) throws Exception
+    {
+        for ( Entry<T> entry : entries )
+        {
+            synchronized(entry)
+            {
+                if ( entry.cache != null )
+                {
+                    CloseableUtils.closeQuietly(entry.cache);
+                    entry.cache = null;
+                }
+            }
+        }
+
+        Exception firstError = null;
+        for ( List<Entry<T>> batch : Iterables.partition(entries, MAX_INSTANCES_PER_TRANSACTION) )
+        {
+            try
+            {
+                CuratorTransaction transaction = client.inTransaction();
+                CuratorTransactionFinal transactionFinal = null;
+                for ( Entry<T> entry : batch )
+                {
+                    transaction = transactionFinal = transaction.delete().forPath(pathForInstance(entry.service.getName(), entry.service.getId())).and();
+                }
+                transactionFinal.commit();
+            }
+            catch ( KeeperException e )
+            {
+                // some instances are already gone or the connection had a problem - fall back to guaranteed deletes one at a time
+                for ( Entry<T> entry : batch )
+                {
+                    try
+                    {
+                        internalUnregisterService(entry);
+                    }
+                    catch ( Exception e2 )
+                    {
+                        ThreadUtils.checkInterrupted(e2);
+                        log.error("Could not unregister instance: " + entry.service.getName(), e2);
+                        if ( firstError == null )
+                        {
+                            firstError = e2;
+                        }
+                    }
+                }
+            }
+        }
+        if ( firstError != null )
+        {
+            throw firstError;
+        }
+    }
+
     private void internalUnregisterService(final Entry<T> entry) throws Exception
     {
         if ( entry != null )
@@ -21,6 +21,8 @@ package org.apache.curator.x.discovery.details;
 import com.google.common.collect.Lists;
 import org.apache.curator.x.discovery.DownInstancePolicy;
 import org.apache.curator.x.discovery.InstanceFilter;
+import org.apache.curator.x.discovery.LocalityPolicy;
+import org.apache.curator.x.discovery.LocalityServiceProviderBuilder;
 import org.apache.curator.x.discovery.ProviderStrategy;
 import org.apache.curator.x.discovery.ServiceProvider;
 import org.apache.curator.x.discovery.ServiceProviderBuilder;
@@ -31,7 +33,7 @@ import java.util.concurrent.ThreadFactory;
 /**
  * Builder for service providers
  */
-class ServiceProviderBuilderImpl<T> implements ServiceProviderBuilder<T>
+class ServiceProviderBuilderImpl<T> implements LocalityServiceProviderBuilder<T>
 {
     private ServiceDiscoveryImpl<T> discovery;
     private String serviceName;
@@ -39,10 +41,11 @@ class ServiceProviderBuilderImpl<T> implements ServiceProviderBuilder<T>
     private ThreadFactory threadFactory;
     private List<InstanceFilter<T>> filters = Lists.newArrayList();
     private DownInstancePolicy downInstancePolicy = new DownInstancePolicy();
+    private LocalityPolicy<T> localityPolicy = null;
 
     public ServiceProvider<T> build()
     {
-        return new ServiceProviderImpl<T>(discovery, serviceName, providerStrategy, threadFactory, filters, downInstancePolicy);
+        return new ServiceProviderImpl<T>(discovery, serviceName, providerStrategy, threadFactory, filters, downInstancePolicy, localityPolicy);
     }
 
     ServiceProviderBuilderImpl(ServiceDiscoveryImpl<T> discovery)
@@ -96,6 +99,13 @@ class ServiceProviderBuilderImpl<T> implements ServiceProviderBuilder<T>
         return this;
     }
 
+    @Override
+    public ServiceProviderBuilder<T> localityPolicy(LocalityPolicy<T> localityPolicy)
+    {
+        this.localityPolicy = localityPolicy;
+        return this;
+    }
+
     @Override
     public ServiceProviderBuilder<T> additionalFilter(InstanceFilter<T> filter)
     {
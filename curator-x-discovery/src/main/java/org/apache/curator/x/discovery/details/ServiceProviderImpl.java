@@ -18,24 +18,28 @@
  */
 package org.apache.curator.x.discovery.details;
 
-import com.google.common.collect.Lists;
 import org.apache.curator.x.discovery.DownInstancePolicy;
+import org.apache.curator.x.discovery.DownInstanceStats;
+import org.apache.curator.x.discovery.FeedbackProviderStrategy;
+import org.apache.curator.x.discovery.FeedbackServiceProvider;
 import org.apache.curator.x.discovery.InstanceFilter;
+import org.apache.curator.x.discovery.LocalityPolicy;
 import org.apache.curator.x.discovery.ProviderStrategy;
 import org.apache.curator.x.discovery.ServiceCache;
+import org.apache.curator.x.discovery.ServiceCacheBuilder;
 import org.apache.curator.x.discovery.ServiceInstance;
-import org.apache.curator.x.discovery.ServiceProvider;
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 
 /**
  * The main interface for Service Discovery. Encapsulates the discovery service for a particular
  * named service along with a provider strategy. 
  */
-public class ServiceProviderImpl<T> implements ServiceProvider<T>
+public class ServiceProviderImpl<T> implements FeedbackServiceProvider<T>
 {
     private final ServiceCache<T> cache;
     private final InstanceProvider<T> instanceProvider;
@@ -44,16 +48,32 @@ public class ServiceProviderImpl<T> implements ServiceProvider<T>
     private final DownInstanceManager<T> downInstanceManager;
 
     public ServiceProviderImpl(ServiceDiscoveryImpl<T> discovery, String serviceName, ProviderStrategy<T> providerStrategy, ThreadFactory threadFactory, List<InstanceFilter<T>> filters, DownInstancePolicy downInstancePolicy)
+    {
+        this(discovery, serviceName, providerStrategy, threadFactory, filters, downInstancePolicy, null);
+    }
+
+    public ServiceProviderImpl(ServiceDiscoveryImpl<T> discovery, String serviceName, ProviderStrategy<T> providerStrategy, ThreadFactory threadFactory, List<InstanceFilter<T>> filters, DownInstancePolicy downInstancePolicy, LocalityPolicy<T> localityPolicy)
     {
         this.discovery = discovery;
         this.providerStrategy = providerStrategy;
 
         downInstanceManager = new DownInstanceManager<T>(downInstancePolicy);
-        cache = discovery.serviceCacheBuilder().name(serviceName).threadFactory(threadFactory).build();
-
-        ArrayList<InstanceFilter<T>> localFilters = Lists.newArrayList(filters);
-        localFilters.add(downInstanceManager);
-        instanceProvider = new FilteredInstanceProvider<T>(cache, localFilters);
+        ServiceCacheBuilder<T> cacheBuilder = discovery.serviceCacheBuilder().name(serviceName);
+        if ( threadFactory != null )
+        {
+            cacheBuilder = cacheBuilder.threadFactory(threadFactory);
+        }
+        cache = cacheBuilder.build();
+        if ( localityPolicy != null )
+        {
+            InstanceProvider<T> candidates = new FilteredInstanceProvider<T>(cache, filters);
+            InstanceProvider<T> healthy = new FilteredInstanceProvider<T>(candidates, Collections.<InstanceFilter<T>>emptyList(), downInstanceManager);
+            instanceProvider = new LocalityInstanceProvider<T>(candidates, healthy, localityPolicy);
+        }
+        else
+        {
+            instanceProvider = new FilteredInstanceProvider<T>(cache, filters, downInstanceManager);
+        }
     }
 
     /**
@@ -107,6 +127,36 @@ public class ServiceProviderImpl<T> implements ServiceProvider<T>
     @Override
     public void noteError(ServiceInstance<T> instance)
     {
-        downInstanceManager.add(instance);
+        downInstanceManager.noteError(instance);
+        if ( providerStrategy instanceof FeedbackProviderStrategy )
+        {
+            ((FeedbackProviderStrategy<T>)providerStrategy).noteError(instance);
+        }
+    }
+
+    @Override
+    public void noteSuccess(ServiceInstance<T> instance)
+    {
+        downInstanceManager.noteSuccess(instance);
+        if ( providerStrategy instanceof FeedbackProviderStrategy )
+        {
+            ((FeedbackProviderStrategy<T>)providerStrategy).noteSuccess(instance);
+        }
+    }
+
+    @Override
+    public void noteLatency(ServiceInstance<T> instance, long latency, TimeUnit unit)
+    {
+        downInstanceManager.noteSuccess(instance);
+        if ( providerStrategy instanceof FeedbackProviderStrategy )
+        {
+            ((FeedbackProviderStrategy<T>)providerStrategy).noteLatency(instance, unit.toMillis(latency));
+        }
+    }
+
+    @Override
+    public DownInstanceStats getDownInstanceStats()
+    {
+        return downInstanceManager.getStats();
     }
 }
@@ -0,0 +1,122 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.curator.x.discovery.details;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.MoreExecutors;
+import org.apache.curator.x.discovery.ServiceCache;
+import org.apache.curator.x.discovery.ServiceInstance;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A service cache that is a view of a reference counted cache shared by all users of the same
+ * service name in a {@link ServiceDiscoveryImpl}. Only the shared cache watches ZooKeeper and holds
+ * deserialized instances. Listeners added to this view are removed from the shared cache when the
+ * view is closed.
+ */
+class SharedServiceCache<T> implements ServiceCache<T>
+{
+    private final ServiceDiscoveryImpl<T>                   discovery;
+    private final String                                    name;
+    private final AtomicReference<State>                    state = new AtomicReference<State>(State.LATENT);
+    private final Map<ServiceCacheListener, Executor>       listeners = Maps.newLinkedHashMap();
+    private volatile ServiceCacheImpl<T>                    cache = null;
+
+    private enum State
+    {
+        LATENT,
+        STARTED,
+        STOPPED
+    }
+
+    SharedServiceCache(ServiceDiscoveryImpl<T> discovery, String name)
+    {
+        this.discovery = Preconditions.checkNotNull(discovery, "discovery cannot be null");
+        this.name = Preconditions.checkNotNull(name, "name cannot be null");
+    }
+
+    @Override
+    public List<ServiceInstance<T>> getInstances()
+    {
+        ServiceCacheImpl<T> localCache = cache;
+        return (localCache != null) ? localCache.getInstances() : ImmutableList.<ServiceInstance<T>>of();
+    }
+
+    @Override
+    public synchronized void start() throws Exception
+    {
+        Preconditions.checkState(state.compareAndSet(State.LATENT, State.STARTED), "Cannot be started more than once");
+
+        ServiceCacheImpl<T> localCache = discovery.acquireSharedCache(name);
+        for ( Map.Entry<ServiceCacheListener, Executor> entry : listeners.entrySet() )
+        {
+            localCache.addListener(entry.getKey(), entry.getValue());
+        }
+        cache = localCache;
+        discovery.cacheOpened(this);
+    }
+
+    @Override
+    public synchronized void close() throws IOException
+    {
+        Preconditions.checkState(state.compareAndSet(State.STARTED, State.STOPPED), "Already closed or has not been started");
+
+        ServiceCacheImpl<T> localCache = cache;
+        cache = null;
+        for ( ServiceCacheListener listener : listeners.keySet() )
+        {
+            localCache.removeListener(listener);
+        }
+        listeners.clear();
+
+        discovery.releaseSharedCache(name, localCache);
+        discovery.cacheClosed(this);
+    }
+
+    @Override
+    public void addListener(ServiceCacheListener listener)
+    {
+        addListener(listener, MoreExecutors.sameThreadExecutor());
+    }
+
+    @Override
+    public synchronized void addListener(ServiceCacheListener listener, Executor executor)
+    {
+        listeners.put(listener, executor);
+        if ( cache != null )
+        {
+            cache.addListener(listener, executor);
+        }
+    }
+
+    @Override
+    public synchronized void removeListener(ServiceCacheListener listener)
+    {
+        if ( (listeners.remove(listener) != null) && (cache != null) )
+        {
+            cache.removeListener(listener);
+        }
+    }
+}
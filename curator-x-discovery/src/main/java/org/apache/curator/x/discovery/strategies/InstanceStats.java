@@ -0,0 +1,82 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.curator.x.discovery.strategies;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Request stats for a single instance
+ */
+class InstanceStats
+{
+    private final AtomicInteger inFlight = new AtomicInteger(0);
+    private volatile double latencyMs = 0;
+    private long lastSampleMs = 0;  // guarded by this
+    private boolean hasSample = false;  // guarded by this
+
+    int getInFlight()
+    {
+        return inFlight.get();
+    }
+
+    double getLatencyMs()
+    {
+        return latencyMs;
+    }
+
+    void incrementInFlight()
+    {
+        inFlight.incrementAndGet();
+    }
+
+    void decrementInFlight()
+    {
+        int current = inFlight.get();
+        while ( (current > 0) && !inFlight.compareAndSet(current, current - 1) )
+        {
+            current = inFlight.get();
+        }
+    }
+
+    /**
+     * Adds a sample to the peak-sensitive, time decayed moving average of the latency. Samples higher
+     * than the average replace it so that a slow instance is penalized immediately. Otherwise, the
+     * weight of the old average decays by the time since the last sample.
+     *
+     * @param sampleMs latency of the request
+     * @param decayMs decay period
+     */
+    synchronized void addLatencySample(long sampleMs, long decayMs)
+    {
+        long        now = System.currentTimeMillis();
+        double      localLatencyMs = latencyMs;
+        if ( !hasSample || (sampleMs > localLatencyMs) )
+        {
+            localLatencyMs = sampleMs;
+        }
+        else
+        {
+            double  weight = Math.exp(-Math.max(now - lastSampleMs, 0) / (double)decayMs);
+            localLatencyMs = (localLatencyMs * weight) + (sampleMs * (1.0 - weight));
+        }
+        latencyMs = localLatencyMs;
+        lastSampleMs = now;
+        hasSample = true;
+    }
+}
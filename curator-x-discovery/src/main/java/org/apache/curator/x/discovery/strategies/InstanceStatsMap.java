@@ -0,0 +1,76 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.curator.x.discovery.strategies;
+
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import org.apache.curator.x.discovery.ServiceInstance;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Stats for a set of instances keyed by instance id
+ */
+class InstanceStatsMap
+{
+    private final ConcurrentMap<String, InstanceStats> stats = Maps.newConcurrentMap();
+
+    InstanceStats get(ServiceInstance<?> instance)
+    {
+        InstanceStats   instanceStats = stats.get(instance.getId());
+        if ( instanceStats == null )
+        {
+            InstanceStats   newStats = new InstanceStats();
+            instanceStats = stats.putIfAbsent(instance.getId(), newStats);
+            if ( instanceStats == null )
+            {
+                instanceStats = newStats;
+            }
+        }
+        return instanceStats;
+    }
+
+    InstanceStats getIfPresent(ServiceInstance<?> instance)
+    {
+        return stats.get(instance.getId());
+    }
+
+    /**
+     * Removes the stats of instances that are no longer in the given list. To keep the check
+     * cheap, stats are only purged when there are more stats than instances. This bounds the
+     * number of stale entries to the number of instances.
+     *
+     * @param instances current instances
+     */
+    void purge(List<? extends ServiceInstance<?>> instances)
+    {
+        if ( stats.size() <= instances.size() )
+        {
+            return;
+        }
+
+        Set<String>     ids = Sets.newHashSet();
+        for ( ServiceInstance<?> instance : instances )
+        {
+            ids.add(instance.getId());
+        }
+        stats.keySet().retainAll(ids);
+    }
+}
@@ -0,0 +1,82 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.curator.x.discovery.strategies;
+
+import com.google.common.base.Preconditions;
+import org.apache.curator.x.discovery.ServiceInstance;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This strategy picks two random instances and returns the one with the lower cost. The
+ * cost of an instance combines a moving average of its latency (fed by
+ * {@link org.apache.curator.x.discovery.FeedbackServiceProvider#noteLatency(ServiceInstance, long, TimeUnit)})
+ * with the number of requests in flight to it. The average reacts immediately to latency
+ * spikes and otherwise decays over the decay period (10 seconds by default). Instances without
+ * latency samples are only weighed by their in-flight requests so new instances receive traffic.
+ */
+public class LatencyAwareStrategy<T> extends PowerOfTwoChoicesStrategy<T>
+{
+    private final long      decayMs;
+
+    private static final long DEFAULT_DECAY_MS = TimeUnit.SECONDS.toMillis(10);
+
+    public LatencyAwareStrategy()
+    {
+        this(DEFAULT_DECAY_MS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @param decay period over which old latency samples lose their weight
+     * @param unit time unit
+     */
+    public LatencyAwareStrategy(long decay, TimeUnit unit)
+    {
+        decayMs = unit.toMillis(decay);
+        Preconditions.checkArgument(decayMs > 0, "decay must be greater than 0");
+    }
+
+    @Override
+    public void noteLatency(ServiceInstance<T> instance, long latencyMs)
+    {
+        InstanceStats       instanceStats = getStats().getIfPresent(instance);
+        if ( instanceStats != null )
+        {
+            instanceStats.addLatencySample(latencyMs, decayMs);
+            instanceStats.decrementInFlight();
+        }
+    }
+
+    /**
+     * Returns the current moving average of the latency of the given instance
+     *
+     * @param instance the instance
+     * @return latency in ms or 0 if there are no samples
+     */
+    public double getLatencyMs(ServiceInstance<T> instance)
+    {
+        InstanceStats       instanceStats = getStats().getIfPresent(instance);
+        return (instanceStats != null) ? instanceStats.getLatencyMs() : 0;
+    }
+
+    @Override
+    double cost(InstanceStats instanceStats)
+    {
+        return (instanceStats.getLatencyMs() + 1) * (instanceStats.getInFlight() + 1);
+    }
+}
@@ -0,0 +1,115 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.curator.x.discovery.strategies;
+
+import org.apache.curator.x.discovery.FeedbackProviderStrategy;
+import org.apache.curator.x.discovery.ServiceInstance;
+import org.apache.curator.x.discovery.details.InstanceProvider;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * This strategy picks two random instances and returns the one with the fewest requests
+ * in flight. A request is in flight from the time the instance is returned until
+ * {@link org.apache.curator.x.discovery.FeedbackServiceProvider#noteSuccess(ServiceInstance)},
+ * {@link org.apache.curator.x.discovery.FeedbackServiceProvider#noteLatency(ServiceInstance, long, java.util.concurrent.TimeUnit)} or
+ * {@link org.apache.curator.x.discovery.ServiceProvider#noteError(ServiceInstance)} is called for it.
+ */
+public class PowerOfTwoChoicesStrategy<T> implements FeedbackProviderStrategy<T>
+{
+    private final Random                random = new Random();
+    private final InstanceStatsMap      stats = new InstanceStatsMap();
+
+    @Override
+    public ServiceInstance<T> getInstance(InstanceProvider<T> instanceProvider) throws Exception
+    {
+        List<ServiceInstance<T>>    instances = instanceProvider.getInstances();
+        int                         size = instances.size();
+        if ( size == 0 )
+        {
+            return null;
+        }
+        stats.purge(instances);
+
+        ServiceInstance<T>          instance;
+        if ( size == 1 )
+        {
+            instance = instances.get(0);
+        }
+        else
+        {
+            int                     index1 = random.nextInt(size);
+            int                     index2 = random.nextInt(size - 1);
+            if ( index2 >= index1 )
+            {
+                ++index2;   // make sure the two choices are different
+            }
+            ServiceInstance<T>      instance1 = instances.get(index1);
+            ServiceInstance<T>      instance2 = instances.get(index2);
+            instance = (cost(stats.get(instance1)) <= cost(stats.get(instance2))) ? instance1 : instance2;
+        }
+
+        stats.get(instance).incrementInFlight();
+        return instance;
+    }
+
+    @Override
+    public void noteSuccess(ServiceInstance<T> instance)
+    {
+        InstanceStats       instanceStats = stats.getIfPresent(instance);
+        if ( instanceStats != null )
+        {
+            instanceStats.decrementInFlight();
+        }
+    }
+
+    @Override
+    public void noteLatency(ServiceInstance<T> instance, long latencyMs)
+    {
+        noteSuccess(instance);
+    }
+
+    @Override
+    public void noteError(ServiceInstance<T> instance)
+    {
+        noteSuccess(instance);  // the request is no longer in flight
+    }
+
+    /**
+     * Returns the current number of requests in flight to the given instance
+     *
+     * @param instance the instance
+     * @return qty
+     */
+    public int getInFlight(ServiceInstance<T> instance)
+    {
+        InstanceStats       instanceStats = stats.getIfPresent(instance);
+        return (instanceStats != null) ? instanceStats.getInFlight() : 0;
+    }
+
+    InstanceStatsMap getStats()
+    {
+        return stats;
+    }
+
+    double cost(InstanceStats instanceStats)
+    {
+        return instanceStats.getInFlight();
+    }
+}
@@ -0,0 +1,155 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.curator.x.discovery.strategies;
+
+import com.google.common.base.Function;
+import com.google.common.base.Preconditions;
+import org.apache.curator.x.discovery.ProviderStrategy;
+import org.apache.curator.x.discovery.ServiceInstance;
+import org.apache.curator.x.discovery.details.InstanceProvider;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * This strategy rotates through the list of instances, returning each instance in proportion
+ * to its weight. The weight is obtained from the instance (usually from its payload) via the
+ * given function. A null weight is treated as 1 and instances with a weight of 0 or less are not returned
+ * unless all instances have no weight. Instances are interleaved so that, for weights A=3 and B=1,
+ * the order is A, A, B, A rather than A, A, A, B. The schedule is only recomputed when the
+ * list of instances changes.
+ */
+public class WeightedRoundRobinStrategy<T> implements ProviderStrategy<T>
+{
+    private final Function<ServiceInstance<T>, Integer> weightFunction;
+    private final AtomicInteger                         index = new AtomicInteger(0);
+    private volatile Schedule<T>                        schedule = null;
+
+    private static final int MAX_SCHEDULE_SIZE = 10000;
+
+    private static class Schedule<T>
+    {
+        private final List<ServiceInstance<T>>  instances;
+        private final int[]                     order;
+
+        private Schedule(List<ServiceInstance<T>> instances, int[] order)
+        {
+            this.instances = instances;
+            this.order = order;
+        }
+    }
+
+    /**
+     * @param weightFunction returns the weight of an instance
+     */
+    public WeightedRoundRobinStrategy(Function<ServiceInstance<T>, Integer> weightFunction)
+    {
+        this.weightFunction = Preconditions.checkNotNull(weightFunction, "weightFunction cannot be null");
+    }
+
+    @Override
+    public ServiceInstance<T> getInstance(InstanceProvider<T> instanceProvider) throws Exception
+    {
+        List<ServiceInstance<T>>    instances = instanceProvider.getInstances();
+        if ( instances.size() == 0 )
+        {
+            return null;
+        }
+
+        Schedule<T>                 localSchedule = schedule;
+        if ( (localSchedule == null) || (localSchedule.instances != instances) )
+        {
+            localSchedule = new Schedule<T>(instances, buildOrder(instances));
+            schedule = localSchedule;
+        }
+        int                         thisIndex = (index.getAndIncrement() & Integer.MAX_VALUE) % localSchedule.order.length;
+        return instances.get(localSchedule.order[thisIndex]);
+    }
+
+    private int[] buildOrder(List<ServiceInstance<T>> instances)
+    {
+        int[]       weights = new int[instances.size()];
+        long        total = 0;
+        for ( int i = 0; i < weights.length; ++i )
+        {
+            Integer     weight = weightFunction.apply(instances.get(i));
+            weights[i] = (weight != null) ? Math.max(weight, 0) : 1;
+            total += weights[i];
+        }
+
+        if ( total == 0 )
+        {
+            for ( int i = 0; i < weights.length; ++i )
+            {
+                weights[i] = 1;
+            }
+            total = weights.length;
+        }
+        else
+        {
+            int     divisor = 0;
+            for ( int weight : weights )
+            {
+                divisor = gcd(divisor, weight);
+            }
+            long    reducedTotal = total / divisor;
+            total = 0;
+            for ( int i = 0; i < weights.length; ++i )
+            {
+                weights[i] /= divisor;
+                if ( (weights[i] > 0) && (reducedTotal > MAX_SCHEDULE_SIZE) )
+                {
+                    // keep the schedule small - the proportions become approximate
+                    weights[i] = (int)Math.max(1, ((long)weights[i] * MAX_SCHEDULE_SIZE) / reducedTotal);
+                }
+                total += weights[i];
+            }
+        }
+
+        // smooth weighted round robin - each step, every instance gains its weight and the
+        // instance with the most accumulated weight is chosen and pays back the total
+        int[]       order = new int[(int)total];
+        long[]      current = new long[weights.length];
+        for ( int step = 0; step < order.length; ++step )
+        {
+            int     best = -1;
+            for ( int i = 0; i < weights.length; ++i )
+            {
+                current[i] += weights[i];
+                if ( (weights[i] > 0) && ((best < 0) || (current[i] > current[best])) )
+                {
+                    best = i;
+                }
+            }
+            current[best] -= total;
+            order[step] = best;
+        }
+        return order;
+    }
+
+    private static int gcd(int a, int b)
+    {
+        while ( b != 0 )
+        {
+            int     temp = b;
+            b = a % b;
+            a = temp;
+        }
+        return a;
+    }
+}
@@ -0,0 +1,109 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.curator.x.discovery;
+
+import com.google.common.base.Charsets;
+import org.apache.curator.x.discovery.details.BinaryInstanceSerializer;
+import org.apache.curator.x.discovery.details.JsonInstanceSerializer;
+import org.apache.curator.x.discovery.details.PayloadSerializer;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import java.io.IOException;
+
+public class TestBinaryInstanceSerializer
+{
+    private static final PayloadSerializer<String> payloadSerializer = new PayloadSerializer<String>()
+    {
+        @Override
+        public byte[] serialize(String payload) throws Exception
+        {
+            return payload.getBytes(Charsets.UTF_8);
+        }
+
+        @Override
+        public String deserialize(byte[] bytes) throws Exception
+        {
+            return new String(bytes, Charsets.UTF_8);
+        }
+    };
+
+    @Test
+    public void     testBasic() throws Exception
+    {
+        BinaryInstanceSerializer<String> serializer = new BinaryInstanceSerializer<String>(payloadSerializer);
+        ServiceInstance<String>         instance = new ServiceInstance<String>("name", "id", "address", 10, 20, "payload", 1234, ServiceType.STATIC, new UriSpec("{a}/b/{c}"));
+        byte[]                          bytes = serializer.serialize(instance);
+
+        ServiceInstance<String>         rhs = serializer.deserialize(bytes);
+        Assert.assertEquals(rhs, instance);
+        Assert.assertEquals(rhs.getId(), instance.getId());
+        Assert.assertEquals(rhs.getName(), instance.getName());
+        Assert.assertEquals(rhs.getPayload(), instance.getPayload());
+        Assert.assertEquals(rhs.getAddress(), instance.getAddress());
+        Assert.assertEquals(rhs.getPort(), instance.getPort());
+        Assert.assertEquals(rhs.getSslPort(), instance.getSslPort());
+        Assert.assertEquals(rhs.getRegistrationTimeUTC(), instance.getRegistrationTimeUTC());
+        Assert.assertEquals(rhs.getServiceType(), instance.getServiceType());
+        Assert.assertEquals(rhs.getUriSpec(), instance.getUriSpec());
+
+        Assert.assertTrue(bytes.length < new JsonInstanceSerializer<String>(String.class).serialize(instance).length);
+        Assert.assertSame(serializer.deserialize(serializer.serialize(instance)).getName(), rhs.getName());    // interned
+    }
+
+    @Test
+    public void     testNulls() throws Exception
+    {
+        BinaryInstanceSerializer<String> serializer = new BinaryInstanceSerializer<String>(payloadSerializer);
+        ServiceInstance<String>         instance = new ServiceInstance<String>("name", "id", null, null, null, null, 0, ServiceType.DYNAMIC, null);
+
+        ServiceInstance<String>         rhs = serializer.deserialize(serializer.serialize(instance));
+        Assert.assertEquals(rhs, instance);
+        Assert.assertNull(rhs.getAddress());
+        Assert.assertNull(rhs.getPort());
+        Assert.assertNull(rhs.getSslPort());
+        Assert.assertNull(rhs.getPayload());
+        Assert.assertNull(rhs.getUriSpec());
+    }
+
+    @Test
+    public void     testMigration() throws Exception
+    {
+        JsonInstanceSerializer<String>  jsonSerializer = new JsonInstanceSerializer<String>(String.class);
+        BinaryInstanceSerializer<String> migratingSerializer = new BinaryInstanceSerializer<String>(payloadSerializer, jsonSerializer, true);
+        BinaryInstanceSerializer<String> binarySerializer = new BinaryInstanceSerializer<String>(payloadSerializer, jsonSerializer, false);
+        ServiceInstance<String>         instance = new ServiceInstance<String>("name", "id", "address", 10, 20, "payload", 0, ServiceType.DYNAMIC, new UriSpec("{a}/b/{c}"));
+
+        byte[]                          jsonBytes = migratingSerializer.serialize(instance);
+        Assert.assertEquals(jsonSerializer.deserialize(jsonBytes), instance);    // still readable by old clients
+        Assert.assertEquals(binarySerializer.deserialize(jsonBytes), instance);
+
+        byte[]                          binaryBytes = binarySerializer.serialize(instance);
+        Assert.assertEquals(migratingSerializer.deserialize(binaryBytes), instance);
+
+        try
+        {
+            new BinaryInstanceSerializer<String>(payloadSerializer).deserialize(jsonBytes);
+            Assert.fail();
+        }
+        catch ( IOException e )
+        {
+            // correct
+        }
+    }
+}
@@ -150,6 +150,60 @@ public class TestServiceCache extends BaseClassForTests
         }
     }
 
+    @Test
+    public void testProviderSnapshot() throws Exception
+    {
+        Timing timing = new Timing();
+
+        List<Closeable> closeables = Lists.newArrayList();
+        try
+        {
+            CuratorFramework client = CuratorFrameworkFactory.newClient(server.getConnectString(), new RetryOneTime(1));
+            closeables.add(client);
+            client.start();
+
+            ServiceDiscovery<String> discovery = ServiceDiscoveryBuilder.builder(String.class).basePath("/discovery").client(client).build();
+            closeables.add(discovery);
+            discovery.start();
+
+            ServiceInstance<String> instance1 = ServiceInstance.<String>builder().payload("thing").name("test").port(10064).build();
+            ServiceInstance<String> instance2 = ServiceInstance.<String>builder().payload("thing").name("test").port(10065).build();
+            discovery.registerService(instance1);
+            discovery.registerService(instance2);
+
+            ServiceProvider<String> serviceProvider = discovery.serviceProviderBuilder().serviceName("test").downInstancePolicy(new DownInstancePolicy(1, TimeUnit.MINUTES, 1)).build();
+            closeables.add(serviceProvider);
+            serviceProvider.start();
+
+            Collection<ServiceInstance<String>> allInstances = serviceProvider.getAllInstances();
+            Assert.assertEquals(allInstances.size(), 2);
+            Assert.assertSame(serviceProvider.getAllInstances(), allInstances);    // nothing changed - same snapshot
+
+            serviceProvider.noteError(instance1);
+            Collection<ServiceInstance<String>> afterError = serviceProvider.getAllInstances();
+            Assert.assertNotSame(afterError, allInstances);
+            Assert.assertEquals(afterError.size(), 1);
+            Assert.assertEquals(afterError.iterator().next(), instance2);
+            Assert.assertSame(serviceProvider.getAllInstances(), afterError);
+
+            ServiceInstance<String> instance3 = ServiceInstance.<String>builder().payload("thing").name("test").port(10066).build();
+            discovery.registerService(instance3);
+            timing.sleepABit();
+            Collection<ServiceInstance<String>> afterRegister = serviceProvider.getAllInstances();
+            Assert.assertNotSame(afterRegister, afterError);
+            Assert.assertEquals(afterRegister.size(), 2);
+            Assert.assertFalse(afterRegister.contains(instance1));
+        }
+        finally
+        {
+            Collections.reverse(closeables);
+            for ( Closeable c : closeables )
+            {
+                CloseableUtils.closeQuietly(c);
+            }
+        }
+    }
+
     @Test
     public void testUpdate() throws Exception
     {
@@ -18,11 +18,15 @@
  */
 package org.apache.curator.x.discovery;
 
+import com.google.common.base.Function;
 import com.google.common.collect.Lists;
 import org.apache.curator.x.discovery.details.InstanceProvider;
+import org.apache.curator.x.discovery.strategies.LatencyAwareStrategy;
+import org.apache.curator.x.discovery.strategies.PowerOfTwoChoicesStrategy;
 import org.apache.curator.x.discovery.strategies.RandomStrategy;
 import org.apache.curator.x.discovery.strategies.RoundRobinStrategy;
 import org.apache.curator.x.discovery.strategies.StickyStrategy;
+import org.apache.curator.x.discovery.strategies.WeightedRoundRobinStrategy;
 import org.apache.commons.math.stat.descriptive.SummaryStatistics;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -128,4 +132,89 @@ public class TestStrategies
             Assert.assertEquals(strategy.getInstance(instanceProvider), theInstance);
         }
     }
+
+    @Test
+    public void     testWeightedRoundRobin() throws Exception
+    {
+        final int                       QTY = 4;
+
+        TestInstanceProvider            instanceProvider = new TestInstanceProvider(QTY);
+        ProviderStrategy<Void>          strategy = new WeightedRoundRobinStrategy<Void>
+        (
+            new Function<ServiceInstance<Void>, Integer>()
+            {
+                @Override
+                public Integer apply(ServiceInstance<Void> instance)
+                {
+                    return Integer.parseInt(instance.getId()) * 10;    // weights 0, 10, 20, 30
+                }
+            }
+        );
+
+        long[]                          counts = new long[QTY];
+        for ( int i = 0; i < 600; ++i )
+        {
+            ServiceInstance<Void>   instance = strategy.getInstance(instanceProvider);
+            counts[Integer.parseInt(instance.getId())]++;
+        }
+        Assert.assertEquals(counts[0], 0);
+        Assert.assertEquals(counts[1], 100);
+        Assert.assertEquals(counts[2], 200);
+        Assert.assertEquals(counts[3], 300);
+
+        // the heaviest instance should not be returned in long runs
+        int                             run = 0;
+        for ( int i = 0; i < 60; ++i )
+        {
+            run = strategy.getInstance(instanceProvider).getId().equals("3") ? (run + 1) : 0;
+            Assert.assertTrue(run <= 2);
+        }
+    }
+
+    @Test
+    public void     testPowerOfTwoChoices() throws Exception
+    {
+        final int                       QTY = 2;
+
+        TestInstanceProvider            instanceProvider = new TestInstanceProvider(QTY);
+        PowerOfTwoChoicesStrategy<Void> strategy = new PowerOfTwoChoicesStrategy<Void>();
+
+        // with two instances, both are always compared so requests alternate while nothing completes
+        ServiceInstance<Void>           first = strategy.getInstance(instanceProvider);
+        ServiceInstance<Void>           second = strategy.getInstance(instanceProvider);
+        Assert.assertNotEquals(first, second);
+        Assert.assertEquals(strategy.getInFlight(first), 1);
+        Assert.assertEquals(strategy.getInFlight(second), 1);
+
+        // the second instance is stuck - the first keeps getting the requests
+        strategy.noteSuccess(first);
+        for ( int i = 0; i < 100; ++i )
+        {
+            ServiceInstance<Void>   instance = strategy.getInstance(instanceProvider);
+            Assert.assertEquals(instance, first);
+            strategy.noteSuccess(instance);
+        }
+        Assert.assertEquals(strategy.getInFlight(first), 0);
+        Assert.assertEquals(strategy.getInFlight(second), 1);
+    }
+
+    @Test
+    public void     testLatencyAware() throws Exception
+    {
+        final int                       QTY = 2;
+
+        TestInstanceProvider            instanceProvider = new TestInstanceProvider(QTY);
+        LatencyAwareStrategy<Void>      strategy = new LatencyAwareStrategy<Void>();
+
+        long[]                          counts = new long[QTY];
+        for ( int i = 0; i < 1000; ++i )
+        {
+            ServiceInstance<Void>   instance = strategy.getInstance(instanceProvider);
+            int                     id = Integer.parseInt(instance.getId());
+            counts[id]++;
+            strategy.noteLatency(instance, (id == 0) ? 100 : 1);
+        }
+        Assert.assertTrue(counts[1] > (counts[0] * 10), counts[0] + " " + counts[1]);
+        Assert.assertEquals(strategy.getLatencyMs(instanceProvider.getInstances().get(0)), 100.0);
+    }
 }
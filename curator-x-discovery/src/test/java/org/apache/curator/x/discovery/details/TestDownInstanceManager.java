@@ -19,9 +19,11 @@
 package org.apache.curator.x.discovery.details;
 
 import org.apache.curator.x.discovery.DownInstancePolicy;
+import org.apache.curator.x.discovery.DownInstanceStats;
 import org.apache.curator.x.discovery.ServiceInstance;
 import org.testng.Assert;
 import org.testng.annotations.Test;
+import java.util.Collections;
 import java.util.concurrent.TimeUnit;
 
 public class TestDownInstanceManager
@@ -39,7 +41,7 @@ public class TestDownInstanceManager
         Assert.assertTrue(downInstanceManager.apply(instance1));
         Assert.assertTrue(downInstanceManager.apply(instance2));
 
-        downInstanceManager.add(instance1);
+        downInstanceManager.noteError(instance1);
         Assert.assertFalse(downInstanceManager.apply(instance1));
         Assert.assertTrue(downInstanceManager.apply(instance2));
     }
@@ -54,11 +56,11 @@ public class TestDownInstanceManager
         Assert.assertTrue(downInstanceManager.apply(instance1));
         Assert.assertTrue(downInstanceManager.apply(instance2));
 
-        downInstanceManager.add(instance1);
+        downInstanceManager.noteError(instance1);
         Assert.assertTrue(downInstanceManager.apply(instance1));
         Assert.assertTrue(downInstanceManager.apply(instance2));
 
-        downInstanceManager.add(instance1);
+        downInstanceManager.noteError(instance1);
         Assert.assertFalse(downInstanceManager.apply(instance1));
         Assert.assertTrue(downInstanceManager.apply(instance2));
     }
@@ -71,7 +73,7 @@ public class TestDownInstanceManager
 
         DownInstanceManager<Void> downInstanceManager = new DownInstanceManager<Void>(debugDownInstancePolicy);
 
-        downInstanceManager.add(instance1);
+        downInstanceManager.noteError(instance1);
         Assert.assertFalse(downInstanceManager.apply(instance1));
         Assert.assertTrue(downInstanceManager.apply(instance2));
 
@@ -80,4 +82,114 @@ public class TestDownInstanceManager
         Assert.assertTrue(downInstanceManager.apply(instance1));
         Assert.assertTrue(downInstanceManager.apply(instance2));
     }
+
+    @Test
+    public void testGeneration() throws Exception
+    {
+        ServiceInstance<Void> instance1 = ServiceInstance.<Void>builder().name("hey").id("1").build();
+
+        DownInstanceManager<Void> downInstanceManager = new DownInstanceManager<Void>(debugMultiDownInstancePolicy);
+        long generation = downInstanceManager.getGeneration();
+
+        downInstanceManager.noteError(instance1);
+        Assert.assertEquals(downInstanceManager.getGeneration(), generation);    // below the threshold
+
+        downInstanceManager.noteError(instance1);
+        Assert.assertTrue(downInstanceManager.getGeneration() > generation);
+        generation = downInstanceManager.getGeneration();
+
+        Thread.sleep(debugMultiDownInstancePolicy.getTimeoutMs());
+        Assert.assertTrue(downInstanceManager.getGeneration() > generation);
+        Assert.assertTrue(downInstanceManager.apply(instance1));
+    }
+
+    @Test
+    public void testProbing() throws Exception
+    {
+        ServiceInstance<Void> instance1 = ServiceInstance.<Void>builder().name("hey").id("1").build();
+
+        DownInstanceManager<Void> downInstanceManager = new DownInstanceManager<Void>(debugDownInstancePolicy);
+        downInstanceManager.noteError(instance1);
+        Assert.assertFalse(downInstanceManager.apply(instance1));
+        Assert.assertEquals(downInstanceManager.getStats().getEjectedIds(), Collections.singleton("1"));
+
+        Thread.sleep(debugDownInstancePolicy.getTimeoutMs());
+        downInstanceManager.getGeneration();
+        Assert.assertTrue(downInstanceManager.apply(instance1));
+        Assert.assertEquals(downInstanceManager.getStats().getProbingIds(), Collections.singleton("1"));
+
+        downInstanceManager.noteError(instance1);   // probe failed - ejected for twice as long
+        Assert.assertFalse(downInstanceManager.apply(instance1));
+        Thread.sleep(debugDownInstancePolicy.getTimeoutMs());
+        Assert.assertFalse(downInstanceManager.apply(instance1));
+        Thread.sleep(debugDownInstancePolicy.getTimeoutMs());
+        Assert.assertTrue(downInstanceManager.apply(instance1));
+
+        downInstanceManager.noteSuccess(instance1); // probe succeeded - reinstated
+        Assert.assertTrue(downInstanceManager.apply(instance1));
+
+        DownInstanceStats stats = downInstanceManager.getStats();
+        Assert.assertEquals(stats.getEjections(), 2);
+        Assert.assertEquals(stats.getProbeFailures(), 1);
+        Assert.assertEquals(stats.getReinstatements(), 1);
+        Assert.assertTrue(stats.getEjectedIds().isEmpty());
+        Assert.assertTrue(stats.getProbingIds().isEmpty());
+    }
+
+    @Test
+    public void testProbingWithErrorsOnly() throws Exception
+    {
+        ServiceInstance<Void> instance1 = ServiceInstance.<Void>builder().name("hey").id("1").build();
+
+        DownInstanceManager<Void> downInstanceManager = new DownInstanceManager<Void>(debugMultiDownInstancePolicy);
+        downInstanceManager.noteError(instance1);
+        downInstanceManager.noteError(instance1);
+        Assert.assertFalse(downInstanceManager.apply(instance1));
+
+        Thread.sleep(debugMultiDownInstancePolicy.getTimeoutMs());
+        downInstanceManager.getGeneration();
+        Assert.assertEquals(downInstanceManager.getStats().getProbingIds(), Collections.singleton("1"));
+
+        Thread.sleep(debugMultiDownInstancePolicy.getTimeoutMs());
+        downInstanceManager.getGeneration();    // no error during the probe window - reinstated
+        DownInstanceStats stats = downInstanceManager.getStats();
+        Assert.assertEquals(stats.getReinstatements(), 1);
+        Assert.assertTrue(stats.getProbingIds().isEmpty());
+
+        downInstanceManager.noteError(instance1);   // the threshold applies again
+        Assert.assertTrue(downInstanceManager.apply(instance1));
+        downInstanceManager.noteError(instance1);
+        Assert.assertFalse(downInstanceManager.apply(instance1));
+        Assert.assertEquals(downInstanceManager.getStats().getProbeFailures(), 0);
+    }
+
+    @Test
+    public void testErrorRate() throws Exception
+    {
+        ServiceInstance<Void> instance1 = ServiceInstance.<Void>builder().name("hey").id("1").build();
+
+        DownInstanceManager<Void> downInstanceManager = new DownInstanceManager<Void>(new DownInstancePolicy(1, TimeUnit.MINUTES, 2, 0.5, 10));
+        for ( int i = 0; i < 10; ++i )
+        {
+            downInstanceManager.noteSuccess(instance1);
+        }
+        for ( int i = 0; i < 9; ++i )
+        {
+            downInstanceManager.noteError(instance1);
+            Assert.assertTrue(downInstanceManager.apply(instance1));
+        }
+        downInstanceManager.noteError(instance1);  // 10 of 20 requests failed
+        Assert.assertFalse(downInstanceManager.apply(instance1));
+    }
+
+    @Test
+    public void testKeyedById() throws Exception
+    {
+        ServiceInstance<Void> instance1 = ServiceInstance.<Void>builder().name("hey").id("1").port(1).build();
+        ServiceInstance<Void> instance1Updated = ServiceInstance.<Void>builder().name("hey").id("1").port(2).build();
+
+        DownInstanceManager<Void> downInstanceManager = new DownInstanceManager<Void>(debugDownInstancePolicy);
+        downInstanceManager.noteError(instance1);
+        Assert.assertFalse(downInstanceManager.apply(instance1Updated));
+    }
 }
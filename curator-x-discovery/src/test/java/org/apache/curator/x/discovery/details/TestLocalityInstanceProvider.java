@@ -0,0 +1,115 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.curator.x.discovery.details;
+
+import com.google.common.base.Function;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Sets;
+import org.apache.curator.x.discovery.DownInstancePolicy;
+import org.apache.curator.x.discovery.InstanceFilter;
+import org.apache.curator.x.discovery.LocalityPolicy;
+import org.apache.curator.x.discovery.ServiceInstance;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class TestLocalityInstanceProvider
+{
+    @Test
+    public void testOverflow() throws Exception
+    {
+        final List<ServiceInstance<String>> instances = ImmutableList.of
+        (
+            ServiceInstance.<String>builder().name("test").id("a1").payload("zone-a").build(),
+            ServiceInstance.<String>builder().name("test").id("a2").payload("zone-a").build(),
+            ServiceInstance.<String>builder().name("test").id("a3").payload("zone-a").build(),
+            ServiceInstance.<String>builder().name("test").id("a4").payload("zone-a").build(),
+            ServiceInstance.<String>builder().name("test").id("b1").payload("zone-b").build(),
+            ServiceInstance.<String>builder().name("test").id("b2").payload("zone-b").build()
+        );
+        InstanceProvider<String> source = new InstanceProvider<String>()
+        {
+            @Override
+            public List<ServiceInstance<String>> getInstances() throws Exception
+            {
+                return instances;
+            }
+        };
+
+        final AtomicInteger extractorCalls = new AtomicInteger();
+        Function<ServiceInstance<String>, String> extractor = new Function<ServiceInstance<String>, String>()
+        {
+            @Override
+            public String apply(ServiceInstance<String> instance)
+            {
+                extractorCalls.incrementAndGet();
+                return instance.getPayload();
+            }
+        };
+
+        DownInstanceManager<String> downInstanceManager = new DownInstanceManager<String>(new DownInstancePolicy(1, TimeUnit.MINUTES, 1));
+        InstanceProvider<String> healthy = new FilteredInstanceProvider<String>(source, Collections.<InstanceFilter<String>>emptyList(), downInstanceManager);
+        LocalityInstanceProvider<String> provider = new LocalityInstanceProvider<String>(source, healthy, new LocalityPolicy<String>(extractor, "zone-a", 0.5));
+
+        Assert.assertEquals(provider.getInstances(), instances.subList(0, 4));
+        Assert.assertEquals(extractorCalls.get(), instances.size());
+        Assert.assertSame(provider.getInstances(), provider.getInstances());
+        Assert.assertEquals(extractorCalls.get(), instances.size());    // not extracted again until the instances change
+
+        downInstanceManager.noteError(instances.get(0));
+        downInstanceManager.noteError(instances.get(1));
+        Assert.assertEquals(provider.getInstances(), instances.subList(2, 4));    // 2 of 4 local instances are healthy
+
+        downInstanceManager.noteError(instances.get(2));
+        Assert.assertEquals(Sets.newHashSet(provider.getInstances()), Sets.newHashSet(instances.get(3), instances.get(4), instances.get(5)));
+        Assert.assertEquals(extractorCalls.get(), instances.size());
+    }
+
+    @Test
+    public void testNoLocalInstances() throws Exception
+    {
+        final List<ServiceInstance<String>> instances = ImmutableList.of
+        (
+            ServiceInstance.<String>builder().name("test").id("b1").payload("zone-b").build(),
+            ServiceInstance.<String>builder().name("test").id("b2").payload("zone-b").build()
+        );
+        InstanceProvider<String> source = new InstanceProvider<String>()
+        {
+            @Override
+            public List<ServiceInstance<String>> getInstances() throws Exception
+            {
+                return instances;
+            }
+        };
+        Function<ServiceInstance<String>, String> extractor = new Function<ServiceInstance<String>, String>()
+        {
+            @Override
+            public String apply(ServiceInstance<String> instance)
+            {
+                return instance.getPayload();
+            }
+        };
+
+        LocalityInstanceProvider<String> provider = new LocalityInstanceProvider<String>(source, source, new LocalityPolicy<String>(extractor, "zone-a"));
+        Assert.assertEquals(provider.getInstances(), instances);
+    }
+}
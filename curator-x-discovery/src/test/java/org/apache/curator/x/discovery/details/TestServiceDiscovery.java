@@ -23,22 +23,40 @@ import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import org.apache.curator.framework.CuratorFramework;
 import org.apache.curator.framework.CuratorFrameworkFactory;
+import org.apache.curator.framework.state.ConnectionState;
 import org.apache.curator.retry.RetryOneTime;
 import org.apache.curator.test.BaseClassForTests;
 import org.apache.curator.test.KillSession;
 import org.apache.curator.test.Timing;
 import org.apache.curator.utils.CloseableUtils;
+import org.apache.curator.utils.ThreadUtils;
+import org.apache.curator.x.discovery.BulkServiceDiscovery;
+import org.apache.curator.x.discovery.ServiceCache;
 import org.apache.curator.x.discovery.ServiceDiscovery;
 import org.apache.curator.x.discovery.ServiceDiscoveryBuilder;
 import org.apache.curator.x.discovery.ServiceInstance;
+import org.apache.curator.x.discovery.ServiceProvider;
+import org.apache.zookeeper.WatchedEvent;
+import org.apache.zookeeper.Watcher;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 import java.io.Closeable;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class TestServiceDiscovery extends BaseClassForTests
 {
@@ -73,6 +91,13 @@ public class TestServiceDiscovery extends BaseClassForTests
                     super.internalRegisterService(service);
                     semaphore.release();
                 }
+
+                @Override
+                protected void internalRegisterServices(Collection<ServiceInstance<String>> instances) throws Exception
+                {
+                    super.internalRegisterServices(instances);
+                    semaphore.release(instances.size());
+                }
             };
             closeables.add(discovery);
             discovery.start();
@@ -120,6 +145,13 @@ public class TestServiceDiscovery extends BaseClassForTests
                     super.internalRegisterService(service);
                     semaphore.release();
                 }
+
+                @Override
+                protected void internalRegisterServices(Collection<ServiceInstance<String>> instances) throws Exception
+                {
+                    super.internalRegisterServices(instances);
+                    semaphore.release(instances.size());
+                }
             };
             closeables.add(discovery);
             discovery.start();
@@ -235,6 +267,376 @@ public class TestServiceDiscovery extends BaseClassForTests
         }
     }
 
+    @Test
+    public void testManyInstances() throws Exception
+    {
+        final int QTY = 250;    // more than the number of outstanding reads allowed
+
+        List<Closeable> closeables = Lists.newArrayList();
+        try
+        {
+            CuratorFramework client = CuratorFrameworkFactory.newClient(server.getConnectString(), new RetryOneTime(1));
+            closeables.add(client);
+            client.start();
+
+            ServiceDiscovery<Void> discovery = ServiceDiscoveryBuilder.builder(Void.class).client(client).basePath("/test").build();
+            closeables.add(discovery);
+            discovery.start();
+
+            List<ServiceInstance<Void>> list = Lists.newArrayList();
+            for ( int i = 0; i < QTY; ++i )
+            {
+                ServiceInstance<Void> instance = ServiceInstance.<Void>builder().name("test").build();
+                discovery.registerService(instance);
+                list.add(instance);
+            }
+            Collections.sort(list, comparator);
+
+            List<ServiceInstance<Void>> queriedInstances = Lists.newArrayList(discovery.queryForInstances("test"));
+            Collections.sort(queriedInstances, comparator);
+            Assert.assertEquals(queriedInstances, list);
+
+            Assert.assertEquals(discovery.queryForInstances("not-there").size(), 0);
+
+            final AtomicInteger executedQty = new AtomicInteger(0);
+            Executor queryExecutor = new Executor()
+            {
+                @Override
+                public void execute(Runnable command)
+                {
+                    executedQty.incrementAndGet();
+                    command.run();
+                }
+            };
+            ServiceDiscovery<Void> executorDiscovery = ServiceDiscoveryBuilder.builder(Void.class).client(client).basePath("/test").queryExecutor(queryExecutor).build();
+            closeables.add(executorDiscovery);
+            executorDiscovery.start();
+
+            queriedInstances = Lists.newArrayList(executorDiscovery.queryForInstances("test"));
+            Collections.sort(queriedInstances, comparator);
+            Assert.assertEquals(queriedInstances, list);
+            Assert.assertEquals(executedQty.get(), QTY);
+        }
+        finally
+        {
+            Collections.reverse(closeables);
+            for ( Closeable c : closeables )
+            {
+                CloseableUtils.closeQuietly(c);
+            }
+        }
+    }
+
+    @Test
+    public void testQueryFromWatcher() throws Exception
+    {
+        final Timing timing = new Timing();
+        List<Closeable> closeables = Lists.newArrayList();
+        try
+        {
+            CuratorFramework client = CuratorFrameworkFactory.newClient(server.getConnectString(), new RetryOneTime(1));
+            closeables.add(client);
+            client.start();
+
+            final ServiceDiscoveryImpl<Void> discovery = (ServiceDiscoveryImpl<Void>)ServiceDiscoveryBuilder.builder(Void.class).client(client).basePath("/test").build();
+            closeables.add(discovery);
+            discovery.start();
+
+            discovery.registerService(ServiceInstance.<Void>builder().name("test").build());
+
+            final BlockingQueue<Integer> queriedQty = new LinkedBlockingQueue<Integer>();
+            Watcher watcher = new Watcher()
+            {
+                @Override
+                public void process(WatchedEvent event)
+                {
+                    try
+                    {
+                        // runs on the ZooKeeper event thread
+                        queriedQty.add(discovery.queryForInstances("test", this).size());
+                    }
+                    catch ( Exception e )
+                    {
+                        e.printStackTrace();
+                    }
+                }
+            };
+            Assert.assertEquals(discovery.queryForInstances("test", watcher).size(), 1);
+
+            discovery.registerService(ServiceInstance.<Void>builder().name("test").build());
+            Integer qty;
+            do
+            {
+                qty = queriedQty.poll(timing.forWaiting().seconds(), TimeUnit.SECONDS);
+                Assert.assertNotNull(qty);
+            } while ( qty != 2 );
+        }
+        finally
+        {
+            Collections.reverse(closeables);
+            for ( Closeable c : closeables )
+            {
+                CloseableUtils.closeQuietly(c);
+            }
+        }
+    }
+
+    @Test
+    public void testBulkRegistration() throws Exception
+    {
+        final int QTY = 150;    // more than fit in a single transaction
+
+        List<Closeable> closeables = Lists.newArrayList();
+        try
+        {
+            CuratorFramework client = CuratorFrameworkFactory.newClient(server.getConnectString(), new RetryOneTime(1));
+            closeables.add(client);
+            client.start();
+
+            BulkServiceDiscovery<Void> discovery = (BulkServiceDiscovery<Void>)ServiceDiscoveryBuilder.builder(Void.class).client(client).basePath("/test").build();
+            closeables.add(discovery);
+            discovery.start();
+
+            List<ServiceInstance<Void>> one = Lists.newArrayList();
+            List<ServiceInstance<Void>> two = Lists.newArrayList();
+            for ( int i = 0; i < QTY; ++i )
+            {
+                one.add(ServiceInstance.<Void>builder().name("one").build());
+                two.add(ServiceInstance.<Void>builder().name("two").build());
+            }
+            List<ServiceInstance<Void>> all = Lists.newArrayList(one);
+            all.addAll(two);
+
+            discovery.registerServices(all);
+            Assert.assertEquals(discovery.queryForInstances("one").size(), QTY);
+            Assert.assertEquals(discovery.queryForInstances("two").size(), QTY);
+
+            discovery.registerServices(all);    // already registered - re-created
+            Assert.assertEquals(discovery.queryForInstances("one").size(), QTY);
+            Assert.assertEquals(discovery.queryForInstances("two").size(), QTY);
+
+            discovery.unregisterServices(one);
+            Assert.assertEquals(discovery.queryForInstances("one").size(), 0);
+            Assert.assertEquals(discovery.queryForInstances("two").size(), QTY);
+
+            client.delete().forPath("/test/two/" + two.get(0).getId());    // already gone - falls back to deleting one at a time
+            discovery.unregisterServices(two);
+            Assert.assertEquals(discovery.queryForInstances("two").size(), 0);
+        }
+        finally
+        {
+            Collections.reverse(closeables);
+            for ( Closeable c : closeables )
+            {
+                CloseableUtils.closeQuietly(c);
+            }
+        }
+    }
+
+    @Test
+    public void testSharedCache() throws Exception
+    {
+        Timing timing = new Timing();
+
+        List<Closeable> closeables = Lists.newArrayList();
+        try
+        {
+            CuratorFramework client = CuratorFrameworkFactory.newClient(server.getConnectString(), new RetryOneTime(1));
+            closeables.add(client);
+            client.start();
+
+            ServiceDiscoveryImpl<Void> discovery = (ServiceDiscoveryImpl<Void>)ServiceDiscoveryBuilder.builder(Void.class).client(client).basePath("/test").build();
+            closeables.add(discovery);
+            discovery.start();
+
+            ServiceInstance<Void> instance = ServiceInstance.<Void>builder().name("test").build();
+            discovery.registerService(instance);
+
+            ServiceProvider<Void> provider1 = discovery.serviceProviderBuilder().serviceName("test").build();
+            provider1.start();
+            ServiceProvider<Void> provider2 = discovery.serviceProviderBuilder().serviceName("test").build();
+            provider2.start();
+            final CountDownLatch latch = new CountDownLatch(1);
+            ServiceCache<Void> cache = discovery.serviceCacheBuilder().name("test").build();
+            cache.addListener(new ServiceCacheListener()
+            {
+                @Override
+                public void cacheChanged()
+                {
+                    latch.countDown();
+                }
+
+                @Override
+                public void stateChanged(CuratorFramework client, ConnectionState newState)
+                {
+                }
+            });
+            cache.start();
+            ServiceCache<Void> dedicatedCache = discovery.serviceCacheBuilder().name("test").threadFactory(ThreadUtils.newThreadFactory("test")).build();
+            dedicatedCache.start();
+
+            Assert.assertEquals(discovery.debugSharedCacheReferenceCount("test"), 3);
+            Assert.assertEquals(cache.getInstances(), Collections.singletonList(instance));
+            Assert.assertEquals(provider1.getInstance(), instance);
+            Assert.assertEquals(provider2.getInstance(), instance);
+            Assert.assertEquals(dedicatedCache.getInstances(), Collections.singletonList(instance));
+
+            provider1.close();
+            Assert.assertEquals(discovery.debugSharedCacheReferenceCount("test"), 2);
+
+            ServiceInstance<Void> instance2 = ServiceInstance.<Void>builder().name("test").build();
+            discovery.registerService(instance2);
+            Assert.assertTrue(timing.awaitLatch(latch));
+            Assert.assertEquals(cache.getInstances().size(), 2);
+            Assert.assertEquals(provider2.getAllInstances().size(), 2);
+
+            cache.close();
+            provider2.close();
+            Assert.assertEquals(discovery.debugSharedCacheReferenceCount("test"), 0);
+            dedicatedCache.close();
+        }
+        finally
+        {
+            Collections.reverse(closeables);
+            for ( Closeable c : closeables )
+            {
+                CloseableUtils.closeQuietly(c);
+            }
+        }
+    }
+
+    @Test
+    public void testConcurrentSharedCacheAcquire() throws Exception
+    {
+        final int QTY = 10;
+
+        List<Closeable> closeables = Lists.newArrayList();
+        ExecutorService service = Executors.newFixedThreadPool(QTY);
+        try
+        {
+            CuratorFramework client = CuratorFrameworkFactory.newClient(server.getConnectString(), new RetryOneTime(1));
+            closeables.add(client);
+            client.start();
+
+            final ServiceDiscoveryImpl<Void> discovery = (ServiceDiscoveryImpl<Void>)ServiceDiscoveryBuilder.builder(Void.class).client(client).basePath("/test").build();
+            closeables.add(discovery);
+            discovery.start();
+
+            ServiceInstance<Void> instance = ServiceInstance.<Void>builder().name("test").build();
+            discovery.registerService(instance);
+
+            List<Future<ServiceCacheImpl<Void>>> futures = Lists.newArrayList();
+            for ( int i = 0; i < QTY; ++i )
+            {
+                futures.add(service.submit(new Callable<ServiceCacheImpl<Void>>()
+                {
+                    @Override
+                    public ServiceCacheImpl<Void> call() throws Exception
+                    {
+                        return discovery.acquireSharedCache("test");
+                    }
+                }));
+            }
+
+            Set<ServiceCacheImpl<Void>> caches = Sets.newIdentityHashSet();
+            for ( Future<ServiceCacheImpl<Void>> future : futures )
+            {
+                ServiceCacheImpl<Void> cache = future.get();
+                // every caller sees a started cache, including those that waited on the first caller
+                Assert.assertEquals(cache.getInstances(), Collections.singletonList(instance));
+                caches.add(cache);
+            }
+            Assert.assertEquals(caches.size(), 1);
+            Assert.assertEquals(discovery.debugSharedCacheReferenceCount("test"), QTY);
+
+            for ( int i = 0; i < QTY; ++i )
+            {
+                discovery.releaseSharedCache("test", caches.iterator().next());
+            }
+            Assert.assertEquals(discovery.debugSharedCacheReferenceCount("test"), 0);
+        }
+        finally
+        {
+            service.shutdownNow();
+            Collections.reverse(closeables);
+            for ( Closeable c : closeables )
+            {
+                CloseableUtils.closeQuietly(c);
+            }
+        }
+    }
+
+    @Test
+    public void testSharedCacheStartFailure() throws Exception
+    {
+        CuratorFramework client = CuratorFrameworkFactory.newClient(server.getConnectString(), new RetryOneTime(1));
+        try
+        {
+            // the client is not started so the cache can't be started
+            ServiceDiscoveryImpl<Void> discovery = (ServiceDiscoveryImpl<Void>)ServiceDiscoveryBuilder.builder(Void.class).client(client).basePath("/test").build();
+            try
+            {
+                discovery.acquireSharedCache("test");
+                Assert.fail();
+            }
+            catch ( Exception expected )
+            {
+                // expected
+            }
+            Assert.assertEquals(discovery.debugSharedCacheReferenceCount("test"), 0);
+        }
+        finally
+        {
+            CloseableUtils.closeQuietly(client);
+        }
+    }
+
+    @Test
+    public void testReRegistrationJitter() throws Exception
+    {
+        List<Closeable> closeables = Lists.newArrayList();
+        try
+        {
+            Timing timing = new Timing();
+            CuratorFramework client = CuratorFrameworkFactory.newClient(server.getConnectString(), timing.session(), timing.connection(), new RetryOneTime(1));
+            closeables.add(client);
+            client.start();
+
+            final Semaphore semaphore = new Semaphore(0);
+            ServiceInstance<String> instance = ServiceInstance.<String>builder().payload("thing").name("test").port(10064).build();
+            ServiceDiscovery<String> discovery = new ServiceDiscoveryImpl<String>(client, "/test", new JsonInstanceSerializer<String>(String.class), instance, false, timing.milliseconds())
+            {
+                @Override
+                protected void internalRegisterServices(Collection<ServiceInstance<String>> instances) throws Exception
+                {
+                    super.internalRegisterServices(instances);
+                    semaphore.release(instances.size());
+                }
+            };
+            closeables.add(discovery);
+            discovery.start();
+
+            timing.acquireSemaphore(semaphore);
+            Assert.assertEquals(discovery.queryForInstances("test").size(), 1);
+
+            KillSession.kill(client.getZookeeperClient().getZooKeeper(), server.getConnectString());
+            server.stop();
+
+            server.restart();
+            closeables.add(server);
+
+            Assert.assertTrue(semaphore.tryAcquire(timing.multiple(2).milliseconds(), TimeUnit.MILLISECONDS));
+            Assert.assertEquals(discovery.queryForInstances("test").size(), 1);
+        }
+        finally
+        {
+            for ( Closeable c : closeables )
+            {
+                CloseableUtils.closeQuietly(c);
+            }
+        }
+    }
+
     @Test
     public void testBasic() throws Exception
     {
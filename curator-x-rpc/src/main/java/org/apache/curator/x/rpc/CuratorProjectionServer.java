@@ -103,7 +103,7 @@ public class CuratorProjectionServer
     public CuratorProjectionServer(Configuration configuration)
     {
         this.configuration = configuration;
-        connectionManager = new ConnectionManager(configuration.getConnections(), configuration.getProjectionExpiration().toMillis());
+        connectionManager = new ConnectionManager(configuration.getConnections(), configuration.getProjectionExpiration().toMillis(), configuration.getMaxQueuedEvents(), configuration.getMaxWaiters());
         EventService eventService = new EventService(connectionManager, configuration.getPingTime().toMillis());
         DiscoveryService discoveryService = new DiscoveryService(connectionManager);
         CuratorProjectionService projectionService = new CuratorProjectionService(connectionManager);
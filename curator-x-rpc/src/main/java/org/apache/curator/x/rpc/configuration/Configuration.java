@@ -23,6 +23,7 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
 import io.airlift.units.Duration;
 import io.dropwizard.logging.LoggingFactory;
+import javax.validation.constraints.Min;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 
@@ -33,6 +34,8 @@ public class Configuration
     private Duration projectionExpiration = new Duration(3, TimeUnit.MINUTES);
     private Duration pingTime = new Duration(5, TimeUnit.SECONDS);
     private List<ConnectionConfiguration> connections = Lists.newArrayList();
+    @Min(2) private int maxQueuedEvents = 10000;
+    @Min(1) private int maxWaiters = 200;
 
     public LoggingFactory getLogging()
     {
@@ -74,6 +77,26 @@ public class Configuration
         this.pingTime = pingTime;
     }
 
+    public int getMaxQueuedEvents()
+    {
+        return maxQueuedEvents;
+    }
+
+    public void setMaxQueuedEvents(int maxQueuedEvents)
+    {
+        this.maxQueuedEvents = maxQueuedEvents;
+    }
+
+    public int getMaxWaiters()
+    {
+        return maxWaiters;
+    }
+
+    public void setMaxWaiters(int maxWaiters)
+    {
+        this.maxWaiters = maxWaiters;
+    }
+
     public List<ConnectionConfiguration> getConnections()
     {
         return ImmutableList.copyOf(connections);
@@ -22,6 +22,7 @@ import com.google.common.base.Preconditions;
 import io.airlift.units.Duration;
 import org.apache.curator.framework.CuratorFramework;
 import org.apache.curator.framework.CuratorFrameworkFactory;
+import javax.validation.constraints.Min;
 import javax.validation.constraints.NotNull;
 import java.util.concurrent.TimeUnit;
 
@@ -34,6 +35,7 @@ public class ConnectionConfiguration
     private AuthorizationConfiguration authorization = null;
     private String namespace = null;
     private RetryPolicyConfiguration retry = new ExponentialBackoffRetryConfiguration();
+    @Min(0) private int sharedSessions = 0;
 
     public String getName()
     {
@@ -105,6 +107,22 @@ public class ConnectionConfiguration
         this.retry = retry;
     }
 
+    /**
+     * Returns the number of ZooKeeper sessions that projections for this connection share. If
+     * 0 (the default) each projection gets its own session.
+     *
+     * @return qty
+     */
+    public int getSharedSessions()
+    {
+        return sharedSessions;
+    }
+
+    public void setSharedSessions(int sharedSessions)
+    {
+        this.sharedSessions = sharedSessions;
+    }
+
     public CuratorFramework build()
     {
         Preconditions.checkState((connectionString != null) && (connectionString.length() > 0), "You must specify a connection string for connection: " + name);
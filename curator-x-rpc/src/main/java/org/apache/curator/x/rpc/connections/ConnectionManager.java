@@ -19,11 +19,9 @@
 package org.apache.curator.x.rpc.connections;
 
 import com.google.common.base.Preconditions;
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.RemovalListener;
-import com.google.common.cache.RemovalNotification;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
 import org.apache.curator.framework.CuratorFramework;
 import org.apache.curator.utils.ThreadUtils;
 import org.apache.curator.x.rpc.configuration.ConnectionConfiguration;
@@ -32,19 +30,42 @@ import org.slf4j.LoggerFactory;
 import java.io.Closeable;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 
+/**
+ * Registry of the open projections. Projections that haven't been accessed within the expiration time
+ * are removed and closed. Access only updates a timestamp in the entry so frequent pings don't
+ * contend, and expired entries are closed on a small pool of closer threads so that many expirations
+ * at once don't stall the cleanup thread or the RPC call that noticed them.
+ */
 public class ConnectionManager implements Closeable
 {
     private final Logger log = LoggerFactory.getLogger(getClass());
-    private final Cache<String, CuratorEntry> cache;
+    private final ConcurrentMap<String, CuratorEntry> entries = new ConcurrentHashMap<String, CuratorEntry>(16, 0.75f, REGISTRY_SHARDS);
+    private final long expirationMs;
     private final AtomicReference<State> state = new AtomicReference<State>(State.LATENT);
     private final Map<String, ConnectionConfiguration> connections;
+    private final Map<String, SharedSessionPool> sessionPools;
+    private final int maxQueuedEvents;
     private final ScheduledExecutorService service = ThreadUtils.newSingleThreadScheduledExecutor("ConnectionManager");
+    private final ListeningExecutorService waitService;
+    private final ExecutorService closerService = ThreadUtils.newFixedThreadPool(CLOSER_THREADS, "ConnectionManagerCloser");
 
     private static final int FORCED_CLEANUP_SECONDS = 30;
+    private static final int REGISTRY_SHARDS = 16;
+    private static final int CLOSER_THREADS = 4;
+    private static final int CLOSER_WAIT_SECONDS = 30;
+    private static final int WAITER_KEEP_ALIVE_SECONDS = 60;
+
+    public static final int DEFAULT_MAX_WAITERS = 200;
 
     private enum State
     {
@@ -55,27 +76,32 @@ public class ConnectionManager implements Closeable
 
     public ConnectionManager(List<ConnectionConfiguration> connections, long expirationMs)
     {
-        this.connections = buildConnectionsMap(connections);
+        this(connections, expirationMs, CuratorEntry.DEFAULT_MAX_QUEUED_EVENTS);
+    }
 
-        RemovalListener<String, CuratorEntry> listener = new RemovalListener<String, CuratorEntry>()
-        {
-            @SuppressWarnings("NullableProblems")
-            @Override
-            public void onRemoval(RemovalNotification<String, CuratorEntry> notification)
-            {
-                if ( notification != null )
-                {
-                    log.debug(String.format("Entry being removed. id (%s), reason (%s)", notification.getKey(), notification.getCause()));
+    public ConnectionManager(List<ConnectionConfiguration> connections, long expirationMs, int maxQueuedEvents)
+    {
+        this(connections, expirationMs, maxQueuedEvents, DEFAULT_MAX_WAITERS);
+    }
 
-                    CuratorEntry entry = notification.getValue();
-                    if ( entry != null )
-                    {
-                        entry.close();
-                    }
-                }
-            }
-        };
-        cache = CacheBuilder.newBuilder().expireAfterAccess(expirationMs, TimeUnit.MILLISECONDS).removalListener(listener).build();
+    /**
+     * @param connections connection configurations
+     * @param expirationMs time for projections to expire if unused
+     * @param maxQueuedEvents max events queued per projection
+     * @param maxWaiters max number of lock/semaphore acquisitions that can be waiting at once. Further
+     *                   acquisitions are queued until one finishes.
+     */
+    public ConnectionManager(List<ConnectionConfiguration> connections, long expirationMs, int maxQueuedEvents, int maxWaiters)
+    {
+        Preconditions.checkArgument(maxQueuedEvents >= 2, "maxQueuedEvents must be at least 2");
+        Preconditions.checkArgument(maxWaiters > 0, "maxWaiters must be a positive number");
+        ThreadPoolExecutor waitExecutor = new ThreadPoolExecutor(maxWaiters, maxWaiters, WAITER_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(), ThreadUtils.newThreadFactory("ConnectionManagerWaiter"));
+        waitExecutor.allowCoreThreadTimeOut(true);
+        waitService = MoreExecutors.listeningDecorator(waitExecutor);
+        this.expirationMs = expirationMs;
+        this.maxQueuedEvents = maxQueuedEvents;
+        this.connections = buildConnectionsMap(connections);
+        sessionPools = buildSessionPoolsMap(connections);
     }
 
     public void start()
@@ -87,10 +113,11 @@ public class ConnectionManager implements Closeable
             @Override
             public void run()
             {
-                cache.cleanUp();
+                removeExpired();
             }
         };
-        service.scheduleWithFixedDelay(cleanup, FORCED_CLEANUP_SECONDS, 30, TimeUnit.SECONDS);
+        long cleanupMs = Math.max(1, Math.min(expirationMs, TimeUnit.SECONDS.toMillis(FORCED_CLEANUP_SECONDS)));
+        service.scheduleWithFixedDelay(cleanup, cleanupMs, cleanupMs, TimeUnit.MILLISECONDS);
     }
 
     @Override
@@ -99,32 +126,184 @@ public class ConnectionManager implements Closeable
         if ( state.compareAndSet(State.STARTED, State.CLOSED) )
         {
             service.shutdownNow();
-            cache.invalidateAll();
-            cache.cleanUp();
+            waitService.shutdownNow();
+            for ( String id : entries.keySet() )
+            {
+                CuratorEntry entry = entries.remove(id);
+                if ( entry != null )
+                {
+                    entry.close();
+                }
+            }
+
+            // let pending closes finish before the shared sessions they release are closed
+            closerService.shutdown();
+            try
+            {
+                if ( !closerService.awaitTermination(CLOSER_WAIT_SECONDS, TimeUnit.SECONDS) )
+                {
+                    log.warn("Timed out waiting for expired projections to close");
+                }
+            }
+            catch ( InterruptedException e )
+            {
+                Thread.currentThread().interrupt();
+            }
+
+            for ( SharedSessionPool pool : sessionPools.values() )
+            {
+                pool.close();
+            }
         }
     }
 
+    /**
+     * Returns the executor that RPC methods use for operations that can wait for a long time
+     * (i.e. lock and semaphore acquisition) so that they don't hold a server worker thread. Each
+     * waiting operation holds one of the executor's threads. The number of threads is bounded and
+     * operations are queued when they are all busy.
+     *
+     * @return executor
+     */
+    public ListeningExecutorService getWaitService()
+    {
+        return waitService;
+    }
+
+    /**
+     * Returns the executor that RPC methods use to schedule timeouts
+     *
+     * @return executor
+     */
+    public ScheduledExecutorService getScheduledService()
+    {
+        return service;
+    }
+
     public CuratorFramework newConnection(String name)
     {
         ConnectionConfiguration configuration = connections.get(name);
         return (configuration != null) ? configuration.build() : null;
     }
 
+    /**
+     * Add a new projection for the given connection. If the connection is configured with shared
+     * sessions the projection uses one of the pooled sessions, otherwise a new client is built
+     * and started for it.
+     *
+     * @param id projection id
+     * @param connectionName name of the connection configuration
+     * @return the new entry or null if there is no connection configuration with that name
+     */
+    public CuratorEntry addProjection(String id, String connectionName)
+    {
+        Preconditions.checkState(state.get() == State.STARTED, "Not started");
+
+        CuratorEntry entry;
+        SharedSessionPool pool = sessionPools.get(connectionName);
+        if ( pool != null )
+        {
+            final SharedSessionPool.Session session = pool.acquire();
+            Closer releaser = new Closer()
+            {
+                @Override
+                public void close()
+                {
+                    session.release();
+                }
+            };
+            entry = new CuratorEntry(session.getClient(), releaser, maxQueuedEvents);
+        }
+        else
+        {
+            CuratorFramework client = newConnection(connectionName);
+            if ( client == null )
+            {
+                return null;
+            }
+            client.start();
+            entry = new CuratorEntry(client, null, maxQueuedEvents);
+        }
+        entries.put(id, entry);
+        return entry;
+    }
+
     public void add(String id, CuratorFramework client)
     {
         Preconditions.checkState(state.get() == State.STARTED, "Not started");
-        cache.put(id, new CuratorEntry(client));
+        entries.put(id, new CuratorEntry(client, null, maxQueuedEvents));
     }
 
     public CuratorEntry get(String id)
     {
-        return (state.get() == State.STARTED) ? cache.getIfPresent(id) : null;
+        if ( state.get() != State.STARTED )
+        {
+            return null;
+        }
+
+        CuratorEntry entry = entries.get(id);
+        if ( entry != null )
+        {
+            long now = System.currentTimeMillis();
+            if ( entry.isExpired(now, expirationMs) )
+            {
+                if ( entries.remove(id, entry) )
+                {
+                    closeInBackground(id, entry);
+                }
+                return null;
+            }
+            entry.touch(now);
+        }
+        return entry;
     }
 
+    /**
+     * Remove the given projection. The entry is not closed - that's the caller's responsibility.
+     *
+     * @param id projection id
+     * @return the removed entry or null
+     */
     public CuratorEntry remove(String id)
     {
         Preconditions.checkState(state.get() == State.STARTED, "Not started");
-        return cache.asMap().remove(id);
+        return entries.remove(id);
+    }
+
+    private void removeExpired()
+    {
+        long now = System.currentTimeMillis();
+        for ( Map.Entry<String, CuratorEntry> mapEntry : entries.entrySet() )
+        {
+            CuratorEntry entry = mapEntry.getValue();
+            if ( entry.isExpired(now, expirationMs) && entries.remove(mapEntry.getKey(), entry) )
+            {
+                closeInBackground(mapEntry.getKey(), entry);
+            }
+        }
+    }
+
+    private void closeInBackground(final String id, final CuratorEntry entry)
+    {
+        log.debug(String.format("Entry expired. id (%s)", id));
+
+        Runnable closer = new Runnable()
+        {
+            @Override
+            public void run()
+            {
+                entry.close();
+            }
+        };
+        try
+        {
+            closerService.execute(closer);
+        }
+        catch ( RejectedExecutionException e )
+        {
+            // closing down
+            entry.close();
+        }
     }
 
     private Map<String, ConnectionConfiguration> buildConnectionsMap(List<ConnectionConfiguration> connections)
@@ -138,4 +317,17 @@ public class ConnectionManager implements Closeable
         }
         return builder.build();
     }
+
+    private Map<String, SharedSessionPool> buildSessionPoolsMap(List<ConnectionConfiguration> connections)
+    {
+        ImmutableMap.Builder<String, SharedSessionPool> builder = ImmutableMap.builder();
+        for ( ConnectionConfiguration configuration : connections )
+        {
+            if ( configuration.getSharedSessions() > 0 )
+            {
+                builder.put(configuration.getName(), new SharedSessionPool(configuration));
+            }
+        }
+        return builder.build();
+    }
 }
@@ -19,17 +19,26 @@
 package org.apache.curator.x.rpc.connections;
 
 import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Queues;
 import org.apache.curator.framework.CuratorFramework;
+import org.apache.curator.framework.api.BackgroundCallback;
 import org.apache.curator.framework.api.CuratorEvent;
+import org.apache.curator.framework.state.ConnectionState;
+import org.apache.curator.framework.state.ConnectionStateListener;
+import org.apache.curator.utils.ThreadUtils;
 import org.apache.curator.x.rpc.idl.exceptions.ExceptionType;
 import org.apache.curator.x.rpc.idl.exceptions.RpcException;
 import org.apache.curator.x.rpc.idl.structs.CuratorProjection;
 import org.apache.curator.x.rpc.idl.structs.RpcCuratorEvent;
+import org.apache.curator.x.rpc.idl.structs.RpcCuratorEventType;
+import org.apache.zookeeper.KeeperException;
+import org.apache.zookeeper.data.Stat;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import java.io.Closeable;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.BlockingQueue;
@@ -40,9 +49,27 @@ public class CuratorEntry implements Closeable
 {
     private final Logger log = LoggerFactory.getLogger(getClass());
     private final CuratorFramework client;
-    private final BlockingQueue<RpcCuratorEvent> events = Queues.newLinkedBlockingQueue();
+    private final BlockingQueue<RpcCuratorEvent> events;
     private final AtomicReference<State> state = new AtomicReference<State>(State.OPEN);
     private final Map<String, Entry> things = Maps.newConcurrentMap();
+    private final Closer sessionReleaser;
+    private final Map<String, EphemeralNode> ephemeralNodes = Maps.newConcurrentMap();
+    private final ConnectionStateListener sessionListener = new ConnectionStateListener()
+    {
+        @Override
+        public void stateChanged(CuratorFramework client, ConnectionState newState)
+        {
+            if ( newState == ConnectionState.LOST )
+            {
+                // the session's ephemeral nodes are gone - any node with the same path now belongs to someone else
+                ephemeralNodes.clear();
+            }
+        }
+    };
+    private final AtomicReference<ConnectionStateListener> connectionStateListener = new AtomicReference<ConnectionStateListener>();
+    private volatile long lastAccessMs = System.currentTimeMillis();
+
+    public static final int DEFAULT_MAX_QUEUED_EVENTS = 10000;
 
     public static <T> T mustGetThing(CuratorEntry entry, String id, Class<T> clazz)
     {
@@ -63,6 +90,26 @@ public class CuratorEntry implements Closeable
         }
     }
 
+    // identifies the particular node that was created - a node re-created at the same path has a different czxid
+    private static class EphemeralNode
+    {
+        final long czxid;
+        final long ephemeralOwner;
+
+        private EphemeralNode(long czxid, long ephemeralOwner)
+        {
+            this.czxid = czxid;
+            this.ephemeralOwner = ephemeralOwner;
+        }
+
+        boolean matches(Stat stat)
+        {
+            return (stat != null) && (stat.getCzxid() == czxid) && (stat.getEphemeralOwner() == ephemeralOwner);
+        }
+    }
+
+    private static final EphemeralNode UNKNOWN_NODE = new EphemeralNode(-1, -1);
+
     private enum State
     {
         OPEN,
@@ -71,7 +118,40 @@ public class CuratorEntry implements Closeable
 
     public CuratorEntry(CuratorFramework client)
     {
+        this(client, null, DEFAULT_MAX_QUEUED_EVENTS);
+    }
+
+    /**
+     * @param client the client
+     * @param sessionReleaser if not null, the client is a session shared with other projections. Instead of closing
+     *                        the client, the entry deletes the ephemeral nodes it created and then calls the releaser
+     * @param maxQueuedEvents max number of events to queue before the client is told to resync. Must be at least 2
+     *                        so that the overflow marker and the newest event both fit
+     */
+    CuratorEntry(CuratorFramework client, Closer sessionReleaser, int maxQueuedEvents)
+    {
+        Preconditions.checkArgument(maxQueuedEvents >= 2, "maxQueuedEvents must be at least 2");
         this.client = client;
+        this.sessionReleaser = sessionReleaser;
+        events = Queues.newLinkedBlockingQueue(maxQueuedEvents);
+        if ( sessionReleaser != null )
+        {
+            client.getConnectionStateListenable().addListener(sessionListener);
+        }
+    }
+
+    void touch(long nowMs)
+    {
+        // skip the volatile write when the time hasn't moved (i.e. a burst of pings)
+        if ( lastAccessMs != nowMs )
+        {
+            lastAccessMs = nowMs;
+        }
+    }
+
+    boolean isExpired(long nowMs, long expirationMs)
+    {
+        return (nowMs - lastAccessMs) > expirationMs;
     }
 
     @Override
@@ -79,22 +159,163 @@ public class CuratorEntry implements Closeable
     {
         if ( state.compareAndSet(State.OPEN, State.CLOSED) )
         {
-            for ( Map.Entry<String, Entry> mapEntry : things.entrySet() )
+            // remove each thing before closing it so that a thing being added concurrently is closed exactly once
+            for ( String id : things.keySet() )
             {
-                Entry entry = mapEntry.getValue();
-                if ( entry.closer != null )
+                Entry entry = things.remove(id);
+                if ( (entry != null) && (entry.closer != null) )
                 {
-                    log.debug(String.format("Closing left over thing. Type: %s - Id: %s", entry.thing.getClass(), mapEntry.getKey()));
-                    entry.closer.close();
+                    log.debug(String.format("Closing left over thing. Type: %s - Id: %s", entry.thing.getClass(), id));
+                    try
+                    {
+                        entry.closer.close();
+                    }
+                    catch ( Exception e )
+                    {
+                        // one failing thing must not keep the others, the session and the events from being released
+                        ThreadUtils.checkInterrupted(e);
+                        log.error(String.format("Could not close left over thing. Type: %s - Id: %s", entry.thing.getClass(), id), e);
+                    }
                 }
             }
-            things.clear();
 
-            client.close();
+            ConnectionStateListener listener = connectionStateListener.getAndSet(null);
+            if ( listener != null )
+            {
+                client.getConnectionStateListenable().removeListener(listener);
+            }
+
+            if ( sessionReleaser != null )
+            {
+                client.getConnectionStateListenable().removeListener(sessionListener);
+                for ( Map.Entry<String, EphemeralNode> mapEntry : ephemeralNodes.entrySet() )
+                {
+                    deleteEphemeralNode(mapEntry.getKey(), mapEntry.getValue());
+                }
+                ephemeralNodes.clear();
+                sessionReleaser.close();
+            }
+            else
+            {
+                client.close();
+            }
             events.clear();
         }
     }
 
+    /**
+     * Returns true if the client is a ZooKeeper session shared with other projections
+     *
+     * @return true/false
+     */
+    public boolean isSharedSession()
+    {
+        return sessionReleaser != null;
+    }
+
+    /**
+     * Set the listener that forwards connection state changes to this projection. The listener is
+     * removed from the client when the entry is closed.
+     *
+     * @param listener listener
+     */
+    public void setConnectionStateListener(ConnectionStateListener listener)
+    {
+        ConnectionStateListener oldListener = connectionStateListener.getAndSet(listener);
+        if ( oldListener != null )
+        {
+            client.getConnectionStateListenable().removeListener(oldListener);
+        }
+        client.getConnectionStateListenable().addListener(listener);
+    }
+
+    /**
+     * Record that this projection created the given ephemeral node. When the session is shared
+     * the node is deleted when the projection is closed, as if the projection had its own session.
+     * Only the node this projection created is deleted - not a node that another projection has
+     * since created at the same path.
+     *
+     * @param path the created path
+     */
+    public void ephemeralNodeCreated(final String path)
+    {
+        if ( isSharedSession() && (path != null) && (state.get() == State.OPEN) )
+        {
+            ephemeralNodes.put(path, UNKNOWN_NODE);
+            BackgroundCallback callback = new BackgroundCallback()
+            {
+                @Override
+                public void processResult(CuratorFramework client, CuratorEvent event) throws Exception
+                {
+                    Stat stat = event.getStat();
+                    if ( (event.getResultCode() == KeeperException.Code.OK.intValue()) && (stat != null) && (stat.getEphemeralOwner() != 0) )
+                    {
+                        ephemeralNodes.replace(path, UNKNOWN_NODE, new EphemeralNode(stat.getCzxid(), stat.getEphemeralOwner()));
+                    }
+                    else
+                    {
+                        ephemeralNodes.remove(path, UNKNOWN_NODE);
+                    }
+                }
+            };
+            try
+            {
+                // background so that this is safe to call from a background callback
+                client.checkExists().inBackground(callback).forPath(path);
+            }
+            catch ( Exception e )
+            {
+                ThreadUtils.checkInterrupted(e);
+                ephemeralNodes.remove(path, UNKNOWN_NODE);
+                log.error("Could not read the created ephemeral node: " + path, e);
+            }
+        }
+    }
+
+    /**
+     * Record that the given node was deleted by this projection
+     *
+     * @param path the deleted path
+     */
+    public void nodeDeleted(String path)
+    {
+        if ( path != null )
+        {
+            ephemeralNodes.remove(path);
+        }
+    }
+
+    private void deleteEphemeralNode(final String path, final EphemeralNode node)
+    {
+        if ( node == UNKNOWN_NODE )
+        {
+            // the node's identity was never read - it can't safely be told apart from another projection's node
+            log.warn("Not deleting left-over ephemeral node as it could not be identified: " + path);
+            return;
+        }
+
+        BackgroundCallback callback = new BackgroundCallback()
+        {
+            @Override
+            public void processResult(CuratorFramework client, CuratorEvent event) throws Exception
+            {
+                if ( (event.getResultCode() == KeeperException.Code.OK.intValue()) && node.matches(event.getStat()) )
+                {
+                    client.delete().guaranteed().withVersion(event.getStat().getVersion()).inBackground().forPath(path);
+                }
+            }
+        };
+        try
+        {
+            client.checkExists().inBackground(callback).forPath(path);
+        }
+        catch ( Exception e )
+        {
+            ThreadUtils.checkInterrupted(e);
+            log.error("Could not delete left-over ephemeral node: " + path, e);
+        }
+    }
+
     public RpcCuratorEvent pollForEvent(long maxWaitMs) throws InterruptedException
     {
         if ( state.get() == State.OPEN )
@@ -104,11 +325,44 @@ public class CuratorEntry implements Closeable
         return null;
     }
 
+    /**
+     * Wait up to <code>maxWaitMs</code> for an event and then return it along with any other
+     * queued events up to <code>maxEvents</code>
+     *
+     * @param maxEvents max number of events to return
+     * @param maxWaitMs max time to wait for the first event
+     * @return events - empty if none arrived in time
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public List<RpcCuratorEvent> pollForEvents(int maxEvents, long maxWaitMs) throws InterruptedException
+    {
+        List<RpcCuratorEvent> polled = Lists.newArrayList();
+        RpcCuratorEvent event = pollForEvent(maxWaitMs);
+        if ( event != null )
+        {
+            polled.add(event);
+            events.drainTo(polled, maxEvents - 1);
+        }
+        return polled;
+    }
+
     public void addEvent(RpcCuratorEvent event)
     {
         if ( state.get() == State.OPEN )
         {
-            events.offer(event);
+            // all producers hold the lock so that, once cleared, the queue has room for both the marker and the event
+            synchronized(events)
+            {
+                if ( !events.offer(event) )
+                {
+                    // the client isn't keeping up. Queued events are discarded in favor of
+                    // a marker telling the client to re-read any state it is tracking
+                    log.warn("Event queue is full. Discarding queued events and sending " + RpcCuratorEventType.EVENTS_OVERFLOWED);
+                    events.clear();
+                    events.offer(new RpcCuratorEvent(RpcCuratorEventType.EVENTS_OVERFLOWED, null));
+                    events.offer(event);
+                }
+            }
         }
     }
 
@@ -127,6 +381,16 @@ public class CuratorEntry implements Closeable
         return (state.get() == State.OPEN) ? client : null;
     }
 
+    /**
+     * Add a thing (lock, cache, etc.) that is closed when the projection is closed. If the projection
+     * has already been closed (e.g. it expired while a lock was being acquired in the background) the
+     * thing is closed immediately and an exception is thrown.
+     *
+     * @param thing the thing
+     * @param closer closes the thing
+     * @return id for the thing
+     * @throws IllegalStateException if the projection has been closed
+     */
     public String addThing(Object thing, Closer closer)
     {
         return addThing(newId(), thing, closer);
@@ -156,6 +420,16 @@ public class CuratorEntry implements Closeable
     private <T> String addThing(String id, T thing, Closer closer)
     {
         things.put(id, new Entry(thing, closer));
+        if ( state.get() != State.OPEN )
+        {
+            // close() may have already removed it - whoever removes it closes it
+            Entry entry = things.remove(id);
+            if ( (entry != null) && (entry.closer != null) )
+            {
+                entry.closer.close();
+            }
+            throw new IllegalStateException("The CuratorProjection has been closed");
+        }
         return id;
     }
 
@@ -0,0 +1,136 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.curator.x.rpc.connections;
+
+import com.google.common.base.Preconditions;
+import org.apache.curator.framework.CuratorFramework;
+import org.apache.curator.utils.CloseableUtils;
+import org.apache.curator.x.rpc.configuration.ConnectionConfiguration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.io.Closeable;
+
+/**
+ * A small, fixed size pool of ZooKeeper sessions for a single connection configuration. Sessions are
+ * created lazily, handed out to the least loaded slot and closed when their last user releases them.
+ */
+class SharedSessionPool implements Closeable
+{
+    private final Logger log = LoggerFactory.getLogger(getClass());
+    private final ConnectionConfiguration configuration;
+    private final Slot[] slots;
+    private boolean isClosed = false;
+
+    class Session
+    {
+        private final int slot;
+        private final CuratorFramework client;
+
+        private Session(int slot, CuratorFramework client)
+        {
+            this.slot = slot;
+            this.client = client;
+        }
+
+        CuratorFramework getClient()
+        {
+            return client;
+        }
+
+        void release()
+        {
+            SharedSessionPool.this.release(this);
+        }
+    }
+
+    private static class Slot
+    {
+        final CuratorFramework client;
+        int referenceCount = 0;
+
+        Slot(CuratorFramework client)
+        {
+            this.client = client;
+        }
+    }
+
+    SharedSessionPool(ConnectionConfiguration configuration)
+    {
+        Preconditions.checkArgument(configuration.getSharedSessions() > 0, "sharedSessions must be greater than 0");
+        this.configuration = configuration;
+        slots = new Slot[configuration.getSharedSessions()];
+    }
+
+    synchronized Session acquire()
+    {
+        Preconditions.checkState(!isClosed, "Pool is closed");
+
+        int bestIndex = -1;
+        for ( int i = 0; i < slots.length; ++i )
+        {
+            if ( slots[i] == null )
+            {
+                CuratorFramework client = configuration.build();
+                client.start();
+                slots[i] = new Slot(client);
+                slots[i].referenceCount = 1;
+                log.debug(String.format("Started shared session %d for connection: %s", i, configuration.getName()));
+                return new Session(i, client);
+            }
+            if ( (bestIndex < 0) || (slots[i].referenceCount < slots[bestIndex].referenceCount) )
+            {
+                bestIndex = i;
+            }
+        }
+
+        Slot slot = slots[bestIndex];
+        ++slot.referenceCount;
+        return new Session(bestIndex, slot.client);
+    }
+
+    @Override
+    public synchronized void close()
+    {
+        isClosed = true;
+        for ( int i = 0; i < slots.length; ++i )
+        {
+            if ( slots[i] != null )
+            {
+                CloseableUtils.closeQuietly(slots[i].client);
+                slots[i] = null;
+            }
+        }
+    }
+
+    private synchronized void release(Session session)
+    {
+        Slot slot = slots[session.slot];
+        if ( (slot == null) || (slot.client != session.client) )
+        {
+            return; // pool was closed
+        }
+
+        if ( --slot.referenceCount <= 0 )
+        {
+            log.debug(String.format("Closing idle shared session %d for connection: %s", session.slot, configuration.getName()));
+            slots[session.slot] = null;
+            CloseableUtils.closeQuietly(slot.client);
+        }
+    }
+}
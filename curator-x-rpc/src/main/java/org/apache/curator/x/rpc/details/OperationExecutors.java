@@ -0,0 +1,485 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.curator.x.rpc.details;
+
+import com.google.common.collect.Lists;
+import org.apache.curator.framework.CuratorFramework;
+import org.apache.curator.framework.api.BackgroundCallback;
+import org.apache.curator.framework.api.CreateBuilder;
+import org.apache.curator.framework.api.DeleteBuilder;
+import org.apache.curator.framework.api.ExistsBuilder;
+import org.apache.curator.framework.api.GetChildrenBuilder;
+import org.apache.curator.framework.api.GetDataBuilder;
+import org.apache.curator.framework.api.SetDataBuilder;
+import org.apache.curator.x.rpc.idl.structs.CreateSpec;
+import org.apache.curator.x.rpc.idl.structs.DeleteSpec;
+import org.apache.curator.x.rpc.idl.structs.ExistsSpec;
+import org.apache.curator.x.rpc.idl.structs.GetChildrenSpec;
+import org.apache.curator.x.rpc.idl.structs.GetDataSpec;
+import org.apache.curator.x.rpc.idl.structs.SetDataSpec;
+import org.apache.zookeeper.CreateMode;
+import org.apache.zookeeper.Watcher;
+import org.apache.zookeeper.data.Stat;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * <p>
+ *     Precompiled builder pipelines for the CRUD operations of the RPC services. The optional parts of
+ *     a spec (compression, watching, background, etc.) are reduced to a bitmask and the sequence of builder
+ *     calls for each bitmask is computed once and cached. Executing an operation is then a fixed series of
+ *     typed builder method calls.
+ * </p>
+ *
+ * <p>
+ *     All stages are applied to the builder returned by the CuratorFramework (e.g. {@link CreateBuilder}).
+ *     The builders keep their settings internally and the narrower interfaces returned by the fluent methods
+ *     only delegate back to them, so this is equivalent to chaining the calls. It also allows combinations
+ *     that the fluent interfaces can't express (e.g. compressed, creating parents and in the background).
+ * </p>
+ */
+public class OperationExecutors
+{
+    /**
+     * An operation with a fixed sequence of builder calls
+     */
+    public interface Executor<S, R>
+    {
+        /**
+         * Execute the operation
+         *
+         * @param client client
+         * @param spec the operation's spec
+         * @param watcher watcher to set if the spec is watched, otherwise ignored
+         * @param callback background callback if the executor was selected for background, otherwise ignored
+         * @param context background context
+         * @return the operation's result. null for background operations.
+         * @throws Exception errors
+         */
+        R execute(CuratorFramework client, S spec, Watcher watcher, BackgroundCallback callback, Object context) throws Exception;
+    }
+
+    private static final Operation<CreateBuilder, CreateSpec, String> createOperation = new Operation<CreateBuilder, CreateSpec, String>(CreateStage.values())
+    {
+        @Override
+        CreateBuilder newBuilder(CuratorFramework client)
+        {
+            return client.create();
+        }
+
+        @Override
+        String forPath(CreateBuilder builder, CreateSpec spec) throws Exception
+        {
+            return builder.forPath(spec.path, spec.data);
+        }
+    };
+
+    private static final Operation<DeleteBuilder, DeleteSpec, Void> deleteOperation = new Operation<DeleteBuilder, DeleteSpec, Void>(DeleteStage.values())
+    {
+        @Override
+        DeleteBuilder newBuilder(CuratorFramework client)
+        {
+            return client.delete();
+        }
+
+        @Override
+        Void forPath(DeleteBuilder builder, DeleteSpec spec) throws Exception
+        {
+            return builder.forPath(spec.path);
+        }
+    };
+
+    private static final Operation<SetDataBuilder, SetDataSpec, Stat> setDataOperation = new Operation<SetDataBuilder, SetDataSpec, Stat>(SetDataStage.values())
+    {
+        @Override
+        SetDataBuilder newBuilder(CuratorFramework client)
+        {
+            return client.setData();
+        }
+
+        @Override
+        Stat forPath(SetDataBuilder builder, SetDataSpec spec) throws Exception
+        {
+            return builder.forPath(spec.path, spec.data);
+        }
+    };
+
+    private static final Operation<ExistsBuilder, ExistsSpec, Stat> existsOperation = new Operation<ExistsBuilder, ExistsSpec, Stat>(ExistsStage.values())
+    {
+        @Override
+        ExistsBuilder newBuilder(CuratorFramework client)
+        {
+            return client.checkExists();
+        }
+
+        @Override
+        Stat forPath(ExistsBuilder builder, ExistsSpec spec) throws Exception
+        {
+            return builder.forPath(spec.path);
+        }
+    };
+
+    private static final Operation<GetDataBuilder, GetDataSpec, byte[]> getDataOperation = new Operation<GetDataBuilder, GetDataSpec, byte[]>(GetDataStage.values())
+    {
+        @Override
+        GetDataBuilder newBuilder(CuratorFramework client)
+        {
+            return client.getData();
+        }
+
+        @Override
+        byte[] forPath(GetDataBuilder builder, GetDataSpec spec) throws Exception
+        {
+            return builder.forPath(spec.path);
+        }
+    };
+
+    private static final Operation<GetChildrenBuilder, GetChildrenSpec, List<String>> getChildrenOperation = new Operation<GetChildrenBuilder, GetChildrenSpec, List<String>>(GetChildrenStage.values())
+    {
+        @Override
+        GetChildrenBuilder newBuilder(CuratorFramework client)
+        {
+            return client.getChildren();
+        }
+
+        @Override
+        List<String> forPath(GetChildrenBuilder builder, GetChildrenSpec spec) throws Exception
+        {
+            return builder.forPath(spec.path);
+        }
+    };
+
+    public static Executor<CreateSpec, String> create(CreateSpec spec, boolean inBackground)
+    {
+        int flags = flag(CreateStage.CREATING_PARENTS, spec.creatingParentsIfNeeded)
+            | flag(CreateStage.CREATING_PARENT_CONTAINERS, spec.creatingParentContainersIfNeeded)
+            | flag(CreateStage.COMPRESSED, spec.compressed)
+            | flag(CreateStage.WITH_PROTECTION, spec.withProtection)
+            | flag(CreateStage.WITH_MODE, spec.mode != null)
+            | flag(CreateStage.IN_BACKGROUND, inBackground);
+        return createOperation.getExecutor(flags);
+    }
+
+    public static Executor<DeleteSpec, Void> delete(DeleteSpec spec, boolean inBackground)
+    {
+        int flags = flag(DeleteStage.GUARANTEED, spec.guaranteed)
+            | flag(DeleteStage.WITH_VERSION, spec.version != null)
+            | flag(DeleteStage.IN_BACKGROUND, inBackground);
+        return deleteOperation.getExecutor(flags);
+    }
+
+    public static Executor<SetDataSpec, Stat> setData(SetDataSpec spec, boolean inBackground) throws Exception
+    {
+        if ( spec.watched )
+        {
+            throw new Exception("Watches are not available for setData");
+        }
+        int flags = flag(SetDataStage.WITH_VERSION, spec.version != null)
+            | flag(SetDataStage.COMPRESSED, spec.compressed)
+            | flag(SetDataStage.IN_BACKGROUND, inBackground);
+        return setDataOperation.getExecutor(flags);
+    }
+
+    public static Executor<ExistsSpec, Stat> exists(ExistsSpec spec, boolean inBackground)
+    {
+        int flags = flag(ExistsStage.WATCHED, spec.watched)
+            | flag(ExistsStage.IN_BACKGROUND, inBackground);
+        return existsOperation.getExecutor(flags);
+    }
+
+    public static Executor<GetDataSpec, byte[]> getData(GetDataSpec spec, boolean inBackground)
+    {
+        int flags = flag(GetDataStage.WATCHED, spec.watched)
+            | flag(GetDataStage.DECOMPRESSED, spec.decompressed)
+            | flag(GetDataStage.IN_BACKGROUND, inBackground);
+        return getDataOperation.getExecutor(flags);
+    }
+
+    public static Executor<GetChildrenSpec, List<String>> getChildren(GetChildrenSpec spec, boolean inBackground)
+    {
+        int flags = flag(GetChildrenStage.WATCHED, spec.watched)
+            | flag(GetChildrenStage.IN_BACKGROUND, inBackground);
+        return getChildrenOperation.getExecutor(flags);
+    }
+
+    private interface Stage<B, S>
+    {
+        void apply(B builder, S spec, Watcher watcher, BackgroundCallback callback, Object context);
+    }
+
+    private static abstract class Operation<B, S, R>
+    {
+        private final Stage<B, S>[] allStages;
+        private final AtomicReferenceArray<Executor<S, R>> executors;
+
+        Operation(Stage<B, S>[] allStages)
+        {
+            this.allStages = allStages;
+            executors = new AtomicReferenceArray<Executor<S, R>>(1 << allStages.length);
+        }
+
+        abstract B newBuilder(CuratorFramework client);
+
+        abstract R forPath(B builder, S spec) throws Exception;
+
+        Executor<S, R> getExecutor(int flags)
+        {
+            Executor<S, R> executor = executors.get(flags);
+            if ( executor == null )
+            {
+                // racing threads build equivalent executors so there's no need to lock
+                List<Stage<B, S>> stages = Lists.newArrayList();
+                for ( int i = 0; i < allStages.length; ++i )
+                {
+                    if ( (flags & (1 << i)) != 0 )
+                    {
+                        stages.add(allStages[i]);
+                    }
+                }
+                executor = new StagedExecutor<B, S, R>(this, stages);
+                executors.set(flags, executor);
+            }
+            return executor;
+        }
+    }
+
+    private static class StagedExecutor<B, S, R> implements Executor<S, R>
+    {
+        private final Operation<B, S, R> operation;
+        private final Stage<B, S>[] stages;
+
+        @SuppressWarnings("unchecked")
+        StagedExecutor(Operation<B, S, R> operation, List<Stage<B, S>> stages)
+        {
+            this.operation = operation;
+            this.stages = stages.toArray(new Stage[stages.size()]);
+        }
+
+        @Override
+        public R execute(CuratorFramework client, S spec, Watcher watcher, BackgroundCallback callback, Object context) throws Exception
+        {
+            B builder = operation.newBuilder(client);
+            for ( Stage<B, S> stage : stages )
+            {
+                stage.apply(builder, spec, watcher, callback, context);
+            }
+            return operation.forPath(builder, spec);
+        }
+    }
+
+    private static int flag(Enum<?> stage, boolean isSet)
+    {
+        return isSet ? (1 << stage.ordinal()) : 0;
+    }
+
+    // NOTE: the order of the constants is the order in which the stages are applied
+
+    private enum CreateStage implements Stage<CreateBuilder, CreateSpec>
+    {
+        CREATING_PARENTS
+        {
+            @Override
+            public void apply(CreateBuilder builder, CreateSpec spec, Watcher watcher, BackgroundCallback callback, Object context)
+            {
+                builder.creatingParentsIfNeeded();
+            }
+        },
+
+        CREATING_PARENT_CONTAINERS
+        {
+            @Override
+            public void apply(CreateBuilder builder, CreateSpec spec, Watcher watcher, BackgroundCallback callback, Object context)
+            {
+                builder.creatingParentContainersIfNeeded();
+            }
+        },
+
+        COMPRESSED
+        {
+            @Override
+            public void apply(CreateBuilder builder, CreateSpec spec, Watcher watcher, BackgroundCallback callback, Object context)
+            {
+                builder.compressed();
+            }
+        },
+
+        WITH_PROTECTION
+        {
+            @Override
+            public void apply(CreateBuilder builder, CreateSpec spec, Watcher watcher, BackgroundCallback callback, Object context)
+            {
+                builder.withProtection();
+            }
+        },
+
+        WITH_MODE
+        {
+            @Override
+            public void apply(CreateBuilder builder, CreateSpec spec, Watcher watcher, BackgroundCallback callback, Object context)
+            {
+                builder.withMode(CreateMode.valueOf(spec.mode.name()));
+            }
+        },
+
+        IN_BACKGROUND
+        {
+            @Override
+            public void apply(CreateBuilder builder, CreateSpec spec, Watcher watcher, BackgroundCallback callback, Object context)
+            {
+                builder.inBackground(callback, context);
+            }
+        }
+    }
+
+    private enum DeleteStage implements Stage<DeleteBuilder, DeleteSpec>
+    {
+        GUARANTEED
+        {
+            @Override
+            public void apply(DeleteBuilder builder, DeleteSpec spec, Watcher watcher, BackgroundCallback callback, Object context)
+            {
+                builder.guaranteed();
+            }
+        },
+
+        WITH_VERSION
+        {
+            @Override
+            public void apply(DeleteBuilder builder, DeleteSpec spec, Watcher watcher, BackgroundCallback callback, Object context)
+            {
+                builder.withVersion(spec.version.version);
+            }
+        },
+
+        IN_BACKGROUND
+        {
+            @Override
+            public void apply(DeleteBuilder builder, DeleteSpec spec, Watcher watcher, BackgroundCallback callback, Object context)
+            {
+                builder.inBackground(callback, context);
+            }
+        }
+    }
+
+    private enum SetDataStage implements Stage<SetDataBuilder, SetDataSpec>
+    {
+        WITH_VERSION
+        {
+            @Override
+            public void apply(SetDataBuilder builder, SetDataSpec spec, Watcher watcher, BackgroundCallback callback, Object context)
+            {
+                builder.withVersion(spec.version.version);
+            }
+        },
+
+        COMPRESSED
+        {
+            @Override
+            public void apply(SetDataBuilder builder, SetDataSpec spec, Watcher watcher, BackgroundCallback callback, Object context)
+            {
+                builder.compressed();
+            }
+        },
+
+        IN_BACKGROUND
+        {
+            @Override
+            public void apply(SetDataBuilder builder, SetDataSpec spec, Watcher watcher, BackgroundCallback callback, Object context)
+            {
+                builder.inBackground(callback, context);
+            }
+        }
+    }
+
+    private enum ExistsStage implements Stage<ExistsBuilder, ExistsSpec>
+    {
+        WATCHED
+        {
+            @Override
+            public void apply(ExistsBuilder builder, ExistsSpec spec, Watcher watcher, BackgroundCallback callback, Object context)
+            {
+                builder.usingWatcher(watcher);
+            }
+        },
+
+        IN_BACKGROUND
+        {
+            @Override
+            public void apply(ExistsBuilder builder, ExistsSpec spec, Watcher watcher, BackgroundCallback callback, Object context)
+            {
+                builder.inBackground(callback, context);
+            }
+        }
+    }
+
+    private enum GetDataStage implements Stage<GetDataBuilder, GetDataSpec>
+    {
+        WATCHED
+        {
+            @Override
+            public void apply(GetDataBuilder builder, GetDataSpec spec, Watcher watcher, BackgroundCallback callback, Object context)
+            {
+                builder.usingWatcher(watcher);
+            }
+        },
+
+        DECOMPRESSED
+        {
+            @Override
+            public void apply(GetDataBuilder builder, GetDataSpec spec, Watcher watcher, BackgroundCallback callback, Object context)
+            {
+                builder.decompressed();
+            }
+        },
+
+        IN_BACKGROUND
+        {
+            @Override
+            public void apply(GetDataBuilder builder, GetDataSpec spec, Watcher watcher, BackgroundCallback callback, Object context)
+            {
+                builder.inBackground(callback, context);
+            }
+        }
+    }
+
+    private enum GetChildrenStage implements Stage<GetChildrenBuilder, GetChildrenSpec>
+    {
+        WATCHED
+        {
+            @Override
+            public void apply(GetChildrenBuilder builder, GetChildrenSpec spec, Watcher watcher, BackgroundCallback callback, Object context)
+            {
+                builder.usingWatcher(watcher);
+            }
+        },
+
+        IN_BACKGROUND
+        {
+            @Override
+            public void apply(GetChildrenBuilder builder, GetChildrenSpec spec, Watcher watcher, BackgroundCallback callback, Object context)
+            {
+                builder.inBackground(callback, context);
+            }
+        }
+    }
+
+    private OperationExecutors()
+    {
+    }
+}
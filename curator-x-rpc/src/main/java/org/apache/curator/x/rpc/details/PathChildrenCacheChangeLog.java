@@ -0,0 +1,158 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.curator.x.rpc.details;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import org.apache.curator.framework.CuratorFramework;
+import org.apache.curator.framework.recipes.cache.ChildData;
+import org.apache.curator.framework.recipes.cache.PathChildrenCache;
+import org.apache.curator.framework.recipes.cache.PathChildrenCacheEvent;
+import org.apache.curator.framework.recipes.cache.PathChildrenCacheListener;
+import org.apache.curator.x.rpc.idl.structs.PathChildrenCacheChanges;
+import org.apache.curator.x.rpc.idl.structs.RpcChildData;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Records a bounded log of the child changes of a {@link PathChildrenCache} so that clients can
+ * sync by asking for the changes since the last generation they have seen instead of re-reading
+ * the entire cache. Each add/update/remove bumps the generation. If the changes a client needs
+ * have been trimmed from the log, a full snapshot is returned instead.
+ */
+public class PathChildrenCacheChangeLog implements PathChildrenCacheListener
+{
+    private final PathChildrenCache cache;
+    private final int maxChanges;
+    private final ArrayDeque<Change> changes = new ArrayDeque<Change>();
+    private long generation = 1;    // 0 is reserved for clients that have nothing yet
+    private long trimmedGeneration = 0;
+
+    private static class Change
+    {
+        final long generation;
+        final String path;
+        final PathChildrenCacheEvent.Type type;
+
+        Change(long generation, String path, PathChildrenCacheEvent.Type type)
+        {
+            this.generation = generation;
+            this.path = path;
+            this.type = type;
+        }
+    }
+
+    public PathChildrenCacheChangeLog(PathChildrenCache cache, int maxChanges)
+    {
+        this.cache = cache;
+        this.maxChanges = maxChanges;
+    }
+
+    public PathChildrenCache getCache()
+    {
+        return cache;
+    }
+
+    @Override
+    public void childEvent(CuratorFramework client, PathChildrenCacheEvent event)
+    {
+        switch ( event.getType() )
+        {
+            case CHILD_ADDED:
+            case CHILD_UPDATED:
+            case CHILD_REMOVED:
+            {
+                record(event.getData().getPath(), event.getType());
+                break;
+            }
+
+            default:
+            {
+                // nothing to record
+                break;
+            }
+        }
+    }
+
+    /**
+     * Return the changes made after the given generation. The cache applies changes before they are
+     * recorded, so the returned data can be newer than the returned generation. A later call
+     * may therefore repeat a change the client already has, but no change is ever missed.
+     *
+     * @param sinceGeneration the last generation the client has seen or 0 for a snapshot
+     * @return changes
+     */
+    public synchronized PathChildrenCacheChanges getChangesSince(long sinceGeneration)
+    {
+        if ( (sinceGeneration <= 0) || (sinceGeneration < trimmedGeneration) || (sinceGeneration > generation) )
+        {
+            List<RpcChildData> added = Lists.newArrayList();
+            for ( ChildData data : cache.getCurrentData() )
+            {
+                added.add(new RpcChildData(data));
+            }
+            return new PathChildrenCacheChanges(generation, true, added, Lists.<RpcChildData>newArrayList(), Lists.<String>newArrayList());
+        }
+
+        // the first change for each path tells whether the client already has that path
+        Map<String, PathChildrenCacheEvent.Type> firstChanges = Maps.newLinkedHashMap();
+        for ( Change change : changes )
+        {
+            if ( (change.generation > sinceGeneration) && !firstChanges.containsKey(change.path) )
+            {
+                firstChanges.put(change.path, change.type);
+            }
+        }
+
+        List<RpcChildData> added = Lists.newArrayList();
+        List<RpcChildData> updated = Lists.newArrayList();
+        List<String> removed = Lists.newArrayList();
+        for ( Map.Entry<String, PathChildrenCacheEvent.Type> entry : firstChanges.entrySet() )
+        {
+            boolean clientHasPath = (entry.getValue() != PathChildrenCacheEvent.Type.CHILD_ADDED);
+            ChildData data = cache.getCurrentData(entry.getKey());
+            if ( data != null )
+            {
+                if ( clientHasPath )
+                {
+                    updated.add(new RpcChildData(data));
+                }
+                else
+                {
+                    added.add(new RpcChildData(data));
+                }
+            }
+            else if ( clientHasPath )
+            {
+                removed.add(entry.getKey());
+            }
+        }
+        return new PathChildrenCacheChanges(generation, false, added, updated, removed);
+    }
+
+    private synchronized void record(String path, PathChildrenCacheEvent.Type type)
+    {
+        changes.add(new Change(++generation, path, type));
+        while ( changes.size() > maxChanges )
+        {
+            trimmedGeneration = changes.remove().generation;
+        }
+    }
+}
@@ -23,14 +23,19 @@ import com.facebook.swift.service.ThriftService;
 import com.google.common.base.Function;
 import com.google.common.collect.Collections2;
 import com.google.common.collect.Lists;
+import org.apache.curator.framework.CuratorFramework;
+import org.apache.curator.framework.state.ConnectionState;
+import org.apache.curator.utils.CloseableUtils;
 import org.apache.curator.utils.ThreadUtils;
 import org.apache.curator.x.discovery.DownInstancePolicy;
 import org.apache.curator.x.discovery.ProviderStrategy;
+import org.apache.curator.x.discovery.ServiceCache;
 import org.apache.curator.x.discovery.ServiceDiscovery;
 import org.apache.curator.x.discovery.ServiceDiscoveryBuilder;
 import org.apache.curator.x.discovery.ServiceInstance;
 import org.apache.curator.x.discovery.ServiceProvider;
 import org.apache.curator.x.discovery.ServiceType;
+import org.apache.curator.x.discovery.details.ServiceCacheListener;
 import org.apache.curator.x.discovery.strategies.RandomStrategy;
 import org.apache.curator.x.discovery.strategies.RoundRobinStrategy;
 import org.apache.curator.x.discovery.strategies.StickyStrategy;
@@ -39,10 +44,13 @@ import org.apache.curator.x.rpc.connections.ConnectionManager;
 import org.apache.curator.x.rpc.connections.CuratorEntry;
 import org.apache.curator.x.rpc.idl.exceptions.RpcException;
 import org.apache.curator.x.rpc.idl.structs.CuratorProjection;
+import org.apache.curator.x.rpc.idl.structs.RpcCuratorEvent;
+import org.apache.curator.x.rpc.idl.structs.RpcCuratorEventType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 @ThriftService
@@ -256,4 +264,85 @@ public class DiscoveryService
             throw new RpcException(e);
         }
     }
+
+    @ThriftMethod
+    public DiscoveryServiceCacheProjection startServiceCache(CuratorProjection projection, DiscoveryProjection discoveryProjection, final String serviceName) throws RpcException
+    {
+        final CuratorEntry entry = CuratorEntry.mustGetEntry(connectionManager, projection);
+        @SuppressWarnings("unchecked")
+        ServiceDiscovery<byte[]> serviceDiscovery = CuratorEntry.mustGetThing(entry, discoveryProjection.id, ServiceDiscovery.class);
+        final ServiceCache<byte[]> serviceCache = serviceDiscovery
+            .serviceCacheBuilder()
+            .name(serviceName)
+            .build();
+        try
+        {
+            ServiceCacheListener listener = new ServiceCacheListener()
+            {
+                @Override
+                public void cacheChanged()
+                {
+                    RpcCuratorEvent event = new RpcCuratorEvent(RpcCuratorEventType.SERVICE_CACHE, null);
+                    event.name = serviceName;
+                    entry.addEvent(event);
+                }
+
+                @Override
+                public void stateChanged(CuratorFramework client, ConnectionState newState)
+                {
+                    // connection state changes are already sent to the projection
+                }
+            };
+            serviceCache.addListener(listener);
+
+            Closer closer = new Closer()
+            {
+                @Override
+                public void close()
+                {
+                    CloseableUtils.closeQuietly(serviceCache);
+                }
+            };
+            String id = entry.addThing(serviceCache, closer);
+
+            serviceCache.start();
+
+            return new DiscoveryServiceCacheProjection(id);
+        }
+        catch ( Exception e )
+        {
+            ThreadUtils.checkInterrupted(e);
+            throw new RpcException(e);
+        }
+    }
+
+    @ThriftMethod
+    public Collection<DiscoveryInstance> getServiceCacheInstances(CuratorProjection projection, DiscoveryServiceCacheProjection cacheProjection) throws RpcException
+    {
+        CuratorEntry entry = CuratorEntry.mustGetEntry(connectionManager, projection);
+        @SuppressWarnings("unchecked")
+        ServiceCache<byte[]> serviceCache = CuratorEntry.mustGetThing(entry, cacheProjection.id, ServiceCache.class);
+        try
+        {
+            List<ServiceInstance<byte[]>> instances = serviceCache.getInstances();
+            List<DiscoveryInstance> transformed = Lists.transform
+            (
+                instances,
+                new Function<ServiceInstance<byte[]>, DiscoveryInstance>()
+                {
+                    @Override
+                    public DiscoveryInstance apply(ServiceInstance<byte[]> instance)
+                    {
+                        return new DiscoveryInstance(instance);
+                    }
+                }
+            );
+            return Lists.newArrayList(transformed);
+        }
+        catch ( Exception e )
+        {
+            ThreadUtils.checkInterrupted(e);
+            throw new RpcException(e);
+        }
+    }
 }
@@ -24,14 +24,24 @@ import com.facebook.swift.service.ThriftService;
 import com.google.common.base.Function;
 import com.google.common.collect.Collections2;
 import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
 import org.apache.curator.framework.CuratorFramework;
 import org.apache.curator.framework.api.*;
+import org.apache.curator.framework.api.transaction.CuratorTransaction;
+import org.apache.curator.framework.api.transaction.CuratorTransactionBridge;
+import org.apache.curator.framework.api.transaction.CuratorTransactionFinal;
+import org.apache.curator.framework.api.transaction.CuratorTransactionResult;
 import org.apache.curator.framework.recipes.cache.ChildData;
 import org.apache.curator.framework.recipes.cache.NodeCache;
 import org.apache.curator.framework.recipes.cache.NodeCacheListener;
 import org.apache.curator.framework.recipes.cache.PathChildrenCache;
 import org.apache.curator.framework.recipes.cache.PathChildrenCacheEvent;
 import org.apache.curator.framework.recipes.cache.PathChildrenCacheListener;
+import org.apache.curator.framework.recipes.cache.TreeCache;
+import org.apache.curator.framework.recipes.cache.TreeCacheEvent;
+import org.apache.curator.framework.recipes.cache.TreeCacheListener;
 import org.apache.curator.framework.recipes.leader.LeaderLatch;
 import org.apache.curator.framework.recipes.leader.LeaderLatchListener;
 import org.apache.curator.framework.recipes.leader.Participant;
@@ -45,18 +55,27 @@ import org.apache.curator.utils.ThreadUtils;
 import org.apache.curator.x.rpc.connections.Closer;
 import org.apache.curator.x.rpc.connections.ConnectionManager;
 import org.apache.curator.x.rpc.connections.CuratorEntry;
+import org.apache.curator.x.rpc.details.OperationExecutors;
+import org.apache.curator.x.rpc.details.PathChildrenCacheChangeLog;
 import org.apache.curator.x.rpc.details.RpcBackgroundCallback;
 import org.apache.curator.x.rpc.details.RpcWatcher;
 import org.apache.curator.x.rpc.idl.exceptions.ExceptionType;
 import org.apache.curator.x.rpc.idl.exceptions.RpcException;
 import org.apache.curator.x.rpc.idl.structs.*;
 import org.apache.zookeeper.CreateMode;
+import org.apache.zookeeper.KeeperException;
+import org.apache.zookeeper.Watcher;
 import org.apache.zookeeper.data.Stat;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 
 @ThriftService("CuratorService")
@@ -65,6 +84,9 @@ public class CuratorProjectionService
     private final Logger log = LoggerFactory.getLogger(getClass());
     private final ConnectionManager connectionManager;
 
+    private static final int BATCH_CLOSED_CHECK_MS = 1000;
+    private static final int MAX_PATH_CHILDREN_CACHE_CHANGES = 1000;
+
     public CuratorProjectionService(ConnectionManager connectionManager)
     {
         this.connectionManager = connectionManager;
@@ -73,15 +95,12 @@ public class CuratorProjectionService
     @ThriftMethod
     public CuratorProjection newCuratorProjection(String connectionName) throws RpcException
     {
-        CuratorFramework client = connectionManager.newConnection(connectionName);
-        if ( client == null )
+        String id = CuratorEntry.newId();
+        CuratorEntry entry = connectionManager.addProjection(id, connectionName);
+        if ( entry == null )
         {
             throw new RpcException(ExceptionType.GENERAL, null, null, "No connection configuration was found with the name: " + connectionName);
         }
-
-        String id = CuratorEntry.newId();
-        client.start();
-        connectionManager.add(id, client);
         final CuratorProjection projection = new CuratorProjection(id);
 
         ConnectionStateListener listener = new ConnectionStateListener()
@@ -92,7 +111,12 @@ public class CuratorProjectionService
                 addEvent(projection, new RpcCuratorEvent(newState));
             }
         };
-        client.getConnectionStateListenable().addListener(listener);
+        entry.setConnectionStateListener(listener);
+        if ( entry.isSharedSession() && entry.getClient().getZookeeperClient().isConnected() )
+        {
+            // a pooled session may have connected before this projection existed
+            entry.addEvent(new RpcCuratorEvent(ConnectionState.CONNECTED));
+        }
 
         return projection;
     }
@@ -114,42 +138,41 @@ public class CuratorProjectionService
     }
 
     @ThriftMethod
-    public OptionalPath createNode(CuratorProjection projection, CreateSpec spec) throws RpcException
+    public OptionalPath createNode(final CuratorProjection projection, CreateSpec spec) throws RpcException
     {
         try
         {
-            CuratorFramework client = CuratorEntry.mustGetEntry(connectionManager, projection).getClient();
+            final CuratorEntry entry = CuratorEntry.mustGetEntry(connectionManager, projection);
+            final boolean trackEphemeral = (spec.mode != null) && CreateMode.valueOf(spec.mode.name()).isEphemeral() && entry.isSharedSession();
 
-            Object builder = client.create();
-            if ( spec.creatingParentsIfNeeded )
-            {
-                builder = castBuilder(builder, CreateBuilder.class).creatingParentsIfNeeded();
-            }
-            if ( spec.creatingParentContainersIfNeeded )
-            {
-                builder = castBuilder(builder, CreateBuilder.class).creatingParentContainersIfNeeded();
-            }
-            if ( spec.compressed )
-            {
-                builder = castBuilder(builder, Compressible.class).compressed();
-            }
-            if ( spec.withProtection )
-            {
-                builder = castBuilder(builder, CreateBuilder.class).withProtection();
-            }
-            if ( spec.mode != null )
+            BackgroundCallback backgroundCallback = null;
+            if ( spec.asyncContext != null )
             {
-                builder = castBuilder(builder, CreateModable.class).withMode(CreateMode.valueOf(spec.mode.name()));
+                backgroundCallback = new RpcBackgroundCallback(this, projection);
+                if ( trackEphemeral )
+                {
+                    final BackgroundCallback rpcCallback = backgroundCallback;
+                    backgroundCallback = new BackgroundCallback()
+                    {
+                        @Override
+                        public void processResult(CuratorFramework client, CuratorEvent event) throws Exception
+                        {
+                            if ( event.getResultCode() == KeeperException.Code.OK.intValue() )
+                            {
+                                entry.ephemeralNodeCreated(event.getName());
+                            }
+                            rpcCallback.processResult(client, event);
+                        }
+                    };
+                }
             }
 
-            if ( spec.asyncContext != null )
+            String path = OperationExecutors.create(spec, backgroundCallback != null).execute(entry.getClient(), spec, null, backgroundCallback, spec.asyncContext);
+            if ( trackEphemeral && (path != null) )
             {
-                BackgroundCallback backgroundCallback = new RpcBackgroundCallback(this, projection);
-                builder = castBuilder(builder, Backgroundable.class).inBackground(backgroundCallback, spec.asyncContext);
+                entry.ephemeralNodeCreated(path);
             }
-
-            Object path = castBuilder(builder, PathAndBytesable.class).forPath(spec.path, spec.data);
-            return new OptionalPath((path != null) ? String.valueOf(path) : null);
+            return new OptionalPath(path);
         }
         catch ( Exception e )
         {
@@ -163,25 +186,10 @@ public class CuratorProjectionService
     {
         try
         {
-            CuratorFramework client = CuratorEntry.mustGetEntry(connectionManager, projection).getClient();
-
-            Object builder = client.delete();
-            if ( spec.guaranteed )
-            {
-                builder = castBuilder(builder, DeleteBuilder.class).guaranteed();
-            }
-            if ( spec.version != null )
-            {
-                builder = castBuilder(builder, Versionable.class).withVersion(spec.version.version);
-            }
-
-            if ( spec.asyncContext != null )
-            {
-                BackgroundCallback backgroundCallback = new RpcBackgroundCallback(this, projection);
-                builder = castBuilder(builder, Backgroundable.class).inBackground(backgroundCallback, spec.asyncContext);
-            }
-
-            castBuilder(builder, Pathable.class).forPath(spec.path);
+            CuratorEntry entry = CuratorEntry.mustGetEntry(connectionManager, projection);
+            BackgroundCallback backgroundCallback = (spec.asyncContext != null) ? new RpcBackgroundCallback(this, projection) : null;
+            OperationExecutors.delete(spec, backgroundCallback != null).execute(entry.getClient(), spec, null, backgroundCallback, spec.asyncContext);
+            entry.nodeDeleted(spec.path);
         }
         catch ( Exception e )
         {
@@ -196,28 +204,9 @@ public class CuratorProjectionService
         try
         {
             CuratorFramework client = CuratorEntry.mustGetEntry(connectionManager, projection).getClient();
-
-            Object builder = client.getData();
-            if ( spec.watched )
-            {
-                builder = castBuilder(builder, Watchable.class).usingWatcher(new RpcWatcher(this, projection));
-            }
-
-            if ( spec.decompressed )
-            {
-                builder = castBuilder(builder, Decompressible.class).decompressed();
-            }
-
-            if ( spec.asyncContext != null )
-            {
-                BackgroundCallback backgroundCallback = new RpcBackgroundCallback(this, projection);
-                builder = castBuilder(builder, Backgroundable.class).inBackground(backgroundCallback);
-            }
-
-            Stat stat = new Stat();
-            builder = castBuilder(builder, Statable.class).storingStatIn(stat);
-
-            byte[] bytes = (byte[])castBuilder(builder, Pathable.class).forPath(spec.path);
+            BackgroundCallback backgroundCallback = (spec.asyncContext != null) ? new RpcBackgroundCallback(this, projection) : null;
+            Watcher watcher = spec.watched ? new RpcWatcher(this, projection) : null;
+            byte[] bytes = OperationExecutors.getData(spec, backgroundCallback != null).execute(client, spec, watcher, backgroundCallback, spec.asyncContext);
             return new OptionalData(bytes);
         }
         catch ( Exception e )
@@ -233,29 +222,8 @@ public class CuratorProjectionService
         try
         {
             CuratorFramework client = CuratorEntry.mustGetEntry(connectionManager, projection).getClient();
-
-            Object builder = client.setData();
-            if ( spec.watched )
-            {
-                builder = castBuilder(builder, Watchable.class).usingWatcher(new RpcWatcher(this, projection));
-            }
-            if ( spec.version != null )
-            {
-                builder = castBuilder(builder, Versionable.class).withVersion(spec.version.version);
-            }
-
-            if ( spec.compressed )
-            {
-                builder = castBuilder(builder, Compressible.class).compressed();
-            }
-
-            if ( spec.asyncContext != null )
-            {
-                BackgroundCallback backgroundCallback = new RpcBackgroundCallback(this, projection);
-                builder = castBuilder(builder, Backgroundable.class).inBackground(backgroundCallback);
-            }
-
-            Stat stat = (Stat)castBuilder(builder, PathAndBytesable.class).forPath(spec.path, spec.data);
+            BackgroundCallback backgroundCallback = (spec.asyncContext != null) ? new RpcBackgroundCallback(this, projection) : null;
+            Stat stat = OperationExecutors.setData(spec, backgroundCallback != null).execute(client, spec, null, backgroundCallback, spec.asyncContext);
             return new OptionalRpcStat(RpcCuratorEvent.toRpcStat(stat));
         }
         catch ( Exception e )
@@ -271,21 +239,10 @@ public class CuratorProjectionService
         try
         {
             CuratorFramework client = CuratorEntry.mustGetEntry(connectionManager, projection).getClient();
-
-            Object builder = client.checkExists();
-            if ( spec.watched )
-            {
-                builder = castBuilder(builder, Watchable.class).usingWatcher(new RpcWatcher(this, projection));
-            }
-
-            if ( spec.asyncContext != null )
-            {
-                BackgroundCallback backgroundCallback = new RpcBackgroundCallback(this, projection);
-                castBuilder(builder, Backgroundable.class).inBackground(backgroundCallback);
-            }
-
-            Stat stat = (Stat)castBuilder(builder, Pathable.class).forPath(spec.path);
-            return new OptionalRpcStat((stat != null) ? RpcCuratorEvent.toRpcStat(stat) : null);
+            BackgroundCallback backgroundCallback = (spec.asyncContext != null) ? new RpcBackgroundCallback(this, projection) : null;
+            Watcher watcher = spec.watched ? new RpcWatcher(this, projection) : null;
+            Stat stat = OperationExecutors.exists(spec, backgroundCallback != null).execute(client, spec, watcher, backgroundCallback, spec.asyncContext);
+            return new OptionalRpcStat(RpcCuratorEvent.toRpcStat(stat));
         }
         catch ( Exception e )
         {
@@ -300,21 +257,9 @@ public class CuratorProjectionService
         try
         {
             CuratorFramework client = CuratorEntry.mustGetEntry(connectionManager, projection).getClient();
-
-            Object builder = client.getChildren();
-            if ( spec.watched )
-            {
-                builder = castBuilder(builder, Watchable.class).usingWatcher(new RpcWatcher(this, projection));
-            }
-
-            if ( spec.asyncContext != null )
-            {
-                BackgroundCallback backgroundCallback = new RpcBackgroundCallback(this, projection);
-                builder = castBuilder(builder, Backgroundable.class).inBackground(backgroundCallback);
-            }
-
-            @SuppressWarnings("unchecked")
-            List<String> children = (List<String>)castBuilder(builder, Pathable.class).forPath(spec.path);
+            BackgroundCallback backgroundCallback = (spec.asyncContext != null) ? new RpcBackgroundCallback(this, projection) : null;
+            Watcher watcher = spec.watched ? new RpcWatcher(this, projection) : null;
+            List<String> children = OperationExecutors.getChildren(spec, backgroundCallback != null).execute(client, spec, watcher, backgroundCallback, spec.asyncContext);
             return new OptionalChildrenList(children);
         }
         catch ( Exception e )
@@ -364,11 +309,44 @@ public class CuratorProjectionService
     }
 
     @ThriftMethod
-    public OptionalLockProjection acquireLock(CuratorProjection projection, final String path, int maxWaitMs) throws RpcException
+    public ListenableFuture<OptionalLockProjection> acquireLock(CuratorProjection projection, final String path, final int maxWaitMs) throws RpcException
+    {
+        final CuratorEntry entry = CuratorEntry.mustGetEntry(connectionManager, projection);
+        final long startMs = System.currentTimeMillis();
+        Callable<OptionalLockProjection> acquirer = new Callable<OptionalLockProjection>()
+        {
+            @Override
+            public OptionalLockProjection call() throws RpcException
+            {
+                return acquireLock(entry, path, remainingWaitMs(startMs, maxWaitMs));
+            }
+        };
+        return submitWaiter(acquirer);
+    }
+
+    private <T> ListenableFuture<T> submitWaiter(Callable<T> waiter) throws RpcException
+    {
+        try
+        {
+            return connectionManager.getWaitService().submit(waiter);
+        }
+        catch ( RejectedExecutionException e )
+        {
+            throw new RpcException(ExceptionType.GENERAL, null, null, "The server is shutting down");
+        }
+    }
+
+    // acquisitions can be queued before they start waiting - the queued time counts towards the max wait
+    private static int remainingWaitMs(long startMs, int maxWaitMs)
+    {
+        long elapsedMs = System.currentTimeMillis() - startMs;
+        return (int)Math.max(0, maxWaitMs - elapsedMs);
+    }
+
+    private OptionalLockProjection acquireLock(CuratorEntry entry, final String path, int maxWaitMs) throws RpcException
     {
         try
         {
-            CuratorEntry entry = CuratorEntry.mustGetEntry(connectionManager, projection);
             final InterProcessSemaphoreMutex lock = new InterProcessSemaphoreMutex(entry.getClient(), path);
             if ( !lock.acquire(maxWaitMs, TimeUnit.MILLISECONDS) )
             {
@@ -405,14 +383,13 @@ public class CuratorProjectionService
     }
 
     @ThriftMethod
-    public LeaderResult startLeaderSelector(final CuratorProjection projection, final String path, final String participantId, int waitForLeadershipMs) throws RpcException
+    public ListenableFuture<LeaderResult> startLeaderSelector(final CuratorProjection projection, final String path, final String participantId, int waitForLeadershipMs) throws RpcException
     {
         try
         {
             CuratorEntry entry = CuratorEntry.mustGetEntry(connectionManager, projection);
 
             final LeaderLatch leaderLatch = new LeaderLatch(entry.getClient(), path, participantId);
-            leaderLatch.start();
 
             Closer closer = new Closer()
             {
@@ -431,13 +408,17 @@ public class CuratorProjectionService
                 }
             };
             String id = entry.addThing(leaderLatch, closer);
+            final LeaderProjection leaderProjection = new LeaderProjection(id);
 
+            // completed by the latch's listener when leadership is gained or by the timeout below
+            final SettableFuture<LeaderResult> result = SettableFuture.create();
             LeaderLatchListener listener = new LeaderLatchListener()
             {
                 @Override
                 public void isLeader()
                 {
                     addEvent(projection, new RpcCuratorEvent(new LeaderEvent(path, participantId, true)));
+                    result.set(new LeaderResult(leaderProjection, true));
                 }
 
                 @Override
@@ -447,13 +428,23 @@ public class CuratorProjectionService
                 }
             };
             leaderLatch.addListener(listener);
+            leaderLatch.start();
 
-            if ( waitForLeadershipMs > 0 )
+            if ( (waitForLeadershipMs <= 0) || leaderLatch.hasLeadership() )
             {
-                leaderLatch.await(waitForLeadershipMs, TimeUnit.MILLISECONDS);
+                return Futures.immediateFuture(new LeaderResult(leaderProjection, leaderLatch.hasLeadership()));
             }
 
-            return new LeaderResult(new LeaderProjection(id), leaderLatch.hasLeadership());
+            Runnable timeout = new Runnable()
+            {
+                @Override
+                public void run()
+                {
+                    result.set(new LeaderResult(leaderProjection, leaderLatch.hasLeadership()));
+                }
+            };
+            connectionManager.getScheduledService().schedule(timeout, waitForLeadershipMs, TimeUnit.MILLISECONDS);
+            return result;
         }
         catch ( Exception e )
         {
@@ -517,7 +508,6 @@ public class CuratorProjectionService
             final CuratorEntry entry = CuratorEntry.mustGetEntry(connectionManager, projection);
 
             final PathChildrenCache cache = new PathChildrenCache(entry.getClient(), path, cacheData, dataIsCompressed, ThreadUtils.newThreadFactory("PathChildrenCacheResource"));
-            cache.start(PathChildrenCache.StartMode.valueOf(startMode.name()));
 
             Closer closer = new Closer()
             {
@@ -535,7 +525,8 @@ public class CuratorProjectionService
                     }
                 }
             };
-            String id = entry.addThing(cache, closer);
+            PathChildrenCacheChangeLog changeLog = new PathChildrenCacheChangeLog(cache, MAX_PATH_CHILDREN_CACHE_CHANGES);
+            String id = entry.addThing(changeLog, closer);
 
             PathChildrenCacheListener listener = new PathChildrenCacheListener()
             {
@@ -545,7 +536,9 @@ public class CuratorProjectionService
                     entry.addEvent(new RpcCuratorEvent(new RpcPathChildrenCacheEvent(path, event)));
                 }
             };
+            cache.getListenable().addListener(changeLog);
             cache.getListenable().addListener(listener);
+            cache.start(PathChildrenCache.StartMode.valueOf(startMode.name()));
 
             return new PathChildrenCacheProjection(id);
         }
@@ -563,7 +556,7 @@ public class CuratorProjectionService
         {
             CuratorEntry entry = CuratorEntry.mustGetEntry(connectionManager, projection);
 
-            PathChildrenCache pathChildrenCache = CuratorEntry.mustGetThing(entry, cacheProjection.id, PathChildrenCache.class);
+            PathChildrenCache pathChildrenCache = CuratorEntry.mustGetThing(entry, cacheProjection.id, PathChildrenCacheChangeLog.class).getCache();
             return Lists.transform
             (
                 pathChildrenCache.getCurrentData(),
@@ -591,7 +584,7 @@ public class CuratorProjectionService
         {
             CuratorEntry entry = CuratorEntry.mustGetEntry(connectionManager, projection);
 
-            PathChildrenCache pathChildrenCache = CuratorEntry.mustGetThing(entry, cacheProjection.id, PathChildrenCache.class);
+            PathChildrenCache pathChildrenCache = CuratorEntry.mustGetThing(entry, cacheProjection.id, PathChildrenCacheChangeLog.class).getCache();
             return new RpcChildData(pathChildrenCache.getCurrentData(path));
         }
         catch ( Exception e )
@@ -601,6 +594,23 @@ public class CuratorProjectionService
         }
     }
 
+    @ThriftMethod
+    public PathChildrenCacheChanges getPathChildrenCacheChanges(CuratorProjection projection, PathChildrenCacheProjection cacheProjection, long sinceGeneration) throws RpcException
+    {
+        try
+        {
+            CuratorEntry entry = CuratorEntry.mustGetEntry(connectionManager, projection);
+
+            PathChildrenCacheChangeLog changeLog = CuratorEntry.mustGetThing(entry, cacheProjection.id, PathChildrenCacheChangeLog.class);
+            return changeLog.getChangesSince(sinceGeneration);
+        }
+        catch ( Exception e )
+        {
+            ThreadUtils.checkInterrupted(e);
+            throw new RpcException(e);
+        }
+    }
+
     @ThriftMethod
     public NodeCacheProjection startNodeCache(CuratorProjection projection, final String path, boolean dataIsCompressed, boolean buildInitial) throws RpcException
     {
@@ -665,6 +675,106 @@ public class CuratorProjectionService
         }
     }
 
+    @ThriftMethod
+    public TreeCacheProjection startTreeCache(CuratorProjection projection, final String path, boolean cacheData, boolean dataIsCompressed, int maxDepth) throws RpcException
+    {
+        try
+        {
+            final CuratorEntry entry = CuratorEntry.mustGetEntry(connectionManager, projection);
+
+            TreeCache.Builder builder = TreeCache.newBuilder(entry.getClient(), path)
+                .setCacheData(cacheData)
+                .setDataIsCompressed(dataIsCompressed)
+                .setExecutor(ThreadUtils.newThreadFactory("TreeCacheResource"));
+            if ( maxDepth > 0 )
+            {
+                builder.setMaxDepth(maxDepth);
+            }
+            final TreeCache cache = builder.build();
+
+            Closer closer = new Closer()
+            {
+                @Override
+                public void close()
+                {
+                    cache.close();
+                }
+            };
+            String id = entry.addThing(cache, closer);
+
+            TreeCacheListener listener = new TreeCacheListener()
+            {
+                @Override
+                public void childEvent(CuratorFramework client, TreeCacheEvent event)
+                {
+                    entry.addEvent(new RpcCuratorEvent(new RpcTreeCacheEvent(path, event)));
+                }
+            };
+            cache.getListenable().addListener(listener);
+            cache.start();
+
+            return new TreeCacheProjection(id);
+        }
+        catch ( Exception e )
+        {
+            ThreadUtils.checkInterrupted(e);
+            throw new RpcException(e);
+        }
+    }
+
+    @ThriftMethod
+    public RpcChildData getTreeCacheData(CuratorProjection projection, TreeCacheProjection cacheProjection, String path) throws RpcException
+    {
+        try
+        {
+            CuratorEntry entry = CuratorEntry.mustGetEntry(connectionManager, projection);
+
+            TreeCache treeCache = CuratorEntry.mustGetThing(entry, cacheProjection.id, TreeCache.class);
+            return new RpcChildData(treeCache.getCurrentData(path));
+        }
+        catch ( Exception e )
+        {
+            ThreadUtils.checkInterrupted(e);
+            throw new RpcException(e);
+        }
+    }
+
+    @ThriftMethod
+    public List<RpcChildData> getTreeCacheChildren(CuratorProjection projection, TreeCacheProjection cacheProjection, String path) throws RpcException
+    {
+        try
+        {
+            CuratorEntry entry = CuratorEntry.mustGetEntry(connectionManager, projection);
+
+            TreeCache treeCache = CuratorEntry.mustGetThing(entry, cacheProjection.id, TreeCache.class);
+            Map<String, ChildData> children = treeCache.getCurrentChildren(path);
+            if ( children == null )
+            {
+                return Lists.newArrayList();
+            }
+            return Lists.newArrayList
+            (
+                Collections2.transform
+                (
+                    children.values(),
+                    new Function<ChildData, RpcChildData>()
+                    {
+                        @Override
+                        public RpcChildData apply(ChildData childData)
+                        {
+                            return new RpcChildData(childData);
+                        }
+                    }
+                )
+            );
+        }
+        catch ( Exception e )
+        {
+            ThreadUtils.checkInterrupted(e);
+            throw new RpcException(e);
+        }
+    }
+
     @ThriftMethod
     public PersistentEphemeralNodeProjection startPersistentEphemeralNode(CuratorProjection projection, final String path, byte[] data, RpcPersistentEphemeralNodeMode mode) throws RpcException
     {
@@ -702,12 +812,25 @@ public class CuratorProjectionService
     }
 
     @ThriftMethod
-    public List<LeaseProjection> acquireSemaphore(CuratorProjection projection, final String path, int acquireQty, int maxWaitMs, int maxLeases) throws RpcException
+    public ListenableFuture<List<LeaseProjection>> acquireSemaphore(CuratorProjection projection, final String path, final int acquireQty, final int maxWaitMs, final int maxLeases) throws RpcException
     {
-        try
+        final CuratorEntry entry = CuratorEntry.mustGetEntry(connectionManager, projection);
+        final long startMs = System.currentTimeMillis();
+        Callable<List<LeaseProjection>> acquirer = new Callable<List<LeaseProjection>>()
         {
-            CuratorEntry entry = CuratorEntry.mustGetEntry(connectionManager, projection);
+            @Override
+            public List<LeaseProjection> call() throws RpcException
+            {
+                return acquireSemaphore(entry, path, acquireQty, remainingWaitMs(startMs, maxWaitMs), maxLeases);
+            }
+        };
+        return submitWaiter(acquirer);
+    }
 
+    private List<LeaseProjection> acquireSemaphore(CuratorEntry entry, final String path, int acquireQty, int maxWaitMs, int maxLeases) throws RpcException
+    {
+        try
+        {
             final InterProcessSemaphoreV2 semaphore = new InterProcessSemaphoreV2(entry.getClient(), path, maxLeases);
             final Collection<Lease> leases = semaphore.acquire(acquireQty, maxWaitMs, TimeUnit.MILLISECONDS);
             if ( leases == null )
@@ -716,6 +839,7 @@ public class CuratorProjectionService
             }
 
             List<LeaseProjection> leaseProjections = Lists.newArrayList();
+            boolean projectionClosed = false;
             for ( final Lease lease : leases )
             {
                 Closer closer = new Closer()
@@ -734,7 +858,19 @@ public class CuratorProjectionService
                         }
                     }
                 };
-                leaseProjections.add(new LeaseProjection(entry.addThing(lease, closer)));
+                try
+                {
+                    leaseProjections.add(new LeaseProjection(entry.addThing(lease, closer)));
+                }
+                catch ( IllegalStateException e )
+                {
+                    // the projection was closed while waiting - addThing() has returned the lease. Keep going so that all of them are returned
+                    projectionClosed = true;
+                }
+            }
+            if ( projectionClosed )
+            {
+                throw new IllegalStateException("The CuratorProjection has been closed");
             }
             return leaseProjections;
         }
@@ -745,6 +881,21 @@ public class CuratorProjectionService
         }
     }
 
+    @ThriftMethod
+    public List<OperationResult> batch(CuratorProjection projection, List<OperationSpec> operations, boolean atomic) throws RpcException
+    {
+        try
+        {
+            CuratorEntry entry = CuratorEntry.mustGetEntry(connectionManager, projection);
+            return atomic ? batchInTransaction(entry, operations) : batchInBackground(projection, entry, operations);
+        }
+        catch ( Exception e )
+        {
+            ThreadUtils.checkInterrupted(e);
+            throw new RpcException(e);
+        }
+    }
+
     public void addEvent(CuratorProjection projection, RpcCuratorEvent event)
     {
         CuratorEntry entry = connectionManager.get(projection.id);
@@ -754,12 +905,179 @@ public class CuratorProjectionService
         }
     }
 
-    private static <T> T castBuilder(Object createBuilder, Class<T> clazz) throws Exception
+    private List<OperationResult> batchInTransaction(CuratorEntry entry, List<OperationSpec> operations) throws Exception
     {
-        if ( clazz.isAssignableFrom(createBuilder.getClass()) )
+        CuratorTransaction transaction = entry.getClient().inTransaction();
+        CuratorTransactionFinal transactionFinal = null;
+        for ( OperationSpec operation : operations )
         {
-            return clazz.cast(createBuilder);
+            CuratorTransactionBridge bridge;
+            switch ( operation.type )
+            {
+                case CREATE:
+                {
+                    CreateSpec spec = operation.createSpec;
+                    if ( spec.creatingParentsIfNeeded || spec.creatingParentContainersIfNeeded || spec.withProtection )
+                    {
+                        throw new Exception("creatingParentsIfNeeded, creatingParentContainersIfNeeded and withProtection are not available in an atomic batch");
+                    }
+                    ACLCreateModePathAndBytesable<CuratorTransactionBridge> builder = spec.compressed ? transaction.create().compressed() : transaction.create();
+                    CreateMode mode = (spec.mode != null) ? CreateMode.valueOf(spec.mode.name()) : CreateMode.PERSISTENT;
+                    bridge = builder.withMode(mode).forPath(spec.path, spec.data);
+                    break;
+                }
+
+                case DELETE:
+                {
+                    DeleteSpec spec = operation.deleteSpec;
+                    bridge = (spec.version != null) ? transaction.delete().withVersion(spec.version.version).forPath(spec.path) : transaction.delete().forPath(spec.path);
+                    break;
+                }
+
+                case SET_DATA:
+                {
+                    SetDataSpec spec = operation.setDataSpec;
+                    VersionPathAndBytesable<CuratorTransactionBridge> builder = spec.compressed ? transaction.setData().compressed() : transaction.setData();
+                    bridge = (spec.version != null) ? builder.withVersion(spec.version.version).forPath(spec.path, spec.data) : builder.forPath(spec.path, spec.data);
+                    break;
+                }
+
+                default:
+                {
+                    throw new Exception("Operation is not available in an atomic batch: " + operation.type);
+                }
+            }
+            transaction = transactionFinal = bridge.and();
+        }
+        if ( transactionFinal == null )
+        {
+            return Lists.newArrayList();
+        }
+
+        List<OperationResult> results = Lists.newArrayList();
+        int index = 0;
+        for ( CuratorTransactionResult result : transactionFinal.commit() )
+        {
+            RpcOperationType type = operations.get(index++).type;
+            results.add(new OperationResult(type, result.getResultPath(), RpcCuratorEvent.toRpcStat(result.getResultStat()), null, null, null));
+        }
+        trackBatchNodes(entry, operations, results);
+        return results;
+    }
+
+    private List<OperationResult> batchInBackground(CuratorProjection projection, CuratorEntry entry, List<OperationSpec> operations) throws Exception
+    {
+        // all operations are started before waiting for any of them so that they are pipelined on the connection
+        final OperationResult[] results = new OperationResult[operations.size()];
+        final CountDownLatch latch = new CountDownLatch(operations.size());
+        for ( int i = 0; i < operations.size(); ++i )
+        {
+            final int index = i;
+            final RpcOperationType type = operations.get(i).type;
+            BackgroundCallback callback = new BackgroundCallback()
+            {
+                @Override
+                public void processResult(CuratorFramework client, CuratorEvent event) throws Exception
+                {
+                    results[index] = new OperationResult(type, event);
+                    latch.countDown();
+                }
+            };
+
+            try
+            {
+                startInBackground(projection, entry.getClient(), operations.get(i), callback);
+            }
+            catch ( Exception e )
+            {
+                ThreadUtils.checkInterrupted(e);
+                results[index] = new OperationResult(type, new RpcException(e));
+                latch.countDown();
+            }
+        }
+
+        while ( !latch.await(BATCH_CLOSED_CHECK_MS, TimeUnit.MILLISECONDS) )
+        {
+            if ( entry.getClient() == null )
+            {
+                throw new RpcException(ExceptionType.GENERAL, null, null, "CuratorProjection was closed: " + projection.id);
+            }
+        }
+
+        List<OperationResult> resultsList = Arrays.asList(results);
+        trackBatchNodes(entry, operations, resultsList);
+        return resultsList;
+    }
+
+    private void startInBackground(CuratorProjection projection, CuratorFramework client, OperationSpec operation, BackgroundCallback callback) throws Exception
+    {
+        switch ( operation.type )
+        {
+            case CREATE:
+            {
+                OperationExecutors.create(operation.createSpec, true).execute(client, operation.createSpec, null, callback, null);
+                break;
+            }
+
+            case DELETE:
+            {
+                OperationExecutors.delete(operation.deleteSpec, true).execute(client, operation.deleteSpec, null, callback, null);
+                break;
+            }
+
+            case SET_DATA:
+            {
+                OperationExecutors.setData(operation.setDataSpec, true).execute(client, operation.setDataSpec, null, callback, null);
+                break;
+            }
+
+            case EXISTS:
+            {
+                Watcher watcher = operation.existsSpec.watched ? new RpcWatcher(this, projection) : null;
+                OperationExecutors.exists(operation.existsSpec, true).execute(client, operation.existsSpec, watcher, callback, null);
+                break;
+            }
+
+            case GET_DATA:
+            {
+                Watcher watcher = operation.getDataSpec.watched ? new RpcWatcher(this, projection) : null;
+                OperationExecutors.getData(operation.getDataSpec, true).execute(client, operation.getDataSpec, watcher, callback, null);
+                break;
+            }
+
+            case GET_CHILDREN:
+            {
+                Watcher watcher = operation.getChildrenSpec.watched ? new RpcWatcher(this, projection) : null;
+                OperationExecutors.getChildren(operation.getChildrenSpec, true).execute(client, operation.getChildrenSpec, watcher, callback, null);
+                break;
+            }
+
+            default:
+            {
+                throw new Exception("Unknown operation type: " + operation.type);
+            }
+        }
+    }
+
+    private static void trackBatchNodes(CuratorEntry entry, List<OperationSpec> operations, List<OperationResult> results)
+    {
+        for ( int i = 0; i < operations.size(); ++i )
+        {
+            OperationSpec operation = operations.get(i);
+            OperationResult result = results.get(i);
+            if ( result.error != null )
+            {
+                continue;
+            }
+
+            if ( (operation.type == RpcOperationType.CREATE) && (operation.createSpec.mode != null) && CreateMode.valueOf(operation.createSpec.mode.name()).isEphemeral() )
+            {
+                entry.ephemeralNodeCreated(result.path);
+            }
+            else if ( operation.type == RpcOperationType.DELETE )
+            {
+                entry.nodeDeleted(operation.deleteSpec.path);
+            }
         }
-        throw new Exception("That operation is not available");
     }
 }
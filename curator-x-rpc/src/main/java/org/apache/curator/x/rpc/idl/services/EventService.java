@@ -20,11 +20,13 @@ package org.apache.curator.x.rpc.idl.services;
 
 import com.facebook.swift.service.ThriftMethod;
 import com.facebook.swift.service.ThriftService;
+import com.google.common.collect.Lists;
 import org.apache.curator.x.rpc.connections.CuratorEntry;
 import org.apache.curator.x.rpc.connections.ConnectionManager;
 import org.apache.curator.x.rpc.idl.exceptions.RpcException;
 import org.apache.curator.x.rpc.idl.structs.CuratorProjection;
 import org.apache.curator.x.rpc.idl.structs.RpcCuratorEvent;
+import java.util.List;
 
 @ThriftService("EventService")
 public class EventService
@@ -52,4 +54,20 @@ public class EventService
             throw new RpcException(e);
         }
     }
+
+    @ThriftMethod
+    public List<RpcCuratorEvent> getNextEvents(CuratorProjection projection, int maxEvents, int maxWaitMs) throws RpcException
+    {
+        try
+        {
+            CuratorEntry entry = CuratorEntry.mustGetEntry(connectionManager, projection);
+            long waitMs = ((maxWaitMs > 0) && (maxWaitMs < pingTimeMs)) ? maxWaitMs : pingTimeMs;
+            List<RpcCuratorEvent> events = entry.pollForEvents(Math.max(maxEvents, 1), waitMs);
+            return (events.size() > 0) ? events : Lists.newArrayList(new RpcCuratorEvent());
+        }
+        catch ( InterruptedException e )
+        {
+            throw new RpcException(e);
+        }
+    }
 }
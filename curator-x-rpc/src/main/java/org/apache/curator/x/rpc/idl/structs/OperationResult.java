@@ -0,0 +1,86 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.curator.x.rpc.idl.structs;
+
+import com.facebook.swift.codec.ThriftField;
+import com.facebook.swift.codec.ThriftStruct;
+import org.apache.curator.framework.api.CuratorEvent;
+import org.apache.curator.x.rpc.idl.exceptions.RpcException;
+import org.apache.zookeeper.KeeperException;
+import java.util.List;
+
+@ThriftStruct
+public class OperationResult
+{
+    @ThriftField(1)
+    public RpcOperationType type;
+
+    @ThriftField(2)
+    public String path;
+
+    @ThriftField(3)
+    public RpcStat stat;
+
+    @ThriftField(4)
+    public byte[] data;
+
+    @ThriftField(5)
+    public List<String> children;
+
+    @ThriftField(6)
+    public RpcException error;
+
+    public OperationResult()
+    {
+    }
+
+    public OperationResult(RpcOperationType type, String path, RpcStat stat, byte[] data, List<String> children, RpcException error)
+    {
+        this.type = type;
+        this.path = path;
+        this.stat = stat;
+        this.data = data;
+        this.children = children;
+        this.error = error;
+    }
+
+    public OperationResult(RpcOperationType type, RpcException error)
+    {
+        this(type, null, null, null, null, error);
+    }
+
+    public OperationResult(RpcOperationType type, CuratorEvent event)
+    {
+        this.type = type;
+        KeeperException.Code code = KeeperException.Code.get(event.getResultCode());
+        if ( (code == KeeperException.Code.OK) || ((type == RpcOperationType.EXISTS) && (code == KeeperException.Code.NONODE)) )
+        {
+            this.path = (type == RpcOperationType.CREATE) ? event.getName() : event.getPath();
+            this.stat = RpcCuratorEvent.toRpcStat(event.getStat());
+            this.data = event.getData();
+            this.children = event.getChildren();
+            this.error = null;
+        }
+        else
+        {
+            this.path = event.getPath();
+            this.error = new RpcException(KeeperException.create(code, event.getPath()));
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.curator.x.rpc.idl.structs;
+
+import com.facebook.swift.codec.ThriftField;
+import com.facebook.swift.codec.ThriftStruct;
+
+@ThriftStruct
+public class OperationSpec
+{
+    @ThriftField(1)
+    public RpcOperationType type;
+
+    @ThriftField(2)
+    public CreateSpec createSpec;
+
+    @ThriftField(3)
+    public DeleteSpec deleteSpec;
+
+    @ThriftField(4)
+    public SetDataSpec setDataSpec;
+
+    @ThriftField(5)
+    public ExistsSpec existsSpec;
+
+    @ThriftField(6)
+    public GetDataSpec getDataSpec;
+
+    @ThriftField(7)
+    public GetChildrenSpec getChildrenSpec;
+
+    public OperationSpec()
+    {
+    }
+
+    public OperationSpec(RpcOperationType type, CreateSpec createSpec, DeleteSpec deleteSpec, SetDataSpec setDataSpec, ExistsSpec existsSpec, GetDataSpec getDataSpec, GetChildrenSpec getChildrenSpec)
+    {
+        this.type = type;
+        this.createSpec = createSpec;
+        this.deleteSpec = deleteSpec;
+        this.setDataSpec = setDataSpec;
+        this.existsSpec = existsSpec;
+        this.getDataSpec = getDataSpec;
+        this.getChildrenSpec = getChildrenSpec;
+    }
+}
@@ -0,0 +1,55 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.curator.x.rpc.idl.structs;
+
+import com.facebook.swift.codec.ThriftField;
+import com.facebook.swift.codec.ThriftStruct;
+import java.util.List;
+
+@ThriftStruct
+public class PathChildrenCacheChanges
+{
+    @ThriftField(1)
+    public long generation;
+
+    @ThriftField(2)
+    public boolean isSnapshot;
+
+    @ThriftField(3)
+    public List<RpcChildData> added;
+
+    @ThriftField(4)
+    public List<RpcChildData> updated;
+
+    @ThriftField(5)
+    public List<String> removed;
+
+    public PathChildrenCacheChanges()
+    {
+    }
+
+    public PathChildrenCacheChanges(long generation, boolean isSnapshot, List<RpcChildData> added, List<RpcChildData> updated, List<String> removed)
+    {
+        this.generation = generation;
+        this.isSnapshot = isSnapshot;
+        this.added = added;
+        this.updated = updated;
+        this.removed = removed;
+    }
+}
@@ -70,6 +70,9 @@ public class RpcCuratorEvent
     @ThriftField(13)
     public RpcPathChildrenCacheEvent childrenCacheEvent;
 
+    @ThriftField(14)
+    public RpcTreeCacheEvent treeCacheEvent;
+
     public RpcCuratorEvent()
     {
         this.type = RpcCuratorEventType.PING;
@@ -84,6 +87,7 @@ public class RpcCuratorEvent
         this.watchedEvent = null;
         this.leaderEvent = null;
         this.childrenCacheEvent = null;
+        this.treeCacheEvent = null;
     }
 
     public RpcCuratorEvent(RpcCuratorEventType type, String path)
@@ -100,6 +104,7 @@ public class RpcCuratorEvent
         this.watchedEvent = null;
         this.leaderEvent = null;
         this.childrenCacheEvent = null;
+        this.treeCacheEvent = null;
     }
 
     public RpcCuratorEvent(RpcPathChildrenCacheEvent childrenCacheEvent)
@@ -116,6 +121,24 @@ public class RpcCuratorEvent
         this.watchedEvent = null;
         this.leaderEvent = null;
         this.childrenCacheEvent = childrenCacheEvent;
+        this.treeCacheEvent = null;
+    }
+
+    public RpcCuratorEvent(RpcTreeCacheEvent treeCacheEvent)
+    {
+        this.type = RpcCuratorEventType.TREE_CACHE;
+        this.resultCode = 0;
+        this.path = null;
+        this.context = null;
+        this.stat = null;
+        this.data = null;
+        this.name = null;
+        this.children = null;
+        this.aclList = null;
+        this.watchedEvent = null;
+        this.leaderEvent = null;
+        this.childrenCacheEvent = null;
+        this.treeCacheEvent = treeCacheEvent;
     }
 
     public RpcCuratorEvent(CuratorEvent event)
@@ -132,6 +155,7 @@ public class RpcCuratorEvent
         this.watchedEvent = toRpcWatchedEvent(event.getWatchedEvent());
         this.leaderEvent = null;
         this.childrenCacheEvent = null;
+        this.treeCacheEvent = null;
     }
 
     public RpcCuratorEvent(ConnectionState newState)
@@ -148,6 +172,7 @@ public class RpcCuratorEvent
         this.watchedEvent = null;
         this.leaderEvent = null;
         this.childrenCacheEvent = null;
+        this.treeCacheEvent = null;
     }
 
     public RpcCuratorEvent(WatchedEvent event)
@@ -164,6 +189,7 @@ public class RpcCuratorEvent
         this.watchedEvent = new RpcWatchedEvent(RpcKeeperState.valueOf(event.getState().name()), RpcEventType.valueOf(event.getType().name()), event.getPath());
         this.leaderEvent = null;
         this.childrenCacheEvent = null;
+        this.treeCacheEvent = null;
     }
 
     public RpcCuratorEvent(LeaderEvent event)
@@ -180,6 +206,7 @@ public class RpcCuratorEvent
         this.watchedEvent = null;
         this.leaderEvent = event;
         this.childrenCacheEvent = null;
+        this.treeCacheEvent = null;
     }
 
     public static RpcStat toRpcStat(Stat stat)
@@ -42,5 +42,8 @@ public enum RpcCuratorEventType
     CONNECTION_READ_ONLY,
     LEADER,
     PATH_CHILDREN_CACHE,
-    NODE_CACHE
+    NODE_CACHE,
+    EVENTS_OVERFLOWED,
+    TREE_CACHE,
+    SERVICE_CACHE
 }
@@ -12,7 +12,7 @@ enum CreateMode {
 }
 
 enum CuratorEventType {
-  PING, CREATE, DELETE, EXISTS, GET_DATA, SET_DATA, CHILDREN, SYNC, GET_ACL, SET_ACL, WATCHED, CLOSING, CONNECTION_CONNECTED, CONNECTION_SUSPENDED, CONNECTION_RECONNECTED, CONNECTION_LOST, CONNECTION_READ_ONLY, LEADER, PATH_CHILDREN_CACHE, NODE_CACHE
+  PING, CREATE, DELETE, EXISTS, GET_DATA, SET_DATA, CHILDREN, SYNC, GET_ACL, SET_ACL, WATCHED, CLOSING, CONNECTION_CONNECTED, CONNECTION_SUSPENDED, CONNECTION_RECONNECTED, CONNECTION_LOST, CONNECTION_READ_ONLY, LEADER, PATH_CHILDREN_CACHE, NODE_CACHE, EVENTS_OVERFLOWED, TREE_CACHE, SERVICE_CACHE
 }
 
 enum EventType {
@@ -51,6 +51,14 @@ enum ProviderStrategyType {
   RANDOM, STICKY_RANDOM, STICKY_ROUND_ROBIN, ROUND_ROBIN
 }
 
+enum OperationType {
+  CREATE, DELETE, SET_DATA, EXISTS, GET_DATA, GET_CHILDREN
+}
+
+enum TreeCacheEventType {
+  NODE_ADDED, NODE_UPDATED, NODE_REMOVED, CONNECTION_SUSPENDED, CONNECTION_RECONNECTED, CONNECTION_LOST, INITIALIZED
+}
+
 struct CuratorProjection {
   1: string id;
 }
@@ -121,6 +129,10 @@ struct PathChildrenCacheProjection {
   1: string id;
 }
 
+struct TreeCacheProjection {
+  1: string id;
+}
+
 struct PersistentEphemeralNodeProjection {
   1: string id;
 }
@@ -167,6 +179,10 @@ struct DiscoveryProviderProjection {
   1: string id;
 }
 
+struct DiscoveryServiceCacheProjection {
+  1: string id;
+}
+
 struct CreateSpec {
   1: string path;
   2: binary data;
@@ -206,6 +222,20 @@ struct PathChildrenCacheEvent {
   3: ChildData data;
 }
 
+struct TreeCacheEvent {
+  1: string cachedPath;
+  2: TreeCacheEventType type;
+  3: ChildData data;
+}
+
+struct PathChildrenCacheChanges {
+  1: i64 generation;
+  2: bool isSnapshot;
+  3: list<ChildData> added;
+  4: list<ChildData> updated;
+  5: list<string> removed;
+}
+
 struct SetDataSpec {
   1: string path;
   2: bool watched;
@@ -222,6 +252,25 @@ exception CuratorException {
   4: string message;
 }
 
+struct OperationSpec {
+  1: OperationType type;
+  2: CreateSpec createSpec;
+  3: DeleteSpec deleteSpec;
+  4: SetDataSpec setDataSpec;
+  5: ExistsSpec existsSpec;
+  6: GetDataSpec getDataSpec;
+  7: GetChildrenSpec getChildrenSpec;
+}
+
+struct OperationResult {
+  1: OperationType type;
+  2: string path;
+  3: Stat stat;
+  4: binary data;
+  5: list<string> children;
+  6: CuratorException error;
+}
+
 struct DiscoveryInstance {
   1: string name;
   2: string id;
@@ -247,11 +296,13 @@ struct CuratorEvent {
   11: WatchedEvent watchedEvent;
   12: LeaderEvent leaderEvent;
   13: PathChildrenCacheEvent childrenCacheEvent;
+  14: TreeCacheEvent treeCacheEvent;
 }
 
 service CuratorService {
   OptionalLockProjection acquireLock(1: CuratorProjection projection, 2: string path, 3: i32 maxWaitMs) throws (1: CuratorException ex1);
   list<LeaseProjection> acquireSemaphore(1: CuratorProjection projection, 2: string path, 3: i32 acquireQty, 4: i32 maxWaitMs, 5: i32 maxLeases) throws (1: CuratorException ex1);
+  list<OperationResult> batch(1: CuratorProjection projection, 2: list<OperationSpec> operations, 3: bool atomic) throws (1: CuratorException ex1);
   void closeCuratorProjection(1: CuratorProjection projection);
   bool closeGenericProjection(1: CuratorProjection projection, 2: string id) throws (1: CuratorException ex1);
   OptionalPath createNode(1: CuratorProjection projection, 2: CreateSpec spec) throws (1: CuratorException ex1);
@@ -261,8 +312,11 @@ service CuratorService {
   OptionalData getData(1: CuratorProjection projection, 2: GetDataSpec spec) throws (1: CuratorException ex1);
   list<Participant> getLeaderParticipants(1: CuratorProjection projection, 2: LeaderProjection leaderProjection) throws (1: CuratorException ex1);
   ChildData getNodeCacheData(1: CuratorProjection projection, 2: NodeCacheProjection cacheProjection) throws (1: CuratorException ex1);
+  PathChildrenCacheChanges getPathChildrenCacheChanges(1: CuratorProjection projection, 2: PathChildrenCacheProjection cacheProjection, 3: i64 sinceGeneration) throws (1: CuratorException ex1);
   list<ChildData> getPathChildrenCacheData(1: CuratorProjection projection, 2: PathChildrenCacheProjection cacheProjection) throws (1: CuratorException ex1);
   ChildData getPathChildrenCacheDataForPath(1: CuratorProjection projection, 2: PathChildrenCacheProjection cacheProjection, 3: string path) throws (1: CuratorException ex1);
+  list<ChildData> getTreeCacheChildren(1: CuratorProjection projection, 2: TreeCacheProjection cacheProjection, 3: string path) throws (1: CuratorException ex1);
+  ChildData getTreeCacheData(1: CuratorProjection projection, 2: TreeCacheProjection cacheProjection, 3: string path) throws (1: CuratorException ex1);
   bool isLeader(1: CuratorProjection projection, 2: LeaderProjection leaderProjection) throws (1: CuratorException ex1);
   CuratorProjection newCuratorProjection(1: string connectionName) throws (1: CuratorException ex1);
   oneway void pingCuratorProjection(1: CuratorProjection projection);
@@ -271,20 +325,24 @@ service CuratorService {
   NodeCacheProjection startNodeCache(1: CuratorProjection projection, 2: string path, 3: bool dataIsCompressed, 4: bool buildInitial) throws (1: CuratorException ex1);
   PathChildrenCacheProjection startPathChildrenCache(1: CuratorProjection projection, 2: string path, 3: bool cacheData, 4: bool dataIsCompressed, 5: PathChildrenCacheStartMode startMode) throws (1: CuratorException ex1);
   PersistentEphemeralNodeProjection startPersistentEphemeralNode(1: CuratorProjection projection, 2: string path, 3: binary data, 4: PersistentEphemeralNodeMode mode) throws (1: CuratorException ex1);
+  TreeCacheProjection startTreeCache(1: CuratorProjection projection, 2: string path, 3: bool cacheData, 4: bool dataIsCompressed, 5: i32 maxDepth) throws (1: CuratorException ex1);
   void sync(1: CuratorProjection projection, 2: string path, 3: string asyncContext) throws (1: CuratorException ex1);
 }
 
 service EventService {
   CuratorEvent getNextEvent(1: CuratorProjection projection) throws (1: CuratorException ex1);
+  list<CuratorEvent> getNextEvents(1: CuratorProjection projection, 2: i32 maxEvents, 3: i32 maxWaitMs) throws (1: CuratorException ex1);
 }
 
 service DiscoveryService {
   list<DiscoveryInstance> getAllInstances(1: CuratorProjection projection, 2: DiscoveryProviderProjection providerProjection) throws (1: CuratorException ex1);
   DiscoveryInstance getInstance(1: CuratorProjection projection, 2: DiscoveryProviderProjection providerProjection) throws (1: CuratorException ex1);
+  list<DiscoveryInstance> getServiceCacheInstances(1: CuratorProjection projection, 2: DiscoveryServiceCacheProjection cacheProjection) throws (1: CuratorException ex1);
   DiscoveryInstance makeDiscoveryInstance(1: string name, 2: binary payload, 3: i32 port) throws (1: CuratorException ex1);
   void noteError(1: CuratorProjection projection, 2: DiscoveryProviderProjection providerProjection, 3: string instanceId) throws (1: CuratorException ex1);
   DiscoveryProjection startDiscovery(1: CuratorProjection projection, 2: string basePath, 3: DiscoveryInstance yourInstance) throws (1: CuratorException ex1);
   DiscoveryProviderProjection startProvider(1: CuratorProjection projection, 2: DiscoveryProjection discoveryProjection, 3: string serviceName, 4: ProviderStrategyType providerStrategy, 5: i32 downTimeoutMs, 6: i32 downErrorThreshold) throws (1: CuratorException ex1);
+  DiscoveryServiceCacheProjection startServiceCache(1: CuratorProjection projection, 2: DiscoveryProjection discoveryProjection, 3: string serviceName) throws (1: CuratorException ex1);
 }
 
 service DiscoveryServiceLowLevel {
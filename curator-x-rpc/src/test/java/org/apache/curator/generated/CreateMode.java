@@ -15,7 +15,8 @@ public enum CreateMode implements org.apache.thrift.TEnum {
   PERSISTENT(0),
   PERSISTENT_SEQUENTIAL(1),
   EPHEMERAL(2),
-  EPHEMERAL_SEQUENTIAL(3);
+  EPHEMERAL_SEQUENTIAL(3),
+  CONTAINER(4);
 
   private final int value;
 
@@ -44,6 +45,8 @@ public enum CreateMode implements org.apache.thrift.TEnum {
         return EPHEMERAL;
       case 3:
         return EPHEMERAL_SEQUENTIAL;
+      case 4:
+        return CONTAINER;
       default:
         return null;
     }
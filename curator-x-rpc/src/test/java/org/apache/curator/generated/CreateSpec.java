@@ -42,6 +42,7 @@ public class CreateSpec implements org.apache.thrift.TBase<CreateSpec, CreateSpe
   private static final org.apache.thrift.protocol.TField COMPRESSED_FIELD_DESC = new org.apache.thrift.protocol.TField("compressed", org.apache.thrift.protocol.TType.BOOL, (short)5);
   private static final org.apache.thrift.protocol.TField CREATING_PARENTS_IF_NEEDED_FIELD_DESC = new org.apache.thrift.protocol.TField("creatingParentsIfNeeded", org.apache.thrift.protocol.TType.BOOL, (short)6);
   private static final org.apache.thrift.protocol.TField WITH_PROTECTION_FIELD_DESC = new org.apache.thrift.protocol.TField("withProtection", org.apache.thrift.protocol.TType.BOOL, (short)7);
+  private static final org.apache.thrift.protocol.TField CREATING_PARENT_CONTAINERS_IF_NEEDED_FIELD_DESC = new org.apache.thrift.protocol.TField("creatingParentContainersIfNeeded", org.apache.thrift.protocol.TType.BOOL, (short)8);
 
   private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
   static {
@@ -60,6 +61,7 @@ public class CreateSpec implements org.apache.thrift.TBase<CreateSpec, CreateSpe
   public boolean compressed; // required
   public boolean creatingParentsIfNeeded; // required
   public boolean withProtection; // required
+  public boolean creatingParentContainersIfNeeded; // required
 
   /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
   public enum _Fields implements org.apache.thrift.TFieldIdEnum {
@@ -73,7 +75,8 @@ public class CreateSpec implements org.apache.thrift.TBase<CreateSpec, CreateSpe
     ASYNC_CONTEXT((short)4, "asyncContext"),
     COMPRESSED((short)5, "compressed"),
     CREATING_PARENTS_IF_NEEDED((short)6, "creatingParentsIfNeeded"),
-    WITH_PROTECTION((short)7, "withProtection");
+    WITH_PROTECTION((short)7, "withProtection"),
+    CREATING_PARENT_CONTAINERS_IF_NEEDED((short)8, "creatingParentContainersIfNeeded");
 
     private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -102,6 +105,8 @@ public class CreateSpec implements org.apache.thrift.TBase<CreateSpec, CreateSpe
           return CREATING_PARENTS_IF_NEEDED;
         case 7: // WITH_PROTECTION
           return WITH_PROTECTION;
+        case 8: // CREATING_PARENT_CONTAINERS_IF_NEEDED
+          return CREATING_PARENT_CONTAINERS_IF_NEEDED;
         default:
           return null;
       }
@@ -145,6 +150,7 @@ public class CreateSpec implements org.apache.thrift.TBase<CreateSpec, CreateSpe
   private static final int __COMPRESSED_ISSET_ID = 0;
   private static final int __CREATINGPARENTSIFNEEDED_ISSET_ID = 1;
   private static final int __WITHPROTECTION_ISSET_ID = 2;
+  private static final int __CREATINGPARENTCONTAINERSIFNEEDED_ISSET_ID = 3;
   private byte __isset_bitfield = 0;
   public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
   static {
@@ -163,6 +169,8 @@ public class CreateSpec implements org.apache.thrift.TBase<CreateSpec, CreateSpe
         new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
     tmpMap.put(_Fields.WITH_PROTECTION, new org.apache.thrift.meta_data.FieldMetaData("withProtection", org.apache.thrift.TFieldRequirementType.DEFAULT, 
         new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
+    tmpMap.put(_Fields.CREATING_PARENT_CONTAINERS_IF_NEEDED, new org.apache.thrift.meta_data.FieldMetaData("creatingParentContainersIfNeeded", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
     metaDataMap = Collections.unmodifiableMap(tmpMap);
     org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(CreateSpec.class, metaDataMap);
   }
@@ -177,7 +185,8 @@ public class CreateSpec implements org.apache.thrift.TBase<CreateSpec, CreateSpe
     String asyncContext,
     boolean compressed,
     boolean creatingParentsIfNeeded,
-    boolean withProtection)
+    boolean withProtection,
+    boolean creatingParentContainersIfNeeded)
   {
     this();
     this.path = path;
@@ -190,6 +199,8 @@ public class CreateSpec implements org.apache.thrift.TBase<CreateSpec, CreateSpe
     setCreatingParentsIfNeededIsSet(true);
     this.withProtection = withProtection;
     setWithProtectionIsSet(true);
+    this.creatingParentContainersIfNeeded = creatingParentContainersIfNeeded;
+    setCreatingParentContainersIfNeededIsSet(true);
   }
 
   /**
@@ -213,6 +224,7 @@ public class CreateSpec implements org.apache.thrift.TBase<CreateSpec, CreateSpe
     this.compressed = other.compressed;
     this.creatingParentsIfNeeded = other.creatingParentsIfNeeded;
     this.withProtection = other.withProtection;
+    this.creatingParentContainersIfNeeded = other.creatingParentContainersIfNeeded;
   }
 
   public CreateSpec deepCopy() {
@@ -231,6 +243,8 @@ public class CreateSpec implements org.apache.thrift.TBase<CreateSpec, CreateSpe
     this.creatingParentsIfNeeded = false;
     setWithProtectionIsSet(false);
     this.withProtection = false;
+    setCreatingParentContainersIfNeededIsSet(false);
+    this.creatingParentContainersIfNeeded = false;
   }
 
   public String getPath() {
@@ -416,6 +430,29 @@ public class CreateSpec implements org.apache.thrift.TBase<CreateSpec, CreateSpe
     __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __WITHPROTECTION_ISSET_ID, value);
   }
 
+  public boolean isCreatingParentContainersIfNeeded() {
+    return this.creatingParentContainersIfNeeded;
+  }
+
+  public CreateSpec setCreatingParentContainersIfNeeded(boolean creatingParentContainersIfNeeded) {
+    this.creatingParentContainersIfNeeded = creatingParentContainersIfNeeded;
+    setCreatingParentContainersIfNeededIsSet(true);
+    return this;
+  }
+
+  public void unsetCreatingParentContainersIfNeeded() {
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __CREATINGPARENTCONTAINERSIFNEEDED_ISSET_ID);
+  }
+
+  /** Returns true if field creatingParentContainersIfNeeded is set (has been assigned a value) and false otherwise */
+  public boolean isSetCreatingParentContainersIfNeeded() {
+    return EncodingUtils.testBit(__isset_bitfield, __CREATINGPARENTCONTAINERSIFNEEDED_ISSET_ID);
+  }
+
+  public void setCreatingParentContainersIfNeededIsSet(boolean value) {
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __CREATINGPARENTCONTAINERSIFNEEDED_ISSET_ID, value);
+  }
+
   public void setFieldValue(_Fields field, Object value) {
     switch (field) {
     case PATH:
@@ -474,6 +511,14 @@ public class CreateSpec implements org.apache.thrift.TBase<CreateSpec, CreateSpe
       }
       break;
 
+    case CREATING_PARENT_CONTAINERS_IF_NEEDED:
+      if (value == null) {
+        unsetCreatingParentContainersIfNeeded();
+      } else {
+        setCreatingParentContainersIfNeeded((Boolean)value);
+      }
+      break;
+
     }
   }
 
@@ -500,6 +545,9 @@ public class CreateSpec implements org.apache.thrift.TBase<CreateSpec, CreateSpe
     case WITH_PROTECTION:
       return Boolean.valueOf(isWithProtection());
 
+    case CREATING_PARENT_CONTAINERS_IF_NEEDED:
+      return Boolean.valueOf(isCreatingParentContainersIfNeeded());
+
     }
     throw new IllegalStateException();
   }
@@ -525,6 +573,8 @@ public class CreateSpec implements org.apache.thrift.TBase<CreateSpec, CreateSpe
       return isSetCreatingParentsIfNeeded();
     case WITH_PROTECTION:
       return isSetWithProtection();
+    case CREATING_PARENT_CONTAINERS_IF_NEEDED:
+      return isSetCreatingParentContainersIfNeeded();
     }
     throw new IllegalStateException();
   }
@@ -605,6 +655,15 @@ public class CreateSpec implements org.apache.thrift.TBase<CreateSpec, CreateSpe
         return false;
     }
 
+    boolean this_present_creatingParentContainersIfNeeded = true;
+    boolean that_present_creatingParentContainersIfNeeded = true;
+    if (this_present_creatingParentContainersIfNeeded || that_present_creatingParentContainersIfNeeded) {
+      if (!(this_present_creatingParentContainersIfNeeded && that_present_creatingParentContainersIfNeeded))
+        return false;
+      if (this.creatingParentContainersIfNeeded != that.creatingParentContainersIfNeeded)
+        return false;
+    }
+
     return true;
   }
 
@@ -691,6 +750,16 @@ public class CreateSpec implements org.apache.thrift.TBase<CreateSpec, CreateSpe
         return lastComparison;
       }
     }
+    lastComparison = Boolean.valueOf(isSetCreatingParentContainersIfNeeded()).compareTo(other.isSetCreatingParentContainersIfNeeded());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetCreatingParentContainersIfNeeded()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.creatingParentContainersIfNeeded, other.creatingParentContainersIfNeeded);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
     return 0;
   }
 
@@ -754,6 +823,10 @@ public class CreateSpec implements org.apache.thrift.TBase<CreateSpec, CreateSpe
     sb.append("withProtection:");
     sb.append(this.withProtection);
     first = false;
+    if (!first) sb.append(", ");
+    sb.append("creatingParentContainersIfNeeded:");
+    sb.append(this.creatingParentContainersIfNeeded);
+    first = false;
     sb.append(")");
     return sb.toString();
   }
@@ -855,6 +928,14 @@ public class CreateSpec implements org.apache.thrift.TBase<CreateSpec, CreateSpe
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
             }
             break;
+          case 8: // CREATING_PARENT_CONTAINERS_IF_NEEDED
+            if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
+              struct.creatingParentContainersIfNeeded = iprot.readBool();
+              struct.setCreatingParentContainersIfNeededIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
           default:
             org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
         }
@@ -899,6 +980,9 @@ public class CreateSpec implements org.apache.thrift.TBase<CreateSpec, CreateSpe
       oprot.writeFieldBegin(WITH_PROTECTION_FIELD_DESC);
       oprot.writeBool(struct.withProtection);
       oprot.writeFieldEnd();
+      oprot.writeFieldBegin(CREATING_PARENT_CONTAINERS_IF_NEEDED_FIELD_DESC);
+      oprot.writeBool(struct.creatingParentContainersIfNeeded);
+      oprot.writeFieldEnd();
       oprot.writeFieldStop();
       oprot.writeStructEnd();
     }
@@ -938,7 +1022,10 @@ public class CreateSpec implements org.apache.thrift.TBase<CreateSpec, CreateSpe
       if (struct.isSetWithProtection()) {
         optionals.set(6);
       }
-      oprot.writeBitSet(optionals, 7);
+      if (struct.isSetCreatingParentContainersIfNeeded()) {
+        optionals.set(7);
+      }
+      oprot.writeBitSet(optionals, 8);
       if (struct.isSetPath()) {
         oprot.writeString(struct.path);
       }
@@ -960,12 +1047,15 @@ public class CreateSpec implements org.apache.thrift.TBase<CreateSpec, CreateSpe
       if (struct.isSetWithProtection()) {
         oprot.writeBool(struct.withProtection);
       }
+      if (struct.isSetCreatingParentContainersIfNeeded()) {
+        oprot.writeBool(struct.creatingParentContainersIfNeeded);
+      }
     }
 
     @Override
     public void read(org.apache.thrift.protocol.TProtocol prot, CreateSpec struct) throws org.apache.thrift.TException {
       TTupleProtocol iprot = (TTupleProtocol) prot;
-      BitSet incoming = iprot.readBitSet(7);
+      BitSet incoming = iprot.readBitSet(8);
       if (incoming.get(0)) {
         struct.path = iprot.readString();
         struct.setPathIsSet(true);
@@ -994,6 +1084,10 @@ public class CreateSpec implements org.apache.thrift.TBase<CreateSpec, CreateSpe
         struct.withProtection = iprot.readBool();
         struct.setWithProtectionIsSet(true);
       }
+      if (incoming.get(7)) {
+        struct.creatingParentContainersIfNeeded = iprot.readBool();
+        struct.setCreatingParentContainersIfNeededIsSet(true);
+      }
     }
   }
 
@@ -47,6 +47,7 @@ public class CuratorEvent implements org.apache.thrift.TBase<CuratorEvent, Curat
   private static final org.apache.thrift.protocol.TField WATCHED_EVENT_FIELD_DESC = new org.apache.thrift.protocol.TField("watchedEvent", org.apache.thrift.protocol.TType.STRUCT, (short)11);
   private static final org.apache.thrift.protocol.TField LEADER_EVENT_FIELD_DESC = new org.apache.thrift.protocol.TField("leaderEvent", org.apache.thrift.protocol.TType.STRUCT, (short)12);
   private static final org.apache.thrift.protocol.TField CHILDREN_CACHE_EVENT_FIELD_DESC = new org.apache.thrift.protocol.TField("childrenCacheEvent", org.apache.thrift.protocol.TType.STRUCT, (short)13);
+  private static final org.apache.thrift.protocol.TField TREE_CACHE_EVENT_FIELD_DESC = new org.apache.thrift.protocol.TField("treeCacheEvent", org.apache.thrift.protocol.TType.STRUCT, (short)14);
 
   private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
   static {
@@ -70,6 +71,7 @@ public class CuratorEvent implements org.apache.thrift.TBase<CuratorEvent, Curat
   public WatchedEvent watchedEvent; // required
   public LeaderEvent leaderEvent; // required
   public PathChildrenCacheEvent childrenCacheEvent; // required
+  public TreeCacheEvent treeCacheEvent; // required
 
   /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
   public enum _Fields implements org.apache.thrift.TFieldIdEnum {
@@ -88,7 +90,8 @@ public class CuratorEvent implements org.apache.thrift.TBase<CuratorEvent, Curat
     ACL_LIST((short)10, "aclList"),
     WATCHED_EVENT((short)11, "watchedEvent"),
     LEADER_EVENT((short)12, "leaderEvent"),
-    CHILDREN_CACHE_EVENT((short)13, "childrenCacheEvent");
+    CHILDREN_CACHE_EVENT((short)13, "childrenCacheEvent"),
+    TREE_CACHE_EVENT((short)14, "treeCacheEvent");
 
     private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -127,6 +130,8 @@ public class CuratorEvent implements org.apache.thrift.TBase<CuratorEvent, Curat
           return LEADER_EVENT;
         case 13: // CHILDREN_CACHE_EVENT
           return CHILDREN_CACHE_EVENT;
+        case 14: // TREE_CACHE_EVENT
+          return TREE_CACHE_EVENT;
         default:
           return null;
       }
@@ -198,6 +203,8 @@ public class CuratorEvent implements org.apache.thrift.TBase<CuratorEvent, Curat
         new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, LeaderEvent.class)));
     tmpMap.put(_Fields.CHILDREN_CACHE_EVENT, new org.apache.thrift.meta_data.FieldMetaData("childrenCacheEvent", org.apache.thrift.TFieldRequirementType.DEFAULT, 
         new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, PathChildrenCacheEvent.class)));
+    tmpMap.put(_Fields.TREE_CACHE_EVENT, new org.apache.thrift.meta_data.FieldMetaData("treeCacheEvent", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+        new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, TreeCacheEvent.class)));
     metaDataMap = Collections.unmodifiableMap(tmpMap);
     org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(CuratorEvent.class, metaDataMap);
   }
@@ -217,7 +224,8 @@ public class CuratorEvent implements org.apache.thrift.TBase<CuratorEvent, Curat
     List<Acl> aclList,
     WatchedEvent watchedEvent,
     LeaderEvent leaderEvent,
-    PathChildrenCacheEvent childrenCacheEvent)
+    PathChildrenCacheEvent childrenCacheEvent,
+    TreeCacheEvent treeCacheEvent)
   {
     this();
     this.type = type;
@@ -233,6 +241,7 @@ public class CuratorEvent implements org.apache.thrift.TBase<CuratorEvent, Curat
     this.watchedEvent = watchedEvent;
     this.leaderEvent = leaderEvent;
     this.childrenCacheEvent = childrenCacheEvent;
+    this.treeCacheEvent = treeCacheEvent;
   }
 
   /**
@@ -280,6 +289,9 @@ public class CuratorEvent implements org.apache.thrift.TBase<CuratorEvent, Curat
     if (other.isSetChildrenCacheEvent()) {
       this.childrenCacheEvent = new PathChildrenCacheEvent(other.childrenCacheEvent);
     }
+    if (other.isSetTreeCacheEvent()) {
+      this.treeCacheEvent = new TreeCacheEvent(other.treeCacheEvent);
+    }
   }
 
   public CuratorEvent deepCopy() {
@@ -301,6 +313,7 @@ public class CuratorEvent implements org.apache.thrift.TBase<CuratorEvent, Curat
     this.watchedEvent = null;
     this.leaderEvent = null;
     this.childrenCacheEvent = null;
+    this.treeCacheEvent = null;
   }
 
   /**
@@ -638,6 +651,30 @@ public class CuratorEvent implements org.apache.thrift.TBase<CuratorEvent, Curat
     }
   }
 
+  public TreeCacheEvent getTreeCacheEvent() {
+    return this.treeCacheEvent;
+  }
+
+  public CuratorEvent setTreeCacheEvent(TreeCacheEvent treeCacheEvent) {
+    this.treeCacheEvent = treeCacheEvent;
+    return this;
+  }
+
+  public void unsetTreeCacheEvent() {
+    this.treeCacheEvent = null;
+  }
+
+  /** Returns true if field treeCacheEvent is set (has been assigned a value) and false otherwise */
+  public boolean isSetTreeCacheEvent() {
+    return this.treeCacheEvent != null;
+  }
+
+  public void setTreeCacheEventIsSet(boolean value) {
+    if (!value) {
+      this.treeCacheEvent = null;
+    }
+  }
+
   public void setFieldValue(_Fields field, Object value) {
     switch (field) {
     case TYPE:
@@ -736,6 +773,14 @@ public class CuratorEvent implements org.apache.thrift.TBase<CuratorEvent, Curat
       }
       break;
 
+    case TREE_CACHE_EVENT:
+      if (value == null) {
+        unsetTreeCacheEvent();
+      } else {
+        setTreeCacheEvent((TreeCacheEvent)value);
+      }
+      break;
+
     }
   }
 
@@ -777,6 +822,9 @@ public class CuratorEvent implements org.apache.thrift.TBase<CuratorEvent, Curat
     case CHILDREN_CACHE_EVENT:
       return getChildrenCacheEvent();
 
+    case TREE_CACHE_EVENT:
+      return getTreeCacheEvent();
+
     }
     throw new IllegalStateException();
   }
@@ -812,6 +860,8 @@ public class CuratorEvent implements org.apache.thrift.TBase<CuratorEvent, Curat
       return isSetLeaderEvent();
     case CHILDREN_CACHE_EVENT:
       return isSetChildrenCacheEvent();
+    case TREE_CACHE_EVENT:
+      return isSetTreeCacheEvent();
     }
     throw new IllegalStateException();
   }
@@ -937,6 +987,15 @@ public class CuratorEvent implements org.apache.thrift.TBase<CuratorEvent, Curat
         return false;
     }
 
+    boolean this_present_treeCacheEvent = true && this.isSetTreeCacheEvent();
+    boolean that_present_treeCacheEvent = true && that.isSetTreeCacheEvent();
+    if (this_present_treeCacheEvent || that_present_treeCacheEvent) {
+      if (!(this_present_treeCacheEvent && that_present_treeCacheEvent))
+        return false;
+      if (!this.treeCacheEvent.equals(that.treeCacheEvent))
+        return false;
+    }
+
     return true;
   }
 
@@ -1073,6 +1132,16 @@ public class CuratorEvent implements org.apache.thrift.TBase<CuratorEvent, Curat
         return lastComparison;
       }
     }
+    lastComparison = Boolean.valueOf(isSetTreeCacheEvent()).compareTo(other.isSetTreeCacheEvent());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetTreeCacheEvent()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.treeCacheEvent, other.treeCacheEvent);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
     return 0;
   }
 
@@ -1184,6 +1253,14 @@ public class CuratorEvent implements org.apache.thrift.TBase<CuratorEvent, Curat
       sb.append(this.childrenCacheEvent);
     }
     first = false;
+    if (!first) sb.append(", ");
+    sb.append("treeCacheEvent:");
+    if (this.treeCacheEvent == null) {
+      sb.append("null");
+    } else {
+      sb.append(this.treeCacheEvent);
+    }
+    first = false;
     sb.append(")");
     return sb.toString();
   }
@@ -1203,6 +1280,9 @@ public class CuratorEvent implements org.apache.thrift.TBase<CuratorEvent, Curat
     if (childrenCacheEvent != null) {
       childrenCacheEvent.validate();
     }
+    if (treeCacheEvent != null) {
+      treeCacheEvent.validate();
+    }
   }
 
   private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -1301,13 +1381,13 @@ public class CuratorEvent implements org.apache.thrift.TBase<CuratorEvent, Curat
           case 9: // CHILDREN
             if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
               {
-                org.apache.thrift.protocol.TList _list8 = iprot.readListBegin();
-                struct.children = new ArrayList<String>(_list8.size);
-                for (int _i9 = 0; _i9 < _list8.size; ++_i9)
+                org.apache.thrift.protocol.TList _list40 = iprot.readListBegin();
+                struct.children = new ArrayList<String>(_list40.size);
+                for (int _i41 = 0; _i41 < _list40.size; ++_i41)
                 {
-                  String _elem10;
-                  _elem10 = iprot.readString();
-                  struct.children.add(_elem10);
+                  String _elem42;
+                  _elem42 = iprot.readString();
+                  struct.children.add(_elem42);
                 }
                 iprot.readListEnd();
               }
@@ -1319,14 +1399,14 @@ public class CuratorEvent implements org.apache.thrift.TBase<CuratorEvent, Curat
           case 10: // ACL_LIST
             if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
               {
-                org.apache.thrift.protocol.TList _list11 = iprot.readListBegin();
-                struct.aclList = new ArrayList<Acl>(_list11.size);
-                for (int _i12 = 0; _i12 < _list11.size; ++_i12)
+                org.apache.thrift.protocol.TList _list43 = iprot.readListBegin();
+                struct.aclList = new ArrayList<Acl>(_list43.size);
+                for (int _i44 = 0; _i44 < _list43.size; ++_i44)
                 {
-                  Acl _elem13;
-                  _elem13 = new Acl();
-                  _elem13.read(iprot);
-                  struct.aclList.add(_elem13);
+                  Acl _elem45;
+                  _elem45 = new Acl();
+                  _elem45.read(iprot);
+                  struct.aclList.add(_elem45);
                 }
                 iprot.readListEnd();
               }
@@ -1362,6 +1442,15 @@ public class CuratorEvent implements org.apache.thrift.TBase<CuratorEvent, Curat
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
             }
             break;
+          case 14: // TREE_CACHE_EVENT
+            if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+              struct.treeCacheEvent = new TreeCacheEvent();
+              struct.treeCacheEvent.read(iprot);
+              struct.setTreeCacheEventIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
           default:
             org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
         }
@@ -1414,9 +1503,9 @@ public class CuratorEvent implements org.apache.thrift.TBase<CuratorEvent, Curat
         oprot.writeFieldBegin(CHILDREN_FIELD_DESC);
         {
           oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.children.size()));
-          for (String _iter14 : struct.children)
+          for (String _iter46 : struct.children)
           {
-            oprot.writeString(_iter14);
+            oprot.writeString(_iter46);
           }
           oprot.writeListEnd();
         }
@@ -1426,9 +1515,9 @@ public class CuratorEvent implements org.apache.thrift.TBase<CuratorEvent, Curat
         oprot.writeFieldBegin(ACL_LIST_FIELD_DESC);
         {
           oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.aclList.size()));
-          for (Acl _iter15 : struct.aclList)
+          for (Acl _iter47 : struct.aclList)
           {
-            _iter15.write(oprot);
+            _iter47.write(oprot);
           }
           oprot.writeListEnd();
         }
@@ -1449,6 +1538,11 @@ public class CuratorEvent implements org.apache.thrift.TBase<CuratorEvent, Curat
         struct.childrenCacheEvent.write(oprot);
         oprot.writeFieldEnd();
       }
+      if (struct.treeCacheEvent != null) {
+        oprot.writeFieldBegin(TREE_CACHE_EVENT_FIELD_DESC);
+        struct.treeCacheEvent.write(oprot);
+        oprot.writeFieldEnd();
+      }
       oprot.writeFieldStop();
       oprot.writeStructEnd();
     }
@@ -1503,7 +1597,10 @@ public class CuratorEvent implements org.apache.thrift.TBase<CuratorEvent, Curat
       if (struct.isSetChildrenCacheEvent()) {
         optionals.set(11);
       }
-      oprot.writeBitSet(optionals, 12);
+      if (struct.isSetTreeCacheEvent()) {
+        optionals.set(12);
+      }
+      oprot.writeBitSet(optionals, 13);
       if (struct.isSetType()) {
         oprot.writeI32(struct.type.getValue());
       }
@@ -1528,18 +1625,18 @@ public class CuratorEvent implements org.apache.thrift.TBase<CuratorEvent, Curat
       if (struct.isSetChildren()) {
         {
           oprot.writeI32(struct.children.size());
-          for (String _iter16 : struct.children)
+          for (String _iter48 : struct.children)
           {
-            oprot.writeString(_iter16);
+            oprot.writeString(_iter48);
           }
         }
       }
       if (struct.isSetAclList()) {
         {
           oprot.writeI32(struct.aclList.size());
-          for (Acl _iter17 : struct.aclList)
+          for (Acl _iter49 : struct.aclList)
           {
-            _iter17.write(oprot);
+            _iter49.write(oprot);
           }
         }
       }
@@ -1552,12 +1649,15 @@ public class CuratorEvent implements org.apache.thrift.TBase<CuratorEvent, Curat
       if (struct.isSetChildrenCacheEvent()) {
         struct.childrenCacheEvent.write(oprot);
       }
+      if (struct.isSetTreeCacheEvent()) {
+        struct.treeCacheEvent.write(oprot);
+      }
     }
 
     @Override
     public void read(org.apache.thrift.protocol.TProtocol prot, CuratorEvent struct) throws org.apache.thrift.TException {
       TTupleProtocol iprot = (TTupleProtocol) prot;
-      BitSet incoming = iprot.readBitSet(12);
+      BitSet incoming = iprot.readBitSet(13);
       if (incoming.get(0)) {
         struct.type = CuratorEventType.findByValue(iprot.readI32());
         struct.setTypeIsSet(true);
@@ -1589,27 +1689,27 @@ public class CuratorEvent implements org.apache.thrift.TBase<CuratorEvent, Curat
       }
       if (incoming.get(7)) {
         {
-          org.apache.thrift.protocol.TList _list18 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
-          struct.children = new ArrayList<String>(_list18.size);
-          for (int _i19 = 0; _i19 < _list18.size; ++_i19)
+          org.apache.thrift.protocol.TList _list50 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+          struct.children = new ArrayList<String>(_list50.size);
+          for (int _i51 = 0; _i51 < _list50.size; ++_i51)
           {
-            String _elem20;
-            _elem20 = iprot.readString();
-            struct.children.add(_elem20);
+            String _elem52;
+            _elem52 = iprot.readString();
+            struct.children.add(_elem52);
           }
         }
         struct.setChildrenIsSet(true);
       }
       if (incoming.get(8)) {
         {
-          org.apache.thrift.protocol.TList _list21 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
-          struct.aclList = new ArrayList<Acl>(_list21.size);
-          for (int _i22 = 0; _i22 < _list21.size; ++_i22)
+          org.apache.thrift.protocol.TList _list53 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+          struct.aclList = new ArrayList<Acl>(_list53.size);
+          for (int _i54 = 0; _i54 < _list53.size; ++_i54)
           {
-            Acl _elem23;
-            _elem23 = new Acl();
-            _elem23.read(iprot);
-            struct.aclList.add(_elem23);
+            Acl _elem55;
+            _elem55 = new Acl();
+            _elem55.read(iprot);
+            struct.aclList.add(_elem55);
           }
         }
         struct.setAclListIsSet(true);
@@ -1629,6 +1729,11 @@ public class CuratorEvent implements org.apache.thrift.TBase<CuratorEvent, Curat
         struct.childrenCacheEvent.read(iprot);
         struct.setChildrenCacheEventIsSet(true);
       }
+      if (incoming.get(12)) {
+        struct.treeCacheEvent = new TreeCacheEvent();
+        struct.treeCacheEvent.read(iprot);
+        struct.setTreeCacheEventIsSet(true);
+      }
     }
   }
 
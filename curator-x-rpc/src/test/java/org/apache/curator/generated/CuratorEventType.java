@@ -31,7 +31,10 @@ public enum CuratorEventType implements org.apache.thrift.TEnum {
   CONNECTION_READ_ONLY(16),
   LEADER(17),
   PATH_CHILDREN_CACHE(18),
-  NODE_CACHE(19);
+  NODE_CACHE(19),
+  EVENTS_OVERFLOWED(20),
+  TREE_CACHE(21),
+  SERVICE_CACHE(22);
 
   private final int value;
 
@@ -92,6 +95,12 @@ public enum CuratorEventType implements org.apache.thrift.TEnum {
         return PATH_CHILDREN_CACHE;
       case 19:
         return NODE_CACHE;
+      case 20:
+        return EVENTS_OVERFLOWED;
+      case 21:
+        return TREE_CACHE;
+      case 22:
+        return SERVICE_CACHE;
       default:
         return null;
     }
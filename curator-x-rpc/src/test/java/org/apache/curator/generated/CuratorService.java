@@ -40,6 +40,8 @@ public class CuratorService {
 
     public List<LeaseProjection> acquireSemaphore(CuratorProjection projection, String path, int acquireQty, int maxWaitMs, int maxLeases) throws CuratorException, org.apache.thrift.TException;
 
+    public List<OperationResult> batch(CuratorProjection projection, List<OperationSpec> operations, boolean atomic) throws CuratorException, org.apache.thrift.TException;
+
     public void closeCuratorProjection(CuratorProjection projection) throws org.apache.thrift.TException;
 
     public boolean closeGenericProjection(CuratorProjection projection, String id) throws CuratorException, org.apache.thrift.TException;
@@ -58,10 +60,16 @@ public class CuratorService {
 
     public ChildData getNodeCacheData(CuratorProjection projection, NodeCacheProjection cacheProjection) throws CuratorException, org.apache.thrift.TException;
 
+    public PathChildrenCacheChanges getPathChildrenCacheChanges(CuratorProjection projection, PathChildrenCacheProjection cacheProjection, long sinceGeneration) throws CuratorException, org.apache.thrift.TException;
+
     public List<ChildData> getPathChildrenCacheData(CuratorProjection projection, PathChildrenCacheProjection cacheProjection) throws CuratorException, org.apache.thrift.TException;
 
     public ChildData getPathChildrenCacheDataForPath(CuratorProjection projection, PathChildrenCacheProjection cacheProjection, String path) throws CuratorException, org.apache.thrift.TException;
 
+    public List<ChildData> getTreeCacheChildren(CuratorProjection projection, TreeCacheProjection cacheProjection, String path) throws CuratorException, org.apache.thrift.TException;
+
+    public ChildData getTreeCacheData(CuratorProjection projection, TreeCacheProjection cacheProjection, String path) throws CuratorException, org.apache.thrift.TException;
+
     public boolean isLeader(CuratorProjection projection, LeaderProjection leaderProjection) throws CuratorException, org.apache.thrift.TException;
 
     public CuratorProjection newCuratorProjection(String connectionName) throws CuratorException, org.apache.thrift.TException;
@@ -78,6 +86,8 @@ public class CuratorService {
 
     public PersistentEphemeralNodeProjection startPersistentEphemeralNode(CuratorProjection projection, String path, ByteBuffer data, PersistentEphemeralNodeMode mode) throws CuratorException, org.apache.thrift.TException;
 
+    public TreeCacheProjection startTreeCache(CuratorProjection projection, String path, boolean cacheData, boolean dataIsCompressed, int maxDepth) throws CuratorException, org.apache.thrift.TException;
+
     public void sync(CuratorProjection projection, String path, String asyncContext) throws CuratorException, org.apache.thrift.TException;
 
   }
@@ -88,6 +98,8 @@ public class CuratorService {
 
     public void acquireSemaphore(CuratorProjection projection, String path, int acquireQty, int maxWaitMs, int maxLeases, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
+    public void batch(CuratorProjection projection, List<OperationSpec> operations, boolean atomic, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
     public void closeCuratorProjection(CuratorProjection projection, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
     public void closeGenericProjection(CuratorProjection projection, String id, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
@@ -106,10 +118,16 @@ public class CuratorService {
 
     public void getNodeCacheData(CuratorProjection projection, NodeCacheProjection cacheProjection, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
+    public void getPathChildrenCacheChanges(CuratorProjection projection, PathChildrenCacheProjection cacheProjection, long sinceGeneration, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
     public void getPathChildrenCacheData(CuratorProjection projection, PathChildrenCacheProjection cacheProjection, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
     public void getPathChildrenCacheDataForPath(CuratorProjection projection, PathChildrenCacheProjection cacheProjection, String path, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
+    public void getTreeCacheChildren(CuratorProjection projection, TreeCacheProjection cacheProjection, String path, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
+    public void getTreeCacheData(CuratorProjection projection, TreeCacheProjection cacheProjection, String path, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
     public void isLeader(CuratorProjection projection, LeaderProjection leaderProjection, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
     public void newCuratorProjection(String connectionName, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
@@ -126,6 +144,8 @@ public class CuratorService {
 
     public void startPersistentEphemeralNode(CuratorProjection projection, String path, ByteBuffer data, PersistentEphemeralNodeMode mode, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
+    public void startTreeCache(CuratorProjection projection, String path, boolean cacheData, boolean dataIsCompressed, int maxDepth, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
     public void sync(CuratorProjection projection, String path, String asyncContext, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
   }
@@ -208,6 +228,34 @@ public class CuratorService {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "acquireSemaphore failed: unknown result");
     }
 
+    public List<OperationResult> batch(CuratorProjection projection, List<OperationSpec> operations, boolean atomic) throws CuratorException, org.apache.thrift.TException
+    {
+      send_batch(projection, operations, atomic);
+      return recv_batch();
+    }
+
+    public void send_batch(CuratorProjection projection, List<OperationSpec> operations, boolean atomic) throws org.apache.thrift.TException
+    {
+      batch_args args = new batch_args();
+      args.setProjection(projection);
+      args.setOperations(operations);
+      args.setAtomic(atomic);
+      sendBase("batch", args);
+    }
+
+    public List<OperationResult> recv_batch() throws CuratorException, org.apache.thrift.TException
+    {
+      batch_result result = new batch_result();
+      receiveBase(result, "batch");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      if (result.ex1 != null) {
+        throw result.ex1;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "batch failed: unknown result");
+    }
+
     public void closeCuratorProjection(CuratorProjection projection) throws org.apache.thrift.TException
     {
       send_closeCuratorProjection(projection);
@@ -441,6 +489,34 @@ public class CuratorService {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getNodeCacheData failed: unknown result");
     }
 
+    public PathChildrenCacheChanges getPathChildrenCacheChanges(CuratorProjection projection, PathChildrenCacheProjection cacheProjection, long sinceGeneration) throws CuratorException, org.apache.thrift.TException
+    {
+      send_getPathChildrenCacheChanges(projection, cacheProjection, sinceGeneration);
+      return recv_getPathChildrenCacheChanges();
+    }
+
+    public void send_getPathChildrenCacheChanges(CuratorProjection projection, PathChildrenCacheProjection cacheProjection, long sinceGeneration) throws org.apache.thrift.TException
+    {
+      getPathChildrenCacheChanges_args args = new getPathChildrenCacheChanges_args();
+      args.setProjection(projection);
+      args.setCacheProjection(cacheProjection);
+      args.setSinceGeneration(sinceGeneration);
+      sendBase("getPathChildrenCacheChanges", args);
+    }
+
+    public PathChildrenCacheChanges recv_getPathChildrenCacheChanges() throws CuratorException, org.apache.thrift.TException
+    {
+      getPathChildrenCacheChanges_result result = new getPathChildrenCacheChanges_result();
+      receiveBase(result, "getPathChildrenCacheChanges");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      if (result.ex1 != null) {
+        throw result.ex1;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getPathChildrenCacheChanges failed: unknown result");
+    }
+
     public List<ChildData> getPathChildrenCacheData(CuratorProjection projection, PathChildrenCacheProjection cacheProjection) throws CuratorException, org.apache.thrift.TException
     {
       send_getPathChildrenCacheData(projection, cacheProjection);
@@ -496,6 +572,62 @@ public class CuratorService {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getPathChildrenCacheDataForPath failed: unknown result");
     }
 
+    public List<ChildData> getTreeCacheChildren(CuratorProjection projection, TreeCacheProjection cacheProjection, String path) throws CuratorException, org.apache.thrift.TException
+    {
+      send_getTreeCacheChildren(projection, cacheProjection, path);
+      return recv_getTreeCacheChildren();
+    }
+
+    public void send_getTreeCacheChildren(CuratorProjection projection, TreeCacheProjection cacheProjection, String path) throws org.apache.thrift.TException
+    {
+      getTreeCacheChildren_args args = new getTreeCacheChildren_args();
+      args.setProjection(projection);
+      args.setCacheProjection(cacheProjection);
+      args.setPath(path);
+      sendBase("getTreeCacheChildren", args);
+    }
+
+    public List<ChildData> recv_getTreeCacheChildren() throws CuratorException, org.apache.thrift.TException
+    {
+      getTreeCacheChildren_result result = new getTreeCacheChildren_result();
+      receiveBase(result, "getTreeCacheChildren");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      if (result.ex1 != null) {
+        throw result.ex1;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getTreeCacheChildren failed: unknown result");
+    }
+
+    public ChildData getTreeCacheData(CuratorProjection projection, TreeCacheProjection cacheProjection, String path) throws CuratorException, org.apache.thrift.TException
+    {
+      send_getTreeCacheData(projection, cacheProjection, path);
+      return recv_getTreeCacheData();
+    }
+
+    public void send_getTreeCacheData(CuratorProjection projection, TreeCacheProjection cacheProjection, String path) throws org.apache.thrift.TException
+    {
+      getTreeCacheData_args args = new getTreeCacheData_args();
+      args.setProjection(projection);
+      args.setCacheProjection(cacheProjection);
+      args.setPath(path);
+      sendBase("getTreeCacheData", args);
+    }
+
+    public ChildData recv_getTreeCacheData() throws CuratorException, org.apache.thrift.TException
+    {
+      getTreeCacheData_result result = new getTreeCacheData_result();
+      receiveBase(result, "getTreeCacheData");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      if (result.ex1 != null) {
+        throw result.ex1;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getTreeCacheData failed: unknown result");
+    }
+
     public boolean isLeader(CuratorProjection projection, LeaderProjection leaderProjection) throws CuratorException, org.apache.thrift.TException
     {
       send_isLeader(projection, leaderProjection);
@@ -705,6 +837,36 @@ public class CuratorService {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "startPersistentEphemeralNode failed: unknown result");
     }
 
+    public TreeCacheProjection startTreeCache(CuratorProjection projection, String path, boolean cacheData, boolean dataIsCompressed, int maxDepth) throws CuratorException, org.apache.thrift.TException
+    {
+      send_startTreeCache(projection, path, cacheData, dataIsCompressed, maxDepth);
+      return recv_startTreeCache();
+    }
+
+    public void send_startTreeCache(CuratorProjection projection, String path, boolean cacheData, boolean dataIsCompressed, int maxDepth) throws org.apache.thrift.TException
+    {
+      startTreeCache_args args = new startTreeCache_args();
+      args.setProjection(projection);
+      args.setPath(path);
+      args.setCacheData(cacheData);
+      args.setDataIsCompressed(dataIsCompressed);
+      args.setMaxDepth(maxDepth);
+      sendBase("startTreeCache", args);
+    }
+
+    public TreeCacheProjection recv_startTreeCache() throws CuratorException, org.apache.thrift.TException
+    {
+      startTreeCache_result result = new startTreeCache_result();
+      receiveBase(result, "startTreeCache");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      if (result.ex1 != null) {
+        throw result.ex1;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "startTreeCache failed: unknown result");
+    }
+
     public void sync(CuratorProjection projection, String path, String asyncContext) throws CuratorException, org.apache.thrift.TException
     {
       send_sync(projection, path, asyncContext);
@@ -830,6 +992,44 @@ public class CuratorService {
       }
     }
 
+    public void batch(CuratorProjection projection, List<OperationSpec> operations, boolean atomic, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      batch_call method_call = new batch_call(projection, operations, atomic, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class batch_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private CuratorProjection projection;
+      private List<OperationSpec> operations;
+      private boolean atomic;
+      public batch_call(CuratorProjection projection, List<OperationSpec> operations, boolean atomic, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.projection = projection;
+        this.operations = operations;
+        this.atomic = atomic;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("batch", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        batch_args args = new batch_args();
+        args.setProjection(projection);
+        args.setOperations(operations);
+        args.setAtomic(atomic);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public List<OperationResult> getResult() throws CuratorException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_batch();
+      }
+    }
+
     public void closeCuratorProjection(CuratorProjection projection, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
       checkReady();
       closeCuratorProjection_call method_call = new closeCuratorProjection_call(projection, resultHandler, this, ___protocolFactory, ___transport);
@@ -1142,6 +1342,44 @@ public class CuratorService {
       }
     }
 
+    public void getPathChildrenCacheChanges(CuratorProjection projection, PathChildrenCacheProjection cacheProjection, long sinceGeneration, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      getPathChildrenCacheChanges_call method_call = new getPathChildrenCacheChanges_call(projection, cacheProjection, sinceGeneration, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class getPathChildrenCacheChanges_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private CuratorProjection projection;
+      private PathChildrenCacheProjection cacheProjection;
+      private long sinceGeneration;
+      public getPathChildrenCacheChanges_call(CuratorProjection projection, PathChildrenCacheProjection cacheProjection, long sinceGeneration, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.projection = projection;
+        this.cacheProjection = cacheProjection;
+        this.sinceGeneration = sinceGeneration;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("getPathChildrenCacheChanges", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        getPathChildrenCacheChanges_args args = new getPathChildrenCacheChanges_args();
+        args.setProjection(projection);
+        args.setCacheProjection(cacheProjection);
+        args.setSinceGeneration(sinceGeneration);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public PathChildrenCacheChanges getResult() throws CuratorException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_getPathChildrenCacheChanges();
+      }
+    }
+
     public void getPathChildrenCacheData(CuratorProjection projection, PathChildrenCacheProjection cacheProjection, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
       checkReady();
       getPathChildrenCacheData_call method_call = new getPathChildrenCacheData_call(projection, cacheProjection, resultHandler, this, ___protocolFactory, ___transport);
@@ -1215,6 +1453,82 @@ public class CuratorService {
       }
     }
 
+    public void getTreeCacheChildren(CuratorProjection projection, TreeCacheProjection cacheProjection, String path, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      getTreeCacheChildren_call method_call = new getTreeCacheChildren_call(projection, cacheProjection, path, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class getTreeCacheChildren_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private CuratorProjection projection;
+      private TreeCacheProjection cacheProjection;
+      private String path;
+      public getTreeCacheChildren_call(CuratorProjection projection, TreeCacheProjection cacheProjection, String path, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.projection = projection;
+        this.cacheProjection = cacheProjection;
+        this.path = path;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("getTreeCacheChildren", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        getTreeCacheChildren_args args = new getTreeCacheChildren_args();
+        args.setProjection(projection);
+        args.setCacheProjection(cacheProjection);
+        args.setPath(path);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public List<ChildData> getResult() throws CuratorException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_getTreeCacheChildren();
+      }
+    }
+
+    public void getTreeCacheData(CuratorProjection projection, TreeCacheProjection cacheProjection, String path, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      getTreeCacheData_call method_call = new getTreeCacheData_call(projection, cacheProjection, path, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class getTreeCacheData_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private CuratorProjection projection;
+      private TreeCacheProjection cacheProjection;
+      private String path;
+      public getTreeCacheData_call(CuratorProjection projection, TreeCacheProjection cacheProjection, String path, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.projection = projection;
+        this.cacheProjection = cacheProjection;
+        this.path = path;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("getTreeCacheData", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        getTreeCacheData_args args = new getTreeCacheData_args();
+        args.setProjection(projection);
+        args.setCacheProjection(cacheProjection);
+        args.setPath(path);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public ChildData getResult() throws CuratorException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_getTreeCacheData();
+      }
+    }
+
     public void isLeader(CuratorProjection projection, LeaderProjection leaderProjection, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
       checkReady();
       isLeader_call method_call = new isLeader_call(projection, leaderProjection, resultHandler, this, ___protocolFactory, ___transport);
@@ -1515,6 +1829,50 @@ public class CuratorService {
       }
     }
 
+    public void startTreeCache(CuratorProjection projection, String path, boolean cacheData, boolean dataIsCompressed, int maxDepth, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      startTreeCache_call method_call = new startTreeCache_call(projection, path, cacheData, dataIsCompressed, maxDepth, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class startTreeCache_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private CuratorProjection projection;
+      private String path;
+      private boolean cacheData;
+      private boolean dataIsCompressed;
+      private int maxDepth;
+      public startTreeCache_call(CuratorProjection projection, String path, boolean cacheData, boolean dataIsCompressed, int maxDepth, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.projection = projection;
+        this.path = path;
+        this.cacheData = cacheData;
+        this.dataIsCompressed = dataIsCompressed;
+        this.maxDepth = maxDepth;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("startTreeCache", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        startTreeCache_args args = new startTreeCache_args();
+        args.setProjection(projection);
+        args.setPath(path);
+        args.setCacheData(cacheData);
+        args.setDataIsCompressed(dataIsCompressed);
+        args.setMaxDepth(maxDepth);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public TreeCacheProjection getResult() throws CuratorException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_startTreeCache();
+      }
+    }
+
     public void sync(CuratorProjection projection, String path, String asyncContext, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
       checkReady();
       sync_call method_call = new sync_call(projection, path, asyncContext, resultHandler, this, ___protocolFactory, ___transport);
@@ -1568,6 +1926,7 @@ public class CuratorService {
     private static <I extends Iface> Map<String,  org.apache.thrift.ProcessFunction<I, ? extends  org.apache.thrift.TBase>> getProcessMap(Map<String,  org.apache.thrift.ProcessFunction<I, ? extends  org.apache.thrift.TBase>> processMap) {
       processMap.put("acquireLock", new acquireLock());
       processMap.put("acquireSemaphore", new acquireSemaphore());
+      processMap.put("batch", new batch());
       processMap.put("closeCuratorProjection", new closeCuratorProjection());
       processMap.put("closeGenericProjection", new closeGenericProjection());
       processMap.put("createNode", new createNode());
@@ -1577,8 +1936,11 @@ public class CuratorService {
       processMap.put("getData", new getData());
       processMap.put("getLeaderParticipants", new getLeaderParticipants());
       processMap.put("getNodeCacheData", new getNodeCacheData());
+      processMap.put("getPathChildrenCacheChanges", new getPathChildrenCacheChanges());
       processMap.put("getPathChildrenCacheData", new getPathChildrenCacheData());
       processMap.put("getPathChildrenCacheDataForPath", new getPathChildrenCacheDataForPath());
+      processMap.put("getTreeCacheChildren", new getTreeCacheChildren());
+      processMap.put("getTreeCacheData", new getTreeCacheData());
       processMap.put("isLeader", new isLeader());
       processMap.put("newCuratorProjection", new newCuratorProjection());
       processMap.put("pingCuratorProjection", new pingCuratorProjection());
@@ -1587,6 +1949,7 @@ public class CuratorService {
       processMap.put("startNodeCache", new startNodeCache());
       processMap.put("startPathChildrenCache", new startPathChildrenCache());
       processMap.put("startPersistentEphemeralNode", new startPersistentEphemeralNode());
+      processMap.put("startTreeCache", new startTreeCache());
       processMap.put("sync", new sync());
       return processMap;
     }
@@ -1639,28 +2002,52 @@ public class CuratorService {
       }
     }
 
-    public static class closeCuratorProjection<I extends Iface> extends org.apache.thrift.ProcessFunction<I, closeCuratorProjection_args> {
-      public closeCuratorProjection() {
-        super("closeCuratorProjection");
+    public static class batch<I extends Iface> extends org.apache.thrift.ProcessFunction<I, batch_args> {
+      public batch() {
+        super("batch");
       }
 
-      public closeCuratorProjection_args getEmptyArgsInstance() {
-        return new closeCuratorProjection_args();
+      public batch_args getEmptyArgsInstance() {
+        return new batch_args();
       }
 
       protected boolean isOneway() {
         return false;
       }
 
-      public closeCuratorProjection_result getResult(I iface, closeCuratorProjection_args args) throws org.apache.thrift.TException {
-        closeCuratorProjection_result result = new closeCuratorProjection_result();
-        iface.closeCuratorProjection(args.projection);
+      public batch_result getResult(I iface, batch_args args) throws org.apache.thrift.TException {
+        batch_result result = new batch_result();
+        try {
+          result.success = iface.batch(args.projection, args.operations, args.atomic);
+        } catch (CuratorException ex1) {
+          result.ex1 = ex1;
+        }
         return result;
       }
     }
 
-    public static class closeGenericProjection<I extends Iface> extends org.apache.thrift.ProcessFunction<I, closeGenericProjection_args> {
-      public closeGenericProjection() {
+    public static class closeCuratorProjection<I extends Iface> extends org.apache.thrift.ProcessFunction<I, closeCuratorProjection_args> {
+      public closeCuratorProjection() {
+        super("closeCuratorProjection");
+      }
+
+      public closeCuratorProjection_args getEmptyArgsInstance() {
+        return new closeCuratorProjection_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public closeCuratorProjection_result getResult(I iface, closeCuratorProjection_args args) throws org.apache.thrift.TException {
+        closeCuratorProjection_result result = new closeCuratorProjection_result();
+        iface.closeCuratorProjection(args.projection);
+        return result;
+      }
+    }
+
+    public static class closeGenericProjection<I extends Iface> extends org.apache.thrift.ProcessFunction<I, closeGenericProjection_args> {
+      public closeGenericProjection() {
         super("closeGenericProjection");
       }
 
@@ -1852,6 +2239,30 @@ public class CuratorService {
       }
     }
 
+    public static class getPathChildrenCacheChanges<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getPathChildrenCacheChanges_args> {
+      public getPathChildrenCacheChanges() {
+        super("getPathChildrenCacheChanges");
+      }
+
+      public getPathChildrenCacheChanges_args getEmptyArgsInstance() {
+        return new getPathChildrenCacheChanges_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public getPathChildrenCacheChanges_result getResult(I iface, getPathChildrenCacheChanges_args args) throws org.apache.thrift.TException {
+        getPathChildrenCacheChanges_result result = new getPathChildrenCacheChanges_result();
+        try {
+          result.success = iface.getPathChildrenCacheChanges(args.projection, args.cacheProjection, args.sinceGeneration);
+        } catch (CuratorException ex1) {
+          result.ex1 = ex1;
+        }
+        return result;
+      }
+    }
+
     public static class getPathChildrenCacheData<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getPathChildrenCacheData_args> {
       public getPathChildrenCacheData() {
         super("getPathChildrenCacheData");
@@ -1900,6 +2311,54 @@ public class CuratorService {
       }
     }
 
+    public static class getTreeCacheChildren<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getTreeCacheChildren_args> {
+      public getTreeCacheChildren() {
+        super("getTreeCacheChildren");
+      }
+
+      public getTreeCacheChildren_args getEmptyArgsInstance() {
+        return new getTreeCacheChildren_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public getTreeCacheChildren_result getResult(I iface, getTreeCacheChildren_args args) throws org.apache.thrift.TException {
+        getTreeCacheChildren_result result = new getTreeCacheChildren_result();
+        try {
+          result.success = iface.getTreeCacheChildren(args.projection, args.cacheProjection, args.path);
+        } catch (CuratorException ex1) {
+          result.ex1 = ex1;
+        }
+        return result;
+      }
+    }
+
+    public static class getTreeCacheData<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getTreeCacheData_args> {
+      public getTreeCacheData() {
+        super("getTreeCacheData");
+      }
+
+      public getTreeCacheData_args getEmptyArgsInstance() {
+        return new getTreeCacheData_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public getTreeCacheData_result getResult(I iface, getTreeCacheData_args args) throws org.apache.thrift.TException {
+        getTreeCacheData_result result = new getTreeCacheData_result();
+        try {
+          result.success = iface.getTreeCacheData(args.projection, args.cacheProjection, args.path);
+        } catch (CuratorException ex1) {
+          result.ex1 = ex1;
+        }
+        return result;
+      }
+    }
+
     public static class isLeader<I extends Iface> extends org.apache.thrift.ProcessFunction<I, isLeader_args> {
       public isLeader() {
         super("isLeader");
@@ -2088,6 +2547,30 @@ public class CuratorService {
       }
     }
 
+    public static class startTreeCache<I extends Iface> extends org.apache.thrift.ProcessFunction<I, startTreeCache_args> {
+      public startTreeCache() {
+        super("startTreeCache");
+      }
+
+      public startTreeCache_args getEmptyArgsInstance() {
+        return new startTreeCache_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public startTreeCache_result getResult(I iface, startTreeCache_args args) throws org.apache.thrift.TException {
+        startTreeCache_result result = new startTreeCache_result();
+        try {
+          result.success = iface.startTreeCache(args.projection, args.path, args.cacheData, args.dataIsCompressed, args.maxDepth);
+        } catch (CuratorException ex1) {
+          result.ex1 = ex1;
+        }
+        return result;
+      }
+    }
+
     public static class sync<I extends Iface> extends org.apache.thrift.ProcessFunction<I, sync_args> {
       public sync() {
         super("sync");
@@ -2127,6 +2610,7 @@ public class CuratorService {
     private static <I extends AsyncIface> Map<String,  org.apache.thrift.AsyncProcessFunction<I, ? extends  org.apache.thrift.TBase,?>> getProcessMap(Map<String,  org.apache.thrift.AsyncProcessFunction<I, ? extends  org.apache.thrift.TBase, ?>> processMap) {
       processMap.put("acquireLock", new acquireLock());
       processMap.put("acquireSemaphore", new acquireSemaphore());
+      processMap.put("batch", new batch());
       processMap.put("closeCuratorProjection", new closeCuratorProjection());
       processMap.put("closeGenericProjection", new closeGenericProjection());
       processMap.put("createNode", new createNode());
@@ -2136,8 +2620,11 @@ public class CuratorService {
       processMap.put("getData", new getData());
       processMap.put("getLeaderParticipants", new getLeaderParticipants());
       processMap.put("getNodeCacheData", new getNodeCacheData());
+      processMap.put("getPathChildrenCacheChanges", new getPathChildrenCacheChanges());
       processMap.put("getPathChildrenCacheData", new getPathChildrenCacheData());
       processMap.put("getPathChildrenCacheDataForPath", new getPathChildrenCacheDataForPath());
+      processMap.put("getTreeCacheChildren", new getTreeCacheChildren());
+      processMap.put("getTreeCacheData", new getTreeCacheData());
       processMap.put("isLeader", new isLeader());
       processMap.put("newCuratorProjection", new newCuratorProjection());
       processMap.put("pingCuratorProjection", new pingCuratorProjection());
@@ -2146,6 +2633,7 @@ public class CuratorService {
       processMap.put("startNodeCache", new startNodeCache());
       processMap.put("startPathChildrenCache", new startPathChildrenCache());
       processMap.put("startPersistentEphemeralNode", new startPersistentEphemeralNode());
+      processMap.put("startTreeCache", new startTreeCache());
       processMap.put("sync", new sync());
       return processMap;
     }
@@ -2264,6 +2752,63 @@ public class CuratorService {
       }
     }
 
+    public static class batch<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, batch_args, List<OperationResult>> {
+      public batch() {
+        super("batch");
+      }
+
+      public batch_args getEmptyArgsInstance() {
+        return new batch_args();
+      }
+
+      public AsyncMethodCallback<List<OperationResult>> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<List<OperationResult>>() { 
+          public void onComplete(List<OperationResult> o) {
+            batch_result result = new batch_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            batch_result result = new batch_result();
+            if (e instanceof CuratorException) {
+                        result.ex1 = (CuratorException) e;
+                        result.setEx1IsSet(true);
+                        msg = result;
+            }
+             else 
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, batch_args args, org.apache.thrift.async.AsyncMethodCallback<List<OperationResult>> resultHandler) throws TException {
+        iface.batch(args.projection, args.operations, args.atomic,resultHandler);
+      }
+    }
+
     public static class closeCuratorProjection<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, closeCuratorProjection_args, Void> {
       public closeCuratorProjection() {
         super("closeCuratorProjection");
@@ -2770,6 +3315,63 @@ public class CuratorService {
       }
     }
 
+    public static class getPathChildrenCacheChanges<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getPathChildrenCacheChanges_args, PathChildrenCacheChanges> {
+      public getPathChildrenCacheChanges() {
+        super("getPathChildrenCacheChanges");
+      }
+
+      public getPathChildrenCacheChanges_args getEmptyArgsInstance() {
+        return new getPathChildrenCacheChanges_args();
+      }
+
+      public AsyncMethodCallback<PathChildrenCacheChanges> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<PathChildrenCacheChanges>() { 
+          public void onComplete(PathChildrenCacheChanges o) {
+            getPathChildrenCacheChanges_result result = new getPathChildrenCacheChanges_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            getPathChildrenCacheChanges_result result = new getPathChildrenCacheChanges_result();
+            if (e instanceof CuratorException) {
+                        result.ex1 = (CuratorException) e;
+                        result.setEx1IsSet(true);
+                        msg = result;
+            }
+             else 
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, getPathChildrenCacheChanges_args args, org.apache.thrift.async.AsyncMethodCallback<PathChildrenCacheChanges> resultHandler) throws TException {
+        iface.getPathChildrenCacheChanges(args.projection, args.cacheProjection, args.sinceGeneration,resultHandler);
+      }
+    }
+
     public static class getPathChildrenCacheData<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getPathChildrenCacheData_args, List<ChildData>> {
       public getPathChildrenCacheData() {
         super("getPathChildrenCacheData");
@@ -2884,22 +3486,21 @@ public class CuratorService {
       }
     }
 
-    public static class isLeader<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, isLeader_args, Boolean> {
-      public isLeader() {
-        super("isLeader");
+    public static class getTreeCacheChildren<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getTreeCacheChildren_args, List<ChildData>> {
+      public getTreeCacheChildren() {
+        super("getTreeCacheChildren");
       }
 
-      public isLeader_args getEmptyArgsInstance() {
-        return new isLeader_args();
+      public getTreeCacheChildren_args getEmptyArgsInstance() {
+        return new getTreeCacheChildren_args();
       }
 
-      public AsyncMethodCallback<Boolean> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+      public AsyncMethodCallback<List<ChildData>> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new AsyncMethodCallback<Boolean>() { 
-          public void onComplete(Boolean o) {
-            isLeader_result result = new isLeader_result();
+        return new AsyncMethodCallback<List<ChildData>>() { 
+          public void onComplete(List<ChildData> o) {
+            getTreeCacheChildren_result result = new getTreeCacheChildren_result();
             result.success = o;
-            result.setSuccessIsSet(true);
             try {
               fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
               return;
@@ -2911,7 +3512,7 @@ public class CuratorService {
           public void onError(Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TBase msg;
-            isLeader_result result = new isLeader_result();
+            getTreeCacheChildren_result result = new getTreeCacheChildren_result();
             if (e instanceof CuratorException) {
                         result.ex1 = (CuratorException) e;
                         result.setEx1IsSet(true);
@@ -2937,25 +3538,25 @@ public class CuratorService {
         return false;
       }
 
-      public void start(I iface, isLeader_args args, org.apache.thrift.async.AsyncMethodCallback<Boolean> resultHandler) throws TException {
-        iface.isLeader(args.projection, args.leaderProjection,resultHandler);
+      public void start(I iface, getTreeCacheChildren_args args, org.apache.thrift.async.AsyncMethodCallback<List<ChildData>> resultHandler) throws TException {
+        iface.getTreeCacheChildren(args.projection, args.cacheProjection, args.path,resultHandler);
       }
     }
 
-    public static class newCuratorProjection<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, newCuratorProjection_args, CuratorProjection> {
-      public newCuratorProjection() {
-        super("newCuratorProjection");
+    public static class getTreeCacheData<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getTreeCacheData_args, ChildData> {
+      public getTreeCacheData() {
+        super("getTreeCacheData");
       }
 
-      public newCuratorProjection_args getEmptyArgsInstance() {
-        return new newCuratorProjection_args();
+      public getTreeCacheData_args getEmptyArgsInstance() {
+        return new getTreeCacheData_args();
       }
 
-      public AsyncMethodCallback<CuratorProjection> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+      public AsyncMethodCallback<ChildData> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new AsyncMethodCallback<CuratorProjection>() { 
-          public void onComplete(CuratorProjection o) {
-            newCuratorProjection_result result = new newCuratorProjection_result();
+        return new AsyncMethodCallback<ChildData>() { 
+          public void onComplete(ChildData o) {
+            getTreeCacheData_result result = new getTreeCacheData_result();
             result.success = o;
             try {
               fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
@@ -2968,7 +3569,7 @@ public class CuratorService {
           public void onError(Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TBase msg;
-            newCuratorProjection_result result = new newCuratorProjection_result();
+            getTreeCacheData_result result = new getTreeCacheData_result();
             if (e instanceof CuratorException) {
                         result.ex1 = (CuratorException) e;
                         result.setEx1IsSet(true);
@@ -2994,54 +3595,27 @@ public class CuratorService {
         return false;
       }
 
-      public void start(I iface, newCuratorProjection_args args, org.apache.thrift.async.AsyncMethodCallback<CuratorProjection> resultHandler) throws TException {
-        iface.newCuratorProjection(args.connectionName,resultHandler);
-      }
-    }
-
-    public static class pingCuratorProjection<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, pingCuratorProjection_args, Void> {
-      public pingCuratorProjection() {
-        super("pingCuratorProjection");
-      }
-
-      public pingCuratorProjection_args getEmptyArgsInstance() {
-        return new pingCuratorProjection_args();
-      }
-
-      public AsyncMethodCallback<Void> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
-        final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new AsyncMethodCallback<Void>() { 
-          public void onComplete(Void o) {
-          }
-          public void onError(Exception e) {
-          }
-        };
-      }
-
-      protected boolean isOneway() {
-        return true;
-      }
-
-      public void start(I iface, pingCuratorProjection_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
-        iface.pingCuratorProjection(args.projection,resultHandler);
+      public void start(I iface, getTreeCacheData_args args, org.apache.thrift.async.AsyncMethodCallback<ChildData> resultHandler) throws TException {
+        iface.getTreeCacheData(args.projection, args.cacheProjection, args.path,resultHandler);
       }
     }
 
-    public static class setData<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, setData_args, OptionalStat> {
-      public setData() {
-        super("setData");
+    public static class isLeader<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, isLeader_args, Boolean> {
+      public isLeader() {
+        super("isLeader");
       }
 
-      public setData_args getEmptyArgsInstance() {
-        return new setData_args();
+      public isLeader_args getEmptyArgsInstance() {
+        return new isLeader_args();
       }
 
-      public AsyncMethodCallback<OptionalStat> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+      public AsyncMethodCallback<Boolean> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new AsyncMethodCallback<OptionalStat>() { 
-          public void onComplete(OptionalStat o) {
-            setData_result result = new setData_result();
+        return new AsyncMethodCallback<Boolean>() { 
+          public void onComplete(Boolean o) {
+            isLeader_result result = new isLeader_result();
             result.success = o;
+            result.setSuccessIsSet(true);
             try {
               fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
               return;
@@ -3053,7 +3627,149 @@ public class CuratorService {
           public void onError(Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TBase msg;
-            setData_result result = new setData_result();
+            isLeader_result result = new isLeader_result();
+            if (e instanceof CuratorException) {
+                        result.ex1 = (CuratorException) e;
+                        result.setEx1IsSet(true);
+                        msg = result;
+            }
+             else 
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, isLeader_args args, org.apache.thrift.async.AsyncMethodCallback<Boolean> resultHandler) throws TException {
+        iface.isLeader(args.projection, args.leaderProjection,resultHandler);
+      }
+    }
+
+    public static class newCuratorProjection<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, newCuratorProjection_args, CuratorProjection> {
+      public newCuratorProjection() {
+        super("newCuratorProjection");
+      }
+
+      public newCuratorProjection_args getEmptyArgsInstance() {
+        return new newCuratorProjection_args();
+      }
+
+      public AsyncMethodCallback<CuratorProjection> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<CuratorProjection>() { 
+          public void onComplete(CuratorProjection o) {
+            newCuratorProjection_result result = new newCuratorProjection_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            newCuratorProjection_result result = new newCuratorProjection_result();
+            if (e instanceof CuratorException) {
+                        result.ex1 = (CuratorException) e;
+                        result.setEx1IsSet(true);
+                        msg = result;
+            }
+             else 
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, newCuratorProjection_args args, org.apache.thrift.async.AsyncMethodCallback<CuratorProjection> resultHandler) throws TException {
+        iface.newCuratorProjection(args.connectionName,resultHandler);
+      }
+    }
+
+    public static class pingCuratorProjection<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, pingCuratorProjection_args, Void> {
+      public pingCuratorProjection() {
+        super("pingCuratorProjection");
+      }
+
+      public pingCuratorProjection_args getEmptyArgsInstance() {
+        return new pingCuratorProjection_args();
+      }
+
+      public AsyncMethodCallback<Void> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<Void>() { 
+          public void onComplete(Void o) {
+          }
+          public void onError(Exception e) {
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return true;
+      }
+
+      public void start(I iface, pingCuratorProjection_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
+        iface.pingCuratorProjection(args.projection,resultHandler);
+      }
+    }
+
+    public static class setData<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, setData_args, OptionalStat> {
+      public setData() {
+        super("setData");
+      }
+
+      public setData_args getEmptyArgsInstance() {
+        return new setData_args();
+      }
+
+      public AsyncMethodCallback<OptionalStat> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<OptionalStat>() { 
+          public void onComplete(OptionalStat o) {
+            setData_result result = new setData_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            setData_result result = new setData_result();
             if (e instanceof CuratorException) {
                         result.ex1 = (CuratorException) e;
                         result.setEx1IsSet(true);
@@ -3312,6 +4028,63 @@ public class CuratorService {
       }
     }
 
+    public static class startTreeCache<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, startTreeCache_args, TreeCacheProjection> {
+      public startTreeCache() {
+        super("startTreeCache");
+      }
+
+      public startTreeCache_args getEmptyArgsInstance() {
+        return new startTreeCache_args();
+      }
+
+      public AsyncMethodCallback<TreeCacheProjection> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<TreeCacheProjection>() { 
+          public void onComplete(TreeCacheProjection o) {
+            startTreeCache_result result = new startTreeCache_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            startTreeCache_result result = new startTreeCache_result();
+            if (e instanceof CuratorException) {
+                        result.ex1 = (CuratorException) e;
+                        result.setEx1IsSet(true);
+                        msg = result;
+            }
+             else 
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, startTreeCache_args args, org.apache.thrift.async.AsyncMethodCallback<TreeCacheProjection> resultHandler) throws TException {
+        iface.startTreeCache(args.projection, args.path, args.cacheData, args.dataIsCompressed, args.maxDepth,resultHandler);
+      }
+    }
+
     public static class sync<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, sync_args, Void> {
       public sync() {
         super("sync");
@@ -5519,14 +6292,14 @@ public class CuratorService {
             case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
                 {
-                  org.apache.thrift.protocol.TList _list24 = iprot.readListBegin();
-                  struct.success = new ArrayList<LeaseProjection>(_list24.size);
-                  for (int _i25 = 0; _i25 < _list24.size; ++_i25)
+                  org.apache.thrift.protocol.TList _list56 = iprot.readListBegin();
+                  struct.success = new ArrayList<LeaseProjection>(_list56.size);
+                  for (int _i57 = 0; _i57 < _list56.size; ++_i57)
                   {
-                    LeaseProjection _elem26;
-                    _elem26 = new LeaseProjection();
-                    _elem26.read(iprot);
-                    struct.success.add(_elem26);
+                    LeaseProjection _elem58;
+                    _elem58 = new LeaseProjection();
+                    _elem58.read(iprot);
+                    struct.success.add(_elem58);
                   }
                   iprot.readListEnd();
                 }
@@ -5563,9 +6336,9 @@ public class CuratorService {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
           {
             oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
-            for (LeaseProjection _iter27 : struct.success)
+            for (LeaseProjection _iter59 : struct.success)
             {
-              _iter27.write(oprot);
+              _iter59.write(oprot);
             }
             oprot.writeListEnd();
           }
@@ -5604,9 +6377,9 @@ public class CuratorService {
         if (struct.isSetSuccess()) {
           {
             oprot.writeI32(struct.success.size());
-            for (LeaseProjection _iter28 : struct.success)
+            for (LeaseProjection _iter60 : struct.success)
             {
-              _iter28.write(oprot);
+              _iter60.write(oprot);
             }
           }
         }
@@ -5621,14 +6394,14 @@ public class CuratorService {
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
           {
-            org.apache.thrift.protocol.TList _list29 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
-            struct.success = new ArrayList<LeaseProjection>(_list29.size);
-            for (int _i30 = 0; _i30 < _list29.size; ++_i30)
+            org.apache.thrift.protocol.TList _list61 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.success = new ArrayList<LeaseProjection>(_list61.size);
+            for (int _i62 = 0; _i62 < _list61.size; ++_i62)
             {
-              LeaseProjection _elem31;
-              _elem31 = new LeaseProjection();
-              _elem31.read(iprot);
-              struct.success.add(_elem31);
+              LeaseProjection _elem63;
+              _elem63 = new LeaseProjection();
+              _elem63.read(iprot);
+              struct.success.add(_elem63);
             }
           }
           struct.setSuccessIsSet(true);
@@ -5643,22 +6416,28 @@ public class CuratorService {
 
   }
 
-  public static class closeCuratorProjection_args implements org.apache.thrift.TBase<closeCuratorProjection_args, closeCuratorProjection_args._Fields>, java.io.Serializable, Cloneable, Comparable<closeCuratorProjection_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("closeCuratorProjection_args");
+  public static class batch_args implements org.apache.thrift.TBase<batch_args, batch_args._Fields>, java.io.Serializable, Cloneable, Comparable<batch_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("batch_args");
 
     private static final org.apache.thrift.protocol.TField PROJECTION_FIELD_DESC = new org.apache.thrift.protocol.TField("projection", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField OPERATIONS_FIELD_DESC = new org.apache.thrift.protocol.TField("operations", org.apache.thrift.protocol.TType.LIST, (short)2);
+    private static final org.apache.thrift.protocol.TField ATOMIC_FIELD_DESC = new org.apache.thrift.protocol.TField("atomic", org.apache.thrift.protocol.TType.BOOL, (short)3);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new closeCuratorProjection_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new closeCuratorProjection_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new batch_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new batch_argsTupleSchemeFactory());
     }
 
     public CuratorProjection projection; // required
+    public List<OperationSpec> operations; // required
+    public boolean atomic; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      PROJECTION((short)1, "projection");
+      PROJECTION((short)1, "projection"),
+      OPERATIONS((short)2, "operations"),
+      ATOMIC((short)3, "atomic");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -5675,6 +6454,10 @@ public class CuratorService {
         switch(fieldId) {
           case 1: // PROJECTION
             return PROJECTION;
+          case 2: // OPERATIONS
+            return OPERATIONS;
+          case 3: // ATOMIC
+            return ATOMIC;
           default:
             return null;
         }
@@ -5715,48 +6498,72 @@ public class CuratorService {
     }
 
     // isset id assignments
+    private static final int __ATOMIC_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.PROJECTION, new org.apache.thrift.meta_data.FieldMetaData("projection", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CuratorProjection.class)));
+      tmpMap.put(_Fields.OPERATIONS, new org.apache.thrift.meta_data.FieldMetaData("operations", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, OperationSpec.class))));
+      tmpMap.put(_Fields.ATOMIC, new org.apache.thrift.meta_data.FieldMetaData("atomic", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(closeCuratorProjection_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(batch_args.class, metaDataMap);
     }
 
-    public closeCuratorProjection_args() {
+    public batch_args() {
     }
 
-    public closeCuratorProjection_args(
-      CuratorProjection projection)
+    public batch_args(
+      CuratorProjection projection,
+      List<OperationSpec> operations,
+      boolean atomic)
     {
       this();
       this.projection = projection;
+      this.operations = operations;
+      this.atomic = atomic;
+      setAtomicIsSet(true);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public closeCuratorProjection_args(closeCuratorProjection_args other) {
+    public batch_args(batch_args other) {
+      __isset_bitfield = other.__isset_bitfield;
       if (other.isSetProjection()) {
         this.projection = new CuratorProjection(other.projection);
       }
+      if (other.isSetOperations()) {
+        List<OperationSpec> __this__operations = new ArrayList<OperationSpec>(other.operations.size());
+        for (OperationSpec other_element : other.operations) {
+          __this__operations.add(new OperationSpec(other_element));
+        }
+        this.operations = __this__operations;
+      }
+      this.atomic = other.atomic;
     }
 
-    public closeCuratorProjection_args deepCopy() {
-      return new closeCuratorProjection_args(this);
+    public batch_args deepCopy() {
+      return new batch_args(this);
     }
 
     @Override
     public void clear() {
       this.projection = null;
+      this.operations = null;
+      setAtomicIsSet(false);
+      this.atomic = false;
     }
 
     public CuratorProjection getProjection() {
       return this.projection;
     }
 
-    public closeCuratorProjection_args setProjection(CuratorProjection projection) {
+    public batch_args setProjection(CuratorProjection projection) {
       this.projection = projection;
       return this;
     }
@@ -5776,6 +6583,68 @@ public class CuratorService {
       }
     }
 
+    public int getOperationsSize() {
+      return (this.operations == null) ? 0 : this.operations.size();
+    }
+
+    public java.util.Iterator<OperationSpec> getOperationsIterator() {
+      return (this.operations == null) ? null : this.operations.iterator();
+    }
+
+    public void addToOperations(OperationSpec elem) {
+      if (this.operations == null) {
+        this.operations = new ArrayList<OperationSpec>();
+      }
+      this.operations.add(elem);
+    }
+
+    public List<OperationSpec> getOperations() {
+      return this.operations;
+    }
+
+    public batch_args setOperations(List<OperationSpec> operations) {
+      this.operations = operations;
+      return this;
+    }
+
+    public void unsetOperations() {
+      this.operations = null;
+    }
+
+    /** Returns true if field operations is set (has been assigned a value) and false otherwise */
+    public boolean isSetOperations() {
+      return this.operations != null;
+    }
+
+    public void setOperationsIsSet(boolean value) {
+      if (!value) {
+        this.operations = null;
+      }
+    }
+
+    public boolean isAtomic() {
+      return this.atomic;
+    }
+
+    public batch_args setAtomic(boolean atomic) {
+      this.atomic = atomic;
+      setAtomicIsSet(true);
+      return this;
+    }
+
+    public void unsetAtomic() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __ATOMIC_ISSET_ID);
+    }
+
+    /** Returns true if field atomic is set (has been assigned a value) and false otherwise */
+    public boolean isSetAtomic() {
+      return EncodingUtils.testBit(__isset_bitfield, __ATOMIC_ISSET_ID);
+    }
+
+    public void setAtomicIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __ATOMIC_ISSET_ID, value);
+    }
+
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
       case PROJECTION:
@@ -5786,6 +6655,22 @@ public class CuratorService {
         }
         break;
 
+      case OPERATIONS:
+        if (value == null) {
+          unsetOperations();
+        } else {
+          setOperations((List<OperationSpec>)value);
+        }
+        break;
+
+      case ATOMIC:
+        if (value == null) {
+          unsetAtomic();
+        } else {
+          setAtomic((Boolean)value);
+        }
+        break;
+
       }
     }
 
@@ -5794,6 +6679,12 @@ public class CuratorService {
       case PROJECTION:
         return getProjection();
 
+      case OPERATIONS:
+        return getOperations();
+
+      case ATOMIC:
+        return Boolean.valueOf(isAtomic());
+
       }
       throw new IllegalStateException();
     }
@@ -5807,6 +6698,10 @@ public class CuratorService {
       switch (field) {
       case PROJECTION:
         return isSetProjection();
+      case OPERATIONS:
+        return isSetOperations();
+      case ATOMIC:
+        return isSetAtomic();
       }
       throw new IllegalStateException();
     }
@@ -5815,12 +6710,12 @@ public class CuratorService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof closeCuratorProjection_args)
-        return this.equals((closeCuratorProjection_args)that);
+      if (that instanceof batch_args)
+        return this.equals((batch_args)that);
       return false;
     }
 
-    public boolean equals(closeCuratorProjection_args that) {
+    public boolean equals(batch_args that) {
       if (that == null)
         return false;
 
@@ -5833,8 +6728,26 @@ public class CuratorService {
           return false;
       }
 
-      return true;
-    }
+      boolean this_present_operations = true && this.isSetOperations();
+      boolean that_present_operations = true && that.isSetOperations();
+      if (this_present_operations || that_present_operations) {
+        if (!(this_present_operations && that_present_operations))
+          return false;
+        if (!this.operations.equals(that.operations))
+          return false;
+      }
+
+      boolean this_present_atomic = true;
+      boolean that_present_atomic = true;
+      if (this_present_atomic || that_present_atomic) {
+        if (!(this_present_atomic && that_present_atomic))
+          return false;
+        if (this.atomic != that.atomic)
+          return false;
+      }
+
+      return true;
+    }
 
     @Override
     public int hashCode() {
@@ -5842,7 +6755,7 @@ public class CuratorService {
     }
 
     @Override
-    public int compareTo(closeCuratorProjection_args other) {
+    public int compareTo(batch_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -5859,6 +6772,26 @@ public class CuratorService {
           return lastComparison;
         }
       }
+      lastComparison = Boolean.valueOf(isSetOperations()).compareTo(other.isSetOperations());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetOperations()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.operations, other.operations);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetAtomic()).compareTo(other.isSetAtomic());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetAtomic()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.atomic, other.atomic);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -5876,7 +6809,7 @@ public class CuratorService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("closeCuratorProjection_args(");
+      StringBuilder sb = new StringBuilder("batch_args(");
       boolean first = true;
 
       sb.append("projection:");
@@ -5886,6 +6819,18 @@ public class CuratorService {
         sb.append(this.projection);
       }
       first = false;
+      if (!first) sb.append(", ");
+      sb.append("operations:");
+      if (this.operations == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.operations);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("atomic:");
+      sb.append(this.atomic);
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -5908,21 +6853,23 @@ public class CuratorService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class closeCuratorProjection_argsStandardSchemeFactory implements SchemeFactory {
-      public closeCuratorProjection_argsStandardScheme getScheme() {
-        return new closeCuratorProjection_argsStandardScheme();
+    private static class batch_argsStandardSchemeFactory implements SchemeFactory {
+      public batch_argsStandardScheme getScheme() {
+        return new batch_argsStandardScheme();
       }
     }
 
-    private static class closeCuratorProjection_argsStandardScheme extends StandardScheme<closeCuratorProjection_args> {
+    private static class batch_argsStandardScheme extends StandardScheme<batch_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, closeCuratorProjection_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, batch_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -5941,6 +6888,33 @@ public class CuratorService {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
+            case 2: // OPERATIONS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list64 = iprot.readListBegin();
+                  struct.operations = new ArrayList<OperationSpec>(_list64.size);
+                  for (int _i65 = 0; _i65 < _list64.size; ++_i65)
+                  {
+                    OperationSpec _elem66;
+                    _elem66 = new OperationSpec();
+                    _elem66.read(iprot);
+                    struct.operations.add(_elem66);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setOperationsIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // ATOMIC
+              if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
+                struct.atomic = iprot.readBool();
+                struct.setAtomicIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -5952,7 +6926,7 @@ public class CuratorService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, closeCuratorProjection_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, batch_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -5961,61 +6935,117 @@ public class CuratorService {
           struct.projection.write(oprot);
           oprot.writeFieldEnd();
         }
+        if (struct.operations != null) {
+          oprot.writeFieldBegin(OPERATIONS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.operations.size()));
+            for (OperationSpec _iter67 : struct.operations)
+            {
+              _iter67.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldBegin(ATOMIC_FIELD_DESC);
+        oprot.writeBool(struct.atomic);
+        oprot.writeFieldEnd();
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class closeCuratorProjection_argsTupleSchemeFactory implements SchemeFactory {
-      public closeCuratorProjection_argsTupleScheme getScheme() {
-        return new closeCuratorProjection_argsTupleScheme();
+    private static class batch_argsTupleSchemeFactory implements SchemeFactory {
+      public batch_argsTupleScheme getScheme() {
+        return new batch_argsTupleScheme();
       }
     }
 
-    private static class closeCuratorProjection_argsTupleScheme extends TupleScheme<closeCuratorProjection_args> {
+    private static class batch_argsTupleScheme extends TupleScheme<batch_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, closeCuratorProjection_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, batch_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetProjection()) {
           optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetOperations()) {
+          optionals.set(1);
+        }
+        if (struct.isSetAtomic()) {
+          optionals.set(2);
+        }
+        oprot.writeBitSet(optionals, 3);
         if (struct.isSetProjection()) {
           struct.projection.write(oprot);
         }
+        if (struct.isSetOperations()) {
+          {
+            oprot.writeI32(struct.operations.size());
+            for (OperationSpec _iter68 : struct.operations)
+            {
+              _iter68.write(oprot);
+            }
+          }
+        }
+        if (struct.isSetAtomic()) {
+          oprot.writeBool(struct.atomic);
+        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, closeCuratorProjection_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, batch_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(1);
+        BitSet incoming = iprot.readBitSet(3);
         if (incoming.get(0)) {
           struct.projection = new CuratorProjection();
           struct.projection.read(iprot);
           struct.setProjectionIsSet(true);
         }
+        if (incoming.get(1)) {
+          {
+            org.apache.thrift.protocol.TList _list69 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.operations = new ArrayList<OperationSpec>(_list69.size);
+            for (int _i70 = 0; _i70 < _list69.size; ++_i70)
+            {
+              OperationSpec _elem71;
+              _elem71 = new OperationSpec();
+              _elem71.read(iprot);
+              struct.operations.add(_elem71);
+            }
+          }
+          struct.setOperationsIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.atomic = iprot.readBool();
+          struct.setAtomicIsSet(true);
+        }
       }
     }
 
   }
 
-  public static class closeCuratorProjection_result implements org.apache.thrift.TBase<closeCuratorProjection_result, closeCuratorProjection_result._Fields>, java.io.Serializable, Cloneable, Comparable<closeCuratorProjection_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("closeCuratorProjection_result");
+  public static class batch_result implements org.apache.thrift.TBase<batch_result, batch_result._Fields>, java.io.Serializable, Cloneable, Comparable<batch_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("batch_result");
 
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
+    private static final org.apache.thrift.protocol.TField EX1_FIELD_DESC = new org.apache.thrift.protocol.TField("ex1", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new closeCuratorProjection_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new closeCuratorProjection_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new batch_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new batch_resultTupleSchemeFactory());
     }
 
+    public List<OperationResult> success; // required
+    public CuratorException ex1; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-;
+      SUCCESS((short)0, "success"),
+      EX1((short)1, "ex1");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -6030,6 +7060,10 @@ public class CuratorService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // EX1
+            return EX1;
           default:
             return null;
         }
@@ -6068,37 +7102,150 @@ public class CuratorService {
         return _fieldName;
       }
     }
+
+    // isset id assignments
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, OperationResult.class))));
+      tmpMap.put(_Fields.EX1, new org.apache.thrift.meta_data.FieldMetaData("ex1", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(closeCuratorProjection_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(batch_result.class, metaDataMap);
     }
 
-    public closeCuratorProjection_result() {
+    public batch_result() {
+    }
+
+    public batch_result(
+      List<OperationResult> success,
+      CuratorException ex1)
+    {
+      this();
+      this.success = success;
+      this.ex1 = ex1;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public closeCuratorProjection_result(closeCuratorProjection_result other) {
+    public batch_result(batch_result other) {
+      if (other.isSetSuccess()) {
+        List<OperationResult> __this__success = new ArrayList<OperationResult>(other.success.size());
+        for (OperationResult other_element : other.success) {
+          __this__success.add(new OperationResult(other_element));
+        }
+        this.success = __this__success;
+      }
+      if (other.isSetEx1()) {
+        this.ex1 = new CuratorException(other.ex1);
+      }
     }
 
-    public closeCuratorProjection_result deepCopy() {
-      return new closeCuratorProjection_result(this);
+    public batch_result deepCopy() {
+      return new batch_result(this);
     }
 
     @Override
     public void clear() {
+      this.success = null;
+      this.ex1 = null;
+    }
+
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
+    }
+
+    public java.util.Iterator<OperationResult> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
+    }
+
+    public void addToSuccess(OperationResult elem) {
+      if (this.success == null) {
+        this.success = new ArrayList<OperationResult>();
+      }
+      this.success.add(elem);
+    }
+
+    public List<OperationResult> getSuccess() {
+      return this.success;
+    }
+
+    public batch_result setSuccess(List<OperationResult> success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public CuratorException getEx1() {
+      return this.ex1;
+    }
+
+    public batch_result setEx1(CuratorException ex1) {
+      this.ex1 = ex1;
+      return this;
+    }
+
+    public void unsetEx1() {
+      this.ex1 = null;
+    }
+
+    /** Returns true if field ex1 is set (has been assigned a value) and false otherwise */
+    public boolean isSetEx1() {
+      return this.ex1 != null;
+    }
+
+    public void setEx1IsSet(boolean value) {
+      if (!value) {
+        this.ex1 = null;
+      }
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((List<OperationResult>)value);
+        }
+        break;
+
+      case EX1:
+        if (value == null) {
+          unsetEx1();
+        } else {
+          setEx1((CuratorException)value);
+        }
+        break;
+
       }
     }
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      case EX1:
+        return getEx1();
+
       }
       throw new IllegalStateException();
     }
@@ -6110,6 +7257,10 @@ public class CuratorService {
       }
 
       switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case EX1:
+        return isSetEx1();
       }
       throw new IllegalStateException();
     }
@@ -6118,15 +7269,33 @@ public class CuratorService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof closeCuratorProjection_result)
-        return this.equals((closeCuratorProjection_result)that);
+      if (that instanceof batch_result)
+        return this.equals((batch_result)that);
       return false;
     }
 
-    public boolean equals(closeCuratorProjection_result that) {
+    public boolean equals(batch_result that) {
       if (that == null)
         return false;
 
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      boolean this_present_ex1 = true && this.isSetEx1();
+      boolean that_present_ex1 = true && that.isSetEx1();
+      if (this_present_ex1 || that_present_ex1) {
+        if (!(this_present_ex1 && that_present_ex1))
+          return false;
+        if (!this.ex1.equals(that.ex1))
+          return false;
+      }
+
       return true;
     }
 
@@ -6136,33 +7305,68 @@ public class CuratorService {
     }
 
     @Override
-    public int compareTo(closeCuratorProjection_result other) {
+    public int compareTo(batch_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      return 0;
-    }
-
-    public _Fields fieldForId(int fieldId) {
-      return _Fields.findByThriftId(fieldId);
-    }
-
-    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
-      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
-    }
-
-    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
-      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
       }
-
-    @Override
-    public String toString() {
-      StringBuilder sb = new StringBuilder("closeCuratorProjection_result(");
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetEx1()).compareTo(other.isSetEx1());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetEx1()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.ex1, other.ex1);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("batch_result(");
       boolean first = true;
 
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("ex1:");
+      if (this.ex1 == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.ex1);
+      }
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -6188,15 +7392,15 @@ public class CuratorService {
       }
     }
 
-    private static class closeCuratorProjection_resultStandardSchemeFactory implements SchemeFactory {
-      public closeCuratorProjection_resultStandardScheme getScheme() {
-        return new closeCuratorProjection_resultStandardScheme();
+    private static class batch_resultStandardSchemeFactory implements SchemeFactory {
+      public batch_resultStandardScheme getScheme() {
+        return new batch_resultStandardScheme();
       }
     }
 
-    private static class closeCuratorProjection_resultStandardScheme extends StandardScheme<closeCuratorProjection_result> {
+    private static class batch_resultStandardScheme extends StandardScheme<batch_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, closeCuratorProjection_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, batch_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -6206,6 +7410,34 @@ public class CuratorService {
             break;
           }
           switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list72 = iprot.readListBegin();
+                  struct.success = new ArrayList<OperationResult>(_list72.size);
+                  for (int _i73 = 0; _i73 < _list72.size; ++_i73)
+                  {
+                    OperationResult _elem74;
+                    _elem74 = new OperationResult();
+                    _elem74.read(iprot);
+                    struct.success.add(_elem74);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 1: // EX1
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.ex1 = new CuratorException();
+                struct.ex1.read(iprot);
+                struct.setEx1IsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -6217,56 +7449,110 @@ public class CuratorService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, closeCuratorProjection_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, batch_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
+            for (OperationResult _iter75 : struct.success)
+            {
+              _iter75.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        if (struct.ex1 != null) {
+          oprot.writeFieldBegin(EX1_FIELD_DESC);
+          struct.ex1.write(oprot);
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class closeCuratorProjection_resultTupleSchemeFactory implements SchemeFactory {
-      public closeCuratorProjection_resultTupleScheme getScheme() {
-        return new closeCuratorProjection_resultTupleScheme();
+    private static class batch_resultTupleSchemeFactory implements SchemeFactory {
+      public batch_resultTupleScheme getScheme() {
+        return new batch_resultTupleScheme();
       }
     }
 
-    private static class closeCuratorProjection_resultTupleScheme extends TupleScheme<closeCuratorProjection_result> {
+    private static class batch_resultTupleScheme extends TupleScheme<batch_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, closeCuratorProjection_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, batch_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        if (struct.isSetEx1()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          {
+            oprot.writeI32(struct.success.size());
+            for (OperationResult _iter76 : struct.success)
+            {
+              _iter76.write(oprot);
+            }
+          }
+        }
+        if (struct.isSetEx1()) {
+          struct.ex1.write(oprot);
+        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, closeCuratorProjection_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, batch_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list77 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.success = new ArrayList<OperationResult>(_list77.size);
+            for (int _i78 = 0; _i78 < _list77.size; ++_i78)
+            {
+              OperationResult _elem79;
+              _elem79 = new OperationResult();
+              _elem79.read(iprot);
+              struct.success.add(_elem79);
+            }
+          }
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.ex1 = new CuratorException();
+          struct.ex1.read(iprot);
+          struct.setEx1IsSet(true);
+        }
       }
     }
 
   }
 
-  public static class closeGenericProjection_args implements org.apache.thrift.TBase<closeGenericProjection_args, closeGenericProjection_args._Fields>, java.io.Serializable, Cloneable, Comparable<closeGenericProjection_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("closeGenericProjection_args");
+  public static class closeCuratorProjection_args implements org.apache.thrift.TBase<closeCuratorProjection_args, closeCuratorProjection_args._Fields>, java.io.Serializable, Cloneable, Comparable<closeCuratorProjection_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("closeCuratorProjection_args");
 
     private static final org.apache.thrift.protocol.TField PROJECTION_FIELD_DESC = new org.apache.thrift.protocol.TField("projection", org.apache.thrift.protocol.TType.STRUCT, (short)1);
-    private static final org.apache.thrift.protocol.TField ID_FIELD_DESC = new org.apache.thrift.protocol.TField("id", org.apache.thrift.protocol.TType.STRING, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new closeGenericProjection_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new closeGenericProjection_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new closeCuratorProjection_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new closeCuratorProjection_argsTupleSchemeFactory());
     }
 
     public CuratorProjection projection; // required
-    public String id; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      PROJECTION((short)1, "projection"),
-      ID((short)2, "id");
+      PROJECTION((short)1, "projection");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -6283,8 +7569,6 @@ public class CuratorService {
         switch(fieldId) {
           case 1: // PROJECTION
             return PROJECTION;
-          case 2: // ID
-            return ID;
           default:
             return null;
         }
@@ -6330,51 +7614,43 @@ public class CuratorService {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.PROJECTION, new org.apache.thrift.meta_data.FieldMetaData("projection", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CuratorProjection.class)));
-      tmpMap.put(_Fields.ID, new org.apache.thrift.meta_data.FieldMetaData("id", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(closeGenericProjection_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(closeCuratorProjection_args.class, metaDataMap);
     }
 
-    public closeGenericProjection_args() {
+    public closeCuratorProjection_args() {
     }
 
-    public closeGenericProjection_args(
-      CuratorProjection projection,
-      String id)
+    public closeCuratorProjection_args(
+      CuratorProjection projection)
     {
       this();
       this.projection = projection;
-      this.id = id;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public closeGenericProjection_args(closeGenericProjection_args other) {
+    public closeCuratorProjection_args(closeCuratorProjection_args other) {
       if (other.isSetProjection()) {
         this.projection = new CuratorProjection(other.projection);
       }
-      if (other.isSetId()) {
-        this.id = other.id;
-      }
     }
 
-    public closeGenericProjection_args deepCopy() {
-      return new closeGenericProjection_args(this);
+    public closeCuratorProjection_args deepCopy() {
+      return new closeCuratorProjection_args(this);
     }
 
     @Override
     public void clear() {
       this.projection = null;
-      this.id = null;
     }
 
     public CuratorProjection getProjection() {
       return this.projection;
     }
 
-    public closeGenericProjection_args setProjection(CuratorProjection projection) {
+    public closeCuratorProjection_args setProjection(CuratorProjection projection) {
       this.projection = projection;
       return this;
     }
@@ -6394,30 +7670,6 @@ public class CuratorService {
       }
     }
 
-    public String getId() {
-      return this.id;
-    }
-
-    public closeGenericProjection_args setId(String id) {
-      this.id = id;
-      return this;
-    }
-
-    public void unsetId() {
-      this.id = null;
-    }
-
-    /** Returns true if field id is set (has been assigned a value) and false otherwise */
-    public boolean isSetId() {
-      return this.id != null;
-    }
-
-    public void setIdIsSet(boolean value) {
-      if (!value) {
-        this.id = null;
-      }
-    }
-
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
       case PROJECTION:
@@ -6428,14 +7680,6 @@ public class CuratorService {
         }
         break;
 
-      case ID:
-        if (value == null) {
-          unsetId();
-        } else {
-          setId((String)value);
-        }
-        break;
-
       }
     }
 
@@ -6444,9 +7688,6 @@ public class CuratorService {
       case PROJECTION:
         return getProjection();
 
-      case ID:
-        return getId();
-
       }
       throw new IllegalStateException();
     }
@@ -6460,8 +7701,6 @@ public class CuratorService {
       switch (field) {
       case PROJECTION:
         return isSetProjection();
-      case ID:
-        return isSetId();
       }
       throw new IllegalStateException();
     }
@@ -6470,12 +7709,12 @@ public class CuratorService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof closeGenericProjection_args)
-        return this.equals((closeGenericProjection_args)that);
+      if (that instanceof closeCuratorProjection_args)
+        return this.equals((closeCuratorProjection_args)that);
       return false;
     }
 
-    public boolean equals(closeGenericProjection_args that) {
+    public boolean equals(closeCuratorProjection_args that) {
       if (that == null)
         return false;
 
@@ -6488,15 +7727,6 @@ public class CuratorService {
           return false;
       }
 
-      boolean this_present_id = true && this.isSetId();
-      boolean that_present_id = true && that.isSetId();
-      if (this_present_id || that_present_id) {
-        if (!(this_present_id && that_present_id))
-          return false;
-        if (!this.id.equals(that.id))
-          return false;
-      }
-
       return true;
     }
 
@@ -6506,7 +7736,7 @@ public class CuratorService {
     }
 
     @Override
-    public int compareTo(closeGenericProjection_args other) {
+    public int compareTo(closeCuratorProjection_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -6523,16 +7753,6 @@ public class CuratorService {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetId()).compareTo(other.isSetId());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetId()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.id, other.id);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
       return 0;
     }
 
@@ -6550,7 +7770,7 @@ public class CuratorService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("closeGenericProjection_args(");
+      StringBuilder sb = new StringBuilder("closeCuratorProjection_args(");
       boolean first = true;
 
       sb.append("projection:");
@@ -6560,14 +7780,6 @@ public class CuratorService {
         sb.append(this.projection);
       }
       first = false;
-      if (!first) sb.append(", ");
-      sb.append("id:");
-      if (this.id == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.id);
-      }
-      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -6596,15 +7808,15 @@ public class CuratorService {
       }
     }
 
-    private static class closeGenericProjection_argsStandardSchemeFactory implements SchemeFactory {
-      public closeGenericProjection_argsStandardScheme getScheme() {
-        return new closeGenericProjection_argsStandardScheme();
+    private static class closeCuratorProjection_argsStandardSchemeFactory implements SchemeFactory {
+      public closeCuratorProjection_argsStandardScheme getScheme() {
+        return new closeCuratorProjection_argsStandardScheme();
       }
     }
 
-    private static class closeGenericProjection_argsStandardScheme extends StandardScheme<closeGenericProjection_args> {
+    private static class closeCuratorProjection_argsStandardScheme extends StandardScheme<closeCuratorProjection_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, closeGenericProjection_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, closeCuratorProjection_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -6623,14 +7835,6 @@ public class CuratorService {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 2: // ID
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.id = iprot.readString();
-                struct.setIdIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -6642,7 +7846,7 @@ public class CuratorService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, closeGenericProjection_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, closeCuratorProjection_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -6651,81 +7855,61 @@ public class CuratorService {
           struct.projection.write(oprot);
           oprot.writeFieldEnd();
         }
-        if (struct.id != null) {
-          oprot.writeFieldBegin(ID_FIELD_DESC);
-          oprot.writeString(struct.id);
-          oprot.writeFieldEnd();
-        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class closeGenericProjection_argsTupleSchemeFactory implements SchemeFactory {
-      public closeGenericProjection_argsTupleScheme getScheme() {
-        return new closeGenericProjection_argsTupleScheme();
+    private static class closeCuratorProjection_argsTupleSchemeFactory implements SchemeFactory {
+      public closeCuratorProjection_argsTupleScheme getScheme() {
+        return new closeCuratorProjection_argsTupleScheme();
       }
     }
 
-    private static class closeGenericProjection_argsTupleScheme extends TupleScheme<closeGenericProjection_args> {
+    private static class closeCuratorProjection_argsTupleScheme extends TupleScheme<closeCuratorProjection_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, closeGenericProjection_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, closeCuratorProjection_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetProjection()) {
           optionals.set(0);
         }
-        if (struct.isSetId()) {
-          optionals.set(1);
-        }
-        oprot.writeBitSet(optionals, 2);
+        oprot.writeBitSet(optionals, 1);
         if (struct.isSetProjection()) {
           struct.projection.write(oprot);
         }
-        if (struct.isSetId()) {
-          oprot.writeString(struct.id);
-        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, closeGenericProjection_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, closeCuratorProjection_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(2);
+        BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
           struct.projection = new CuratorProjection();
           struct.projection.read(iprot);
           struct.setProjectionIsSet(true);
         }
-        if (incoming.get(1)) {
-          struct.id = iprot.readString();
-          struct.setIdIsSet(true);
-        }
       }
     }
 
   }
 
-  public static class closeGenericProjection_result implements org.apache.thrift.TBase<closeGenericProjection_result, closeGenericProjection_result._Fields>, java.io.Serializable, Cloneable, Comparable<closeGenericProjection_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("closeGenericProjection_result");
+  public static class closeCuratorProjection_result implements org.apache.thrift.TBase<closeCuratorProjection_result, closeCuratorProjection_result._Fields>, java.io.Serializable, Cloneable, Comparable<closeCuratorProjection_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("closeCuratorProjection_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.BOOL, (short)0);
-    private static final org.apache.thrift.protocol.TField EX1_FIELD_DESC = new org.apache.thrift.protocol.TField("ex1", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new closeGenericProjection_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new closeGenericProjection_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new closeCuratorProjection_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new closeCuratorProjection_resultTupleSchemeFactory());
     }
 
-    public boolean success; // required
-    public CuratorException ex1; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      SUCCESS((short)0, "success"),
-      EX1((short)1, "ex1");
+;
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -6740,10 +7924,6 @@ public class CuratorService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 0: // SUCCESS
-            return SUCCESS;
-          case 1: // EX1
-            return EX1;
           default:
             return null;
         }
@@ -6782,132 +7962,37 @@ public class CuratorService {
         return _fieldName;
       }
     }
-
-    // isset id assignments
-    private static final int __SUCCESS_ISSET_ID = 0;
-    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
-      tmpMap.put(_Fields.EX1, new org.apache.thrift.meta_data.FieldMetaData("ex1", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(closeGenericProjection_result.class, metaDataMap);
-    }
-
-    public closeGenericProjection_result() {
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(closeCuratorProjection_result.class, metaDataMap);
     }
 
-    public closeGenericProjection_result(
-      boolean success,
-      CuratorException ex1)
-    {
-      this();
-      this.success = success;
-      setSuccessIsSet(true);
-      this.ex1 = ex1;
+    public closeCuratorProjection_result() {
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public closeGenericProjection_result(closeGenericProjection_result other) {
-      __isset_bitfield = other.__isset_bitfield;
-      this.success = other.success;
-      if (other.isSetEx1()) {
-        this.ex1 = new CuratorException(other.ex1);
-      }
+    public closeCuratorProjection_result(closeCuratorProjection_result other) {
     }
 
-    public closeGenericProjection_result deepCopy() {
-      return new closeGenericProjection_result(this);
+    public closeCuratorProjection_result deepCopy() {
+      return new closeCuratorProjection_result(this);
     }
 
     @Override
     public void clear() {
-      setSuccessIsSet(false);
-      this.success = false;
-      this.ex1 = null;
-    }
-
-    public boolean isSuccess() {
-      return this.success;
-    }
-
-    public closeGenericProjection_result setSuccess(boolean success) {
-      this.success = success;
-      setSuccessIsSet(true);
-      return this;
-    }
-
-    public void unsetSuccess() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SUCCESS_ISSET_ID);
-    }
-
-    /** Returns true if field success is set (has been assigned a value) and false otherwise */
-    public boolean isSetSuccess() {
-      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
-    }
-
-    public void setSuccessIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
-    }
-
-    public CuratorException getEx1() {
-      return this.ex1;
-    }
-
-    public closeGenericProjection_result setEx1(CuratorException ex1) {
-      this.ex1 = ex1;
-      return this;
-    }
-
-    public void unsetEx1() {
-      this.ex1 = null;
-    }
-
-    /** Returns true if field ex1 is set (has been assigned a value) and false otherwise */
-    public boolean isSetEx1() {
-      return this.ex1 != null;
-    }
-
-    public void setEx1IsSet(boolean value) {
-      if (!value) {
-        this.ex1 = null;
-      }
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case SUCCESS:
-        if (value == null) {
-          unsetSuccess();
-        } else {
-          setSuccess((Boolean)value);
-        }
-        break;
-
-      case EX1:
-        if (value == null) {
-          unsetEx1();
-        } else {
-          setEx1((CuratorException)value);
-        }
-        break;
-
       }
     }
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case SUCCESS:
-        return Boolean.valueOf(isSuccess());
-
-      case EX1:
-        return getEx1();
-
       }
       throw new IllegalStateException();
     }
@@ -6919,10 +8004,6 @@ public class CuratorService {
       }
 
       switch (field) {
-      case SUCCESS:
-        return isSetSuccess();
-      case EX1:
-        return isSetEx1();
       }
       throw new IllegalStateException();
     }
@@ -6931,33 +8012,15 @@ public class CuratorService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof closeGenericProjection_result)
-        return this.equals((closeGenericProjection_result)that);
+      if (that instanceof closeCuratorProjection_result)
+        return this.equals((closeCuratorProjection_result)that);
       return false;
     }
 
-    public boolean equals(closeGenericProjection_result that) {
+    public boolean equals(closeCuratorProjection_result that) {
       if (that == null)
         return false;
 
-      boolean this_present_success = true;
-      boolean that_present_success = true;
-      if (this_present_success || that_present_success) {
-        if (!(this_present_success && that_present_success))
-          return false;
-        if (this.success != that.success)
-          return false;
-      }
-
-      boolean this_present_ex1 = true && this.isSetEx1();
-      boolean that_present_ex1 = true && that.isSetEx1();
-      if (this_present_ex1 || that_present_ex1) {
-        if (!(this_present_ex1 && that_present_ex1))
-          return false;
-        if (!this.ex1.equals(that.ex1))
-          return false;
-      }
-
       return true;
     }
 
@@ -6967,33 +8030,13 @@ public class CuratorService {
     }
 
     @Override
-    public int compareTo(closeGenericProjection_result other) {
+    public int compareTo(closeCuratorProjection_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetSuccess()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
-      lastComparison = Boolean.valueOf(isSetEx1()).compareTo(other.isSetEx1());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetEx1()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.ex1, other.ex1);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
       return 0;
     }
 
@@ -7011,20 +8054,9 @@ public class CuratorService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("closeGenericProjection_result(");
+      StringBuilder sb = new StringBuilder("closeCuratorProjection_result(");
       boolean first = true;
 
-      sb.append("success:");
-      sb.append(this.success);
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("ex1:");
-      if (this.ex1 == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.ex1);
-      }
-      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -7044,23 +8076,21 @@ public class CuratorService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
-        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
-        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class closeGenericProjection_resultStandardSchemeFactory implements SchemeFactory {
-      public closeGenericProjection_resultStandardScheme getScheme() {
-        return new closeGenericProjection_resultStandardScheme();
+    private static class closeCuratorProjection_resultStandardSchemeFactory implements SchemeFactory {
+      public closeCuratorProjection_resultStandardScheme getScheme() {
+        return new closeCuratorProjection_resultStandardScheme();
       }
     }
 
-    private static class closeGenericProjection_resultStandardScheme extends StandardScheme<closeGenericProjection_result> {
+    private static class closeCuratorProjection_resultStandardScheme extends StandardScheme<closeCuratorProjection_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, closeGenericProjection_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, closeCuratorProjection_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -7070,23 +8100,6 @@ public class CuratorService {
             break;
           }
           switch (schemeField.id) {
-            case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
-                struct.success = iprot.readBool();
-                struct.setSuccessIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 1: // EX1
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.ex1 = new CuratorException();
-                struct.ex1.read(iprot);
-                struct.setEx1IsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -7098,90 +8111,56 @@ public class CuratorService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, closeGenericProjection_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, closeCuratorProjection_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.isSetSuccess()) {
-          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          oprot.writeBool(struct.success);
-          oprot.writeFieldEnd();
-        }
-        if (struct.ex1 != null) {
-          oprot.writeFieldBegin(EX1_FIELD_DESC);
-          struct.ex1.write(oprot);
-          oprot.writeFieldEnd();
-        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class closeGenericProjection_resultTupleSchemeFactory implements SchemeFactory {
-      public closeGenericProjection_resultTupleScheme getScheme() {
-        return new closeGenericProjection_resultTupleScheme();
+    private static class closeCuratorProjection_resultTupleSchemeFactory implements SchemeFactory {
+      public closeCuratorProjection_resultTupleScheme getScheme() {
+        return new closeCuratorProjection_resultTupleScheme();
       }
     }
 
-    private static class closeGenericProjection_resultTupleScheme extends TupleScheme<closeGenericProjection_result> {
+    private static class closeCuratorProjection_resultTupleScheme extends TupleScheme<closeCuratorProjection_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, closeGenericProjection_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, closeCuratorProjection_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
-        BitSet optionals = new BitSet();
-        if (struct.isSetSuccess()) {
-          optionals.set(0);
-        }
-        if (struct.isSetEx1()) {
-          optionals.set(1);
-        }
-        oprot.writeBitSet(optionals, 2);
-        if (struct.isSetSuccess()) {
-          oprot.writeBool(struct.success);
-        }
-        if (struct.isSetEx1()) {
-          struct.ex1.write(oprot);
-        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, closeGenericProjection_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, closeCuratorProjection_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(2);
-        if (incoming.get(0)) {
-          struct.success = iprot.readBool();
-          struct.setSuccessIsSet(true);
-        }
-        if (incoming.get(1)) {
-          struct.ex1 = new CuratorException();
-          struct.ex1.read(iprot);
-          struct.setEx1IsSet(true);
-        }
       }
     }
 
   }
 
-  public static class createNode_args implements org.apache.thrift.TBase<createNode_args, createNode_args._Fields>, java.io.Serializable, Cloneable, Comparable<createNode_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("createNode_args");
+  public static class closeGenericProjection_args implements org.apache.thrift.TBase<closeGenericProjection_args, closeGenericProjection_args._Fields>, java.io.Serializable, Cloneable, Comparable<closeGenericProjection_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("closeGenericProjection_args");
 
     private static final org.apache.thrift.protocol.TField PROJECTION_FIELD_DESC = new org.apache.thrift.protocol.TField("projection", org.apache.thrift.protocol.TType.STRUCT, (short)1);
-    private static final org.apache.thrift.protocol.TField SPEC_FIELD_DESC = new org.apache.thrift.protocol.TField("spec", org.apache.thrift.protocol.TType.STRUCT, (short)2);
+    private static final org.apache.thrift.protocol.TField ID_FIELD_DESC = new org.apache.thrift.protocol.TField("id", org.apache.thrift.protocol.TType.STRING, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new createNode_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new createNode_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new closeGenericProjection_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new closeGenericProjection_argsTupleSchemeFactory());
     }
 
     public CuratorProjection projection; // required
-    public CreateSpec spec; // required
+    public String id; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       PROJECTION((short)1, "projection"),
-      SPEC((short)2, "spec");
+      ID((short)2, "id");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -7198,8 +8177,8 @@ public class CuratorService {
         switch(fieldId) {
           case 1: // PROJECTION
             return PROJECTION;
-          case 2: // SPEC
-            return SPEC;
+          case 2: // ID
+            return ID;
           default:
             return null;
         }
@@ -7245,51 +8224,51 @@ public class CuratorService {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.PROJECTION, new org.apache.thrift.meta_data.FieldMetaData("projection", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CuratorProjection.class)));
-      tmpMap.put(_Fields.SPEC, new org.apache.thrift.meta_data.FieldMetaData("spec", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CreateSpec.class)));
+      tmpMap.put(_Fields.ID, new org.apache.thrift.meta_data.FieldMetaData("id", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(createNode_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(closeGenericProjection_args.class, metaDataMap);
     }
 
-    public createNode_args() {
+    public closeGenericProjection_args() {
     }
 
-    public createNode_args(
+    public closeGenericProjection_args(
       CuratorProjection projection,
-      CreateSpec spec)
+      String id)
     {
       this();
       this.projection = projection;
-      this.spec = spec;
+      this.id = id;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public createNode_args(createNode_args other) {
+    public closeGenericProjection_args(closeGenericProjection_args other) {
       if (other.isSetProjection()) {
         this.projection = new CuratorProjection(other.projection);
       }
-      if (other.isSetSpec()) {
-        this.spec = new CreateSpec(other.spec);
+      if (other.isSetId()) {
+        this.id = other.id;
       }
     }
 
-    public createNode_args deepCopy() {
-      return new createNode_args(this);
+    public closeGenericProjection_args deepCopy() {
+      return new closeGenericProjection_args(this);
     }
 
     @Override
     public void clear() {
       this.projection = null;
-      this.spec = null;
+      this.id = null;
     }
 
     public CuratorProjection getProjection() {
       return this.projection;
     }
 
-    public createNode_args setProjection(CuratorProjection projection) {
+    public closeGenericProjection_args setProjection(CuratorProjection projection) {
       this.projection = projection;
       return this;
     }
@@ -7309,27 +8288,27 @@ public class CuratorService {
       }
     }
 
-    public CreateSpec getSpec() {
-      return this.spec;
+    public String getId() {
+      return this.id;
     }
 
-    public createNode_args setSpec(CreateSpec spec) {
-      this.spec = spec;
+    public closeGenericProjection_args setId(String id) {
+      this.id = id;
       return this;
     }
 
-    public void unsetSpec() {
-      this.spec = null;
+    public void unsetId() {
+      this.id = null;
     }
 
-    /** Returns true if field spec is set (has been assigned a value) and false otherwise */
-    public boolean isSetSpec() {
-      return this.spec != null;
+    /** Returns true if field id is set (has been assigned a value) and false otherwise */
+    public boolean isSetId() {
+      return this.id != null;
     }
 
-    public void setSpecIsSet(boolean value) {
+    public void setIdIsSet(boolean value) {
       if (!value) {
-        this.spec = null;
+        this.id = null;
       }
     }
 
@@ -7343,11 +8322,11 @@ public class CuratorService {
         }
         break;
 
-      case SPEC:
+      case ID:
         if (value == null) {
-          unsetSpec();
+          unsetId();
         } else {
-          setSpec((CreateSpec)value);
+          setId((String)value);
         }
         break;
 
@@ -7359,8 +8338,8 @@ public class CuratorService {
       case PROJECTION:
         return getProjection();
 
-      case SPEC:
-        return getSpec();
+      case ID:
+        return getId();
 
       }
       throw new IllegalStateException();
@@ -7375,8 +8354,8 @@ public class CuratorService {
       switch (field) {
       case PROJECTION:
         return isSetProjection();
-      case SPEC:
-        return isSetSpec();
+      case ID:
+        return isSetId();
       }
       throw new IllegalStateException();
     }
@@ -7385,12 +8364,12 @@ public class CuratorService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof createNode_args)
-        return this.equals((createNode_args)that);
+      if (that instanceof closeGenericProjection_args)
+        return this.equals((closeGenericProjection_args)that);
       return false;
     }
 
-    public boolean equals(createNode_args that) {
+    public boolean equals(closeGenericProjection_args that) {
       if (that == null)
         return false;
 
@@ -7403,12 +8382,12 @@ public class CuratorService {
           return false;
       }
 
-      boolean this_present_spec = true && this.isSetSpec();
-      boolean that_present_spec = true && that.isSetSpec();
-      if (this_present_spec || that_present_spec) {
-        if (!(this_present_spec && that_present_spec))
+      boolean this_present_id = true && this.isSetId();
+      boolean that_present_id = true && that.isSetId();
+      if (this_present_id || that_present_id) {
+        if (!(this_present_id && that_present_id))
           return false;
-        if (!this.spec.equals(that.spec))
+        if (!this.id.equals(that.id))
           return false;
       }
 
@@ -7421,7 +8400,7 @@ public class CuratorService {
     }
 
     @Override
-    public int compareTo(createNode_args other) {
+    public int compareTo(closeGenericProjection_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -7438,12 +8417,12 @@ public class CuratorService {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetSpec()).compareTo(other.isSetSpec());
+      lastComparison = Boolean.valueOf(isSetId()).compareTo(other.isSetId());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetSpec()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.spec, other.spec);
+      if (isSetId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.id, other.id);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -7465,7 +8444,7 @@ public class CuratorService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("createNode_args(");
+      StringBuilder sb = new StringBuilder("closeGenericProjection_args(");
       boolean first = true;
 
       sb.append("projection:");
@@ -7476,11 +8455,11 @@ public class CuratorService {
       }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("spec:");
-      if (this.spec == null) {
+      sb.append("id:");
+      if (this.id == null) {
         sb.append("null");
       } else {
-        sb.append(this.spec);
+        sb.append(this.id);
       }
       first = false;
       sb.append(")");
@@ -7493,9 +8472,6 @@ public class CuratorService {
       if (projection != null) {
         projection.validate();
       }
-      if (spec != null) {
-        spec.validate();
-      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -7514,15 +8490,15 @@ public class CuratorService {
       }
     }
 
-    private static class createNode_argsStandardSchemeFactory implements SchemeFactory {
-      public createNode_argsStandardScheme getScheme() {
-        return new createNode_argsStandardScheme();
+    private static class closeGenericProjection_argsStandardSchemeFactory implements SchemeFactory {
+      public closeGenericProjection_argsStandardScheme getScheme() {
+        return new closeGenericProjection_argsStandardScheme();
       }
     }
 
-    private static class createNode_argsStandardScheme extends StandardScheme<createNode_args> {
+    private static class closeGenericProjection_argsStandardScheme extends StandardScheme<closeGenericProjection_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, createNode_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, closeGenericProjection_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -7541,11 +8517,10 @@ public class CuratorService {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 2: // SPEC
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.spec = new CreateSpec();
-                struct.spec.read(iprot);
-                struct.setSpecIsSet(true);
+            case 2: // ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.id = iprot.readString();
+                struct.setIdIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -7561,7 +8536,7 @@ public class CuratorService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, createNode_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, closeGenericProjection_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -7570,9 +8545,9 @@ public class CuratorService {
           struct.projection.write(oprot);
           oprot.writeFieldEnd();
         }
-        if (struct.spec != null) {
-          oprot.writeFieldBegin(SPEC_FIELD_DESC);
-          struct.spec.write(oprot);
+        if (struct.id != null) {
+          oprot.writeFieldBegin(ID_FIELD_DESC);
+          oprot.writeString(struct.id);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -7581,35 +8556,35 @@ public class CuratorService {
 
     }
 
-    private static class createNode_argsTupleSchemeFactory implements SchemeFactory {
-      public createNode_argsTupleScheme getScheme() {
-        return new createNode_argsTupleScheme();
+    private static class closeGenericProjection_argsTupleSchemeFactory implements SchemeFactory {
+      public closeGenericProjection_argsTupleScheme getScheme() {
+        return new closeGenericProjection_argsTupleScheme();
       }
     }
 
-    private static class createNode_argsTupleScheme extends TupleScheme<createNode_args> {
+    private static class closeGenericProjection_argsTupleScheme extends TupleScheme<closeGenericProjection_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, createNode_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, closeGenericProjection_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetProjection()) {
           optionals.set(0);
         }
-        if (struct.isSetSpec()) {
+        if (struct.isSetId()) {
           optionals.set(1);
         }
         oprot.writeBitSet(optionals, 2);
         if (struct.isSetProjection()) {
           struct.projection.write(oprot);
         }
-        if (struct.isSetSpec()) {
-          struct.spec.write(oprot);
+        if (struct.isSetId()) {
+          oprot.writeString(struct.id);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, createNode_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, closeGenericProjection_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
@@ -7618,28 +8593,27 @@ public class CuratorService {
           struct.setProjectionIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.spec = new CreateSpec();
-          struct.spec.read(iprot);
-          struct.setSpecIsSet(true);
+          struct.id = iprot.readString();
+          struct.setIdIsSet(true);
         }
       }
     }
 
   }
 
-  public static class createNode_result implements org.apache.thrift.TBase<createNode_result, createNode_result._Fields>, java.io.Serializable, Cloneable, Comparable<createNode_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("createNode_result");
+  public static class closeGenericProjection_result implements org.apache.thrift.TBase<closeGenericProjection_result, closeGenericProjection_result._Fields>, java.io.Serializable, Cloneable, Comparable<closeGenericProjection_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("closeGenericProjection_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.BOOL, (short)0);
     private static final org.apache.thrift.protocol.TField EX1_FIELD_DESC = new org.apache.thrift.protocol.TField("ex1", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new createNode_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new createNode_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new closeGenericProjection_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new closeGenericProjection_resultTupleSchemeFactory());
     }
 
-    public OptionalPath success; // required
+    public boolean success; // required
     public CuratorException ex1; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
@@ -7704,80 +8678,82 @@ public class CuratorService {
     }
 
     // isset id assignments
+    private static final int __SUCCESS_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, OptionalPath.class)));
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
       tmpMap.put(_Fields.EX1, new org.apache.thrift.meta_data.FieldMetaData("ex1", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(createNode_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(closeGenericProjection_result.class, metaDataMap);
     }
 
-    public createNode_result() {
+    public closeGenericProjection_result() {
     }
 
-    public createNode_result(
-      OptionalPath success,
+    public closeGenericProjection_result(
+      boolean success,
       CuratorException ex1)
     {
       this();
       this.success = success;
+      setSuccessIsSet(true);
       this.ex1 = ex1;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public createNode_result(createNode_result other) {
-      if (other.isSetSuccess()) {
-        this.success = new OptionalPath(other.success);
-      }
+    public closeGenericProjection_result(closeGenericProjection_result other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.success = other.success;
       if (other.isSetEx1()) {
         this.ex1 = new CuratorException(other.ex1);
       }
     }
 
-    public createNode_result deepCopy() {
-      return new createNode_result(this);
+    public closeGenericProjection_result deepCopy() {
+      return new closeGenericProjection_result(this);
     }
 
     @Override
     public void clear() {
-      this.success = null;
+      setSuccessIsSet(false);
+      this.success = false;
       this.ex1 = null;
     }
 
-    public OptionalPath getSuccess() {
+    public boolean isSuccess() {
       return this.success;
     }
 
-    public createNode_result setSuccess(OptionalPath success) {
+    public closeGenericProjection_result setSuccess(boolean success) {
       this.success = success;
+      setSuccessIsSet(true);
       return this;
     }
 
     public void unsetSuccess() {
-      this.success = null;
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SUCCESS_ISSET_ID);
     }
 
     /** Returns true if field success is set (has been assigned a value) and false otherwise */
     public boolean isSetSuccess() {
-      return this.success != null;
+      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
     }
 
     public void setSuccessIsSet(boolean value) {
-      if (!value) {
-        this.success = null;
-      }
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
     }
 
     public CuratorException getEx1() {
       return this.ex1;
     }
 
-    public createNode_result setEx1(CuratorException ex1) {
+    public closeGenericProjection_result setEx1(CuratorException ex1) {
       this.ex1 = ex1;
       return this;
     }
@@ -7803,7 +8779,7 @@ public class CuratorService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((OptionalPath)value);
+          setSuccess((Boolean)value);
         }
         break;
 
@@ -7821,7 +8797,7 @@ public class CuratorService {
     public Object getFieldValue(_Fields field) {
       switch (field) {
       case SUCCESS:
-        return getSuccess();
+        return Boolean.valueOf(isSuccess());
 
       case EX1:
         return getEx1();
@@ -7849,21 +8825,21 @@ public class CuratorService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof createNode_result)
-        return this.equals((createNode_result)that);
+      if (that instanceof closeGenericProjection_result)
+        return this.equals((closeGenericProjection_result)that);
       return false;
     }
 
-    public boolean equals(createNode_result that) {
+    public boolean equals(closeGenericProjection_result that) {
       if (that == null)
         return false;
 
-      boolean this_present_success = true && this.isSetSuccess();
-      boolean that_present_success = true && that.isSetSuccess();
+      boolean this_present_success = true;
+      boolean that_present_success = true;
       if (this_present_success || that_present_success) {
         if (!(this_present_success && that_present_success))
           return false;
-        if (!this.success.equals(that.success))
+        if (this.success != that.success)
           return false;
       }
 
@@ -7885,7 +8861,7 @@ public class CuratorService {
     }
 
     @Override
-    public int compareTo(createNode_result other) {
+    public int compareTo(closeGenericProjection_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -7929,15 +8905,11 @@ public class CuratorService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("createNode_result(");
+      StringBuilder sb = new StringBuilder("closeGenericProjection_result(");
       boolean first = true;
 
       sb.append("success:");
-      if (this.success == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.success);
-      }
+      sb.append(this.success);
       first = false;
       if (!first) sb.append(", ");
       sb.append("ex1:");
@@ -7954,9 +8926,6 @@ public class CuratorService {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
-      if (success != null) {
-        success.validate();
-      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -7969,21 +8938,23 @@ public class CuratorService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class createNode_resultStandardSchemeFactory implements SchemeFactory {
-      public createNode_resultStandardScheme getScheme() {
-        return new createNode_resultStandardScheme();
+    private static class closeGenericProjection_resultStandardSchemeFactory implements SchemeFactory {
+      public closeGenericProjection_resultStandardScheme getScheme() {
+        return new closeGenericProjection_resultStandardScheme();
       }
     }
 
-    private static class createNode_resultStandardScheme extends StandardScheme<createNode_result> {
+    private static class closeGenericProjection_resultStandardScheme extends StandardScheme<closeGenericProjection_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, createNode_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, closeGenericProjection_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -7994,9 +8965,8 @@ public class CuratorService {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.success = new OptionalPath();
-                struct.success.read(iprot);
+              if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
+                struct.success = iprot.readBool();
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
@@ -8022,13 +8992,13 @@ public class CuratorService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, createNode_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, closeGenericProjection_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.success != null) {
+        if (struct.isSetSuccess()) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          struct.success.write(oprot);
+          oprot.writeBool(struct.success);
           oprot.writeFieldEnd();
         }
         if (struct.ex1 != null) {
@@ -8042,16 +9012,16 @@ public class CuratorService {
 
     }
 
-    private static class createNode_resultTupleSchemeFactory implements SchemeFactory {
-      public createNode_resultTupleScheme getScheme() {
-        return new createNode_resultTupleScheme();
+    private static class closeGenericProjection_resultTupleSchemeFactory implements SchemeFactory {
+      public closeGenericProjection_resultTupleScheme getScheme() {
+        return new closeGenericProjection_resultTupleScheme();
       }
     }
 
-    private static class createNode_resultTupleScheme extends TupleScheme<createNode_result> {
+    private static class closeGenericProjection_resultTupleScheme extends TupleScheme<closeGenericProjection_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, createNode_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, closeGenericProjection_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -8062,7 +9032,7 @@ public class CuratorService {
         }
         oprot.writeBitSet(optionals, 2);
         if (struct.isSetSuccess()) {
-          struct.success.write(oprot);
+          oprot.writeBool(struct.success);
         }
         if (struct.isSetEx1()) {
           struct.ex1.write(oprot);
@@ -8070,12 +9040,11 @@ public class CuratorService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, createNode_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, closeGenericProjection_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.success = new OptionalPath();
-          struct.success.read(iprot);
+          struct.success = iprot.readBool();
           struct.setSuccessIsSet(true);
         }
         if (incoming.get(1)) {
@@ -8088,20 +9057,20 @@ public class CuratorService {
 
   }
 
-  public static class deleteNode_args implements org.apache.thrift.TBase<deleteNode_args, deleteNode_args._Fields>, java.io.Serializable, Cloneable, Comparable<deleteNode_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("deleteNode_args");
+  public static class createNode_args implements org.apache.thrift.TBase<createNode_args, createNode_args._Fields>, java.io.Serializable, Cloneable, Comparable<createNode_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("createNode_args");
 
     private static final org.apache.thrift.protocol.TField PROJECTION_FIELD_DESC = new org.apache.thrift.protocol.TField("projection", org.apache.thrift.protocol.TType.STRUCT, (short)1);
     private static final org.apache.thrift.protocol.TField SPEC_FIELD_DESC = new org.apache.thrift.protocol.TField("spec", org.apache.thrift.protocol.TType.STRUCT, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new deleteNode_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new deleteNode_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new createNode_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new createNode_argsTupleSchemeFactory());
     }
 
     public CuratorProjection projection; // required
-    public DeleteSpec spec; // required
+    public CreateSpec spec; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
@@ -8171,17 +9140,17 @@ public class CuratorService {
       tmpMap.put(_Fields.PROJECTION, new org.apache.thrift.meta_data.FieldMetaData("projection", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CuratorProjection.class)));
       tmpMap.put(_Fields.SPEC, new org.apache.thrift.meta_data.FieldMetaData("spec", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, DeleteSpec.class)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CreateSpec.class)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(deleteNode_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(createNode_args.class, metaDataMap);
     }
 
-    public deleteNode_args() {
+    public createNode_args() {
     }
 
-    public deleteNode_args(
+    public createNode_args(
       CuratorProjection projection,
-      DeleteSpec spec)
+      CreateSpec spec)
     {
       this();
       this.projection = projection;
@@ -8191,17 +9160,17 @@ public class CuratorService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public deleteNode_args(deleteNode_args other) {
+    public createNode_args(createNode_args other) {
       if (other.isSetProjection()) {
         this.projection = new CuratorProjection(other.projection);
       }
       if (other.isSetSpec()) {
-        this.spec = new DeleteSpec(other.spec);
+        this.spec = new CreateSpec(other.spec);
       }
     }
 
-    public deleteNode_args deepCopy() {
-      return new deleteNode_args(this);
+    public createNode_args deepCopy() {
+      return new createNode_args(this);
     }
 
     @Override
@@ -8214,7 +9183,7 @@ public class CuratorService {
       return this.projection;
     }
 
-    public deleteNode_args setProjection(CuratorProjection projection) {
+    public createNode_args setProjection(CuratorProjection projection) {
       this.projection = projection;
       return this;
     }
@@ -8234,11 +9203,11 @@ public class CuratorService {
       }
     }
 
-    public DeleteSpec getSpec() {
+    public CreateSpec getSpec() {
       return this.spec;
     }
 
-    public deleteNode_args setSpec(DeleteSpec spec) {
+    public createNode_args setSpec(CreateSpec spec) {
       this.spec = spec;
       return this;
     }
@@ -8272,7 +9241,7 @@ public class CuratorService {
         if (value == null) {
           unsetSpec();
         } else {
-          setSpec((DeleteSpec)value);
+          setSpec((CreateSpec)value);
         }
         break;
 
@@ -8310,12 +9279,12 @@ public class CuratorService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof deleteNode_args)
-        return this.equals((deleteNode_args)that);
+      if (that instanceof createNode_args)
+        return this.equals((createNode_args)that);
       return false;
     }
 
-    public boolean equals(deleteNode_args that) {
+    public boolean equals(createNode_args that) {
       if (that == null)
         return false;
 
@@ -8346,7 +9315,7 @@ public class CuratorService {
     }
 
     @Override
-    public int compareTo(deleteNode_args other) {
+    public int compareTo(createNode_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -8390,7 +9359,7 @@ public class CuratorService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("deleteNode_args(");
+      StringBuilder sb = new StringBuilder("createNode_args(");
       boolean first = true;
 
       sb.append("projection:");
@@ -8439,15 +9408,15 @@ public class CuratorService {
       }
     }
 
-    private static class deleteNode_argsStandardSchemeFactory implements SchemeFactory {
-      public deleteNode_argsStandardScheme getScheme() {
-        return new deleteNode_argsStandardScheme();
+    private static class createNode_argsStandardSchemeFactory implements SchemeFactory {
+      public createNode_argsStandardScheme getScheme() {
+        return new createNode_argsStandardScheme();
       }
     }
 
-    private static class deleteNode_argsStandardScheme extends StandardScheme<deleteNode_args> {
+    private static class createNode_argsStandardScheme extends StandardScheme<createNode_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, deleteNode_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, createNode_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -8468,7 +9437,7 @@ public class CuratorService {
               break;
             case 2: // SPEC
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.spec = new DeleteSpec();
+                struct.spec = new CreateSpec();
                 struct.spec.read(iprot);
                 struct.setSpecIsSet(true);
               } else { 
@@ -8486,7 +9455,7 @@ public class CuratorService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, deleteNode_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, createNode_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -8506,16 +9475,16 @@ public class CuratorService {
 
     }
 
-    private static class deleteNode_argsTupleSchemeFactory implements SchemeFactory {
-      public deleteNode_argsTupleScheme getScheme() {
-        return new deleteNode_argsTupleScheme();
+    private static class createNode_argsTupleSchemeFactory implements SchemeFactory {
+      public createNode_argsTupleScheme getScheme() {
+        return new createNode_argsTupleScheme();
       }
     }
 
-    private static class deleteNode_argsTupleScheme extends TupleScheme<deleteNode_args> {
+    private static class createNode_argsTupleScheme extends TupleScheme<createNode_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, deleteNode_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, createNode_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetProjection()) {
@@ -8534,7 +9503,7 @@ public class CuratorService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, deleteNode_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, createNode_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
@@ -8543,7 +9512,7 @@ public class CuratorService {
           struct.setProjectionIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.spec = new DeleteSpec();
+          struct.spec = new CreateSpec();
           struct.spec.read(iprot);
           struct.setSpecIsSet(true);
         }
@@ -8552,21 +9521,24 @@ public class CuratorService {
 
   }
 
-  public static class deleteNode_result implements org.apache.thrift.TBase<deleteNode_result, deleteNode_result._Fields>, java.io.Serializable, Cloneable, Comparable<deleteNode_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("deleteNode_result");
+  public static class createNode_result implements org.apache.thrift.TBase<createNode_result, createNode_result._Fields>, java.io.Serializable, Cloneable, Comparable<createNode_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("createNode_result");
 
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
     private static final org.apache.thrift.protocol.TField EX1_FIELD_DESC = new org.apache.thrift.protocol.TField("ex1", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new deleteNode_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new deleteNode_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new createNode_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new createNode_resultTupleSchemeFactory());
     }
 
+    public OptionalPath success; // required
     public CuratorException ex1; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
       EX1((short)1, "ex1");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
@@ -8582,6 +9554,8 @@ public class CuratorService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
           case 1: // EX1
             return EX1;
           default:
@@ -8627,45 +9601,77 @@ public class CuratorService {
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, OptionalPath.class)));
       tmpMap.put(_Fields.EX1, new org.apache.thrift.meta_data.FieldMetaData("ex1", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(deleteNode_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(createNode_result.class, metaDataMap);
     }
 
-    public deleteNode_result() {
+    public createNode_result() {
     }
 
-    public deleteNode_result(
+    public createNode_result(
+      OptionalPath success,
       CuratorException ex1)
     {
       this();
+      this.success = success;
       this.ex1 = ex1;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public deleteNode_result(deleteNode_result other) {
+    public createNode_result(createNode_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new OptionalPath(other.success);
+      }
       if (other.isSetEx1()) {
         this.ex1 = new CuratorException(other.ex1);
       }
     }
 
-    public deleteNode_result deepCopy() {
-      return new deleteNode_result(this);
+    public createNode_result deepCopy() {
+      return new createNode_result(this);
     }
 
     @Override
     public void clear() {
+      this.success = null;
       this.ex1 = null;
     }
 
+    public OptionalPath getSuccess() {
+      return this.success;
+    }
+
+    public createNode_result setSuccess(OptionalPath success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
     public CuratorException getEx1() {
       return this.ex1;
     }
 
-    public deleteNode_result setEx1(CuratorException ex1) {
+    public createNode_result setEx1(CuratorException ex1) {
       this.ex1 = ex1;
       return this;
     }
@@ -8687,6 +9693,14 @@ public class CuratorService {
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((OptionalPath)value);
+        }
+        break;
+
       case EX1:
         if (value == null) {
           unsetEx1();
@@ -8700,6 +9714,9 @@ public class CuratorService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
       case EX1:
         return getEx1();
 
@@ -8714,6 +9731,8 @@ public class CuratorService {
       }
 
       switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
       case EX1:
         return isSetEx1();
       }
@@ -8724,15 +9743,24 @@ public class CuratorService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof deleteNode_result)
-        return this.equals((deleteNode_result)that);
+      if (that instanceof createNode_result)
+        return this.equals((createNode_result)that);
       return false;
     }
 
-    public boolean equals(deleteNode_result that) {
+    public boolean equals(createNode_result that) {
       if (that == null)
         return false;
 
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
       boolean this_present_ex1 = true && this.isSetEx1();
       boolean that_present_ex1 = true && that.isSetEx1();
       if (this_present_ex1 || that_present_ex1) {
@@ -8751,13 +9779,23 @@ public class CuratorService {
     }
 
     @Override
-    public int compareTo(deleteNode_result other) {
+    public int compareTo(createNode_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       lastComparison = Boolean.valueOf(isSetEx1()).compareTo(other.isSetEx1());
       if (lastComparison != 0) {
         return lastComparison;
@@ -8785,12 +9823,20 @@ public class CuratorService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("deleteNode_result(");
+      StringBuilder sb = new StringBuilder("createNode_result(");
       boolean first = true;
 
-      sb.append("ex1:");
-      if (this.ex1 == null) {
-        sb.append("null");
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("ex1:");
+      if (this.ex1 == null) {
+        sb.append("null");
       } else {
         sb.append(this.ex1);
       }
@@ -8802,6 +9848,9 @@ public class CuratorService {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -8820,15 +9869,15 @@ public class CuratorService {
       }
     }
 
-    private static class deleteNode_resultStandardSchemeFactory implements SchemeFactory {
-      public deleteNode_resultStandardScheme getScheme() {
-        return new deleteNode_resultStandardScheme();
+    private static class createNode_resultStandardSchemeFactory implements SchemeFactory {
+      public createNode_resultStandardScheme getScheme() {
+        return new createNode_resultStandardScheme();
       }
     }
 
-    private static class deleteNode_resultStandardScheme extends StandardScheme<deleteNode_result> {
+    private static class createNode_resultStandardScheme extends StandardScheme<createNode_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, deleteNode_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, createNode_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -8838,6 +9887,15 @@ public class CuratorService {
             break;
           }
           switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new OptionalPath();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             case 1: // EX1
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
                 struct.ex1 = new CuratorException();
@@ -8858,10 +9916,15 @@ public class CuratorService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, deleteNode_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, createNode_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
         if (struct.ex1 != null) {
           oprot.writeFieldBegin(EX1_FIELD_DESC);
           struct.ex1.write(oprot);
@@ -8873,32 +9936,43 @@ public class CuratorService {
 
     }
 
-    private static class deleteNode_resultTupleSchemeFactory implements SchemeFactory {
-      public deleteNode_resultTupleScheme getScheme() {
-        return new deleteNode_resultTupleScheme();
+    private static class createNode_resultTupleSchemeFactory implements SchemeFactory {
+      public createNode_resultTupleScheme getScheme() {
+        return new createNode_resultTupleScheme();
       }
     }
 
-    private static class deleteNode_resultTupleScheme extends TupleScheme<deleteNode_result> {
+    private static class createNode_resultTupleScheme extends TupleScheme<createNode_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, deleteNode_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, createNode_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetEx1()) {
+        if (struct.isSetSuccess()) {
           optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetEx1()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          struct.success.write(oprot);
+        }
         if (struct.isSetEx1()) {
           struct.ex1.write(oprot);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, deleteNode_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, createNode_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(1);
+        BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
+          struct.success = new OptionalPath();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
           struct.ex1 = new CuratorException();
           struct.ex1.read(iprot);
           struct.setEx1IsSet(true);
@@ -8908,20 +9982,20 @@ public class CuratorService {
 
   }
 
-  public static class exists_args implements org.apache.thrift.TBase<exists_args, exists_args._Fields>, java.io.Serializable, Cloneable, Comparable<exists_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("exists_args");
+  public static class deleteNode_args implements org.apache.thrift.TBase<deleteNode_args, deleteNode_args._Fields>, java.io.Serializable, Cloneable, Comparable<deleteNode_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("deleteNode_args");
 
     private static final org.apache.thrift.protocol.TField PROJECTION_FIELD_DESC = new org.apache.thrift.protocol.TField("projection", org.apache.thrift.protocol.TType.STRUCT, (short)1);
     private static final org.apache.thrift.protocol.TField SPEC_FIELD_DESC = new org.apache.thrift.protocol.TField("spec", org.apache.thrift.protocol.TType.STRUCT, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new exists_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new exists_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new deleteNode_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new deleteNode_argsTupleSchemeFactory());
     }
 
     public CuratorProjection projection; // required
-    public ExistsSpec spec; // required
+    public DeleteSpec spec; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
@@ -8991,17 +10065,17 @@ public class CuratorService {
       tmpMap.put(_Fields.PROJECTION, new org.apache.thrift.meta_data.FieldMetaData("projection", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CuratorProjection.class)));
       tmpMap.put(_Fields.SPEC, new org.apache.thrift.meta_data.FieldMetaData("spec", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ExistsSpec.class)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, DeleteSpec.class)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(exists_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(deleteNode_args.class, metaDataMap);
     }
 
-    public exists_args() {
+    public deleteNode_args() {
     }
 
-    public exists_args(
+    public deleteNode_args(
       CuratorProjection projection,
-      ExistsSpec spec)
+      DeleteSpec spec)
     {
       this();
       this.projection = projection;
@@ -9011,17 +10085,17 @@ public class CuratorService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public exists_args(exists_args other) {
+    public deleteNode_args(deleteNode_args other) {
       if (other.isSetProjection()) {
         this.projection = new CuratorProjection(other.projection);
       }
       if (other.isSetSpec()) {
-        this.spec = new ExistsSpec(other.spec);
+        this.spec = new DeleteSpec(other.spec);
       }
     }
 
-    public exists_args deepCopy() {
-      return new exists_args(this);
+    public deleteNode_args deepCopy() {
+      return new deleteNode_args(this);
     }
 
     @Override
@@ -9034,7 +10108,7 @@ public class CuratorService {
       return this.projection;
     }
 
-    public exists_args setProjection(CuratorProjection projection) {
+    public deleteNode_args setProjection(CuratorProjection projection) {
       this.projection = projection;
       return this;
     }
@@ -9054,11 +10128,11 @@ public class CuratorService {
       }
     }
 
-    public ExistsSpec getSpec() {
+    public DeleteSpec getSpec() {
       return this.spec;
     }
 
-    public exists_args setSpec(ExistsSpec spec) {
+    public deleteNode_args setSpec(DeleteSpec spec) {
       this.spec = spec;
       return this;
     }
@@ -9092,7 +10166,7 @@ public class CuratorService {
         if (value == null) {
           unsetSpec();
         } else {
-          setSpec((ExistsSpec)value);
+          setSpec((DeleteSpec)value);
         }
         break;
 
@@ -9130,12 +10204,12 @@ public class CuratorService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof exists_args)
-        return this.equals((exists_args)that);
+      if (that instanceof deleteNode_args)
+        return this.equals((deleteNode_args)that);
       return false;
     }
 
-    public boolean equals(exists_args that) {
+    public boolean equals(deleteNode_args that) {
       if (that == null)
         return false;
 
@@ -9166,7 +10240,7 @@ public class CuratorService {
     }
 
     @Override
-    public int compareTo(exists_args other) {
+    public int compareTo(deleteNode_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -9210,7 +10284,7 @@ public class CuratorService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("exists_args(");
+      StringBuilder sb = new StringBuilder("deleteNode_args(");
       boolean first = true;
 
       sb.append("projection:");
@@ -9259,15 +10333,15 @@ public class CuratorService {
       }
     }
 
-    private static class exists_argsStandardSchemeFactory implements SchemeFactory {
-      public exists_argsStandardScheme getScheme() {
-        return new exists_argsStandardScheme();
+    private static class deleteNode_argsStandardSchemeFactory implements SchemeFactory {
+      public deleteNode_argsStandardScheme getScheme() {
+        return new deleteNode_argsStandardScheme();
       }
     }
 
-    private static class exists_argsStandardScheme extends StandardScheme<exists_args> {
+    private static class deleteNode_argsStandardScheme extends StandardScheme<deleteNode_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, exists_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, deleteNode_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -9288,7 +10362,7 @@ public class CuratorService {
               break;
             case 2: // SPEC
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.spec = new ExistsSpec();
+                struct.spec = new DeleteSpec();
                 struct.spec.read(iprot);
                 struct.setSpecIsSet(true);
               } else { 
@@ -9306,7 +10380,7 @@ public class CuratorService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, exists_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, deleteNode_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -9326,16 +10400,16 @@ public class CuratorService {
 
     }
 
-    private static class exists_argsTupleSchemeFactory implements SchemeFactory {
-      public exists_argsTupleScheme getScheme() {
-        return new exists_argsTupleScheme();
+    private static class deleteNode_argsTupleSchemeFactory implements SchemeFactory {
+      public deleteNode_argsTupleScheme getScheme() {
+        return new deleteNode_argsTupleScheme();
       }
     }
 
-    private static class exists_argsTupleScheme extends TupleScheme<exists_args> {
+    private static class deleteNode_argsTupleScheme extends TupleScheme<deleteNode_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, exists_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, deleteNode_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetProjection()) {
@@ -9354,7 +10428,7 @@ public class CuratorService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, exists_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, deleteNode_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
@@ -9363,7 +10437,7 @@ public class CuratorService {
           struct.setProjectionIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.spec = new ExistsSpec();
+          struct.spec = new DeleteSpec();
           struct.spec.read(iprot);
           struct.setSpecIsSet(true);
         }
@@ -9372,24 +10446,21 @@ public class CuratorService {
 
   }
 
-  public static class exists_result implements org.apache.thrift.TBase<exists_result, exists_result._Fields>, java.io.Serializable, Cloneable, Comparable<exists_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("exists_result");
+  public static class deleteNode_result implements org.apache.thrift.TBase<deleteNode_result, deleteNode_result._Fields>, java.io.Serializable, Cloneable, Comparable<deleteNode_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("deleteNode_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
     private static final org.apache.thrift.protocol.TField EX1_FIELD_DESC = new org.apache.thrift.protocol.TField("ex1", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new exists_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new exists_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new deleteNode_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new deleteNode_resultTupleSchemeFactory());
     }
 
-    public OptionalStat success; // required
     public CuratorException ex1; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      SUCCESS((short)0, "success"),
       EX1((short)1, "ex1");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
@@ -9405,8 +10476,6 @@ public class CuratorService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 0: // SUCCESS
-            return SUCCESS;
           case 1: // EX1
             return EX1;
           default:
@@ -9452,77 +10521,45 @@ public class CuratorService {
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, OptionalStat.class)));
       tmpMap.put(_Fields.EX1, new org.apache.thrift.meta_data.FieldMetaData("ex1", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(exists_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(deleteNode_result.class, metaDataMap);
     }
 
-    public exists_result() {
+    public deleteNode_result() {
     }
 
-    public exists_result(
-      OptionalStat success,
+    public deleteNode_result(
       CuratorException ex1)
     {
       this();
-      this.success = success;
       this.ex1 = ex1;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public exists_result(exists_result other) {
-      if (other.isSetSuccess()) {
-        this.success = new OptionalStat(other.success);
-      }
+    public deleteNode_result(deleteNode_result other) {
       if (other.isSetEx1()) {
         this.ex1 = new CuratorException(other.ex1);
       }
     }
 
-    public exists_result deepCopy() {
-      return new exists_result(this);
+    public deleteNode_result deepCopy() {
+      return new deleteNode_result(this);
     }
 
     @Override
     public void clear() {
-      this.success = null;
       this.ex1 = null;
     }
 
-    public OptionalStat getSuccess() {
-      return this.success;
-    }
-
-    public exists_result setSuccess(OptionalStat success) {
-      this.success = success;
-      return this;
-    }
-
-    public void unsetSuccess() {
-      this.success = null;
-    }
-
-    /** Returns true if field success is set (has been assigned a value) and false otherwise */
-    public boolean isSetSuccess() {
-      return this.success != null;
-    }
-
-    public void setSuccessIsSet(boolean value) {
-      if (!value) {
-        this.success = null;
-      }
-    }
-
     public CuratorException getEx1() {
       return this.ex1;
     }
 
-    public exists_result setEx1(CuratorException ex1) {
+    public deleteNode_result setEx1(CuratorException ex1) {
       this.ex1 = ex1;
       return this;
     }
@@ -9544,14 +10581,6 @@ public class CuratorService {
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case SUCCESS:
-        if (value == null) {
-          unsetSuccess();
-        } else {
-          setSuccess((OptionalStat)value);
-        }
-        break;
-
       case EX1:
         if (value == null) {
           unsetEx1();
@@ -9565,9 +10594,6 @@ public class CuratorService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case SUCCESS:
-        return getSuccess();
-
       case EX1:
         return getEx1();
 
@@ -9582,8 +10608,6 @@ public class CuratorService {
       }
 
       switch (field) {
-      case SUCCESS:
-        return isSetSuccess();
       case EX1:
         return isSetEx1();
       }
@@ -9594,24 +10618,15 @@ public class CuratorService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof exists_result)
-        return this.equals((exists_result)that);
+      if (that instanceof deleteNode_result)
+        return this.equals((deleteNode_result)that);
       return false;
     }
 
-    public boolean equals(exists_result that) {
+    public boolean equals(deleteNode_result that) {
       if (that == null)
         return false;
 
-      boolean this_present_success = true && this.isSetSuccess();
-      boolean that_present_success = true && that.isSetSuccess();
-      if (this_present_success || that_present_success) {
-        if (!(this_present_success && that_present_success))
-          return false;
-        if (!this.success.equals(that.success))
-          return false;
-      }
-
       boolean this_present_ex1 = true && this.isSetEx1();
       boolean that_present_ex1 = true && that.isSetEx1();
       if (this_present_ex1 || that_present_ex1) {
@@ -9630,23 +10645,13 @@ public class CuratorService {
     }
 
     @Override
-    public int compareTo(exists_result other) {
+    public int compareTo(deleteNode_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetSuccess()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
       lastComparison = Boolean.valueOf(isSetEx1()).compareTo(other.isSetEx1());
       if (lastComparison != 0) {
         return lastComparison;
@@ -9674,17 +10679,9 @@ public class CuratorService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("exists_result(");
+      StringBuilder sb = new StringBuilder("deleteNode_result(");
       boolean first = true;
 
-      sb.append("success:");
-      if (this.success == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.success);
-      }
-      first = false;
-      if (!first) sb.append(", ");
       sb.append("ex1:");
       if (this.ex1 == null) {
         sb.append("null");
@@ -9699,9 +10696,6 @@ public class CuratorService {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
-      if (success != null) {
-        success.validate();
-      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -9720,15 +10714,15 @@ public class CuratorService {
       }
     }
 
-    private static class exists_resultStandardSchemeFactory implements SchemeFactory {
-      public exists_resultStandardScheme getScheme() {
-        return new exists_resultStandardScheme();
+    private static class deleteNode_resultStandardSchemeFactory implements SchemeFactory {
+      public deleteNode_resultStandardScheme getScheme() {
+        return new deleteNode_resultStandardScheme();
       }
     }
 
-    private static class exists_resultStandardScheme extends StandardScheme<exists_result> {
+    private static class deleteNode_resultStandardScheme extends StandardScheme<deleteNode_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, exists_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, deleteNode_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -9738,15 +10732,6 @@ public class CuratorService {
             break;
           }
           switch (schemeField.id) {
-            case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.success = new OptionalStat();
-                struct.success.read(iprot);
-                struct.setSuccessIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
             case 1: // EX1
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
                 struct.ex1 = new CuratorException();
@@ -9767,15 +10752,10 @@ public class CuratorService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, exists_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, deleteNode_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.success != null) {
-          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          struct.success.write(oprot);
-          oprot.writeFieldEnd();
-        }
         if (struct.ex1 != null) {
           oprot.writeFieldBegin(EX1_FIELD_DESC);
           struct.ex1.write(oprot);
@@ -9787,43 +10767,32 @@ public class CuratorService {
 
     }
 
-    private static class exists_resultTupleSchemeFactory implements SchemeFactory {
-      public exists_resultTupleScheme getScheme() {
-        return new exists_resultTupleScheme();
+    private static class deleteNode_resultTupleSchemeFactory implements SchemeFactory {
+      public deleteNode_resultTupleScheme getScheme() {
+        return new deleteNode_resultTupleScheme();
       }
     }
 
-    private static class exists_resultTupleScheme extends TupleScheme<exists_result> {
+    private static class deleteNode_resultTupleScheme extends TupleScheme<deleteNode_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, exists_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, deleteNode_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetSuccess()) {
-          optionals.set(0);
-        }
         if (struct.isSetEx1()) {
-          optionals.set(1);
-        }
-        oprot.writeBitSet(optionals, 2);
-        if (struct.isSetSuccess()) {
-          struct.success.write(oprot);
+          optionals.set(0);
         }
+        oprot.writeBitSet(optionals, 1);
         if (struct.isSetEx1()) {
           struct.ex1.write(oprot);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, exists_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, deleteNode_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(2);
+        BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.success = new OptionalStat();
-          struct.success.read(iprot);
-          struct.setSuccessIsSet(true);
-        }
-        if (incoming.get(1)) {
           struct.ex1 = new CuratorException();
           struct.ex1.read(iprot);
           struct.setEx1IsSet(true);
@@ -9833,20 +10802,20 @@ public class CuratorService {
 
   }
 
-  public static class getChildren_args implements org.apache.thrift.TBase<getChildren_args, getChildren_args._Fields>, java.io.Serializable, Cloneable, Comparable<getChildren_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getChildren_args");
+  public static class exists_args implements org.apache.thrift.TBase<exists_args, exists_args._Fields>, java.io.Serializable, Cloneable, Comparable<exists_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("exists_args");
 
     private static final org.apache.thrift.protocol.TField PROJECTION_FIELD_DESC = new org.apache.thrift.protocol.TField("projection", org.apache.thrift.protocol.TType.STRUCT, (short)1);
     private static final org.apache.thrift.protocol.TField SPEC_FIELD_DESC = new org.apache.thrift.protocol.TField("spec", org.apache.thrift.protocol.TType.STRUCT, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new getChildren_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new getChildren_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new exists_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new exists_argsTupleSchemeFactory());
     }
 
     public CuratorProjection projection; // required
-    public GetChildrenSpec spec; // required
+    public ExistsSpec spec; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
@@ -9916,17 +10885,17 @@ public class CuratorService {
       tmpMap.put(_Fields.PROJECTION, new org.apache.thrift.meta_data.FieldMetaData("projection", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CuratorProjection.class)));
       tmpMap.put(_Fields.SPEC, new org.apache.thrift.meta_data.FieldMetaData("spec", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, GetChildrenSpec.class)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ExistsSpec.class)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getChildren_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(exists_args.class, metaDataMap);
     }
 
-    public getChildren_args() {
+    public exists_args() {
     }
 
-    public getChildren_args(
+    public exists_args(
       CuratorProjection projection,
-      GetChildrenSpec spec)
+      ExistsSpec spec)
     {
       this();
       this.projection = projection;
@@ -9936,17 +10905,17 @@ public class CuratorService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getChildren_args(getChildren_args other) {
+    public exists_args(exists_args other) {
       if (other.isSetProjection()) {
         this.projection = new CuratorProjection(other.projection);
       }
       if (other.isSetSpec()) {
-        this.spec = new GetChildrenSpec(other.spec);
+        this.spec = new ExistsSpec(other.spec);
       }
     }
 
-    public getChildren_args deepCopy() {
-      return new getChildren_args(this);
+    public exists_args deepCopy() {
+      return new exists_args(this);
     }
 
     @Override
@@ -9959,7 +10928,7 @@ public class CuratorService {
       return this.projection;
     }
 
-    public getChildren_args setProjection(CuratorProjection projection) {
+    public exists_args setProjection(CuratorProjection projection) {
       this.projection = projection;
       return this;
     }
@@ -9979,11 +10948,11 @@ public class CuratorService {
       }
     }
 
-    public GetChildrenSpec getSpec() {
+    public ExistsSpec getSpec() {
       return this.spec;
     }
 
-    public getChildren_args setSpec(GetChildrenSpec spec) {
+    public exists_args setSpec(ExistsSpec spec) {
       this.spec = spec;
       return this;
     }
@@ -10017,7 +10986,7 @@ public class CuratorService {
         if (value == null) {
           unsetSpec();
         } else {
-          setSpec((GetChildrenSpec)value);
+          setSpec((ExistsSpec)value);
         }
         break;
 
@@ -10055,12 +11024,12 @@ public class CuratorService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof getChildren_args)
-        return this.equals((getChildren_args)that);
+      if (that instanceof exists_args)
+        return this.equals((exists_args)that);
       return false;
     }
 
-    public boolean equals(getChildren_args that) {
+    public boolean equals(exists_args that) {
       if (that == null)
         return false;
 
@@ -10091,7 +11060,7 @@ public class CuratorService {
     }
 
     @Override
-    public int compareTo(getChildren_args other) {
+    public int compareTo(exists_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -10135,7 +11104,7 @@ public class CuratorService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("getChildren_args(");
+      StringBuilder sb = new StringBuilder("exists_args(");
       boolean first = true;
 
       sb.append("projection:");
@@ -10184,15 +11153,15 @@ public class CuratorService {
       }
     }
 
-    private static class getChildren_argsStandardSchemeFactory implements SchemeFactory {
-      public getChildren_argsStandardScheme getScheme() {
-        return new getChildren_argsStandardScheme();
+    private static class exists_argsStandardSchemeFactory implements SchemeFactory {
+      public exists_argsStandardScheme getScheme() {
+        return new exists_argsStandardScheme();
       }
     }
 
-    private static class getChildren_argsStandardScheme extends StandardScheme<getChildren_args> {
+    private static class exists_argsStandardScheme extends StandardScheme<exists_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getChildren_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, exists_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -10213,7 +11182,7 @@ public class CuratorService {
               break;
             case 2: // SPEC
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.spec = new GetChildrenSpec();
+                struct.spec = new ExistsSpec();
                 struct.spec.read(iprot);
                 struct.setSpecIsSet(true);
               } else { 
@@ -10231,7 +11200,7 @@ public class CuratorService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getChildren_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, exists_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -10251,16 +11220,16 @@ public class CuratorService {
 
     }
 
-    private static class getChildren_argsTupleSchemeFactory implements SchemeFactory {
-      public getChildren_argsTupleScheme getScheme() {
-        return new getChildren_argsTupleScheme();
+    private static class exists_argsTupleSchemeFactory implements SchemeFactory {
+      public exists_argsTupleScheme getScheme() {
+        return new exists_argsTupleScheme();
       }
     }
 
-    private static class getChildren_argsTupleScheme extends TupleScheme<getChildren_args> {
+    private static class exists_argsTupleScheme extends TupleScheme<exists_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getChildren_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, exists_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetProjection()) {
@@ -10279,7 +11248,7 @@ public class CuratorService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getChildren_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, exists_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
@@ -10288,7 +11257,7 @@ public class CuratorService {
           struct.setProjectionIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.spec = new GetChildrenSpec();
+          struct.spec = new ExistsSpec();
           struct.spec.read(iprot);
           struct.setSpecIsSet(true);
         }
@@ -10297,19 +11266,19 @@ public class CuratorService {
 
   }
 
-  public static class getChildren_result implements org.apache.thrift.TBase<getChildren_result, getChildren_result._Fields>, java.io.Serializable, Cloneable, Comparable<getChildren_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getChildren_result");
+  public static class exists_result implements org.apache.thrift.TBase<exists_result, exists_result._Fields>, java.io.Serializable, Cloneable, Comparable<exists_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("exists_result");
 
     private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
     private static final org.apache.thrift.protocol.TField EX1_FIELD_DESC = new org.apache.thrift.protocol.TField("ex1", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new getChildren_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new getChildren_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new exists_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new exists_resultTupleSchemeFactory());
     }
 
-    public OptionalChildrenList success; // required
+    public OptionalStat success; // required
     public CuratorException ex1; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
@@ -10378,18 +11347,18 @@ public class CuratorService {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, OptionalChildrenList.class)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, OptionalStat.class)));
       tmpMap.put(_Fields.EX1, new org.apache.thrift.meta_data.FieldMetaData("ex1", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getChildren_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(exists_result.class, metaDataMap);
     }
 
-    public getChildren_result() {
+    public exists_result() {
     }
 
-    public getChildren_result(
-      OptionalChildrenList success,
+    public exists_result(
+      OptionalStat success,
       CuratorException ex1)
     {
       this();
@@ -10400,17 +11369,17 @@ public class CuratorService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getChildren_result(getChildren_result other) {
+    public exists_result(exists_result other) {
       if (other.isSetSuccess()) {
-        this.success = new OptionalChildrenList(other.success);
+        this.success = new OptionalStat(other.success);
       }
       if (other.isSetEx1()) {
         this.ex1 = new CuratorException(other.ex1);
       }
     }
 
-    public getChildren_result deepCopy() {
-      return new getChildren_result(this);
+    public exists_result deepCopy() {
+      return new exists_result(this);
     }
 
     @Override
@@ -10419,11 +11388,11 @@ public class CuratorService {
       this.ex1 = null;
     }
 
-    public OptionalChildrenList getSuccess() {
+    public OptionalStat getSuccess() {
       return this.success;
     }
 
-    public getChildren_result setSuccess(OptionalChildrenList success) {
+    public exists_result setSuccess(OptionalStat success) {
       this.success = success;
       return this;
     }
@@ -10447,7 +11416,7 @@ public class CuratorService {
       return this.ex1;
     }
 
-    public getChildren_result setEx1(CuratorException ex1) {
+    public exists_result setEx1(CuratorException ex1) {
       this.ex1 = ex1;
       return this;
     }
@@ -10473,7 +11442,7 @@ public class CuratorService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((OptionalChildrenList)value);
+          setSuccess((OptionalStat)value);
         }
         break;
 
@@ -10519,12 +11488,12 @@ public class CuratorService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof getChildren_result)
-        return this.equals((getChildren_result)that);
+      if (that instanceof exists_result)
+        return this.equals((exists_result)that);
       return false;
     }
 
-    public boolean equals(getChildren_result that) {
+    public boolean equals(exists_result that) {
       if (that == null)
         return false;
 
@@ -10555,7 +11524,7 @@ public class CuratorService {
     }
 
     @Override
-    public int compareTo(getChildren_result other) {
+    public int compareTo(exists_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -10599,7 +11568,7 @@ public class CuratorService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("getChildren_result(");
+      StringBuilder sb = new StringBuilder("exists_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -10645,15 +11614,15 @@ public class CuratorService {
       }
     }
 
-    private static class getChildren_resultStandardSchemeFactory implements SchemeFactory {
-      public getChildren_resultStandardScheme getScheme() {
-        return new getChildren_resultStandardScheme();
+    private static class exists_resultStandardSchemeFactory implements SchemeFactory {
+      public exists_resultStandardScheme getScheme() {
+        return new exists_resultStandardScheme();
       }
     }
 
-    private static class getChildren_resultStandardScheme extends StandardScheme<getChildren_result> {
+    private static class exists_resultStandardScheme extends StandardScheme<exists_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getChildren_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, exists_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -10665,7 +11634,7 @@ public class CuratorService {
           switch (schemeField.id) {
             case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.success = new OptionalChildrenList();
+                struct.success = new OptionalStat();
                 struct.success.read(iprot);
                 struct.setSuccessIsSet(true);
               } else { 
@@ -10692,7 +11661,7 @@ public class CuratorService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getChildren_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, exists_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -10712,16 +11681,16 @@ public class CuratorService {
 
     }
 
-    private static class getChildren_resultTupleSchemeFactory implements SchemeFactory {
-      public getChildren_resultTupleScheme getScheme() {
-        return new getChildren_resultTupleScheme();
+    private static class exists_resultTupleSchemeFactory implements SchemeFactory {
+      public exists_resultTupleScheme getScheme() {
+        return new exists_resultTupleScheme();
       }
     }
 
-    private static class getChildren_resultTupleScheme extends TupleScheme<getChildren_result> {
+    private static class exists_resultTupleScheme extends TupleScheme<exists_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getChildren_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, exists_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -10740,11 +11709,11 @@ public class CuratorService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getChildren_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, exists_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.success = new OptionalChildrenList();
+          struct.success = new OptionalStat();
           struct.success.read(iprot);
           struct.setSuccessIsSet(true);
         }
@@ -10758,20 +11727,20 @@ public class CuratorService {
 
   }
 
-  public static class getData_args implements org.apache.thrift.TBase<getData_args, getData_args._Fields>, java.io.Serializable, Cloneable, Comparable<getData_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getData_args");
+  public static class getChildren_args implements org.apache.thrift.TBase<getChildren_args, getChildren_args._Fields>, java.io.Serializable, Cloneable, Comparable<getChildren_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getChildren_args");
 
     private static final org.apache.thrift.protocol.TField PROJECTION_FIELD_DESC = new org.apache.thrift.protocol.TField("projection", org.apache.thrift.protocol.TType.STRUCT, (short)1);
     private static final org.apache.thrift.protocol.TField SPEC_FIELD_DESC = new org.apache.thrift.protocol.TField("spec", org.apache.thrift.protocol.TType.STRUCT, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new getData_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new getData_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new getChildren_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getChildren_argsTupleSchemeFactory());
     }
 
     public CuratorProjection projection; // required
-    public GetDataSpec spec; // required
+    public GetChildrenSpec spec; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
@@ -10841,17 +11810,17 @@ public class CuratorService {
       tmpMap.put(_Fields.PROJECTION, new org.apache.thrift.meta_data.FieldMetaData("projection", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CuratorProjection.class)));
       tmpMap.put(_Fields.SPEC, new org.apache.thrift.meta_data.FieldMetaData("spec", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, GetDataSpec.class)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, GetChildrenSpec.class)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getData_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getChildren_args.class, metaDataMap);
     }
 
-    public getData_args() {
+    public getChildren_args() {
     }
 
-    public getData_args(
+    public getChildren_args(
       CuratorProjection projection,
-      GetDataSpec spec)
+      GetChildrenSpec spec)
     {
       this();
       this.projection = projection;
@@ -10861,17 +11830,17 @@ public class CuratorService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getData_args(getData_args other) {
+    public getChildren_args(getChildren_args other) {
       if (other.isSetProjection()) {
         this.projection = new CuratorProjection(other.projection);
       }
       if (other.isSetSpec()) {
-        this.spec = new GetDataSpec(other.spec);
+        this.spec = new GetChildrenSpec(other.spec);
       }
     }
 
-    public getData_args deepCopy() {
-      return new getData_args(this);
+    public getChildren_args deepCopy() {
+      return new getChildren_args(this);
     }
 
     @Override
@@ -10884,7 +11853,7 @@ public class CuratorService {
       return this.projection;
     }
 
-    public getData_args setProjection(CuratorProjection projection) {
+    public getChildren_args setProjection(CuratorProjection projection) {
       this.projection = projection;
       return this;
     }
@@ -10904,11 +11873,11 @@ public class CuratorService {
       }
     }
 
-    public GetDataSpec getSpec() {
+    public GetChildrenSpec getSpec() {
       return this.spec;
     }
 
-    public getData_args setSpec(GetDataSpec spec) {
+    public getChildren_args setSpec(GetChildrenSpec spec) {
       this.spec = spec;
       return this;
     }
@@ -10942,7 +11911,7 @@ public class CuratorService {
         if (value == null) {
           unsetSpec();
         } else {
-          setSpec((GetDataSpec)value);
+          setSpec((GetChildrenSpec)value);
         }
         break;
 
@@ -10980,12 +11949,12 @@ public class CuratorService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof getData_args)
-        return this.equals((getData_args)that);
+      if (that instanceof getChildren_args)
+        return this.equals((getChildren_args)that);
       return false;
     }
 
-    public boolean equals(getData_args that) {
+    public boolean equals(getChildren_args that) {
       if (that == null)
         return false;
 
@@ -11016,7 +11985,7 @@ public class CuratorService {
     }
 
     @Override
-    public int compareTo(getData_args other) {
+    public int compareTo(getChildren_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -11060,7 +12029,7 @@ public class CuratorService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("getData_args(");
+      StringBuilder sb = new StringBuilder("getChildren_args(");
       boolean first = true;
 
       sb.append("projection:");
@@ -11109,15 +12078,15 @@ public class CuratorService {
       }
     }
 
-    private static class getData_argsStandardSchemeFactory implements SchemeFactory {
-      public getData_argsStandardScheme getScheme() {
-        return new getData_argsStandardScheme();
+    private static class getChildren_argsStandardSchemeFactory implements SchemeFactory {
+      public getChildren_argsStandardScheme getScheme() {
+        return new getChildren_argsStandardScheme();
       }
     }
 
-    private static class getData_argsStandardScheme extends StandardScheme<getData_args> {
+    private static class getChildren_argsStandardScheme extends StandardScheme<getChildren_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getData_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getChildren_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -11138,7 +12107,7 @@ public class CuratorService {
               break;
             case 2: // SPEC
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.spec = new GetDataSpec();
+                struct.spec = new GetChildrenSpec();
                 struct.spec.read(iprot);
                 struct.setSpecIsSet(true);
               } else { 
@@ -11156,7 +12125,7 @@ public class CuratorService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getData_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getChildren_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -11176,16 +12145,16 @@ public class CuratorService {
 
     }
 
-    private static class getData_argsTupleSchemeFactory implements SchemeFactory {
-      public getData_argsTupleScheme getScheme() {
-        return new getData_argsTupleScheme();
+    private static class getChildren_argsTupleSchemeFactory implements SchemeFactory {
+      public getChildren_argsTupleScheme getScheme() {
+        return new getChildren_argsTupleScheme();
       }
     }
 
-    private static class getData_argsTupleScheme extends TupleScheme<getData_args> {
+    private static class getChildren_argsTupleScheme extends TupleScheme<getChildren_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getData_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getChildren_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetProjection()) {
@@ -11204,7 +12173,7 @@ public class CuratorService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getData_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getChildren_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
@@ -11213,7 +12182,7 @@ public class CuratorService {
           struct.setProjectionIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.spec = new GetDataSpec();
+          struct.spec = new GetChildrenSpec();
           struct.spec.read(iprot);
           struct.setSpecIsSet(true);
         }
@@ -11222,19 +12191,19 @@ public class CuratorService {
 
   }
 
-  public static class getData_result implements org.apache.thrift.TBase<getData_result, getData_result._Fields>, java.io.Serializable, Cloneable, Comparable<getData_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getData_result");
+  public static class getChildren_result implements org.apache.thrift.TBase<getChildren_result, getChildren_result._Fields>, java.io.Serializable, Cloneable, Comparable<getChildren_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getChildren_result");
 
     private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
     private static final org.apache.thrift.protocol.TField EX1_FIELD_DESC = new org.apache.thrift.protocol.TField("ex1", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new getData_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new getData_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new getChildren_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getChildren_resultTupleSchemeFactory());
     }
 
-    public OptionalData success; // required
+    public OptionalChildrenList success; // required
     public CuratorException ex1; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
@@ -11303,18 +12272,18 @@ public class CuratorService {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, OptionalData.class)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, OptionalChildrenList.class)));
       tmpMap.put(_Fields.EX1, new org.apache.thrift.meta_data.FieldMetaData("ex1", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getData_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getChildren_result.class, metaDataMap);
     }
 
-    public getData_result() {
+    public getChildren_result() {
     }
 
-    public getData_result(
-      OptionalData success,
+    public getChildren_result(
+      OptionalChildrenList success,
       CuratorException ex1)
     {
       this();
@@ -11325,17 +12294,17 @@ public class CuratorService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getData_result(getData_result other) {
+    public getChildren_result(getChildren_result other) {
       if (other.isSetSuccess()) {
-        this.success = new OptionalData(other.success);
+        this.success = new OptionalChildrenList(other.success);
       }
       if (other.isSetEx1()) {
         this.ex1 = new CuratorException(other.ex1);
       }
     }
 
-    public getData_result deepCopy() {
-      return new getData_result(this);
+    public getChildren_result deepCopy() {
+      return new getChildren_result(this);
     }
 
     @Override
@@ -11344,11 +12313,11 @@ public class CuratorService {
       this.ex1 = null;
     }
 
-    public OptionalData getSuccess() {
+    public OptionalChildrenList getSuccess() {
       return this.success;
     }
 
-    public getData_result setSuccess(OptionalData success) {
+    public getChildren_result setSuccess(OptionalChildrenList success) {
       this.success = success;
       return this;
     }
@@ -11372,7 +12341,7 @@ public class CuratorService {
       return this.ex1;
     }
 
-    public getData_result setEx1(CuratorException ex1) {
+    public getChildren_result setEx1(CuratorException ex1) {
       this.ex1 = ex1;
       return this;
     }
@@ -11398,7 +12367,7 @@ public class CuratorService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((OptionalData)value);
+          setSuccess((OptionalChildrenList)value);
         }
         break;
 
@@ -11444,12 +12413,12 @@ public class CuratorService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof getData_result)
-        return this.equals((getData_result)that);
+      if (that instanceof getChildren_result)
+        return this.equals((getChildren_result)that);
       return false;
     }
 
-    public boolean equals(getData_result that) {
+    public boolean equals(getChildren_result that) {
       if (that == null)
         return false;
 
@@ -11480,7 +12449,7 @@ public class CuratorService {
     }
 
     @Override
-    public int compareTo(getData_result other) {
+    public int compareTo(getChildren_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -11524,7 +12493,7 @@ public class CuratorService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("getData_result(");
+      StringBuilder sb = new StringBuilder("getChildren_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -11570,15 +12539,15 @@ public class CuratorService {
       }
     }
 
-    private static class getData_resultStandardSchemeFactory implements SchemeFactory {
-      public getData_resultStandardScheme getScheme() {
-        return new getData_resultStandardScheme();
+    private static class getChildren_resultStandardSchemeFactory implements SchemeFactory {
+      public getChildren_resultStandardScheme getScheme() {
+        return new getChildren_resultStandardScheme();
       }
     }
 
-    private static class getData_resultStandardScheme extends StandardScheme<getData_result> {
+    private static class getChildren_resultStandardScheme extends StandardScheme<getChildren_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getData_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getChildren_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -11590,7 +12559,7 @@ public class CuratorService {
           switch (schemeField.id) {
             case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.success = new OptionalData();
+                struct.success = new OptionalChildrenList();
                 struct.success.read(iprot);
                 struct.setSuccessIsSet(true);
               } else { 
@@ -11617,7 +12586,7 @@ public class CuratorService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getData_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getChildren_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -11637,16 +12606,16 @@ public class CuratorService {
 
     }
 
-    private static class getData_resultTupleSchemeFactory implements SchemeFactory {
-      public getData_resultTupleScheme getScheme() {
-        return new getData_resultTupleScheme();
+    private static class getChildren_resultTupleSchemeFactory implements SchemeFactory {
+      public getChildren_resultTupleScheme getScheme() {
+        return new getChildren_resultTupleScheme();
       }
     }
 
-    private static class getData_resultTupleScheme extends TupleScheme<getData_result> {
+    private static class getChildren_resultTupleScheme extends TupleScheme<getChildren_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getData_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getChildren_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -11665,11 +12634,11 @@ public class CuratorService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getData_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getChildren_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.success = new OptionalData();
+          struct.success = new OptionalChildrenList();
           struct.success.read(iprot);
           struct.setSuccessIsSet(true);
         }
@@ -11683,25 +12652,25 @@ public class CuratorService {
 
   }
 
-  public static class getLeaderParticipants_args implements org.apache.thrift.TBase<getLeaderParticipants_args, getLeaderParticipants_args._Fields>, java.io.Serializable, Cloneable, Comparable<getLeaderParticipants_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getLeaderParticipants_args");
+  public static class getData_args implements org.apache.thrift.TBase<getData_args, getData_args._Fields>, java.io.Serializable, Cloneable, Comparable<getData_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getData_args");
 
     private static final org.apache.thrift.protocol.TField PROJECTION_FIELD_DESC = new org.apache.thrift.protocol.TField("projection", org.apache.thrift.protocol.TType.STRUCT, (short)1);
-    private static final org.apache.thrift.protocol.TField LEADER_PROJECTION_FIELD_DESC = new org.apache.thrift.protocol.TField("leaderProjection", org.apache.thrift.protocol.TType.STRUCT, (short)2);
+    private static final org.apache.thrift.protocol.TField SPEC_FIELD_DESC = new org.apache.thrift.protocol.TField("spec", org.apache.thrift.protocol.TType.STRUCT, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new getLeaderParticipants_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new getLeaderParticipants_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new getData_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getData_argsTupleSchemeFactory());
     }
 
     public CuratorProjection projection; // required
-    public LeaderProjection leaderProjection; // required
+    public GetDataSpec spec; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       PROJECTION((short)1, "projection"),
-      LEADER_PROJECTION((short)2, "leaderProjection");
+      SPEC((short)2, "spec");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -11718,8 +12687,8 @@ public class CuratorService {
         switch(fieldId) {
           case 1: // PROJECTION
             return PROJECTION;
-          case 2: // LEADER_PROJECTION
-            return LEADER_PROJECTION;
+          case 2: // SPEC
+            return SPEC;
           default:
             return null;
         }
@@ -11765,51 +12734,51 @@ public class CuratorService {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.PROJECTION, new org.apache.thrift.meta_data.FieldMetaData("projection", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CuratorProjection.class)));
-      tmpMap.put(_Fields.LEADER_PROJECTION, new org.apache.thrift.meta_data.FieldMetaData("leaderProjection", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, LeaderProjection.class)));
+      tmpMap.put(_Fields.SPEC, new org.apache.thrift.meta_data.FieldMetaData("spec", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, GetDataSpec.class)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getLeaderParticipants_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getData_args.class, metaDataMap);
     }
 
-    public getLeaderParticipants_args() {
+    public getData_args() {
     }
 
-    public getLeaderParticipants_args(
+    public getData_args(
       CuratorProjection projection,
-      LeaderProjection leaderProjection)
+      GetDataSpec spec)
     {
       this();
       this.projection = projection;
-      this.leaderProjection = leaderProjection;
+      this.spec = spec;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getLeaderParticipants_args(getLeaderParticipants_args other) {
+    public getData_args(getData_args other) {
       if (other.isSetProjection()) {
         this.projection = new CuratorProjection(other.projection);
       }
-      if (other.isSetLeaderProjection()) {
-        this.leaderProjection = new LeaderProjection(other.leaderProjection);
+      if (other.isSetSpec()) {
+        this.spec = new GetDataSpec(other.spec);
       }
     }
 
-    public getLeaderParticipants_args deepCopy() {
-      return new getLeaderParticipants_args(this);
+    public getData_args deepCopy() {
+      return new getData_args(this);
     }
 
     @Override
     public void clear() {
       this.projection = null;
-      this.leaderProjection = null;
+      this.spec = null;
     }
 
     public CuratorProjection getProjection() {
       return this.projection;
     }
 
-    public getLeaderParticipants_args setProjection(CuratorProjection projection) {
+    public getData_args setProjection(CuratorProjection projection) {
       this.projection = projection;
       return this;
     }
@@ -11829,27 +12798,27 @@ public class CuratorService {
       }
     }
 
-    public LeaderProjection getLeaderProjection() {
-      return this.leaderProjection;
+    public GetDataSpec getSpec() {
+      return this.spec;
     }
 
-    public getLeaderParticipants_args setLeaderProjection(LeaderProjection leaderProjection) {
-      this.leaderProjection = leaderProjection;
+    public getData_args setSpec(GetDataSpec spec) {
+      this.spec = spec;
       return this;
     }
 
-    public void unsetLeaderProjection() {
-      this.leaderProjection = null;
+    public void unsetSpec() {
+      this.spec = null;
     }
 
-    /** Returns true if field leaderProjection is set (has been assigned a value) and false otherwise */
-    public boolean isSetLeaderProjection() {
-      return this.leaderProjection != null;
+    /** Returns true if field spec is set (has been assigned a value) and false otherwise */
+    public boolean isSetSpec() {
+      return this.spec != null;
     }
 
-    public void setLeaderProjectionIsSet(boolean value) {
+    public void setSpecIsSet(boolean value) {
       if (!value) {
-        this.leaderProjection = null;
+        this.spec = null;
       }
     }
 
@@ -11863,11 +12832,11 @@ public class CuratorService {
         }
         break;
 
-      case LEADER_PROJECTION:
+      case SPEC:
         if (value == null) {
-          unsetLeaderProjection();
+          unsetSpec();
         } else {
-          setLeaderProjection((LeaderProjection)value);
+          setSpec((GetDataSpec)value);
         }
         break;
 
@@ -11879,8 +12848,8 @@ public class CuratorService {
       case PROJECTION:
         return getProjection();
 
-      case LEADER_PROJECTION:
-        return getLeaderProjection();
+      case SPEC:
+        return getSpec();
 
       }
       throw new IllegalStateException();
@@ -11895,8 +12864,8 @@ public class CuratorService {
       switch (field) {
       case PROJECTION:
         return isSetProjection();
-      case LEADER_PROJECTION:
-        return isSetLeaderProjection();
+      case SPEC:
+        return isSetSpec();
       }
       throw new IllegalStateException();
     }
@@ -11905,12 +12874,12 @@ public class CuratorService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof getLeaderParticipants_args)
-        return this.equals((getLeaderParticipants_args)that);
+      if (that instanceof getData_args)
+        return this.equals((getData_args)that);
       return false;
     }
 
-    public boolean equals(getLeaderParticipants_args that) {
+    public boolean equals(getData_args that) {
       if (that == null)
         return false;
 
@@ -11923,12 +12892,12 @@ public class CuratorService {
           return false;
       }
 
-      boolean this_present_leaderProjection = true && this.isSetLeaderProjection();
-      boolean that_present_leaderProjection = true && that.isSetLeaderProjection();
-      if (this_present_leaderProjection || that_present_leaderProjection) {
-        if (!(this_present_leaderProjection && that_present_leaderProjection))
+      boolean this_present_spec = true && this.isSetSpec();
+      boolean that_present_spec = true && that.isSetSpec();
+      if (this_present_spec || that_present_spec) {
+        if (!(this_present_spec && that_present_spec))
           return false;
-        if (!this.leaderProjection.equals(that.leaderProjection))
+        if (!this.spec.equals(that.spec))
           return false;
       }
 
@@ -11941,7 +12910,7 @@ public class CuratorService {
     }
 
     @Override
-    public int compareTo(getLeaderParticipants_args other) {
+    public int compareTo(getData_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -11958,12 +12927,12 @@ public class CuratorService {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetLeaderProjection()).compareTo(other.isSetLeaderProjection());
+      lastComparison = Boolean.valueOf(isSetSpec()).compareTo(other.isSetSpec());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetLeaderProjection()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.leaderProjection, other.leaderProjection);
+      if (isSetSpec()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.spec, other.spec);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -11985,7 +12954,7 @@ public class CuratorService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("getLeaderParticipants_args(");
+      StringBuilder sb = new StringBuilder("getData_args(");
       boolean first = true;
 
       sb.append("projection:");
@@ -11996,11 +12965,11 @@ public class CuratorService {
       }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("leaderProjection:");
-      if (this.leaderProjection == null) {
+      sb.append("spec:");
+      if (this.spec == null) {
         sb.append("null");
       } else {
-        sb.append(this.leaderProjection);
+        sb.append(this.spec);
       }
       first = false;
       sb.append(")");
@@ -12013,8 +12982,8 @@ public class CuratorService {
       if (projection != null) {
         projection.validate();
       }
-      if (leaderProjection != null) {
-        leaderProjection.validate();
+      if (spec != null) {
+        spec.validate();
       }
     }
 
@@ -12034,15 +13003,15 @@ public class CuratorService {
       }
     }
 
-    private static class getLeaderParticipants_argsStandardSchemeFactory implements SchemeFactory {
-      public getLeaderParticipants_argsStandardScheme getScheme() {
-        return new getLeaderParticipants_argsStandardScheme();
+    private static class getData_argsStandardSchemeFactory implements SchemeFactory {
+      public getData_argsStandardScheme getScheme() {
+        return new getData_argsStandardScheme();
       }
     }
 
-    private static class getLeaderParticipants_argsStandardScheme extends StandardScheme<getLeaderParticipants_args> {
+    private static class getData_argsStandardScheme extends StandardScheme<getData_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getLeaderParticipants_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getData_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -12061,11 +13030,11 @@ public class CuratorService {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 2: // LEADER_PROJECTION
+            case 2: // SPEC
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.leaderProjection = new LeaderProjection();
-                struct.leaderProjection.read(iprot);
-                struct.setLeaderProjectionIsSet(true);
+                struct.spec = new GetDataSpec();
+                struct.spec.read(iprot);
+                struct.setSpecIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -12081,7 +13050,7 @@ public class CuratorService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getLeaderParticipants_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getData_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -12090,9 +13059,9 @@ public class CuratorService {
           struct.projection.write(oprot);
           oprot.writeFieldEnd();
         }
-        if (struct.leaderProjection != null) {
-          oprot.writeFieldBegin(LEADER_PROJECTION_FIELD_DESC);
-          struct.leaderProjection.write(oprot);
+        if (struct.spec != null) {
+          oprot.writeFieldBegin(SPEC_FIELD_DESC);
+          struct.spec.write(oprot);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -12101,35 +13070,35 @@ public class CuratorService {
 
     }
 
-    private static class getLeaderParticipants_argsTupleSchemeFactory implements SchemeFactory {
-      public getLeaderParticipants_argsTupleScheme getScheme() {
-        return new getLeaderParticipants_argsTupleScheme();
+    private static class getData_argsTupleSchemeFactory implements SchemeFactory {
+      public getData_argsTupleScheme getScheme() {
+        return new getData_argsTupleScheme();
       }
     }
 
-    private static class getLeaderParticipants_argsTupleScheme extends TupleScheme<getLeaderParticipants_args> {
+    private static class getData_argsTupleScheme extends TupleScheme<getData_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getLeaderParticipants_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getData_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetProjection()) {
           optionals.set(0);
         }
-        if (struct.isSetLeaderProjection()) {
+        if (struct.isSetSpec()) {
           optionals.set(1);
         }
         oprot.writeBitSet(optionals, 2);
         if (struct.isSetProjection()) {
           struct.projection.write(oprot);
         }
-        if (struct.isSetLeaderProjection()) {
-          struct.leaderProjection.write(oprot);
+        if (struct.isSetSpec()) {
+          struct.spec.write(oprot);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getLeaderParticipants_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getData_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
@@ -12138,28 +13107,28 @@ public class CuratorService {
           struct.setProjectionIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.leaderProjection = new LeaderProjection();
-          struct.leaderProjection.read(iprot);
-          struct.setLeaderProjectionIsSet(true);
+          struct.spec = new GetDataSpec();
+          struct.spec.read(iprot);
+          struct.setSpecIsSet(true);
         }
       }
     }
 
   }
 
-  public static class getLeaderParticipants_result implements org.apache.thrift.TBase<getLeaderParticipants_result, getLeaderParticipants_result._Fields>, java.io.Serializable, Cloneable, Comparable<getLeaderParticipants_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getLeaderParticipants_result");
+  public static class getData_result implements org.apache.thrift.TBase<getData_result, getData_result._Fields>, java.io.Serializable, Cloneable, Comparable<getData_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getData_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
     private static final org.apache.thrift.protocol.TField EX1_FIELD_DESC = new org.apache.thrift.protocol.TField("ex1", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new getLeaderParticipants_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new getLeaderParticipants_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new getData_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getData_resultTupleSchemeFactory());
     }
 
-    public List<Participant> success; // required
+    public OptionalData success; // required
     public CuratorException ex1; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
@@ -12228,19 +13197,18 @@ public class CuratorService {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
-              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, Participant.class))));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, OptionalData.class)));
       tmpMap.put(_Fields.EX1, new org.apache.thrift.meta_data.FieldMetaData("ex1", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getLeaderParticipants_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getData_result.class, metaDataMap);
     }
 
-    public getLeaderParticipants_result() {
+    public getData_result() {
     }
 
-    public getLeaderParticipants_result(
-      List<Participant> success,
+    public getData_result(
+      OptionalData success,
       CuratorException ex1)
     {
       this();
@@ -12251,21 +13219,17 @@ public class CuratorService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getLeaderParticipants_result(getLeaderParticipants_result other) {
+    public getData_result(getData_result other) {
       if (other.isSetSuccess()) {
-        List<Participant> __this__success = new ArrayList<Participant>(other.success.size());
-        for (Participant other_element : other.success) {
-          __this__success.add(new Participant(other_element));
-        }
-        this.success = __this__success;
+        this.success = new OptionalData(other.success);
       }
       if (other.isSetEx1()) {
         this.ex1 = new CuratorException(other.ex1);
       }
     }
 
-    public getLeaderParticipants_result deepCopy() {
-      return new getLeaderParticipants_result(this);
+    public getData_result deepCopy() {
+      return new getData_result(this);
     }
 
     @Override
@@ -12274,26 +13238,11 @@ public class CuratorService {
       this.ex1 = null;
     }
 
-    public int getSuccessSize() {
-      return (this.success == null) ? 0 : this.success.size();
-    }
-
-    public java.util.Iterator<Participant> getSuccessIterator() {
-      return (this.success == null) ? null : this.success.iterator();
-    }
-
-    public void addToSuccess(Participant elem) {
-      if (this.success == null) {
-        this.success = new ArrayList<Participant>();
-      }
-      this.success.add(elem);
-    }
-
-    public List<Participant> getSuccess() {
+    public OptionalData getSuccess() {
       return this.success;
     }
 
-    public getLeaderParticipants_result setSuccess(List<Participant> success) {
+    public getData_result setSuccess(OptionalData success) {
       this.success = success;
       return this;
     }
@@ -12317,7 +13266,7 @@ public class CuratorService {
       return this.ex1;
     }
 
-    public getLeaderParticipants_result setEx1(CuratorException ex1) {
+    public getData_result setEx1(CuratorException ex1) {
       this.ex1 = ex1;
       return this;
     }
@@ -12343,7 +13292,7 @@ public class CuratorService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((List<Participant>)value);
+          setSuccess((OptionalData)value);
         }
         break;
 
@@ -12389,12 +13338,12 @@ public class CuratorService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof getLeaderParticipants_result)
-        return this.equals((getLeaderParticipants_result)that);
+      if (that instanceof getData_result)
+        return this.equals((getData_result)that);
       return false;
     }
 
-    public boolean equals(getLeaderParticipants_result that) {
+    public boolean equals(getData_result that) {
       if (that == null)
         return false;
 
@@ -12425,7 +13374,7 @@ public class CuratorService {
     }
 
     @Override
-    public int compareTo(getLeaderParticipants_result other) {
+    public int compareTo(getData_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -12469,7 +13418,7 @@ public class CuratorService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("getLeaderParticipants_result(");
+      StringBuilder sb = new StringBuilder("getData_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -12494,6 +13443,9 @@ public class CuratorService {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -12512,15 +13464,15 @@ public class CuratorService {
       }
     }
 
-    private static class getLeaderParticipants_resultStandardSchemeFactory implements SchemeFactory {
-      public getLeaderParticipants_resultStandardScheme getScheme() {
-        return new getLeaderParticipants_resultStandardScheme();
+    private static class getData_resultStandardSchemeFactory implements SchemeFactory {
+      public getData_resultStandardScheme getScheme() {
+        return new getData_resultStandardScheme();
       }
     }
 
-    private static class getLeaderParticipants_resultStandardScheme extends StandardScheme<getLeaderParticipants_result> {
+    private static class getData_resultStandardScheme extends StandardScheme<getData_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getLeaderParticipants_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getData_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -12531,19 +13483,9 @@ public class CuratorService {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
-                {
-                  org.apache.thrift.protocol.TList _list32 = iprot.readListBegin();
-                  struct.success = new ArrayList<Participant>(_list32.size);
-                  for (int _i33 = 0; _i33 < _list32.size; ++_i33)
-                  {
-                    Participant _elem34;
-                    _elem34 = new Participant();
-                    _elem34.read(iprot);
-                    struct.success.add(_elem34);
-                  }
-                  iprot.readListEnd();
-                }
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new OptionalData();
+                struct.success.read(iprot);
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
@@ -12569,20 +13511,13 @@ public class CuratorService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getLeaderParticipants_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getData_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
         if (struct.success != null) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          {
-            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
-            for (Participant _iter35 : struct.success)
-            {
-              _iter35.write(oprot);
-            }
-            oprot.writeListEnd();
-          }
+          struct.success.write(oprot);
           oprot.writeFieldEnd();
         }
         if (struct.ex1 != null) {
@@ -12596,16 +13531,16 @@ public class CuratorService {
 
     }
 
-    private static class getLeaderParticipants_resultTupleSchemeFactory implements SchemeFactory {
-      public getLeaderParticipants_resultTupleScheme getScheme() {
-        return new getLeaderParticipants_resultTupleScheme();
+    private static class getData_resultTupleSchemeFactory implements SchemeFactory {
+      public getData_resultTupleScheme getScheme() {
+        return new getData_resultTupleScheme();
       }
     }
 
-    private static class getLeaderParticipants_resultTupleScheme extends TupleScheme<getLeaderParticipants_result> {
+    private static class getData_resultTupleScheme extends TupleScheme<getData_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getLeaderParticipants_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getData_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -12616,13 +13551,7 @@ public class CuratorService {
         }
         oprot.writeBitSet(optionals, 2);
         if (struct.isSetSuccess()) {
-          {
-            oprot.writeI32(struct.success.size());
-            for (Participant _iter36 : struct.success)
-            {
-              _iter36.write(oprot);
-            }
-          }
+          struct.success.write(oprot);
         }
         if (struct.isSetEx1()) {
           struct.ex1.write(oprot);
@@ -12630,21 +13559,12 @@ public class CuratorService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getLeaderParticipants_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getData_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          {
-            org.apache.thrift.protocol.TList _list37 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
-            struct.success = new ArrayList<Participant>(_list37.size);
-            for (int _i38 = 0; _i38 < _list37.size; ++_i38)
-            {
-              Participant _elem39;
-              _elem39 = new Participant();
-              _elem39.read(iprot);
-              struct.success.add(_elem39);
-            }
-          }
+          struct.success = new OptionalData();
+          struct.success.read(iprot);
           struct.setSuccessIsSet(true);
         }
         if (incoming.get(1)) {
@@ -12657,25 +13577,25 @@ public class CuratorService {
 
   }
 
-  public static class getNodeCacheData_args implements org.apache.thrift.TBase<getNodeCacheData_args, getNodeCacheData_args._Fields>, java.io.Serializable, Cloneable, Comparable<getNodeCacheData_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getNodeCacheData_args");
+  public static class getLeaderParticipants_args implements org.apache.thrift.TBase<getLeaderParticipants_args, getLeaderParticipants_args._Fields>, java.io.Serializable, Cloneable, Comparable<getLeaderParticipants_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getLeaderParticipants_args");
 
     private static final org.apache.thrift.protocol.TField PROJECTION_FIELD_DESC = new org.apache.thrift.protocol.TField("projection", org.apache.thrift.protocol.TType.STRUCT, (short)1);
-    private static final org.apache.thrift.protocol.TField CACHE_PROJECTION_FIELD_DESC = new org.apache.thrift.protocol.TField("cacheProjection", org.apache.thrift.protocol.TType.STRUCT, (short)2);
+    private static final org.apache.thrift.protocol.TField LEADER_PROJECTION_FIELD_DESC = new org.apache.thrift.protocol.TField("leaderProjection", org.apache.thrift.protocol.TType.STRUCT, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new getNodeCacheData_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new getNodeCacheData_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new getLeaderParticipants_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getLeaderParticipants_argsTupleSchemeFactory());
     }
 
     public CuratorProjection projection; // required
-    public NodeCacheProjection cacheProjection; // required
+    public LeaderProjection leaderProjection; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       PROJECTION((short)1, "projection"),
-      CACHE_PROJECTION((short)2, "cacheProjection");
+      LEADER_PROJECTION((short)2, "leaderProjection");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -12692,8 +13612,8 @@ public class CuratorService {
         switch(fieldId) {
           case 1: // PROJECTION
             return PROJECTION;
-          case 2: // CACHE_PROJECTION
-            return CACHE_PROJECTION;
+          case 2: // LEADER_PROJECTION
+            return LEADER_PROJECTION;
           default:
             return null;
         }
@@ -12739,51 +13659,51 @@ public class CuratorService {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.PROJECTION, new org.apache.thrift.meta_data.FieldMetaData("projection", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CuratorProjection.class)));
-      tmpMap.put(_Fields.CACHE_PROJECTION, new org.apache.thrift.meta_data.FieldMetaData("cacheProjection", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, NodeCacheProjection.class)));
+      tmpMap.put(_Fields.LEADER_PROJECTION, new org.apache.thrift.meta_data.FieldMetaData("leaderProjection", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, LeaderProjection.class)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getNodeCacheData_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getLeaderParticipants_args.class, metaDataMap);
     }
 
-    public getNodeCacheData_args() {
+    public getLeaderParticipants_args() {
     }
 
-    public getNodeCacheData_args(
+    public getLeaderParticipants_args(
       CuratorProjection projection,
-      NodeCacheProjection cacheProjection)
+      LeaderProjection leaderProjection)
     {
       this();
       this.projection = projection;
-      this.cacheProjection = cacheProjection;
+      this.leaderProjection = leaderProjection;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getNodeCacheData_args(getNodeCacheData_args other) {
+    public getLeaderParticipants_args(getLeaderParticipants_args other) {
       if (other.isSetProjection()) {
         this.projection = new CuratorProjection(other.projection);
       }
-      if (other.isSetCacheProjection()) {
-        this.cacheProjection = new NodeCacheProjection(other.cacheProjection);
+      if (other.isSetLeaderProjection()) {
+        this.leaderProjection = new LeaderProjection(other.leaderProjection);
       }
     }
 
-    public getNodeCacheData_args deepCopy() {
-      return new getNodeCacheData_args(this);
+    public getLeaderParticipants_args deepCopy() {
+      return new getLeaderParticipants_args(this);
     }
 
     @Override
     public void clear() {
       this.projection = null;
-      this.cacheProjection = null;
+      this.leaderProjection = null;
     }
 
     public CuratorProjection getProjection() {
       return this.projection;
     }
 
-    public getNodeCacheData_args setProjection(CuratorProjection projection) {
+    public getLeaderParticipants_args setProjection(CuratorProjection projection) {
       this.projection = projection;
       return this;
     }
@@ -12803,27 +13723,27 @@ public class CuratorService {
       }
     }
 
-    public NodeCacheProjection getCacheProjection() {
-      return this.cacheProjection;
+    public LeaderProjection getLeaderProjection() {
+      return this.leaderProjection;
     }
 
-    public getNodeCacheData_args setCacheProjection(NodeCacheProjection cacheProjection) {
-      this.cacheProjection = cacheProjection;
+    public getLeaderParticipants_args setLeaderProjection(LeaderProjection leaderProjection) {
+      this.leaderProjection = leaderProjection;
       return this;
     }
 
-    public void unsetCacheProjection() {
-      this.cacheProjection = null;
+    public void unsetLeaderProjection() {
+      this.leaderProjection = null;
     }
 
-    /** Returns true if field cacheProjection is set (has been assigned a value) and false otherwise */
-    public boolean isSetCacheProjection() {
-      return this.cacheProjection != null;
+    /** Returns true if field leaderProjection is set (has been assigned a value) and false otherwise */
+    public boolean isSetLeaderProjection() {
+      return this.leaderProjection != null;
     }
 
-    public void setCacheProjectionIsSet(boolean value) {
+    public void setLeaderProjectionIsSet(boolean value) {
       if (!value) {
-        this.cacheProjection = null;
+        this.leaderProjection = null;
       }
     }
 
@@ -12837,11 +13757,11 @@ public class CuratorService {
         }
         break;
 
-      case CACHE_PROJECTION:
+      case LEADER_PROJECTION:
         if (value == null) {
-          unsetCacheProjection();
+          unsetLeaderProjection();
         } else {
-          setCacheProjection((NodeCacheProjection)value);
+          setLeaderProjection((LeaderProjection)value);
         }
         break;
 
@@ -12853,8 +13773,8 @@ public class CuratorService {
       case PROJECTION:
         return getProjection();
 
-      case CACHE_PROJECTION:
-        return getCacheProjection();
+      case LEADER_PROJECTION:
+        return getLeaderProjection();
 
       }
       throw new IllegalStateException();
@@ -12869,8 +13789,8 @@ public class CuratorService {
       switch (field) {
       case PROJECTION:
         return isSetProjection();
-      case CACHE_PROJECTION:
-        return isSetCacheProjection();
+      case LEADER_PROJECTION:
+        return isSetLeaderProjection();
       }
       throw new IllegalStateException();
     }
@@ -12879,12 +13799,12 @@ public class CuratorService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof getNodeCacheData_args)
-        return this.equals((getNodeCacheData_args)that);
+      if (that instanceof getLeaderParticipants_args)
+        return this.equals((getLeaderParticipants_args)that);
       return false;
     }
 
-    public boolean equals(getNodeCacheData_args that) {
+    public boolean equals(getLeaderParticipants_args that) {
       if (that == null)
         return false;
 
@@ -12897,12 +13817,12 @@ public class CuratorService {
           return false;
       }
 
-      boolean this_present_cacheProjection = true && this.isSetCacheProjection();
-      boolean that_present_cacheProjection = true && that.isSetCacheProjection();
-      if (this_present_cacheProjection || that_present_cacheProjection) {
-        if (!(this_present_cacheProjection && that_present_cacheProjection))
+      boolean this_present_leaderProjection = true && this.isSetLeaderProjection();
+      boolean that_present_leaderProjection = true && that.isSetLeaderProjection();
+      if (this_present_leaderProjection || that_present_leaderProjection) {
+        if (!(this_present_leaderProjection && that_present_leaderProjection))
           return false;
-        if (!this.cacheProjection.equals(that.cacheProjection))
+        if (!this.leaderProjection.equals(that.leaderProjection))
           return false;
       }
 
@@ -12915,7 +13835,7 @@ public class CuratorService {
     }
 
     @Override
-    public int compareTo(getNodeCacheData_args other) {
+    public int compareTo(getLeaderParticipants_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -12932,12 +13852,12 @@ public class CuratorService {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetCacheProjection()).compareTo(other.isSetCacheProjection());
+      lastComparison = Boolean.valueOf(isSetLeaderProjection()).compareTo(other.isSetLeaderProjection());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetCacheProjection()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.cacheProjection, other.cacheProjection);
+      if (isSetLeaderProjection()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.leaderProjection, other.leaderProjection);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -12959,7 +13879,7 @@ public class CuratorService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("getNodeCacheData_args(");
+      StringBuilder sb = new StringBuilder("getLeaderParticipants_args(");
       boolean first = true;
 
       sb.append("projection:");
@@ -12970,11 +13890,11 @@ public class CuratorService {
       }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("cacheProjection:");
-      if (this.cacheProjection == null) {
+      sb.append("leaderProjection:");
+      if (this.leaderProjection == null) {
         sb.append("null");
       } else {
-        sb.append(this.cacheProjection);
+        sb.append(this.leaderProjection);
       }
       first = false;
       sb.append(")");
@@ -12987,8 +13907,8 @@ public class CuratorService {
       if (projection != null) {
         projection.validate();
       }
-      if (cacheProjection != null) {
-        cacheProjection.validate();
+      if (leaderProjection != null) {
+        leaderProjection.validate();
       }
     }
 
@@ -13008,15 +13928,15 @@ public class CuratorService {
       }
     }
 
-    private static class getNodeCacheData_argsStandardSchemeFactory implements SchemeFactory {
-      public getNodeCacheData_argsStandardScheme getScheme() {
-        return new getNodeCacheData_argsStandardScheme();
+    private static class getLeaderParticipants_argsStandardSchemeFactory implements SchemeFactory {
+      public getLeaderParticipants_argsStandardScheme getScheme() {
+        return new getLeaderParticipants_argsStandardScheme();
       }
     }
 
-    private static class getNodeCacheData_argsStandardScheme extends StandardScheme<getNodeCacheData_args> {
+    private static class getLeaderParticipants_argsStandardScheme extends StandardScheme<getLeaderParticipants_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getNodeCacheData_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getLeaderParticipants_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -13035,11 +13955,11 @@ public class CuratorService {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 2: // CACHE_PROJECTION
+            case 2: // LEADER_PROJECTION
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.cacheProjection = new NodeCacheProjection();
-                struct.cacheProjection.read(iprot);
-                struct.setCacheProjectionIsSet(true);
+                struct.leaderProjection = new LeaderProjection();
+                struct.leaderProjection.read(iprot);
+                struct.setLeaderProjectionIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -13055,7 +13975,7 @@ public class CuratorService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getNodeCacheData_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getLeaderParticipants_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -13064,9 +13984,9 @@ public class CuratorService {
           struct.projection.write(oprot);
           oprot.writeFieldEnd();
         }
-        if (struct.cacheProjection != null) {
-          oprot.writeFieldBegin(CACHE_PROJECTION_FIELD_DESC);
-          struct.cacheProjection.write(oprot);
+        if (struct.leaderProjection != null) {
+          oprot.writeFieldBegin(LEADER_PROJECTION_FIELD_DESC);
+          struct.leaderProjection.write(oprot);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -13075,35 +13995,35 @@ public class CuratorService {
 
     }
 
-    private static class getNodeCacheData_argsTupleSchemeFactory implements SchemeFactory {
-      public getNodeCacheData_argsTupleScheme getScheme() {
-        return new getNodeCacheData_argsTupleScheme();
+    private static class getLeaderParticipants_argsTupleSchemeFactory implements SchemeFactory {
+      public getLeaderParticipants_argsTupleScheme getScheme() {
+        return new getLeaderParticipants_argsTupleScheme();
       }
     }
 
-    private static class getNodeCacheData_argsTupleScheme extends TupleScheme<getNodeCacheData_args> {
+    private static class getLeaderParticipants_argsTupleScheme extends TupleScheme<getLeaderParticipants_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getNodeCacheData_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getLeaderParticipants_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetProjection()) {
           optionals.set(0);
         }
-        if (struct.isSetCacheProjection()) {
+        if (struct.isSetLeaderProjection()) {
           optionals.set(1);
         }
         oprot.writeBitSet(optionals, 2);
         if (struct.isSetProjection()) {
           struct.projection.write(oprot);
         }
-        if (struct.isSetCacheProjection()) {
-          struct.cacheProjection.write(oprot);
+        if (struct.isSetLeaderProjection()) {
+          struct.leaderProjection.write(oprot);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getNodeCacheData_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getLeaderParticipants_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
@@ -13112,28 +14032,28 @@ public class CuratorService {
           struct.setProjectionIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.cacheProjection = new NodeCacheProjection();
-          struct.cacheProjection.read(iprot);
-          struct.setCacheProjectionIsSet(true);
+          struct.leaderProjection = new LeaderProjection();
+          struct.leaderProjection.read(iprot);
+          struct.setLeaderProjectionIsSet(true);
         }
       }
     }
 
   }
 
-  public static class getNodeCacheData_result implements org.apache.thrift.TBase<getNodeCacheData_result, getNodeCacheData_result._Fields>, java.io.Serializable, Cloneable, Comparable<getNodeCacheData_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getNodeCacheData_result");
+  public static class getLeaderParticipants_result implements org.apache.thrift.TBase<getLeaderParticipants_result, getLeaderParticipants_result._Fields>, java.io.Serializable, Cloneable, Comparable<getLeaderParticipants_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getLeaderParticipants_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
     private static final org.apache.thrift.protocol.TField EX1_FIELD_DESC = new org.apache.thrift.protocol.TField("ex1", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new getNodeCacheData_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new getNodeCacheData_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new getLeaderParticipants_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getLeaderParticipants_resultTupleSchemeFactory());
     }
 
-    public ChildData success; // required
+    public List<Participant> success; // required
     public CuratorException ex1; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
@@ -13202,18 +14122,19 @@ public class CuratorService {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ChildData.class)));
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, Participant.class))));
       tmpMap.put(_Fields.EX1, new org.apache.thrift.meta_data.FieldMetaData("ex1", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getNodeCacheData_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getLeaderParticipants_result.class, metaDataMap);
     }
 
-    public getNodeCacheData_result() {
+    public getLeaderParticipants_result() {
     }
 
-    public getNodeCacheData_result(
-      ChildData success,
+    public getLeaderParticipants_result(
+      List<Participant> success,
       CuratorException ex1)
     {
       this();
@@ -13224,17 +14145,21 @@ public class CuratorService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getNodeCacheData_result(getNodeCacheData_result other) {
+    public getLeaderParticipants_result(getLeaderParticipants_result other) {
       if (other.isSetSuccess()) {
-        this.success = new ChildData(other.success);
+        List<Participant> __this__success = new ArrayList<Participant>(other.success.size());
+        for (Participant other_element : other.success) {
+          __this__success.add(new Participant(other_element));
+        }
+        this.success = __this__success;
       }
       if (other.isSetEx1()) {
         this.ex1 = new CuratorException(other.ex1);
       }
     }
 
-    public getNodeCacheData_result deepCopy() {
-      return new getNodeCacheData_result(this);
+    public getLeaderParticipants_result deepCopy() {
+      return new getLeaderParticipants_result(this);
     }
 
     @Override
@@ -13243,11 +14168,26 @@ public class CuratorService {
       this.ex1 = null;
     }
 
-    public ChildData getSuccess() {
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
+    }
+
+    public java.util.Iterator<Participant> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
+    }
+
+    public void addToSuccess(Participant elem) {
+      if (this.success == null) {
+        this.success = new ArrayList<Participant>();
+      }
+      this.success.add(elem);
+    }
+
+    public List<Participant> getSuccess() {
       return this.success;
     }
 
-    public getNodeCacheData_result setSuccess(ChildData success) {
+    public getLeaderParticipants_result setSuccess(List<Participant> success) {
       this.success = success;
       return this;
     }
@@ -13271,7 +14211,7 @@ public class CuratorService {
       return this.ex1;
     }
 
-    public getNodeCacheData_result setEx1(CuratorException ex1) {
+    public getLeaderParticipants_result setEx1(CuratorException ex1) {
       this.ex1 = ex1;
       return this;
     }
@@ -13297,7 +14237,7 @@ public class CuratorService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((ChildData)value);
+          setSuccess((List<Participant>)value);
         }
         break;
 
@@ -13343,12 +14283,12 @@ public class CuratorService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof getNodeCacheData_result)
-        return this.equals((getNodeCacheData_result)that);
+      if (that instanceof getLeaderParticipants_result)
+        return this.equals((getLeaderParticipants_result)that);
       return false;
     }
 
-    public boolean equals(getNodeCacheData_result that) {
+    public boolean equals(getLeaderParticipants_result that) {
       if (that == null)
         return false;
 
@@ -13379,7 +14319,7 @@ public class CuratorService {
     }
 
     @Override
-    public int compareTo(getNodeCacheData_result other) {
+    public int compareTo(getLeaderParticipants_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -13423,7 +14363,7 @@ public class CuratorService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("getNodeCacheData_result(");
+      StringBuilder sb = new StringBuilder("getLeaderParticipants_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -13448,9 +14388,6 @@ public class CuratorService {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
-      if (success != null) {
-        success.validate();
-      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -13469,15 +14406,15 @@ public class CuratorService {
       }
     }
 
-    private static class getNodeCacheData_resultStandardSchemeFactory implements SchemeFactory {
-      public getNodeCacheData_resultStandardScheme getScheme() {
-        return new getNodeCacheData_resultStandardScheme();
+    private static class getLeaderParticipants_resultStandardSchemeFactory implements SchemeFactory {
+      public getLeaderParticipants_resultStandardScheme getScheme() {
+        return new getLeaderParticipants_resultStandardScheme();
       }
     }
 
-    private static class getNodeCacheData_resultStandardScheme extends StandardScheme<getNodeCacheData_result> {
+    private static class getLeaderParticipants_resultStandardScheme extends StandardScheme<getLeaderParticipants_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getNodeCacheData_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getLeaderParticipants_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -13488,9 +14425,19 @@ public class CuratorService {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.success = new ChildData();
-                struct.success.read(iprot);
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list80 = iprot.readListBegin();
+                  struct.success = new ArrayList<Participant>(_list80.size);
+                  for (int _i81 = 0; _i81 < _list80.size; ++_i81)
+                  {
+                    Participant _elem82;
+                    _elem82 = new Participant();
+                    _elem82.read(iprot);
+                    struct.success.add(_elem82);
+                  }
+                  iprot.readListEnd();
+                }
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
@@ -13516,13 +14463,20 @@ public class CuratorService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getNodeCacheData_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getLeaderParticipants_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
         if (struct.success != null) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          struct.success.write(oprot);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
+            for (Participant _iter83 : struct.success)
+            {
+              _iter83.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
           oprot.writeFieldEnd();
         }
         if (struct.ex1 != null) {
@@ -13536,16 +14490,16 @@ public class CuratorService {
 
     }
 
-    private static class getNodeCacheData_resultTupleSchemeFactory implements SchemeFactory {
-      public getNodeCacheData_resultTupleScheme getScheme() {
-        return new getNodeCacheData_resultTupleScheme();
+    private static class getLeaderParticipants_resultTupleSchemeFactory implements SchemeFactory {
+      public getLeaderParticipants_resultTupleScheme getScheme() {
+        return new getLeaderParticipants_resultTupleScheme();
       }
     }
 
-    private static class getNodeCacheData_resultTupleScheme extends TupleScheme<getNodeCacheData_result> {
+    private static class getLeaderParticipants_resultTupleScheme extends TupleScheme<getLeaderParticipants_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getNodeCacheData_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getLeaderParticipants_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -13556,7 +14510,13 @@ public class CuratorService {
         }
         oprot.writeBitSet(optionals, 2);
         if (struct.isSetSuccess()) {
-          struct.success.write(oprot);
+          {
+            oprot.writeI32(struct.success.size());
+            for (Participant _iter84 : struct.success)
+            {
+              _iter84.write(oprot);
+            }
+          }
         }
         if (struct.isSetEx1()) {
           struct.ex1.write(oprot);
@@ -13564,12 +14524,21 @@ public class CuratorService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getNodeCacheData_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getLeaderParticipants_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.success = new ChildData();
-          struct.success.read(iprot);
+          {
+            org.apache.thrift.protocol.TList _list85 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.success = new ArrayList<Participant>(_list85.size);
+            for (int _i86 = 0; _i86 < _list85.size; ++_i86)
+            {
+              Participant _elem87;
+              _elem87 = new Participant();
+              _elem87.read(iprot);
+              struct.success.add(_elem87);
+            }
+          }
           struct.setSuccessIsSet(true);
         }
         if (incoming.get(1)) {
@@ -13582,20 +14551,20 @@ public class CuratorService {
 
   }
 
-  public static class getPathChildrenCacheData_args implements org.apache.thrift.TBase<getPathChildrenCacheData_args, getPathChildrenCacheData_args._Fields>, java.io.Serializable, Cloneable, Comparable<getPathChildrenCacheData_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getPathChildrenCacheData_args");
+  public static class getNodeCacheData_args implements org.apache.thrift.TBase<getNodeCacheData_args, getNodeCacheData_args._Fields>, java.io.Serializable, Cloneable, Comparable<getNodeCacheData_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getNodeCacheData_args");
 
     private static final org.apache.thrift.protocol.TField PROJECTION_FIELD_DESC = new org.apache.thrift.protocol.TField("projection", org.apache.thrift.protocol.TType.STRUCT, (short)1);
     private static final org.apache.thrift.protocol.TField CACHE_PROJECTION_FIELD_DESC = new org.apache.thrift.protocol.TField("cacheProjection", org.apache.thrift.protocol.TType.STRUCT, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new getPathChildrenCacheData_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new getPathChildrenCacheData_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new getNodeCacheData_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getNodeCacheData_argsTupleSchemeFactory());
     }
 
     public CuratorProjection projection; // required
-    public PathChildrenCacheProjection cacheProjection; // required
+    public NodeCacheProjection cacheProjection; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
@@ -13665,17 +14634,17 @@ public class CuratorService {
       tmpMap.put(_Fields.PROJECTION, new org.apache.thrift.meta_data.FieldMetaData("projection", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CuratorProjection.class)));
       tmpMap.put(_Fields.CACHE_PROJECTION, new org.apache.thrift.meta_data.FieldMetaData("cacheProjection", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, PathChildrenCacheProjection.class)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, NodeCacheProjection.class)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getPathChildrenCacheData_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getNodeCacheData_args.class, metaDataMap);
     }
 
-    public getPathChildrenCacheData_args() {
+    public getNodeCacheData_args() {
     }
 
-    public getPathChildrenCacheData_args(
+    public getNodeCacheData_args(
       CuratorProjection projection,
-      PathChildrenCacheProjection cacheProjection)
+      NodeCacheProjection cacheProjection)
     {
       this();
       this.projection = projection;
@@ -13685,17 +14654,17 @@ public class CuratorService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getPathChildrenCacheData_args(getPathChildrenCacheData_args other) {
+    public getNodeCacheData_args(getNodeCacheData_args other) {
       if (other.isSetProjection()) {
         this.projection = new CuratorProjection(other.projection);
       }
       if (other.isSetCacheProjection()) {
-        this.cacheProjection = new PathChildrenCacheProjection(other.cacheProjection);
+        this.cacheProjection = new NodeCacheProjection(other.cacheProjection);
       }
     }
 
-    public getPathChildrenCacheData_args deepCopy() {
-      return new getPathChildrenCacheData_args(this);
+    public getNodeCacheData_args deepCopy() {
+      return new getNodeCacheData_args(this);
     }
 
     @Override
@@ -13708,7 +14677,7 @@ public class CuratorService {
       return this.projection;
     }
 
-    public getPathChildrenCacheData_args setProjection(CuratorProjection projection) {
+    public getNodeCacheData_args setProjection(CuratorProjection projection) {
       this.projection = projection;
       return this;
     }
@@ -13728,11 +14697,11 @@ public class CuratorService {
       }
     }
 
-    public PathChildrenCacheProjection getCacheProjection() {
+    public NodeCacheProjection getCacheProjection() {
       return this.cacheProjection;
     }
 
-    public getPathChildrenCacheData_args setCacheProjection(PathChildrenCacheProjection cacheProjection) {
+    public getNodeCacheData_args setCacheProjection(NodeCacheProjection cacheProjection) {
       this.cacheProjection = cacheProjection;
       return this;
     }
@@ -13766,7 +14735,7 @@ public class CuratorService {
         if (value == null) {
           unsetCacheProjection();
         } else {
-          setCacheProjection((PathChildrenCacheProjection)value);
+          setCacheProjection((NodeCacheProjection)value);
         }
         break;
 
@@ -13804,12 +14773,12 @@ public class CuratorService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof getPathChildrenCacheData_args)
-        return this.equals((getPathChildrenCacheData_args)that);
+      if (that instanceof getNodeCacheData_args)
+        return this.equals((getNodeCacheData_args)that);
       return false;
     }
 
-    public boolean equals(getPathChildrenCacheData_args that) {
+    public boolean equals(getNodeCacheData_args that) {
       if (that == null)
         return false;
 
@@ -13840,7 +14809,7 @@ public class CuratorService {
     }
 
     @Override
-    public int compareTo(getPathChildrenCacheData_args other) {
+    public int compareTo(getNodeCacheData_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -13884,7 +14853,7 @@ public class CuratorService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("getPathChildrenCacheData_args(");
+      StringBuilder sb = new StringBuilder("getNodeCacheData_args(");
       boolean first = true;
 
       sb.append("projection:");
@@ -13933,15 +14902,15 @@ public class CuratorService {
       }
     }
 
-    private static class getPathChildrenCacheData_argsStandardSchemeFactory implements SchemeFactory {
-      public getPathChildrenCacheData_argsStandardScheme getScheme() {
-        return new getPathChildrenCacheData_argsStandardScheme();
+    private static class getNodeCacheData_argsStandardSchemeFactory implements SchemeFactory {
+      public getNodeCacheData_argsStandardScheme getScheme() {
+        return new getNodeCacheData_argsStandardScheme();
       }
     }
 
-    private static class getPathChildrenCacheData_argsStandardScheme extends StandardScheme<getPathChildrenCacheData_args> {
+    private static class getNodeCacheData_argsStandardScheme extends StandardScheme<getNodeCacheData_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getPathChildrenCacheData_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getNodeCacheData_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -13962,7 +14931,7 @@ public class CuratorService {
               break;
             case 2: // CACHE_PROJECTION
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.cacheProjection = new PathChildrenCacheProjection();
+                struct.cacheProjection = new NodeCacheProjection();
                 struct.cacheProjection.read(iprot);
                 struct.setCacheProjectionIsSet(true);
               } else { 
@@ -13980,7 +14949,7 @@ public class CuratorService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getPathChildrenCacheData_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getNodeCacheData_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -14000,16 +14969,16 @@ public class CuratorService {
 
     }
 
-    private static class getPathChildrenCacheData_argsTupleSchemeFactory implements SchemeFactory {
-      public getPathChildrenCacheData_argsTupleScheme getScheme() {
-        return new getPathChildrenCacheData_argsTupleScheme();
+    private static class getNodeCacheData_argsTupleSchemeFactory implements SchemeFactory {
+      public getNodeCacheData_argsTupleScheme getScheme() {
+        return new getNodeCacheData_argsTupleScheme();
       }
     }
 
-    private static class getPathChildrenCacheData_argsTupleScheme extends TupleScheme<getPathChildrenCacheData_args> {
+    private static class getNodeCacheData_argsTupleScheme extends TupleScheme<getNodeCacheData_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getPathChildrenCacheData_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getNodeCacheData_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetProjection()) {
@@ -14028,7 +14997,7 @@ public class CuratorService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getPathChildrenCacheData_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getNodeCacheData_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
@@ -14037,7 +15006,7 @@ public class CuratorService {
           struct.setProjectionIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.cacheProjection = new PathChildrenCacheProjection();
+          struct.cacheProjection = new NodeCacheProjection();
           struct.cacheProjection.read(iprot);
           struct.setCacheProjectionIsSet(true);
         }
@@ -14046,19 +15015,19 @@ public class CuratorService {
 
   }
 
-  public static class getPathChildrenCacheData_result implements org.apache.thrift.TBase<getPathChildrenCacheData_result, getPathChildrenCacheData_result._Fields>, java.io.Serializable, Cloneable, Comparable<getPathChildrenCacheData_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getPathChildrenCacheData_result");
+  public static class getNodeCacheData_result implements org.apache.thrift.TBase<getNodeCacheData_result, getNodeCacheData_result._Fields>, java.io.Serializable, Cloneable, Comparable<getNodeCacheData_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getNodeCacheData_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
     private static final org.apache.thrift.protocol.TField EX1_FIELD_DESC = new org.apache.thrift.protocol.TField("ex1", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new getPathChildrenCacheData_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new getPathChildrenCacheData_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new getNodeCacheData_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getNodeCacheData_resultTupleSchemeFactory());
     }
 
-    public List<ChildData> success; // required
+    public ChildData success; // required
     public CuratorException ex1; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
@@ -14127,19 +15096,18 @@ public class CuratorService {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
-              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ChildData.class))));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ChildData.class)));
       tmpMap.put(_Fields.EX1, new org.apache.thrift.meta_data.FieldMetaData("ex1", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getPathChildrenCacheData_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getNodeCacheData_result.class, metaDataMap);
     }
 
-    public getPathChildrenCacheData_result() {
+    public getNodeCacheData_result() {
     }
 
-    public getPathChildrenCacheData_result(
-      List<ChildData> success,
+    public getNodeCacheData_result(
+      ChildData success,
       CuratorException ex1)
     {
       this();
@@ -14150,21 +15118,17 @@ public class CuratorService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getPathChildrenCacheData_result(getPathChildrenCacheData_result other) {
+    public getNodeCacheData_result(getNodeCacheData_result other) {
       if (other.isSetSuccess()) {
-        List<ChildData> __this__success = new ArrayList<ChildData>(other.success.size());
-        for (ChildData other_element : other.success) {
-          __this__success.add(new ChildData(other_element));
-        }
-        this.success = __this__success;
+        this.success = new ChildData(other.success);
       }
       if (other.isSetEx1()) {
         this.ex1 = new CuratorException(other.ex1);
       }
     }
 
-    public getPathChildrenCacheData_result deepCopy() {
-      return new getPathChildrenCacheData_result(this);
+    public getNodeCacheData_result deepCopy() {
+      return new getNodeCacheData_result(this);
     }
 
     @Override
@@ -14173,26 +15137,11 @@ public class CuratorService {
       this.ex1 = null;
     }
 
-    public int getSuccessSize() {
-      return (this.success == null) ? 0 : this.success.size();
-    }
-
-    public java.util.Iterator<ChildData> getSuccessIterator() {
-      return (this.success == null) ? null : this.success.iterator();
-    }
-
-    public void addToSuccess(ChildData elem) {
-      if (this.success == null) {
-        this.success = new ArrayList<ChildData>();
-      }
-      this.success.add(elem);
-    }
-
-    public List<ChildData> getSuccess() {
+    public ChildData getSuccess() {
       return this.success;
     }
 
-    public getPathChildrenCacheData_result setSuccess(List<ChildData> success) {
+    public getNodeCacheData_result setSuccess(ChildData success) {
       this.success = success;
       return this;
     }
@@ -14216,7 +15165,7 @@ public class CuratorService {
       return this.ex1;
     }
 
-    public getPathChildrenCacheData_result setEx1(CuratorException ex1) {
+    public getNodeCacheData_result setEx1(CuratorException ex1) {
       this.ex1 = ex1;
       return this;
     }
@@ -14242,7 +15191,7 @@ public class CuratorService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((List<ChildData>)value);
+          setSuccess((ChildData)value);
         }
         break;
 
@@ -14288,12 +15237,12 @@ public class CuratorService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof getPathChildrenCacheData_result)
-        return this.equals((getPathChildrenCacheData_result)that);
+      if (that instanceof getNodeCacheData_result)
+        return this.equals((getNodeCacheData_result)that);
       return false;
     }
 
-    public boolean equals(getPathChildrenCacheData_result that) {
+    public boolean equals(getNodeCacheData_result that) {
       if (that == null)
         return false;
 
@@ -14324,7 +15273,7 @@ public class CuratorService {
     }
 
     @Override
-    public int compareTo(getPathChildrenCacheData_result other) {
+    public int compareTo(getNodeCacheData_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -14368,7 +15317,7 @@ public class CuratorService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("getPathChildrenCacheData_result(");
+      StringBuilder sb = new StringBuilder("getNodeCacheData_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -14393,6 +15342,9 @@ public class CuratorService {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -14411,15 +15363,15 @@ public class CuratorService {
       }
     }
 
-    private static class getPathChildrenCacheData_resultStandardSchemeFactory implements SchemeFactory {
-      public getPathChildrenCacheData_resultStandardScheme getScheme() {
-        return new getPathChildrenCacheData_resultStandardScheme();
+    private static class getNodeCacheData_resultStandardSchemeFactory implements SchemeFactory {
+      public getNodeCacheData_resultStandardScheme getScheme() {
+        return new getNodeCacheData_resultStandardScheme();
       }
     }
 
-    private static class getPathChildrenCacheData_resultStandardScheme extends StandardScheme<getPathChildrenCacheData_result> {
+    private static class getNodeCacheData_resultStandardScheme extends StandardScheme<getNodeCacheData_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getPathChildrenCacheData_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getNodeCacheData_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -14430,19 +15382,9 @@ public class CuratorService {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
-                {
-                  org.apache.thrift.protocol.TList _list40 = iprot.readListBegin();
-                  struct.success = new ArrayList<ChildData>(_list40.size);
-                  for (int _i41 = 0; _i41 < _list40.size; ++_i41)
-                  {
-                    ChildData _elem42;
-                    _elem42 = new ChildData();
-                    _elem42.read(iprot);
-                    struct.success.add(_elem42);
-                  }
-                  iprot.readListEnd();
-                }
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new ChildData();
+                struct.success.read(iprot);
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
@@ -14468,20 +15410,13 @@ public class CuratorService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getPathChildrenCacheData_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getNodeCacheData_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
         if (struct.success != null) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          {
-            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
-            for (ChildData _iter43 : struct.success)
-            {
-              _iter43.write(oprot);
-            }
-            oprot.writeListEnd();
-          }
+          struct.success.write(oprot);
           oprot.writeFieldEnd();
         }
         if (struct.ex1 != null) {
@@ -14495,16 +15430,16 @@ public class CuratorService {
 
     }
 
-    private static class getPathChildrenCacheData_resultTupleSchemeFactory implements SchemeFactory {
-      public getPathChildrenCacheData_resultTupleScheme getScheme() {
-        return new getPathChildrenCacheData_resultTupleScheme();
+    private static class getNodeCacheData_resultTupleSchemeFactory implements SchemeFactory {
+      public getNodeCacheData_resultTupleScheme getScheme() {
+        return new getNodeCacheData_resultTupleScheme();
       }
     }
 
-    private static class getPathChildrenCacheData_resultTupleScheme extends TupleScheme<getPathChildrenCacheData_result> {
+    private static class getNodeCacheData_resultTupleScheme extends TupleScheme<getNodeCacheData_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getPathChildrenCacheData_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getNodeCacheData_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -14515,13 +15450,7 @@ public class CuratorService {
         }
         oprot.writeBitSet(optionals, 2);
         if (struct.isSetSuccess()) {
-          {
-            oprot.writeI32(struct.success.size());
-            for (ChildData _iter44 : struct.success)
-            {
-              _iter44.write(oprot);
-            }
-          }
+          struct.success.write(oprot);
         }
         if (struct.isSetEx1()) {
           struct.ex1.write(oprot);
@@ -14529,21 +15458,12 @@ public class CuratorService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getPathChildrenCacheData_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getNodeCacheData_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          {
-            org.apache.thrift.protocol.TList _list45 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
-            struct.success = new ArrayList<ChildData>(_list45.size);
-            for (int _i46 = 0; _i46 < _list45.size; ++_i46)
-            {
-              ChildData _elem47;
-              _elem47 = new ChildData();
-              _elem47.read(iprot);
-              struct.success.add(_elem47);
-            }
-          }
+          struct.success = new ChildData();
+          struct.success.read(iprot);
           struct.setSuccessIsSet(true);
         }
         if (incoming.get(1)) {
@@ -14556,28 +15476,28 @@ public class CuratorService {
 
   }
 
-  public static class getPathChildrenCacheDataForPath_args implements org.apache.thrift.TBase<getPathChildrenCacheDataForPath_args, getPathChildrenCacheDataForPath_args._Fields>, java.io.Serializable, Cloneable, Comparable<getPathChildrenCacheDataForPath_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getPathChildrenCacheDataForPath_args");
+  public static class getPathChildrenCacheChanges_args implements org.apache.thrift.TBase<getPathChildrenCacheChanges_args, getPathChildrenCacheChanges_args._Fields>, java.io.Serializable, Cloneable, Comparable<getPathChildrenCacheChanges_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getPathChildrenCacheChanges_args");
 
     private static final org.apache.thrift.protocol.TField PROJECTION_FIELD_DESC = new org.apache.thrift.protocol.TField("projection", org.apache.thrift.protocol.TType.STRUCT, (short)1);
     private static final org.apache.thrift.protocol.TField CACHE_PROJECTION_FIELD_DESC = new org.apache.thrift.protocol.TField("cacheProjection", org.apache.thrift.protocol.TType.STRUCT, (short)2);
-    private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)3);
+    private static final org.apache.thrift.protocol.TField SINCE_GENERATION_FIELD_DESC = new org.apache.thrift.protocol.TField("sinceGeneration", org.apache.thrift.protocol.TType.I64, (short)3);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new getPathChildrenCacheDataForPath_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new getPathChildrenCacheDataForPath_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new getPathChildrenCacheChanges_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getPathChildrenCacheChanges_argsTupleSchemeFactory());
     }
 
     public CuratorProjection projection; // required
     public PathChildrenCacheProjection cacheProjection; // required
-    public String path; // required
+    public long sinceGeneration; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       PROJECTION((short)1, "projection"),
       CACHE_PROJECTION((short)2, "cacheProjection"),
-      PATH((short)3, "path");
+      SINCE_GENERATION((short)3, "sinceGeneration");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -14596,8 +15516,8 @@ public class CuratorService {
             return PROJECTION;
           case 2: // CACHE_PROJECTION
             return CACHE_PROJECTION;
-          case 3: // PATH
-            return PATH;
+          case 3: // SINCE_GENERATION
+            return SINCE_GENERATION;
           default:
             return null;
         }
@@ -14638,6 +15558,8 @@ public class CuratorService {
     }
 
     // isset id assignments
+    private static final int __SINCEGENERATION_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
@@ -14645,57 +15567,58 @@ public class CuratorService {
           new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CuratorProjection.class)));
       tmpMap.put(_Fields.CACHE_PROJECTION, new org.apache.thrift.meta_data.FieldMetaData("cacheProjection", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, PathChildrenCacheProjection.class)));
-      tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.SINCE_GENERATION, new org.apache.thrift.meta_data.FieldMetaData("sinceGeneration", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getPathChildrenCacheDataForPath_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getPathChildrenCacheChanges_args.class, metaDataMap);
     }
 
-    public getPathChildrenCacheDataForPath_args() {
+    public getPathChildrenCacheChanges_args() {
     }
 
-    public getPathChildrenCacheDataForPath_args(
+    public getPathChildrenCacheChanges_args(
       CuratorProjection projection,
       PathChildrenCacheProjection cacheProjection,
-      String path)
+      long sinceGeneration)
     {
       this();
       this.projection = projection;
       this.cacheProjection = cacheProjection;
-      this.path = path;
+      this.sinceGeneration = sinceGeneration;
+      setSinceGenerationIsSet(true);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getPathChildrenCacheDataForPath_args(getPathChildrenCacheDataForPath_args other) {
+    public getPathChildrenCacheChanges_args(getPathChildrenCacheChanges_args other) {
+      __isset_bitfield = other.__isset_bitfield;
       if (other.isSetProjection()) {
         this.projection = new CuratorProjection(other.projection);
       }
       if (other.isSetCacheProjection()) {
         this.cacheProjection = new PathChildrenCacheProjection(other.cacheProjection);
       }
-      if (other.isSetPath()) {
-        this.path = other.path;
-      }
+      this.sinceGeneration = other.sinceGeneration;
     }
 
-    public getPathChildrenCacheDataForPath_args deepCopy() {
-      return new getPathChildrenCacheDataForPath_args(this);
+    public getPathChildrenCacheChanges_args deepCopy() {
+      return new getPathChildrenCacheChanges_args(this);
     }
 
     @Override
     public void clear() {
       this.projection = null;
       this.cacheProjection = null;
-      this.path = null;
+      setSinceGenerationIsSet(false);
+      this.sinceGeneration = 0;
     }
 
     public CuratorProjection getProjection() {
       return this.projection;
     }
 
-    public getPathChildrenCacheDataForPath_args setProjection(CuratorProjection projection) {
+    public getPathChildrenCacheChanges_args setProjection(CuratorProjection projection) {
       this.projection = projection;
       return this;
     }
@@ -14719,7 +15642,7 @@ public class CuratorService {
       return this.cacheProjection;
     }
 
-    public getPathChildrenCacheDataForPath_args setCacheProjection(PathChildrenCacheProjection cacheProjection) {
+    public getPathChildrenCacheChanges_args setCacheProjection(PathChildrenCacheProjection cacheProjection) {
       this.cacheProjection = cacheProjection;
       return this;
     }
@@ -14739,28 +15662,27 @@ public class CuratorService {
       }
     }
 
-    public String getPath() {
-      return this.path;
+    public long getSinceGeneration() {
+      return this.sinceGeneration;
     }
 
-    public getPathChildrenCacheDataForPath_args setPath(String path) {
-      this.path = path;
+    public getPathChildrenCacheChanges_args setSinceGeneration(long sinceGeneration) {
+      this.sinceGeneration = sinceGeneration;
+      setSinceGenerationIsSet(true);
       return this;
     }
 
-    public void unsetPath() {
-      this.path = null;
+    public void unsetSinceGeneration() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SINCEGENERATION_ISSET_ID);
     }
 
-    /** Returns true if field path is set (has been assigned a value) and false otherwise */
-    public boolean isSetPath() {
-      return this.path != null;
+    /** Returns true if field sinceGeneration is set (has been assigned a value) and false otherwise */
+    public boolean isSetSinceGeneration() {
+      return EncodingUtils.testBit(__isset_bitfield, __SINCEGENERATION_ISSET_ID);
     }
 
-    public void setPathIsSet(boolean value) {
-      if (!value) {
-        this.path = null;
-      }
+    public void setSinceGenerationIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SINCEGENERATION_ISSET_ID, value);
     }
 
     public void setFieldValue(_Fields field, Object value) {
@@ -14781,11 +15703,11 @@ public class CuratorService {
         }
         break;
 
-      case PATH:
+      case SINCE_GENERATION:
         if (value == null) {
-          unsetPath();
+          unsetSinceGeneration();
         } else {
-          setPath((String)value);
+          setSinceGeneration((Long)value);
         }
         break;
 
@@ -14800,8 +15722,8 @@ public class CuratorService {
       case CACHE_PROJECTION:
         return getCacheProjection();
 
-      case PATH:
-        return getPath();
+      case SINCE_GENERATION:
+        return Long.valueOf(getSinceGeneration());
 
       }
       throw new IllegalStateException();
@@ -14818,8 +15740,8 @@ public class CuratorService {
         return isSetProjection();
       case CACHE_PROJECTION:
         return isSetCacheProjection();
-      case PATH:
-        return isSetPath();
+      case SINCE_GENERATION:
+        return isSetSinceGeneration();
       }
       throw new IllegalStateException();
     }
@@ -14828,12 +15750,12 @@ public class CuratorService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof getPathChildrenCacheDataForPath_args)
-        return this.equals((getPathChildrenCacheDataForPath_args)that);
+      if (that instanceof getPathChildrenCacheChanges_args)
+        return this.equals((getPathChildrenCacheChanges_args)that);
       return false;
     }
 
-    public boolean equals(getPathChildrenCacheDataForPath_args that) {
+    public boolean equals(getPathChildrenCacheChanges_args that) {
       if (that == null)
         return false;
 
@@ -14855,12 +15777,12 @@ public class CuratorService {
           return false;
       }
 
-      boolean this_present_path = true && this.isSetPath();
-      boolean that_present_path = true && that.isSetPath();
-      if (this_present_path || that_present_path) {
-        if (!(this_present_path && that_present_path))
+      boolean this_present_sinceGeneration = true;
+      boolean that_present_sinceGeneration = true;
+      if (this_present_sinceGeneration || that_present_sinceGeneration) {
+        if (!(this_present_sinceGeneration && that_present_sinceGeneration))
           return false;
-        if (!this.path.equals(that.path))
+        if (this.sinceGeneration != that.sinceGeneration)
           return false;
       }
 
@@ -14873,7 +15795,7 @@ public class CuratorService {
     }
 
     @Override
-    public int compareTo(getPathChildrenCacheDataForPath_args other) {
+    public int compareTo(getPathChildrenCacheChanges_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -14900,12 +15822,12 @@ public class CuratorService {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetPath()).compareTo(other.isSetPath());
+      lastComparison = Boolean.valueOf(isSetSinceGeneration()).compareTo(other.isSetSinceGeneration());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetPath()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.path, other.path);
+      if (isSetSinceGeneration()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.sinceGeneration, other.sinceGeneration);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -14927,7 +15849,7 @@ public class CuratorService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("getPathChildrenCacheDataForPath_args(");
+      StringBuilder sb = new StringBuilder("getPathChildrenCacheChanges_args(");
       boolean first = true;
 
       sb.append("projection:");
@@ -14946,12 +15868,8 @@ public class CuratorService {
       }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("path:");
-      if (this.path == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.path);
-      }
+      sb.append("sinceGeneration:");
+      sb.append(this.sinceGeneration);
       first = false;
       sb.append(")");
       return sb.toString();
@@ -14978,21 +15896,23 @@ public class CuratorService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class getPathChildrenCacheDataForPath_argsStandardSchemeFactory implements SchemeFactory {
-      public getPathChildrenCacheDataForPath_argsStandardScheme getScheme() {
-        return new getPathChildrenCacheDataForPath_argsStandardScheme();
+    private static class getPathChildrenCacheChanges_argsStandardSchemeFactory implements SchemeFactory {
+      public getPathChildrenCacheChanges_argsStandardScheme getScheme() {
+        return new getPathChildrenCacheChanges_argsStandardScheme();
       }
     }
 
-    private static class getPathChildrenCacheDataForPath_argsStandardScheme extends StandardScheme<getPathChildrenCacheDataForPath_args> {
+    private static class getPathChildrenCacheChanges_argsStandardScheme extends StandardScheme<getPathChildrenCacheChanges_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getPathChildrenCacheDataForPath_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getPathChildrenCacheChanges_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -15020,10 +15940,10 @@ public class CuratorService {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 3: // PATH
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.path = iprot.readString();
-                struct.setPathIsSet(true);
+            case 3: // SINCE_GENERATION
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.sinceGeneration = iprot.readI64();
+                struct.setSinceGenerationIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -15039,7 +15959,7 @@ public class CuratorService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getPathChildrenCacheDataForPath_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getPathChildrenCacheChanges_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -15053,27 +15973,25 @@ public class CuratorService {
           struct.cacheProjection.write(oprot);
           oprot.writeFieldEnd();
         }
-        if (struct.path != null) {
-          oprot.writeFieldBegin(PATH_FIELD_DESC);
-          oprot.writeString(struct.path);
-          oprot.writeFieldEnd();
-        }
+        oprot.writeFieldBegin(SINCE_GENERATION_FIELD_DESC);
+        oprot.writeI64(struct.sinceGeneration);
+        oprot.writeFieldEnd();
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class getPathChildrenCacheDataForPath_argsTupleSchemeFactory implements SchemeFactory {
-      public getPathChildrenCacheDataForPath_argsTupleScheme getScheme() {
-        return new getPathChildrenCacheDataForPath_argsTupleScheme();
+    private static class getPathChildrenCacheChanges_argsTupleSchemeFactory implements SchemeFactory {
+      public getPathChildrenCacheChanges_argsTupleScheme getScheme() {
+        return new getPathChildrenCacheChanges_argsTupleScheme();
       }
     }
 
-    private static class getPathChildrenCacheDataForPath_argsTupleScheme extends TupleScheme<getPathChildrenCacheDataForPath_args> {
+    private static class getPathChildrenCacheChanges_argsTupleScheme extends TupleScheme<getPathChildrenCacheChanges_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getPathChildrenCacheDataForPath_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getPathChildrenCacheChanges_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetProjection()) {
@@ -15082,7 +16000,7 @@ public class CuratorService {
         if (struct.isSetCacheProjection()) {
           optionals.set(1);
         }
-        if (struct.isSetPath()) {
+        if (struct.isSetSinceGeneration()) {
           optionals.set(2);
         }
         oprot.writeBitSet(optionals, 3);
@@ -15092,13 +16010,13 @@ public class CuratorService {
         if (struct.isSetCacheProjection()) {
           struct.cacheProjection.write(oprot);
         }
-        if (struct.isSetPath()) {
-          oprot.writeString(struct.path);
+        if (struct.isSetSinceGeneration()) {
+          oprot.writeI64(struct.sinceGeneration);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getPathChildrenCacheDataForPath_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getPathChildrenCacheChanges_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(3);
         if (incoming.get(0)) {
@@ -15112,27 +16030,27 @@ public class CuratorService {
           struct.setCacheProjectionIsSet(true);
         }
         if (incoming.get(2)) {
-          struct.path = iprot.readString();
-          struct.setPathIsSet(true);
+          struct.sinceGeneration = iprot.readI64();
+          struct.setSinceGenerationIsSet(true);
         }
       }
     }
 
   }
 
-  public static class getPathChildrenCacheDataForPath_result implements org.apache.thrift.TBase<getPathChildrenCacheDataForPath_result, getPathChildrenCacheDataForPath_result._Fields>, java.io.Serializable, Cloneable, Comparable<getPathChildrenCacheDataForPath_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getPathChildrenCacheDataForPath_result");
+  public static class getPathChildrenCacheChanges_result implements org.apache.thrift.TBase<getPathChildrenCacheChanges_result, getPathChildrenCacheChanges_result._Fields>, java.io.Serializable, Cloneable, Comparable<getPathChildrenCacheChanges_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getPathChildrenCacheChanges_result");
 
     private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
     private static final org.apache.thrift.protocol.TField EX1_FIELD_DESC = new org.apache.thrift.protocol.TField("ex1", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new getPathChildrenCacheDataForPath_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new getPathChildrenCacheDataForPath_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new getPathChildrenCacheChanges_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getPathChildrenCacheChanges_resultTupleSchemeFactory());
     }
 
-    public ChildData success; // required
+    public PathChildrenCacheChanges success; // required
     public CuratorException ex1; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
@@ -15201,18 +16119,18 @@ public class CuratorService {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ChildData.class)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, PathChildrenCacheChanges.class)));
       tmpMap.put(_Fields.EX1, new org.apache.thrift.meta_data.FieldMetaData("ex1", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getPathChildrenCacheDataForPath_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getPathChildrenCacheChanges_result.class, metaDataMap);
     }
 
-    public getPathChildrenCacheDataForPath_result() {
+    public getPathChildrenCacheChanges_result() {
     }
 
-    public getPathChildrenCacheDataForPath_result(
-      ChildData success,
+    public getPathChildrenCacheChanges_result(
+      PathChildrenCacheChanges success,
       CuratorException ex1)
     {
       this();
@@ -15223,17 +16141,17 @@ public class CuratorService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getPathChildrenCacheDataForPath_result(getPathChildrenCacheDataForPath_result other) {
+    public getPathChildrenCacheChanges_result(getPathChildrenCacheChanges_result other) {
       if (other.isSetSuccess()) {
-        this.success = new ChildData(other.success);
+        this.success = new PathChildrenCacheChanges(other.success);
       }
       if (other.isSetEx1()) {
         this.ex1 = new CuratorException(other.ex1);
       }
     }
 
-    public getPathChildrenCacheDataForPath_result deepCopy() {
-      return new getPathChildrenCacheDataForPath_result(this);
+    public getPathChildrenCacheChanges_result deepCopy() {
+      return new getPathChildrenCacheChanges_result(this);
     }
 
     @Override
@@ -15242,11 +16160,11 @@ public class CuratorService {
       this.ex1 = null;
     }
 
-    public ChildData getSuccess() {
+    public PathChildrenCacheChanges getSuccess() {
       return this.success;
     }
 
-    public getPathChildrenCacheDataForPath_result setSuccess(ChildData success) {
+    public getPathChildrenCacheChanges_result setSuccess(PathChildrenCacheChanges success) {
       this.success = success;
       return this;
     }
@@ -15270,7 +16188,7 @@ public class CuratorService {
       return this.ex1;
     }
 
-    public getPathChildrenCacheDataForPath_result setEx1(CuratorException ex1) {
+    public getPathChildrenCacheChanges_result setEx1(CuratorException ex1) {
       this.ex1 = ex1;
       return this;
     }
@@ -15296,7 +16214,7 @@ public class CuratorService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((ChildData)value);
+          setSuccess((PathChildrenCacheChanges)value);
         }
         break;
 
@@ -15342,12 +16260,12 @@ public class CuratorService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof getPathChildrenCacheDataForPath_result)
-        return this.equals((getPathChildrenCacheDataForPath_result)that);
+      if (that instanceof getPathChildrenCacheChanges_result)
+        return this.equals((getPathChildrenCacheChanges_result)that);
       return false;
     }
 
-    public boolean equals(getPathChildrenCacheDataForPath_result that) {
+    public boolean equals(getPathChildrenCacheChanges_result that) {
       if (that == null)
         return false;
 
@@ -15378,7 +16296,7 @@ public class CuratorService {
     }
 
     @Override
-    public int compareTo(getPathChildrenCacheDataForPath_result other) {
+    public int compareTo(getPathChildrenCacheChanges_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -15422,7 +16340,7 @@ public class CuratorService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("getPathChildrenCacheDataForPath_result(");
+      StringBuilder sb = new StringBuilder("getPathChildrenCacheChanges_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -15468,15 +16386,15 @@ public class CuratorService {
       }
     }
 
-    private static class getPathChildrenCacheDataForPath_resultStandardSchemeFactory implements SchemeFactory {
-      public getPathChildrenCacheDataForPath_resultStandardScheme getScheme() {
-        return new getPathChildrenCacheDataForPath_resultStandardScheme();
+    private static class getPathChildrenCacheChanges_resultStandardSchemeFactory implements SchemeFactory {
+      public getPathChildrenCacheChanges_resultStandardScheme getScheme() {
+        return new getPathChildrenCacheChanges_resultStandardScheme();
       }
     }
 
-    private static class getPathChildrenCacheDataForPath_resultStandardScheme extends StandardScheme<getPathChildrenCacheDataForPath_result> {
+    private static class getPathChildrenCacheChanges_resultStandardScheme extends StandardScheme<getPathChildrenCacheChanges_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getPathChildrenCacheDataForPath_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getPathChildrenCacheChanges_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -15488,7 +16406,7 @@ public class CuratorService {
           switch (schemeField.id) {
             case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.success = new ChildData();
+                struct.success = new PathChildrenCacheChanges();
                 struct.success.read(iprot);
                 struct.setSuccessIsSet(true);
               } else { 
@@ -15515,7 +16433,7 @@ public class CuratorService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getPathChildrenCacheDataForPath_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getPathChildrenCacheChanges_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -15535,16 +16453,16 @@ public class CuratorService {
 
     }
 
-    private static class getPathChildrenCacheDataForPath_resultTupleSchemeFactory implements SchemeFactory {
-      public getPathChildrenCacheDataForPath_resultTupleScheme getScheme() {
-        return new getPathChildrenCacheDataForPath_resultTupleScheme();
+    private static class getPathChildrenCacheChanges_resultTupleSchemeFactory implements SchemeFactory {
+      public getPathChildrenCacheChanges_resultTupleScheme getScheme() {
+        return new getPathChildrenCacheChanges_resultTupleScheme();
       }
     }
 
-    private static class getPathChildrenCacheDataForPath_resultTupleScheme extends TupleScheme<getPathChildrenCacheDataForPath_result> {
+    private static class getPathChildrenCacheChanges_resultTupleScheme extends TupleScheme<getPathChildrenCacheChanges_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getPathChildrenCacheDataForPath_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getPathChildrenCacheChanges_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -15563,11 +16481,11 @@ public class CuratorService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getPathChildrenCacheDataForPath_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getPathChildrenCacheChanges_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.success = new ChildData();
+          struct.success = new PathChildrenCacheChanges();
           struct.success.read(iprot);
           struct.setSuccessIsSet(true);
         }
@@ -15581,25 +16499,25 @@ public class CuratorService {
 
   }
 
-  public static class isLeader_args implements org.apache.thrift.TBase<isLeader_args, isLeader_args._Fields>, java.io.Serializable, Cloneable, Comparable<isLeader_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("isLeader_args");
+  public static class getPathChildrenCacheData_args implements org.apache.thrift.TBase<getPathChildrenCacheData_args, getPathChildrenCacheData_args._Fields>, java.io.Serializable, Cloneable, Comparable<getPathChildrenCacheData_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getPathChildrenCacheData_args");
 
     private static final org.apache.thrift.protocol.TField PROJECTION_FIELD_DESC = new org.apache.thrift.protocol.TField("projection", org.apache.thrift.protocol.TType.STRUCT, (short)1);
-    private static final org.apache.thrift.protocol.TField LEADER_PROJECTION_FIELD_DESC = new org.apache.thrift.protocol.TField("leaderProjection", org.apache.thrift.protocol.TType.STRUCT, (short)2);
+    private static final org.apache.thrift.protocol.TField CACHE_PROJECTION_FIELD_DESC = new org.apache.thrift.protocol.TField("cacheProjection", org.apache.thrift.protocol.TType.STRUCT, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new isLeader_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new isLeader_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new getPathChildrenCacheData_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getPathChildrenCacheData_argsTupleSchemeFactory());
     }
 
     public CuratorProjection projection; // required
-    public LeaderProjection leaderProjection; // required
+    public PathChildrenCacheProjection cacheProjection; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       PROJECTION((short)1, "projection"),
-      LEADER_PROJECTION((short)2, "leaderProjection");
+      CACHE_PROJECTION((short)2, "cacheProjection");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -15616,8 +16534,8 @@ public class CuratorService {
         switch(fieldId) {
           case 1: // PROJECTION
             return PROJECTION;
-          case 2: // LEADER_PROJECTION
-            return LEADER_PROJECTION;
+          case 2: // CACHE_PROJECTION
+            return CACHE_PROJECTION;
           default:
             return null;
         }
@@ -15663,51 +16581,51 @@ public class CuratorService {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.PROJECTION, new org.apache.thrift.meta_data.FieldMetaData("projection", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CuratorProjection.class)));
-      tmpMap.put(_Fields.LEADER_PROJECTION, new org.apache.thrift.meta_data.FieldMetaData("leaderProjection", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, LeaderProjection.class)));
+      tmpMap.put(_Fields.CACHE_PROJECTION, new org.apache.thrift.meta_data.FieldMetaData("cacheProjection", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, PathChildrenCacheProjection.class)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(isLeader_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getPathChildrenCacheData_args.class, metaDataMap);
     }
 
-    public isLeader_args() {
+    public getPathChildrenCacheData_args() {
     }
 
-    public isLeader_args(
+    public getPathChildrenCacheData_args(
       CuratorProjection projection,
-      LeaderProjection leaderProjection)
+      PathChildrenCacheProjection cacheProjection)
     {
       this();
       this.projection = projection;
-      this.leaderProjection = leaderProjection;
+      this.cacheProjection = cacheProjection;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public isLeader_args(isLeader_args other) {
+    public getPathChildrenCacheData_args(getPathChildrenCacheData_args other) {
       if (other.isSetProjection()) {
         this.projection = new CuratorProjection(other.projection);
       }
-      if (other.isSetLeaderProjection()) {
-        this.leaderProjection = new LeaderProjection(other.leaderProjection);
+      if (other.isSetCacheProjection()) {
+        this.cacheProjection = new PathChildrenCacheProjection(other.cacheProjection);
       }
     }
 
-    public isLeader_args deepCopy() {
-      return new isLeader_args(this);
+    public getPathChildrenCacheData_args deepCopy() {
+      return new getPathChildrenCacheData_args(this);
     }
 
     @Override
     public void clear() {
       this.projection = null;
-      this.leaderProjection = null;
+      this.cacheProjection = null;
     }
 
     public CuratorProjection getProjection() {
       return this.projection;
     }
 
-    public isLeader_args setProjection(CuratorProjection projection) {
+    public getPathChildrenCacheData_args setProjection(CuratorProjection projection) {
       this.projection = projection;
       return this;
     }
@@ -15727,27 +16645,27 @@ public class CuratorService {
       }
     }
 
-    public LeaderProjection getLeaderProjection() {
-      return this.leaderProjection;
+    public PathChildrenCacheProjection getCacheProjection() {
+      return this.cacheProjection;
     }
 
-    public isLeader_args setLeaderProjection(LeaderProjection leaderProjection) {
-      this.leaderProjection = leaderProjection;
+    public getPathChildrenCacheData_args setCacheProjection(PathChildrenCacheProjection cacheProjection) {
+      this.cacheProjection = cacheProjection;
       return this;
     }
 
-    public void unsetLeaderProjection() {
-      this.leaderProjection = null;
+    public void unsetCacheProjection() {
+      this.cacheProjection = null;
     }
 
-    /** Returns true if field leaderProjection is set (has been assigned a value) and false otherwise */
-    public boolean isSetLeaderProjection() {
-      return this.leaderProjection != null;
+    /** Returns true if field cacheProjection is set (has been assigned a value) and false otherwise */
+    public boolean isSetCacheProjection() {
+      return this.cacheProjection != null;
     }
 
-    public void setLeaderProjectionIsSet(boolean value) {
+    public void setCacheProjectionIsSet(boolean value) {
       if (!value) {
-        this.leaderProjection = null;
+        this.cacheProjection = null;
       }
     }
 
@@ -15761,11 +16679,11 @@ public class CuratorService {
         }
         break;
 
-      case LEADER_PROJECTION:
+      case CACHE_PROJECTION:
         if (value == null) {
-          unsetLeaderProjection();
+          unsetCacheProjection();
         } else {
-          setLeaderProjection((LeaderProjection)value);
+          setCacheProjection((PathChildrenCacheProjection)value);
         }
         break;
 
@@ -15777,8 +16695,8 @@ public class CuratorService {
       case PROJECTION:
         return getProjection();
 
-      case LEADER_PROJECTION:
-        return getLeaderProjection();
+      case CACHE_PROJECTION:
+        return getCacheProjection();
 
       }
       throw new IllegalStateException();
@@ -15793,8 +16711,8 @@ public class CuratorService {
       switch (field) {
       case PROJECTION:
         return isSetProjection();
-      case LEADER_PROJECTION:
-        return isSetLeaderProjection();
+      case CACHE_PROJECTION:
+        return isSetCacheProjection();
       }
       throw new IllegalStateException();
     }
@@ -15803,12 +16721,12 @@ public class CuratorService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof isLeader_args)
-        return this.equals((isLeader_args)that);
+      if (that instanceof getPathChildrenCacheData_args)
+        return this.equals((getPathChildrenCacheData_args)that);
       return false;
     }
 
-    public boolean equals(isLeader_args that) {
+    public boolean equals(getPathChildrenCacheData_args that) {
       if (that == null)
         return false;
 
@@ -15821,12 +16739,12 @@ public class CuratorService {
           return false;
       }
 
-      boolean this_present_leaderProjection = true && this.isSetLeaderProjection();
-      boolean that_present_leaderProjection = true && that.isSetLeaderProjection();
-      if (this_present_leaderProjection || that_present_leaderProjection) {
-        if (!(this_present_leaderProjection && that_present_leaderProjection))
+      boolean this_present_cacheProjection = true && this.isSetCacheProjection();
+      boolean that_present_cacheProjection = true && that.isSetCacheProjection();
+      if (this_present_cacheProjection || that_present_cacheProjection) {
+        if (!(this_present_cacheProjection && that_present_cacheProjection))
           return false;
-        if (!this.leaderProjection.equals(that.leaderProjection))
+        if (!this.cacheProjection.equals(that.cacheProjection))
           return false;
       }
 
@@ -15839,7 +16757,7 @@ public class CuratorService {
     }
 
     @Override
-    public int compareTo(isLeader_args other) {
+    public int compareTo(getPathChildrenCacheData_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -15856,12 +16774,12 @@ public class CuratorService {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetLeaderProjection()).compareTo(other.isSetLeaderProjection());
+      lastComparison = Boolean.valueOf(isSetCacheProjection()).compareTo(other.isSetCacheProjection());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetLeaderProjection()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.leaderProjection, other.leaderProjection);
+      if (isSetCacheProjection()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.cacheProjection, other.cacheProjection);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -15883,7 +16801,7 @@ public class CuratorService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("isLeader_args(");
+      StringBuilder sb = new StringBuilder("getPathChildrenCacheData_args(");
       boolean first = true;
 
       sb.append("projection:");
@@ -15894,11 +16812,11 @@ public class CuratorService {
       }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("leaderProjection:");
-      if (this.leaderProjection == null) {
+      sb.append("cacheProjection:");
+      if (this.cacheProjection == null) {
         sb.append("null");
       } else {
-        sb.append(this.leaderProjection);
+        sb.append(this.cacheProjection);
       }
       first = false;
       sb.append(")");
@@ -15911,8 +16829,8 @@ public class CuratorService {
       if (projection != null) {
         projection.validate();
       }
-      if (leaderProjection != null) {
-        leaderProjection.validate();
+      if (cacheProjection != null) {
+        cacheProjection.validate();
       }
     }
 
@@ -15932,15 +16850,15 @@ public class CuratorService {
       }
     }
 
-    private static class isLeader_argsStandardSchemeFactory implements SchemeFactory {
-      public isLeader_argsStandardScheme getScheme() {
-        return new isLeader_argsStandardScheme();
+    private static class getPathChildrenCacheData_argsStandardSchemeFactory implements SchemeFactory {
+      public getPathChildrenCacheData_argsStandardScheme getScheme() {
+        return new getPathChildrenCacheData_argsStandardScheme();
       }
     }
 
-    private static class isLeader_argsStandardScheme extends StandardScheme<isLeader_args> {
+    private static class getPathChildrenCacheData_argsStandardScheme extends StandardScheme<getPathChildrenCacheData_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, isLeader_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getPathChildrenCacheData_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -15959,11 +16877,11 @@ public class CuratorService {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 2: // LEADER_PROJECTION
+            case 2: // CACHE_PROJECTION
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.leaderProjection = new LeaderProjection();
-                struct.leaderProjection.read(iprot);
-                struct.setLeaderProjectionIsSet(true);
+                struct.cacheProjection = new PathChildrenCacheProjection();
+                struct.cacheProjection.read(iprot);
+                struct.setCacheProjectionIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -15979,7 +16897,7 @@ public class CuratorService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, isLeader_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getPathChildrenCacheData_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -15988,9 +16906,9 @@ public class CuratorService {
           struct.projection.write(oprot);
           oprot.writeFieldEnd();
         }
-        if (struct.leaderProjection != null) {
-          oprot.writeFieldBegin(LEADER_PROJECTION_FIELD_DESC);
-          struct.leaderProjection.write(oprot);
+        if (struct.cacheProjection != null) {
+          oprot.writeFieldBegin(CACHE_PROJECTION_FIELD_DESC);
+          struct.cacheProjection.write(oprot);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -15999,35 +16917,35 @@ public class CuratorService {
 
     }
 
-    private static class isLeader_argsTupleSchemeFactory implements SchemeFactory {
-      public isLeader_argsTupleScheme getScheme() {
-        return new isLeader_argsTupleScheme();
+    private static class getPathChildrenCacheData_argsTupleSchemeFactory implements SchemeFactory {
+      public getPathChildrenCacheData_argsTupleScheme getScheme() {
+        return new getPathChildrenCacheData_argsTupleScheme();
       }
     }
 
-    private static class isLeader_argsTupleScheme extends TupleScheme<isLeader_args> {
+    private static class getPathChildrenCacheData_argsTupleScheme extends TupleScheme<getPathChildrenCacheData_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, isLeader_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getPathChildrenCacheData_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetProjection()) {
           optionals.set(0);
         }
-        if (struct.isSetLeaderProjection()) {
+        if (struct.isSetCacheProjection()) {
           optionals.set(1);
         }
         oprot.writeBitSet(optionals, 2);
         if (struct.isSetProjection()) {
           struct.projection.write(oprot);
         }
-        if (struct.isSetLeaderProjection()) {
-          struct.leaderProjection.write(oprot);
+        if (struct.isSetCacheProjection()) {
+          struct.cacheProjection.write(oprot);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, isLeader_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getPathChildrenCacheData_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
@@ -16036,28 +16954,28 @@ public class CuratorService {
           struct.setProjectionIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.leaderProjection = new LeaderProjection();
-          struct.leaderProjection.read(iprot);
-          struct.setLeaderProjectionIsSet(true);
+          struct.cacheProjection = new PathChildrenCacheProjection();
+          struct.cacheProjection.read(iprot);
+          struct.setCacheProjectionIsSet(true);
         }
       }
     }
 
   }
 
-  public static class isLeader_result implements org.apache.thrift.TBase<isLeader_result, isLeader_result._Fields>, java.io.Serializable, Cloneable, Comparable<isLeader_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("isLeader_result");
+  public static class getPathChildrenCacheData_result implements org.apache.thrift.TBase<getPathChildrenCacheData_result, getPathChildrenCacheData_result._Fields>, java.io.Serializable, Cloneable, Comparable<getPathChildrenCacheData_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getPathChildrenCacheData_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.BOOL, (short)0);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
     private static final org.apache.thrift.protocol.TField EX1_FIELD_DESC = new org.apache.thrift.protocol.TField("ex1", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new isLeader_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new isLeader_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new getPathChildrenCacheData_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getPathChildrenCacheData_resultTupleSchemeFactory());
     }
 
-    public boolean success; // required
+    public List<ChildData> success; // required
     public CuratorException ex1; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
@@ -16122,82 +17040,100 @@ public class CuratorService {
     }
 
     // isset id assignments
-    private static final int __SUCCESS_ISSET_ID = 0;
-    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ChildData.class))));
       tmpMap.put(_Fields.EX1, new org.apache.thrift.meta_data.FieldMetaData("ex1", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(isLeader_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getPathChildrenCacheData_result.class, metaDataMap);
     }
 
-    public isLeader_result() {
+    public getPathChildrenCacheData_result() {
     }
 
-    public isLeader_result(
-      boolean success,
+    public getPathChildrenCacheData_result(
+      List<ChildData> success,
       CuratorException ex1)
     {
       this();
       this.success = success;
-      setSuccessIsSet(true);
       this.ex1 = ex1;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public isLeader_result(isLeader_result other) {
-      __isset_bitfield = other.__isset_bitfield;
-      this.success = other.success;
+    public getPathChildrenCacheData_result(getPathChildrenCacheData_result other) {
+      if (other.isSetSuccess()) {
+        List<ChildData> __this__success = new ArrayList<ChildData>(other.success.size());
+        for (ChildData other_element : other.success) {
+          __this__success.add(new ChildData(other_element));
+        }
+        this.success = __this__success;
+      }
       if (other.isSetEx1()) {
         this.ex1 = new CuratorException(other.ex1);
       }
     }
 
-    public isLeader_result deepCopy() {
-      return new isLeader_result(this);
+    public getPathChildrenCacheData_result deepCopy() {
+      return new getPathChildrenCacheData_result(this);
     }
 
     @Override
     public void clear() {
-      setSuccessIsSet(false);
-      this.success = false;
+      this.success = null;
       this.ex1 = null;
     }
 
-    public boolean isSuccess() {
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
+    }
+
+    public java.util.Iterator<ChildData> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
+    }
+
+    public void addToSuccess(ChildData elem) {
+      if (this.success == null) {
+        this.success = new ArrayList<ChildData>();
+      }
+      this.success.add(elem);
+    }
+
+    public List<ChildData> getSuccess() {
       return this.success;
     }
 
-    public isLeader_result setSuccess(boolean success) {
+    public getPathChildrenCacheData_result setSuccess(List<ChildData> success) {
       this.success = success;
-      setSuccessIsSet(true);
       return this;
     }
 
     public void unsetSuccess() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+      this.success = null;
     }
 
     /** Returns true if field success is set (has been assigned a value) and false otherwise */
     public boolean isSetSuccess() {
-      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+      return this.success != null;
     }
 
     public void setSuccessIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
+      if (!value) {
+        this.success = null;
+      }
     }
 
     public CuratorException getEx1() {
       return this.ex1;
     }
 
-    public isLeader_result setEx1(CuratorException ex1) {
+    public getPathChildrenCacheData_result setEx1(CuratorException ex1) {
       this.ex1 = ex1;
       return this;
     }
@@ -16223,7 +17159,7 @@ public class CuratorService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((Boolean)value);
+          setSuccess((List<ChildData>)value);
         }
         break;
 
@@ -16241,7 +17177,7 @@ public class CuratorService {
     public Object getFieldValue(_Fields field) {
       switch (field) {
       case SUCCESS:
-        return Boolean.valueOf(isSuccess());
+        return getSuccess();
 
       case EX1:
         return getEx1();
@@ -16269,21 +17205,21 @@ public class CuratorService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof isLeader_result)
-        return this.equals((isLeader_result)that);
+      if (that instanceof getPathChildrenCacheData_result)
+        return this.equals((getPathChildrenCacheData_result)that);
       return false;
     }
 
-    public boolean equals(isLeader_result that) {
+    public boolean equals(getPathChildrenCacheData_result that) {
       if (that == null)
         return false;
 
-      boolean this_present_success = true;
-      boolean that_present_success = true;
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
       if (this_present_success || that_present_success) {
         if (!(this_present_success && that_present_success))
           return false;
-        if (this.success != that.success)
+        if (!this.success.equals(that.success))
           return false;
       }
 
@@ -16305,7 +17241,7 @@ public class CuratorService {
     }
 
     @Override
-    public int compareTo(isLeader_result other) {
+    public int compareTo(getPathChildrenCacheData_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -16349,11 +17285,15 @@ public class CuratorService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("isLeader_result(");
+      StringBuilder sb = new StringBuilder("getPathChildrenCacheData_result(");
       boolean first = true;
 
       sb.append("success:");
-      sb.append(this.success);
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
       first = false;
       if (!first) sb.append(", ");
       sb.append("ex1:");
@@ -16382,23 +17322,21 @@ public class CuratorService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
-        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
-        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class isLeader_resultStandardSchemeFactory implements SchemeFactory {
-      public isLeader_resultStandardScheme getScheme() {
-        return new isLeader_resultStandardScheme();
-      }
-    }
+    private static class getPathChildrenCacheData_resultStandardSchemeFactory implements SchemeFactory {
+      public getPathChildrenCacheData_resultStandardScheme getScheme() {
+        return new getPathChildrenCacheData_resultStandardScheme();
+      }
+    }
 
-    private static class isLeader_resultStandardScheme extends StandardScheme<isLeader_result> {
+    private static class getPathChildrenCacheData_resultStandardScheme extends StandardScheme<getPathChildrenCacheData_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, isLeader_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getPathChildrenCacheData_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -16409,8 +17347,19 @@ public class CuratorService {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
-                struct.success = iprot.readBool();
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list88 = iprot.readListBegin();
+                  struct.success = new ArrayList<ChildData>(_list88.size);
+                  for (int _i89 = 0; _i89 < _list88.size; ++_i89)
+                  {
+                    ChildData _elem90;
+                    _elem90 = new ChildData();
+                    _elem90.read(iprot);
+                    struct.success.add(_elem90);
+                  }
+                  iprot.readListEnd();
+                }
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
@@ -16436,13 +17385,20 @@ public class CuratorService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, isLeader_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getPathChildrenCacheData_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.isSetSuccess()) {
+        if (struct.success != null) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          oprot.writeBool(struct.success);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
+            for (ChildData _iter91 : struct.success)
+            {
+              _iter91.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
           oprot.writeFieldEnd();
         }
         if (struct.ex1 != null) {
@@ -16456,16 +17412,16 @@ public class CuratorService {
 
     }
 
-    private static class isLeader_resultTupleSchemeFactory implements SchemeFactory {
-      public isLeader_resultTupleScheme getScheme() {
-        return new isLeader_resultTupleScheme();
+    private static class getPathChildrenCacheData_resultTupleSchemeFactory implements SchemeFactory {
+      public getPathChildrenCacheData_resultTupleScheme getScheme() {
+        return new getPathChildrenCacheData_resultTupleScheme();
       }
     }
 
-    private static class isLeader_resultTupleScheme extends TupleScheme<isLeader_result> {
+    private static class getPathChildrenCacheData_resultTupleScheme extends TupleScheme<getPathChildrenCacheData_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, isLeader_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getPathChildrenCacheData_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -16476,7 +17432,13 @@ public class CuratorService {
         }
         oprot.writeBitSet(optionals, 2);
         if (struct.isSetSuccess()) {
-          oprot.writeBool(struct.success);
+          {
+            oprot.writeI32(struct.success.size());
+            for (ChildData _iter92 : struct.success)
+            {
+              _iter92.write(oprot);
+            }
+          }
         }
         if (struct.isSetEx1()) {
           struct.ex1.write(oprot);
@@ -16484,11 +17446,21 @@ public class CuratorService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, isLeader_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getPathChildrenCacheData_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.success = iprot.readBool();
+          {
+            org.apache.thrift.protocol.TList _list93 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.success = new ArrayList<ChildData>(_list93.size);
+            for (int _i94 = 0; _i94 < _list93.size; ++_i94)
+            {
+              ChildData _elem95;
+              _elem95 = new ChildData();
+              _elem95.read(iprot);
+              struct.success.add(_elem95);
+            }
+          }
           struct.setSuccessIsSet(true);
         }
         if (incoming.get(1)) {
@@ -16501,22 +17473,28 @@ public class CuratorService {
 
   }
 
-  public static class newCuratorProjection_args implements org.apache.thrift.TBase<newCuratorProjection_args, newCuratorProjection_args._Fields>, java.io.Serializable, Cloneable, Comparable<newCuratorProjection_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("newCuratorProjection_args");
+  public static class getPathChildrenCacheDataForPath_args implements org.apache.thrift.TBase<getPathChildrenCacheDataForPath_args, getPathChildrenCacheDataForPath_args._Fields>, java.io.Serializable, Cloneable, Comparable<getPathChildrenCacheDataForPath_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getPathChildrenCacheDataForPath_args");
 
-    private static final org.apache.thrift.protocol.TField CONNECTION_NAME_FIELD_DESC = new org.apache.thrift.protocol.TField("connectionName", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField PROJECTION_FIELD_DESC = new org.apache.thrift.protocol.TField("projection", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField CACHE_PROJECTION_FIELD_DESC = new org.apache.thrift.protocol.TField("cacheProjection", org.apache.thrift.protocol.TType.STRUCT, (short)2);
+    private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)3);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new newCuratorProjection_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new newCuratorProjection_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new getPathChildrenCacheDataForPath_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getPathChildrenCacheDataForPath_argsTupleSchemeFactory());
     }
 
-    public String connectionName; // required
+    public CuratorProjection projection; // required
+    public PathChildrenCacheProjection cacheProjection; // required
+    public String path; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      CONNECTION_NAME((short)1, "connectionName");
+      PROJECTION((short)1, "projection"),
+      CACHE_PROJECTION((short)2, "cacheProjection"),
+      PATH((short)3, "path");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -16531,8 +17509,12 @@ public class CuratorService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // CONNECTION_NAME
-            return CONNECTION_NAME;
+          case 1: // PROJECTION
+            return PROJECTION;
+          case 2: // CACHE_PROJECTION
+            return CACHE_PROJECTION;
+          case 3: // PATH
+            return PATH;
           default:
             return null;
         }
@@ -16576,71 +17558,151 @@ public class CuratorService {
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.CONNECTION_NAME, new org.apache.thrift.meta_data.FieldMetaData("connectionName", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+      tmpMap.put(_Fields.PROJECTION, new org.apache.thrift.meta_data.FieldMetaData("projection", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CuratorProjection.class)));
+      tmpMap.put(_Fields.CACHE_PROJECTION, new org.apache.thrift.meta_data.FieldMetaData("cacheProjection", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, PathChildrenCacheProjection.class)));
+      tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(newCuratorProjection_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getPathChildrenCacheDataForPath_args.class, metaDataMap);
     }
 
-    public newCuratorProjection_args() {
+    public getPathChildrenCacheDataForPath_args() {
     }
 
-    public newCuratorProjection_args(
-      String connectionName)
+    public getPathChildrenCacheDataForPath_args(
+      CuratorProjection projection,
+      PathChildrenCacheProjection cacheProjection,
+      String path)
     {
       this();
-      this.connectionName = connectionName;
+      this.projection = projection;
+      this.cacheProjection = cacheProjection;
+      this.path = path;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public newCuratorProjection_args(newCuratorProjection_args other) {
-      if (other.isSetConnectionName()) {
-        this.connectionName = other.connectionName;
+    public getPathChildrenCacheDataForPath_args(getPathChildrenCacheDataForPath_args other) {
+      if (other.isSetProjection()) {
+        this.projection = new CuratorProjection(other.projection);
+      }
+      if (other.isSetCacheProjection()) {
+        this.cacheProjection = new PathChildrenCacheProjection(other.cacheProjection);
+      }
+      if (other.isSetPath()) {
+        this.path = other.path;
       }
     }
 
-    public newCuratorProjection_args deepCopy() {
-      return new newCuratorProjection_args(this);
+    public getPathChildrenCacheDataForPath_args deepCopy() {
+      return new getPathChildrenCacheDataForPath_args(this);
     }
 
     @Override
     public void clear() {
-      this.connectionName = null;
+      this.projection = null;
+      this.cacheProjection = null;
+      this.path = null;
     }
 
-    public String getConnectionName() {
-      return this.connectionName;
+    public CuratorProjection getProjection() {
+      return this.projection;
     }
 
-    public newCuratorProjection_args setConnectionName(String connectionName) {
-      this.connectionName = connectionName;
+    public getPathChildrenCacheDataForPath_args setProjection(CuratorProjection projection) {
+      this.projection = projection;
       return this;
     }
 
-    public void unsetConnectionName() {
-      this.connectionName = null;
+    public void unsetProjection() {
+      this.projection = null;
     }
 
-    /** Returns true if field connectionName is set (has been assigned a value) and false otherwise */
-    public boolean isSetConnectionName() {
-      return this.connectionName != null;
+    /** Returns true if field projection is set (has been assigned a value) and false otherwise */
+    public boolean isSetProjection() {
+      return this.projection != null;
     }
 
-    public void setConnectionNameIsSet(boolean value) {
+    public void setProjectionIsSet(boolean value) {
       if (!value) {
-        this.connectionName = null;
+        this.projection = null;
+      }
+    }
+
+    public PathChildrenCacheProjection getCacheProjection() {
+      return this.cacheProjection;
+    }
+
+    public getPathChildrenCacheDataForPath_args setCacheProjection(PathChildrenCacheProjection cacheProjection) {
+      this.cacheProjection = cacheProjection;
+      return this;
+    }
+
+    public void unsetCacheProjection() {
+      this.cacheProjection = null;
+    }
+
+    /** Returns true if field cacheProjection is set (has been assigned a value) and false otherwise */
+    public boolean isSetCacheProjection() {
+      return this.cacheProjection != null;
+    }
+
+    public void setCacheProjectionIsSet(boolean value) {
+      if (!value) {
+        this.cacheProjection = null;
+      }
+    }
+
+    public String getPath() {
+      return this.path;
+    }
+
+    public getPathChildrenCacheDataForPath_args setPath(String path) {
+      this.path = path;
+      return this;
+    }
+
+    public void unsetPath() {
+      this.path = null;
+    }
+
+    /** Returns true if field path is set (has been assigned a value) and false otherwise */
+    public boolean isSetPath() {
+      return this.path != null;
+    }
+
+    public void setPathIsSet(boolean value) {
+      if (!value) {
+        this.path = null;
       }
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case CONNECTION_NAME:
+      case PROJECTION:
         if (value == null) {
-          unsetConnectionName();
+          unsetProjection();
         } else {
-          setConnectionName((String)value);
+          setProjection((CuratorProjection)value);
+        }
+        break;
+
+      case CACHE_PROJECTION:
+        if (value == null) {
+          unsetCacheProjection();
+        } else {
+          setCacheProjection((PathChildrenCacheProjection)value);
+        }
+        break;
+
+      case PATH:
+        if (value == null) {
+          unsetPath();
+        } else {
+          setPath((String)value);
         }
         break;
 
@@ -16649,8 +17711,14 @@ public class CuratorService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case CONNECTION_NAME:
-        return getConnectionName();
+      case PROJECTION:
+        return getProjection();
+
+      case CACHE_PROJECTION:
+        return getCacheProjection();
+
+      case PATH:
+        return getPath();
 
       }
       throw new IllegalStateException();
@@ -16663,8 +17731,12 @@ public class CuratorService {
       }
 
       switch (field) {
-      case CONNECTION_NAME:
-        return isSetConnectionName();
+      case PROJECTION:
+        return isSetProjection();
+      case CACHE_PROJECTION:
+        return isSetCacheProjection();
+      case PATH:
+        return isSetPath();
       }
       throw new IllegalStateException();
     }
@@ -16673,46 +17745,84 @@ public class CuratorService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof newCuratorProjection_args)
-        return this.equals((newCuratorProjection_args)that);
+      if (that instanceof getPathChildrenCacheDataForPath_args)
+        return this.equals((getPathChildrenCacheDataForPath_args)that);
       return false;
     }
 
-    public boolean equals(newCuratorProjection_args that) {
+    public boolean equals(getPathChildrenCacheDataForPath_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_connectionName = true && this.isSetConnectionName();
-      boolean that_present_connectionName = true && that.isSetConnectionName();
-      if (this_present_connectionName || that_present_connectionName) {
-        if (!(this_present_connectionName && that_present_connectionName))
+      boolean this_present_projection = true && this.isSetProjection();
+      boolean that_present_projection = true && that.isSetProjection();
+      if (this_present_projection || that_present_projection) {
+        if (!(this_present_projection && that_present_projection))
           return false;
-        if (!this.connectionName.equals(that.connectionName))
+        if (!this.projection.equals(that.projection))
           return false;
       }
 
-      return true;
-    }
+      boolean this_present_cacheProjection = true && this.isSetCacheProjection();
+      boolean that_present_cacheProjection = true && that.isSetCacheProjection();
+      if (this_present_cacheProjection || that_present_cacheProjection) {
+        if (!(this_present_cacheProjection && that_present_cacheProjection))
+          return false;
+        if (!this.cacheProjection.equals(that.cacheProjection))
+          return false;
+      }
 
-    @Override
+      boolean this_present_path = true && this.isSetPath();
+      boolean that_present_path = true && that.isSetPath();
+      if (this_present_path || that_present_path) {
+        if (!(this_present_path && that_present_path))
+          return false;
+        if (!this.path.equals(that.path))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
     public int hashCode() {
       return 0;
     }
 
     @Override
-    public int compareTo(newCuratorProjection_args other) {
+    public int compareTo(getPathChildrenCacheDataForPath_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetConnectionName()).compareTo(other.isSetConnectionName());
+      lastComparison = Boolean.valueOf(isSetProjection()).compareTo(other.isSetProjection());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetConnectionName()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.connectionName, other.connectionName);
+      if (isSetProjection()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.projection, other.projection);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetCacheProjection()).compareTo(other.isSetCacheProjection());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetCacheProjection()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.cacheProjection, other.cacheProjection);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetPath()).compareTo(other.isSetPath());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetPath()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.path, other.path);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -16734,14 +17844,30 @@ public class CuratorService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("newCuratorProjection_args(");
+      StringBuilder sb = new StringBuilder("getPathChildrenCacheDataForPath_args(");
       boolean first = true;
 
-      sb.append("connectionName:");
-      if (this.connectionName == null) {
+      sb.append("projection:");
+      if (this.projection == null) {
         sb.append("null");
       } else {
-        sb.append(this.connectionName);
+        sb.append(this.projection);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("cacheProjection:");
+      if (this.cacheProjection == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.cacheProjection);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("path:");
+      if (this.path == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.path);
       }
       first = false;
       sb.append(")");
@@ -16751,6 +17877,12 @@ public class CuratorService {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
+      if (projection != null) {
+        projection.validate();
+      }
+      if (cacheProjection != null) {
+        cacheProjection.validate();
+      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -16769,15 +17901,15 @@ public class CuratorService {
       }
     }
 
-    private static class newCuratorProjection_argsStandardSchemeFactory implements SchemeFactory {
-      public newCuratorProjection_argsStandardScheme getScheme() {
-        return new newCuratorProjection_argsStandardScheme();
+    private static class getPathChildrenCacheDataForPath_argsStandardSchemeFactory implements SchemeFactory {
+      public getPathChildrenCacheDataForPath_argsStandardScheme getScheme() {
+        return new getPathChildrenCacheDataForPath_argsStandardScheme();
       }
     }
 
-    private static class newCuratorProjection_argsStandardScheme extends StandardScheme<newCuratorProjection_args> {
+    private static class getPathChildrenCacheDataForPath_argsStandardScheme extends StandardScheme<getPathChildrenCacheDataForPath_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, newCuratorProjection_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getPathChildrenCacheDataForPath_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -16787,10 +17919,28 @@ public class CuratorService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // CONNECTION_NAME
+            case 1: // PROJECTION
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.projection = new CuratorProjection();
+                struct.projection.read(iprot);
+                struct.setProjectionIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // CACHE_PROJECTION
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.cacheProjection = new PathChildrenCacheProjection();
+                struct.cacheProjection.read(iprot);
+                struct.setCacheProjectionIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // PATH
               if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.connectionName = iprot.readString();
-                struct.setConnectionNameIsSet(true);
+                struct.path = iprot.readString();
+                struct.setPathIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -16806,13 +17956,23 @@ public class CuratorService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, newCuratorProjection_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getPathChildrenCacheDataForPath_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.connectionName != null) {
-          oprot.writeFieldBegin(CONNECTION_NAME_FIELD_DESC);
-          oprot.writeString(struct.connectionName);
+        if (struct.projection != null) {
+          oprot.writeFieldBegin(PROJECTION_FIELD_DESC);
+          struct.projection.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.cacheProjection != null) {
+          oprot.writeFieldBegin(CACHE_PROJECTION_FIELD_DESC);
+          struct.cacheProjection.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.path != null) {
+          oprot.writeFieldBegin(PATH_FIELD_DESC);
+          oprot.writeString(struct.path);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -16821,53 +17981,75 @@ public class CuratorService {
 
     }
 
-    private static class newCuratorProjection_argsTupleSchemeFactory implements SchemeFactory {
-      public newCuratorProjection_argsTupleScheme getScheme() {
-        return new newCuratorProjection_argsTupleScheme();
+    private static class getPathChildrenCacheDataForPath_argsTupleSchemeFactory implements SchemeFactory {
+      public getPathChildrenCacheDataForPath_argsTupleScheme getScheme() {
+        return new getPathChildrenCacheDataForPath_argsTupleScheme();
       }
     }
 
-    private static class newCuratorProjection_argsTupleScheme extends TupleScheme<newCuratorProjection_args> {
+    private static class getPathChildrenCacheDataForPath_argsTupleScheme extends TupleScheme<getPathChildrenCacheDataForPath_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, newCuratorProjection_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getPathChildrenCacheDataForPath_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetConnectionName()) {
+        if (struct.isSetProjection()) {
           optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 1);
-        if (struct.isSetConnectionName()) {
-          oprot.writeString(struct.connectionName);
+        if (struct.isSetCacheProjection()) {
+          optionals.set(1);
+        }
+        if (struct.isSetPath()) {
+          optionals.set(2);
+        }
+        oprot.writeBitSet(optionals, 3);
+        if (struct.isSetProjection()) {
+          struct.projection.write(oprot);
+        }
+        if (struct.isSetCacheProjection()) {
+          struct.cacheProjection.write(oprot);
+        }
+        if (struct.isSetPath()) {
+          oprot.writeString(struct.path);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, newCuratorProjection_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getPathChildrenCacheDataForPath_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(1);
+        BitSet incoming = iprot.readBitSet(3);
         if (incoming.get(0)) {
-          struct.connectionName = iprot.readString();
-          struct.setConnectionNameIsSet(true);
+          struct.projection = new CuratorProjection();
+          struct.projection.read(iprot);
+          struct.setProjectionIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.cacheProjection = new PathChildrenCacheProjection();
+          struct.cacheProjection.read(iprot);
+          struct.setCacheProjectionIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.path = iprot.readString();
+          struct.setPathIsSet(true);
         }
       }
     }
 
   }
 
-  public static class newCuratorProjection_result implements org.apache.thrift.TBase<newCuratorProjection_result, newCuratorProjection_result._Fields>, java.io.Serializable, Cloneable, Comparable<newCuratorProjection_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("newCuratorProjection_result");
+  public static class getPathChildrenCacheDataForPath_result implements org.apache.thrift.TBase<getPathChildrenCacheDataForPath_result, getPathChildrenCacheDataForPath_result._Fields>, java.io.Serializable, Cloneable, Comparable<getPathChildrenCacheDataForPath_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getPathChildrenCacheDataForPath_result");
 
     private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
     private static final org.apache.thrift.protocol.TField EX1_FIELD_DESC = new org.apache.thrift.protocol.TField("ex1", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new newCuratorProjection_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new newCuratorProjection_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new getPathChildrenCacheDataForPath_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getPathChildrenCacheDataForPath_resultTupleSchemeFactory());
     }
 
-    public CuratorProjection success; // required
+    public ChildData success; // required
     public CuratorException ex1; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
@@ -16936,18 +18118,18 @@ public class CuratorService {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CuratorProjection.class)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ChildData.class)));
       tmpMap.put(_Fields.EX1, new org.apache.thrift.meta_data.FieldMetaData("ex1", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(newCuratorProjection_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getPathChildrenCacheDataForPath_result.class, metaDataMap);
     }
 
-    public newCuratorProjection_result() {
+    public getPathChildrenCacheDataForPath_result() {
     }
 
-    public newCuratorProjection_result(
-      CuratorProjection success,
+    public getPathChildrenCacheDataForPath_result(
+      ChildData success,
       CuratorException ex1)
     {
       this();
@@ -16958,17 +18140,17 @@ public class CuratorService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public newCuratorProjection_result(newCuratorProjection_result other) {
+    public getPathChildrenCacheDataForPath_result(getPathChildrenCacheDataForPath_result other) {
       if (other.isSetSuccess()) {
-        this.success = new CuratorProjection(other.success);
+        this.success = new ChildData(other.success);
       }
       if (other.isSetEx1()) {
         this.ex1 = new CuratorException(other.ex1);
       }
     }
 
-    public newCuratorProjection_result deepCopy() {
-      return new newCuratorProjection_result(this);
+    public getPathChildrenCacheDataForPath_result deepCopy() {
+      return new getPathChildrenCacheDataForPath_result(this);
     }
 
     @Override
@@ -16977,11 +18159,11 @@ public class CuratorService {
       this.ex1 = null;
     }
 
-    public CuratorProjection getSuccess() {
+    public ChildData getSuccess() {
       return this.success;
     }
 
-    public newCuratorProjection_result setSuccess(CuratorProjection success) {
+    public getPathChildrenCacheDataForPath_result setSuccess(ChildData success) {
       this.success = success;
       return this;
     }
@@ -17005,7 +18187,7 @@ public class CuratorService {
       return this.ex1;
     }
 
-    public newCuratorProjection_result setEx1(CuratorException ex1) {
+    public getPathChildrenCacheDataForPath_result setEx1(CuratorException ex1) {
       this.ex1 = ex1;
       return this;
     }
@@ -17031,7 +18213,7 @@ public class CuratorService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((CuratorProjection)value);
+          setSuccess((ChildData)value);
         }
         break;
 
@@ -17077,12 +18259,12 @@ public class CuratorService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof newCuratorProjection_result)
-        return this.equals((newCuratorProjection_result)that);
+      if (that instanceof getPathChildrenCacheDataForPath_result)
+        return this.equals((getPathChildrenCacheDataForPath_result)that);
       return false;
     }
 
-    public boolean equals(newCuratorProjection_result that) {
+    public boolean equals(getPathChildrenCacheDataForPath_result that) {
       if (that == null)
         return false;
 
@@ -17113,7 +18295,7 @@ public class CuratorService {
     }
 
     @Override
-    public int compareTo(newCuratorProjection_result other) {
+    public int compareTo(getPathChildrenCacheDataForPath_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -17157,7 +18339,7 @@ public class CuratorService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("newCuratorProjection_result(");
+      StringBuilder sb = new StringBuilder("getPathChildrenCacheDataForPath_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -17203,15 +18385,15 @@ public class CuratorService {
       }
     }
 
-    private static class newCuratorProjection_resultStandardSchemeFactory implements SchemeFactory {
-      public newCuratorProjection_resultStandardScheme getScheme() {
-        return new newCuratorProjection_resultStandardScheme();
+    private static class getPathChildrenCacheDataForPath_resultStandardSchemeFactory implements SchemeFactory {
+      public getPathChildrenCacheDataForPath_resultStandardScheme getScheme() {
+        return new getPathChildrenCacheDataForPath_resultStandardScheme();
       }
     }
 
-    private static class newCuratorProjection_resultStandardScheme extends StandardScheme<newCuratorProjection_result> {
+    private static class getPathChildrenCacheDataForPath_resultStandardScheme extends StandardScheme<getPathChildrenCacheDataForPath_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, newCuratorProjection_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getPathChildrenCacheDataForPath_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -17223,7 +18405,7 @@ public class CuratorService {
           switch (schemeField.id) {
             case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.success = new CuratorProjection();
+                struct.success = new ChildData();
                 struct.success.read(iprot);
                 struct.setSuccessIsSet(true);
               } else { 
@@ -17250,7 +18432,7 @@ public class CuratorService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, newCuratorProjection_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getPathChildrenCacheDataForPath_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -17270,16 +18452,16 @@ public class CuratorService {
 
     }
 
-    private static class newCuratorProjection_resultTupleSchemeFactory implements SchemeFactory {
-      public newCuratorProjection_resultTupleScheme getScheme() {
-        return new newCuratorProjection_resultTupleScheme();
+    private static class getPathChildrenCacheDataForPath_resultTupleSchemeFactory implements SchemeFactory {
+      public getPathChildrenCacheDataForPath_resultTupleScheme getScheme() {
+        return new getPathChildrenCacheDataForPath_resultTupleScheme();
       }
     }
 
-    private static class newCuratorProjection_resultTupleScheme extends TupleScheme<newCuratorProjection_result> {
+    private static class getPathChildrenCacheDataForPath_resultTupleScheme extends TupleScheme<getPathChildrenCacheDataForPath_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, newCuratorProjection_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getPathChildrenCacheDataForPath_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -17298,11 +18480,11 @@ public class CuratorService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, newCuratorProjection_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getPathChildrenCacheDataForPath_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.success = new CuratorProjection();
+          struct.success = new ChildData();
           struct.success.read(iprot);
           struct.setSuccessIsSet(true);
         }
@@ -17316,22 +18498,28 @@ public class CuratorService {
 
   }
 
-  public static class pingCuratorProjection_args implements org.apache.thrift.TBase<pingCuratorProjection_args, pingCuratorProjection_args._Fields>, java.io.Serializable, Cloneable, Comparable<pingCuratorProjection_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("pingCuratorProjection_args");
+  public static class getTreeCacheChildren_args implements org.apache.thrift.TBase<getTreeCacheChildren_args, getTreeCacheChildren_args._Fields>, java.io.Serializable, Cloneable, Comparable<getTreeCacheChildren_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getTreeCacheChildren_args");
 
     private static final org.apache.thrift.protocol.TField PROJECTION_FIELD_DESC = new org.apache.thrift.protocol.TField("projection", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField CACHE_PROJECTION_FIELD_DESC = new org.apache.thrift.protocol.TField("cacheProjection", org.apache.thrift.protocol.TType.STRUCT, (short)2);
+    private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)3);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new pingCuratorProjection_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new pingCuratorProjection_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new getTreeCacheChildren_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getTreeCacheChildren_argsTupleSchemeFactory());
     }
 
     public CuratorProjection projection; // required
+    public TreeCacheProjection cacheProjection; // required
+    public String path; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      PROJECTION((short)1, "projection");
+      PROJECTION((short)1, "projection"),
+      CACHE_PROJECTION((short)2, "cacheProjection"),
+      PATH((short)3, "path");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -17348,6 +18536,10 @@ public class CuratorService {
         switch(fieldId) {
           case 1: // PROJECTION
             return PROJECTION;
+          case 2: // CACHE_PROJECTION
+            return CACHE_PROJECTION;
+          case 3: // PATH
+            return PATH;
           default:
             return null;
         }
@@ -17393,43 +18585,59 @@ public class CuratorService {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.PROJECTION, new org.apache.thrift.meta_data.FieldMetaData("projection", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CuratorProjection.class)));
+      tmpMap.put(_Fields.CACHE_PROJECTION, new org.apache.thrift.meta_data.FieldMetaData("cacheProjection", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, TreeCacheProjection.class)));
+      tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(pingCuratorProjection_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getTreeCacheChildren_args.class, metaDataMap);
     }
 
-    public pingCuratorProjection_args() {
+    public getTreeCacheChildren_args() {
     }
 
-    public pingCuratorProjection_args(
-      CuratorProjection projection)
+    public getTreeCacheChildren_args(
+      CuratorProjection projection,
+      TreeCacheProjection cacheProjection,
+      String path)
     {
       this();
       this.projection = projection;
+      this.cacheProjection = cacheProjection;
+      this.path = path;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public pingCuratorProjection_args(pingCuratorProjection_args other) {
+    public getTreeCacheChildren_args(getTreeCacheChildren_args other) {
       if (other.isSetProjection()) {
         this.projection = new CuratorProjection(other.projection);
       }
+      if (other.isSetCacheProjection()) {
+        this.cacheProjection = new TreeCacheProjection(other.cacheProjection);
+      }
+      if (other.isSetPath()) {
+        this.path = other.path;
+      }
     }
 
-    public pingCuratorProjection_args deepCopy() {
-      return new pingCuratorProjection_args(this);
+    public getTreeCacheChildren_args deepCopy() {
+      return new getTreeCacheChildren_args(this);
     }
 
     @Override
     public void clear() {
       this.projection = null;
+      this.cacheProjection = null;
+      this.path = null;
     }
 
     public CuratorProjection getProjection() {
       return this.projection;
     }
 
-    public pingCuratorProjection_args setProjection(CuratorProjection projection) {
+    public getTreeCacheChildren_args setProjection(CuratorProjection projection) {
       this.projection = projection;
       return this;
     }
@@ -17449,6 +18657,54 @@ public class CuratorService {
       }
     }
 
+    public TreeCacheProjection getCacheProjection() {
+      return this.cacheProjection;
+    }
+
+    public getTreeCacheChildren_args setCacheProjection(TreeCacheProjection cacheProjection) {
+      this.cacheProjection = cacheProjection;
+      return this;
+    }
+
+    public void unsetCacheProjection() {
+      this.cacheProjection = null;
+    }
+
+    /** Returns true if field cacheProjection is set (has been assigned a value) and false otherwise */
+    public boolean isSetCacheProjection() {
+      return this.cacheProjection != null;
+    }
+
+    public void setCacheProjectionIsSet(boolean value) {
+      if (!value) {
+        this.cacheProjection = null;
+      }
+    }
+
+    public String getPath() {
+      return this.path;
+    }
+
+    public getTreeCacheChildren_args setPath(String path) {
+      this.path = path;
+      return this;
+    }
+
+    public void unsetPath() {
+      this.path = null;
+    }
+
+    /** Returns true if field path is set (has been assigned a value) and false otherwise */
+    public boolean isSetPath() {
+      return this.path != null;
+    }
+
+    public void setPathIsSet(boolean value) {
+      if (!value) {
+        this.path = null;
+      }
+    }
+
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
       case PROJECTION:
@@ -17459,6 +18715,22 @@ public class CuratorService {
         }
         break;
 
+      case CACHE_PROJECTION:
+        if (value == null) {
+          unsetCacheProjection();
+        } else {
+          setCacheProjection((TreeCacheProjection)value);
+        }
+        break;
+
+      case PATH:
+        if (value == null) {
+          unsetPath();
+        } else {
+          setPath((String)value);
+        }
+        break;
+
       }
     }
 
@@ -17467,6 +18739,12 @@ public class CuratorService {
       case PROJECTION:
         return getProjection();
 
+      case CACHE_PROJECTION:
+        return getCacheProjection();
+
+      case PATH:
+        return getPath();
+
       }
       throw new IllegalStateException();
     }
@@ -17480,6 +18758,10 @@ public class CuratorService {
       switch (field) {
       case PROJECTION:
         return isSetProjection();
+      case CACHE_PROJECTION:
+        return isSetCacheProjection();
+      case PATH:
+        return isSetPath();
       }
       throw new IllegalStateException();
     }
@@ -17488,12 +18770,12 @@ public class CuratorService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof pingCuratorProjection_args)
-        return this.equals((pingCuratorProjection_args)that);
+      if (that instanceof getTreeCacheChildren_args)
+        return this.equals((getTreeCacheChildren_args)that);
       return false;
     }
 
-    public boolean equals(pingCuratorProjection_args that) {
+    public boolean equals(getTreeCacheChildren_args that) {
       if (that == null)
         return false;
 
@@ -17506,6 +18788,24 @@ public class CuratorService {
           return false;
       }
 
+      boolean this_present_cacheProjection = true && this.isSetCacheProjection();
+      boolean that_present_cacheProjection = true && that.isSetCacheProjection();
+      if (this_present_cacheProjection || that_present_cacheProjection) {
+        if (!(this_present_cacheProjection && that_present_cacheProjection))
+          return false;
+        if (!this.cacheProjection.equals(that.cacheProjection))
+          return false;
+      }
+
+      boolean this_present_path = true && this.isSetPath();
+      boolean that_present_path = true && that.isSetPath();
+      if (this_present_path || that_present_path) {
+        if (!(this_present_path && that_present_path))
+          return false;
+        if (!this.path.equals(that.path))
+          return false;
+      }
+
       return true;
     }
 
@@ -17515,7 +18815,7 @@ public class CuratorService {
     }
 
     @Override
-    public int compareTo(pingCuratorProjection_args other) {
+    public int compareTo(getTreeCacheChildren_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -17532,6 +18832,26 @@ public class CuratorService {
           return lastComparison;
         }
       }
+      lastComparison = Boolean.valueOf(isSetCacheProjection()).compareTo(other.isSetCacheProjection());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetCacheProjection()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.cacheProjection, other.cacheProjection);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetPath()).compareTo(other.isSetPath());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetPath()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.path, other.path);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -17549,7 +18869,7 @@ public class CuratorService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("pingCuratorProjection_args(");
+      StringBuilder sb = new StringBuilder("getTreeCacheChildren_args(");
       boolean first = true;
 
       sb.append("projection:");
@@ -17559,6 +18879,22 @@ public class CuratorService {
         sb.append(this.projection);
       }
       first = false;
+      if (!first) sb.append(", ");
+      sb.append("cacheProjection:");
+      if (this.cacheProjection == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.cacheProjection);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("path:");
+      if (this.path == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.path);
+      }
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -17569,6 +18905,9 @@ public class CuratorService {
       if (projection != null) {
         projection.validate();
       }
+      if (cacheProjection != null) {
+        cacheProjection.validate();
+      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -17587,15 +18926,15 @@ public class CuratorService {
       }
     }
 
-    private static class pingCuratorProjection_argsStandardSchemeFactory implements SchemeFactory {
-      public pingCuratorProjection_argsStandardScheme getScheme() {
-        return new pingCuratorProjection_argsStandardScheme();
+    private static class getTreeCacheChildren_argsStandardSchemeFactory implements SchemeFactory {
+      public getTreeCacheChildren_argsStandardScheme getScheme() {
+        return new getTreeCacheChildren_argsStandardScheme();
       }
     }
 
-    private static class pingCuratorProjection_argsStandardScheme extends StandardScheme<pingCuratorProjection_args> {
+    private static class getTreeCacheChildren_argsStandardScheme extends StandardScheme<getTreeCacheChildren_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, pingCuratorProjection_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getTreeCacheChildren_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -17614,6 +18953,23 @@ public class CuratorService {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
+            case 2: // CACHE_PROJECTION
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.cacheProjection = new TreeCacheProjection();
+                struct.cacheProjection.read(iprot);
+                struct.setCacheProjectionIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // PATH
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.path = iprot.readString();
+                struct.setPathIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -17625,7 +18981,7 @@ public class CuratorService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, pingCuratorProjection_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getTreeCacheChildren_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -17634,66 +18990,97 @@ public class CuratorService {
           struct.projection.write(oprot);
           oprot.writeFieldEnd();
         }
+        if (struct.cacheProjection != null) {
+          oprot.writeFieldBegin(CACHE_PROJECTION_FIELD_DESC);
+          struct.cacheProjection.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.path != null) {
+          oprot.writeFieldBegin(PATH_FIELD_DESC);
+          oprot.writeString(struct.path);
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class pingCuratorProjection_argsTupleSchemeFactory implements SchemeFactory {
-      public pingCuratorProjection_argsTupleScheme getScheme() {
-        return new pingCuratorProjection_argsTupleScheme();
+    private static class getTreeCacheChildren_argsTupleSchemeFactory implements SchemeFactory {
+      public getTreeCacheChildren_argsTupleScheme getScheme() {
+        return new getTreeCacheChildren_argsTupleScheme();
       }
     }
 
-    private static class pingCuratorProjection_argsTupleScheme extends TupleScheme<pingCuratorProjection_args> {
+    private static class getTreeCacheChildren_argsTupleScheme extends TupleScheme<getTreeCacheChildren_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, pingCuratorProjection_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getTreeCacheChildren_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetProjection()) {
           optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetCacheProjection()) {
+          optionals.set(1);
+        }
+        if (struct.isSetPath()) {
+          optionals.set(2);
+        }
+        oprot.writeBitSet(optionals, 3);
         if (struct.isSetProjection()) {
           struct.projection.write(oprot);
         }
+        if (struct.isSetCacheProjection()) {
+          struct.cacheProjection.write(oprot);
+        }
+        if (struct.isSetPath()) {
+          oprot.writeString(struct.path);
+        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, pingCuratorProjection_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getTreeCacheChildren_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(1);
+        BitSet incoming = iprot.readBitSet(3);
         if (incoming.get(0)) {
           struct.projection = new CuratorProjection();
           struct.projection.read(iprot);
           struct.setProjectionIsSet(true);
         }
+        if (incoming.get(1)) {
+          struct.cacheProjection = new TreeCacheProjection();
+          struct.cacheProjection.read(iprot);
+          struct.setCacheProjectionIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.path = iprot.readString();
+          struct.setPathIsSet(true);
+        }
       }
     }
 
   }
 
-  public static class setData_args implements org.apache.thrift.TBase<setData_args, setData_args._Fields>, java.io.Serializable, Cloneable, Comparable<setData_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("setData_args");
+  public static class getTreeCacheChildren_result implements org.apache.thrift.TBase<getTreeCacheChildren_result, getTreeCacheChildren_result._Fields>, java.io.Serializable, Cloneable, Comparable<getTreeCacheChildren_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getTreeCacheChildren_result");
 
-    private static final org.apache.thrift.protocol.TField PROJECTION_FIELD_DESC = new org.apache.thrift.protocol.TField("projection", org.apache.thrift.protocol.TType.STRUCT, (short)1);
-    private static final org.apache.thrift.protocol.TField SPEC_FIELD_DESC = new org.apache.thrift.protocol.TField("spec", org.apache.thrift.protocol.TType.STRUCT, (short)2);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
+    private static final org.apache.thrift.protocol.TField EX1_FIELD_DESC = new org.apache.thrift.protocol.TField("ex1", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new setData_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new setData_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new getTreeCacheChildren_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getTreeCacheChildren_resultTupleSchemeFactory());
     }
 
-    public CuratorProjection projection; // required
-    public SetDataSpec spec; // required
+    public List<ChildData> success; // required
+    public CuratorException ex1; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      PROJECTION((short)1, "projection"),
-      SPEC((short)2, "spec");
+      SUCCESS((short)0, "success"),
+      EX1((short)1, "ex1");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -17708,10 +19095,10 @@ public class CuratorService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // PROJECTION
-            return PROJECTION;
-          case 2: // SPEC
-            return SPEC;
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // EX1
+            return EX1;
           default:
             return null;
         }
@@ -17755,53 +19142,4636 @@ public class CuratorService {
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.PROJECTION, new org.apache.thrift.meta_data.FieldMetaData("projection", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CuratorProjection.class)));
-      tmpMap.put(_Fields.SPEC, new org.apache.thrift.meta_data.FieldMetaData("spec", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, SetDataSpec.class)));
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ChildData.class))));
+      tmpMap.put(_Fields.EX1, new org.apache.thrift.meta_data.FieldMetaData("ex1", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(setData_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getTreeCacheChildren_result.class, metaDataMap);
     }
 
-    public setData_args() {
+    public getTreeCacheChildren_result() {
     }
 
-    public setData_args(
+    public getTreeCacheChildren_result(
+      List<ChildData> success,
+      CuratorException ex1)
+    {
+      this();
+      this.success = success;
+      this.ex1 = ex1;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getTreeCacheChildren_result(getTreeCacheChildren_result other) {
+      if (other.isSetSuccess()) {
+        List<ChildData> __this__success = new ArrayList<ChildData>(other.success.size());
+        for (ChildData other_element : other.success) {
+          __this__success.add(new ChildData(other_element));
+        }
+        this.success = __this__success;
+      }
+      if (other.isSetEx1()) {
+        this.ex1 = new CuratorException(other.ex1);
+      }
+    }
+
+    public getTreeCacheChildren_result deepCopy() {
+      return new getTreeCacheChildren_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+      this.ex1 = null;
+    }
+
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
+    }
+
+    public java.util.Iterator<ChildData> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
+    }
+
+    public void addToSuccess(ChildData elem) {
+      if (this.success == null) {
+        this.success = new ArrayList<ChildData>();
+      }
+      this.success.add(elem);
+    }
+
+    public List<ChildData> getSuccess() {
+      return this.success;
+    }
+
+    public getTreeCacheChildren_result setSuccess(List<ChildData> success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public CuratorException getEx1() {
+      return this.ex1;
+    }
+
+    public getTreeCacheChildren_result setEx1(CuratorException ex1) {
+      this.ex1 = ex1;
+      return this;
+    }
+
+    public void unsetEx1() {
+      this.ex1 = null;
+    }
+
+    /** Returns true if field ex1 is set (has been assigned a value) and false otherwise */
+    public boolean isSetEx1() {
+      return this.ex1 != null;
+    }
+
+    public void setEx1IsSet(boolean value) {
+      if (!value) {
+        this.ex1 = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((List<ChildData>)value);
+        }
+        break;
+
+      case EX1:
+        if (value == null) {
+          unsetEx1();
+        } else {
+          setEx1((CuratorException)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      case EX1:
+        return getEx1();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case EX1:
+        return isSetEx1();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getTreeCacheChildren_result)
+        return this.equals((getTreeCacheChildren_result)that);
+      return false;
+    }
+
+    public boolean equals(getTreeCacheChildren_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      boolean this_present_ex1 = true && this.isSetEx1();
+      boolean that_present_ex1 = true && that.isSetEx1();
+      if (this_present_ex1 || that_present_ex1) {
+        if (!(this_present_ex1 && that_present_ex1))
+          return false;
+        if (!this.ex1.equals(that.ex1))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    @Override
+    public int compareTo(getTreeCacheChildren_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetEx1()).compareTo(other.isSetEx1());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetEx1()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.ex1, other.ex1);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("getTreeCacheChildren_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("ex1:");
+      if (this.ex1 == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.ex1);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getTreeCacheChildren_resultStandardSchemeFactory implements SchemeFactory {
+      public getTreeCacheChildren_resultStandardScheme getScheme() {
+        return new getTreeCacheChildren_resultStandardScheme();
+      }
+    }
+
+    private static class getTreeCacheChildren_resultStandardScheme extends StandardScheme<getTreeCacheChildren_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getTreeCacheChildren_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list96 = iprot.readListBegin();
+                  struct.success = new ArrayList<ChildData>(_list96.size);
+                  for (int _i97 = 0; _i97 < _list96.size; ++_i97)
+                  {
+                    ChildData _elem98;
+                    _elem98 = new ChildData();
+                    _elem98.read(iprot);
+                    struct.success.add(_elem98);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 1: // EX1
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.ex1 = new CuratorException();
+                struct.ex1.read(iprot);
+                struct.setEx1IsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getTreeCacheChildren_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
+            for (ChildData _iter99 : struct.success)
+            {
+              _iter99.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        if (struct.ex1 != null) {
+          oprot.writeFieldBegin(EX1_FIELD_DESC);
+          struct.ex1.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getTreeCacheChildren_resultTupleSchemeFactory implements SchemeFactory {
+      public getTreeCacheChildren_resultTupleScheme getScheme() {
+        return new getTreeCacheChildren_resultTupleScheme();
+      }
+    }
+
+    private static class getTreeCacheChildren_resultTupleScheme extends TupleScheme<getTreeCacheChildren_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getTreeCacheChildren_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        if (struct.isSetEx1()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          {
+            oprot.writeI32(struct.success.size());
+            for (ChildData _iter100 : struct.success)
+            {
+              _iter100.write(oprot);
+            }
+          }
+        }
+        if (struct.isSetEx1()) {
+          struct.ex1.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getTreeCacheChildren_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list101 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.success = new ArrayList<ChildData>(_list101.size);
+            for (int _i102 = 0; _i102 < _list101.size; ++_i102)
+            {
+              ChildData _elem103;
+              _elem103 = new ChildData();
+              _elem103.read(iprot);
+              struct.success.add(_elem103);
+            }
+          }
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.ex1 = new CuratorException();
+          struct.ex1.read(iprot);
+          struct.setEx1IsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class getTreeCacheData_args implements org.apache.thrift.TBase<getTreeCacheData_args, getTreeCacheData_args._Fields>, java.io.Serializable, Cloneable, Comparable<getTreeCacheData_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getTreeCacheData_args");
+
+    private static final org.apache.thrift.protocol.TField PROJECTION_FIELD_DESC = new org.apache.thrift.protocol.TField("projection", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField CACHE_PROJECTION_FIELD_DESC = new org.apache.thrift.protocol.TField("cacheProjection", org.apache.thrift.protocol.TType.STRUCT, (short)2);
+    private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)3);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new getTreeCacheData_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getTreeCacheData_argsTupleSchemeFactory());
+    }
+
+    public CuratorProjection projection; // required
+    public TreeCacheProjection cacheProjection; // required
+    public String path; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      PROJECTION((short)1, "projection"),
+      CACHE_PROJECTION((short)2, "cacheProjection"),
+      PATH((short)3, "path");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // PROJECTION
+            return PROJECTION;
+          case 2: // CACHE_PROJECTION
+            return CACHE_PROJECTION;
+          case 3: // PATH
+            return PATH;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.PROJECTION, new org.apache.thrift.meta_data.FieldMetaData("projection", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CuratorProjection.class)));
+      tmpMap.put(_Fields.CACHE_PROJECTION, new org.apache.thrift.meta_data.FieldMetaData("cacheProjection", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, TreeCacheProjection.class)));
+      tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getTreeCacheData_args.class, metaDataMap);
+    }
+
+    public getTreeCacheData_args() {
+    }
+
+    public getTreeCacheData_args(
+      CuratorProjection projection,
+      TreeCacheProjection cacheProjection,
+      String path)
+    {
+      this();
+      this.projection = projection;
+      this.cacheProjection = cacheProjection;
+      this.path = path;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getTreeCacheData_args(getTreeCacheData_args other) {
+      if (other.isSetProjection()) {
+        this.projection = new CuratorProjection(other.projection);
+      }
+      if (other.isSetCacheProjection()) {
+        this.cacheProjection = new TreeCacheProjection(other.cacheProjection);
+      }
+      if (other.isSetPath()) {
+        this.path = other.path;
+      }
+    }
+
+    public getTreeCacheData_args deepCopy() {
+      return new getTreeCacheData_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.projection = null;
+      this.cacheProjection = null;
+      this.path = null;
+    }
+
+    public CuratorProjection getProjection() {
+      return this.projection;
+    }
+
+    public getTreeCacheData_args setProjection(CuratorProjection projection) {
+      this.projection = projection;
+      return this;
+    }
+
+    public void unsetProjection() {
+      this.projection = null;
+    }
+
+    /** Returns true if field projection is set (has been assigned a value) and false otherwise */
+    public boolean isSetProjection() {
+      return this.projection != null;
+    }
+
+    public void setProjectionIsSet(boolean value) {
+      if (!value) {
+        this.projection = null;
+      }
+    }
+
+    public TreeCacheProjection getCacheProjection() {
+      return this.cacheProjection;
+    }
+
+    public getTreeCacheData_args setCacheProjection(TreeCacheProjection cacheProjection) {
+      this.cacheProjection = cacheProjection;
+      return this;
+    }
+
+    public void unsetCacheProjection() {
+      this.cacheProjection = null;
+    }
+
+    /** Returns true if field cacheProjection is set (has been assigned a value) and false otherwise */
+    public boolean isSetCacheProjection() {
+      return this.cacheProjection != null;
+    }
+
+    public void setCacheProjectionIsSet(boolean value) {
+      if (!value) {
+        this.cacheProjection = null;
+      }
+    }
+
+    public String getPath() {
+      return this.path;
+    }
+
+    public getTreeCacheData_args setPath(String path) {
+      this.path = path;
+      return this;
+    }
+
+    public void unsetPath() {
+      this.path = null;
+    }
+
+    /** Returns true if field path is set (has been assigned a value) and false otherwise */
+    public boolean isSetPath() {
+      return this.path != null;
+    }
+
+    public void setPathIsSet(boolean value) {
+      if (!value) {
+        this.path = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case PROJECTION:
+        if (value == null) {
+          unsetProjection();
+        } else {
+          setProjection((CuratorProjection)value);
+        }
+        break;
+
+      case CACHE_PROJECTION:
+        if (value == null) {
+          unsetCacheProjection();
+        } else {
+          setCacheProjection((TreeCacheProjection)value);
+        }
+        break;
+
+      case PATH:
+        if (value == null) {
+          unsetPath();
+        } else {
+          setPath((String)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case PROJECTION:
+        return getProjection();
+
+      case CACHE_PROJECTION:
+        return getCacheProjection();
+
+      case PATH:
+        return getPath();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case PROJECTION:
+        return isSetProjection();
+      case CACHE_PROJECTION:
+        return isSetCacheProjection();
+      case PATH:
+        return isSetPath();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getTreeCacheData_args)
+        return this.equals((getTreeCacheData_args)that);
+      return false;
+    }
+
+    public boolean equals(getTreeCacheData_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_projection = true && this.isSetProjection();
+      boolean that_present_projection = true && that.isSetProjection();
+      if (this_present_projection || that_present_projection) {
+        if (!(this_present_projection && that_present_projection))
+          return false;
+        if (!this.projection.equals(that.projection))
+          return false;
+      }
+
+      boolean this_present_cacheProjection = true && this.isSetCacheProjection();
+      boolean that_present_cacheProjection = true && that.isSetCacheProjection();
+      if (this_present_cacheProjection || that_present_cacheProjection) {
+        if (!(this_present_cacheProjection && that_present_cacheProjection))
+          return false;
+        if (!this.cacheProjection.equals(that.cacheProjection))
+          return false;
+      }
+
+      boolean this_present_path = true && this.isSetPath();
+      boolean that_present_path = true && that.isSetPath();
+      if (this_present_path || that_present_path) {
+        if (!(this_present_path && that_present_path))
+          return false;
+        if (!this.path.equals(that.path))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    @Override
+    public int compareTo(getTreeCacheData_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetProjection()).compareTo(other.isSetProjection());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetProjection()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.projection, other.projection);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetCacheProjection()).compareTo(other.isSetCacheProjection());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetCacheProjection()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.cacheProjection, other.cacheProjection);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetPath()).compareTo(other.isSetPath());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetPath()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.path, other.path);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("getTreeCacheData_args(");
+      boolean first = true;
+
+      sb.append("projection:");
+      if (this.projection == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.projection);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("cacheProjection:");
+      if (this.cacheProjection == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.cacheProjection);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("path:");
+      if (this.path == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.path);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (projection != null) {
+        projection.validate();
+      }
+      if (cacheProjection != null) {
+        cacheProjection.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getTreeCacheData_argsStandardSchemeFactory implements SchemeFactory {
+      public getTreeCacheData_argsStandardScheme getScheme() {
+        return new getTreeCacheData_argsStandardScheme();
+      }
+    }
+
+    private static class getTreeCacheData_argsStandardScheme extends StandardScheme<getTreeCacheData_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getTreeCacheData_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // PROJECTION
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.projection = new CuratorProjection();
+                struct.projection.read(iprot);
+                struct.setProjectionIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // CACHE_PROJECTION
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.cacheProjection = new TreeCacheProjection();
+                struct.cacheProjection.read(iprot);
+                struct.setCacheProjectionIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // PATH
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.path = iprot.readString();
+                struct.setPathIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getTreeCacheData_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.projection != null) {
+          oprot.writeFieldBegin(PROJECTION_FIELD_DESC);
+          struct.projection.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.cacheProjection != null) {
+          oprot.writeFieldBegin(CACHE_PROJECTION_FIELD_DESC);
+          struct.cacheProjection.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.path != null) {
+          oprot.writeFieldBegin(PATH_FIELD_DESC);
+          oprot.writeString(struct.path);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getTreeCacheData_argsTupleSchemeFactory implements SchemeFactory {
+      public getTreeCacheData_argsTupleScheme getScheme() {
+        return new getTreeCacheData_argsTupleScheme();
+      }
+    }
+
+    private static class getTreeCacheData_argsTupleScheme extends TupleScheme<getTreeCacheData_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getTreeCacheData_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetProjection()) {
+          optionals.set(0);
+        }
+        if (struct.isSetCacheProjection()) {
+          optionals.set(1);
+        }
+        if (struct.isSetPath()) {
+          optionals.set(2);
+        }
+        oprot.writeBitSet(optionals, 3);
+        if (struct.isSetProjection()) {
+          struct.projection.write(oprot);
+        }
+        if (struct.isSetCacheProjection()) {
+          struct.cacheProjection.write(oprot);
+        }
+        if (struct.isSetPath()) {
+          oprot.writeString(struct.path);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getTreeCacheData_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(3);
+        if (incoming.get(0)) {
+          struct.projection = new CuratorProjection();
+          struct.projection.read(iprot);
+          struct.setProjectionIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.cacheProjection = new TreeCacheProjection();
+          struct.cacheProjection.read(iprot);
+          struct.setCacheProjectionIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.path = iprot.readString();
+          struct.setPathIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class getTreeCacheData_result implements org.apache.thrift.TBase<getTreeCacheData_result, getTreeCacheData_result._Fields>, java.io.Serializable, Cloneable, Comparable<getTreeCacheData_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getTreeCacheData_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+    private static final org.apache.thrift.protocol.TField EX1_FIELD_DESC = new org.apache.thrift.protocol.TField("ex1", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new getTreeCacheData_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getTreeCacheData_resultTupleSchemeFactory());
+    }
+
+    public ChildData success; // required
+    public CuratorException ex1; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
+      EX1((short)1, "ex1");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // EX1
+            return EX1;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ChildData.class)));
+      tmpMap.put(_Fields.EX1, new org.apache.thrift.meta_data.FieldMetaData("ex1", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getTreeCacheData_result.class, metaDataMap);
+    }
+
+    public getTreeCacheData_result() {
+    }
+
+    public getTreeCacheData_result(
+      ChildData success,
+      CuratorException ex1)
+    {
+      this();
+      this.success = success;
+      this.ex1 = ex1;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getTreeCacheData_result(getTreeCacheData_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new ChildData(other.success);
+      }
+      if (other.isSetEx1()) {
+        this.ex1 = new CuratorException(other.ex1);
+      }
+    }
+
+    public getTreeCacheData_result deepCopy() {
+      return new getTreeCacheData_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+      this.ex1 = null;
+    }
+
+    public ChildData getSuccess() {
+      return this.success;
+    }
+
+    public getTreeCacheData_result setSuccess(ChildData success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public CuratorException getEx1() {
+      return this.ex1;
+    }
+
+    public getTreeCacheData_result setEx1(CuratorException ex1) {
+      this.ex1 = ex1;
+      return this;
+    }
+
+    public void unsetEx1() {
+      this.ex1 = null;
+    }
+
+    /** Returns true if field ex1 is set (has been assigned a value) and false otherwise */
+    public boolean isSetEx1() {
+      return this.ex1 != null;
+    }
+
+    public void setEx1IsSet(boolean value) {
+      if (!value) {
+        this.ex1 = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((ChildData)value);
+        }
+        break;
+
+      case EX1:
+        if (value == null) {
+          unsetEx1();
+        } else {
+          setEx1((CuratorException)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      case EX1:
+        return getEx1();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case EX1:
+        return isSetEx1();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getTreeCacheData_result)
+        return this.equals((getTreeCacheData_result)that);
+      return false;
+    }
+
+    public boolean equals(getTreeCacheData_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      boolean this_present_ex1 = true && this.isSetEx1();
+      boolean that_present_ex1 = true && that.isSetEx1();
+      if (this_present_ex1 || that_present_ex1) {
+        if (!(this_present_ex1 && that_present_ex1))
+          return false;
+        if (!this.ex1.equals(that.ex1))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    @Override
+    public int compareTo(getTreeCacheData_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetEx1()).compareTo(other.isSetEx1());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetEx1()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.ex1, other.ex1);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("getTreeCacheData_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("ex1:");
+      if (this.ex1 == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.ex1);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getTreeCacheData_resultStandardSchemeFactory implements SchemeFactory {
+      public getTreeCacheData_resultStandardScheme getScheme() {
+        return new getTreeCacheData_resultStandardScheme();
+      }
+    }
+
+    private static class getTreeCacheData_resultStandardScheme extends StandardScheme<getTreeCacheData_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getTreeCacheData_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new ChildData();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 1: // EX1
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.ex1 = new CuratorException();
+                struct.ex1.read(iprot);
+                struct.setEx1IsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getTreeCacheData_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.ex1 != null) {
+          oprot.writeFieldBegin(EX1_FIELD_DESC);
+          struct.ex1.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getTreeCacheData_resultTupleSchemeFactory implements SchemeFactory {
+      public getTreeCacheData_resultTupleScheme getScheme() {
+        return new getTreeCacheData_resultTupleScheme();
+      }
+    }
+
+    private static class getTreeCacheData_resultTupleScheme extends TupleScheme<getTreeCacheData_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getTreeCacheData_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        if (struct.isSetEx1()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          struct.success.write(oprot);
+        }
+        if (struct.isSetEx1()) {
+          struct.ex1.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getTreeCacheData_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.success = new ChildData();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.ex1 = new CuratorException();
+          struct.ex1.read(iprot);
+          struct.setEx1IsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class isLeader_args implements org.apache.thrift.TBase<isLeader_args, isLeader_args._Fields>, java.io.Serializable, Cloneable, Comparable<isLeader_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("isLeader_args");
+
+    private static final org.apache.thrift.protocol.TField PROJECTION_FIELD_DESC = new org.apache.thrift.protocol.TField("projection", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField LEADER_PROJECTION_FIELD_DESC = new org.apache.thrift.protocol.TField("leaderProjection", org.apache.thrift.protocol.TType.STRUCT, (short)2);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new isLeader_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new isLeader_argsTupleSchemeFactory());
+    }
+
+    public CuratorProjection projection; // required
+    public LeaderProjection leaderProjection; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      PROJECTION((short)1, "projection"),
+      LEADER_PROJECTION((short)2, "leaderProjection");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // PROJECTION
+            return PROJECTION;
+          case 2: // LEADER_PROJECTION
+            return LEADER_PROJECTION;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.PROJECTION, new org.apache.thrift.meta_data.FieldMetaData("projection", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CuratorProjection.class)));
+      tmpMap.put(_Fields.LEADER_PROJECTION, new org.apache.thrift.meta_data.FieldMetaData("leaderProjection", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, LeaderProjection.class)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(isLeader_args.class, metaDataMap);
+    }
+
+    public isLeader_args() {
+    }
+
+    public isLeader_args(
+      CuratorProjection projection,
+      LeaderProjection leaderProjection)
+    {
+      this();
+      this.projection = projection;
+      this.leaderProjection = leaderProjection;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public isLeader_args(isLeader_args other) {
+      if (other.isSetProjection()) {
+        this.projection = new CuratorProjection(other.projection);
+      }
+      if (other.isSetLeaderProjection()) {
+        this.leaderProjection = new LeaderProjection(other.leaderProjection);
+      }
+    }
+
+    public isLeader_args deepCopy() {
+      return new isLeader_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.projection = null;
+      this.leaderProjection = null;
+    }
+
+    public CuratorProjection getProjection() {
+      return this.projection;
+    }
+
+    public isLeader_args setProjection(CuratorProjection projection) {
+      this.projection = projection;
+      return this;
+    }
+
+    public void unsetProjection() {
+      this.projection = null;
+    }
+
+    /** Returns true if field projection is set (has been assigned a value) and false otherwise */
+    public boolean isSetProjection() {
+      return this.projection != null;
+    }
+
+    public void setProjectionIsSet(boolean value) {
+      if (!value) {
+        this.projection = null;
+      }
+    }
+
+    public LeaderProjection getLeaderProjection() {
+      return this.leaderProjection;
+    }
+
+    public isLeader_args setLeaderProjection(LeaderProjection leaderProjection) {
+      this.leaderProjection = leaderProjection;
+      return this;
+    }
+
+    public void unsetLeaderProjection() {
+      this.leaderProjection = null;
+    }
+
+    /** Returns true if field leaderProjection is set (has been assigned a value) and false otherwise */
+    public boolean isSetLeaderProjection() {
+      return this.leaderProjection != null;
+    }
+
+    public void setLeaderProjectionIsSet(boolean value) {
+      if (!value) {
+        this.leaderProjection = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case PROJECTION:
+        if (value == null) {
+          unsetProjection();
+        } else {
+          setProjection((CuratorProjection)value);
+        }
+        break;
+
+      case LEADER_PROJECTION:
+        if (value == null) {
+          unsetLeaderProjection();
+        } else {
+          setLeaderProjection((LeaderProjection)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case PROJECTION:
+        return getProjection();
+
+      case LEADER_PROJECTION:
+        return getLeaderProjection();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case PROJECTION:
+        return isSetProjection();
+      case LEADER_PROJECTION:
+        return isSetLeaderProjection();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof isLeader_args)
+        return this.equals((isLeader_args)that);
+      return false;
+    }
+
+    public boolean equals(isLeader_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_projection = true && this.isSetProjection();
+      boolean that_present_projection = true && that.isSetProjection();
+      if (this_present_projection || that_present_projection) {
+        if (!(this_present_projection && that_present_projection))
+          return false;
+        if (!this.projection.equals(that.projection))
+          return false;
+      }
+
+      boolean this_present_leaderProjection = true && this.isSetLeaderProjection();
+      boolean that_present_leaderProjection = true && that.isSetLeaderProjection();
+      if (this_present_leaderProjection || that_present_leaderProjection) {
+        if (!(this_present_leaderProjection && that_present_leaderProjection))
+          return false;
+        if (!this.leaderProjection.equals(that.leaderProjection))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    @Override
+    public int compareTo(isLeader_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetProjection()).compareTo(other.isSetProjection());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetProjection()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.projection, other.projection);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetLeaderProjection()).compareTo(other.isSetLeaderProjection());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetLeaderProjection()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.leaderProjection, other.leaderProjection);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("isLeader_args(");
+      boolean first = true;
+
+      sb.append("projection:");
+      if (this.projection == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.projection);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("leaderProjection:");
+      if (this.leaderProjection == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.leaderProjection);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (projection != null) {
+        projection.validate();
+      }
+      if (leaderProjection != null) {
+        leaderProjection.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class isLeader_argsStandardSchemeFactory implements SchemeFactory {
+      public isLeader_argsStandardScheme getScheme() {
+        return new isLeader_argsStandardScheme();
+      }
+    }
+
+    private static class isLeader_argsStandardScheme extends StandardScheme<isLeader_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, isLeader_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // PROJECTION
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.projection = new CuratorProjection();
+                struct.projection.read(iprot);
+                struct.setProjectionIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // LEADER_PROJECTION
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.leaderProjection = new LeaderProjection();
+                struct.leaderProjection.read(iprot);
+                struct.setLeaderProjectionIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, isLeader_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.projection != null) {
+          oprot.writeFieldBegin(PROJECTION_FIELD_DESC);
+          struct.projection.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.leaderProjection != null) {
+          oprot.writeFieldBegin(LEADER_PROJECTION_FIELD_DESC);
+          struct.leaderProjection.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class isLeader_argsTupleSchemeFactory implements SchemeFactory {
+      public isLeader_argsTupleScheme getScheme() {
+        return new isLeader_argsTupleScheme();
+      }
+    }
+
+    private static class isLeader_argsTupleScheme extends TupleScheme<isLeader_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, isLeader_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetProjection()) {
+          optionals.set(0);
+        }
+        if (struct.isSetLeaderProjection()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetProjection()) {
+          struct.projection.write(oprot);
+        }
+        if (struct.isSetLeaderProjection()) {
+          struct.leaderProjection.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, isLeader_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.projection = new CuratorProjection();
+          struct.projection.read(iprot);
+          struct.setProjectionIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.leaderProjection = new LeaderProjection();
+          struct.leaderProjection.read(iprot);
+          struct.setLeaderProjectionIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class isLeader_result implements org.apache.thrift.TBase<isLeader_result, isLeader_result._Fields>, java.io.Serializable, Cloneable, Comparable<isLeader_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("isLeader_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.BOOL, (short)0);
+    private static final org.apache.thrift.protocol.TField EX1_FIELD_DESC = new org.apache.thrift.protocol.TField("ex1", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new isLeader_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new isLeader_resultTupleSchemeFactory());
+    }
+
+    public boolean success; // required
+    public CuratorException ex1; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
+      EX1((short)1, "ex1");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // EX1
+            return EX1;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __SUCCESS_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
+      tmpMap.put(_Fields.EX1, new org.apache.thrift.meta_data.FieldMetaData("ex1", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(isLeader_result.class, metaDataMap);
+    }
+
+    public isLeader_result() {
+    }
+
+    public isLeader_result(
+      boolean success,
+      CuratorException ex1)
+    {
+      this();
+      this.success = success;
+      setSuccessIsSet(true);
+      this.ex1 = ex1;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public isLeader_result(isLeader_result other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.success = other.success;
+      if (other.isSetEx1()) {
+        this.ex1 = new CuratorException(other.ex1);
+      }
+    }
+
+    public isLeader_result deepCopy() {
+      return new isLeader_result(this);
+    }
+
+    @Override
+    public void clear() {
+      setSuccessIsSet(false);
+      this.success = false;
+      this.ex1 = null;
+    }
+
+    public boolean isSuccess() {
+      return this.success;
+    }
+
+    public isLeader_result setSuccess(boolean success) {
+      this.success = success;
+      setSuccessIsSet(true);
+      return this;
+    }
+
+    public void unsetSuccess() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
+    }
+
+    public CuratorException getEx1() {
+      return this.ex1;
+    }
+
+    public isLeader_result setEx1(CuratorException ex1) {
+      this.ex1 = ex1;
+      return this;
+    }
+
+    public void unsetEx1() {
+      this.ex1 = null;
+    }
+
+    /** Returns true if field ex1 is set (has been assigned a value) and false otherwise */
+    public boolean isSetEx1() {
+      return this.ex1 != null;
+    }
+
+    public void setEx1IsSet(boolean value) {
+      if (!value) {
+        this.ex1 = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((Boolean)value);
+        }
+        break;
+
+      case EX1:
+        if (value == null) {
+          unsetEx1();
+        } else {
+          setEx1((CuratorException)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return Boolean.valueOf(isSuccess());
+
+      case EX1:
+        return getEx1();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case EX1:
+        return isSetEx1();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof isLeader_result)
+        return this.equals((isLeader_result)that);
+      return false;
+    }
+
+    public boolean equals(isLeader_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true;
+      boolean that_present_success = true;
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (this.success != that.success)
+          return false;
+      }
+
+      boolean this_present_ex1 = true && this.isSetEx1();
+      boolean that_present_ex1 = true && that.isSetEx1();
+      if (this_present_ex1 || that_present_ex1) {
+        if (!(this_present_ex1 && that_present_ex1))
+          return false;
+        if (!this.ex1.equals(that.ex1))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    @Override
+    public int compareTo(isLeader_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetEx1()).compareTo(other.isSetEx1());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetEx1()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.ex1, other.ex1);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("isLeader_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      sb.append(this.success);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("ex1:");
+      if (this.ex1 == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.ex1);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class isLeader_resultStandardSchemeFactory implements SchemeFactory {
+      public isLeader_resultStandardScheme getScheme() {
+        return new isLeader_resultStandardScheme();
+      }
+    }
+
+    private static class isLeader_resultStandardScheme extends StandardScheme<isLeader_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, isLeader_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
+                struct.success = iprot.readBool();
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 1: // EX1
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.ex1 = new CuratorException();
+                struct.ex1.read(iprot);
+                struct.setEx1IsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, isLeader_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.isSetSuccess()) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          oprot.writeBool(struct.success);
+          oprot.writeFieldEnd();
+        }
+        if (struct.ex1 != null) {
+          oprot.writeFieldBegin(EX1_FIELD_DESC);
+          struct.ex1.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class isLeader_resultTupleSchemeFactory implements SchemeFactory {
+      public isLeader_resultTupleScheme getScheme() {
+        return new isLeader_resultTupleScheme();
+      }
+    }
+
+    private static class isLeader_resultTupleScheme extends TupleScheme<isLeader_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, isLeader_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        if (struct.isSetEx1()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          oprot.writeBool(struct.success);
+        }
+        if (struct.isSetEx1()) {
+          struct.ex1.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, isLeader_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.success = iprot.readBool();
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.ex1 = new CuratorException();
+          struct.ex1.read(iprot);
+          struct.setEx1IsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class newCuratorProjection_args implements org.apache.thrift.TBase<newCuratorProjection_args, newCuratorProjection_args._Fields>, java.io.Serializable, Cloneable, Comparable<newCuratorProjection_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("newCuratorProjection_args");
+
+    private static final org.apache.thrift.protocol.TField CONNECTION_NAME_FIELD_DESC = new org.apache.thrift.protocol.TField("connectionName", org.apache.thrift.protocol.TType.STRING, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new newCuratorProjection_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new newCuratorProjection_argsTupleSchemeFactory());
+    }
+
+    public String connectionName; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      CONNECTION_NAME((short)1, "connectionName");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // CONNECTION_NAME
+            return CONNECTION_NAME;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.CONNECTION_NAME, new org.apache.thrift.meta_data.FieldMetaData("connectionName", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(newCuratorProjection_args.class, metaDataMap);
+    }
+
+    public newCuratorProjection_args() {
+    }
+
+    public newCuratorProjection_args(
+      String connectionName)
+    {
+      this();
+      this.connectionName = connectionName;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public newCuratorProjection_args(newCuratorProjection_args other) {
+      if (other.isSetConnectionName()) {
+        this.connectionName = other.connectionName;
+      }
+    }
+
+    public newCuratorProjection_args deepCopy() {
+      return new newCuratorProjection_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.connectionName = null;
+    }
+
+    public String getConnectionName() {
+      return this.connectionName;
+    }
+
+    public newCuratorProjection_args setConnectionName(String connectionName) {
+      this.connectionName = connectionName;
+      return this;
+    }
+
+    public void unsetConnectionName() {
+      this.connectionName = null;
+    }
+
+    /** Returns true if field connectionName is set (has been assigned a value) and false otherwise */
+    public boolean isSetConnectionName() {
+      return this.connectionName != null;
+    }
+
+    public void setConnectionNameIsSet(boolean value) {
+      if (!value) {
+        this.connectionName = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case CONNECTION_NAME:
+        if (value == null) {
+          unsetConnectionName();
+        } else {
+          setConnectionName((String)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case CONNECTION_NAME:
+        return getConnectionName();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case CONNECTION_NAME:
+        return isSetConnectionName();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof newCuratorProjection_args)
+        return this.equals((newCuratorProjection_args)that);
+      return false;
+    }
+
+    public boolean equals(newCuratorProjection_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_connectionName = true && this.isSetConnectionName();
+      boolean that_present_connectionName = true && that.isSetConnectionName();
+      if (this_present_connectionName || that_present_connectionName) {
+        if (!(this_present_connectionName && that_present_connectionName))
+          return false;
+        if (!this.connectionName.equals(that.connectionName))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    @Override
+    public int compareTo(newCuratorProjection_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetConnectionName()).compareTo(other.isSetConnectionName());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetConnectionName()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.connectionName, other.connectionName);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("newCuratorProjection_args(");
+      boolean first = true;
+
+      sb.append("connectionName:");
+      if (this.connectionName == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.connectionName);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class newCuratorProjection_argsStandardSchemeFactory implements SchemeFactory {
+      public newCuratorProjection_argsStandardScheme getScheme() {
+        return new newCuratorProjection_argsStandardScheme();
+      }
+    }
+
+    private static class newCuratorProjection_argsStandardScheme extends StandardScheme<newCuratorProjection_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, newCuratorProjection_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // CONNECTION_NAME
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.connectionName = iprot.readString();
+                struct.setConnectionNameIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, newCuratorProjection_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.connectionName != null) {
+          oprot.writeFieldBegin(CONNECTION_NAME_FIELD_DESC);
+          oprot.writeString(struct.connectionName);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class newCuratorProjection_argsTupleSchemeFactory implements SchemeFactory {
+      public newCuratorProjection_argsTupleScheme getScheme() {
+        return new newCuratorProjection_argsTupleScheme();
+      }
+    }
+
+    private static class newCuratorProjection_argsTupleScheme extends TupleScheme<newCuratorProjection_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, newCuratorProjection_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetConnectionName()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetConnectionName()) {
+          oprot.writeString(struct.connectionName);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, newCuratorProjection_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.connectionName = iprot.readString();
+          struct.setConnectionNameIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class newCuratorProjection_result implements org.apache.thrift.TBase<newCuratorProjection_result, newCuratorProjection_result._Fields>, java.io.Serializable, Cloneable, Comparable<newCuratorProjection_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("newCuratorProjection_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+    private static final org.apache.thrift.protocol.TField EX1_FIELD_DESC = new org.apache.thrift.protocol.TField("ex1", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new newCuratorProjection_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new newCuratorProjection_resultTupleSchemeFactory());
+    }
+
+    public CuratorProjection success; // required
+    public CuratorException ex1; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
+      EX1((short)1, "ex1");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // EX1
+            return EX1;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CuratorProjection.class)));
+      tmpMap.put(_Fields.EX1, new org.apache.thrift.meta_data.FieldMetaData("ex1", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(newCuratorProjection_result.class, metaDataMap);
+    }
+
+    public newCuratorProjection_result() {
+    }
+
+    public newCuratorProjection_result(
+      CuratorProjection success,
+      CuratorException ex1)
+    {
+      this();
+      this.success = success;
+      this.ex1 = ex1;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public newCuratorProjection_result(newCuratorProjection_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new CuratorProjection(other.success);
+      }
+      if (other.isSetEx1()) {
+        this.ex1 = new CuratorException(other.ex1);
+      }
+    }
+
+    public newCuratorProjection_result deepCopy() {
+      return new newCuratorProjection_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+      this.ex1 = null;
+    }
+
+    public CuratorProjection getSuccess() {
+      return this.success;
+    }
+
+    public newCuratorProjection_result setSuccess(CuratorProjection success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public CuratorException getEx1() {
+      return this.ex1;
+    }
+
+    public newCuratorProjection_result setEx1(CuratorException ex1) {
+      this.ex1 = ex1;
+      return this;
+    }
+
+    public void unsetEx1() {
+      this.ex1 = null;
+    }
+
+    /** Returns true if field ex1 is set (has been assigned a value) and false otherwise */
+    public boolean isSetEx1() {
+      return this.ex1 != null;
+    }
+
+    public void setEx1IsSet(boolean value) {
+      if (!value) {
+        this.ex1 = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((CuratorProjection)value);
+        }
+        break;
+
+      case EX1:
+        if (value == null) {
+          unsetEx1();
+        } else {
+          setEx1((CuratorException)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      case EX1:
+        return getEx1();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case EX1:
+        return isSetEx1();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof newCuratorProjection_result)
+        return this.equals((newCuratorProjection_result)that);
+      return false;
+    }
+
+    public boolean equals(newCuratorProjection_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      boolean this_present_ex1 = true && this.isSetEx1();
+      boolean that_present_ex1 = true && that.isSetEx1();
+      if (this_present_ex1 || that_present_ex1) {
+        if (!(this_present_ex1 && that_present_ex1))
+          return false;
+        if (!this.ex1.equals(that.ex1))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    @Override
+    public int compareTo(newCuratorProjection_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetEx1()).compareTo(other.isSetEx1());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetEx1()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.ex1, other.ex1);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("newCuratorProjection_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("ex1:");
+      if (this.ex1 == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.ex1);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class newCuratorProjection_resultStandardSchemeFactory implements SchemeFactory {
+      public newCuratorProjection_resultStandardScheme getScheme() {
+        return new newCuratorProjection_resultStandardScheme();
+      }
+    }
+
+    private static class newCuratorProjection_resultStandardScheme extends StandardScheme<newCuratorProjection_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, newCuratorProjection_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new CuratorProjection();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 1: // EX1
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.ex1 = new CuratorException();
+                struct.ex1.read(iprot);
+                struct.setEx1IsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, newCuratorProjection_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.ex1 != null) {
+          oprot.writeFieldBegin(EX1_FIELD_DESC);
+          struct.ex1.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class newCuratorProjection_resultTupleSchemeFactory implements SchemeFactory {
+      public newCuratorProjection_resultTupleScheme getScheme() {
+        return new newCuratorProjection_resultTupleScheme();
+      }
+    }
+
+    private static class newCuratorProjection_resultTupleScheme extends TupleScheme<newCuratorProjection_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, newCuratorProjection_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        if (struct.isSetEx1()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          struct.success.write(oprot);
+        }
+        if (struct.isSetEx1()) {
+          struct.ex1.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, newCuratorProjection_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.success = new CuratorProjection();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.ex1 = new CuratorException();
+          struct.ex1.read(iprot);
+          struct.setEx1IsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class pingCuratorProjection_args implements org.apache.thrift.TBase<pingCuratorProjection_args, pingCuratorProjection_args._Fields>, java.io.Serializable, Cloneable, Comparable<pingCuratorProjection_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("pingCuratorProjection_args");
+
+    private static final org.apache.thrift.protocol.TField PROJECTION_FIELD_DESC = new org.apache.thrift.protocol.TField("projection", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new pingCuratorProjection_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new pingCuratorProjection_argsTupleSchemeFactory());
+    }
+
+    public CuratorProjection projection; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      PROJECTION((short)1, "projection");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // PROJECTION
+            return PROJECTION;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.PROJECTION, new org.apache.thrift.meta_data.FieldMetaData("projection", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CuratorProjection.class)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(pingCuratorProjection_args.class, metaDataMap);
+    }
+
+    public pingCuratorProjection_args() {
+    }
+
+    public pingCuratorProjection_args(
+      CuratorProjection projection)
+    {
+      this();
+      this.projection = projection;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public pingCuratorProjection_args(pingCuratorProjection_args other) {
+      if (other.isSetProjection()) {
+        this.projection = new CuratorProjection(other.projection);
+      }
+    }
+
+    public pingCuratorProjection_args deepCopy() {
+      return new pingCuratorProjection_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.projection = null;
+    }
+
+    public CuratorProjection getProjection() {
+      return this.projection;
+    }
+
+    public pingCuratorProjection_args setProjection(CuratorProjection projection) {
+      this.projection = projection;
+      return this;
+    }
+
+    public void unsetProjection() {
+      this.projection = null;
+    }
+
+    /** Returns true if field projection is set (has been assigned a value) and false otherwise */
+    public boolean isSetProjection() {
+      return this.projection != null;
+    }
+
+    public void setProjectionIsSet(boolean value) {
+      if (!value) {
+        this.projection = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case PROJECTION:
+        if (value == null) {
+          unsetProjection();
+        } else {
+          setProjection((CuratorProjection)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case PROJECTION:
+        return getProjection();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case PROJECTION:
+        return isSetProjection();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof pingCuratorProjection_args)
+        return this.equals((pingCuratorProjection_args)that);
+      return false;
+    }
+
+    public boolean equals(pingCuratorProjection_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_projection = true && this.isSetProjection();
+      boolean that_present_projection = true && that.isSetProjection();
+      if (this_present_projection || that_present_projection) {
+        if (!(this_present_projection && that_present_projection))
+          return false;
+        if (!this.projection.equals(that.projection))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    @Override
+    public int compareTo(pingCuratorProjection_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetProjection()).compareTo(other.isSetProjection());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetProjection()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.projection, other.projection);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("pingCuratorProjection_args(");
+      boolean first = true;
+
+      sb.append("projection:");
+      if (this.projection == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.projection);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (projection != null) {
+        projection.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class pingCuratorProjection_argsStandardSchemeFactory implements SchemeFactory {
+      public pingCuratorProjection_argsStandardScheme getScheme() {
+        return new pingCuratorProjection_argsStandardScheme();
+      }
+    }
+
+    private static class pingCuratorProjection_argsStandardScheme extends StandardScheme<pingCuratorProjection_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, pingCuratorProjection_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // PROJECTION
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.projection = new CuratorProjection();
+                struct.projection.read(iprot);
+                struct.setProjectionIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, pingCuratorProjection_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.projection != null) {
+          oprot.writeFieldBegin(PROJECTION_FIELD_DESC);
+          struct.projection.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class pingCuratorProjection_argsTupleSchemeFactory implements SchemeFactory {
+      public pingCuratorProjection_argsTupleScheme getScheme() {
+        return new pingCuratorProjection_argsTupleScheme();
+      }
+    }
+
+    private static class pingCuratorProjection_argsTupleScheme extends TupleScheme<pingCuratorProjection_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, pingCuratorProjection_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetProjection()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetProjection()) {
+          struct.projection.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, pingCuratorProjection_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.projection = new CuratorProjection();
+          struct.projection.read(iprot);
+          struct.setProjectionIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class setData_args implements org.apache.thrift.TBase<setData_args, setData_args._Fields>, java.io.Serializable, Cloneable, Comparable<setData_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("setData_args");
+
+    private static final org.apache.thrift.protocol.TField PROJECTION_FIELD_DESC = new org.apache.thrift.protocol.TField("projection", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField SPEC_FIELD_DESC = new org.apache.thrift.protocol.TField("spec", org.apache.thrift.protocol.TType.STRUCT, (short)2);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new setData_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new setData_argsTupleSchemeFactory());
+    }
+
+    public CuratorProjection projection; // required
+    public SetDataSpec spec; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      PROJECTION((short)1, "projection"),
+      SPEC((short)2, "spec");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // PROJECTION
+            return PROJECTION;
+          case 2: // SPEC
+            return SPEC;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.PROJECTION, new org.apache.thrift.meta_data.FieldMetaData("projection", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CuratorProjection.class)));
+      tmpMap.put(_Fields.SPEC, new org.apache.thrift.meta_data.FieldMetaData("spec", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, SetDataSpec.class)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(setData_args.class, metaDataMap);
+    }
+
+    public setData_args() {
+    }
+
+    public setData_args(
+      CuratorProjection projection,
+      SetDataSpec spec)
+    {
+      this();
+      this.projection = projection;
+      this.spec = spec;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public setData_args(setData_args other) {
+      if (other.isSetProjection()) {
+        this.projection = new CuratorProjection(other.projection);
+      }
+      if (other.isSetSpec()) {
+        this.spec = new SetDataSpec(other.spec);
+      }
+    }
+
+    public setData_args deepCopy() {
+      return new setData_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.projection = null;
+      this.spec = null;
+    }
+
+    public CuratorProjection getProjection() {
+      return this.projection;
+    }
+
+    public setData_args setProjection(CuratorProjection projection) {
+      this.projection = projection;
+      return this;
+    }
+
+    public void unsetProjection() {
+      this.projection = null;
+    }
+
+    /** Returns true if field projection is set (has been assigned a value) and false otherwise */
+    public boolean isSetProjection() {
+      return this.projection != null;
+    }
+
+    public void setProjectionIsSet(boolean value) {
+      if (!value) {
+        this.projection = null;
+      }
+    }
+
+    public SetDataSpec getSpec() {
+      return this.spec;
+    }
+
+    public setData_args setSpec(SetDataSpec spec) {
+      this.spec = spec;
+      return this;
+    }
+
+    public void unsetSpec() {
+      this.spec = null;
+    }
+
+    /** Returns true if field spec is set (has been assigned a value) and false otherwise */
+    public boolean isSetSpec() {
+      return this.spec != null;
+    }
+
+    public void setSpecIsSet(boolean value) {
+      if (!value) {
+        this.spec = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case PROJECTION:
+        if (value == null) {
+          unsetProjection();
+        } else {
+          setProjection((CuratorProjection)value);
+        }
+        break;
+
+      case SPEC:
+        if (value == null) {
+          unsetSpec();
+        } else {
+          setSpec((SetDataSpec)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case PROJECTION:
+        return getProjection();
+
+      case SPEC:
+        return getSpec();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case PROJECTION:
+        return isSetProjection();
+      case SPEC:
+        return isSetSpec();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof setData_args)
+        return this.equals((setData_args)that);
+      return false;
+    }
+
+    public boolean equals(setData_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_projection = true && this.isSetProjection();
+      boolean that_present_projection = true && that.isSetProjection();
+      if (this_present_projection || that_present_projection) {
+        if (!(this_present_projection && that_present_projection))
+          return false;
+        if (!this.projection.equals(that.projection))
+          return false;
+      }
+
+      boolean this_present_spec = true && this.isSetSpec();
+      boolean that_present_spec = true && that.isSetSpec();
+      if (this_present_spec || that_present_spec) {
+        if (!(this_present_spec && that_present_spec))
+          return false;
+        if (!this.spec.equals(that.spec))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    @Override
+    public int compareTo(setData_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetProjection()).compareTo(other.isSetProjection());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetProjection()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.projection, other.projection);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetSpec()).compareTo(other.isSetSpec());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSpec()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.spec, other.spec);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("setData_args(");
+      boolean first = true;
+
+      sb.append("projection:");
+      if (this.projection == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.projection);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("spec:");
+      if (this.spec == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.spec);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (projection != null) {
+        projection.validate();
+      }
+      if (spec != null) {
+        spec.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class setData_argsStandardSchemeFactory implements SchemeFactory {
+      public setData_argsStandardScheme getScheme() {
+        return new setData_argsStandardScheme();
+      }
+    }
+
+    private static class setData_argsStandardScheme extends StandardScheme<setData_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, setData_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // PROJECTION
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.projection = new CuratorProjection();
+                struct.projection.read(iprot);
+                struct.setProjectionIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // SPEC
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.spec = new SetDataSpec();
+                struct.spec.read(iprot);
+                struct.setSpecIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, setData_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.projection != null) {
+          oprot.writeFieldBegin(PROJECTION_FIELD_DESC);
+          struct.projection.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.spec != null) {
+          oprot.writeFieldBegin(SPEC_FIELD_DESC);
+          struct.spec.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class setData_argsTupleSchemeFactory implements SchemeFactory {
+      public setData_argsTupleScheme getScheme() {
+        return new setData_argsTupleScheme();
+      }
+    }
+
+    private static class setData_argsTupleScheme extends TupleScheme<setData_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, setData_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetProjection()) {
+          optionals.set(0);
+        }
+        if (struct.isSetSpec()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetProjection()) {
+          struct.projection.write(oprot);
+        }
+        if (struct.isSetSpec()) {
+          struct.spec.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, setData_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.projection = new CuratorProjection();
+          struct.projection.read(iprot);
+          struct.setProjectionIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.spec = new SetDataSpec();
+          struct.spec.read(iprot);
+          struct.setSpecIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class setData_result implements org.apache.thrift.TBase<setData_result, setData_result._Fields>, java.io.Serializable, Cloneable, Comparable<setData_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("setData_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+    private static final org.apache.thrift.protocol.TField EX1_FIELD_DESC = new org.apache.thrift.protocol.TField("ex1", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new setData_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new setData_resultTupleSchemeFactory());
+    }
+
+    public OptionalStat success; // required
+    public CuratorException ex1; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
+      EX1((short)1, "ex1");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // EX1
+            return EX1;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, OptionalStat.class)));
+      tmpMap.put(_Fields.EX1, new org.apache.thrift.meta_data.FieldMetaData("ex1", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(setData_result.class, metaDataMap);
+    }
+
+    public setData_result() {
+    }
+
+    public setData_result(
+      OptionalStat success,
+      CuratorException ex1)
+    {
+      this();
+      this.success = success;
+      this.ex1 = ex1;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public setData_result(setData_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new OptionalStat(other.success);
+      }
+      if (other.isSetEx1()) {
+        this.ex1 = new CuratorException(other.ex1);
+      }
+    }
+
+    public setData_result deepCopy() {
+      return new setData_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+      this.ex1 = null;
+    }
+
+    public OptionalStat getSuccess() {
+      return this.success;
+    }
+
+    public setData_result setSuccess(OptionalStat success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public CuratorException getEx1() {
+      return this.ex1;
+    }
+
+    public setData_result setEx1(CuratorException ex1) {
+      this.ex1 = ex1;
+      return this;
+    }
+
+    public void unsetEx1() {
+      this.ex1 = null;
+    }
+
+    /** Returns true if field ex1 is set (has been assigned a value) and false otherwise */
+    public boolean isSetEx1() {
+      return this.ex1 != null;
+    }
+
+    public void setEx1IsSet(boolean value) {
+      if (!value) {
+        this.ex1 = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((OptionalStat)value);
+        }
+        break;
+
+      case EX1:
+        if (value == null) {
+          unsetEx1();
+        } else {
+          setEx1((CuratorException)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      case EX1:
+        return getEx1();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case EX1:
+        return isSetEx1();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof setData_result)
+        return this.equals((setData_result)that);
+      return false;
+    }
+
+    public boolean equals(setData_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      boolean this_present_ex1 = true && this.isSetEx1();
+      boolean that_present_ex1 = true && that.isSetEx1();
+      if (this_present_ex1 || that_present_ex1) {
+        if (!(this_present_ex1 && that_present_ex1))
+          return false;
+        if (!this.ex1.equals(that.ex1))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    @Override
+    public int compareTo(setData_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetEx1()).compareTo(other.isSetEx1());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetEx1()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.ex1, other.ex1);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("setData_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("ex1:");
+      if (this.ex1 == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.ex1);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class setData_resultStandardSchemeFactory implements SchemeFactory {
+      public setData_resultStandardScheme getScheme() {
+        return new setData_resultStandardScheme();
+      }
+    }
+
+    private static class setData_resultStandardScheme extends StandardScheme<setData_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, setData_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new OptionalStat();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 1: // EX1
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.ex1 = new CuratorException();
+                struct.ex1.read(iprot);
+                struct.setEx1IsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, setData_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.ex1 != null) {
+          oprot.writeFieldBegin(EX1_FIELD_DESC);
+          struct.ex1.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class setData_resultTupleSchemeFactory implements SchemeFactory {
+      public setData_resultTupleScheme getScheme() {
+        return new setData_resultTupleScheme();
+      }
+    }
+
+    private static class setData_resultTupleScheme extends TupleScheme<setData_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, setData_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        if (struct.isSetEx1()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          struct.success.write(oprot);
+        }
+        if (struct.isSetEx1()) {
+          struct.ex1.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, setData_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.success = new OptionalStat();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.ex1 = new CuratorException();
+          struct.ex1.read(iprot);
+          struct.setEx1IsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class startLeaderSelector_args implements org.apache.thrift.TBase<startLeaderSelector_args, startLeaderSelector_args._Fields>, java.io.Serializable, Cloneable, Comparable<startLeaderSelector_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("startLeaderSelector_args");
+
+    private static final org.apache.thrift.protocol.TField PROJECTION_FIELD_DESC = new org.apache.thrift.protocol.TField("projection", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)2);
+    private static final org.apache.thrift.protocol.TField PARTICIPANT_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("participantId", org.apache.thrift.protocol.TType.STRING, (short)3);
+    private static final org.apache.thrift.protocol.TField WAIT_FOR_LEADERSHIP_MS_FIELD_DESC = new org.apache.thrift.protocol.TField("waitForLeadershipMs", org.apache.thrift.protocol.TType.I32, (short)4);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new startLeaderSelector_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new startLeaderSelector_argsTupleSchemeFactory());
+    }
+
+    public CuratorProjection projection; // required
+    public String path; // required
+    public String participantId; // required
+    public int waitForLeadershipMs; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      PROJECTION((short)1, "projection"),
+      PATH((short)2, "path"),
+      PARTICIPANT_ID((short)3, "participantId"),
+      WAIT_FOR_LEADERSHIP_MS((short)4, "waitForLeadershipMs");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // PROJECTION
+            return PROJECTION;
+          case 2: // PATH
+            return PATH;
+          case 3: // PARTICIPANT_ID
+            return PARTICIPANT_ID;
+          case 4: // WAIT_FOR_LEADERSHIP_MS
+            return WAIT_FOR_LEADERSHIP_MS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __WAITFORLEADERSHIPMS_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.PROJECTION, new org.apache.thrift.meta_data.FieldMetaData("projection", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CuratorProjection.class)));
+      tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.PARTICIPANT_ID, new org.apache.thrift.meta_data.FieldMetaData("participantId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.WAIT_FOR_LEADERSHIP_MS, new org.apache.thrift.meta_data.FieldMetaData("waitForLeadershipMs", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(startLeaderSelector_args.class, metaDataMap);
+    }
+
+    public startLeaderSelector_args() {
+    }
+
+    public startLeaderSelector_args(
       CuratorProjection projection,
-      SetDataSpec spec)
+      String path,
+      String participantId,
+      int waitForLeadershipMs)
     {
       this();
       this.projection = projection;
-      this.spec = spec;
+      this.path = path;
+      this.participantId = participantId;
+      this.waitForLeadershipMs = waitForLeadershipMs;
+      setWaitForLeadershipMsIsSet(true);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public setData_args(setData_args other) {
+    public startLeaderSelector_args(startLeaderSelector_args other) {
+      __isset_bitfield = other.__isset_bitfield;
       if (other.isSetProjection()) {
         this.projection = new CuratorProjection(other.projection);
       }
-      if (other.isSetSpec()) {
-        this.spec = new SetDataSpec(other.spec);
+      if (other.isSetPath()) {
+        this.path = other.path;
+      }
+      if (other.isSetParticipantId()) {
+        this.participantId = other.participantId;
       }
+      this.waitForLeadershipMs = other.waitForLeadershipMs;
     }
 
-    public setData_args deepCopy() {
-      return new setData_args(this);
+    public startLeaderSelector_args deepCopy() {
+      return new startLeaderSelector_args(this);
     }
 
     @Override
     public void clear() {
       this.projection = null;
-      this.spec = null;
+      this.path = null;
+      this.participantId = null;
+      setWaitForLeadershipMsIsSet(false);
+      this.waitForLeadershipMs = 0;
     }
 
     public CuratorProjection getProjection() {
       return this.projection;
     }
 
-    public setData_args setProjection(CuratorProjection projection) {
+    public startLeaderSelector_args setProjection(CuratorProjection projection) {
       this.projection = projection;
       return this;
     }
@@ -17821,30 +23791,77 @@ public class CuratorService {
       }
     }
 
-    public SetDataSpec getSpec() {
-      return this.spec;
+    public String getPath() {
+      return this.path;
     }
 
-    public setData_args setSpec(SetDataSpec spec) {
-      this.spec = spec;
+    public startLeaderSelector_args setPath(String path) {
+      this.path = path;
       return this;
     }
 
-    public void unsetSpec() {
-      this.spec = null;
+    public void unsetPath() {
+      this.path = null;
     }
 
-    /** Returns true if field spec is set (has been assigned a value) and false otherwise */
-    public boolean isSetSpec() {
-      return this.spec != null;
+    /** Returns true if field path is set (has been assigned a value) and false otherwise */
+    public boolean isSetPath() {
+      return this.path != null;
     }
 
-    public void setSpecIsSet(boolean value) {
+    public void setPathIsSet(boolean value) {
       if (!value) {
-        this.spec = null;
+        this.path = null;
+      }
+    }
+
+    public String getParticipantId() {
+      return this.participantId;
+    }
+
+    public startLeaderSelector_args setParticipantId(String participantId) {
+      this.participantId = participantId;
+      return this;
+    }
+
+    public void unsetParticipantId() {
+      this.participantId = null;
+    }
+
+    /** Returns true if field participantId is set (has been assigned a value) and false otherwise */
+    public boolean isSetParticipantId() {
+      return this.participantId != null;
+    }
+
+    public void setParticipantIdIsSet(boolean value) {
+      if (!value) {
+        this.participantId = null;
       }
     }
 
+    public int getWaitForLeadershipMs() {
+      return this.waitForLeadershipMs;
+    }
+
+    public startLeaderSelector_args setWaitForLeadershipMs(int waitForLeadershipMs) {
+      this.waitForLeadershipMs = waitForLeadershipMs;
+      setWaitForLeadershipMsIsSet(true);
+      return this;
+    }
+
+    public void unsetWaitForLeadershipMs() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __WAITFORLEADERSHIPMS_ISSET_ID);
+    }
+
+    /** Returns true if field waitForLeadershipMs is set (has been assigned a value) and false otherwise */
+    public boolean isSetWaitForLeadershipMs() {
+      return EncodingUtils.testBit(__isset_bitfield, __WAITFORLEADERSHIPMS_ISSET_ID);
+    }
+
+    public void setWaitForLeadershipMsIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __WAITFORLEADERSHIPMS_ISSET_ID, value);
+    }
+
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
       case PROJECTION:
@@ -17855,11 +23872,27 @@ public class CuratorService {
         }
         break;
 
-      case SPEC:
+      case PATH:
         if (value == null) {
-          unsetSpec();
+          unsetPath();
         } else {
-          setSpec((SetDataSpec)value);
+          setPath((String)value);
+        }
+        break;
+
+      case PARTICIPANT_ID:
+        if (value == null) {
+          unsetParticipantId();
+        } else {
+          setParticipantId((String)value);
+        }
+        break;
+
+      case WAIT_FOR_LEADERSHIP_MS:
+        if (value == null) {
+          unsetWaitForLeadershipMs();
+        } else {
+          setWaitForLeadershipMs((Integer)value);
         }
         break;
 
@@ -17871,8 +23904,14 @@ public class CuratorService {
       case PROJECTION:
         return getProjection();
 
-      case SPEC:
-        return getSpec();
+      case PATH:
+        return getPath();
+
+      case PARTICIPANT_ID:
+        return getParticipantId();
+
+      case WAIT_FOR_LEADERSHIP_MS:
+        return Integer.valueOf(getWaitForLeadershipMs());
 
       }
       throw new IllegalStateException();
@@ -17887,8 +23926,12 @@ public class CuratorService {
       switch (field) {
       case PROJECTION:
         return isSetProjection();
-      case SPEC:
-        return isSetSpec();
+      case PATH:
+        return isSetPath();
+      case PARTICIPANT_ID:
+        return isSetParticipantId();
+      case WAIT_FOR_LEADERSHIP_MS:
+        return isSetWaitForLeadershipMs();
       }
       throw new IllegalStateException();
     }
@@ -17897,12 +23940,12 @@ public class CuratorService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof setData_args)
-        return this.equals((setData_args)that);
+      if (that instanceof startLeaderSelector_args)
+        return this.equals((startLeaderSelector_args)that);
       return false;
     }
 
-    public boolean equals(setData_args that) {
+    public boolean equals(startLeaderSelector_args that) {
       if (that == null)
         return false;
 
@@ -17915,12 +23958,30 @@ public class CuratorService {
           return false;
       }
 
-      boolean this_present_spec = true && this.isSetSpec();
-      boolean that_present_spec = true && that.isSetSpec();
-      if (this_present_spec || that_present_spec) {
-        if (!(this_present_spec && that_present_spec))
+      boolean this_present_path = true && this.isSetPath();
+      boolean that_present_path = true && that.isSetPath();
+      if (this_present_path || that_present_path) {
+        if (!(this_present_path && that_present_path))
           return false;
-        if (!this.spec.equals(that.spec))
+        if (!this.path.equals(that.path))
+          return false;
+      }
+
+      boolean this_present_participantId = true && this.isSetParticipantId();
+      boolean that_present_participantId = true && that.isSetParticipantId();
+      if (this_present_participantId || that_present_participantId) {
+        if (!(this_present_participantId && that_present_participantId))
+          return false;
+        if (!this.participantId.equals(that.participantId))
+          return false;
+      }
+
+      boolean this_present_waitForLeadershipMs = true;
+      boolean that_present_waitForLeadershipMs = true;
+      if (this_present_waitForLeadershipMs || that_present_waitForLeadershipMs) {
+        if (!(this_present_waitForLeadershipMs && that_present_waitForLeadershipMs))
+          return false;
+        if (this.waitForLeadershipMs != that.waitForLeadershipMs)
           return false;
       }
 
@@ -17933,29 +23994,49 @@ public class CuratorService {
     }
 
     @Override
-    public int compareTo(setData_args other) {
+    public int compareTo(startLeaderSelector_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
-
-      int lastComparison = 0;
-
-      lastComparison = Boolean.valueOf(isSetProjection()).compareTo(other.isSetProjection());
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetProjection()).compareTo(other.isSetProjection());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetProjection()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.projection, other.projection);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetPath()).compareTo(other.isSetPath());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetProjection()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.projection, other.projection);
+      if (isSetPath()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.path, other.path);
         if (lastComparison != 0) {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetSpec()).compareTo(other.isSetSpec());
+      lastComparison = Boolean.valueOf(isSetParticipantId()).compareTo(other.isSetParticipantId());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetSpec()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.spec, other.spec);
+      if (isSetParticipantId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.participantId, other.participantId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetWaitForLeadershipMs()).compareTo(other.isSetWaitForLeadershipMs());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetWaitForLeadershipMs()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.waitForLeadershipMs, other.waitForLeadershipMs);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -17977,7 +24058,7 @@ public class CuratorService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("setData_args(");
+      StringBuilder sb = new StringBuilder("startLeaderSelector_args(");
       boolean first = true;
 
       sb.append("projection:");
@@ -17988,13 +24069,25 @@ public class CuratorService {
       }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("spec:");
-      if (this.spec == null) {
+      sb.append("path:");
+      if (this.path == null) {
         sb.append("null");
       } else {
-        sb.append(this.spec);
+        sb.append(this.path);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("participantId:");
+      if (this.participantId == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.participantId);
       }
       first = false;
+      if (!first) sb.append(", ");
+      sb.append("waitForLeadershipMs:");
+      sb.append(this.waitForLeadershipMs);
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -18005,9 +24098,6 @@ public class CuratorService {
       if (projection != null) {
         projection.validate();
       }
-      if (spec != null) {
-        spec.validate();
-      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -18020,21 +24110,23 @@ public class CuratorService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class setData_argsStandardSchemeFactory implements SchemeFactory {
-      public setData_argsStandardScheme getScheme() {
-        return new setData_argsStandardScheme();
+    private static class startLeaderSelector_argsStandardSchemeFactory implements SchemeFactory {
+      public startLeaderSelector_argsStandardScheme getScheme() {
+        return new startLeaderSelector_argsStandardScheme();
       }
     }
 
-    private static class setData_argsStandardScheme extends StandardScheme<setData_args> {
+    private static class startLeaderSelector_argsStandardScheme extends StandardScheme<startLeaderSelector_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, setData_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, startLeaderSelector_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -18053,11 +24145,26 @@ public class CuratorService {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 2: // SPEC
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.spec = new SetDataSpec();
-                struct.spec.read(iprot);
-                struct.setSpecIsSet(true);
+            case 2: // PATH
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.path = iprot.readString();
+                struct.setPathIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // PARTICIPANT_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.participantId = iprot.readString();
+                struct.setParticipantIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 4: // WAIT_FOR_LEADERSHIP_MS
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.waitForLeadershipMs = iprot.readI32();
+                struct.setWaitForLeadershipMsIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -18073,7 +24180,7 @@ public class CuratorService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, setData_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, startLeaderSelector_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -18082,76 +24189,103 @@ public class CuratorService {
           struct.projection.write(oprot);
           oprot.writeFieldEnd();
         }
-        if (struct.spec != null) {
-          oprot.writeFieldBegin(SPEC_FIELD_DESC);
-          struct.spec.write(oprot);
+        if (struct.path != null) {
+          oprot.writeFieldBegin(PATH_FIELD_DESC);
+          oprot.writeString(struct.path);
+          oprot.writeFieldEnd();
+        }
+        if (struct.participantId != null) {
+          oprot.writeFieldBegin(PARTICIPANT_ID_FIELD_DESC);
+          oprot.writeString(struct.participantId);
           oprot.writeFieldEnd();
         }
+        oprot.writeFieldBegin(WAIT_FOR_LEADERSHIP_MS_FIELD_DESC);
+        oprot.writeI32(struct.waitForLeadershipMs);
+        oprot.writeFieldEnd();
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class setData_argsTupleSchemeFactory implements SchemeFactory {
-      public setData_argsTupleScheme getScheme() {
-        return new setData_argsTupleScheme();
+    private static class startLeaderSelector_argsTupleSchemeFactory implements SchemeFactory {
+      public startLeaderSelector_argsTupleScheme getScheme() {
+        return new startLeaderSelector_argsTupleScheme();
       }
     }
 
-    private static class setData_argsTupleScheme extends TupleScheme<setData_args> {
+    private static class startLeaderSelector_argsTupleScheme extends TupleScheme<startLeaderSelector_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, setData_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, startLeaderSelector_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetProjection()) {
           optionals.set(0);
         }
-        if (struct.isSetSpec()) {
+        if (struct.isSetPath()) {
           optionals.set(1);
         }
-        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetParticipantId()) {
+          optionals.set(2);
+        }
+        if (struct.isSetWaitForLeadershipMs()) {
+          optionals.set(3);
+        }
+        oprot.writeBitSet(optionals, 4);
         if (struct.isSetProjection()) {
           struct.projection.write(oprot);
         }
-        if (struct.isSetSpec()) {
-          struct.spec.write(oprot);
+        if (struct.isSetPath()) {
+          oprot.writeString(struct.path);
+        }
+        if (struct.isSetParticipantId()) {
+          oprot.writeString(struct.participantId);
+        }
+        if (struct.isSetWaitForLeadershipMs()) {
+          oprot.writeI32(struct.waitForLeadershipMs);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, setData_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, startLeaderSelector_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(2);
+        BitSet incoming = iprot.readBitSet(4);
         if (incoming.get(0)) {
           struct.projection = new CuratorProjection();
           struct.projection.read(iprot);
           struct.setProjectionIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.spec = new SetDataSpec();
-          struct.spec.read(iprot);
-          struct.setSpecIsSet(true);
+          struct.path = iprot.readString();
+          struct.setPathIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.participantId = iprot.readString();
+          struct.setParticipantIdIsSet(true);
+        }
+        if (incoming.get(3)) {
+          struct.waitForLeadershipMs = iprot.readI32();
+          struct.setWaitForLeadershipMsIsSet(true);
         }
       }
     }
 
   }
 
-  public static class setData_result implements org.apache.thrift.TBase<setData_result, setData_result._Fields>, java.io.Serializable, Cloneable, Comparable<setData_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("setData_result");
+  public static class startLeaderSelector_result implements org.apache.thrift.TBase<startLeaderSelector_result, startLeaderSelector_result._Fields>, java.io.Serializable, Cloneable, Comparable<startLeaderSelector_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("startLeaderSelector_result");
 
     private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
     private static final org.apache.thrift.protocol.TField EX1_FIELD_DESC = new org.apache.thrift.protocol.TField("ex1", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new setData_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new setData_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new startLeaderSelector_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new startLeaderSelector_resultTupleSchemeFactory());
     }
 
-    public OptionalStat success; // required
+    public LeaderResult success; // required
     public CuratorException ex1; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
@@ -18220,18 +24354,18 @@ public class CuratorService {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, OptionalStat.class)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, LeaderResult.class)));
       tmpMap.put(_Fields.EX1, new org.apache.thrift.meta_data.FieldMetaData("ex1", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(setData_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(startLeaderSelector_result.class, metaDataMap);
     }
 
-    public setData_result() {
+    public startLeaderSelector_result() {
     }
 
-    public setData_result(
-      OptionalStat success,
+    public startLeaderSelector_result(
+      LeaderResult success,
       CuratorException ex1)
     {
       this();
@@ -18242,17 +24376,17 @@ public class CuratorService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public setData_result(setData_result other) {
+    public startLeaderSelector_result(startLeaderSelector_result other) {
       if (other.isSetSuccess()) {
-        this.success = new OptionalStat(other.success);
+        this.success = new LeaderResult(other.success);
       }
       if (other.isSetEx1()) {
         this.ex1 = new CuratorException(other.ex1);
       }
     }
 
-    public setData_result deepCopy() {
-      return new setData_result(this);
+    public startLeaderSelector_result deepCopy() {
+      return new startLeaderSelector_result(this);
     }
 
     @Override
@@ -18261,11 +24395,11 @@ public class CuratorService {
       this.ex1 = null;
     }
 
-    public OptionalStat getSuccess() {
+    public LeaderResult getSuccess() {
       return this.success;
     }
 
-    public setData_result setSuccess(OptionalStat success) {
+    public startLeaderSelector_result setSuccess(LeaderResult success) {
       this.success = success;
       return this;
     }
@@ -18289,7 +24423,7 @@ public class CuratorService {
       return this.ex1;
     }
 
-    public setData_result setEx1(CuratorException ex1) {
+    public startLeaderSelector_result setEx1(CuratorException ex1) {
       this.ex1 = ex1;
       return this;
     }
@@ -18315,7 +24449,7 @@ public class CuratorService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((OptionalStat)value);
+          setSuccess((LeaderResult)value);
         }
         break;
 
@@ -18361,12 +24495,12 @@ public class CuratorService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof setData_result)
-        return this.equals((setData_result)that);
+      if (that instanceof startLeaderSelector_result)
+        return this.equals((startLeaderSelector_result)that);
       return false;
     }
 
-    public boolean equals(setData_result that) {
+    public boolean equals(startLeaderSelector_result that) {
       if (that == null)
         return false;
 
@@ -18397,7 +24531,7 @@ public class CuratorService {
     }
 
     @Override
-    public int compareTo(setData_result other) {
+    public int compareTo(startLeaderSelector_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -18441,7 +24575,7 @@ public class CuratorService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("setData_result(");
+      StringBuilder sb = new StringBuilder("startLeaderSelector_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -18487,15 +24621,15 @@ public class CuratorService {
       }
     }
 
-    private static class setData_resultStandardSchemeFactory implements SchemeFactory {
-      public setData_resultStandardScheme getScheme() {
-        return new setData_resultStandardScheme();
+    private static class startLeaderSelector_resultStandardSchemeFactory implements SchemeFactory {
+      public startLeaderSelector_resultStandardScheme getScheme() {
+        return new startLeaderSelector_resultStandardScheme();
       }
     }
 
-    private static class setData_resultStandardScheme extends StandardScheme<setData_result> {
+    private static class startLeaderSelector_resultStandardScheme extends StandardScheme<startLeaderSelector_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, setData_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, startLeaderSelector_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -18507,7 +24641,7 @@ public class CuratorService {
           switch (schemeField.id) {
             case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.success = new OptionalStat();
+                struct.success = new LeaderResult();
                 struct.success.read(iprot);
                 struct.setSuccessIsSet(true);
               } else { 
@@ -18534,7 +24668,7 @@ public class CuratorService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, setData_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, startLeaderSelector_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -18554,16 +24688,16 @@ public class CuratorService {
 
     }
 
-    private static class setData_resultTupleSchemeFactory implements SchemeFactory {
-      public setData_resultTupleScheme getScheme() {
-        return new setData_resultTupleScheme();
+    private static class startLeaderSelector_resultTupleSchemeFactory implements SchemeFactory {
+      public startLeaderSelector_resultTupleScheme getScheme() {
+        return new startLeaderSelector_resultTupleScheme();
       }
     }
 
-    private static class setData_resultTupleScheme extends TupleScheme<setData_result> {
+    private static class startLeaderSelector_resultTupleScheme extends TupleScheme<startLeaderSelector_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, setData_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, startLeaderSelector_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -18582,11 +24716,11 @@ public class CuratorService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, setData_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, startLeaderSelector_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.success = new OptionalStat();
+          struct.success = new LeaderResult();
           struct.success.read(iprot);
           struct.setSuccessIsSet(true);
         }
@@ -18600,31 +24734,31 @@ public class CuratorService {
 
   }
 
-  public static class startLeaderSelector_args implements org.apache.thrift.TBase<startLeaderSelector_args, startLeaderSelector_args._Fields>, java.io.Serializable, Cloneable, Comparable<startLeaderSelector_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("startLeaderSelector_args");
+  public static class startNodeCache_args implements org.apache.thrift.TBase<startNodeCache_args, startNodeCache_args._Fields>, java.io.Serializable, Cloneable, Comparable<startNodeCache_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("startNodeCache_args");
 
     private static final org.apache.thrift.protocol.TField PROJECTION_FIELD_DESC = new org.apache.thrift.protocol.TField("projection", org.apache.thrift.protocol.TType.STRUCT, (short)1);
     private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)2);
-    private static final org.apache.thrift.protocol.TField PARTICIPANT_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("participantId", org.apache.thrift.protocol.TType.STRING, (short)3);
-    private static final org.apache.thrift.protocol.TField WAIT_FOR_LEADERSHIP_MS_FIELD_DESC = new org.apache.thrift.protocol.TField("waitForLeadershipMs", org.apache.thrift.protocol.TType.I32, (short)4);
+    private static final org.apache.thrift.protocol.TField DATA_IS_COMPRESSED_FIELD_DESC = new org.apache.thrift.protocol.TField("dataIsCompressed", org.apache.thrift.protocol.TType.BOOL, (short)3);
+    private static final org.apache.thrift.protocol.TField BUILD_INITIAL_FIELD_DESC = new org.apache.thrift.protocol.TField("buildInitial", org.apache.thrift.protocol.TType.BOOL, (short)4);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new startLeaderSelector_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new startLeaderSelector_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new startNodeCache_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new startNodeCache_argsTupleSchemeFactory());
     }
 
     public CuratorProjection projection; // required
     public String path; // required
-    public String participantId; // required
-    public int waitForLeadershipMs; // required
+    public boolean dataIsCompressed; // required
+    public boolean buildInitial; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       PROJECTION((short)1, "projection"),
       PATH((short)2, "path"),
-      PARTICIPANT_ID((short)3, "participantId"),
-      WAIT_FOR_LEADERSHIP_MS((short)4, "waitForLeadershipMs");
+      DATA_IS_COMPRESSED((short)3, "dataIsCompressed"),
+      BUILD_INITIAL((short)4, "buildInitial");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -18643,10 +24777,10 @@ public class CuratorService {
             return PROJECTION;
           case 2: // PATH
             return PATH;
-          case 3: // PARTICIPANT_ID
-            return PARTICIPANT_ID;
-          case 4: // WAIT_FOR_LEADERSHIP_MS
-            return WAIT_FOR_LEADERSHIP_MS;
+          case 3: // DATA_IS_COMPRESSED
+            return DATA_IS_COMPRESSED;
+          case 4: // BUILD_INITIAL
+            return BUILD_INITIAL;
           default:
             return null;
         }
@@ -18687,44 +24821,46 @@ public class CuratorService {
     }
 
     // isset id assignments
-    private static final int __WAITFORLEADERSHIPMS_ISSET_ID = 0;
+    private static final int __DATAISCOMPRESSED_ISSET_ID = 0;
+    private static final int __BUILDINITIAL_ISSET_ID = 1;
     private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.PROJECTION, new org.apache.thrift.meta_data.FieldMetaData("projection", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CuratorProjection.class)));
-      tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.PARTICIPANT_ID, new org.apache.thrift.meta_data.FieldMetaData("participantId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+      tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.WAIT_FOR_LEADERSHIP_MS, new org.apache.thrift.meta_data.FieldMetaData("waitForLeadershipMs", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      tmpMap.put(_Fields.DATA_IS_COMPRESSED, new org.apache.thrift.meta_data.FieldMetaData("dataIsCompressed", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
+      tmpMap.put(_Fields.BUILD_INITIAL, new org.apache.thrift.meta_data.FieldMetaData("buildInitial", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(startLeaderSelector_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(startNodeCache_args.class, metaDataMap);
     }
 
-    public startLeaderSelector_args() {
+    public startNodeCache_args() {
     }
 
-    public startLeaderSelector_args(
+    public startNodeCache_args(
       CuratorProjection projection,
       String path,
-      String participantId,
-      int waitForLeadershipMs)
+      boolean dataIsCompressed,
+      boolean buildInitial)
     {
       this();
       this.projection = projection;
       this.path = path;
-      this.participantId = participantId;
-      this.waitForLeadershipMs = waitForLeadershipMs;
-      setWaitForLeadershipMsIsSet(true);
+      this.dataIsCompressed = dataIsCompressed;
+      setDataIsCompressedIsSet(true);
+      this.buildInitial = buildInitial;
+      setBuildInitialIsSet(true);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public startLeaderSelector_args(startLeaderSelector_args other) {
+    public startNodeCache_args(startNodeCache_args other) {
       __isset_bitfield = other.__isset_bitfield;
       if (other.isSetProjection()) {
         this.projection = new CuratorProjection(other.projection);
@@ -18732,30 +24868,29 @@ public class CuratorService {
       if (other.isSetPath()) {
         this.path = other.path;
       }
-      if (other.isSetParticipantId()) {
-        this.participantId = other.participantId;
-      }
-      this.waitForLeadershipMs = other.waitForLeadershipMs;
+      this.dataIsCompressed = other.dataIsCompressed;
+      this.buildInitial = other.buildInitial;
     }
 
-    public startLeaderSelector_args deepCopy() {
-      return new startLeaderSelector_args(this);
+    public startNodeCache_args deepCopy() {
+      return new startNodeCache_args(this);
     }
 
     @Override
     public void clear() {
       this.projection = null;
       this.path = null;
-      this.participantId = null;
-      setWaitForLeadershipMsIsSet(false);
-      this.waitForLeadershipMs = 0;
+      setDataIsCompressedIsSet(false);
+      this.dataIsCompressed = false;
+      setBuildInitialIsSet(false);
+      this.buildInitial = false;
     }
 
     public CuratorProjection getProjection() {
       return this.projection;
     }
 
-    public startLeaderSelector_args setProjection(CuratorProjection projection) {
+    public startNodeCache_args setProjection(CuratorProjection projection) {
       this.projection = projection;
       return this;
     }
@@ -18779,7 +24914,7 @@ public class CuratorService {
       return this.path;
     }
 
-    public startLeaderSelector_args setPath(String path) {
+    public startNodeCache_args setPath(String path) {
       this.path = path;
       return this;
     }
@@ -18799,51 +24934,50 @@ public class CuratorService {
       }
     }
 
-    public String getParticipantId() {
-      return this.participantId;
+    public boolean isDataIsCompressed() {
+      return this.dataIsCompressed;
     }
 
-    public startLeaderSelector_args setParticipantId(String participantId) {
-      this.participantId = participantId;
+    public startNodeCache_args setDataIsCompressed(boolean dataIsCompressed) {
+      this.dataIsCompressed = dataIsCompressed;
+      setDataIsCompressedIsSet(true);
       return this;
     }
 
-    public void unsetParticipantId() {
-      this.participantId = null;
+    public void unsetDataIsCompressed() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __DATAISCOMPRESSED_ISSET_ID);
     }
 
-    /** Returns true if field participantId is set (has been assigned a value) and false otherwise */
-    public boolean isSetParticipantId() {
-      return this.participantId != null;
+    /** Returns true if field dataIsCompressed is set (has been assigned a value) and false otherwise */
+    public boolean isSetDataIsCompressed() {
+      return EncodingUtils.testBit(__isset_bitfield, __DATAISCOMPRESSED_ISSET_ID);
     }
 
-    public void setParticipantIdIsSet(boolean value) {
-      if (!value) {
-        this.participantId = null;
-      }
+    public void setDataIsCompressedIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __DATAISCOMPRESSED_ISSET_ID, value);
     }
 
-    public int getWaitForLeadershipMs() {
-      return this.waitForLeadershipMs;
+    public boolean isBuildInitial() {
+      return this.buildInitial;
     }
 
-    public startLeaderSelector_args setWaitForLeadershipMs(int waitForLeadershipMs) {
-      this.waitForLeadershipMs = waitForLeadershipMs;
-      setWaitForLeadershipMsIsSet(true);
+    public startNodeCache_args setBuildInitial(boolean buildInitial) {
+      this.buildInitial = buildInitial;
+      setBuildInitialIsSet(true);
       return this;
     }
 
-    public void unsetWaitForLeadershipMs() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __WAITFORLEADERSHIPMS_ISSET_ID);
+    public void unsetBuildInitial() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __BUILDINITIAL_ISSET_ID);
     }
 
-    /** Returns true if field waitForLeadershipMs is set (has been assigned a value) and false otherwise */
-    public boolean isSetWaitForLeadershipMs() {
-      return EncodingUtils.testBit(__isset_bitfield, __WAITFORLEADERSHIPMS_ISSET_ID);
+    /** Returns true if field buildInitial is set (has been assigned a value) and false otherwise */
+    public boolean isSetBuildInitial() {
+      return EncodingUtils.testBit(__isset_bitfield, __BUILDINITIAL_ISSET_ID);
     }
 
-    public void setWaitForLeadershipMsIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __WAITFORLEADERSHIPMS_ISSET_ID, value);
+    public void setBuildInitialIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __BUILDINITIAL_ISSET_ID, value);
     }
 
     public void setFieldValue(_Fields field, Object value) {
@@ -18864,19 +24998,19 @@ public class CuratorService {
         }
         break;
 
-      case PARTICIPANT_ID:
+      case DATA_IS_COMPRESSED:
         if (value == null) {
-          unsetParticipantId();
+          unsetDataIsCompressed();
         } else {
-          setParticipantId((String)value);
+          setDataIsCompressed((Boolean)value);
         }
         break;
 
-      case WAIT_FOR_LEADERSHIP_MS:
+      case BUILD_INITIAL:
         if (value == null) {
-          unsetWaitForLeadershipMs();
+          unsetBuildInitial();
         } else {
-          setWaitForLeadershipMs((Integer)value);
+          setBuildInitial((Boolean)value);
         }
         break;
 
@@ -18891,11 +25025,11 @@ public class CuratorService {
       case PATH:
         return getPath();
 
-      case PARTICIPANT_ID:
-        return getParticipantId();
+      case DATA_IS_COMPRESSED:
+        return Boolean.valueOf(isDataIsCompressed());
 
-      case WAIT_FOR_LEADERSHIP_MS:
-        return Integer.valueOf(getWaitForLeadershipMs());
+      case BUILD_INITIAL:
+        return Boolean.valueOf(isBuildInitial());
 
       }
       throw new IllegalStateException();
@@ -18912,10 +25046,10 @@ public class CuratorService {
         return isSetProjection();
       case PATH:
         return isSetPath();
-      case PARTICIPANT_ID:
-        return isSetParticipantId();
-      case WAIT_FOR_LEADERSHIP_MS:
-        return isSetWaitForLeadershipMs();
+      case DATA_IS_COMPRESSED:
+        return isSetDataIsCompressed();
+      case BUILD_INITIAL:
+        return isSetBuildInitial();
       }
       throw new IllegalStateException();
     }
@@ -18924,12 +25058,12 @@ public class CuratorService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof startLeaderSelector_args)
-        return this.equals((startLeaderSelector_args)that);
+      if (that instanceof startNodeCache_args)
+        return this.equals((startNodeCache_args)that);
       return false;
     }
 
-    public boolean equals(startLeaderSelector_args that) {
+    public boolean equals(startNodeCache_args that) {
       if (that == null)
         return false;
 
@@ -18951,21 +25085,21 @@ public class CuratorService {
           return false;
       }
 
-      boolean this_present_participantId = true && this.isSetParticipantId();
-      boolean that_present_participantId = true && that.isSetParticipantId();
-      if (this_present_participantId || that_present_participantId) {
-        if (!(this_present_participantId && that_present_participantId))
+      boolean this_present_dataIsCompressed = true;
+      boolean that_present_dataIsCompressed = true;
+      if (this_present_dataIsCompressed || that_present_dataIsCompressed) {
+        if (!(this_present_dataIsCompressed && that_present_dataIsCompressed))
           return false;
-        if (!this.participantId.equals(that.participantId))
+        if (this.dataIsCompressed != that.dataIsCompressed)
           return false;
       }
 
-      boolean this_present_waitForLeadershipMs = true;
-      boolean that_present_waitForLeadershipMs = true;
-      if (this_present_waitForLeadershipMs || that_present_waitForLeadershipMs) {
-        if (!(this_present_waitForLeadershipMs && that_present_waitForLeadershipMs))
+      boolean this_present_buildInitial = true;
+      boolean that_present_buildInitial = true;
+      if (this_present_buildInitial || that_present_buildInitial) {
+        if (!(this_present_buildInitial && that_present_buildInitial))
           return false;
-        if (this.waitForLeadershipMs != that.waitForLeadershipMs)
+        if (this.buildInitial != that.buildInitial)
           return false;
       }
 
@@ -18978,7 +25112,7 @@ public class CuratorService {
     }
 
     @Override
-    public int compareTo(startLeaderSelector_args other) {
+    public int compareTo(startNodeCache_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -19005,22 +25139,22 @@ public class CuratorService {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetParticipantId()).compareTo(other.isSetParticipantId());
+      lastComparison = Boolean.valueOf(isSetDataIsCompressed()).compareTo(other.isSetDataIsCompressed());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetParticipantId()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.participantId, other.participantId);
+      if (isSetDataIsCompressed()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.dataIsCompressed, other.dataIsCompressed);
         if (lastComparison != 0) {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetWaitForLeadershipMs()).compareTo(other.isSetWaitForLeadershipMs());
+      lastComparison = Boolean.valueOf(isSetBuildInitial()).compareTo(other.isSetBuildInitial());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetWaitForLeadershipMs()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.waitForLeadershipMs, other.waitForLeadershipMs);
+      if (isSetBuildInitial()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.buildInitial, other.buildInitial);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -19042,7 +25176,7 @@ public class CuratorService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("startLeaderSelector_args(");
+      StringBuilder sb = new StringBuilder("startNodeCache_args(");
       boolean first = true;
 
       sb.append("projection:");
@@ -19061,16 +25195,12 @@ public class CuratorService {
       }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("participantId:");
-      if (this.participantId == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.participantId);
-      }
+      sb.append("dataIsCompressed:");
+      sb.append(this.dataIsCompressed);
       first = false;
       if (!first) sb.append(", ");
-      sb.append("waitForLeadershipMs:");
-      sb.append(this.waitForLeadershipMs);
+      sb.append("buildInitial:");
+      sb.append(this.buildInitial);
       first = false;
       sb.append(")");
       return sb.toString();
@@ -19102,15 +25232,15 @@ public class CuratorService {
       }
     }
 
-    private static class startLeaderSelector_argsStandardSchemeFactory implements SchemeFactory {
-      public startLeaderSelector_argsStandardScheme getScheme() {
-        return new startLeaderSelector_argsStandardScheme();
+    private static class startNodeCache_argsStandardSchemeFactory implements SchemeFactory {
+      public startNodeCache_argsStandardScheme getScheme() {
+        return new startNodeCache_argsStandardScheme();
       }
     }
 
-    private static class startLeaderSelector_argsStandardScheme extends StandardScheme<startLeaderSelector_args> {
+    private static class startNodeCache_argsStandardScheme extends StandardScheme<startNodeCache_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, startLeaderSelector_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, startNodeCache_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -19137,18 +25267,18 @@ public class CuratorService {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 3: // PARTICIPANT_ID
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.participantId = iprot.readString();
-                struct.setParticipantIdIsSet(true);
+            case 3: // DATA_IS_COMPRESSED
+              if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
+                struct.dataIsCompressed = iprot.readBool();
+                struct.setDataIsCompressedIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 4: // WAIT_FOR_LEADERSHIP_MS
-              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
-                struct.waitForLeadershipMs = iprot.readI32();
-                struct.setWaitForLeadershipMsIsSet(true);
+            case 4: // BUILD_INITIAL
+              if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
+                struct.buildInitial = iprot.readBool();
+                struct.setBuildInitialIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -19164,7 +25294,7 @@ public class CuratorService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, startLeaderSelector_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, startNodeCache_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -19178,13 +25308,11 @@ public class CuratorService {
           oprot.writeString(struct.path);
           oprot.writeFieldEnd();
         }
-        if (struct.participantId != null) {
-          oprot.writeFieldBegin(PARTICIPANT_ID_FIELD_DESC);
-          oprot.writeString(struct.participantId);
-          oprot.writeFieldEnd();
-        }
-        oprot.writeFieldBegin(WAIT_FOR_LEADERSHIP_MS_FIELD_DESC);
-        oprot.writeI32(struct.waitForLeadershipMs);
+        oprot.writeFieldBegin(DATA_IS_COMPRESSED_FIELD_DESC);
+        oprot.writeBool(struct.dataIsCompressed);
+        oprot.writeFieldEnd();
+        oprot.writeFieldBegin(BUILD_INITIAL_FIELD_DESC);
+        oprot.writeBool(struct.buildInitial);
         oprot.writeFieldEnd();
         oprot.writeFieldStop();
         oprot.writeStructEnd();
@@ -19192,16 +25320,16 @@ public class CuratorService {
 
     }
 
-    private static class startLeaderSelector_argsTupleSchemeFactory implements SchemeFactory {
-      public startLeaderSelector_argsTupleScheme getScheme() {
-        return new startLeaderSelector_argsTupleScheme();
+    private static class startNodeCache_argsTupleSchemeFactory implements SchemeFactory {
+      public startNodeCache_argsTupleScheme getScheme() {
+        return new startNodeCache_argsTupleScheme();
       }
     }
 
-    private static class startLeaderSelector_argsTupleScheme extends TupleScheme<startLeaderSelector_args> {
+    private static class startNodeCache_argsTupleScheme extends TupleScheme<startNodeCache_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, startLeaderSelector_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, startNodeCache_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetProjection()) {
@@ -19210,10 +25338,10 @@ public class CuratorService {
         if (struct.isSetPath()) {
           optionals.set(1);
         }
-        if (struct.isSetParticipantId()) {
+        if (struct.isSetDataIsCompressed()) {
           optionals.set(2);
         }
-        if (struct.isSetWaitForLeadershipMs()) {
+        if (struct.isSetBuildInitial()) {
           optionals.set(3);
         }
         oprot.writeBitSet(optionals, 4);
@@ -19223,16 +25351,16 @@ public class CuratorService {
         if (struct.isSetPath()) {
           oprot.writeString(struct.path);
         }
-        if (struct.isSetParticipantId()) {
-          oprot.writeString(struct.participantId);
+        if (struct.isSetDataIsCompressed()) {
+          oprot.writeBool(struct.dataIsCompressed);
         }
-        if (struct.isSetWaitForLeadershipMs()) {
-          oprot.writeI32(struct.waitForLeadershipMs);
+        if (struct.isSetBuildInitial()) {
+          oprot.writeBool(struct.buildInitial);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, startLeaderSelector_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, startNodeCache_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(4);
         if (incoming.get(0)) {
@@ -19245,31 +25373,31 @@ public class CuratorService {
           struct.setPathIsSet(true);
         }
         if (incoming.get(2)) {
-          struct.participantId = iprot.readString();
-          struct.setParticipantIdIsSet(true);
+          struct.dataIsCompressed = iprot.readBool();
+          struct.setDataIsCompressedIsSet(true);
         }
         if (incoming.get(3)) {
-          struct.waitForLeadershipMs = iprot.readI32();
-          struct.setWaitForLeadershipMsIsSet(true);
+          struct.buildInitial = iprot.readBool();
+          struct.setBuildInitialIsSet(true);
         }
       }
     }
 
   }
 
-  public static class startLeaderSelector_result implements org.apache.thrift.TBase<startLeaderSelector_result, startLeaderSelector_result._Fields>, java.io.Serializable, Cloneable, Comparable<startLeaderSelector_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("startLeaderSelector_result");
+  public static class startNodeCache_result implements org.apache.thrift.TBase<startNodeCache_result, startNodeCache_result._Fields>, java.io.Serializable, Cloneable, Comparable<startNodeCache_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("startNodeCache_result");
 
     private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
     private static final org.apache.thrift.protocol.TField EX1_FIELD_DESC = new org.apache.thrift.protocol.TField("ex1", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new startLeaderSelector_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new startLeaderSelector_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new startNodeCache_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new startNodeCache_resultTupleSchemeFactory());
     }
 
-    public LeaderResult success; // required
+    public NodeCacheProjection success; // required
     public CuratorException ex1; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
@@ -19338,18 +25466,18 @@ public class CuratorService {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, LeaderResult.class)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, NodeCacheProjection.class)));
       tmpMap.put(_Fields.EX1, new org.apache.thrift.meta_data.FieldMetaData("ex1", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(startLeaderSelector_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(startNodeCache_result.class, metaDataMap);
     }
 
-    public startLeaderSelector_result() {
+    public startNodeCache_result() {
     }
 
-    public startLeaderSelector_result(
-      LeaderResult success,
+    public startNodeCache_result(
+      NodeCacheProjection success,
       CuratorException ex1)
     {
       this();
@@ -19360,17 +25488,17 @@ public class CuratorService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public startLeaderSelector_result(startLeaderSelector_result other) {
+    public startNodeCache_result(startNodeCache_result other) {
       if (other.isSetSuccess()) {
-        this.success = new LeaderResult(other.success);
+        this.success = new NodeCacheProjection(other.success);
       }
       if (other.isSetEx1()) {
         this.ex1 = new CuratorException(other.ex1);
       }
     }
 
-    public startLeaderSelector_result deepCopy() {
-      return new startLeaderSelector_result(this);
+    public startNodeCache_result deepCopy() {
+      return new startNodeCache_result(this);
     }
 
     @Override
@@ -19379,11 +25507,11 @@ public class CuratorService {
       this.ex1 = null;
     }
 
-    public LeaderResult getSuccess() {
+    public NodeCacheProjection getSuccess() {
       return this.success;
     }
 
-    public startLeaderSelector_result setSuccess(LeaderResult success) {
+    public startNodeCache_result setSuccess(NodeCacheProjection success) {
       this.success = success;
       return this;
     }
@@ -19407,7 +25535,7 @@ public class CuratorService {
       return this.ex1;
     }
 
-    public startLeaderSelector_result setEx1(CuratorException ex1) {
+    public startNodeCache_result setEx1(CuratorException ex1) {
       this.ex1 = ex1;
       return this;
     }
@@ -19433,7 +25561,7 @@ public class CuratorService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((LeaderResult)value);
+          setSuccess((NodeCacheProjection)value);
         }
         break;
 
@@ -19479,12 +25607,12 @@ public class CuratorService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof startLeaderSelector_result)
-        return this.equals((startLeaderSelector_result)that);
+      if (that instanceof startNodeCache_result)
+        return this.equals((startNodeCache_result)that);
       return false;
     }
 
-    public boolean equals(startLeaderSelector_result that) {
+    public boolean equals(startNodeCache_result that) {
       if (that == null)
         return false;
 
@@ -19515,7 +25643,7 @@ public class CuratorService {
     }
 
     @Override
-    public int compareTo(startLeaderSelector_result other) {
+    public int compareTo(startNodeCache_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -19559,7 +25687,7 @@ public class CuratorService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("startLeaderSelector_result(");
+      StringBuilder sb = new StringBuilder("startNodeCache_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -19605,15 +25733,15 @@ public class CuratorService {
       }
     }
 
-    private static class startLeaderSelector_resultStandardSchemeFactory implements SchemeFactory {
-      public startLeaderSelector_resultStandardScheme getScheme() {
-        return new startLeaderSelector_resultStandardScheme();
+    private static class startNodeCache_resultStandardSchemeFactory implements SchemeFactory {
+      public startNodeCache_resultStandardScheme getScheme() {
+        return new startNodeCache_resultStandardScheme();
       }
     }
 
-    private static class startLeaderSelector_resultStandardScheme extends StandardScheme<startLeaderSelector_result> {
+    private static class startNodeCache_resultStandardScheme extends StandardScheme<startNodeCache_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, startLeaderSelector_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, startNodeCache_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -19625,7 +25753,7 @@ public class CuratorService {
           switch (schemeField.id) {
             case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.success = new LeaderResult();
+                struct.success = new NodeCacheProjection();
                 struct.success.read(iprot);
                 struct.setSuccessIsSet(true);
               } else { 
@@ -19652,7 +25780,7 @@ public class CuratorService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, startLeaderSelector_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, startNodeCache_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -19672,16 +25800,16 @@ public class CuratorService {
 
     }
 
-    private static class startLeaderSelector_resultTupleSchemeFactory implements SchemeFactory {
-      public startLeaderSelector_resultTupleScheme getScheme() {
-        return new startLeaderSelector_resultTupleScheme();
+    private static class startNodeCache_resultTupleSchemeFactory implements SchemeFactory {
+      public startNodeCache_resultTupleScheme getScheme() {
+        return new startNodeCache_resultTupleScheme();
       }
     }
 
-    private static class startLeaderSelector_resultTupleScheme extends TupleScheme<startLeaderSelector_result> {
+    private static class startNodeCache_resultTupleScheme extends TupleScheme<startNodeCache_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, startLeaderSelector_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, startNodeCache_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -19700,11 +25828,11 @@ public class CuratorService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, startLeaderSelector_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, startNodeCache_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.success = new LeaderResult();
+          struct.success = new NodeCacheProjection();
           struct.success.read(iprot);
           struct.setSuccessIsSet(true);
         }
@@ -19718,31 +25846,42 @@ public class CuratorService {
 
   }
 
-  public static class startNodeCache_args implements org.apache.thrift.TBase<startNodeCache_args, startNodeCache_args._Fields>, java.io.Serializable, Cloneable, Comparable<startNodeCache_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("startNodeCache_args");
+  public static class startPathChildrenCache_args implements org.apache.thrift.TBase<startPathChildrenCache_args, startPathChildrenCache_args._Fields>, java.io.Serializable, Cloneable, Comparable<startPathChildrenCache_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("startPathChildrenCache_args");
 
     private static final org.apache.thrift.protocol.TField PROJECTION_FIELD_DESC = new org.apache.thrift.protocol.TField("projection", org.apache.thrift.protocol.TType.STRUCT, (short)1);
     private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)2);
-    private static final org.apache.thrift.protocol.TField DATA_IS_COMPRESSED_FIELD_DESC = new org.apache.thrift.protocol.TField("dataIsCompressed", org.apache.thrift.protocol.TType.BOOL, (short)3);
-    private static final org.apache.thrift.protocol.TField BUILD_INITIAL_FIELD_DESC = new org.apache.thrift.protocol.TField("buildInitial", org.apache.thrift.protocol.TType.BOOL, (short)4);
+    private static final org.apache.thrift.protocol.TField CACHE_DATA_FIELD_DESC = new org.apache.thrift.protocol.TField("cacheData", org.apache.thrift.protocol.TType.BOOL, (short)3);
+    private static final org.apache.thrift.protocol.TField DATA_IS_COMPRESSED_FIELD_DESC = new org.apache.thrift.protocol.TField("dataIsCompressed", org.apache.thrift.protocol.TType.BOOL, (short)4);
+    private static final org.apache.thrift.protocol.TField START_MODE_FIELD_DESC = new org.apache.thrift.protocol.TField("startMode", org.apache.thrift.protocol.TType.I32, (short)5);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new startNodeCache_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new startNodeCache_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new startPathChildrenCache_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new startPathChildrenCache_argsTupleSchemeFactory());
     }
 
     public CuratorProjection projection; // required
     public String path; // required
+    public boolean cacheData; // required
     public boolean dataIsCompressed; // required
-    public boolean buildInitial; // required
+    /**
+     * 
+     * @see PathChildrenCacheStartMode
+     */
+    public PathChildrenCacheStartMode startMode; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       PROJECTION((short)1, "projection"),
       PATH((short)2, "path"),
-      DATA_IS_COMPRESSED((short)3, "dataIsCompressed"),
-      BUILD_INITIAL((short)4, "buildInitial");
+      CACHE_DATA((short)3, "cacheData"),
+      DATA_IS_COMPRESSED((short)4, "dataIsCompressed"),
+      /**
+       * 
+       * @see PathChildrenCacheStartMode
+       */
+      START_MODE((short)5, "startMode");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -19761,10 +25900,12 @@ public class CuratorService {
             return PROJECTION;
           case 2: // PATH
             return PATH;
-          case 3: // DATA_IS_COMPRESSED
+          case 3: // CACHE_DATA
+            return CACHE_DATA;
+          case 4: // DATA_IS_COMPRESSED
             return DATA_IS_COMPRESSED;
-          case 4: // BUILD_INITIAL
-            return BUILD_INITIAL;
+          case 5: // START_MODE
+            return START_MODE;
           default:
             return null;
         }
@@ -19805,8 +25946,8 @@ public class CuratorService {
     }
 
     // isset id assignments
-    private static final int __DATAISCOMPRESSED_ISSET_ID = 0;
-    private static final int __BUILDINITIAL_ISSET_ID = 1;
+    private static final int __CACHEDATA_ISSET_ID = 0;
+    private static final int __DATAISCOMPRESSED_ISSET_ID = 1;
     private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
@@ -19815,36 +25956,40 @@ public class CuratorService {
           new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CuratorProjection.class)));
       tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.DATA_IS_COMPRESSED, new org.apache.thrift.meta_data.FieldMetaData("dataIsCompressed", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+      tmpMap.put(_Fields.CACHE_DATA, new org.apache.thrift.meta_data.FieldMetaData("cacheData", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
-      tmpMap.put(_Fields.BUILD_INITIAL, new org.apache.thrift.meta_data.FieldMetaData("buildInitial", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+      tmpMap.put(_Fields.DATA_IS_COMPRESSED, new org.apache.thrift.meta_data.FieldMetaData("dataIsCompressed", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
+      tmpMap.put(_Fields.START_MODE, new org.apache.thrift.meta_data.FieldMetaData("startMode", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.EnumMetaData(org.apache.thrift.protocol.TType.ENUM, PathChildrenCacheStartMode.class)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(startNodeCache_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(startPathChildrenCache_args.class, metaDataMap);
     }
 
-    public startNodeCache_args() {
+    public startPathChildrenCache_args() {
     }
 
-    public startNodeCache_args(
+    public startPathChildrenCache_args(
       CuratorProjection projection,
       String path,
+      boolean cacheData,
       boolean dataIsCompressed,
-      boolean buildInitial)
+      PathChildrenCacheStartMode startMode)
     {
       this();
       this.projection = projection;
       this.path = path;
+      this.cacheData = cacheData;
+      setCacheDataIsSet(true);
       this.dataIsCompressed = dataIsCompressed;
       setDataIsCompressedIsSet(true);
-      this.buildInitial = buildInitial;
-      setBuildInitialIsSet(true);
+      this.startMode = startMode;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public startNodeCache_args(startNodeCache_args other) {
+    public startPathChildrenCache_args(startPathChildrenCache_args other) {
       __isset_bitfield = other.__isset_bitfield;
       if (other.isSetProjection()) {
         this.projection = new CuratorProjection(other.projection);
@@ -19852,29 +25997,33 @@ public class CuratorService {
       if (other.isSetPath()) {
         this.path = other.path;
       }
+      this.cacheData = other.cacheData;
       this.dataIsCompressed = other.dataIsCompressed;
-      this.buildInitial = other.buildInitial;
+      if (other.isSetStartMode()) {
+        this.startMode = other.startMode;
+      }
     }
 
-    public startNodeCache_args deepCopy() {
-      return new startNodeCache_args(this);
+    public startPathChildrenCache_args deepCopy() {
+      return new startPathChildrenCache_args(this);
     }
 
     @Override
     public void clear() {
       this.projection = null;
       this.path = null;
+      setCacheDataIsSet(false);
+      this.cacheData = false;
       setDataIsCompressedIsSet(false);
       this.dataIsCompressed = false;
-      setBuildInitialIsSet(false);
-      this.buildInitial = false;
+      this.startMode = null;
     }
 
     public CuratorProjection getProjection() {
       return this.projection;
     }
 
-    public startNodeCache_args setProjection(CuratorProjection projection) {
+    public startPathChildrenCache_args setProjection(CuratorProjection projection) {
       this.projection = projection;
       return this;
     }
@@ -19898,7 +26047,7 @@ public class CuratorService {
       return this.path;
     }
 
-    public startNodeCache_args setPath(String path) {
+    public startPathChildrenCache_args setPath(String path) {
       this.path = path;
       return this;
     }
@@ -19918,11 +26067,34 @@ public class CuratorService {
       }
     }
 
+    public boolean isCacheData() {
+      return this.cacheData;
+    }
+
+    public startPathChildrenCache_args setCacheData(boolean cacheData) {
+      this.cacheData = cacheData;
+      setCacheDataIsSet(true);
+      return this;
+    }
+
+    public void unsetCacheData() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __CACHEDATA_ISSET_ID);
+    }
+
+    /** Returns true if field cacheData is set (has been assigned a value) and false otherwise */
+    public boolean isSetCacheData() {
+      return EncodingUtils.testBit(__isset_bitfield, __CACHEDATA_ISSET_ID);
+    }
+
+    public void setCacheDataIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __CACHEDATA_ISSET_ID, value);
+    }
+
     public boolean isDataIsCompressed() {
       return this.dataIsCompressed;
     }
 
-    public startNodeCache_args setDataIsCompressed(boolean dataIsCompressed) {
+    public startPathChildrenCache_args setDataIsCompressed(boolean dataIsCompressed) {
       this.dataIsCompressed = dataIsCompressed;
       setDataIsCompressedIsSet(true);
       return this;
@@ -19941,27 +26113,36 @@ public class CuratorService {
       __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __DATAISCOMPRESSED_ISSET_ID, value);
     }
 
-    public boolean isBuildInitial() {
-      return this.buildInitial;
+    /**
+     * 
+     * @see PathChildrenCacheStartMode
+     */
+    public PathChildrenCacheStartMode getStartMode() {
+      return this.startMode;
     }
 
-    public startNodeCache_args setBuildInitial(boolean buildInitial) {
-      this.buildInitial = buildInitial;
-      setBuildInitialIsSet(true);
+    /**
+     * 
+     * @see PathChildrenCacheStartMode
+     */
+    public startPathChildrenCache_args setStartMode(PathChildrenCacheStartMode startMode) {
+      this.startMode = startMode;
       return this;
     }
 
-    public void unsetBuildInitial() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __BUILDINITIAL_ISSET_ID);
+    public void unsetStartMode() {
+      this.startMode = null;
     }
 
-    /** Returns true if field buildInitial is set (has been assigned a value) and false otherwise */
-    public boolean isSetBuildInitial() {
-      return EncodingUtils.testBit(__isset_bitfield, __BUILDINITIAL_ISSET_ID);
+    /** Returns true if field startMode is set (has been assigned a value) and false otherwise */
+    public boolean isSetStartMode() {
+      return this.startMode != null;
     }
 
-    public void setBuildInitialIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __BUILDINITIAL_ISSET_ID, value);
+    public void setStartModeIsSet(boolean value) {
+      if (!value) {
+        this.startMode = null;
+      }
     }
 
     public void setFieldValue(_Fields field, Object value) {
@@ -19982,6 +26163,14 @@ public class CuratorService {
         }
         break;
 
+      case CACHE_DATA:
+        if (value == null) {
+          unsetCacheData();
+        } else {
+          setCacheData((Boolean)value);
+        }
+        break;
+
       case DATA_IS_COMPRESSED:
         if (value == null) {
           unsetDataIsCompressed();
@@ -19990,11 +26179,11 @@ public class CuratorService {
         }
         break;
 
-      case BUILD_INITIAL:
+      case START_MODE:
         if (value == null) {
-          unsetBuildInitial();
+          unsetStartMode();
         } else {
-          setBuildInitial((Boolean)value);
+          setStartMode((PathChildrenCacheStartMode)value);
         }
         break;
 
@@ -20009,11 +26198,14 @@ public class CuratorService {
       case PATH:
         return getPath();
 
+      case CACHE_DATA:
+        return Boolean.valueOf(isCacheData());
+
       case DATA_IS_COMPRESSED:
         return Boolean.valueOf(isDataIsCompressed());
 
-      case BUILD_INITIAL:
-        return Boolean.valueOf(isBuildInitial());
+      case START_MODE:
+        return getStartMode();
 
       }
       throw new IllegalStateException();
@@ -20030,10 +26222,12 @@ public class CuratorService {
         return isSetProjection();
       case PATH:
         return isSetPath();
+      case CACHE_DATA:
+        return isSetCacheData();
       case DATA_IS_COMPRESSED:
         return isSetDataIsCompressed();
-      case BUILD_INITIAL:
-        return isSetBuildInitial();
+      case START_MODE:
+        return isSetStartMode();
       }
       throw new IllegalStateException();
     }
@@ -20042,12 +26236,12 @@ public class CuratorService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof startNodeCache_args)
-        return this.equals((startNodeCache_args)that);
+      if (that instanceof startPathChildrenCache_args)
+        return this.equals((startPathChildrenCache_args)that);
       return false;
     }
 
-    public boolean equals(startNodeCache_args that) {
+    public boolean equals(startPathChildrenCache_args that) {
       if (that == null)
         return false;
 
@@ -20069,6 +26263,15 @@ public class CuratorService {
           return false;
       }
 
+      boolean this_present_cacheData = true;
+      boolean that_present_cacheData = true;
+      if (this_present_cacheData || that_present_cacheData) {
+        if (!(this_present_cacheData && that_present_cacheData))
+          return false;
+        if (this.cacheData != that.cacheData)
+          return false;
+      }
+
       boolean this_present_dataIsCompressed = true;
       boolean that_present_dataIsCompressed = true;
       if (this_present_dataIsCompressed || that_present_dataIsCompressed) {
@@ -20076,14 +26279,14 @@ public class CuratorService {
           return false;
         if (this.dataIsCompressed != that.dataIsCompressed)
           return false;
-      }
-
-      boolean this_present_buildInitial = true;
-      boolean that_present_buildInitial = true;
-      if (this_present_buildInitial || that_present_buildInitial) {
-        if (!(this_present_buildInitial && that_present_buildInitial))
-          return false;
-        if (this.buildInitial != that.buildInitial)
+      }
+
+      boolean this_present_startMode = true && this.isSetStartMode();
+      boolean that_present_startMode = true && that.isSetStartMode();
+      if (this_present_startMode || that_present_startMode) {
+        if (!(this_present_startMode && that_present_startMode))
+          return false;
+        if (!this.startMode.equals(that.startMode))
           return false;
       }
 
@@ -20096,7 +26299,7 @@ public class CuratorService {
     }
 
     @Override
-    public int compareTo(startNodeCache_args other) {
+    public int compareTo(startPathChildrenCache_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -20123,6 +26326,16 @@ public class CuratorService {
           return lastComparison;
         }
       }
+      lastComparison = Boolean.valueOf(isSetCacheData()).compareTo(other.isSetCacheData());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetCacheData()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.cacheData, other.cacheData);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       lastComparison = Boolean.valueOf(isSetDataIsCompressed()).compareTo(other.isSetDataIsCompressed());
       if (lastComparison != 0) {
         return lastComparison;
@@ -20133,12 +26346,12 @@ public class CuratorService {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetBuildInitial()).compareTo(other.isSetBuildInitial());
+      lastComparison = Boolean.valueOf(isSetStartMode()).compareTo(other.isSetStartMode());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetBuildInitial()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.buildInitial, other.buildInitial);
+      if (isSetStartMode()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.startMode, other.startMode);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -20160,7 +26373,7 @@ public class CuratorService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("startNodeCache_args(");
+      StringBuilder sb = new StringBuilder("startPathChildrenCache_args(");
       boolean first = true;
 
       sb.append("projection:");
@@ -20179,12 +26392,20 @@ public class CuratorService {
       }
       first = false;
       if (!first) sb.append(", ");
+      sb.append("cacheData:");
+      sb.append(this.cacheData);
+      first = false;
+      if (!first) sb.append(", ");
       sb.append("dataIsCompressed:");
       sb.append(this.dataIsCompressed);
       first = false;
       if (!first) sb.append(", ");
-      sb.append("buildInitial:");
-      sb.append(this.buildInitial);
+      sb.append("startMode:");
+      if (this.startMode == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.startMode);
+      }
       first = false;
       sb.append(")");
       return sb.toString();
@@ -20216,15 +26437,15 @@ public class CuratorService {
       }
     }
 
-    private static class startNodeCache_argsStandardSchemeFactory implements SchemeFactory {
-      public startNodeCache_argsStandardScheme getScheme() {
-        return new startNodeCache_argsStandardScheme();
+    private static class startPathChildrenCache_argsStandardSchemeFactory implements SchemeFactory {
+      public startPathChildrenCache_argsStandardScheme getScheme() {
+        return new startPathChildrenCache_argsStandardScheme();
       }
     }
 
-    private static class startNodeCache_argsStandardScheme extends StandardScheme<startNodeCache_args> {
+    private static class startPathChildrenCache_argsStandardScheme extends StandardScheme<startPathChildrenCache_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, startNodeCache_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, startPathChildrenCache_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -20251,7 +26472,15 @@ public class CuratorService {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 3: // DATA_IS_COMPRESSED
+            case 3: // CACHE_DATA
+              if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
+                struct.cacheData = iprot.readBool();
+                struct.setCacheDataIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 4: // DATA_IS_COMPRESSED
               if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
                 struct.dataIsCompressed = iprot.readBool();
                 struct.setDataIsCompressedIsSet(true);
@@ -20259,10 +26488,10 @@ public class CuratorService {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 4: // BUILD_INITIAL
-              if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
-                struct.buildInitial = iprot.readBool();
-                struct.setBuildInitialIsSet(true);
+            case 5: // START_MODE
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.startMode = PathChildrenCacheStartMode.findByValue(iprot.readI32());
+                struct.setStartModeIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -20278,7 +26507,7 @@ public class CuratorService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, startNodeCache_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, startPathChildrenCache_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -20292,28 +26521,33 @@ public class CuratorService {
           oprot.writeString(struct.path);
           oprot.writeFieldEnd();
         }
+        oprot.writeFieldBegin(CACHE_DATA_FIELD_DESC);
+        oprot.writeBool(struct.cacheData);
+        oprot.writeFieldEnd();
         oprot.writeFieldBegin(DATA_IS_COMPRESSED_FIELD_DESC);
         oprot.writeBool(struct.dataIsCompressed);
         oprot.writeFieldEnd();
-        oprot.writeFieldBegin(BUILD_INITIAL_FIELD_DESC);
-        oprot.writeBool(struct.buildInitial);
-        oprot.writeFieldEnd();
+        if (struct.startMode != null) {
+          oprot.writeFieldBegin(START_MODE_FIELD_DESC);
+          oprot.writeI32(struct.startMode.getValue());
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class startNodeCache_argsTupleSchemeFactory implements SchemeFactory {
-      public startNodeCache_argsTupleScheme getScheme() {
-        return new startNodeCache_argsTupleScheme();
+    private static class startPathChildrenCache_argsTupleSchemeFactory implements SchemeFactory {
+      public startPathChildrenCache_argsTupleScheme getScheme() {
+        return new startPathChildrenCache_argsTupleScheme();
       }
     }
 
-    private static class startNodeCache_argsTupleScheme extends TupleScheme<startNodeCache_args> {
+    private static class startPathChildrenCache_argsTupleScheme extends TupleScheme<startPathChildrenCache_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, startNodeCache_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, startPathChildrenCache_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetProjection()) {
@@ -20322,31 +26556,37 @@ public class CuratorService {
         if (struct.isSetPath()) {
           optionals.set(1);
         }
-        if (struct.isSetDataIsCompressed()) {
+        if (struct.isSetCacheData()) {
           optionals.set(2);
         }
-        if (struct.isSetBuildInitial()) {
+        if (struct.isSetDataIsCompressed()) {
           optionals.set(3);
         }
-        oprot.writeBitSet(optionals, 4);
+        if (struct.isSetStartMode()) {
+          optionals.set(4);
+        }
+        oprot.writeBitSet(optionals, 5);
         if (struct.isSetProjection()) {
           struct.projection.write(oprot);
         }
         if (struct.isSetPath()) {
           oprot.writeString(struct.path);
         }
+        if (struct.isSetCacheData()) {
+          oprot.writeBool(struct.cacheData);
+        }
         if (struct.isSetDataIsCompressed()) {
           oprot.writeBool(struct.dataIsCompressed);
         }
-        if (struct.isSetBuildInitial()) {
-          oprot.writeBool(struct.buildInitial);
+        if (struct.isSetStartMode()) {
+          oprot.writeI32(struct.startMode.getValue());
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, startNodeCache_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, startPathChildrenCache_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(4);
+        BitSet incoming = iprot.readBitSet(5);
         if (incoming.get(0)) {
           struct.projection = new CuratorProjection();
           struct.projection.read(iprot);
@@ -20357,31 +26597,35 @@ public class CuratorService {
           struct.setPathIsSet(true);
         }
         if (incoming.get(2)) {
+          struct.cacheData = iprot.readBool();
+          struct.setCacheDataIsSet(true);
+        }
+        if (incoming.get(3)) {
           struct.dataIsCompressed = iprot.readBool();
           struct.setDataIsCompressedIsSet(true);
         }
-        if (incoming.get(3)) {
-          struct.buildInitial = iprot.readBool();
-          struct.setBuildInitialIsSet(true);
+        if (incoming.get(4)) {
+          struct.startMode = PathChildrenCacheStartMode.findByValue(iprot.readI32());
+          struct.setStartModeIsSet(true);
         }
       }
     }
 
   }
 
-  public static class startNodeCache_result implements org.apache.thrift.TBase<startNodeCache_result, startNodeCache_result._Fields>, java.io.Serializable, Cloneable, Comparable<startNodeCache_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("startNodeCache_result");
+  public static class startPathChildrenCache_result implements org.apache.thrift.TBase<startPathChildrenCache_result, startPathChildrenCache_result._Fields>, java.io.Serializable, Cloneable, Comparable<startPathChildrenCache_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("startPathChildrenCache_result");
 
     private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
     private static final org.apache.thrift.protocol.TField EX1_FIELD_DESC = new org.apache.thrift.protocol.TField("ex1", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new startNodeCache_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new startNodeCache_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new startPathChildrenCache_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new startPathChildrenCache_resultTupleSchemeFactory());
     }
 
-    public NodeCacheProjection success; // required
+    public PathChildrenCacheProjection success; // required
     public CuratorException ex1; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
@@ -20450,18 +26694,18 @@ public class CuratorService {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, NodeCacheProjection.class)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, PathChildrenCacheProjection.class)));
       tmpMap.put(_Fields.EX1, new org.apache.thrift.meta_data.FieldMetaData("ex1", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(startNodeCache_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(startPathChildrenCache_result.class, metaDataMap);
     }
 
-    public startNodeCache_result() {
+    public startPathChildrenCache_result() {
     }
 
-    public startNodeCache_result(
-      NodeCacheProjection success,
+    public startPathChildrenCache_result(
+      PathChildrenCacheProjection success,
       CuratorException ex1)
     {
       this();
@@ -20472,17 +26716,17 @@ public class CuratorService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public startNodeCache_result(startNodeCache_result other) {
+    public startPathChildrenCache_result(startPathChildrenCache_result other) {
       if (other.isSetSuccess()) {
-        this.success = new NodeCacheProjection(other.success);
+        this.success = new PathChildrenCacheProjection(other.success);
       }
       if (other.isSetEx1()) {
         this.ex1 = new CuratorException(other.ex1);
       }
     }
 
-    public startNodeCache_result deepCopy() {
-      return new startNodeCache_result(this);
+    public startPathChildrenCache_result deepCopy() {
+      return new startPathChildrenCache_result(this);
     }
 
     @Override
@@ -20491,11 +26735,11 @@ public class CuratorService {
       this.ex1 = null;
     }
 
-    public NodeCacheProjection getSuccess() {
+    public PathChildrenCacheProjection getSuccess() {
       return this.success;
     }
 
-    public startNodeCache_result setSuccess(NodeCacheProjection success) {
+    public startPathChildrenCache_result setSuccess(PathChildrenCacheProjection success) {
       this.success = success;
       return this;
     }
@@ -20519,7 +26763,7 @@ public class CuratorService {
       return this.ex1;
     }
 
-    public startNodeCache_result setEx1(CuratorException ex1) {
+    public startPathChildrenCache_result setEx1(CuratorException ex1) {
       this.ex1 = ex1;
       return this;
     }
@@ -20545,7 +26789,7 @@ public class CuratorService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((NodeCacheProjection)value);
+          setSuccess((PathChildrenCacheProjection)value);
         }
         break;
 
@@ -20591,12 +26835,12 @@ public class CuratorService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof startNodeCache_result)
-        return this.equals((startNodeCache_result)that);
+      if (that instanceof startPathChildrenCache_result)
+        return this.equals((startPathChildrenCache_result)that);
       return false;
     }
 
-    public boolean equals(startNodeCache_result that) {
+    public boolean equals(startPathChildrenCache_result that) {
       if (that == null)
         return false;
 
@@ -20627,7 +26871,7 @@ public class CuratorService {
     }
 
     @Override
-    public int compareTo(startNodeCache_result other) {
+    public int compareTo(startPathChildrenCache_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -20671,7 +26915,7 @@ public class CuratorService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("startNodeCache_result(");
+      StringBuilder sb = new StringBuilder("startPathChildrenCache_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -20717,15 +26961,15 @@ public class CuratorService {
       }
     }
 
-    private static class startNodeCache_resultStandardSchemeFactory implements SchemeFactory {
-      public startNodeCache_resultStandardScheme getScheme() {
-        return new startNodeCache_resultStandardScheme();
+    private static class startPathChildrenCache_resultStandardSchemeFactory implements SchemeFactory {
+      public startPathChildrenCache_resultStandardScheme getScheme() {
+        return new startPathChildrenCache_resultStandardScheme();
       }
     }
 
-    private static class startNodeCache_resultStandardScheme extends StandardScheme<startNodeCache_result> {
+    private static class startPathChildrenCache_resultStandardScheme extends StandardScheme<startPathChildrenCache_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, startNodeCache_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, startPathChildrenCache_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -20737,7 +26981,7 @@ public class CuratorService {
           switch (schemeField.id) {
             case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.success = new NodeCacheProjection();
+                struct.success = new PathChildrenCacheProjection();
                 struct.success.read(iprot);
                 struct.setSuccessIsSet(true);
               } else { 
@@ -20764,7 +27008,7 @@ public class CuratorService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, startNodeCache_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, startPathChildrenCache_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -20784,16 +27028,16 @@ public class CuratorService {
 
     }
 
-    private static class startNodeCache_resultTupleSchemeFactory implements SchemeFactory {
-      public startNodeCache_resultTupleScheme getScheme() {
-        return new startNodeCache_resultTupleScheme();
+    private static class startPathChildrenCache_resultTupleSchemeFactory implements SchemeFactory {
+      public startPathChildrenCache_resultTupleScheme getScheme() {
+        return new startPathChildrenCache_resultTupleScheme();
       }
     }
 
-    private static class startNodeCache_resultTupleScheme extends TupleScheme<startNodeCache_result> {
+    private static class startPathChildrenCache_resultTupleScheme extends TupleScheme<startPathChildrenCache_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, startNodeCache_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, startPathChildrenCache_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -20812,11 +27056,11 @@ public class CuratorService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, startNodeCache_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, startPathChildrenCache_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.success = new NodeCacheProjection();
+          struct.success = new PathChildrenCacheProjection();
           struct.success.read(iprot);
           struct.setSuccessIsSet(true);
         }
@@ -20830,42 +27074,39 @@ public class CuratorService {
 
   }
 
-  public static class startPathChildrenCache_args implements org.apache.thrift.TBase<startPathChildrenCache_args, startPathChildrenCache_args._Fields>, java.io.Serializable, Cloneable, Comparable<startPathChildrenCache_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("startPathChildrenCache_args");
+  public static class startPersistentEphemeralNode_args implements org.apache.thrift.TBase<startPersistentEphemeralNode_args, startPersistentEphemeralNode_args._Fields>, java.io.Serializable, Cloneable, Comparable<startPersistentEphemeralNode_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("startPersistentEphemeralNode_args");
 
     private static final org.apache.thrift.protocol.TField PROJECTION_FIELD_DESC = new org.apache.thrift.protocol.TField("projection", org.apache.thrift.protocol.TType.STRUCT, (short)1);
     private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)2);
-    private static final org.apache.thrift.protocol.TField CACHE_DATA_FIELD_DESC = new org.apache.thrift.protocol.TField("cacheData", org.apache.thrift.protocol.TType.BOOL, (short)3);
-    private static final org.apache.thrift.protocol.TField DATA_IS_COMPRESSED_FIELD_DESC = new org.apache.thrift.protocol.TField("dataIsCompressed", org.apache.thrift.protocol.TType.BOOL, (short)4);
-    private static final org.apache.thrift.protocol.TField START_MODE_FIELD_DESC = new org.apache.thrift.protocol.TField("startMode", org.apache.thrift.protocol.TType.I32, (short)5);
+    private static final org.apache.thrift.protocol.TField DATA_FIELD_DESC = new org.apache.thrift.protocol.TField("data", org.apache.thrift.protocol.TType.STRING, (short)3);
+    private static final org.apache.thrift.protocol.TField MODE_FIELD_DESC = new org.apache.thrift.protocol.TField("mode", org.apache.thrift.protocol.TType.I32, (short)4);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new startPathChildrenCache_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new startPathChildrenCache_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new startPersistentEphemeralNode_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new startPersistentEphemeralNode_argsTupleSchemeFactory());
     }
 
     public CuratorProjection projection; // required
     public String path; // required
-    public boolean cacheData; // required
-    public boolean dataIsCompressed; // required
+    public ByteBuffer data; // required
     /**
      * 
-     * @see PathChildrenCacheStartMode
+     * @see PersistentEphemeralNodeMode
      */
-    public PathChildrenCacheStartMode startMode; // required
+    public PersistentEphemeralNodeMode mode; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       PROJECTION((short)1, "projection"),
       PATH((short)2, "path"),
-      CACHE_DATA((short)3, "cacheData"),
-      DATA_IS_COMPRESSED((short)4, "dataIsCompressed"),
+      DATA((short)3, "data"),
       /**
        * 
-       * @see PathChildrenCacheStartMode
+       * @see PersistentEphemeralNodeMode
        */
-      START_MODE((short)5, "startMode");
+      MODE((short)4, "mode");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -20884,12 +27125,10 @@ public class CuratorService {
             return PROJECTION;
           case 2: // PATH
             return PATH;
-          case 3: // CACHE_DATA
-            return CACHE_DATA;
-          case 4: // DATA_IS_COMPRESSED
-            return DATA_IS_COMPRESSED;
-          case 5: // START_MODE
-            return START_MODE;
+          case 3: // DATA
+            return DATA;
+          case 4: // MODE
+            return MODE;
           default:
             return null;
         }
@@ -20930,9 +27169,6 @@ public class CuratorService {
     }
 
     // isset id assignments
-    private static final int __CACHEDATA_ISSET_ID = 0;
-    private static final int __DATAISCOMPRESSED_ISSET_ID = 1;
-    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
@@ -20940,74 +27176,66 @@ public class CuratorService {
           new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CuratorProjection.class)));
       tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.CACHE_DATA, new org.apache.thrift.meta_data.FieldMetaData("cacheData", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
-      tmpMap.put(_Fields.DATA_IS_COMPRESSED, new org.apache.thrift.meta_data.FieldMetaData("dataIsCompressed", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
-      tmpMap.put(_Fields.START_MODE, new org.apache.thrift.meta_data.FieldMetaData("startMode", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.EnumMetaData(org.apache.thrift.protocol.TType.ENUM, PathChildrenCacheStartMode.class)));
+      tmpMap.put(_Fields.DATA, new org.apache.thrift.meta_data.FieldMetaData("data", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING          , true)));
+      tmpMap.put(_Fields.MODE, new org.apache.thrift.meta_data.FieldMetaData("mode", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.EnumMetaData(org.apache.thrift.protocol.TType.ENUM, PersistentEphemeralNodeMode.class)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(startPathChildrenCache_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(startPersistentEphemeralNode_args.class, metaDataMap);
     }
 
-    public startPathChildrenCache_args() {
+    public startPersistentEphemeralNode_args() {
     }
 
-    public startPathChildrenCache_args(
+    public startPersistentEphemeralNode_args(
       CuratorProjection projection,
       String path,
-      boolean cacheData,
-      boolean dataIsCompressed,
-      PathChildrenCacheStartMode startMode)
+      ByteBuffer data,
+      PersistentEphemeralNodeMode mode)
     {
       this();
       this.projection = projection;
       this.path = path;
-      this.cacheData = cacheData;
-      setCacheDataIsSet(true);
-      this.dataIsCompressed = dataIsCompressed;
-      setDataIsCompressedIsSet(true);
-      this.startMode = startMode;
+      this.data = data;
+      this.mode = mode;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public startPathChildrenCache_args(startPathChildrenCache_args other) {
-      __isset_bitfield = other.__isset_bitfield;
+    public startPersistentEphemeralNode_args(startPersistentEphemeralNode_args other) {
       if (other.isSetProjection()) {
         this.projection = new CuratorProjection(other.projection);
       }
       if (other.isSetPath()) {
         this.path = other.path;
       }
-      this.cacheData = other.cacheData;
-      this.dataIsCompressed = other.dataIsCompressed;
-      if (other.isSetStartMode()) {
-        this.startMode = other.startMode;
+      if (other.isSetData()) {
+        this.data = org.apache.thrift.TBaseHelper.copyBinary(other.data);
+;
+      }
+      if (other.isSetMode()) {
+        this.mode = other.mode;
       }
     }
 
-    public startPathChildrenCache_args deepCopy() {
-      return new startPathChildrenCache_args(this);
+    public startPersistentEphemeralNode_args deepCopy() {
+      return new startPersistentEphemeralNode_args(this);
     }
 
     @Override
     public void clear() {
       this.projection = null;
       this.path = null;
-      setCacheDataIsSet(false);
-      this.cacheData = false;
-      setDataIsCompressedIsSet(false);
-      this.dataIsCompressed = false;
-      this.startMode = null;
+      this.data = null;
+      this.mode = null;
     }
 
     public CuratorProjection getProjection() {
       return this.projection;
     }
 
-    public startPathChildrenCache_args setProjection(CuratorProjection projection) {
+    public startPersistentEphemeralNode_args setProjection(CuratorProjection projection) {
       this.projection = projection;
       return this;
     }
@@ -21031,7 +27259,7 @@ public class CuratorService {
       return this.path;
     }
 
-    public startPathChildrenCache_args setPath(String path) {
+    public startPersistentEphemeralNode_args setPath(String path) {
       this.path = path;
       return this;
     }
@@ -21051,81 +27279,69 @@ public class CuratorService {
       }
     }
 
-    public boolean isCacheData() {
-      return this.cacheData;
-    }
-
-    public startPathChildrenCache_args setCacheData(boolean cacheData) {
-      this.cacheData = cacheData;
-      setCacheDataIsSet(true);
-      return this;
-    }
-
-    public void unsetCacheData() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __CACHEDATA_ISSET_ID);
-    }
-
-    /** Returns true if field cacheData is set (has been assigned a value) and false otherwise */
-    public boolean isSetCacheData() {
-      return EncodingUtils.testBit(__isset_bitfield, __CACHEDATA_ISSET_ID);
+    public byte[] getData() {
+      setData(org.apache.thrift.TBaseHelper.rightSize(data));
+      return data == null ? null : data.array();
     }
 
-    public void setCacheDataIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __CACHEDATA_ISSET_ID, value);
+    public ByteBuffer bufferForData() {
+      return data;
     }
 
-    public boolean isDataIsCompressed() {
-      return this.dataIsCompressed;
+    public startPersistentEphemeralNode_args setData(byte[] data) {
+      setData(data == null ? (ByteBuffer)null : ByteBuffer.wrap(data));
+      return this;
     }
 
-    public startPathChildrenCache_args setDataIsCompressed(boolean dataIsCompressed) {
-      this.dataIsCompressed = dataIsCompressed;
-      setDataIsCompressedIsSet(true);
+    public startPersistentEphemeralNode_args setData(ByteBuffer data) {
+      this.data = data;
       return this;
     }
 
-    public void unsetDataIsCompressed() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __DATAISCOMPRESSED_ISSET_ID);
+    public void unsetData() {
+      this.data = null;
     }
 
-    /** Returns true if field dataIsCompressed is set (has been assigned a value) and false otherwise */
-    public boolean isSetDataIsCompressed() {
-      return EncodingUtils.testBit(__isset_bitfield, __DATAISCOMPRESSED_ISSET_ID);
+    /** Returns true if field data is set (has been assigned a value) and false otherwise */
+    public boolean isSetData() {
+      return this.data != null;
     }
 
-    public void setDataIsCompressedIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __DATAISCOMPRESSED_ISSET_ID, value);
+    public void setDataIsSet(boolean value) {
+      if (!value) {
+        this.data = null;
+      }
     }
 
     /**
      * 
-     * @see PathChildrenCacheStartMode
+     * @see PersistentEphemeralNodeMode
      */
-    public PathChildrenCacheStartMode getStartMode() {
-      return this.startMode;
+    public PersistentEphemeralNodeMode getMode() {
+      return this.mode;
     }
 
     /**
      * 
-     * @see PathChildrenCacheStartMode
+     * @see PersistentEphemeralNodeMode
      */
-    public startPathChildrenCache_args setStartMode(PathChildrenCacheStartMode startMode) {
-      this.startMode = startMode;
+    public startPersistentEphemeralNode_args setMode(PersistentEphemeralNodeMode mode) {
+      this.mode = mode;
       return this;
     }
 
-    public void unsetStartMode() {
-      this.startMode = null;
+    public void unsetMode() {
+      this.mode = null;
     }
 
-    /** Returns true if field startMode is set (has been assigned a value) and false otherwise */
-    public boolean isSetStartMode() {
-      return this.startMode != null;
+    /** Returns true if field mode is set (has been assigned a value) and false otherwise */
+    public boolean isSetMode() {
+      return this.mode != null;
     }
 
-    public void setStartModeIsSet(boolean value) {
+    public void setModeIsSet(boolean value) {
       if (!value) {
-        this.startMode = null;
+        this.mode = null;
       }
     }
 
@@ -21147,27 +27363,19 @@ public class CuratorService {
         }
         break;
 
-      case CACHE_DATA:
-        if (value == null) {
-          unsetCacheData();
-        } else {
-          setCacheData((Boolean)value);
-        }
-        break;
-
-      case DATA_IS_COMPRESSED:
+      case DATA:
         if (value == null) {
-          unsetDataIsCompressed();
+          unsetData();
         } else {
-          setDataIsCompressed((Boolean)value);
+          setData((ByteBuffer)value);
         }
         break;
 
-      case START_MODE:
+      case MODE:
         if (value == null) {
-          unsetStartMode();
+          unsetMode();
         } else {
-          setStartMode((PathChildrenCacheStartMode)value);
+          setMode((PersistentEphemeralNodeMode)value);
         }
         break;
 
@@ -21182,14 +27390,11 @@ public class CuratorService {
       case PATH:
         return getPath();
 
-      case CACHE_DATA:
-        return Boolean.valueOf(isCacheData());
-
-      case DATA_IS_COMPRESSED:
-        return Boolean.valueOf(isDataIsCompressed());
+      case DATA:
+        return getData();
 
-      case START_MODE:
-        return getStartMode();
+      case MODE:
+        return getMode();
 
       }
       throw new IllegalStateException();
@@ -21206,12 +27411,10 @@ public class CuratorService {
         return isSetProjection();
       case PATH:
         return isSetPath();
-      case CACHE_DATA:
-        return isSetCacheData();
-      case DATA_IS_COMPRESSED:
-        return isSetDataIsCompressed();
-      case START_MODE:
-        return isSetStartMode();
+      case DATA:
+        return isSetData();
+      case MODE:
+        return isSetMode();
       }
       throw new IllegalStateException();
     }
@@ -21220,12 +27423,12 @@ public class CuratorService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof startPathChildrenCache_args)
-        return this.equals((startPathChildrenCache_args)that);
+      if (that instanceof startPersistentEphemeralNode_args)
+        return this.equals((startPersistentEphemeralNode_args)that);
       return false;
     }
 
-    public boolean equals(startPathChildrenCache_args that) {
+    public boolean equals(startPersistentEphemeralNode_args that) {
       if (that == null)
         return false;
 
@@ -21247,30 +27450,21 @@ public class CuratorService {
           return false;
       }
 
-      boolean this_present_cacheData = true;
-      boolean that_present_cacheData = true;
-      if (this_present_cacheData || that_present_cacheData) {
-        if (!(this_present_cacheData && that_present_cacheData))
-          return false;
-        if (this.cacheData != that.cacheData)
-          return false;
-      }
-
-      boolean this_present_dataIsCompressed = true;
-      boolean that_present_dataIsCompressed = true;
-      if (this_present_dataIsCompressed || that_present_dataIsCompressed) {
-        if (!(this_present_dataIsCompressed && that_present_dataIsCompressed))
+      boolean this_present_data = true && this.isSetData();
+      boolean that_present_data = true && that.isSetData();
+      if (this_present_data || that_present_data) {
+        if (!(this_present_data && that_present_data))
           return false;
-        if (this.dataIsCompressed != that.dataIsCompressed)
+        if (!this.data.equals(that.data))
           return false;
       }
 
-      boolean this_present_startMode = true && this.isSetStartMode();
-      boolean that_present_startMode = true && that.isSetStartMode();
-      if (this_present_startMode || that_present_startMode) {
-        if (!(this_present_startMode && that_present_startMode))
+      boolean this_present_mode = true && this.isSetMode();
+      boolean that_present_mode = true && that.isSetMode();
+      if (this_present_mode || that_present_mode) {
+        if (!(this_present_mode && that_present_mode))
           return false;
-        if (!this.startMode.equals(that.startMode))
+        if (!this.mode.equals(that.mode))
           return false;
       }
 
@@ -21283,7 +27477,7 @@ public class CuratorService {
     }
 
     @Override
-    public int compareTo(startPathChildrenCache_args other) {
+    public int compareTo(startPersistentEphemeralNode_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -21310,32 +27504,22 @@ public class CuratorService {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetCacheData()).compareTo(other.isSetCacheData());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetCacheData()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.cacheData, other.cacheData);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
-      lastComparison = Boolean.valueOf(isSetDataIsCompressed()).compareTo(other.isSetDataIsCompressed());
+      lastComparison = Boolean.valueOf(isSetData()).compareTo(other.isSetData());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetDataIsCompressed()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.dataIsCompressed, other.dataIsCompressed);
+      if (isSetData()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.data, other.data);
         if (lastComparison != 0) {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetStartMode()).compareTo(other.isSetStartMode());
+      lastComparison = Boolean.valueOf(isSetMode()).compareTo(other.isSetMode());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetStartMode()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.startMode, other.startMode);
+      if (isSetMode()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.mode, other.mode);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -21357,7 +27541,7 @@ public class CuratorService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("startPathChildrenCache_args(");
+      StringBuilder sb = new StringBuilder("startPersistentEphemeralNode_args(");
       boolean first = true;
 
       sb.append("projection:");
@@ -21376,19 +27560,19 @@ public class CuratorService {
       }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("cacheData:");
-      sb.append(this.cacheData);
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("dataIsCompressed:");
-      sb.append(this.dataIsCompressed);
+      sb.append("data:");
+      if (this.data == null) {
+        sb.append("null");
+      } else {
+        org.apache.thrift.TBaseHelper.toString(this.data, sb);
+      }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("startMode:");
-      if (this.startMode == null) {
+      sb.append("mode:");
+      if (this.mode == null) {
         sb.append("null");
       } else {
-        sb.append(this.startMode);
+        sb.append(this.mode);
       }
       first = false;
       sb.append(")");
@@ -21413,23 +27597,21 @@ public class CuratorService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
-        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
-        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class startPathChildrenCache_argsStandardSchemeFactory implements SchemeFactory {
-      public startPathChildrenCache_argsStandardScheme getScheme() {
-        return new startPathChildrenCache_argsStandardScheme();
+    private static class startPersistentEphemeralNode_argsStandardSchemeFactory implements SchemeFactory {
+      public startPersistentEphemeralNode_argsStandardScheme getScheme() {
+        return new startPersistentEphemeralNode_argsStandardScheme();
       }
     }
 
-    private static class startPathChildrenCache_argsStandardScheme extends StandardScheme<startPathChildrenCache_args> {
+    private static class startPersistentEphemeralNode_argsStandardScheme extends StandardScheme<startPersistentEphemeralNode_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, startPathChildrenCache_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, startPersistentEphemeralNode_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -21456,26 +27638,18 @@ public class CuratorService {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 3: // CACHE_DATA
-              if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
-                struct.cacheData = iprot.readBool();
-                struct.setCacheDataIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 4: // DATA_IS_COMPRESSED
-              if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
-                struct.dataIsCompressed = iprot.readBool();
-                struct.setDataIsCompressedIsSet(true);
+            case 3: // DATA
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.data = iprot.readBinary();
+                struct.setDataIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 5: // START_MODE
+            case 4: // MODE
               if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
-                struct.startMode = PathChildrenCacheStartMode.findByValue(iprot.readI32());
-                struct.setStartModeIsSet(true);
+                struct.mode = PersistentEphemeralNodeMode.findByValue(iprot.readI32());
+                struct.setModeIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -21491,7 +27665,7 @@ public class CuratorService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, startPathChildrenCache_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, startPersistentEphemeralNode_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -21505,15 +27679,14 @@ public class CuratorService {
           oprot.writeString(struct.path);
           oprot.writeFieldEnd();
         }
-        oprot.writeFieldBegin(CACHE_DATA_FIELD_DESC);
-        oprot.writeBool(struct.cacheData);
-        oprot.writeFieldEnd();
-        oprot.writeFieldBegin(DATA_IS_COMPRESSED_FIELD_DESC);
-        oprot.writeBool(struct.dataIsCompressed);
-        oprot.writeFieldEnd();
-        if (struct.startMode != null) {
-          oprot.writeFieldBegin(START_MODE_FIELD_DESC);
-          oprot.writeI32(struct.startMode.getValue());
+        if (struct.data != null) {
+          oprot.writeFieldBegin(DATA_FIELD_DESC);
+          oprot.writeBinary(struct.data);
+          oprot.writeFieldEnd();
+        }
+        if (struct.mode != null) {
+          oprot.writeFieldBegin(MODE_FIELD_DESC);
+          oprot.writeI32(struct.mode.getValue());
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -21522,16 +27695,16 @@ public class CuratorService {
 
     }
 
-    private static class startPathChildrenCache_argsTupleSchemeFactory implements SchemeFactory {
-      public startPathChildrenCache_argsTupleScheme getScheme() {
-        return new startPathChildrenCache_argsTupleScheme();
+    private static class startPersistentEphemeralNode_argsTupleSchemeFactory implements SchemeFactory {
+      public startPersistentEphemeralNode_argsTupleScheme getScheme() {
+        return new startPersistentEphemeralNode_argsTupleScheme();
       }
     }
 
-    private static class startPathChildrenCache_argsTupleScheme extends TupleScheme<startPathChildrenCache_args> {
+    private static class startPersistentEphemeralNode_argsTupleScheme extends TupleScheme<startPersistentEphemeralNode_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, startPathChildrenCache_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, startPersistentEphemeralNode_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetProjection()) {
@@ -21540,37 +27713,31 @@ public class CuratorService {
         if (struct.isSetPath()) {
           optionals.set(1);
         }
-        if (struct.isSetCacheData()) {
+        if (struct.isSetData()) {
           optionals.set(2);
         }
-        if (struct.isSetDataIsCompressed()) {
+        if (struct.isSetMode()) {
           optionals.set(3);
         }
-        if (struct.isSetStartMode()) {
-          optionals.set(4);
-        }
-        oprot.writeBitSet(optionals, 5);
+        oprot.writeBitSet(optionals, 4);
         if (struct.isSetProjection()) {
           struct.projection.write(oprot);
         }
         if (struct.isSetPath()) {
           oprot.writeString(struct.path);
         }
-        if (struct.isSetCacheData()) {
-          oprot.writeBool(struct.cacheData);
-        }
-        if (struct.isSetDataIsCompressed()) {
-          oprot.writeBool(struct.dataIsCompressed);
+        if (struct.isSetData()) {
+          oprot.writeBinary(struct.data);
         }
-        if (struct.isSetStartMode()) {
-          oprot.writeI32(struct.startMode.getValue());
+        if (struct.isSetMode()) {
+          oprot.writeI32(struct.mode.getValue());
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, startPathChildrenCache_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, startPersistentEphemeralNode_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(5);
+        BitSet incoming = iprot.readBitSet(4);
         if (incoming.get(0)) {
           struct.projection = new CuratorProjection();
           struct.projection.read(iprot);
@@ -21581,35 +27748,31 @@ public class CuratorService {
           struct.setPathIsSet(true);
         }
         if (incoming.get(2)) {
-          struct.cacheData = iprot.readBool();
-          struct.setCacheDataIsSet(true);
+          struct.data = iprot.readBinary();
+          struct.setDataIsSet(true);
         }
         if (incoming.get(3)) {
-          struct.dataIsCompressed = iprot.readBool();
-          struct.setDataIsCompressedIsSet(true);
-        }
-        if (incoming.get(4)) {
-          struct.startMode = PathChildrenCacheStartMode.findByValue(iprot.readI32());
-          struct.setStartModeIsSet(true);
+          struct.mode = PersistentEphemeralNodeMode.findByValue(iprot.readI32());
+          struct.setModeIsSet(true);
         }
       }
     }
 
   }
 
-  public static class startPathChildrenCache_result implements org.apache.thrift.TBase<startPathChildrenCache_result, startPathChildrenCache_result._Fields>, java.io.Serializable, Cloneable, Comparable<startPathChildrenCache_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("startPathChildrenCache_result");
+  public static class startPersistentEphemeralNode_result implements org.apache.thrift.TBase<startPersistentEphemeralNode_result, startPersistentEphemeralNode_result._Fields>, java.io.Serializable, Cloneable, Comparable<startPersistentEphemeralNode_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("startPersistentEphemeralNode_result");
 
     private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
     private static final org.apache.thrift.protocol.TField EX1_FIELD_DESC = new org.apache.thrift.protocol.TField("ex1", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new startPathChildrenCache_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new startPathChildrenCache_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new startPersistentEphemeralNode_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new startPersistentEphemeralNode_resultTupleSchemeFactory());
     }
 
-    public PathChildrenCacheProjection success; // required
+    public PersistentEphemeralNodeProjection success; // required
     public CuratorException ex1; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
@@ -21678,18 +27841,18 @@ public class CuratorService {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, PathChildrenCacheProjection.class)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, PersistentEphemeralNodeProjection.class)));
       tmpMap.put(_Fields.EX1, new org.apache.thrift.meta_data.FieldMetaData("ex1", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(startPathChildrenCache_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(startPersistentEphemeralNode_result.class, metaDataMap);
     }
 
-    public startPathChildrenCache_result() {
+    public startPersistentEphemeralNode_result() {
     }
 
-    public startPathChildrenCache_result(
-      PathChildrenCacheProjection success,
+    public startPersistentEphemeralNode_result(
+      PersistentEphemeralNodeProjection success,
       CuratorException ex1)
     {
       this();
@@ -21700,17 +27863,17 @@ public class CuratorService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public startPathChildrenCache_result(startPathChildrenCache_result other) {
+    public startPersistentEphemeralNode_result(startPersistentEphemeralNode_result other) {
       if (other.isSetSuccess()) {
-        this.success = new PathChildrenCacheProjection(other.success);
+        this.success = new PersistentEphemeralNodeProjection(other.success);
       }
       if (other.isSetEx1()) {
         this.ex1 = new CuratorException(other.ex1);
       }
     }
 
-    public startPathChildrenCache_result deepCopy() {
-      return new startPathChildrenCache_result(this);
+    public startPersistentEphemeralNode_result deepCopy() {
+      return new startPersistentEphemeralNode_result(this);
     }
 
     @Override
@@ -21719,11 +27882,11 @@ public class CuratorService {
       this.ex1 = null;
     }
 
-    public PathChildrenCacheProjection getSuccess() {
+    public PersistentEphemeralNodeProjection getSuccess() {
       return this.success;
     }
 
-    public startPathChildrenCache_result setSuccess(PathChildrenCacheProjection success) {
+    public startPersistentEphemeralNode_result setSuccess(PersistentEphemeralNodeProjection success) {
       this.success = success;
       return this;
     }
@@ -21747,7 +27910,7 @@ public class CuratorService {
       return this.ex1;
     }
 
-    public startPathChildrenCache_result setEx1(CuratorException ex1) {
+    public startPersistentEphemeralNode_result setEx1(CuratorException ex1) {
       this.ex1 = ex1;
       return this;
     }
@@ -21773,7 +27936,7 @@ public class CuratorService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((PathChildrenCacheProjection)value);
+          setSuccess((PersistentEphemeralNodeProjection)value);
         }
         break;
 
@@ -21819,12 +27982,12 @@ public class CuratorService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof startPathChildrenCache_result)
-        return this.equals((startPathChildrenCache_result)that);
+      if (that instanceof startPersistentEphemeralNode_result)
+        return this.equals((startPersistentEphemeralNode_result)that);
       return false;
     }
 
-    public boolean equals(startPathChildrenCache_result that) {
+    public boolean equals(startPersistentEphemeralNode_result that) {
       if (that == null)
         return false;
 
@@ -21855,7 +28018,7 @@ public class CuratorService {
     }
 
     @Override
-    public int compareTo(startPathChildrenCache_result other) {
+    public int compareTo(startPersistentEphemeralNode_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -21899,7 +28062,7 @@ public class CuratorService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("startPathChildrenCache_result(");
+      StringBuilder sb = new StringBuilder("startPersistentEphemeralNode_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -21945,15 +28108,15 @@ public class CuratorService {
       }
     }
 
-    private static class startPathChildrenCache_resultStandardSchemeFactory implements SchemeFactory {
-      public startPathChildrenCache_resultStandardScheme getScheme() {
-        return new startPathChildrenCache_resultStandardScheme();
+    private static class startPersistentEphemeralNode_resultStandardSchemeFactory implements SchemeFactory {
+      public startPersistentEphemeralNode_resultStandardScheme getScheme() {
+        return new startPersistentEphemeralNode_resultStandardScheme();
       }
     }
 
-    private static class startPathChildrenCache_resultStandardScheme extends StandardScheme<startPathChildrenCache_result> {
+    private static class startPersistentEphemeralNode_resultStandardScheme extends StandardScheme<startPersistentEphemeralNode_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, startPathChildrenCache_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, startPersistentEphemeralNode_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -21965,7 +28128,7 @@ public class CuratorService {
           switch (schemeField.id) {
             case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.success = new PathChildrenCacheProjection();
+                struct.success = new PersistentEphemeralNodeProjection();
                 struct.success.read(iprot);
                 struct.setSuccessIsSet(true);
               } else { 
@@ -21992,7 +28155,7 @@ public class CuratorService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, startPathChildrenCache_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, startPersistentEphemeralNode_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -22012,16 +28175,16 @@ public class CuratorService {
 
     }
 
-    private static class startPathChildrenCache_resultTupleSchemeFactory implements SchemeFactory {
-      public startPathChildrenCache_resultTupleScheme getScheme() {
-        return new startPathChildrenCache_resultTupleScheme();
+    private static class startPersistentEphemeralNode_resultTupleSchemeFactory implements SchemeFactory {
+      public startPersistentEphemeralNode_resultTupleScheme getScheme() {
+        return new startPersistentEphemeralNode_resultTupleScheme();
       }
     }
 
-    private static class startPathChildrenCache_resultTupleScheme extends TupleScheme<startPathChildrenCache_result> {
+    private static class startPersistentEphemeralNode_resultTupleScheme extends TupleScheme<startPersistentEphemeralNode_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, startPathChildrenCache_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, startPersistentEphemeralNode_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -22040,11 +28203,11 @@ public class CuratorService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, startPathChildrenCache_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, startPersistentEphemeralNode_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.success = new PathChildrenCacheProjection();
+          struct.success = new PersistentEphemeralNodeProjection();
           struct.success.read(iprot);
           struct.setSuccessIsSet(true);
         }
@@ -22058,39 +28221,34 @@ public class CuratorService {
 
   }
 
-  public static class startPersistentEphemeralNode_args implements org.apache.thrift.TBase<startPersistentEphemeralNode_args, startPersistentEphemeralNode_args._Fields>, java.io.Serializable, Cloneable, Comparable<startPersistentEphemeralNode_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("startPersistentEphemeralNode_args");
+  public static class startTreeCache_args implements org.apache.thrift.TBase<startTreeCache_args, startTreeCache_args._Fields>, java.io.Serializable, Cloneable, Comparable<startTreeCache_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("startTreeCache_args");
 
     private static final org.apache.thrift.protocol.TField PROJECTION_FIELD_DESC = new org.apache.thrift.protocol.TField("projection", org.apache.thrift.protocol.TType.STRUCT, (short)1);
     private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)2);
-    private static final org.apache.thrift.protocol.TField DATA_FIELD_DESC = new org.apache.thrift.protocol.TField("data", org.apache.thrift.protocol.TType.STRING, (short)3);
-    private static final org.apache.thrift.protocol.TField MODE_FIELD_DESC = new org.apache.thrift.protocol.TField("mode", org.apache.thrift.protocol.TType.I32, (short)4);
+    private static final org.apache.thrift.protocol.TField CACHE_DATA_FIELD_DESC = new org.apache.thrift.protocol.TField("cacheData", org.apache.thrift.protocol.TType.BOOL, (short)3);
+    private static final org.apache.thrift.protocol.TField DATA_IS_COMPRESSED_FIELD_DESC = new org.apache.thrift.protocol.TField("dataIsCompressed", org.apache.thrift.protocol.TType.BOOL, (short)4);
+    private static final org.apache.thrift.protocol.TField MAX_DEPTH_FIELD_DESC = new org.apache.thrift.protocol.TField("maxDepth", org.apache.thrift.protocol.TType.I32, (short)5);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new startPersistentEphemeralNode_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new startPersistentEphemeralNode_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new startTreeCache_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new startTreeCache_argsTupleSchemeFactory());
     }
 
     public CuratorProjection projection; // required
     public String path; // required
-    public ByteBuffer data; // required
-    /**
-     * 
-     * @see PersistentEphemeralNodeMode
-     */
-    public PersistentEphemeralNodeMode mode; // required
+    public boolean cacheData; // required
+    public boolean dataIsCompressed; // required
+    public int maxDepth; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       PROJECTION((short)1, "projection"),
       PATH((short)2, "path"),
-      DATA((short)3, "data"),
-      /**
-       * 
-       * @see PersistentEphemeralNodeMode
-       */
-      MODE((short)4, "mode");
+      CACHE_DATA((short)3, "cacheData"),
+      DATA_IS_COMPRESSED((short)4, "dataIsCompressed"),
+      MAX_DEPTH((short)5, "maxDepth");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -22109,10 +28267,12 @@ public class CuratorService {
             return PROJECTION;
           case 2: // PATH
             return PATH;
-          case 3: // DATA
-            return DATA;
-          case 4: // MODE
-            return MODE;
+          case 3: // CACHE_DATA
+            return CACHE_DATA;
+          case 4: // DATA_IS_COMPRESSED
+            return DATA_IS_COMPRESSED;
+          case 5: // MAX_DEPTH
+            return MAX_DEPTH;
           default:
             return null;
         }
@@ -22153,6 +28313,10 @@ public class CuratorService {
     }
 
     // isset id assignments
+    private static final int __CACHEDATA_ISSET_ID = 0;
+    private static final int __DATAISCOMPRESSED_ISSET_ID = 1;
+    private static final int __MAXDEPTH_ISSET_ID = 2;
+    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
@@ -22160,66 +28324,74 @@ public class CuratorService {
           new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CuratorProjection.class)));
       tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.DATA, new org.apache.thrift.meta_data.FieldMetaData("data", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING          , true)));
-      tmpMap.put(_Fields.MODE, new org.apache.thrift.meta_data.FieldMetaData("mode", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.EnumMetaData(org.apache.thrift.protocol.TType.ENUM, PersistentEphemeralNodeMode.class)));
+      tmpMap.put(_Fields.CACHE_DATA, new org.apache.thrift.meta_data.FieldMetaData("cacheData", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
+      tmpMap.put(_Fields.DATA_IS_COMPRESSED, new org.apache.thrift.meta_data.FieldMetaData("dataIsCompressed", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
+      tmpMap.put(_Fields.MAX_DEPTH, new org.apache.thrift.meta_data.FieldMetaData("maxDepth", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(startPersistentEphemeralNode_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(startTreeCache_args.class, metaDataMap);
     }
 
-    public startPersistentEphemeralNode_args() {
+    public startTreeCache_args() {
     }
 
-    public startPersistentEphemeralNode_args(
+    public startTreeCache_args(
       CuratorProjection projection,
       String path,
-      ByteBuffer data,
-      PersistentEphemeralNodeMode mode)
+      boolean cacheData,
+      boolean dataIsCompressed,
+      int maxDepth)
     {
       this();
       this.projection = projection;
       this.path = path;
-      this.data = data;
-      this.mode = mode;
+      this.cacheData = cacheData;
+      setCacheDataIsSet(true);
+      this.dataIsCompressed = dataIsCompressed;
+      setDataIsCompressedIsSet(true);
+      this.maxDepth = maxDepth;
+      setMaxDepthIsSet(true);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public startPersistentEphemeralNode_args(startPersistentEphemeralNode_args other) {
+    public startTreeCache_args(startTreeCache_args other) {
+      __isset_bitfield = other.__isset_bitfield;
       if (other.isSetProjection()) {
         this.projection = new CuratorProjection(other.projection);
       }
       if (other.isSetPath()) {
         this.path = other.path;
       }
-      if (other.isSetData()) {
-        this.data = org.apache.thrift.TBaseHelper.copyBinary(other.data);
-;
-      }
-      if (other.isSetMode()) {
-        this.mode = other.mode;
-      }
+      this.cacheData = other.cacheData;
+      this.dataIsCompressed = other.dataIsCompressed;
+      this.maxDepth = other.maxDepth;
     }
 
-    public startPersistentEphemeralNode_args deepCopy() {
-      return new startPersistentEphemeralNode_args(this);
+    public startTreeCache_args deepCopy() {
+      return new startTreeCache_args(this);
     }
 
     @Override
     public void clear() {
       this.projection = null;
       this.path = null;
-      this.data = null;
-      this.mode = null;
+      setCacheDataIsSet(false);
+      this.cacheData = false;
+      setDataIsCompressedIsSet(false);
+      this.dataIsCompressed = false;
+      setMaxDepthIsSet(false);
+      this.maxDepth = 0;
     }
 
     public CuratorProjection getProjection() {
       return this.projection;
     }
 
-    public startPersistentEphemeralNode_args setProjection(CuratorProjection projection) {
+    public startTreeCache_args setProjection(CuratorProjection projection) {
       this.projection = projection;
       return this;
     }
@@ -22243,7 +28415,7 @@ public class CuratorService {
       return this.path;
     }
 
-    public startPersistentEphemeralNode_args setPath(String path) {
+    public startTreeCache_args setPath(String path) {
       this.path = path;
       return this;
     }
@@ -22263,70 +28435,73 @@ public class CuratorService {
       }
     }
 
-    public byte[] getData() {
-      setData(org.apache.thrift.TBaseHelper.rightSize(data));
-      return data == null ? null : data.array();
+    public boolean isCacheData() {
+      return this.cacheData;
     }
 
-    public ByteBuffer bufferForData() {
-      return data;
+    public startTreeCache_args setCacheData(boolean cacheData) {
+      this.cacheData = cacheData;
+      setCacheDataIsSet(true);
+      return this;
     }
 
-    public startPersistentEphemeralNode_args setData(byte[] data) {
-      setData(data == null ? (ByteBuffer)null : ByteBuffer.wrap(data));
-      return this;
+    public void unsetCacheData() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __CACHEDATA_ISSET_ID);
     }
 
-    public startPersistentEphemeralNode_args setData(ByteBuffer data) {
-      this.data = data;
+    /** Returns true if field cacheData is set (has been assigned a value) and false otherwise */
+    public boolean isSetCacheData() {
+      return EncodingUtils.testBit(__isset_bitfield, __CACHEDATA_ISSET_ID);
+    }
+
+    public void setCacheDataIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __CACHEDATA_ISSET_ID, value);
+    }
+
+    public boolean isDataIsCompressed() {
+      return this.dataIsCompressed;
+    }
+
+    public startTreeCache_args setDataIsCompressed(boolean dataIsCompressed) {
+      this.dataIsCompressed = dataIsCompressed;
+      setDataIsCompressedIsSet(true);
       return this;
     }
 
-    public void unsetData() {
-      this.data = null;
+    public void unsetDataIsCompressed() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __DATAISCOMPRESSED_ISSET_ID);
     }
 
-    /** Returns true if field data is set (has been assigned a value) and false otherwise */
-    public boolean isSetData() {
-      return this.data != null;
+    /** Returns true if field dataIsCompressed is set (has been assigned a value) and false otherwise */
+    public boolean isSetDataIsCompressed() {
+      return EncodingUtils.testBit(__isset_bitfield, __DATAISCOMPRESSED_ISSET_ID);
     }
 
-    public void setDataIsSet(boolean value) {
-      if (!value) {
-        this.data = null;
-      }
+    public void setDataIsCompressedIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __DATAISCOMPRESSED_ISSET_ID, value);
     }
 
-    /**
-     * 
-     * @see PersistentEphemeralNodeMode
-     */
-    public PersistentEphemeralNodeMode getMode() {
-      return this.mode;
+    public int getMaxDepth() {
+      return this.maxDepth;
     }
 
-    /**
-     * 
-     * @see PersistentEphemeralNodeMode
-     */
-    public startPersistentEphemeralNode_args setMode(PersistentEphemeralNodeMode mode) {
-      this.mode = mode;
+    public startTreeCache_args setMaxDepth(int maxDepth) {
+      this.maxDepth = maxDepth;
+      setMaxDepthIsSet(true);
       return this;
     }
 
-    public void unsetMode() {
-      this.mode = null;
+    public void unsetMaxDepth() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __MAXDEPTH_ISSET_ID);
     }
 
-    /** Returns true if field mode is set (has been assigned a value) and false otherwise */
-    public boolean isSetMode() {
-      return this.mode != null;
+    /** Returns true if field maxDepth is set (has been assigned a value) and false otherwise */
+    public boolean isSetMaxDepth() {
+      return EncodingUtils.testBit(__isset_bitfield, __MAXDEPTH_ISSET_ID);
     }
 
-    public void setModeIsSet(boolean value) {
-      if (!value) {
-        this.mode = null;
-      }
+    public void setMaxDepthIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __MAXDEPTH_ISSET_ID, value);
     }
 
     public void setFieldValue(_Fields field, Object value) {
@@ -22347,19 +28522,27 @@ public class CuratorService {
         }
         break;
 
-      case DATA:
+      case CACHE_DATA:
         if (value == null) {
-          unsetData();
+          unsetCacheData();
         } else {
-          setData((ByteBuffer)value);
+          setCacheData((Boolean)value);
         }
         break;
 
-      case MODE:
+      case DATA_IS_COMPRESSED:
         if (value == null) {
-          unsetMode();
+          unsetDataIsCompressed();
         } else {
-          setMode((PersistentEphemeralNodeMode)value);
+          setDataIsCompressed((Boolean)value);
+        }
+        break;
+
+      case MAX_DEPTH:
+        if (value == null) {
+          unsetMaxDepth();
+        } else {
+          setMaxDepth((Integer)value);
         }
         break;
 
@@ -22374,11 +28557,14 @@ public class CuratorService {
       case PATH:
         return getPath();
 
-      case DATA:
-        return getData();
+      case CACHE_DATA:
+        return Boolean.valueOf(isCacheData());
 
-      case MODE:
-        return getMode();
+      case DATA_IS_COMPRESSED:
+        return Boolean.valueOf(isDataIsCompressed());
+
+      case MAX_DEPTH:
+        return Integer.valueOf(getMaxDepth());
 
       }
       throw new IllegalStateException();
@@ -22395,10 +28581,12 @@ public class CuratorService {
         return isSetProjection();
       case PATH:
         return isSetPath();
-      case DATA:
-        return isSetData();
-      case MODE:
-        return isSetMode();
+      case CACHE_DATA:
+        return isSetCacheData();
+      case DATA_IS_COMPRESSED:
+        return isSetDataIsCompressed();
+      case MAX_DEPTH:
+        return isSetMaxDepth();
       }
       throw new IllegalStateException();
     }
@@ -22407,12 +28595,12 @@ public class CuratorService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof startPersistentEphemeralNode_args)
-        return this.equals((startPersistentEphemeralNode_args)that);
+      if (that instanceof startTreeCache_args)
+        return this.equals((startTreeCache_args)that);
       return false;
     }
 
-    public boolean equals(startPersistentEphemeralNode_args that) {
+    public boolean equals(startTreeCache_args that) {
       if (that == null)
         return false;
 
@@ -22434,21 +28622,30 @@ public class CuratorService {
           return false;
       }
 
-      boolean this_present_data = true && this.isSetData();
-      boolean that_present_data = true && that.isSetData();
-      if (this_present_data || that_present_data) {
-        if (!(this_present_data && that_present_data))
+      boolean this_present_cacheData = true;
+      boolean that_present_cacheData = true;
+      if (this_present_cacheData || that_present_cacheData) {
+        if (!(this_present_cacheData && that_present_cacheData))
           return false;
-        if (!this.data.equals(that.data))
+        if (this.cacheData != that.cacheData)
           return false;
       }
 
-      boolean this_present_mode = true && this.isSetMode();
-      boolean that_present_mode = true && that.isSetMode();
-      if (this_present_mode || that_present_mode) {
-        if (!(this_present_mode && that_present_mode))
+      boolean this_present_dataIsCompressed = true;
+      boolean that_present_dataIsCompressed = true;
+      if (this_present_dataIsCompressed || that_present_dataIsCompressed) {
+        if (!(this_present_dataIsCompressed && that_present_dataIsCompressed))
           return false;
-        if (!this.mode.equals(that.mode))
+        if (this.dataIsCompressed != that.dataIsCompressed)
+          return false;
+      }
+
+      boolean this_present_maxDepth = true;
+      boolean that_present_maxDepth = true;
+      if (this_present_maxDepth || that_present_maxDepth) {
+        if (!(this_present_maxDepth && that_present_maxDepth))
+          return false;
+        if (this.maxDepth != that.maxDepth)
           return false;
       }
 
@@ -22461,7 +28658,7 @@ public class CuratorService {
     }
 
     @Override
-    public int compareTo(startPersistentEphemeralNode_args other) {
+    public int compareTo(startTreeCache_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -22488,22 +28685,32 @@ public class CuratorService {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetData()).compareTo(other.isSetData());
+      lastComparison = Boolean.valueOf(isSetCacheData()).compareTo(other.isSetCacheData());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetData()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.data, other.data);
+      if (isSetCacheData()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.cacheData, other.cacheData);
         if (lastComparison != 0) {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetMode()).compareTo(other.isSetMode());
+      lastComparison = Boolean.valueOf(isSetDataIsCompressed()).compareTo(other.isSetDataIsCompressed());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetMode()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.mode, other.mode);
+      if (isSetDataIsCompressed()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.dataIsCompressed, other.dataIsCompressed);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetMaxDepth()).compareTo(other.isSetMaxDepth());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetMaxDepth()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.maxDepth, other.maxDepth);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -22525,7 +28732,7 @@ public class CuratorService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("startPersistentEphemeralNode_args(");
+      StringBuilder sb = new StringBuilder("startTreeCache_args(");
       boolean first = true;
 
       sb.append("projection:");
@@ -22544,20 +28751,16 @@ public class CuratorService {
       }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("data:");
-      if (this.data == null) {
-        sb.append("null");
-      } else {
-        org.apache.thrift.TBaseHelper.toString(this.data, sb);
-      }
+      sb.append("cacheData:");
+      sb.append(this.cacheData);
       first = false;
       if (!first) sb.append(", ");
-      sb.append("mode:");
-      if (this.mode == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.mode);
-      }
+      sb.append("dataIsCompressed:");
+      sb.append(this.dataIsCompressed);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("maxDepth:");
+      sb.append(this.maxDepth);
       first = false;
       sb.append(")");
       return sb.toString();
@@ -22581,21 +28784,23 @@ public class CuratorService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class startPersistentEphemeralNode_argsStandardSchemeFactory implements SchemeFactory {
-      public startPersistentEphemeralNode_argsStandardScheme getScheme() {
-        return new startPersistentEphemeralNode_argsStandardScheme();
+    private static class startTreeCache_argsStandardSchemeFactory implements SchemeFactory {
+      public startTreeCache_argsStandardScheme getScheme() {
+        return new startTreeCache_argsStandardScheme();
       }
     }
 
-    private static class startPersistentEphemeralNode_argsStandardScheme extends StandardScheme<startPersistentEphemeralNode_args> {
+    private static class startTreeCache_argsStandardScheme extends StandardScheme<startTreeCache_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, startPersistentEphemeralNode_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, startTreeCache_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -22622,18 +28827,26 @@ public class CuratorService {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 3: // DATA
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.data = iprot.readBinary();
-                struct.setDataIsSet(true);
+            case 3: // CACHE_DATA
+              if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
+                struct.cacheData = iprot.readBool();
+                struct.setCacheDataIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 4: // MODE
+            case 4: // DATA_IS_COMPRESSED
+              if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
+                struct.dataIsCompressed = iprot.readBool();
+                struct.setDataIsCompressedIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 5: // MAX_DEPTH
               if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
-                struct.mode = PersistentEphemeralNodeMode.findByValue(iprot.readI32());
-                struct.setModeIsSet(true);
+                struct.maxDepth = iprot.readI32();
+                struct.setMaxDepthIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -22649,7 +28862,7 @@ public class CuratorService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, startPersistentEphemeralNode_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, startTreeCache_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -22663,32 +28876,31 @@ public class CuratorService {
           oprot.writeString(struct.path);
           oprot.writeFieldEnd();
         }
-        if (struct.data != null) {
-          oprot.writeFieldBegin(DATA_FIELD_DESC);
-          oprot.writeBinary(struct.data);
-          oprot.writeFieldEnd();
-        }
-        if (struct.mode != null) {
-          oprot.writeFieldBegin(MODE_FIELD_DESC);
-          oprot.writeI32(struct.mode.getValue());
-          oprot.writeFieldEnd();
-        }
+        oprot.writeFieldBegin(CACHE_DATA_FIELD_DESC);
+        oprot.writeBool(struct.cacheData);
+        oprot.writeFieldEnd();
+        oprot.writeFieldBegin(DATA_IS_COMPRESSED_FIELD_DESC);
+        oprot.writeBool(struct.dataIsCompressed);
+        oprot.writeFieldEnd();
+        oprot.writeFieldBegin(MAX_DEPTH_FIELD_DESC);
+        oprot.writeI32(struct.maxDepth);
+        oprot.writeFieldEnd();
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class startPersistentEphemeralNode_argsTupleSchemeFactory implements SchemeFactory {
-      public startPersistentEphemeralNode_argsTupleScheme getScheme() {
-        return new startPersistentEphemeralNode_argsTupleScheme();
+    private static class startTreeCache_argsTupleSchemeFactory implements SchemeFactory {
+      public startTreeCache_argsTupleScheme getScheme() {
+        return new startTreeCache_argsTupleScheme();
       }
     }
 
-    private static class startPersistentEphemeralNode_argsTupleScheme extends TupleScheme<startPersistentEphemeralNode_args> {
+    private static class startTreeCache_argsTupleScheme extends TupleScheme<startTreeCache_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, startPersistentEphemeralNode_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, startTreeCache_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetProjection()) {
@@ -22697,31 +28909,37 @@ public class CuratorService {
         if (struct.isSetPath()) {
           optionals.set(1);
         }
-        if (struct.isSetData()) {
+        if (struct.isSetCacheData()) {
           optionals.set(2);
         }
-        if (struct.isSetMode()) {
+        if (struct.isSetDataIsCompressed()) {
           optionals.set(3);
         }
-        oprot.writeBitSet(optionals, 4);
+        if (struct.isSetMaxDepth()) {
+          optionals.set(4);
+        }
+        oprot.writeBitSet(optionals, 5);
         if (struct.isSetProjection()) {
           struct.projection.write(oprot);
         }
         if (struct.isSetPath()) {
           oprot.writeString(struct.path);
         }
-        if (struct.isSetData()) {
-          oprot.writeBinary(struct.data);
+        if (struct.isSetCacheData()) {
+          oprot.writeBool(struct.cacheData);
         }
-        if (struct.isSetMode()) {
-          oprot.writeI32(struct.mode.getValue());
+        if (struct.isSetDataIsCompressed()) {
+          oprot.writeBool(struct.dataIsCompressed);
+        }
+        if (struct.isSetMaxDepth()) {
+          oprot.writeI32(struct.maxDepth);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, startPersistentEphemeralNode_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, startTreeCache_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(4);
+        BitSet incoming = iprot.readBitSet(5);
         if (incoming.get(0)) {
           struct.projection = new CuratorProjection();
           struct.projection.read(iprot);
@@ -22732,31 +28950,35 @@ public class CuratorService {
           struct.setPathIsSet(true);
         }
         if (incoming.get(2)) {
-          struct.data = iprot.readBinary();
-          struct.setDataIsSet(true);
+          struct.cacheData = iprot.readBool();
+          struct.setCacheDataIsSet(true);
         }
         if (incoming.get(3)) {
-          struct.mode = PersistentEphemeralNodeMode.findByValue(iprot.readI32());
-          struct.setModeIsSet(true);
+          struct.dataIsCompressed = iprot.readBool();
+          struct.setDataIsCompressedIsSet(true);
+        }
+        if (incoming.get(4)) {
+          struct.maxDepth = iprot.readI32();
+          struct.setMaxDepthIsSet(true);
         }
       }
     }
 
   }
 
-  public static class startPersistentEphemeralNode_result implements org.apache.thrift.TBase<startPersistentEphemeralNode_result, startPersistentEphemeralNode_result._Fields>, java.io.Serializable, Cloneable, Comparable<startPersistentEphemeralNode_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("startPersistentEphemeralNode_result");
+  public static class startTreeCache_result implements org.apache.thrift.TBase<startTreeCache_result, startTreeCache_result._Fields>, java.io.Serializable, Cloneable, Comparable<startTreeCache_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("startTreeCache_result");
 
     private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
     private static final org.apache.thrift.protocol.TField EX1_FIELD_DESC = new org.apache.thrift.protocol.TField("ex1", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new startPersistentEphemeralNode_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new startPersistentEphemeralNode_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new startTreeCache_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new startTreeCache_resultTupleSchemeFactory());
     }
 
-    public PersistentEphemeralNodeProjection success; // required
+    public TreeCacheProjection success; // required
     public CuratorException ex1; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
@@ -22825,18 +29047,18 @@ public class CuratorService {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, PersistentEphemeralNodeProjection.class)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, TreeCacheProjection.class)));
       tmpMap.put(_Fields.EX1, new org.apache.thrift.meta_data.FieldMetaData("ex1", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(startPersistentEphemeralNode_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(startTreeCache_result.class, metaDataMap);
     }
 
-    public startPersistentEphemeralNode_result() {
+    public startTreeCache_result() {
     }
 
-    public startPersistentEphemeralNode_result(
-      PersistentEphemeralNodeProjection success,
+    public startTreeCache_result(
+      TreeCacheProjection success,
       CuratorException ex1)
     {
       this();
@@ -22847,17 +29069,17 @@ public class CuratorService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public startPersistentEphemeralNode_result(startPersistentEphemeralNode_result other) {
+    public startTreeCache_result(startTreeCache_result other) {
       if (other.isSetSuccess()) {
-        this.success = new PersistentEphemeralNodeProjection(other.success);
+        this.success = new TreeCacheProjection(other.success);
       }
       if (other.isSetEx1()) {
         this.ex1 = new CuratorException(other.ex1);
       }
     }
 
-    public startPersistentEphemeralNode_result deepCopy() {
-      return new startPersistentEphemeralNode_result(this);
+    public startTreeCache_result deepCopy() {
+      return new startTreeCache_result(this);
     }
 
     @Override
@@ -22866,11 +29088,11 @@ public class CuratorService {
       this.ex1 = null;
     }
 
-    public PersistentEphemeralNodeProjection getSuccess() {
+    public TreeCacheProjection getSuccess() {
       return this.success;
     }
 
-    public startPersistentEphemeralNode_result setSuccess(PersistentEphemeralNodeProjection success) {
+    public startTreeCache_result setSuccess(TreeCacheProjection success) {
       this.success = success;
       return this;
     }
@@ -22894,7 +29116,7 @@ public class CuratorService {
       return this.ex1;
     }
 
-    public startPersistentEphemeralNode_result setEx1(CuratorException ex1) {
+    public startTreeCache_result setEx1(CuratorException ex1) {
       this.ex1 = ex1;
       return this;
     }
@@ -22920,7 +29142,7 @@ public class CuratorService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((PersistentEphemeralNodeProjection)value);
+          setSuccess((TreeCacheProjection)value);
         }
         break;
 
@@ -22966,12 +29188,12 @@ public class CuratorService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof startPersistentEphemeralNode_result)
-        return this.equals((startPersistentEphemeralNode_result)that);
+      if (that instanceof startTreeCache_result)
+        return this.equals((startTreeCache_result)that);
       return false;
     }
 
-    public boolean equals(startPersistentEphemeralNode_result that) {
+    public boolean equals(startTreeCache_result that) {
       if (that == null)
         return false;
 
@@ -23002,7 +29224,7 @@ public class CuratorService {
     }
 
     @Override
-    public int compareTo(startPersistentEphemeralNode_result other) {
+    public int compareTo(startTreeCache_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -23046,7 +29268,7 @@ public class CuratorService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("startPersistentEphemeralNode_result(");
+      StringBuilder sb = new StringBuilder("startTreeCache_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -23092,15 +29314,15 @@ public class CuratorService {
       }
     }
 
-    private static class startPersistentEphemeralNode_resultStandardSchemeFactory implements SchemeFactory {
-      public startPersistentEphemeralNode_resultStandardScheme getScheme() {
-        return new startPersistentEphemeralNode_resultStandardScheme();
+    private static class startTreeCache_resultStandardSchemeFactory implements SchemeFactory {
+      public startTreeCache_resultStandardScheme getScheme() {
+        return new startTreeCache_resultStandardScheme();
       }
     }
 
-    private static class startPersistentEphemeralNode_resultStandardScheme extends StandardScheme<startPersistentEphemeralNode_result> {
+    private static class startTreeCache_resultStandardScheme extends StandardScheme<startTreeCache_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, startPersistentEphemeralNode_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, startTreeCache_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -23112,7 +29334,7 @@ public class CuratorService {
           switch (schemeField.id) {
             case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.success = new PersistentEphemeralNodeProjection();
+                struct.success = new TreeCacheProjection();
                 struct.success.read(iprot);
                 struct.setSuccessIsSet(true);
               } else { 
@@ -23139,7 +29361,7 @@ public class CuratorService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, startPersistentEphemeralNode_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, startTreeCache_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -23159,16 +29381,16 @@ public class CuratorService {
 
     }
 
-    private static class startPersistentEphemeralNode_resultTupleSchemeFactory implements SchemeFactory {
-      public startPersistentEphemeralNode_resultTupleScheme getScheme() {
-        return new startPersistentEphemeralNode_resultTupleScheme();
+    private static class startTreeCache_resultTupleSchemeFactory implements SchemeFactory {
+      public startTreeCache_resultTupleScheme getScheme() {
+        return new startTreeCache_resultTupleScheme();
       }
     }
 
-    private static class startPersistentEphemeralNode_resultTupleScheme extends TupleScheme<startPersistentEphemeralNode_result> {
+    private static class startTreeCache_resultTupleScheme extends TupleScheme<startTreeCache_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, startPersistentEphemeralNode_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, startTreeCache_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -23187,11 +29409,11 @@ public class CuratorService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, startPersistentEphemeralNode_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, startTreeCache_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.success = new PersistentEphemeralNodeProjection();
+          struct.success = new TreeCacheProjection();
           struct.success.read(iprot);
           struct.setSuccessIsSet(true);
         }
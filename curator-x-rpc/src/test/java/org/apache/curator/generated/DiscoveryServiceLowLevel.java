@@ -3095,14 +3095,14 @@ public class DiscoveryServiceLowLevel {
             case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
                 {
-                  org.apache.thrift.protocol.TList _list56 = iprot.readListBegin();
-                  struct.success = new ArrayList<DiscoveryInstance>(_list56.size);
-                  for (int _i57 = 0; _i57 < _list56.size; ++_i57)
+                  org.apache.thrift.protocol.TList _list128 = iprot.readListBegin();
+                  struct.success = new ArrayList<DiscoveryInstance>(_list128.size);
+                  for (int _i129 = 0; _i129 < _list128.size; ++_i129)
                   {
-                    DiscoveryInstance _elem58;
-                    _elem58 = new DiscoveryInstance();
-                    _elem58.read(iprot);
-                    struct.success.add(_elem58);
+                    DiscoveryInstance _elem130;
+                    _elem130 = new DiscoveryInstance();
+                    _elem130.read(iprot);
+                    struct.success.add(_elem130);
                   }
                   iprot.readListEnd();
                 }
@@ -3139,9 +3139,9 @@ public class DiscoveryServiceLowLevel {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
           {
             oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
-            for (DiscoveryInstance _iter59 : struct.success)
+            for (DiscoveryInstance _iter131 : struct.success)
             {
-              _iter59.write(oprot);
+              _iter131.write(oprot);
             }
             oprot.writeListEnd();
           }
@@ -3180,9 +3180,9 @@ public class DiscoveryServiceLowLevel {
         if (struct.isSetSuccess()) {
           {
             oprot.writeI32(struct.success.size());
-            for (DiscoveryInstance _iter60 : struct.success)
+            for (DiscoveryInstance _iter132 : struct.success)
             {
-              _iter60.write(oprot);
+              _iter132.write(oprot);
             }
           }
         }
@@ -3197,14 +3197,14 @@ public class DiscoveryServiceLowLevel {
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
           {
-            org.apache.thrift.protocol.TList _list61 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
-            struct.success = new ArrayList<DiscoveryInstance>(_list61.size);
-            for (int _i62 = 0; _i62 < _list61.size; ++_i62)
+            org.apache.thrift.protocol.TList _list133 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.success = new ArrayList<DiscoveryInstance>(_list133.size);
+            for (int _i134 = 0; _i134 < _list133.size; ++_i134)
             {
-              DiscoveryInstance _elem63;
-              _elem63 = new DiscoveryInstance();
-              _elem63.read(iprot);
-              struct.success.add(_elem63);
+              DiscoveryInstance _elem135;
+              _elem135 = new DiscoveryInstance();
+              _elem135.read(iprot);
+              struct.success.add(_elem135);
             }
           }
           struct.setSuccessIsSet(true);
@@ -4066,13 +4066,13 @@ public class DiscoveryServiceLowLevel {
             case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
                 {
-                  org.apache.thrift.protocol.TList _list64 = iprot.readListBegin();
-                  struct.success = new ArrayList<String>(_list64.size);
-                  for (int _i65 = 0; _i65 < _list64.size; ++_i65)
+                  org.apache.thrift.protocol.TList _list136 = iprot.readListBegin();
+                  struct.success = new ArrayList<String>(_list136.size);
+                  for (int _i137 = 0; _i137 < _list136.size; ++_i137)
                   {
-                    String _elem66;
-                    _elem66 = iprot.readString();
-                    struct.success.add(_elem66);
+                    String _elem138;
+                    _elem138 = iprot.readString();
+                    struct.success.add(_elem138);
                   }
                   iprot.readListEnd();
                 }
@@ -4109,9 +4109,9 @@ public class DiscoveryServiceLowLevel {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
           {
             oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.success.size()));
-            for (String _iter67 : struct.success)
+            for (String _iter139 : struct.success)
             {
-              oprot.writeString(_iter67);
+              oprot.writeString(_iter139);
             }
             oprot.writeListEnd();
           }
@@ -4150,9 +4150,9 @@ public class DiscoveryServiceLowLevel {
         if (struct.isSetSuccess()) {
           {
             oprot.writeI32(struct.success.size());
-            for (String _iter68 : struct.success)
+            for (String _iter140 : struct.success)
             {
-              oprot.writeString(_iter68);
+              oprot.writeString(_iter140);
             }
           }
         }
@@ -4167,13 +4167,13 @@ public class DiscoveryServiceLowLevel {
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
           {
-            org.apache.thrift.protocol.TList _list69 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
-            struct.success = new ArrayList<String>(_list69.size);
-            for (int _i70 = 0; _i70 < _list69.size; ++_i70)
+            org.apache.thrift.protocol.TList _list141 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+            struct.success = new ArrayList<String>(_list141.size);
+            for (int _i142 = 0; _i142 < _list141.size; ++_i142)
             {
-              String _elem71;
-              _elem71 = iprot.readString();
-              struct.success.add(_elem71);
+              String _elem143;
+              _elem143 = iprot.readString();
+              struct.success.add(_elem143);
             }
           }
           struct.setSuccessIsSet(true);
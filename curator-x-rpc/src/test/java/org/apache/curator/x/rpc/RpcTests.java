@@ -40,6 +40,8 @@ import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorCompletionService;
@@ -71,8 +73,14 @@ public class RpcTests extends BaseClassForTests
         thriftPort = InstanceSpec.getRandomPort();
         thriftNode.put("port", thriftPort);
 
+        ObjectNode sharedConnectionNode = mapper.createObjectNode();
+        sharedConnectionNode.put("name", "shared");
+        sharedConnectionNode.put("connectionString", server.getConnectString());
+        sharedConnectionNode.put("sharedSessions", 2);
+
         ArrayNode connections = mapper.createArrayNode();
         connections.add(connectionNode);
+        connections.add(sharedConnectionNode);
 
         ObjectNode node = mapper.createObjectNode();
         node.put("connections", connections);
@@ -169,6 +177,175 @@ public class RpcTests extends BaseClassForTests
         eventFuture.cancel(true);
     }
 
+    @Test
+    public void testBatchedEvents() throws Exception
+    {
+        CuratorProjection curatorProjection = curatorServiceClient.newCuratorProjection("test");
+
+        final int qty = 3;
+        for ( int i = 0; i < qty; ++i )
+        {
+            ExistsSpec spec = new ExistsSpec();
+            spec.path = "/test" + i;
+            spec.watched = true;
+            curatorServiceClient.exists(curatorProjection, spec);
+        }
+        for ( int i = 0; i < qty; ++i )
+        {
+            CreateSpec createSpec = new CreateSpec();
+            createSpec.path = "/test" + i;
+            curatorServiceClient.createNode(curatorProjection, createSpec);
+        }
+
+        boolean connected = false;
+        int nodeCreatedQty = 0;
+        long startMs = System.currentTimeMillis();
+        while ( (!connected || (nodeCreatedQty < qty)) && ((System.currentTimeMillis() - startMs) < timing.forWaiting().milliseconds()) )
+        {
+            List<CuratorEvent> events = eventServiceClient.getNextEvents(curatorProjection, 2, timing.milliseconds());
+            Assert.assertTrue(events.size() > 0);
+            Assert.assertTrue(events.size() <= 2);
+            for ( CuratorEvent event : events )
+            {
+                if ( event.type == CuratorEventType.CONNECTION_CONNECTED )
+                {
+                    connected = true;
+                }
+                else if ( (event.type == CuratorEventType.WATCHED) && (event.watchedEvent.eventType == EventType.NodeCreated) )
+                {
+                    ++nodeCreatedQty;
+                }
+            }
+        }
+        Assert.assertTrue(connected);
+        Assert.assertEquals(nodeCreatedQty, qty);
+    }
+
+    @Test
+    public void testBatch() throws Exception
+    {
+        CuratorProjection curatorProjection = curatorServiceClient.newCuratorProjection("test");
+
+        CreateSpec createParent = new CreateSpec();
+        createParent.path = "/parent";
+        createParent.data = ByteBuffer.wrap("one".getBytes());
+        CreateSpec createChild = new CreateSpec();
+        createChild.path = "/parent/child";
+        List<OperationSpec> atomicOperations = Arrays.asList
+        (
+            new OperationSpec().setType(OperationType.CREATE).setCreateSpec(createParent),
+            new OperationSpec().setType(OperationType.CREATE).setCreateSpec(createChild)
+        );
+        List<OperationResult> atomicResults = curatorServiceClient.batch(curatorProjection, atomicOperations, true);
+        Assert.assertEquals(atomicResults.size(), 2);
+        Assert.assertEquals(atomicResults.get(0).path, "/parent");
+        Assert.assertEquals(atomicResults.get(1).path, "/parent/child");
+
+        GetDataSpec getDataSpec = new GetDataSpec();
+        getDataSpec.path = "/parent";
+        GetChildrenSpec getChildrenSpec = new GetChildrenSpec();
+        getChildrenSpec.path = "/parent";
+        ExistsSpec existsSpec = new ExistsSpec();
+        existsSpec.path = "/missing";
+        DeleteSpec deleteSpec = new DeleteSpec();
+        deleteSpec.path = "/parent";
+        List<OperationSpec> operations = Arrays.asList
+        (
+            new OperationSpec().setType(OperationType.GET_DATA).setGetDataSpec(getDataSpec),
+            new OperationSpec().setType(OperationType.GET_CHILDREN).setGetChildrenSpec(getChildrenSpec),
+            new OperationSpec().setType(OperationType.EXISTS).setExistsSpec(existsSpec),
+            new OperationSpec().setType(OperationType.DELETE).setDeleteSpec(deleteSpec)
+        );
+        List<OperationResult> results = curatorServiceClient.batch(curatorProjection, operations, false);
+        Assert.assertEquals(results.size(), 4);
+
+        Assert.assertEquals(results.get(0).type, OperationType.GET_DATA);
+        Assert.assertEquals(results.get(0).data, ByteBuffer.wrap("one".getBytes()));
+        Assert.assertNull(results.get(0).error);
+
+        Assert.assertEquals(results.get(1).type, OperationType.GET_CHILDREN);
+        Assert.assertEquals(results.get(1).children, Arrays.asList("child"));
+
+        Assert.assertEquals(results.get(2).type, OperationType.EXISTS);
+        Assert.assertNull(results.get(2).stat);
+        Assert.assertNull(results.get(2).error);
+
+        Assert.assertEquals(results.get(3).type, OperationType.DELETE);
+        Assert.assertNotNull(results.get(3).error);
+        Assert.assertEquals(results.get(3).error.type, ExceptionType.NODE);
+        Assert.assertEquals(results.get(3).error.nodeException, NodeExceptionType.NOTEMPTY);
+    }
+
+    @Test
+    public void testTreeCache() throws Exception
+    {
+        CuratorProjection curatorProjection = curatorServiceClient.newCuratorProjection("test");
+        TreeCacheProjection cacheProjection = curatorServiceClient.startTreeCache(curatorProjection, "/tree", true, false, 0);
+
+        CreateSpec createSpec = new CreateSpec();
+        createSpec.path = "/tree/a";
+        createSpec.data = ByteBuffer.wrap("a".getBytes());
+        createSpec.creatingParentsIfNeeded = true;
+        curatorServiceClient.createNode(curatorProjection, createSpec);
+
+        boolean added = false;
+        long startMs = System.currentTimeMillis();
+        while ( !added && ((System.currentTimeMillis() - startMs) < timing.forWaiting().milliseconds()) )
+        {
+            for ( CuratorEvent event : eventServiceClient.getNextEvents(curatorProjection, 10, timing.milliseconds()) )
+            {
+                if ( (event.type == CuratorEventType.TREE_CACHE) && (event.treeCacheEvent.type == TreeCacheEventType.NODE_ADDED) && event.treeCacheEvent.data.path.equals("/tree/a") )
+                {
+                    Assert.assertEquals(event.treeCacheEvent.cachedPath, "/tree");
+                    added = true;
+                }
+            }
+        }
+        Assert.assertTrue(added);
+
+        ChildData data = curatorServiceClient.getTreeCacheData(curatorProjection, cacheProjection, "/tree/a");
+        Assert.assertEquals(data.data, ByteBuffer.wrap("a".getBytes()));
+        Assert.assertEquals(curatorServiceClient.getTreeCacheChildren(curatorProjection, cacheProjection, "/tree").size(), 1);
+    }
+
+    @Test
+    public void testPathChildrenCacheChanges() throws Exception
+    {
+        CuratorProjection curatorProjection = curatorServiceClient.newCuratorProjection("test");
+        CreateSpec parentSpec = new CreateSpec();
+        parentSpec.path = "/parent";
+        curatorServiceClient.createNode(curatorProjection, parentSpec);
+        PathChildrenCacheProjection cacheProjection = curatorServiceClient.startPathChildrenCache(curatorProjection, "/parent", true, false, PathChildrenCacheStartMode.BUILD_INITIAL_CACHE);
+
+        PathChildrenCacheChanges snapshot = curatorServiceClient.getPathChildrenCacheChanges(curatorProjection, cacheProjection, 0);
+        Assert.assertTrue(snapshot.isSnapshot);
+        Assert.assertEquals(snapshot.added.size(), 0);
+
+        CreateSpec childSpec = new CreateSpec();
+        childSpec.path = "/parent/child";
+        childSpec.data = ByteBuffer.wrap("data".getBytes());
+        curatorServiceClient.createNode(curatorProjection, childSpec);
+
+        PathChildrenCacheChanges changes = snapshot;
+        long startMs = System.currentTimeMillis();
+        while ( (changes.generation == snapshot.generation) && ((System.currentTimeMillis() - startMs) < timing.forWaiting().milliseconds()) )
+        {
+            timing.sleepABit();
+            changes = curatorServiceClient.getPathChildrenCacheChanges(curatorProjection, cacheProjection, snapshot.generation);
+        }
+        Assert.assertFalse(changes.isSnapshot);
+        Assert.assertEquals(changes.added.size(), 1);
+        Assert.assertEquals(changes.added.get(0).path, "/parent/child");
+        Assert.assertEquals(changes.added.get(0).data, ByteBuffer.wrap("data".getBytes()));
+        Assert.assertEquals(changes.updated.size(), 0);
+        Assert.assertEquals(changes.removed.size(), 0);
+
+        PathChildrenCacheChanges noChanges = curatorServiceClient.getPathChildrenCacheChanges(curatorProjection, cacheProjection, changes.generation);
+        Assert.assertFalse(noChanges.isSnapshot);
+        Assert.assertEquals(noChanges.generation, changes.generation);
+        Assert.assertEquals(noChanges.added.size() + noChanges.updated.size() + noChanges.removed.size(), 0);
+    }
+
     @Test
     public void testLockMultiThread() throws Exception
     {
@@ -286,4 +463,115 @@ public class RpcTests extends BaseClassForTests
             CloseableUtils.closeQuietly(client);
         }
     }
+
+    @Test
+    public void testSharedSessions() throws Exception
+    {
+        CuratorProjection[] projections = new CuratorProjection[3];
+        long[] owners = new long[projections.length];
+        for ( int i = 0; i < projections.length; ++i )
+        {
+            projections[i] = curatorServiceClient.newCuratorProjection("shared");
+
+            CreateSpec spec = new CreateSpec();
+            spec.path = "/test" + i;
+            spec.mode = CreateMode.EPHEMERAL;
+            curatorServiceClient.createNode(projections[i], spec);
+
+            ExistsSpec existsSpec = new ExistsSpec();
+            existsSpec.path = "/test" + i;
+            owners[i] = curatorServiceClient.exists(projections[i], existsSpec).stat.ephemeralOwner;
+        }
+
+        // 2 pooled sessions: the third projection shares the first projection's session
+        Assert.assertEquals(owners[0], owners[2]);
+        Assert.assertNotEquals(owners[0], owners[1]);
+
+        final CountDownLatch latch = new CountDownLatch(1);
+        CuratorFramework client = CuratorFrameworkFactory.newClient(server.getConnectString(), new RetryOneTime(1));
+        try
+        {
+            client.start();
+            Watcher watcher = new Watcher()
+            {
+                @Override
+                public void process(WatchedEvent event)
+                {
+                    if ( event.getType() == Event.EventType.NodeDeleted )
+                    {
+                        latch.countDown();
+                    }
+                }
+            };
+            client.checkExists().usingWatcher(watcher).forPath("/test0");
+
+            // the session is still used by the third projection but the first projection's ephemeral node goes away
+            curatorServiceClient.closeCuratorProjection(projections[0]);
+
+            Assert.assertTrue(timing.awaitLatch(latch));
+        }
+        finally
+        {
+            CloseableUtils.closeQuietly(client);
+        }
+
+        ExistsSpec existsSpec = new ExistsSpec();
+        existsSpec.path = "/test2";
+        Assert.assertNotNull(curatorServiceClient.exists(projections[2], existsSpec).stat);
+    }
+
+    @Test
+    public void testSharedSessionReplacedEphemeral() throws Exception
+    {
+        // with 2 pooled sessions the first and third projections share a session
+        CuratorProjection first = curatorServiceClient.newCuratorProjection("shared");
+        curatorServiceClient.newCuratorProjection("shared");
+        CuratorProjection third = curatorServiceClient.newCuratorProjection("shared");
+
+        CreateSpec spec = new CreateSpec();
+        spec.path = "/test";
+        spec.mode = CreateMode.EPHEMERAL;
+        curatorServiceClient.createNode(first, spec);
+
+        CreateSpec sentinelSpec = new CreateSpec();
+        sentinelSpec.path = "/sentinel";
+        sentinelSpec.mode = CreateMode.EPHEMERAL;
+        curatorServiceClient.createNode(first, sentinelSpec);
+
+        // the third projection replaces the first projection's node with its own
+        DeleteSpec deleteSpec = new DeleteSpec();
+        deleteSpec.path = "/test";
+        curatorServiceClient.deleteNode(third, deleteSpec);
+        curatorServiceClient.createNode(third, spec);
+
+        final CountDownLatch latch = new CountDownLatch(1);
+        CuratorFramework client = CuratorFrameworkFactory.newClient(server.getConnectString(), new RetryOneTime(1));
+        try
+        {
+            client.start();
+            Watcher watcher = new Watcher()
+            {
+                @Override
+                public void process(WatchedEvent event)
+                {
+                    if ( event.getType() == Event.EventType.NodeDeleted )
+                    {
+                        latch.countDown();
+                    }
+                }
+            };
+            client.checkExists().usingWatcher(watcher).forPath("/sentinel");
+
+            curatorServiceClient.closeCuratorProjection(first);
+            Assert.assertTrue(timing.awaitLatch(latch));
+            timing.sleepABit();
+
+            // only the first projection's own nodes are deleted
+            Assert.assertNotNull(client.checkExists().forPath("/test"));
+        }
+        finally
+        {
+            CloseableUtils.closeQuietly(client);
+        }
+    }
 }
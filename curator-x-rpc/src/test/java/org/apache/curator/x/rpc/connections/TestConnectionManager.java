@@ -0,0 +1,70 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.curator.x.rpc.connections;
+
+import org.apache.curator.test.BaseClassForTests;
+import org.apache.curator.test.Timing;
+import org.apache.curator.x.rpc.configuration.ConnectionConfiguration;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import java.util.Arrays;
+
+public class TestConnectionManager extends BaseClassForTests
+{
+    private final Timing timing = new Timing();
+
+    @Test
+    public void testExpiration() throws Exception
+    {
+        ConnectionConfiguration configuration = new ConnectionConfiguration();
+        configuration.setName("test");
+        configuration.setConnectionString(server.getConnectString());
+
+        int expirationMs = 1000;
+        ConnectionManager connectionManager = new ConnectionManager(Arrays.asList(configuration), expirationMs);
+        try
+        {
+            connectionManager.start();
+            CuratorEntry pinged = connectionManager.addProjection("pinged", "test");
+            CuratorEntry idle = connectionManager.addProjection("idle", "test");
+
+            long startMs = System.currentTimeMillis();
+            while ( (System.currentTimeMillis() - startMs) < (expirationMs * 3) )
+            {
+                Assert.assertSame(connectionManager.get("pinged"), pinged);
+                Thread.sleep(expirationMs / 10);
+            }
+            Assert.assertNull(connectionManager.get("idle"));
+
+            // expired entries are closed in the background
+            startMs = System.currentTimeMillis();
+            while ( (idle.getClient() != null) && ((System.currentTimeMillis() - startMs) < timing.forWaiting().milliseconds()) )
+            {
+                timing.sleepABit();
+            }
+            Assert.assertNull(idle.getClient());
+            Assert.assertNotNull(pinged.getClient());
+        }
+        finally
+        {
+            connectionManager.close();
+        }
+        Assert.assertNull(connectionManager.get("pinged"));
+    }
+}
@@ -0,0 +1,354 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.curator.x.rpc.idl.services;
+
+import com.google.common.collect.Lists;
+import org.apache.curator.framework.CuratorFramework;
+import org.apache.curator.framework.CuratorFrameworkFactory;
+import org.apache.curator.framework.recipes.locks.InterProcessSemaphoreMutex;
+import org.apache.curator.retry.RetryOneTime;
+import org.apache.curator.test.BaseClassForTests;
+import org.apache.curator.test.Timing;
+import org.apache.curator.utils.CloseableUtils;
+import org.apache.curator.x.rpc.configuration.ConnectionConfiguration;
+import org.apache.curator.x.rpc.connections.ConnectionManager;
+import org.apache.curator.x.rpc.connections.CuratorEntry;
+import org.apache.curator.x.rpc.details.OperationExecutors;
+import org.apache.curator.x.rpc.idl.discovery.DiscoveryInstance;
+import org.apache.curator.x.rpc.idl.discovery.DiscoveryProjection;
+import org.apache.curator.x.rpc.idl.discovery.DiscoveryService;
+import org.apache.curator.x.rpc.idl.discovery.DiscoveryServiceCacheProjection;
+import org.apache.curator.x.rpc.idl.discovery.DiscoveryServiceLowLevel;
+import org.apache.curator.x.rpc.idl.exceptions.NodeExceptionType;
+import org.apache.curator.x.rpc.idl.exceptions.RpcException;
+import org.apache.curator.x.rpc.idl.structs.*;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+public class TestCuratorProjectionService extends BaseClassForTests
+{
+    private final Timing timing = new Timing();
+    private ConnectionManager connectionManager;
+    private CuratorProjectionService projectionService;
+
+    @BeforeMethod
+    @Override
+    public void setup() throws Exception
+    {
+        super.setup();
+
+        ConnectionConfiguration configuration = new ConnectionConfiguration();
+        configuration.setName("test");
+        configuration.setConnectionString(server.getConnectString());
+        connectionManager = new ConnectionManager(Arrays.asList(configuration), timing.forWaiting().milliseconds());
+        connectionManager.start();
+        projectionService = new CuratorProjectionService(connectionManager);
+    }
+
+    @AfterMethod
+    @Override
+    public void teardown() throws Exception
+    {
+        connectionManager.close();
+
+        super.teardown();
+    }
+
+    @Test
+    public void testBatch() throws Exception
+    {
+        CuratorProjection projection = projectionService.newCuratorProjection("test");
+
+        List<OperationSpec> operations = Lists.newArrayList();
+        operations.add(createOperation("/a/b", "one", true));
+        operations.add(createOperation("/a/c", "two", true));
+        operations.add(new OperationSpec(RpcOperationType.CREATE, new CreateSpec("/x/y", null, null, null, false, false, false, false), null, null, null, null, null));
+        List<OperationResult> results = projectionService.batch(projection, operations, false);
+        Assert.assertEquals(results.size(), operations.size());
+        Assert.assertNull(results.get(0).error);
+        Assert.assertEquals(results.get(0).path, "/a/b");
+        Assert.assertNull(results.get(1).error);
+        Assert.assertEquals(results.get(1).path, "/a/c");
+        Assert.assertNotNull(results.get(2).error);
+        Assert.assertEquals(results.get(2).error.nodeException, NodeExceptionType.NONODE);
+
+        operations = Lists.newArrayList();
+        operations.add(new OperationSpec(RpcOperationType.GET_DATA, null, null, null, null, new GetDataSpec("/a/c", false, null, false), null));
+        operations.add(new OperationSpec(RpcOperationType.EXISTS, null, null, null, new ExistsSpec("/nope", false, null), null, null));
+        operations.add(new OperationSpec(RpcOperationType.GET_CHILDREN, null, null, null, null, null, new GetChildrenSpec("/a", false, null)));
+        results = projectionService.batch(projection, operations, false);
+        Assert.assertEquals(new String(results.get(0).data), "two");
+        Assert.assertNull(results.get(1).error);
+        Assert.assertNull(results.get(1).stat);
+        Assert.assertEquals(results.get(2).children.size(), 2);
+    }
+
+    @Test
+    public void testAtomicBatch() throws Exception
+    {
+        CuratorProjection projection = projectionService.newCuratorProjection("test");
+
+        List<OperationSpec> operations = Lists.newArrayList();
+        operations.add(createOperation("/a", "one", false));
+        operations.add(new OperationSpec(RpcOperationType.SET_DATA, null, null, new SetDataSpec("/a", false, null, false, new Version(0), "two".getBytes()), null, null, null));
+        List<OperationResult> results = projectionService.batch(projection, operations, true);
+        Assert.assertEquals(results.size(), 2);
+        Assert.assertEquals(results.get(0).path, "/a");
+        Assert.assertEquals(results.get(1).stat.version, 1);
+
+        operations = Lists.newArrayList();
+        operations.add(createOperation("/b", "one", false));
+        operations.add(new OperationSpec(RpcOperationType.DELETE, null, new DeleteSpec("/a", false, null, new Version(0)), null, null, null, null));
+        try
+        {
+            projectionService.batch(projection, operations, true);
+            Assert.fail();
+        }
+        catch ( RpcException e )
+        {
+            Assert.assertEquals(e.nodeException, NodeExceptionType.BADVERSION);
+        }
+
+        CuratorFramework client = CuratorFrameworkFactory.newClient(server.getConnectString(), timing.session(), timing.connection(), new RetryOneTime(1));
+        try
+        {
+            client.start();
+            Assert.assertNull(client.checkExists().forPath("/b"));
+            Assert.assertEquals(new String(client.getData().forPath("/a")), "two");
+        }
+        finally
+        {
+            CloseableUtils.closeQuietly(client);
+        }
+    }
+
+    @Test
+    public void testBuilderPipelines() throws Exception
+    {
+        CuratorProjection projection = projectionService.newCuratorProjection("test");
+
+        CreateSpec createSpec = new CreateSpec("/a/b/c", "data".getBytes(), RpcCreateMode.PERSISTENT, null, true, true, false, false);
+        Assert.assertSame(OperationExecutors.create(createSpec, false), OperationExecutors.create(createSpec, false));
+        Assert.assertNotSame(OperationExecutors.create(createSpec, false), OperationExecutors.create(createSpec, true));
+        Assert.assertEquals(projectionService.createNode(projection, createSpec).path, "/a/b/c");
+
+        OptionalData data = projectionService.getData(projection, new GetDataSpec("/a/b/c", false, null, true));
+        Assert.assertEquals(new String(data.data), "data");
+        data = projectionService.getData(projection, new GetDataSpec("/a/b/c", false, null, false));
+        Assert.assertNotEquals(new String(data.data), "data");
+
+        OptionalRpcStat stat = projectionService.setData(projection, new SetDataSpec("/a/b/c", false, null, false, new Version(0), "new".getBytes()));
+        Assert.assertEquals(stat.stat.version, 1);
+        Assert.assertEquals(projectionService.getChildren(projection, new GetChildrenSpec("/a/b", false, null)).children, Arrays.asList("c"));
+
+        projectionService.deleteNode(projection, new DeleteSpec("/a/b/c", false, null, new Version(1)));
+        Assert.assertNull(projectionService.exists(projection, new ExistsSpec("/a/b/c", false, null)).stat);
+    }
+
+    @Test
+    public void testCachedReads() throws Exception
+    {
+        CuratorProjection projection = projectionService.newCuratorProjection("test");
+        EventService eventService = new EventService(connectionManager, timing.milliseconds());
+
+        projectionService.createNode(projection, new CreateSpec("/tree/a/b", "b".getBytes(), null, null, false, true, false, false));
+        TreeCacheProjection treeCache = projectionService.startTreeCache(projection, "/tree", true, false, 0);
+        Assert.assertNotNull(waitForEvent(eventService, projection, RpcCuratorEventType.TREE_CACHE, RpcTreeCacheEventType.INITIALIZED));
+        Assert.assertEquals(new String(projectionService.getTreeCacheData(projection, treeCache, "/tree/a/b").data), "b");
+        Assert.assertNull(projectionService.getTreeCacheData(projection, treeCache, "/tree/nope").path);
+        List<RpcChildData> children = projectionService.getTreeCacheChildren(projection, treeCache, "/tree/a");
+        Assert.assertEquals(children.size(), 1);
+        Assert.assertEquals(children.get(0).path, "/tree/a/b");
+
+        DiscoveryService discoveryService = new DiscoveryService(connectionManager);
+        DiscoveryInstance instance = discoveryService.makeDiscoveryInstance("service", null, 1000);
+        DiscoveryProjection discovery = discoveryService.startDiscovery(projection, "/discovery", instance);
+        DiscoveryServiceCacheProjection serviceCache = discoveryService.startServiceCache(projection, discovery, "service");
+        Assert.assertEquals(discoveryService.getServiceCacheInstances(projection, serviceCache).size(), 1);
+
+        DiscoveryInstance second = discoveryService.makeDiscoveryInstance("service", null, 1001);
+        new DiscoveryServiceLowLevel(connectionManager).registerInstance(projection, discovery, second);
+        RpcCuratorEvent event = waitForEvent(eventService, projection, RpcCuratorEventType.SERVICE_CACHE, null);
+        Assert.assertNotNull(event);
+        Assert.assertEquals(event.name, "service");
+        Assert.assertEquals(discoveryService.getServiceCacheInstances(projection, serviceCache).size(), 2);
+    }
+
+    @Test
+    public void testPathChildrenCacheChanges() throws Exception
+    {
+        CuratorProjection projection = projectionService.newCuratorProjection("test");
+
+        projectionService.createNode(projection, new CreateSpec("/cache/a", "a".getBytes(), null, null, false, true, false, false));
+        PathChildrenCacheProjection cache = projectionService.startPathChildrenCache(projection, "/cache", true, false, PathChildrenCacheStartMode.BUILD_INITIAL_CACHE);
+
+        PathChildrenCacheChanges snapshot = projectionService.getPathChildrenCacheChanges(projection, cache, 0);
+        Assert.assertTrue(snapshot.isSnapshot);
+        Assert.assertEquals(snapshot.added.size(), 1);
+
+        projectionService.createNode(projection, new CreateSpec("/cache/b", "b".getBytes(), null, null, false, false, false, false));
+        projectionService.setData(projection, new SetDataSpec("/cache/a", false, null, false, null, "new".getBytes()));
+        PathChildrenCacheChanges changes = waitForGeneration(projection, cache, snapshot.generation, snapshot.generation + 2);
+        Assert.assertFalse(changes.isSnapshot);
+        Assert.assertEquals(changes.added.size(), 1);
+        Assert.assertEquals(changes.added.get(0).path, "/cache/b");
+        Assert.assertEquals(changes.updated.size(), 1);
+        Assert.assertEquals(new String(changes.updated.get(0).data), "new");
+        Assert.assertTrue(changes.removed.isEmpty());
+
+        projectionService.deleteNode(projection, new DeleteSpec("/cache/b", false, null, null));
+        Assert.assertEquals(waitForGeneration(projection, cache, changes.generation, changes.generation + 1).removed, Arrays.asList("/cache/b"));
+
+        // /cache/b came and went since the snapshot so it's not reported at all
+        changes = projectionService.getPathChildrenCacheChanges(projection, cache, snapshot.generation);
+        Assert.assertTrue(changes.added.isEmpty());
+        Assert.assertTrue(changes.removed.isEmpty());
+        Assert.assertEquals(changes.updated.size(), 1);
+
+        Assert.assertTrue(projectionService.getPathChildrenCacheChanges(projection, cache, changes.generation + 100).isSnapshot);
+    }
+
+    @Test
+    public void testLongWaitsDontBlock() throws Exception
+    {
+        CuratorProjection projection1 = projectionService.newCuratorProjection("test");
+        CuratorProjection projection2 = projectionService.newCuratorProjection("test");
+
+        OptionalLockProjection lock = projectionService.acquireLock(projection1, "/lock", timing.milliseconds()).get();
+        Assert.assertNotNull(lock.lockProjection);
+        Future<OptionalLockProjection> waitingLock = projectionService.acquireLock(projection2, "/lock", timing.forWaiting().milliseconds());
+        Assert.assertFalse(waitingLock.isDone());
+        projectionService.closeGenericProjection(projection1, lock.lockProjection.id);
+        Assert.assertNotNull(waitingLock.get(timing.forWaiting().milliseconds(), TimeUnit.MILLISECONDS).lockProjection);
+
+        LeaderResult leader = projectionService.startLeaderSelector(projection1, "/leader", "one", timing.forWaiting().milliseconds()).get();
+        Assert.assertTrue(leader.isLeader);
+        Future<LeaderResult> waitingLeader = projectionService.startLeaderSelector(projection2, "/leader", "two", timing.forWaiting().milliseconds());
+        Assert.assertFalse(waitingLeader.isDone());
+        projectionService.closeGenericProjection(projection1, leader.projection.id);
+        Assert.assertTrue(waitingLeader.get(timing.forWaiting().milliseconds(), TimeUnit.MILLISECONDS).isLeader);
+
+        LeaderResult notLeader = projectionService.startLeaderSelector(projection1, "/leader", "three", 1).get(timing.forWaiting().milliseconds(), TimeUnit.MILLISECONDS);
+        Assert.assertFalse(notLeader.isLeader);
+    }
+
+    @Test
+    public void testWaitQueueAndClosedProjection() throws Exception
+    {
+        ConnectionConfiguration configuration = new ConnectionConfiguration();
+        configuration.setName("shared");
+        configuration.setConnectionString(server.getConnectString());
+        configuration.setSharedSessions(1);
+        ConnectionManager limitedManager = new ConnectionManager(Arrays.asList(configuration), timing.forWaiting().milliseconds(), CuratorEntry.DEFAULT_MAX_QUEUED_EVENTS, 1);
+        CuratorFramework client = CuratorFrameworkFactory.newClient(server.getConnectString(), new RetryOneTime(1));
+        try
+        {
+            limitedManager.start();
+            client.start();
+            CuratorProjectionService limitedService = new CuratorProjectionService(limitedManager);
+
+            InterProcessSemaphoreMutex lock = new InterProcessSemaphoreMutex(client, "/lock");
+            lock.acquire();
+            InterProcessSemaphoreMutex heldLock = new InterProcessSemaphoreMutex(client, "/held");
+            heldLock.acquire();
+
+            // keeps the shared session open when the waiting projection is closed
+            CuratorProjection otherProjection = limitedService.newCuratorProjection("shared");
+            CuratorProjection waitingProjection = limitedService.newCuratorProjection("shared");
+            Future<OptionalLockProjection> waitingLock = limitedService.acquireLock(waitingProjection, "/lock", timing.forWaiting().milliseconds());
+            timing.sleepABit();
+            Assert.assertFalse(waitingLock.isDone());
+
+            // the only waiter thread is busy - these are queued
+            Future<OptionalLockProjection> otherLock = limitedService.acquireLock(otherProjection, "/other", timing.forWaiting().milliseconds());
+            Future<OptionalLockProjection> shortLock = limitedService.acquireLock(otherProjection, "/held", timing.milliseconds());
+            Thread.sleep(2 * timing.milliseconds());
+            Assert.assertFalse(otherLock.isDone());
+            Assert.assertFalse(shortLock.isDone());
+
+            // the lock is acquired after the projection is closed - it must be released rather than leaked
+            limitedService.closeCuratorProjection(waitingProjection);
+            lock.release();
+            try
+            {
+                waitingLock.get(timing.forWaiting().milliseconds(), TimeUnit.MILLISECONDS);
+                Assert.fail();
+            }
+            catch ( ExecutionException expected )
+            {
+                // expected
+            }
+            Assert.assertTrue(lock.acquire(timing.forWaiting().milliseconds(), TimeUnit.MILLISECONDS));
+            lock.release();
+
+            Assert.assertNotNull(otherLock.get(timing.forWaiting().milliseconds(), TimeUnit.MILLISECONDS).lockProjection);
+
+            // its max wait was used up while queued so it doesn't wait again once it runs
+            Assert.assertNull(shortLock.get(timing.multiple(.5).milliseconds(), TimeUnit.MILLISECONDS).lockProjection);
+            heldLock.release();
+        }
+        finally
+        {
+            CloseableUtils.closeQuietly(client);
+            limitedManager.close();
+        }
+    }
+
+    private PathChildrenCacheChanges waitForGeneration(CuratorProjection projection, PathChildrenCacheProjection cache, long sinceGeneration, long generation) throws Exception
+    {
+        PathChildrenCacheChanges changes = projectionService.getPathChildrenCacheChanges(projection, cache, sinceGeneration);
+        long startMs = System.currentTimeMillis();
+        while ( (changes.generation < generation) && ((System.currentTimeMillis() - startMs) < timing.forWaiting().milliseconds()) )
+        {
+            timing.sleepABit();
+            changes = projectionService.getPathChildrenCacheChanges(projection, cache, sinceGeneration);
+        }
+        Assert.assertEquals(changes.generation, generation);
+        return changes;
+    }
+
+    private RpcCuratorEvent waitForEvent(EventService eventService, CuratorProjection projection, RpcCuratorEventType type, RpcTreeCacheEventType treeCacheType) throws Exception
+    {
+        long startMs = System.currentTimeMillis();
+        while ( (System.currentTimeMillis() - startMs) < timing.forWaiting().milliseconds() )
+        {
+            for ( RpcCuratorEvent event : eventService.getNextEvents(projection, 100, timing.milliseconds()) )
+            {
+                if ( (event.type == type) && ((treeCacheType == null) || (event.treeCacheEvent.type == treeCacheType)) )
+                {
+                    return event;
+                }
+            }
+        }
+        return null;
+    }
+
+    private OperationSpec createOperation(String path, String data, boolean creatingParentsIfNeeded)
+    {
+        CreateSpec spec = new CreateSpec(path, data.getBytes(), null, null, false, creatingParentsIfNeeded, false, false);
+        return new OperationSpec(RpcOperationType.CREATE, spec, null, null, null, null, null);
+    }
+}
@@ -0,0 +1,84 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.curator.x.rpc.idl.services;
+
+import org.apache.curator.test.BaseClassForTests;
+import org.apache.curator.test.Timing;
+import org.apache.curator.x.rpc.configuration.ConnectionConfiguration;
+import org.apache.curator.x.rpc.connections.ConnectionManager;
+import org.apache.curator.x.rpc.connections.CuratorEntry;
+import org.apache.curator.x.rpc.idl.structs.CuratorProjection;
+import org.apache.curator.x.rpc.idl.structs.RpcCuratorEvent;
+import org.apache.curator.x.rpc.idl.structs.RpcCuratorEventType;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import java.util.Arrays;
+import java.util.List;
+
+public class TestEventService extends BaseClassForTests
+{
+    private final Timing timing = new Timing();
+
+    @Test
+    public void testGetNextEvents() throws Exception
+    {
+        ConnectionConfiguration configuration = new ConnectionConfiguration();
+        configuration.setName("test");
+        configuration.setConnectionString(server.getConnectString());
+
+        ConnectionManager connectionManager = new ConnectionManager(Arrays.asList(configuration), timing.forWaiting().milliseconds(), 10);
+        try
+        {
+            connectionManager.start();
+            EventService eventService = new EventService(connectionManager, timing.milliseconds());
+            CuratorProjection projection = new CuratorProjection(CuratorEntry.newId());
+            CuratorEntry entry = connectionManager.addProjection(projection.id, "test");
+
+            List<RpcCuratorEvent> events = eventService.getNextEvents(projection, 100, 1);
+            Assert.assertEquals(events.size(), 1);
+            Assert.assertEquals(events.get(0).type, RpcCuratorEventType.PING);
+
+            for ( int i = 0; i < 5; ++i )
+            {
+                entry.addEvent(new RpcCuratorEvent(RpcCuratorEventType.NODE_CACHE, "/" + i));
+            }
+            events = eventService.getNextEvents(projection, 3, 1);
+            Assert.assertEquals(events.size(), 3);
+            Assert.assertEquals(events.get(0).path, "/0");
+            Assert.assertEquals(events.get(2).path, "/2");
+            events = eventService.getNextEvents(projection, 100, 1);
+            Assert.assertEquals(events.size(), 2);
+            Assert.assertEquals(events.get(1).path, "/4");
+
+            // overflow the queue - the backlog is replaced with a resync marker
+            for ( int i = 0; i < 11; ++i )
+            {
+                entry.addEvent(new RpcCuratorEvent(RpcCuratorEventType.NODE_CACHE, "/" + i));
+            }
+            events = eventService.getNextEvents(projection, 100, 1);
+            Assert.assertEquals(events.size(), 2);
+            Assert.assertEquals(events.get(0).type, RpcCuratorEventType.EVENTS_OVERFLOWED);
+            Assert.assertEquals(events.get(1).path, "/10");
+        }
+        finally
+        {
+            connectionManager.close();
+        }
+    }
+}